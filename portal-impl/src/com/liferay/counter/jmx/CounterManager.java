@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.counter.jmx;
+
+import com.liferay.counter.service.persistence.CounterFinder;
+import com.liferay.portal.kernel.exception.SystemException;
+
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class CounterManager implements CounterManagerMBean {
+
+	public int getCurrentRangeSize(String name) {
+		return _counterFinder.getCurrentRangeSize(name);
+	}
+
+	public long getLockWaitCount() {
+		return _counterFinder.getLockWaitCount();
+	}
+
+	public List<String> getNames() throws SystemException {
+		return _counterFinder.getNames();
+	}
+
+	public long getPrefetchCount() {
+		return _counterFinder.getPrefetchCount();
+	}
+
+	public long getRangeRefillCount() {
+		return _counterFinder.getRangeRefillCount();
+	}
+
+	public void setCounterFinder(CounterFinder counterFinder) {
+		_counterFinder = counterFinder;
+	}
+
+	private CounterFinder _counterFinder;
+
+}
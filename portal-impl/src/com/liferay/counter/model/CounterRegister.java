@@ -16,6 +16,9 @@ package com.liferay.counter.model;
 
 import com.liferay.portal.kernel.concurrent.CompeteLatch;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * @author Harry Mark
  * @author Shuyang Zhou
@@ -28,8 +31,11 @@ public class CounterRegister {
 
 		_name = name;
 		_rangeSize = rangeSize;
-		_counterHolder = counterHolder;
+		_counterHolder = new AtomicReference<CounterHolder>(counterHolder);
 		_competeLatch = new CompeteLatch();
+
+		_baseRangeSize = rangeSize;
+		_rangeTime = System.currentTimeMillis();
 	}
 
 	public CounterRegister(
@@ -38,12 +44,23 @@ public class CounterRegister {
 		this(name, new CounterHolder(rangeMin, rangeMax), rangeSize);
 	}
 
+	public boolean compareAndSetCounterHolder(
+		CounterHolder expectedCounterHolder, CounterHolder counterHolder) {
+
+		return _counterHolder.compareAndSet(
+			expectedCounterHolder, counterHolder);
+	}
+
+	public int getBaseRangeSize() {
+		return _baseRangeSize;
+	}
+
 	public CompeteLatch getCompeteLatch() {
 		return _competeLatch;
 	}
 
 	public CounterHolder getCounterHolder() {
-		return _counterHolder;
+		return _counterHolder.get();
 	}
 
 	public String getName() {
@@ -54,17 +71,66 @@ public class CounterRegister {
 		return _rangeSize;
 	}
 
+	public long getRangeTime() {
+		return _rangeTime;
+	}
+
+	/**
+	 * Returns the range obtained in advance by {@link
+	 * #setNextCounterHolder(CounterHolder)} and allows the next range to be
+	 * obtained.
+	 */
+	public CounterHolder pollNextCounterHolder() {
+		CounterHolder nextCounterHolder = _nextCounterHolder.getAndSet(null);
+
+		if (nextCounterHolder != null) {
+			_prefetching.set(false);
+		}
+
+		return nextCounterHolder;
+	}
+
 	public void setCounterHolder(CounterHolder holder) {
-		_counterHolder = holder;
+		_counterHolder.set(holder);
 	}
 
 	public void setName(String name) {
 		_name = name;
 	}
 
+	public void setNextCounterHolder(CounterHolder nextCounterHolder) {
+		if (nextCounterHolder == null) {
+			_prefetching.set(false);
+		}
+		else {
+			_nextCounterHolder.set(nextCounterHolder);
+		}
+	}
+
+	public void setRangeSize(int rangeSize) {
+		_rangeSize = rangeSize;
+	}
+
+	public void setRangeTime(long rangeTime) {
+		_rangeTime = rangeTime;
+	}
+
+	/**
+	 * Returns <code>true</code> if the calling thread should obtain the next
+	 * range in advance. Only one next range is obtained at a time.
+	 */
+	public boolean startPrefetch() {
+		return _prefetching.compareAndSet(false, true);
+	}
+
+	private final int _baseRangeSize;
 	private final CompeteLatch _competeLatch;
-	private volatile CounterHolder _counterHolder;
+	private final AtomicReference<CounterHolder> _counterHolder;
 	private String _name;
-	private final int _rangeSize;
+	private final AtomicReference<CounterHolder> _nextCounterHolder =
+		new AtomicReference<CounterHolder>();
+	private final AtomicBoolean _prefetching = new AtomicBoolean();
+	private volatile int _rangeSize;
+	private volatile long _rangeTime;
 
 }
\ No newline at end of file
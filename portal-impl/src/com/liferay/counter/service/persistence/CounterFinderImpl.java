@@ -26,6 +26,9 @@ import com.liferay.portal.kernel.dao.orm.LockMode;
 import com.liferay.portal.kernel.dao.orm.ObjectNotFoundException;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.PropsKeys;
@@ -42,7 +45,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Brian Wing Shun Chan
@@ -59,6 +64,20 @@ public class CounterFinderImpl
 		CacheRegistryUtil.register(this);
 	}
 
+	public int getCurrentRangeSize(String name) {
+		CounterRegister counterRegister = _counterRegisterMap.get(name);
+
+		if (counterRegister == null) {
+			return 0;
+		}
+
+		return counterRegister.getRangeSize();
+	}
+
+	public long getLockWaitCount() {
+		return _lockWaitCount.get();
+	}
+
 	public List<String> getNames() throws SystemException {
 		Connection connection = null;
 		PreparedStatement preparedStatement = null;
@@ -87,6 +106,14 @@ public class CounterFinderImpl
 		}
 	}
 
+	public long getPrefetchCount() {
+		return _prefetchCount.get();
+	}
+
+	public long getRangeRefillCount() {
+		return _rangeRefillCount.get();
+	}
+
 	public String getRegistryName() {
 		return CounterFinderImpl.class.getName();
 	}
@@ -314,11 +341,33 @@ public class CounterFinderImpl
 		long newValue = counterHolder.addAndGet(size);
 
 		if (newValue <= counterHolder.getRangeMax()) {
+			if (_isPrefetchEnabled(counterRegister) &&
+				((counterHolder.getRangeMax() - newValue) <=
+					_getPrefetchRemaining(counterRegister)) &&
+				counterRegister.startPrefetch()) {
+
+				_prefetchIncrement(counterRegister);
+			}
+
 			return newValue;
 		}
 
+		// Try to switch to the range that was obtained in advance
+
+		CounterHolder nextCounterHolder =
+			counterRegister.pollNextCounterHolder();
+
+		if (nextCounterHolder != null) {
+			counterRegister.compareAndSetCounterHolder(
+				counterHolder, nextCounterHolder);
+
+			return _competeIncrement(counterRegister, size);
+		}
+
 		// Use the slow path
 
+		_lockWaitCount.incrementAndGet();
+
 		CompeteLatch completeLatch = counterRegister.getCompeteLatch();
 
 		if (!completeLatch.compete()) {
@@ -347,9 +396,12 @@ public class CounterFinderImpl
 			newValue = counterHolder.addAndGet(size);
 
 			if (newValue > counterHolder.getRangeMax()) {
-				CounterHolder newCounterHolder = _obtainIncrement(
-					counterRegister.getName(), counterRegister.getRangeSize(),
-					0);
+				CounterHolder newCounterHolder =
+					counterRegister.pollNextCounterHolder();
+
+				if (newCounterHolder == null) {
+					newCounterHolder = _obtainIncrement(counterRegister);
+				}
 
 				newValue = newCounterHolder.addAndGet(size);
 
@@ -369,6 +421,68 @@ public class CounterFinderImpl
 		return newValue;
 	}
 
+	private int _getNextRangeSize(CounterRegister counterRegister) {
+		int rangeSize = counterRegister.getRangeSize();
+
+		if (!PropsValues.COUNTER_ADAPTIVE_INCREMENT_ENABLED ||
+			(counterRegister.getBaseRangeSize() <= _MINIMUM_INCREMENT_SIZE)) {
+
+			return rangeSize;
+		}
+
+		// Size the next range so that it lasts about one interval at the
+		// observed allocation rate, changing by at most a factor of 2
+
+		long now = System.currentTimeMillis();
+
+		long elapsedTime = Math.max(now - counterRegister.getRangeTime(), 1);
+
+		counterRegister.setRangeTime(now);
+
+		long nextRangeSize =
+			rangeSize * PropsValues.COUNTER_ADAPTIVE_INCREMENT_INTERVAL /
+				elapsedTime;
+
+		nextRangeSize = Math.min(nextRangeSize, rangeSize * 2L);
+		nextRangeSize = Math.max(nextRangeSize, rangeSize / 2);
+
+		nextRangeSize = Math.min(
+			nextRangeSize, PropsValues.COUNTER_ADAPTIVE_INCREMENT_MAX);
+		nextRangeSize = Math.max(
+			nextRangeSize, counterRegister.getBaseRangeSize());
+
+		counterRegister.setRangeSize((int)nextRangeSize);
+
+		return (int)nextRangeSize;
+	}
+
+	private long _getPrefetchRemaining(CounterRegister counterRegister) {
+		long rangeSize = counterRegister.getRangeSize();
+
+		return rangeSize * (100 - PropsValues.COUNTER_PREFETCH_THRESHOLD) / 100;
+	}
+
+	private boolean _isPrefetchEnabled(CounterRegister counterRegister) {
+		if (PropsValues.COUNTER_PREFETCH_ENABLED &&
+			(counterRegister.getBaseRangeSize() > _MINIMUM_INCREMENT_SIZE)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private CounterHolder _obtainIncrement(CounterRegister counterRegister)
+		throws SystemException {
+
+		CounterHolder counterHolder = _obtainIncrement(
+			counterRegister.getName(), _getNextRangeSize(counterRegister), 0);
+
+		_rangeRefillCount.incrementAndGet();
+
+		return counterHolder;
+	}
+
 	private CounterHolder _obtainIncrement(
 			String counterName, long range, long size)
 		throws SystemException {
@@ -407,6 +521,115 @@ public class CounterFinderImpl
 		}
 	}
 
+	/**
+	 * Obtains the next range without holding a row lock. The current ID is
+	 * read and then only updated if no other node changed it in between,
+	 * which is retried until it succeeds.
+	 */
+	private CounterHolder _obtainIncrementOptimistically(
+			CounterRegister counterRegister)
+		throws SystemException {
+
+		String counterName = counterRegister.getName();
+		int rangeSize = _getNextRangeSize(counterRegister);
+
+		Connection connection = null;
+		PreparedStatement preparedStatement = null;
+		ResultSet resultSet = null;
+
+		try {
+			connection = getConnection();
+
+			while (true) {
+				preparedStatement = connection.prepareStatement(
+					_SQL_SELECT_ID_BY_NAME);
+
+				preparedStatement.setString(1, counterName);
+
+				resultSet = preparedStatement.executeQuery();
+
+				if (!resultSet.next()) {
+					throw new SystemException(
+						"No counter exists with name " + counterName);
+				}
+
+				long currentId = resultSet.getLong(1);
+
+				resultSet.close();
+				preparedStatement.close();
+
+				long rangeMax = currentId + rangeSize;
+
+				preparedStatement = connection.prepareStatement(
+					_SQL_UPDATE_ID_BY_NAME_AND_ID);
+
+				preparedStatement.setLong(1, rangeMax);
+				preparedStatement.setString(2, counterName);
+				preparedStatement.setLong(3, currentId);
+
+				int count = preparedStatement.executeUpdate();
+
+				preparedStatement.close();
+
+				if (!connection.getAutoCommit()) {
+					connection.commit();
+				}
+
+				if (count > 0) {
+					_rangeRefillCount.incrementAndGet();
+
+					return new CounterHolder(currentId, rangeMax);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			DataAccess.cleanUp(connection, preparedStatement, resultSet);
+		}
+	}
+
+	private void _prefetchIncrement(final CounterRegister counterRegister) {
+		Callable<Void> callable = new Callable<Void>() {
+
+			public Void call() {
+				CounterHolder nextCounterHolder = null;
+
+				try {
+					nextCounterHolder = _obtainIncrementOptimistically(
+						counterRegister);
+
+					_prefetchCount.incrementAndGet();
+				}
+				catch (Exception e) {
+					_log.error(
+						"Unable to prefetch the next range of counter " +
+							counterRegister.getName(),
+						e);
+				}
+				finally {
+					counterRegister.setNextCounterHolder(nextCounterHolder);
+				}
+
+				return null;
+			}
+
+		};
+
+		try {
+			PortalExecutorManagerUtil.execute(
+				CounterFinderImpl.class.getName(), callable);
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn("Unable to schedule counter prefetch", e);
+			}
+
+			counterRegister.setNextCounterHolder(null);
+		}
+	}
+
 	private static final int _DEFAULT_CURRENT_ID = 0;
 
 	private static final int _MINIMUM_INCREMENT_SIZE = 1;
@@ -422,11 +645,19 @@ public class CounterFinderImpl
 	private static final String _SQL_SELECT_NAMES =
 		"select name from Counter order by name asc";
 
+	private static final String _SQL_UPDATE_ID_BY_NAME_AND_ID =
+		"update Counter set currentId = ? where name = ? and currentId = ?";
+
 	private static final String _SQL_UPDATE_NAME_BY_NAME =
 		"update Counter set name = ? where name = ?";
 
+	private static Log _log = LogFactoryUtil.getLog(CounterFinderImpl.class);
+
 	private Map<String, CounterRegister> _counterRegisterMap =
 		new ConcurrentHashMap<String, CounterRegister>();
+	private AtomicLong _lockWaitCount = new AtomicLong();
+	private AtomicLong _prefetchCount = new AtomicLong();
+	private AtomicLong _rangeRefillCount = new AtomicLong();
 	private Map<String, Integer> _rangeSizeMap =
 		new ConcurrentHashMap<String, Integer>();
 
@@ -24,6 +24,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -33,6 +34,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.UnmodifiableList;
 import com.liferay.portal.model.CacheModel;
@@ -43,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the counter service.
@@ -97,15 +103,26 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 	 * @param counters the counters
 	 */
 	public void cacheResult(List<Counter> counters) {
+		Map<Serializable, Counter> uncachedCounters = new HashMap<Serializable, Counter>();
+
 		for (Counter counter : counters) {
-			if (EntityCacheUtil.getResult(
-						CounterModelImpl.ENTITY_CACHE_ENABLED,
-						CounterImpl.class, counter.getPrimaryKey()) == null) {
-				cacheResult(counter);
-			}
-			else {
-				counter.resetOriginalValues();
-			}
+			uncachedCounters.put(counter.getPrimaryKeyObj(), counter);
+		}
+
+		Map<Serializable, Serializable> cachedCounters = EntityCacheUtil.getResults(CounterModelImpl.ENTITY_CACHE_ENABLED,
+				CounterImpl.class, uncachedCounters.keySet());
+
+		for (Serializable primaryKey : cachedCounters.keySet()) {
+			Counter counter = uncachedCounters.remove(primaryKey);
+
+			counter.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(CounterModelImpl.ENTITY_CACHE_ENABLED,
+			CounterImpl.class, uncachedCounters);
+
+		for (Counter counter : uncachedCounters.values()) {
+			counter.resetOriginalValues();
 		}
 	}
 
@@ -150,10 +167,14 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(counters.size());
+
 		for (Counter counter : counters) {
-			EntityCacheUtil.removeResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
-				CounterImpl.class, counter.getPrimaryKey());
+			primaryKeys.add(counter.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(CounterModelImpl.ENTITY_CACHE_ENABLED,
+			CounterImpl.class, primaryKeys);
 	}
 
 	/**
@@ -408,6 +429,113 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 		return fetchByPrimaryKey((Serializable)name);
 	}
 
+	/**
+	 * Returns the counters with the primary keys, keyed by primary key. Primary keys without a matching counter are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the counters
+	 * @return the counters, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Counter> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Counter> map = new HashMap<Serializable, Counter>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Counter counter = fetchByPrimaryKey(primaryKey);
+
+			if (counter != null) {
+				map.put(primaryKey, counter);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Counter counter = (Counter)EntityCacheUtil.getResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
+					CounterImpl.class, primaryKey);
+
+			if (counter == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (counter != _nullCounter) {
+				map.put(primaryKey, counter);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_COUNTER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Counter counter : (List<Counter>)q.list()) {
+					map.put(counter.getPrimaryKeyObj(), counter);
+
+					cacheResult(counter);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
+						CounterImpl.class, primaryKey, _nullCounter);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the counters.
 	 *
@@ -608,6 +736,7 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 	}
 
 	private static final String _SQL_SELECT_COUNTER = "SELECT counter FROM Counter counter";
+	private static final String _SQL_SELECT_COUNTER_WHERE_PKS_IN = "SELECT counter FROM Counter counter WHERE counter.name IN (";
 	private static final String _SQL_COUNT_COUNTER = "SELECT COUNT(counter) FROM Counter counter";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "counter.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No Counter exists with the primary key ";
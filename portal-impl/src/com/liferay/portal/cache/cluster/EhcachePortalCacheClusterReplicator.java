@@ -19,6 +19,8 @@ import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventType;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import net.sf.ehcache.CacheException;
@@ -46,6 +48,30 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 		}
 	}
 
+	public static void finishBatch() {
+		Batch batch = _batchThreadLocal.get();
+
+		if ((batch == null) || (--batch._depth > 0)) {
+			return;
+		}
+
+		_batchThreadLocal.remove();
+
+		batch.send();
+	}
+
+	public static void startBatch() {
+		Batch batch = _batchThreadLocal.get();
+
+		if (batch == null) {
+			batch = new Batch();
+
+			_batchThreadLocal.set(batch);
+		}
+
+		batch._depth++;
+	}
+
 	public boolean alive() {
 		return true;
 	}
@@ -79,16 +105,15 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 			return;
 		}
 
-		PortalCacheClusterEvent portalCacheClusterEvent =
-			new PortalCacheClusterEvent(
-				ehcache.getName(), element.getObjectKey(),
-				PortalCacheClusterEventType.PUT);
+		Object elementValue = null;
 
 		if (_replicatePutsViaCopy) {
-			portalCacheClusterEvent.setElementValue(element.getObjectValue());
+			elementValue = element.getObjectValue();
 		}
 
-		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+		sendEvent(
+			ehcache.getName(), element.getObjectKey(), elementValue,
+			PortalCacheClusterEventType.PUT);
 	}
 
 	public void notifyElementRemoved(Ehcache ehcache, Element element)
@@ -98,12 +123,9 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 			return;
 		}
 
-		PortalCacheClusterEvent portalCacheClusterEvent =
-			new PortalCacheClusterEvent(
-				ehcache.getName(), element.getObjectKey(),
-				PortalCacheClusterEventType.REMOVE);
-
-		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+		sendEvent(
+			ehcache.getName(), element.getObjectKey(), null,
+			PortalCacheClusterEventType.REMOVE);
 	}
 
 	public void notifyElementUpdated(Ehcache ehcache, Element element)
@@ -113,16 +135,15 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 			return;
 		}
 
-		PortalCacheClusterEvent portalCacheClusterEvent =
-			new PortalCacheClusterEvent(
-				ehcache.getName(), element.getObjectKey(),
-				PortalCacheClusterEventType.UPDATE);
+		Object elementValue = null;
 
 		if (_replicateUpdatesViaCopy) {
-			portalCacheClusterEvent.setElementValue(element.getObjectValue());
+			elementValue = element.getObjectValue();
 		}
 
-		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+		sendEvent(
+			ehcache.getName(), element.getObjectKey(), elementValue,
+			PortalCacheClusterEventType.UPDATE);
 	}
 
 	public void notifyRemoveAll(Ehcache ehcache) {
@@ -130,10 +151,39 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 			return;
 		}
 
+		String cacheName = ehcache.getName();
+
+		Batch batch = _batchThreadLocal.get();
+
+		if (batch != null) {
+			batch.removePortalCacheClusterEvent(cacheName);
+		}
+
+		PortalCacheClusterEvent portalCacheClusterEvent =
+			new PortalCacheClusterEvent(
+				cacheName, null, PortalCacheClusterEventType.REMOVE_ALL);
+
+		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+	}
+
+	protected void sendEvent(
+		String cacheName, Object elementKey, Object elementValue,
+		PortalCacheClusterEventType portalCacheClusterEventType) {
+
+		Batch batch = _batchThreadLocal.get();
+
+		if (batch != null) {
+			batch.addElement(
+				cacheName, elementKey, elementValue,
+				portalCacheClusterEventType);
+
+			return;
+		}
+
 		PortalCacheClusterEvent portalCacheClusterEvent =
 			new PortalCacheClusterEvent(
-				ehcache.getName(), null,
-				PortalCacheClusterEventType.REMOVE_ALL);
+				cacheName, elementKey, elementValue,
+				portalCacheClusterEventType);
 
 		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
 	}
@@ -150,10 +200,72 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 	private static final String _REPLICATE_UPDATES_VIA_COPY =
 		"replicateUpdatesViaCopy";
 
+	private static ThreadLocal<Batch> _batchThreadLocal =
+		new ThreadLocal<Batch>();
+
 	private boolean _replicatePuts;
 	private boolean _replicatePutsViaCopy;
 	private boolean _replicateRemovals = true;
 	private boolean _replicateUpdates = true;
 	private boolean _replicateUpdatesViaCopy;
 
+	private static class Batch {
+
+		public void addElement(
+			String cacheName, Object elementKey, Object elementValue,
+			PortalCacheClusterEventType portalCacheClusterEventType) {
+
+			// Puts and updates are applied the same way on the receiving side
+
+			if (portalCacheClusterEventType ==
+					PortalCacheClusterEventType.UPDATE) {
+
+				portalCacheClusterEventType = PortalCacheClusterEventType.PUT;
+			}
+
+			PortalCacheClusterEvent portalCacheClusterEvent =
+				_portalCacheClusterEvents.get(cacheName);
+
+			// Flush on a change of event type to keep the order of puts and
+			// removals for the same cache
+
+			if ((portalCacheClusterEvent != null) &&
+				(portalCacheClusterEvent.getEventType() !=
+					portalCacheClusterEventType)) {
+
+				PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+
+				portalCacheClusterEvent = null;
+			}
+
+			if (portalCacheClusterEvent == null) {
+				portalCacheClusterEvent = new PortalCacheClusterEvent(
+					cacheName, null, portalCacheClusterEventType);
+
+				_portalCacheClusterEvents.put(
+					cacheName, portalCacheClusterEvent);
+			}
+
+			portalCacheClusterEvent.addElement(elementKey, elementValue);
+		}
+
+		public void removePortalCacheClusterEvent(String cacheName) {
+			_portalCacheClusterEvents.remove(cacheName);
+		}
+
+		public void send() {
+			for (PortalCacheClusterEvent portalCacheClusterEvent :
+					_portalCacheClusterEvents.values()) {
+
+				PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+			}
+		}
+
+		private int _depth;
+		private Map<String, PortalCacheClusterEvent>
+			_portalCacheClusterEvents =
+				new LinkedHashMap<String, PortalCacheClusterEvent>();
+
+	}
+
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannel;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannelFactory;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterException;
 import com.liferay.portal.kernel.cluster.Priority;
+import com.liferay.portal.util.PropsValues;
 
 import java.util.Collections;
 import java.util.List;
@@ -39,8 +40,32 @@ public class ClusterLinkPortalCacheClusterChannelFactory
 				"Cannot create more than " + _priorities.size() + " channels");
 		}
 
+		Priority priority = _priorities.get(count);
+
+		if (_batchEnabled) {
+			return new ClusterLinkBatchingPortalCacheClusterChannel(
+				_destinationName, priority, _batchInterval, _batchSize,
+				_batchRemoveAllThreshold);
+		}
+
 		return new ClusterLinkPortalCacheClusterChannel(
-			_destinationName, _priorities.get(count));
+			_destinationName, priority);
+	}
+
+	public void setBatchEnabled(boolean batchEnabled) {
+		_batchEnabled = batchEnabled;
+	}
+
+	public void setBatchInterval(long batchInterval) {
+		_batchInterval = batchInterval;
+	}
+
+	public void setBatchRemoveAllThreshold(int batchRemoveAllThreshold) {
+		_batchRemoveAllThreshold = batchRemoveAllThreshold;
+	}
+
+	public void setBatchSize(int batchSize) {
+		_batchSize = batchSize;
 	}
 
 	public void setDestinationName(String destinationName) {
@@ -53,6 +78,13 @@ public class ClusterLinkPortalCacheClusterChannelFactory
 		Collections.sort(priorities);
 	}
 
+	private boolean _batchEnabled =
+		PropsValues.EHCACHE_CLUSTER_LINK_BATCH_ENABLED;
+	private long _batchInterval =
+		PropsValues.EHCACHE_CLUSTER_LINK_BATCH_INTERVAL;
+	private int _batchRemoveAllThreshold =
+		PropsValues.EHCACHE_CLUSTER_LINK_BATCH_REMOVE_ALL_THRESHOLD;
+	private int _batchSize = PropsValues.EHCACHE_CLUSTER_LINK_BATCH_SIZE;
 	private AtomicInteger _counter = new AtomicInteger(0);
 	private String _destinationName;
 	private List<Priority> _priorities;
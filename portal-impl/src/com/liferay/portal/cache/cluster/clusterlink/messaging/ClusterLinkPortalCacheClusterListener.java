@@ -15,6 +15,8 @@
 package com.liferay.portal.cache.cluster.clusterlink.messaging;
 
 import com.liferay.portal.cache.ehcache.EhcachePortalCacheManager;
+import com.liferay.portal.cache.offheap.OffHeapPortalCache;
+import com.liferay.portal.cache.offheap.OffHeapPortalCacheManager;
 import com.liferay.portal.dao.orm.hibernate.region.LiferayEhcacheRegionFactory;
 import com.liferay.portal.dao.orm.hibernate.region.SingletonLiferayEhcacheRegionFactory;
 import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
@@ -25,6 +27,10 @@ import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.messaging.BaseMessageListener;
 import com.liferay.portal.kernel.messaging.Message;
 
+import java.io.Serializable;
+
+import java.util.List;
+
 import net.sf.ehcache.CacheManager;
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
@@ -34,25 +40,29 @@ import net.sf.ehcache.Element;
  */
 public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 
+	@SuppressWarnings("unchecked")
 	public ClusterLinkPortalCacheClusterListener() {
 		LiferayEhcacheRegionFactory liferayEhcacheRegionFactory =
 			SingletonLiferayEhcacheRegionFactory.getInstance();
 
 		_hibernateCacheManager = liferayEhcacheRegionFactory.getCacheManager();
 
-		EhcachePortalCacheManager<?, ?> ehcachePortalCacheManager =
-			(EhcachePortalCacheManager<?, ?>)PortalBeanLocatorUtil.locate(
-				_MULTI_VM_PORTAL_CACHE_MANAGER_BEAN_NAME);
+		EhcachePortalCacheManager<Serializable, Object>
+			ehcachePortalCacheManager =
+				(EhcachePortalCacheManager<Serializable, Object>)
+					PortalBeanLocatorUtil.locate(
+						_MULTI_VM_PORTAL_CACHE_MANAGER_BEAN_NAME);
 
+		_offHeapPortalCacheManager =
+			ehcachePortalCacheManager.getOffHeapPortalCacheManager();
 		_portalCacheManager = ehcachePortalCacheManager.getEhcacheManager();
 	}
 
 	@Override
 	protected void doReceive(Message message) throws Exception {
-		PortalCacheClusterEvent portalCacheClusterEvent =
-			(PortalCacheClusterEvent)message.getPayload();
+		Object payload = message.getPayload();
 
-		if (portalCacheClusterEvent == null) {
+		if (payload == null) {
 			if (_log.isWarnEnabled()) {
 				_log.warn("Payload is null");
 			}
@@ -60,51 +70,128 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 			return;
 		}
 
+		if (payload instanceof PortalCacheClusterEvent[]) {
+			for (PortalCacheClusterEvent portalCacheClusterEvent :
+					(PortalCacheClusterEvent[])payload) {
+
+				receive(portalCacheClusterEvent);
+			}
+		}
+		else {
+			receive((PortalCacheClusterEvent)payload);
+		}
+	}
+
+	/**
+	 * Off heap caches only replicate invalidations, so every event drops the
+	 * local copy and the next read reloads it from the database.
+	 */
+	protected void invalidate(
+		OffHeapPortalCache<Serializable, Object> offHeapPortalCache,
+		PortalCacheClusterEvent portalCacheClusterEvent) {
+
+		PortalCacheClusterEventType portalCacheClusterEventType =
+			portalCacheClusterEvent.getEventType();
+
+		if (portalCacheClusterEventType.equals(
+				PortalCacheClusterEventType.REMOVE_ALL)) {
+
+			offHeapPortalCache.removeAll(true);
+		}
+		else if (portalCacheClusterEvent.isBatch()) {
+			for (Object elementKey :
+					portalCacheClusterEvent.getElementKeys()) {
+
+				offHeapPortalCache.remove((Serializable)elementKey, true);
+			}
+		}
+		else {
+			offHeapPortalCache.remove(
+				(Serializable)portalCacheClusterEvent.getElementKey(), true);
+		}
+	}
+
+	protected void put(
+		Ehcache ehcache, Object elementKey, Object elementValue) {
+
+		if (elementValue == null) {
+			ehcache.remove(elementKey, true);
+
+			return;
+		}
+
+		Element oldElement = ehcache.get(elementKey);
+		Element newElement = new Element(elementKey, elementValue);
+
+		if (oldElement != null) {
+			ehcache.replace(newElement);
+		}
+		else {
+			ehcache.put(newElement);
+		}
+	}
+
+	protected void receive(PortalCacheClusterEvent portalCacheClusterEvent) {
 		String cacheName = portalCacheClusterEvent.getCacheName();
 
+		OffHeapPortalCache<Serializable, Object> offHeapPortalCache =
+			_offHeapPortalCacheManager.getOffHeapPortalCache(cacheName);
+
+		if (offHeapPortalCache != null) {
+			invalidate(offHeapPortalCache, portalCacheClusterEvent);
+
+			return;
+		}
+
 		Ehcache ehcache = _portalCacheManager.getEhcache(cacheName);
 
 		if (ehcache == null) {
 			ehcache = _hibernateCacheManager.getEhcache(cacheName);
 		}
 
-		if (ehcache != null) {
-			PortalCacheClusterEventType portalCacheClusterEventType =
-				portalCacheClusterEvent.getEventType();
+		if (ehcache == null) {
+			return;
+		}
+
+		PortalCacheClusterEventType portalCacheClusterEventType =
+			portalCacheClusterEvent.getEventType();
 
-			if (portalCacheClusterEventType.equals(
-					PortalCacheClusterEventType.REMOVE_ALL)) {
+		if (portalCacheClusterEventType.equals(
+				PortalCacheClusterEventType.REMOVE_ALL)) {
 
-				ehcache.removeAll(true);
-			}
-			else if (portalCacheClusterEventType.equals(
-						PortalCacheClusterEventType.PUT) ||
-					portalCacheClusterEventType.equals(
-						PortalCacheClusterEventType.UPDATE)) {
+			ehcache.removeAll(true);
+		}
+		else if (portalCacheClusterEvent.isBatch()) {
+			List<Object> elementKeys = portalCacheClusterEvent.getElementKeys();
 
-				Object elementKey = portalCacheClusterEvent.getElementKey();
-				Object elementValue = portalCacheClusterEvent.getElementValue();
+			if (portalCacheClusterEventType.equals(
+					PortalCacheClusterEventType.PUT) ||
+				portalCacheClusterEventType.equals(
+					PortalCacheClusterEventType.UPDATE)) {
 
-				if (elementValue == null) {
-					ehcache.remove(
-						portalCacheClusterEvent.getElementKey(), true);
-				}
-				else {
-					Element oldElement = ehcache.get(elementKey);
-					Element newElement = new Element(elementKey, elementValue);
-
-					if (oldElement != null) {
-						ehcache.replace(newElement);
-					}
-					else {
-						ehcache.put(newElement);
-					}
+				List<Object> elementValues =
+					portalCacheClusterEvent.getElementValues();
+
+				for (int i = 0; i < elementKeys.size(); i++) {
+					put(ehcache, elementKeys.get(i), elementValues.get(i));
 				}
 			}
 			else {
-				ehcache.remove(portalCacheClusterEvent.getElementKey(), true);
+				ehcache.removeAll(elementKeys, true);
 			}
 		}
+		else if (portalCacheClusterEventType.equals(
+					PortalCacheClusterEventType.PUT) ||
+				portalCacheClusterEventType.equals(
+					PortalCacheClusterEventType.UPDATE)) {
+
+			put(
+				ehcache, portalCacheClusterEvent.getElementKey(),
+				portalCacheClusterEvent.getElementValue());
+		}
+		else {
+			ehcache.remove(portalCacheClusterEvent.getElementKey(), true);
+		}
 	}
 
 	private static final String _MULTI_VM_PORTAL_CACHE_MANAGER_BEAN_NAME =
@@ -114,6 +201,8 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 		ClusterLinkPortalCacheClusterListener.class);
 
 	private CacheManager _hibernateCacheManager;
+	private OffHeapPortalCacheManager<Serializable, Object>
+		_offHeapPortalCacheManager;
 	private CacheManager _portalCacheManager;
 
 }
\ No newline at end of file
@@ -14,9 +14,11 @@
 
 package com.liferay.portal.cache.ehcache;
 
+import com.liferay.portal.cache.cluster.EhcachePortalCacheClusterReplicator;
 import com.liferay.portal.kernel.cache.CacheListener;
 import com.liferay.portal.kernel.cache.CacheListenerScope;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.cluster.ClusterReplicationThreadLocal;
 
 import java.io.Serializable;
 
@@ -48,10 +50,19 @@ public class EhcachePortalCache<K extends Serializable, V>
 	}
 
 	public Collection<V> get(Collection<K> keys) {
+		Map<Object, Element> elements = _ehcache.getAll(keys);
+
 		List<V> values = new ArrayList<V>(keys.size());
 
 		for (K key : keys) {
-			values.add(get(key));
+			Element element = elements.get(key);
+
+			if (element == null) {
+				values.add(null);
+			}
+			else {
+				values.add((V)element.getObjectValue());
+			}
 		}
 
 		return values;
@@ -86,6 +97,27 @@ public class EhcachePortalCache<K extends Serializable, V>
 		_ehcache.put(element);
 	}
 
+	public void putAll(Map<K, V> map) {
+		if (map.isEmpty()) {
+			return;
+		}
+
+		List<Element> elements = new ArrayList<Element>(map.size());
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			elements.add(new Element(entry.getKey(), entry.getValue()));
+		}
+
+		EhcachePortalCacheClusterReplicator.startBatch();
+
+		try {
+			_ehcache.putAll(elements);
+		}
+		finally {
+			EhcachePortalCacheClusterReplicator.finishBatch();
+		}
+	}
+
 	public void registerCacheListener(CacheListener<K, V> cacheListener) {
 		registerCacheListener(cacheListener, CacheListenerScope.ALL);
 	}
@@ -114,11 +146,27 @@ public class EhcachePortalCache<K extends Serializable, V>
 	}
 
 	public void remove(K key) {
-		_ehcache.remove(key);
+		_ehcache.remove(key, !ClusterReplicationThreadLocal.isReplicate());
 	}
 
 	public void removeAll() {
-		_ehcache.removeAll();
+		_ehcache.removeAll(!ClusterReplicationThreadLocal.isReplicate());
+	}
+
+	public void removeAll(Collection<K> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		EhcachePortalCacheClusterReplicator.startBatch();
+
+		try {
+			_ehcache.removeAll(
+				keys, !ClusterReplicationThreadLocal.isReplicate());
+		}
+		finally {
+			EhcachePortalCacheClusterReplicator.finishBatch();
+		}
 	}
 
 	public void setEhcache(Ehcache ehcache) {
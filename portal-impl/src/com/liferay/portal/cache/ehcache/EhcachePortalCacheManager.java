@@ -14,6 +14,7 @@
 
 package com.liferay.portal.cache.ehcache;
 
+import com.liferay.portal.cache.offheap.OffHeapPortalCacheManager;
 import com.liferay.portal.cache.transactional.TransactionalPortalCache;
 import com.liferay.portal.dao.orm.common.EntityCacheImpl;
 import com.liferay.portal.dao.orm.common.FinderCacheImpl;
@@ -69,6 +70,22 @@ public class EhcachePortalCacheManager<K extends Serializable, V>
 		Configuration configuration = EhcacheConfigurationUtil.getConfiguration(
 			configurationPath, _clusterAware, _usingDefault);
 
+		_offHeapPortalCacheManager = new OffHeapPortalCacheManager<K, V>();
+
+		_offHeapPortalCacheManager.setBlockSize(
+			PropsValues.EHCACHE_OFF_HEAP_BLOCK_SIZE);
+
+		if (_clusterAware && PropsValues.CLUSTER_LINK_ENABLED &&
+			PropsValues.EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED) {
+
+			_offHeapPortalCacheManager.setReplicate(true);
+		}
+
+		_offHeapPortalCacheManager.setSlabSize(
+			PropsValues.EHCACHE_OFF_HEAP_SLAB_SIZE);
+
+		configureOffHeapCaches(configuration);
+
 		_cacheManager = new CacheManager(configuration);
 
 		FailSafeTimer failSafeTimer = _cacheManager.getTimer();
@@ -97,11 +114,13 @@ public class EhcachePortalCacheManager<K extends Serializable, V>
 
 	public void clearAll() {
 		_cacheManager.clearAll();
+		_offHeapPortalCacheManager.clearAll();
 	}
 
 	public void destroy() throws Exception {
 		try {
 			_cacheManager.shutdown();
+			_offHeapPortalCacheManager.destroy();
 		}
 		finally {
 			if (_managementService != null) {
@@ -115,7 +134,12 @@ public class EhcachePortalCacheManager<K extends Serializable, V>
 	}
 
 	public PortalCache<K, V> getCache(String name, boolean blocking) {
-		PortalCache<K, V> portalCache = _ehcachePortalCaches.get(name);
+		PortalCache<K, V> portalCache =
+			_offHeapPortalCacheManager.getOffHeapPortalCache(name);
+
+		if (portalCache == null) {
+			portalCache = _ehcachePortalCaches.get(name);
+		}
 
 		if (portalCache == null) {
 			synchronized (_cacheManager) {
@@ -145,10 +169,16 @@ public class EhcachePortalCacheManager<K extends Serializable, V>
 		return _cacheManager;
 	}
 
+	public OffHeapPortalCacheManager<K, V> getOffHeapPortalCacheManager() {
+		return _offHeapPortalCacheManager;
+	}
+
 	public void reconfigureCaches(URL configurationURL) {
 		Configuration configuration = EhcacheConfigurationUtil.getConfiguration(
 			configurationURL, _clusterAware, _usingDefault);
 
+		configureOffHeapCaches(configuration);
+
 		Map<String, CacheConfiguration> cacheConfigurations =
 			configuration.getCacheConfigurations();
 
@@ -170,6 +200,8 @@ public class EhcachePortalCacheManager<K extends Serializable, V>
 		_ehcachePortalCaches.remove(name);
 
 		_cacheManager.removeCache(name);
+
+		_offHeapPortalCacheManager.removeCache(name);
 	}
 
 	public void setClusterAware(boolean clusterAware) {
@@ -248,6 +280,42 @@ public class EhcachePortalCacheManager<K extends Serializable, V>
 		return ehcachePortalCache;
 	}
 
+	/**
+	 * Moves the caches that set <code>overflowToOffHeap</code> in the Ehcache
+	 * configuration to {@link OffHeapPortalCacheManager}, sized by their
+	 * <code>maxBytesLocalOffHeap</code>. The flag is cleared because Ehcache
+	 * core only supports off heap storage with its enterprise features.
+	 */
+	protected void configureOffHeapCaches(Configuration configuration) {
+		Map<String, CacheConfiguration> cacheConfigurations =
+			configuration.getCacheConfigurations();
+
+		for (CacheConfiguration cacheConfiguration :
+				cacheConfigurations.values()) {
+
+			if (!cacheConfiguration.isOverflowToOffHeap()) {
+				continue;
+			}
+
+			cacheConfiguration.setOverflowToOffHeap(false);
+
+			String name = cacheConfiguration.getName();
+
+			if (_offHeapPortalCacheManager.getOffHeapPortalCache(name) !=
+					null) {
+
+				continue;
+			}
+
+			_offHeapPortalCacheManager.addCache(
+				name, cacheConfiguration.getMaxBytesLocalOffHeap());
+
+			if (_log.isInfoEnabled()) {
+				_log.info("Storing cache " + name + " off heap");
+			}
+		}
+	}
+
 	private static final String _DEFAULT_CLUSTERED_EHCACHE_CONFIG_FILE =
 		"/ehcache/liferay-multi-vm-clustered.xml";
 
@@ -261,6 +329,7 @@ public class EhcachePortalCacheManager<K extends Serializable, V>
 		new HashMap<String, EhcachePortalCache<K, V>>();
 	private ManagementService _managementService;
 	private MBeanServer _mBeanServer;
+	private OffHeapPortalCacheManager<K, V> _offHeapPortalCacheManager;
 	private boolean _registerCacheConfigurations = true;
 	private boolean _registerCacheManager = true;
 	private boolean _registerCaches = true;
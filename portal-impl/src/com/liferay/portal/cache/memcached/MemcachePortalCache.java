@@ -83,11 +83,17 @@ public class MemcachePortalCache<V> implements PortalCache<String, V> {
 			future.cancel(true);
 		}
 
-		if (values != null) {
-			return (Collection<V>)values.values();
+		if (values == null) {
+			return null;
+		}
+
+		List<V> orderedValues = new ArrayList<V>(processedKeys.size());
+
+		for (String processedKey : processedKeys) {
+			orderedValues.add((V)values.get(processedKey));
 		}
 
-		return null;
+		return orderedValues;
 	}
 
 	public V get(String key) {
@@ -143,6 +149,12 @@ public class MemcachePortalCache<V> implements PortalCache<String, V> {
 		}
 	}
 
+	public void putAll(Map<String, V> map) {
+		for (Map.Entry<String, V> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue(), _timeToLive);
+		}
+	}
+
 	public void registerCacheListener(CacheListener<String, V> cacheListener) {
 		registerCacheListener(cacheListener, CacheListenerScope.ALL);
 	}
@@ -171,6 +183,12 @@ public class MemcachePortalCache<V> implements PortalCache<String, V> {
 		_memcachedClient.flush();
 	}
 
+	public void removeAll(Collection<String> keys) {
+		for (String key : keys) {
+			remove(key);
+		}
+	}
+
 	public void setTimeToLive(int timeToLive) {
 		_timeToLive = timeToLive;
 	}
@@ -83,7 +83,7 @@ public class PooledMemcachePortalCache<V> implements PortalCache<String, V> {
 					_log.warn("Error retrieving with keys " + keys, iae);
 				}
 
-				future.cancel(true);
+				return null;
 			}
 
 			try {
@@ -101,7 +101,17 @@ public class PooledMemcachePortalCache<V> implements PortalCache<String, V> {
 			cleanupClient(memcachedClient);
 		}
 
-		return (Collection<V>)values.values();
+		if (values == null) {
+			return null;
+		}
+
+		List<V> orderedValues = new ArrayList<V>(processedKeys.size());
+
+		for (String processedKey : processedKeys) {
+			orderedValues.add((V)values.get(processedKey));
+		}
+
+		return orderedValues;
 	}
 
 	public V get(String key) {
@@ -177,6 +187,38 @@ public class PooledMemcachePortalCache<V> implements PortalCache<String, V> {
 		}
 	}
 
+	public void putAll(Map<String, V> map) {
+		MemcachedClientIF memcachedClient = null;
+
+		try {
+			memcachedClient = _memcachedClientFactory.getMemcachedClient();
+		}
+		catch (Exception e) {
+			return;
+		}
+
+		try {
+			for (Map.Entry<String, V> entry : map.entrySet()) {
+				String key = entry.getKey();
+
+				String processedKey = _name.concat(key);
+
+				try {
+					memcachedClient.set(
+						processedKey, _timeToLive, entry.getValue());
+				}
+				catch (IllegalArgumentException iae) {
+					if (_log.isWarnEnabled()) {
+						_log.warn("Error storing value with key " + key, iae);
+					}
+				}
+			}
+		}
+		finally {
+			cleanupClient(memcachedClient);
+		}
+	}
+
 	public void registerCacheListener(CacheListener<String, V> cacheListener) {
 		registerCacheListener(cacheListener, CacheListenerScope.ALL);
 	}
@@ -231,6 +273,36 @@ public class PooledMemcachePortalCache<V> implements PortalCache<String, V> {
 		}
 	}
 
+	public void removeAll(Collection<String> keys) {
+		MemcachedClientIF memcachedClient = null;
+
+		try {
+			memcachedClient = _memcachedClientFactory.getMemcachedClient();
+		}
+		catch (Exception e) {
+			return;
+		}
+
+		try {
+			for (String key : keys) {
+				String processedKey = _name.concat(key);
+
+				try {
+					memcachedClient.delete(processedKey);
+				}
+				catch (IllegalArgumentException iae) {
+					if (_log.isWarnEnabled()) {
+						_log.warn(
+							"Unable to delete value with key " + key, iae);
+					}
+				}
+			}
+		}
+		finally {
+			cleanupClient(memcachedClient);
+		}
+	}
+
 	public void setTimeToLive(int timeToLive) {
 		_timeToLive = timeToLive;
 	}
@@ -79,6 +79,17 @@ public class MemoryPortalCache<K extends Serializable, V>
 		notifyPutEvents(key, value, oldValue != null);
 	}
 
+	public void putAll(Map<K, V> map) {
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			K key = entry.getKey();
+			V value = entry.getValue();
+
+			V oldValue = _map.put(key, value);
+
+			notifyPutEvents(key, value, oldValue != null);
+		}
+	}
+
 	public void registerCacheListener(CacheListener<K, V> cacheListener) {
 		_cacheListeners.add(cacheListener);
 	}
@@ -106,6 +117,12 @@ public class MemoryPortalCache<K extends Serializable, V>
 		}
 	}
 
+	public void removeAll(Collection<K> keys) {
+		for (K key : keys) {
+			remove(key);
+		}
+	}
+
 	public void unregisterCacheListener(CacheListener<K, V> cacheListener) {
 		_cacheListeners.remove(cacheListener);
 	}
@@ -0,0 +1,661 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.kernel.cache.CacheListener;
+import com.liferay.portal.kernel.cache.CacheListenerScope;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.cluster.ClusterReplicationThreadLocal;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventType;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.io.Deserializer;
+import com.liferay.portal.kernel.io.DeserializerObjectInput;
+import com.liferay.portal.kernel.io.Serializer;
+import com.liferay.portal.kernel.io.SerializerObjectOutput;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CacheModel;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.Serializable;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stores the values of a cache outside of the Java heap, in direct {@link
+ * ByteBuffer} slabs that are split into fixed size blocks. A value occupies as
+ * many blocks as its serialized form needs, so the slabs never fragment. Only
+ * the keys and the block indexes stay on the heap. When the slabs are full,
+ * the least recently used entries are evicted.
+ *
+ * <p>
+ * Cache models are serialized through their {@link Externalizable} methods
+ * into the compact format of {@link Serializer}. Any other value is written
+ * with {@link Serializer#writeObject(Serializable)}.
+ * </p>
+ *
+ * @author agent
+ */
+public class OffHeapPortalCache<K extends Serializable, V>
+	implements PortalCache<K, V> {
+
+	public OffHeapPortalCache(
+		String name, long maxBytes, int blockSize, int slabSize,
+		boolean replicate) {
+
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException(
+				"Block size " + blockSize + " is not positive");
+		}
+
+		if (slabSize < blockSize) {
+			throw new IllegalArgumentException(
+				"Slab size " + slabSize + " is smaller than block size " +
+					blockSize);
+		}
+
+		_name = name;
+		_blockSize = blockSize;
+		_replicate = replicate;
+
+		_blocksPerSlab = slabSize / blockSize;
+
+		long slabCount = (maxBytes + slabSize - 1) / slabSize;
+
+		if (slabCount < 1) {
+			slabCount = 1;
+		}
+
+		_slabs = new ByteBuffer[(int)slabCount];
+
+		_freeBlocks = new int[_blocksPerSlab];
+	}
+
+	public void destroy() {
+		removeAll(true);
+
+		_cacheListeners.clear();
+	}
+
+	public Collection<V> get(Collection<K> keys) {
+		List<V> values = new ArrayList<V>(keys.size());
+
+		for (K key : keys) {
+			values.add(get(key));
+		}
+
+		return values;
+	}
+
+	public V get(K key) {
+		byte[] bytes = null;
+
+		_lock.lock();
+
+		try {
+			int[] blocks = _entries.get(key);
+
+			if (blocks == null) {
+				return null;
+			}
+
+			bytes = _read(blocks);
+		}
+		finally {
+			_lock.unlock();
+		}
+
+		try {
+			return (V)deserialize(bytes);
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to deserialize value for key " + key + " in " +
+						_name,
+					e);
+			}
+
+			remove(key, true);
+
+			return null;
+		}
+	}
+
+	public int getBlockCount() {
+		return _slabs.length * _blocksPerSlab;
+	}
+
+	public int getFreeBlockCount() {
+		_lock.lock();
+
+		try {
+			return _freeBlockCount +
+				(_slabs.length - _allocatedSlabCount) * _blocksPerSlab;
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	public int getSize() {
+		_lock.lock();
+
+		try {
+			return _entries.size();
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	public void put(K key, V value) {
+		byte[] bytes = serialize(value);
+
+		List<Map.Entry<K, V>> evictedEntries = new ArrayList<Map.Entry<K, V>>();
+
+		boolean updated = false;
+
+		_lock.lock();
+
+		try {
+			int[] oldBlocks = _entries.remove(key);
+
+			if (oldBlocks != null) {
+				updated = true;
+
+				_release(oldBlocks);
+			}
+
+			_store(key, bytes, evictedEntries);
+		}
+		finally {
+			_lock.unlock();
+		}
+
+		notifyEvictedEntries(evictedEntries);
+
+		if (updated) {
+			for (CacheListener<K, V> cacheListener : _cacheListeners) {
+				cacheListener.notifyEntryUpdated(this, key, value);
+			}
+
+			if (_replicate) {
+				PortalCacheClusterLinkUtil.sendEvent(
+					new PortalCacheClusterEvent(
+						_name, key, PortalCacheClusterEventType.REMOVE));
+			}
+		}
+		else {
+			for (CacheListener<K, V> cacheListener : _cacheListeners) {
+				cacheListener.notifyEntryPut(this, key, value);
+			}
+		}
+	}
+
+	public void put(K key, V value, int timeToLive) {
+		put(key, value);
+	}
+
+	public void putAll(Map<K, V> map) {
+		if (map.isEmpty()) {
+			return;
+		}
+
+		Map<K, byte[]> serializedValues = new LinkedHashMap<K, byte[]>();
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			serializedValues.put(entry.getKey(), serialize(entry.getValue()));
+		}
+
+		List<Map.Entry<K, V>> evictedEntries = new ArrayList<Map.Entry<K, V>>();
+		Set<K> updatedKeys = new HashSet<K>();
+
+		_lock.lock();
+
+		try {
+			for (Map.Entry<K, byte[]> entry : serializedValues.entrySet()) {
+				K key = entry.getKey();
+
+				int[] oldBlocks = _entries.remove(key);
+
+				if (oldBlocks != null) {
+					updatedKeys.add(key);
+
+					_release(oldBlocks);
+				}
+
+				_store(key, entry.getValue(), evictedEntries);
+			}
+		}
+		finally {
+			_lock.unlock();
+		}
+
+		notifyEvictedEntries(evictedEntries);
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			K key = entry.getKey();
+
+			boolean updated = updatedKeys.contains(key);
+
+			for (CacheListener<K, V> cacheListener : _cacheListeners) {
+				if (updated) {
+					cacheListener.notifyEntryUpdated(
+						this, key, entry.getValue());
+				}
+				else {
+					cacheListener.notifyEntryPut(this, key, entry.getValue());
+				}
+			}
+		}
+
+		if (_replicate && !updatedKeys.isEmpty()) {
+			sendRemoveEvent(updatedKeys);
+		}
+	}
+
+	public void registerCacheListener(CacheListener<K, V> cacheListener) {
+		_cacheListeners.add(cacheListener);
+	}
+
+	public void registerCacheListener(
+		CacheListener<K, V> cacheListener,
+		CacheListenerScope cacheListenerScope) {
+
+		registerCacheListener(cacheListener);
+	}
+
+	public void remove(K key) {
+		remove(key, !ClusterReplicationThreadLocal.isReplicate());
+	}
+
+	/**
+	 * Removes the value for the key. Removals that are applied on behalf of
+	 * another cluster node pass <code>true</code> so they are not sent back
+	 * to the cluster.
+	 */
+	public void remove(K key, boolean doNotNotifyCacheReplicators) {
+		V value = null;
+
+		_lock.lock();
+
+		try {
+			int[] blocks = _entries.remove(key);
+
+			if (blocks == null) {
+				return;
+			}
+
+			value = _readValue(blocks);
+
+			_release(blocks);
+		}
+		finally {
+			_lock.unlock();
+		}
+
+		for (CacheListener<K, V> cacheListener : _cacheListeners) {
+			cacheListener.notifyEntryRemoved(this, key, value);
+		}
+
+		if (_replicate && !doNotNotifyCacheReplicators) {
+			PortalCacheClusterLinkUtil.sendEvent(
+				new PortalCacheClusterEvent(
+					_name, key, PortalCacheClusterEventType.REMOVE));
+		}
+	}
+
+	public void removeAll() {
+		removeAll(!ClusterReplicationThreadLocal.isReplicate());
+	}
+
+	public void removeAll(boolean doNotNotifyCacheReplicators) {
+		_lock.lock();
+
+		try {
+			_entries.clear();
+
+			Arrays.fill(_slabs, null);
+
+			_allocatedSlabCount = 0;
+			_freeBlockCount = 0;
+			_freeBlocks = new int[_blocksPerSlab];
+		}
+		finally {
+			_lock.unlock();
+		}
+
+		for (CacheListener<K, V> cacheListener : _cacheListeners) {
+			cacheListener.notifyRemoveAll(this);
+		}
+
+		if (_replicate && !doNotNotifyCacheReplicators) {
+			PortalCacheClusterLinkUtil.sendEvent(
+				new PortalCacheClusterEvent(
+					_name, null, PortalCacheClusterEventType.REMOVE_ALL));
+		}
+	}
+
+	public void removeAll(Collection<K> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		for (K key : keys) {
+			remove(key, true);
+		}
+
+		if (_replicate && ClusterReplicationThreadLocal.isReplicate()) {
+			sendRemoveEvent(keys);
+		}
+	}
+
+	public void unregisterCacheListener(CacheListener<K, V> cacheListener) {
+		_cacheListeners.remove(cacheListener);
+	}
+
+	public void unregisterCacheListeners() {
+		_cacheListeners.clear();
+	}
+
+	protected Object deserialize(byte[] bytes) throws Exception {
+		Deserializer deserializer = new Deserializer(ByteBuffer.wrap(bytes));
+
+		byte type = deserializer.readByte();
+
+		if (type == _TYPE_CACHE_MODEL) {
+			Class<?> clazz = deserializer.readObject();
+
+			Externalizable externalizable = (Externalizable)clazz.newInstance();
+
+			externalizable.readExternal(
+				new DeserializerObjectInput(deserializer));
+
+			return externalizable;
+		}
+
+		Object value = deserializer.readObject();
+
+		// The entity cache tells a cached miss apart by identity
+
+		if (StringPool.BLANK.equals(value)) {
+			return StringPool.BLANK;
+		}
+
+		return value;
+	}
+
+	protected void notifyEvictedEntries(List<Map.Entry<K, V>> evictedEntries) {
+		for (Map.Entry<K, V> evictedEntry : evictedEntries) {
+			for (CacheListener<K, V> cacheListener : _cacheListeners) {
+				cacheListener.notifyEntryEvicted(
+					this, evictedEntry.getKey(), evictedEntry.getValue());
+			}
+		}
+	}
+
+	protected void sendRemoveEvent(Collection<K> keys) {
+		PortalCacheClusterEvent portalCacheClusterEvent =
+			new PortalCacheClusterEvent(
+				_name, null, PortalCacheClusterEventType.REMOVE);
+
+		for (K key : keys) {
+			portalCacheClusterEvent.addElement(key, null);
+		}
+
+		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+	}
+
+	protected byte[] serialize(V value) {
+		if (value == null) {
+			throw new IllegalArgumentException("Value is null");
+		}
+
+		Serializer serializer = new Serializer();
+
+		if ((value instanceof CacheModel) &&
+			(value instanceof Externalizable)) {
+
+			serializer.writeByte(_TYPE_CACHE_MODEL);
+
+			Class<?> clazz = value.getClass();
+
+			serializer.writeObject(clazz);
+
+			Externalizable externalizable = (Externalizable)value;
+
+			try {
+				externalizable.writeExternal(
+					new SerializerObjectOutput(serializer));
+			}
+			catch (IOException ioe) {
+				throw new RuntimeException(
+					"Unable to write cache model " + clazz.getName(), ioe);
+			}
+		}
+		else {
+			serializer.writeByte(_TYPE_SERIALIZABLE);
+			serializer.writeObject((Serializable)value);
+		}
+
+		ByteBuffer byteBuffer = serializer.toByteBuffer();
+
+		return byteBuffer.array();
+	}
+
+	private boolean _allocate(int count) {
+		while (_freeBlockCount < count) {
+			if (_allocatedSlabCount < _slabs.length) {
+				_allocateSlab();
+			}
+			else {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void _allocateSlab() {
+		int slabIndex = _allocatedSlabCount++;
+
+		_slabs[slabIndex] = ByteBuffer.allocateDirect(
+			_blocksPerSlab * _blockSize);
+
+		int firstBlock = slabIndex * _blocksPerSlab;
+
+		for (int i = _blocksPerSlab - 1; i >= 0; i--) {
+			_pushFreeBlock(firstBlock + i);
+		}
+	}
+
+	private void _pushFreeBlock(int block) {
+		if (_freeBlockCount == _freeBlocks.length) {
+			_freeBlocks = Arrays.copyOf(
+				_freeBlocks, _freeBlocks.length + _blocksPerSlab);
+		}
+
+		_freeBlocks[_freeBlockCount++] = block;
+	}
+
+	private byte[] _read(int[] blocks) {
+
+		// The first element is the length of the value, the rest are blocks
+
+		byte[] bytes = new byte[blocks[0]];
+
+		int offset = 0;
+
+		for (int i = 1; i < blocks.length; i++) {
+			int length = Math.min(_blockSize, bytes.length - offset);
+
+			ByteBuffer slab = _slabs[blocks[i] / _blocksPerSlab];
+
+			slab.position((blocks[i] % _blocksPerSlab) * _blockSize);
+
+			slab.get(bytes, offset, length);
+
+			offset += length;
+		}
+
+		return bytes;
+	}
+
+	private V _readValue(int[] blocks) {
+		if (_cacheListeners.isEmpty()) {
+			return null;
+		}
+
+		try {
+			return (V)deserialize(_read(blocks));
+		}
+		catch (Exception e) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(e, e);
+			}
+
+			return null;
+		}
+	}
+
+	private void _release(int[] blocks) {
+		for (int i = 1; i < blocks.length; i++) {
+			_pushFreeBlock(blocks[i]);
+		}
+	}
+
+	private void _store(
+		K key, byte[] bytes, List<Map.Entry<K, V>> evictedEntries) {
+
+		int count = (bytes.length + _blockSize - 1) / _blockSize;
+
+		if (count > getBlockCount()) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Value for key " + key + " is larger than cache " + _name);
+			}
+
+			return;
+		}
+
+		while (!_allocate(count)) {
+			Set<Map.Entry<K, int[]>> entrySet = _entries.entrySet();
+
+			Iterator<Map.Entry<K, int[]>> iterator = entrySet.iterator();
+
+			Map.Entry<K, int[]> eldestEntry = iterator.next();
+
+			iterator.remove();
+
+			int[] eldestBlocks = eldestEntry.getValue();
+
+			evictedEntries.add(
+				new EvictedEntry<K, V>(
+					eldestEntry.getKey(), _readValue(eldestBlocks)));
+
+			_release(eldestBlocks);
+		}
+
+		int[] blocks = new int[count + 1];
+
+		blocks[0] = bytes.length;
+
+		int offset = 0;
+
+		for (int i = 1; i < blocks.length; i++) {
+			int block = _freeBlocks[--_freeBlockCount];
+
+			blocks[i] = block;
+
+			int length = Math.min(_blockSize, bytes.length - offset);
+
+			ByteBuffer slab = _slabs[block / _blocksPerSlab];
+
+			slab.position((block % _blocksPerSlab) * _blockSize);
+
+			slab.put(bytes, offset, length);
+
+			offset += length;
+		}
+
+		_entries.put(key, blocks);
+	}
+
+	private static final byte _TYPE_CACHE_MODEL = 1;
+
+	private static final byte _TYPE_SERIALIZABLE = 0;
+
+	private static Log _log = LogFactoryUtil.getLog(OffHeapPortalCache.class);
+
+	private int _allocatedSlabCount;
+	private final int _blockSize;
+	private final int _blocksPerSlab;
+	private final Set<CacheListener<K, V>> _cacheListeners =
+		new ConcurrentHashSet<CacheListener<K, V>>();
+	private final Map<K, int[]> _entries = new LinkedHashMap<K, int[]>(
+		16, 0.75F, true);
+	private int _freeBlockCount;
+	private int[] _freeBlocks;
+	private final Lock _lock = new ReentrantLock();
+	private final String _name;
+	private final boolean _replicate;
+	private final ByteBuffer[] _slabs;
+
+	private static class EvictedEntry<K, V> implements Map.Entry<K, V> {
+
+		public EvictedEntry(K key, V value) {
+			_key = key;
+			_value = value;
+		}
+
+		public K getKey() {
+			return _key;
+		}
+
+		public V getValue() {
+			return _value;
+		}
+
+		public V setValue(V value) {
+			throw new UnsupportedOperationException();
+		}
+
+		private final K _key;
+		private final V _value;
+
+	}
+
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.cache.transactional.TransactionalPortalCache;
+import com.liferay.portal.dao.orm.common.EntityCacheImpl;
+import com.liferay.portal.dao.orm.common.FinderCacheImpl;
+import com.liferay.portal.kernel.cache.BlockingPortalCache;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.PortalCacheManager;
+import com.liferay.portal.util.PropsValues;
+
+import java.io.Serializable;
+
+import java.net.URL;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author agent
+ */
+public class OffHeapPortalCacheManager<K extends Serializable, V>
+	implements PortalCacheManager<K, V> {
+
+	public OffHeapPortalCache<K, V> addCache(String name, long maxBytes) {
+		if (maxBytes <= 0) {
+			maxBytes = _defaultMaxBytes;
+		}
+
+		OffHeapPortalCache<K, V> offHeapPortalCache =
+			new OffHeapPortalCache<K, V>(
+				name, maxBytes, _blockSize, _slabSize, _replicate);
+
+		OffHeapPortalCache<K, V> previousOffHeapPortalCache =
+			_offHeapPortalCaches.putIfAbsent(name, offHeapPortalCache);
+
+		if (previousOffHeapPortalCache != null) {
+			return previousOffHeapPortalCache;
+		}
+
+		return offHeapPortalCache;
+	}
+
+	public void clearAll() {
+		for (OffHeapPortalCache<K, V> offHeapPortalCache :
+				_offHeapPortalCaches.values()) {
+
+			offHeapPortalCache.removeAll();
+		}
+	}
+
+	public void destroy() {
+		for (OffHeapPortalCache<K, V> offHeapPortalCache :
+				_offHeapPortalCaches.values()) {
+
+			offHeapPortalCache.destroy();
+		}
+
+		_offHeapPortalCaches.clear();
+	}
+
+	public PortalCache<K, V> getCache(String name) {
+		return getCache(name, false);
+	}
+
+	public PortalCache<K, V> getCache(String name, boolean blocking) {
+		PortalCache<K, V> portalCache = _offHeapPortalCaches.get(name);
+
+		if (portalCache == null) {
+			portalCache = addCache(name, _defaultMaxBytes);
+		}
+
+		if (PropsValues.TRANSACTIONAL_CACHE_ENABLED &&
+			(name.startsWith(EntityCacheImpl.CACHE_NAME) ||
+			 name.startsWith(FinderCacheImpl.CACHE_NAME))) {
+
+			portalCache = new TransactionalPortalCache<K, V>(portalCache);
+		}
+
+		if (PropsValues.EHCACHE_BLOCKING_CACHE_ALLOWED && blocking) {
+			portalCache = new BlockingPortalCache<K, V>(portalCache);
+		}
+
+		return portalCache;
+	}
+
+	public OffHeapPortalCache<K, V> getOffHeapPortalCache(String name) {
+		return _offHeapPortalCaches.get(name);
+	}
+
+	public void reconfigureCaches(URL configurationURL) {
+	}
+
+	public void removeCache(String name) {
+		OffHeapPortalCache<K, V> offHeapPortalCache =
+			_offHeapPortalCaches.remove(name);
+
+		if (offHeapPortalCache != null) {
+			offHeapPortalCache.destroy();
+		}
+	}
+
+	public void setBlockSize(int blockSize) {
+		_blockSize = blockSize;
+	}
+
+	public void setDefaultMaxBytes(long defaultMaxBytes) {
+		_defaultMaxBytes = defaultMaxBytes;
+	}
+
+	public void setReplicate(boolean replicate) {
+		_replicate = replicate;
+	}
+
+	public void setSlabSize(int slabSize) {
+		_slabSize = slabSize;
+	}
+
+	private int _blockSize = 256;
+	private long _defaultMaxBytes = 64 * 1024 * 1024;
+	private ConcurrentMap<String, OffHeapPortalCache<K, V>>
+		_offHeapPortalCaches =
+			new ConcurrentHashMap<String, OffHeapPortalCache<K, V>>();
+	private boolean _replicate;
+	private int _slabSize = 4 * 1024 * 1024;
+
+}
@@ -24,6 +24,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Shuyang Zhou
@@ -40,6 +41,10 @@ public class TransactionalPortalCache<K extends Serializable, V>
 	}
 
 	public Collection<V> get(Collection<K> keys) {
+		if (!TransactionalPortalCacheHelper.isEnabled()) {
+			return _portalCache.get(keys);
+		}
+
 		List<V> values = new ArrayList<V>(keys.size());
 
 		for (K key : keys) {
@@ -101,6 +106,17 @@ public class TransactionalPortalCache<K extends Serializable, V>
 		}
 	}
 
+	public void putAll(Map<K, V> map) {
+		if (TransactionalPortalCacheHelper.isEnabled()) {
+			for (Map.Entry<K, V> entry : map.entrySet()) {
+				put(entry.getKey(), entry.getValue());
+			}
+		}
+		else {
+			_portalCache.putAll(map);
+		}
+	}
+
 	public void registerCacheListener(CacheListener<K, V> cacheListener) {
 		_portalCache.registerCacheListener(cacheListener);
 	}
@@ -128,6 +144,16 @@ public class TransactionalPortalCache<K extends Serializable, V>
 		_portalCache.removeAll();
 	}
 
+	public void removeAll(Collection<K> keys) {
+		if (TransactionalPortalCacheHelper.isEnabled()) {
+			for (K key : keys) {
+				TransactionalPortalCacheHelper.remove(_portalCache, key);
+			}
+		}
+
+		_portalCache.removeAll(keys);
+	}
+
 	public void unregisterCacheListener(CacheListener<K, V> cacheListener) {
 		_portalCache.unregisterCacheListener(cacheListener);
 	}
@@ -53,16 +53,10 @@ public class TransactionalPortalCacheHelper {
 			PortalCache<Serializable, Object> portalCache =
 				(PortalCache<Serializable, Object>)portalCacheMapEntry.getKey();
 
-			Map<? extends Serializable, ?> uncommittedMap =
-				portalCacheMapEntry.getValue();
+			Map<Serializable, Object> uncommittedMap =
+				(Map<Serializable, Object>)portalCacheMapEntry.getValue();
 
-			for (Map.Entry<? extends Serializable, ?> uncommittedMapEntry :
-					uncommittedMap.entrySet()) {
-
-				portalCache.put(
-					uncommittedMapEntry.getKey(),
-					uncommittedMapEntry.getValue());
-			}
+			portalCache.putAll(uncommittedMap);
 		}
 
 		portalCacheMap.clear();
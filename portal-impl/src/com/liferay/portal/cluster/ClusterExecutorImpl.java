@@ -141,7 +141,8 @@ public class ClusterExecutorImpl
 
 		if (clusterRequest.isMulticast()) {
 			try {
-				_controlJChannel.send(null, clusterRequest);
+				_controlJChannel.send(
+					ClusterMessageCodec.encode(null, clusterRequest));
 			}
 			catch (Exception e) {
 				throw new SystemException(
@@ -154,7 +155,9 @@ public class ClusterExecutorImpl
 					(org.jgroups.Address)address.getRealAddress();
 
 				try {
-					_controlJChannel.send(jGroupsAddress, clusterRequest);
+					_controlJChannel.send(
+						ClusterMessageCodec.encode(
+							jGroupsAddress, clusterRequest));
 				}
 				catch (Exception e) {
 					throw new SystemException(
@@ -299,7 +302,8 @@ public class ClusterExecutorImpl
 			ClusterRequest clusterRequest = ClusterRequest.createClusterRequest(
 				ClusterMessageType.UPDATE, _localClusterNode);
 
-			_controlJChannel.send(null, clusterRequest);
+			_controlJChannel.send(
+				ClusterMessageCodec.encode(null, clusterRequest));
 		}
 		catch (Exception e) {
 			_log.error("Unable to determine configure node port", e);
@@ -529,7 +533,8 @@ public class ClusterExecutorImpl
 			ClusterMessageType.NOTIFY, _localClusterNode);
 
 		try {
-			_controlJChannel.send(null, clusterRequest);
+			_controlJChannel.send(
+				ClusterMessageCodec.encode(null, clusterRequest));
 		}
 		catch (Exception e) {
 			_log.error("Unable to send notify message", e);
@@ -41,9 +41,21 @@ public class ClusterForwardReceiver extends BaseReceiver {
 		if (!_localTransportAddresses.contains(message.getSrc()) ||
 			(message.getDest() != null)) {
 
-			_clusterForwardMessageListener.receive(
-				(com.liferay.portal.kernel.messaging.Message)
-					message.getObject());
+			com.liferay.portal.kernel.messaging.Message forwardedMessage =
+				null;
+
+			try {
+				forwardedMessage =
+					(com.liferay.portal.kernel.messaging.Message)
+						ClusterMessageCodec.decode(message);
+			}
+			catch (ClassNotFoundException cnfe) {
+				_log.error("Unable to decode forwarded message", cnfe);
+			}
+
+			if (forwardedMessage != null) {
+				_clusterForwardMessageListener.receive(forwardedMessage);
+			}
 		}
 		else {
 			if (_log.isDebugEnabled()) {
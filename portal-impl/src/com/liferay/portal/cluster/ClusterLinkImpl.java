@@ -82,7 +82,7 @@ public class ClusterLinkImpl extends ClusterBase implements ClusterLink {
 		JChannel jChannel = getChannel(priority);
 
 		try {
-			jChannel.send(null, message);
+			jChannel.send(ClusterMessageCodec.encode(null, message));
 		}
 		catch (Exception e) {
 			_log.error("Unable to send multicast message " + message, e);
@@ -102,7 +102,7 @@ public class ClusterLinkImpl extends ClusterBase implements ClusterLink {
 		JChannel jChannel = getChannel(priority);
 
 		try {
-			jChannel.send(jGroupsAddress, message);
+			jChannel.send(ClusterMessageCodec.encode(jGroupsAddress, message));
 		}
 		catch (Exception e) {
 			_log.error("Unable to send unicast message " + message, e);
@@ -0,0 +1,471 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cluster;
+
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventType;
+import com.liferay.portal.kernel.cluster.Address;
+import com.liferay.portal.kernel.cluster.ClusterMessageType;
+import com.liferay.portal.kernel.cluster.ClusterNode;
+import com.liferay.portal.kernel.cluster.ClusterRequest;
+import com.liferay.portal.kernel.io.Deserializer;
+import com.liferay.portal.kernel.io.Serializer;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.util.MethodHandler;
+import com.liferay.portal.kernel.util.MethodKey;
+
+import java.io.Serializable;
+
+import java.nio.ByteBuffer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes cluster payloads into JGroups messages with {@link Serializer}
+ * rather than Java serialization.
+ *
+ * <p>
+ * Cluster requests, method handlers, messages and portal cache cluster events,
+ * single or batched, are written field by field with no class descriptors.
+ * Any other object, and any argument or cache key that is not a primitive
+ * wrapper or String, falls back to {@link
+ * Serializer#writeObject(Serializable)}. Received messages are decoded in
+ * place from the message's buffer.
+ * </p>
+ *
+ * <p>
+ * Every message starts with the version of the format. A message with another
+ * version, like one sent by a node that runs an incompatible release, is
+ * dropped instead of being misread.
+ * </p>
+ *
+ * @author agent
+ */
+public class ClusterMessageCodec {
+
+	public static Object decode(org.jgroups.Message jGroupsMessage)
+		throws ClassNotFoundException {
+
+		byte[] buffer = jGroupsMessage.getRawBuffer();
+
+		if (buffer == null) {
+			return null;
+		}
+
+		Deserializer deserializer = new Deserializer(
+			ByteBuffer.wrap(
+				buffer, jGroupsMessage.getOffset(),
+				jGroupsMessage.getLength()));
+
+		byte version = deserializer.readByte();
+
+		if (version != _VERSION) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Dropping cluster message with unsupported version " +
+						version);
+			}
+
+			return null;
+		}
+
+		byte type = deserializer.readByte();
+
+		if (type == _TYPE_CLUSTER_REQUEST) {
+			return readClusterRequest(deserializer);
+		}
+		else if (type == _TYPE_MESSAGE) {
+			return readMessage(deserializer);
+		}
+		else if (type == _TYPE_PORTAL_CACHE_CLUSTER_EVENT) {
+			return readPortalCacheClusterEvent(deserializer);
+		}
+		else {
+			return deserializer.readObject();
+		}
+	}
+
+	public static org.jgroups.Message encode(
+		org.jgroups.Address jGroupsAddress, Serializable serializable) {
+
+		Serializer serializer = new Serializer();
+
+		serializer.writeByte(_VERSION);
+
+		write(serializer, serializable);
+
+		ByteBuffer byteBuffer = serializer.toByteBuffer();
+
+		return new org.jgroups.Message(
+			jGroupsAddress, null, byteBuffer.array(),
+			byteBuffer.arrayOffset() + byteBuffer.position(),
+			byteBuffer.remaining());
+	}
+
+	protected static ClusterRequest readClusterRequest(
+			Deserializer deserializer)
+		throws ClassNotFoundException {
+
+		ClusterRequest clusterRequest = new ClusterRequest();
+
+		ClusterMessageType[] clusterMessageTypes = ClusterMessageType.values();
+
+		clusterRequest.setClusterMessageType(
+			clusterMessageTypes[deserializer.readByte()]);
+
+		clusterRequest.setFireAndForget(deserializer.readBoolean());
+		clusterRequest.setMulticast(deserializer.readBoolean());
+		clusterRequest.setSkipLocal(deserializer.readBoolean());
+		clusterRequest.setUuid(deserializer.<String>readObject());
+
+		if (deserializer.readBoolean()) {
+			clusterRequest.setMethodHandler(readMethodHandler(deserializer));
+		}
+
+		clusterRequest.setOriginatingClusterNode(
+			deserializer.<ClusterNode>readObject());
+
+		int size = deserializer.readInt();
+
+		if (size >= 0) {
+			Address[] addresses = new Address[size];
+
+			for (int i = 0; i < size; i++) {
+				addresses[i] = deserializer.readObject();
+			}
+
+			clusterRequest.addTargetClusterNodeAddresses(addresses);
+		}
+
+		size = deserializer.readInt();
+
+		if (size >= 0) {
+			String[] clusterNodeIds = new String[size];
+
+			for (int i = 0; i < size; i++) {
+				clusterNodeIds[i] = deserializer.readString();
+			}
+
+			clusterRequest.addTargetClusterNodeIds(clusterNodeIds);
+		}
+
+		return clusterRequest;
+	}
+
+	protected static Message readMessage(Deserializer deserializer)
+		throws ClassNotFoundException {
+
+		Message message = new Message();
+
+		message.setDestinationName(deserializer.<String>readObject());
+		message.setResponseDestinationName(deserializer.<String>readObject());
+		message.setResponseId(deserializer.<String>readObject());
+
+		byte type = deserializer.readByte();
+
+		if (type == _TYPE_PORTAL_CACHE_CLUSTER_EVENT) {
+			message.setPayload(readPortalCacheClusterEvent(deserializer));
+		}
+		else if (type == _TYPE_PORTAL_CACHE_CLUSTER_EVENTS) {
+			PortalCacheClusterEvent[] portalCacheClusterEvents =
+				new PortalCacheClusterEvent[deserializer.readInt()];
+
+			for (int i = 0; i < portalCacheClusterEvents.length; i++) {
+				portalCacheClusterEvents[i] = readPortalCacheClusterEvent(
+					deserializer);
+			}
+
+			message.setPayload(portalCacheClusterEvents);
+		}
+		else {
+			message.setPayload(deserializer.readObject());
+		}
+
+		int size = deserializer.readInt();
+
+		if (size >= 0) {
+			Map<String, Object> values = new HashMap<String, Object>();
+
+			for (int i = 0; i < size; i++) {
+				values.put(
+					deserializer.readString(), deserializer.readObject());
+			}
+
+			message.setValues(values);
+		}
+
+		return message;
+	}
+
+	protected static MethodHandler readMethodHandler(Deserializer deserializer)
+		throws ClassNotFoundException {
+
+		Class<?> declaringClass = deserializer.readObject();
+		String methodName = deserializer.readString();
+
+		Class<?>[] parameterTypes = new Class<?>[deserializer.readInt()];
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			parameterTypes[i] = deserializer.readObject();
+		}
+
+		Object[] arguments = new Object[deserializer.readInt()];
+
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = deserializer.readObject();
+		}
+
+		MethodKey methodKey = new MethodKey(
+			declaringClass, methodName, parameterTypes);
+
+		return new MethodHandler(methodKey, arguments);
+	}
+
+	protected static PortalCacheClusterEvent readPortalCacheClusterEvent(
+			Deserializer deserializer)
+		throws ClassNotFoundException {
+
+		String cacheName = deserializer.readString();
+
+		PortalCacheClusterEventType[] portalCacheClusterEventTypes =
+			PortalCacheClusterEventType.values();
+
+		PortalCacheClusterEventType portalCacheClusterEventType =
+			portalCacheClusterEventTypes[deserializer.readByte()];
+
+		Serializable elementKey = deserializer.readObject();
+		Serializable elementValue = deserializer.readObject();
+
+		PortalCacheClusterEvent portalCacheClusterEvent =
+			new PortalCacheClusterEvent(
+				cacheName, elementKey, elementValue,
+				portalCacheClusterEventType);
+
+		int size = deserializer.readInt();
+
+		for (int i = 0; i < size; i++) {
+			portalCacheClusterEvent.addElement(
+				deserializer.readObject(), deserializer.readObject());
+		}
+
+		return portalCacheClusterEvent;
+	}
+
+	protected static void write(
+		Serializer serializer, Serializable serializable) {
+
+		if (serializable instanceof ClusterRequest) {
+			serializer.writeByte(_TYPE_CLUSTER_REQUEST);
+
+			writeClusterRequest(serializer, (ClusterRequest)serializable);
+		}
+		else if (serializable instanceof Message) {
+			serializer.writeByte(_TYPE_MESSAGE);
+
+			writeMessage(serializer, (Message)serializable);
+		}
+		else if (serializable instanceof PortalCacheClusterEvent) {
+			serializer.writeByte(_TYPE_PORTAL_CACHE_CLUSTER_EVENT);
+
+			writePortalCacheClusterEvent(
+				serializer, (PortalCacheClusterEvent)serializable);
+		}
+		else {
+			serializer.writeByte(_TYPE_OBJECT);
+			serializer.writeObject(serializable);
+		}
+	}
+
+	protected static void writeClusterRequest(
+		Serializer serializer, ClusterRequest clusterRequest) {
+
+		ClusterMessageType clusterMessageType =
+			clusterRequest.getClusterMessageType();
+
+		serializer.writeByte((byte)clusterMessageType.ordinal());
+
+		serializer.writeBoolean(clusterRequest.isFireAndForget());
+		serializer.writeBoolean(clusterRequest.isMulticast());
+		serializer.writeBoolean(clusterRequest.isSkipLocal());
+		serializer.writeObject(clusterRequest.getUuid());
+
+		MethodHandler methodHandler = clusterRequest.getMethodHandler();
+
+		if (methodHandler == null) {
+			serializer.writeBoolean(false);
+		}
+		else {
+			serializer.writeBoolean(true);
+
+			writeMethodHandler(serializer, methodHandler);
+		}
+
+		serializer.writeObject(clusterRequest.getOriginatingClusterNode());
+
+		Collection<Address> addresses =
+			clusterRequest.getTargetClusterNodeAddresses();
+
+		if (addresses == null) {
+			serializer.writeInt(-1);
+		}
+		else {
+			serializer.writeInt(addresses.size());
+
+			for (Address address : addresses) {
+				serializer.writeObject(address);
+			}
+		}
+
+		Collection<String> clusterNodeIds =
+			clusterRequest.getTargetClusterNodeIds();
+
+		if (clusterNodeIds == null) {
+			serializer.writeInt(-1);
+		}
+		else {
+			serializer.writeInt(clusterNodeIds.size());
+
+			for (String clusterNodeId : clusterNodeIds) {
+				serializer.writeString(clusterNodeId);
+			}
+		}
+	}
+
+	protected static void writeMessage(Serializer serializer, Message message) {
+		serializer.writeObject(message.getDestinationName());
+		serializer.writeObject(message.getResponseDestinationName());
+		serializer.writeObject(message.getResponseId());
+
+		Object payload = message.getPayload();
+
+		if (payload instanceof PortalCacheClusterEvent) {
+			serializer.writeByte(_TYPE_PORTAL_CACHE_CLUSTER_EVENT);
+
+			writePortalCacheClusterEvent(
+				serializer, (PortalCacheClusterEvent)payload);
+		}
+		else if (payload instanceof PortalCacheClusterEvent[]) {
+			PortalCacheClusterEvent[] portalCacheClusterEvents =
+				(PortalCacheClusterEvent[])payload;
+
+			serializer.writeByte(_TYPE_PORTAL_CACHE_CLUSTER_EVENTS);
+			serializer.writeInt(portalCacheClusterEvents.length);
+
+			for (PortalCacheClusterEvent portalCacheClusterEvent :
+					portalCacheClusterEvents) {
+
+				writePortalCacheClusterEvent(
+					serializer, portalCacheClusterEvent);
+			}
+		}
+		else {
+			serializer.writeByte(_TYPE_OBJECT);
+			serializer.writeObject((Serializable)payload);
+		}
+
+		Map<String, Object> values = message.getValues();
+
+		if (values == null) {
+			serializer.writeInt(-1);
+		}
+		else {
+			serializer.writeInt(values.size());
+
+			for (Map.Entry<String, Object> entry : values.entrySet()) {
+				serializer.writeString(entry.getKey());
+				serializer.writeObject((Serializable)entry.getValue());
+			}
+		}
+	}
+
+	protected static void writeMethodHandler(
+		Serializer serializer, MethodHandler methodHandler) {
+
+		MethodKey methodKey = methodHandler.getMethodKey();
+
+		serializer.writeObject(methodKey.getDeclaringClass());
+		serializer.writeString(methodKey.getMethodName());
+
+		Class<?>[] parameterTypes = methodKey.getParameterTypes();
+
+		serializer.writeInt(parameterTypes.length);
+
+		for (Class<?> parameterType : parameterTypes) {
+			serializer.writeObject(parameterType);
+		}
+
+		Object[] arguments = methodHandler.getArguments();
+
+		serializer.writeInt(arguments.length);
+
+		for (Object argument : arguments) {
+			serializer.writeObject((Serializable)argument);
+		}
+	}
+
+	protected static void writePortalCacheClusterEvent(
+		Serializer serializer,
+		PortalCacheClusterEvent portalCacheClusterEvent) {
+
+		serializer.writeString(portalCacheClusterEvent.getCacheName());
+
+		PortalCacheClusterEventType portalCacheClusterEventType =
+			portalCacheClusterEvent.getEventType();
+
+		serializer.writeByte((byte)portalCacheClusterEventType.ordinal());
+
+		serializer.writeObject(
+			(Serializable)portalCacheClusterEvent.getElementKey());
+		serializer.writeObject(
+			(Serializable)portalCacheClusterEvent.getElementValue());
+
+		List<Object> elementKeys = portalCacheClusterEvent.getElementKeys();
+
+		if (elementKeys == null) {
+			serializer.writeInt(0);
+
+			return;
+		}
+
+		List<Object> elementValues = portalCacheClusterEvent.getElementValues();
+
+		serializer.writeInt(elementKeys.size());
+
+		for (int i = 0; i < elementKeys.size(); i++) {
+			serializer.writeObject((Serializable)elementKeys.get(i));
+			serializer.writeObject((Serializable)elementValues.get(i));
+		}
+	}
+
+	private static final byte _TYPE_CLUSTER_REQUEST = 1;
+
+	private static final byte _TYPE_MESSAGE = 2;
+
+	private static final byte _TYPE_OBJECT = 0;
+
+	private static final byte _TYPE_PORTAL_CACHE_CLUSTER_EVENT = 3;
+
+	private static final byte _TYPE_PORTAL_CACHE_CLUSTER_EVENTS = 4;
+
+	private static final byte _VERSION = 1;
+
+	private static Log _log = LogFactoryUtil.getLog(ClusterMessageCodec.class);
+
+}
@@ -59,7 +59,16 @@ public class ClusterRequestReceiver extends BaseReceiver {
 					"not be ready.");
 		}
 
-		Object obj = message.getObject();
+		Object obj = null;
+
+		try {
+			obj = ClusterMessageCodec.decode(message);
+		}
+		catch (ClassNotFoundException cnfe) {
+			_log.error("Unable to decode message content", cnfe);
+
+			return;
+		}
 
 		if (obj == null) {
 			if (_log.isWarnEnabled()) {
@@ -194,8 +203,9 @@ public class ClusterRequestReceiver extends BaseReceiver {
 
 		try {
 			channel.send(
-				(org.jgroups.Address)address.getRealAddress(),
-				clusterNodeResponse);
+				ClusterMessageCodec.encode(
+					(org.jgroups.Address)address.getRealAddress(),
+					clusterNodeResponse));
 		}
 		catch (Exception e) {
 			_log.error(
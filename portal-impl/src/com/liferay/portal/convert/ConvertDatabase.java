@@ -17,6 +17,7 @@ package com.liferay.portal.convert;
 import com.liferay.mail.model.CyrusUser;
 import com.liferay.mail.model.CyrusVirtual;
 import com.liferay.portal.events.StartupHelperUtil;
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
 import com.liferay.portal.kernel.dao.db.DB;
 import com.liferay.portal.kernel.dao.db.DBFactoryUtil;
 import com.liferay.portal.kernel.dao.jdbc.DataAccess;
@@ -26,6 +27,7 @@ import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.servlet.PluginContextListener;
 import com.liferay.portal.kernel.servlet.ServletContextPool;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Tuple;
@@ -36,17 +38,23 @@ import com.liferay.portal.spring.hibernate.DialectDetector;
 import com.liferay.portal.upgrade.util.Table;
 import com.liferay.portal.util.ClassLoaderUtil;
 import com.liferay.portal.util.MaintenanceUtil;
+import com.liferay.portal.util.PropsValues;
 import com.liferay.portal.util.ShutdownUtil;
 
 import java.lang.reflect.Field;
 
 import java.sql.Connection;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.ServletContext;
 
@@ -152,21 +160,67 @@ public class ConvertDatabase extends ConvertProcess {
 				_log.debug("Migrating database tables");
 			}
 
-			int i = 0;
+			int threadCount = Math.max(
+				PropsValues.UPGRADE_TABLE_COPY_TABLE_THREAD_COUNT, 1);
 
-			for (Tuple tuple : tableDetails.values()) {
-				if ((i > 0) && (i % (tableDetails.size() / 4) == 0)) {
-					MaintenanceUtil.appendStatus(
-						(i * 100 / tableDetails.size()) + "%");
+			Thread currentThread = Thread.currentThread();
+
+			ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+				threadCount, threadCount);
+
+			threadPoolExecutor.setThreadFactory(
+				new NamedThreadFactory(
+					ConvertDatabase.class.getName(), Thread.NORM_PRIORITY,
+					currentThread.getContextClassLoader()));
+
+			try {
+				List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+				for (Tuple tuple : tableDetails.values()) {
+					futures.add(
+						threadPoolExecutor.submit(
+							new MigrateTableCallable(db, dataSource, tuple)));
 				}
 
-				String table = (String)tuple.getObject(0);
-				Object[][] columns = (Object[][])tuple.getObject(1);
-				String sqlCreate = (String)tuple.getObject(2);
+				int i = 0;
+
+				for (Future<Void> future : futures) {
+					if ((i > 0) && (i % (futures.size() / 4) == 0)) {
+						MaintenanceUtil.appendStatus(
+							(i * 100 / futures.size()) + "%");
+					}
+
+					try {
+						future.get();
+					}
+					catch (ExecutionException ee) {
+						Throwable cause = ee.getCause();
+
+						if (cause instanceof Exception) {
+							throw (Exception)cause;
+						}
+
+						throw ee;
+					}
+
+					i++;
+				}
+			}
+			finally {
+				threadPoolExecutor.shutdownNow();
+
+				// Wait for the remaining tables so that none of them is still
+				// being copied once the migration has failed
+
+				while (!threadPoolExecutor.isTerminated()) {
+					threadPoolExecutor.awaitTermination(1, TimeUnit.MINUTES);
 
-				migrateTable(db, connection, table, columns, sqlCreate);
+					if (!threadPoolExecutor.isTerminated() &&
+						_log.isWarnEnabled()) {
 
-				i++;
+						_log.warn("Waiting for table migrations to stop");
+					}
+				}
 			}
 
 			if (_log.isDebugEnabled()) {
@@ -262,19 +316,24 @@ public class ConvertDatabase extends ConvertProcess {
 	}
 
 	protected void migrateTable(
-			DB db, Connection connection, String tableName, Object[][] columns,
+			DB db, DataSource dataSource, String tableName, Object[][] columns,
 			String sqlCreate)
 		throws Exception {
 
 		Table table = new Table(tableName, columns);
 
-		String tempFileName = table.generateTempFile();
+		table.setCreateSQL(sqlCreate);
 
-		db.runSQL(connection, sqlCreate);
+		Connection connection = dataSource.getConnection();
 
-		if (tempFileName != null) {
-			table.populateTable(tempFileName, connection);
+		try {
+			db.runSQL(connection, sqlCreate);
 		}
+		finally {
+			DataAccess.cleanUp(connection);
+		}
+
+		table.copyTable(dataSource);
 	}
 
 	private static final Tuple[] _UNMAPPED_TABLES = new Tuple[] {
@@ -288,4 +347,28 @@ public class ConvertDatabase extends ConvertProcess {
 
 	private static Log _log = LogFactoryUtil.getLog(ConvertDatabase.class);
 
-}
\ No newline at end of file
+	private class MigrateTableCallable implements Callable<Void> {
+
+		public MigrateTableCallable(DB db, DataSource dataSource, Tuple tuple) {
+			_db = db;
+			_dataSource = dataSource;
+			_tuple = tuple;
+		}
+
+		public Void call() throws Exception {
+			String table = (String)_tuple.getObject(0);
+			Object[][] columns = (Object[][])_tuple.getObject(1);
+			String sqlCreate = (String)_tuple.getObject(2);
+
+			migrateTable(_db, _dataSource, table, columns, sqlCreate);
+
+			return null;
+		}
+
+		private final DataSource _dataSource;
+		private final DB _db;
+		private final Tuple _tuple;
+
+	}
+
+}
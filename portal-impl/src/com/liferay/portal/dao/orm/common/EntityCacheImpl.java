@@ -18,6 +18,8 @@ import com.liferay.portal.kernel.cache.CacheRegistryItem;
 import com.liferay.portal.kernel.cache.CacheRegistryUtil;
 import com.liferay.portal.kernel.cache.MultiVMPool;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.RequestLocalCache;
+import com.liferay.portal.kernel.cache.RequestLocalCacheManager;
 import com.liferay.portal.kernel.dao.orm.EntityCache;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.dao.orm.SessionFactory;
@@ -25,7 +27,6 @@ import com.liferay.portal.kernel.dao.shard.ShardUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.security.pacl.DoPrivileged;
-import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.HashUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.BaseModel;
@@ -38,12 +39,16 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-import org.apache.commons.collections.map.LRUMap;
-
 /**
  * @author Brian Wing Shun Chan
  * @author Shuyang Zhou
@@ -77,7 +82,7 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 	public void clearLocalCache() {
 		if (_localCacheAvailable) {
-			_localCache.remove();
+			_localCache.removeAll();
 		}
 	}
 
@@ -96,16 +101,8 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 		Serializable result = null;
 
-		Map<Serializable, Serializable> localCache = null;
-
-		Serializable localCacheKey = null;
-
 		if (_localCacheAvailable) {
-			localCache = _localCache.get();
-
-			localCacheKey = _encodeLocalCacheKey(clazz, primaryKey);
-
-			result = localCache.get(localCacheKey);
+			result = _getLocalCacheResult(clazz, primaryKey);
 		}
 
 		if (result == null) {
@@ -121,13 +118,87 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 			}
 
 			if (_localCacheAvailable) {
-				localCache.put(localCacheKey, result);
+				_putLocalCacheResult(clazz, primaryKey, result);
 			}
 		}
 
 		return _toEntityModel(result);
 	}
 
+	public Map<Serializable, Serializable> getResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys) {
+
+		if (!PropsValues.VALUE_OBJECT_ENTITY_CACHE_ENABLED ||
+			!entityCacheEnabled || !CacheRegistryUtil.isActive() ||
+			primaryKeys.isEmpty()) {
+
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Serializable> results =
+			new HashMap<Serializable, Serializable>();
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>(
+			primaryKeys.size());
+
+		if (_localCacheAvailable) {
+			for (Serializable primaryKey : primaryKeys) {
+				Serializable result = _getLocalCacheResult(clazz, primaryKey);
+
+				if (result == null) {
+					uncachedPrimaryKeys.add(primaryKey);
+				}
+				else if (result != StringPool.BLANK) {
+					results.put(primaryKey, _toEntityModel(result));
+				}
+			}
+		}
+		else {
+			uncachedPrimaryKeys.addAll(primaryKeys);
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return results;
+		}
+
+		List<Serializable> cacheKeys = new ArrayList<Serializable>(
+			uncachedPrimaryKeys.size());
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			cacheKeys.add(_encodeCacheKey(primaryKey));
+		}
+
+		PortalCache<Serializable, Serializable> portalCache = _getPortalCache(
+			clazz.getName(), true);
+
+		Collection<Serializable> cacheResults = portalCache.get(cacheKeys);
+
+		if (cacheResults == null) {
+			return results;
+		}
+
+		Iterator<Serializable> iterator = cacheResults.iterator();
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			Serializable result = iterator.next();
+
+			if (result == null) {
+				result = StringPool.BLANK;
+			}
+
+			if (_localCacheAvailable) {
+				_putLocalCacheResult(clazz, primaryKey, result);
+			}
+
+			if (result != StringPool.BLANK) {
+				results.put(primaryKey, _toEntityModel(result));
+			}
+		}
+
+		return results;
+	}
+
 	public void invalidate() {
 		clearCache();
 	}
@@ -153,16 +224,8 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 		Serializable result = null;
 
-		Map<Serializable, Serializable> localCache = null;
-
-		Serializable localCacheKey = null;
-
 		if (_localCacheAvailable) {
-			localCache = _localCache.get();
-
-			localCacheKey = _encodeLocalCacheKey(clazz, primaryKey);
-
-			result = localCache.get(localCacheKey);
+			result = _getLocalCacheResult(clazz, primaryKey);
 		}
 
 		Serializable loadResult = null;
@@ -203,7 +266,7 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 			}
 
 			if (_localCacheAvailable) {
-				localCache.put(localCacheKey, result);
+				_putLocalCacheResult(clazz, primaryKey, result);
 			}
 		}
 
@@ -229,12 +292,7 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		result = ((BaseModel<?>)result).toCacheModel();
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Serializable> localCache = _localCache.get();
-
-			Serializable localCacheKey = _encodeLocalCacheKey(
-				clazz, primaryKey);
-
-			localCache.put(localCacheKey, result);
+			_putLocalCacheResult(clazz, primaryKey, result);
 		}
 
 		PortalCache<Serializable, Serializable> portalCache = _getPortalCache(
@@ -245,6 +303,46 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		portalCache.put(cacheKey, result);
 	}
 
+	public void putResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Map<Serializable, ? extends Serializable> results) {
+
+		if (!PropsValues.VALUE_OBJECT_ENTITY_CACHE_ENABLED ||
+			!entityCacheEnabled || !CacheRegistryUtil.isActive() ||
+			results.isEmpty()) {
+
+			return;
+		}
+
+		Map<Serializable, Serializable> cacheResults =
+			new HashMap<Serializable, Serializable>();
+
+		for (Map.Entry<Serializable, ? extends Serializable> entry :
+				results.entrySet()) {
+
+			Serializable result = entry.getValue();
+
+			if (result == null) {
+				continue;
+			}
+
+			result = ((BaseModel<?>)result).toCacheModel();
+
+			Serializable primaryKey = entry.getKey();
+
+			if (_localCacheAvailable) {
+				_putLocalCacheResult(clazz, primaryKey, result);
+			}
+
+			cacheResults.put(_encodeCacheKey(primaryKey), result);
+		}
+
+		PortalCache<Serializable, Serializable> portalCache = _getPortalCache(
+			clazz.getName(), true);
+
+		portalCache.putAll(cacheResults);
+	}
+
 	public void removeCache(String className) {
 		_portalCaches.remove(className);
 
@@ -263,12 +361,7 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		}
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Serializable> localCache = _localCache.get();
-
-			Serializable localCacheKey = _encodeLocalCacheKey(
-				clazz, primaryKey);
-
-			localCache.remove(localCacheKey);
+			_removeLocalCacheResult(clazz, primaryKey);
 		}
 
 		PortalCache<Serializable, Serializable> portalCache = _getPortalCache(
@@ -279,6 +372,34 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		portalCache.remove(cacheKey);
 	}
 
+	public void removeResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys) {
+
+		if (!PropsValues.VALUE_OBJECT_ENTITY_CACHE_ENABLED ||
+			!entityCacheEnabled || !CacheRegistryUtil.isActive() ||
+			primaryKeys.isEmpty()) {
+
+			return;
+		}
+
+		List<Serializable> cacheKeys = new ArrayList<Serializable>(
+			primaryKeys.size());
+
+		for (Serializable primaryKey : primaryKeys) {
+			if (_localCacheAvailable) {
+				_removeLocalCacheResult(clazz, primaryKey);
+			}
+
+			cacheKeys.add(_encodeCacheKey(primaryKey));
+		}
+
+		PortalCache<Serializable, Serializable> portalCache = _getPortalCache(
+			clazz.getName(), true);
+
+		portalCache.removeAll(cacheKeys);
+	}
+
 	public void setMultiVMPool(MultiVMPool multiVMPool) {
 		_multiVMPool = multiVMPool;
 	}
@@ -294,6 +415,16 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 			ShardUtil.getCurrentShardName(), clazz.getName(), primaryKey);
 	}
 
+	private Serializable _getLocalCacheResult(
+		Class<?> clazz, Serializable primaryKey) {
+
+		if ((primaryKey instanceof Long) && !ShardUtil.isEnabled()) {
+			return _localCache.get(clazz, (Long)primaryKey);
+		}
+
+		return _localCache.get(_encodeLocalCacheKey(clazz, primaryKey));
+	}
+
 	private PortalCache<Serializable, Serializable> _getPortalCache(
 		String className, boolean createIfAbsent) {
 
@@ -318,6 +449,28 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		return portalCache;
 	}
 
+	private void _putLocalCacheResult(
+		Class<?> clazz, Serializable primaryKey, Serializable result) {
+
+		if ((primaryKey instanceof Long) && !ShardUtil.isEnabled()) {
+			_localCache.put(clazz, (Long)primaryKey, result);
+		}
+		else {
+			_localCache.put(_encodeLocalCacheKey(clazz, primaryKey), result);
+		}
+	}
+
+	private void _removeLocalCacheResult(
+		Class<?> clazz, Serializable primaryKey) {
+
+		if ((primaryKey instanceof Long) && !ShardUtil.isEnabled()) {
+			_localCache.remove(clazz, (Long)primaryKey);
+		}
+		else {
+			_localCache.remove(_encodeLocalCacheKey(clazz, primaryKey));
+		}
+	}
+
 	private Serializable _toEntityModel(Serializable result) {
 		if (result == StringPool.BLANK) {
 			return null;
@@ -338,16 +491,14 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 	private static Log _log = LogFactoryUtil.getLog(EntityCacheImpl.class);
 
-	private static ThreadLocal<LRUMap> _localCache;
+	private static RequestLocalCache<Serializable> _localCache;
 	private static boolean _localCacheAvailable;
 
 	static {
 		if (PropsValues.VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE > 0) {
-			_localCache = new AutoResetThreadLocal<LRUMap>(
-				EntityCacheImpl.class + "._localCache",
-				new LRUMap(
-					PropsValues.
-						VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE));
+			_localCache = RequestLocalCacheManager.getRequestLocalCache(
+				CACHE_NAME,
+				PropsValues.VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE);
 			_localCacheAvailable = true;
 		}
 	}
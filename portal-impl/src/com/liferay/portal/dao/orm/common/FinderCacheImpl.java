@@ -18,27 +18,33 @@ import com.liferay.portal.kernel.cache.CacheRegistryItem;
 import com.liferay.portal.kernel.cache.CacheRegistryUtil;
 import com.liferay.portal.kernel.cache.MultiVMPool;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.RequestLocalCache;
+import com.liferay.portal.kernel.cache.RequestLocalCacheManager;
 import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCache;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.SessionFactory;
+import com.liferay.portal.kernel.dao.shard.ShardUtil;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.security.pacl.DoPrivileged;
-import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.service.persistence.BasePersistence;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-import org.apache.commons.collections.map.LRUMap;
-
 /**
  * @author Brian Wing Shun Chan
  * @author Shuyang Zhou
@@ -72,7 +78,7 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 	public void clearLocalCache() {
 		if (_localCacheAvailable) {
-			_localCache.remove();
+			_localCache.removeAll();
 		}
 	}
 
@@ -92,16 +98,8 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 		Serializable primaryKey = null;
 
-		Map<Serializable, Serializable> localCache = null;
-
-		Serializable localCacheKey = null;
-
 		if (_localCacheAvailable) {
-			localCache = _localCache.get();
-
-			localCacheKey = finderPath.encodeLocalCacheKey(args);
-
-			primaryKey = localCache.get(localCacheKey);
+			primaryKey = _getLocalCacheResult(finderPath, args);
 		}
 
 		if (primaryKey == null) {
@@ -114,7 +112,7 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 			if (primaryKey != null) {
 				if (_localCacheAvailable) {
-					localCache.put(localCacheKey, primaryKey);
+					_putLocalCacheResult(finderPath, args, primaryKey);
 				}
 			}
 		}
@@ -143,11 +141,7 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		Serializable primaryKey = _resultToPrimaryKey((Serializable)result);
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Serializable> localCache = _localCache.get();
-
-			Serializable localCacheKey = finderPath.encodeLocalCacheKey(args);
-
-			localCache.put(localCacheKey, primaryKey);
+			_putLocalCacheResult(finderPath, args, primaryKey);
 		}
 
 		PortalCache<Serializable, Serializable> portalCache = _getPortalCache(
@@ -175,11 +169,7 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		}
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Serializable> localCache = _localCache.get();
-
-			Serializable localCacheKey = finderPath.encodeLocalCacheKey(args);
-
-			localCache.remove(localCacheKey);
+			_removeLocalCacheResult(finderPath, args);
 		}
 
 		PortalCache<Serializable, Serializable> portalCache = _getPortalCache(
@@ -194,6 +184,16 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		_multiVMPool = multiVMPool;
 	}
 
+	private Serializable _getLocalCacheResult(
+		FinderPath finderPath, Object[] args) {
+
+		if (_isLongLocalCacheKey(args)) {
+			return _localCache.get(finderPath, (Long)args[0]);
+		}
+
+		return _localCache.get(finderPath.encodeLocalCacheKey(args));
+	}
+
 	private PortalCache<Serializable, Serializable> _getPortalCache(
 		String className, boolean createIfAbsent) {
 
@@ -218,6 +218,16 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		return portalCache;
 	}
 
+	private boolean _isLongLocalCacheKey(Object[] args) {
+		if ((args.length == 1) && (args[0] instanceof Long) &&
+			!ShardUtil.isEnabled()) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	private Serializable _primaryKeyToResult(
 		FinderPath finderPath, SessionFactory sessionFactory,
 		Serializable primaryKey) {
@@ -229,6 +239,14 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 				return (Serializable)Collections.emptyList();
 			}
 
+			if ((cachedList.size() > 1) &&
+				BaseModel.class.isAssignableFrom(finderPath.getResultClass()) &&
+				(sessionFactory instanceof BasePersistence<?>)) {
+
+				return _primaryKeysToResult(
+					cachedList, (BasePersistence<?>)sessionFactory);
+			}
+
 			List<Serializable> list = new ArrayList<Serializable>(
 				cachedList.size());
 
@@ -253,6 +271,64 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		}
 	}
 
+	private Serializable _primaryKeysToResult(
+		List<Serializable> primaryKeys, BasePersistence<?> basePersistence) {
+
+		Set<Serializable> primaryKeysSet = new HashSet<Serializable>(
+			primaryKeys);
+
+		Map<Serializable, ? extends BaseModel<?>> map = null;
+
+		try {
+			map = basePersistence.fetchByPrimaryKeys(primaryKeysSet);
+		}
+		catch (SystemException se) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to fetch " + primaryKeysSet.size() +
+						" cached primary keys",
+					se);
+			}
+
+			return null;
+		}
+
+		List<Serializable> list = new ArrayList<Serializable>(
+			primaryKeys.size());
+
+		for (Serializable primaryKey : primaryKeys) {
+			Serializable result = map.get(primaryKey);
+
+			if (result == null) {
+				return null;
+			}
+
+			list.add(result);
+		}
+
+		return (Serializable)list;
+	}
+
+	private void _putLocalCacheResult(
+		FinderPath finderPath, Object[] args, Serializable primaryKey) {
+
+		if (_isLongLocalCacheKey(args)) {
+			_localCache.put(finderPath, (Long)args[0], primaryKey);
+		}
+		else {
+			_localCache.put(finderPath.encodeLocalCacheKey(args), primaryKey);
+		}
+	}
+
+	private void _removeLocalCacheResult(FinderPath finderPath, Object[] args) {
+		if (_isLongLocalCacheKey(args)) {
+			_localCache.remove(finderPath, (Long)args[0]);
+		}
+		else {
+			_localCache.remove(finderPath.encodeLocalCacheKey(args));
+		}
+	}
+
 	private Serializable _resultToPrimaryKey(Serializable result) {
 		if (result instanceof BaseModel<?>) {
 			BaseModel<?> model = (BaseModel<?>)result;
@@ -285,16 +361,16 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	private static final String _GROUP_KEY_PREFIX = CACHE_NAME.concat(
 		StringPool.PERIOD);
 
-	private static ThreadLocal<LRUMap> _localCache;
+	private static Log _log = LogFactoryUtil.getLog(FinderCacheImpl.class);
+
+	private static RequestLocalCache<Serializable> _localCache;
 	private static boolean _localCacheAvailable;
 
 	static {
 		if (PropsValues.VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE > 0) {
-			_localCache = new AutoResetThreadLocal<LRUMap>(
-				FinderCacheImpl.class + "._localCache",
-				new LRUMap(
-					PropsValues.
-						VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE));
+			_localCache = RequestLocalCacheManager.getRequestLocalCache(
+				CACHE_NAME,
+				PropsValues.VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE);
 			_localCacheAvailable = true;
 		}
 	}
@@ -23,6 +23,7 @@ import com.liferay.portal.kernel.template.TemplateConstants;
 import com.liferay.portal.kernel.template.TemplateResourceLoaderUtil;
 import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.service.ThemeLocalServiceUtil;
+import com.liferay.portal.servlet.filters.dynamiccss.DynamicCSSUtil;
 import com.liferay.portal.util.ClassLoaderUtil;
 
 import java.util.HashMap;
@@ -93,6 +94,8 @@ public class ThemeHotDeployListener extends BaseHotDeployListener {
 
 		_themeIds.put(servletContextName, themeIds);
 
+		DynamicCSSUtil.precompileThemes(servletContext, themeIds);
+
 		if (_log.isInfoEnabled()) {
 			if (themeIds.size() == 1) {
 				_log.info(
@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.staging.LayoutStagingUtil;
 import com.liferay.portal.service.LayoutRevisionLocalServiceUtil;
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portlet.PortletFragmentCacheUtil;
 
 /**
  * @author Alexander Chow
@@ -70,6 +71,8 @@ public class LayoutListener extends BaseModelListener<Layout> {
 		if (!layout.isPrivateLayout()) {
 			CacheUtil.clearCache(layout.getCompanyId());
 		}
+
+		PortletFragmentCacheUtil.clearGroupCache(layout.getGroupId());
 	}
 
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.liferay.portal.service.persistence.LayoutRevisionUtil;
 import com.liferay.portal.service.persistence.LayoutUtil;
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
 import com.liferay.portal.util.PortletKeys;
+import com.liferay.portlet.PortletFragmentCacheUtil;
 
 import java.util.Date;
 
@@ -72,6 +73,15 @@ public class PortletPreferencesListener
 		catch (Exception e) {
 			CacheUtil.clearCache();
 		}
+
+		if (portletPreferences.getPlid() > 0) {
+			PortletFragmentCacheUtil.clearCache(
+				portletPreferences.getPlid(),
+				portletPreferences.getPortletId());
+		}
+		else {
+			PortletFragmentCacheUtil.clearCache();
+		}
 	}
 
 	protected void updateLayout(PortletPreferences portletPreferences) {
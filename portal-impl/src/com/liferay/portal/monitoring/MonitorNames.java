@@ -24,6 +24,8 @@ public interface MonitorNames {
 
 	public static final String PORTLET = "com.liferay.monitoring.Portlet";
 
+	public static final String SEARCH = "com.liferay.monitoring.Search";
+
 	public static final String SERVICE = "com.liferay.monitoring.Service";
 
 }
\ No newline at end of file
@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portal.kernel.cache.cluster.BaseBatchingPortalCacheClusterChannel;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannel;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLink;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
+import com.liferay.portal.kernel.monitoring.statistics.HistogramStatistics;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reports on the channels that replicate cache events over the cluster link.
+ * Batch latencies are in microseconds, from the first event of a batch until
+ * the batch is sent.
+ *
+ * @author agent
+ */
+public class PortalCacheClusterStatisticsManager
+	implements PortalCacheClusterStatisticsManagerMBean {
+
+	public long getBatchCount() {
+		HistogramStatistics histogramStatistics = _getBatchSizeStatistics();
+
+		return histogramStatistics.getCount();
+	}
+
+	public long[] getBatchLatencyHistogram() {
+		HistogramStatistics histogramStatistics = _getBatchLatencyStatistics();
+
+		return histogramStatistics.getBucketCounts();
+	}
+
+	public long getBatchLatencyPercentile(double percentile) {
+		HistogramStatistics histogramStatistics = _getBatchLatencyStatistics();
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public long[] getBatchSizeHistogram() {
+		HistogramStatistics histogramStatistics = _getBatchSizeStatistics();
+
+		return histogramStatistics.getBucketCounts();
+	}
+
+	public long getBatchSizePercentile(double percentile) {
+		HistogramStatistics histogramStatistics = _getBatchSizeStatistics();
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public long getCoalescedEventCount() {
+		long coalescedEventCount = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_getPortalCacheClusterChannels()) {
+
+			coalescedEventCount +=
+				portalCacheClusterChannel.getCoalescedEventNumber();
+		}
+
+		return coalescedEventCount;
+	}
+
+	public long[] getHistogramBucketUpperBounds() {
+		return HistogramStatistics.getBucketUpperBounds();
+	}
+
+	public long getPendingEventCount() {
+		long pendingEventCount = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_getPortalCacheClusterChannels()) {
+
+			pendingEventCount +=
+				portalCacheClusterChannel.getPendingEventNumber();
+		}
+
+		return pendingEventCount;
+	}
+
+	public long getRemoveAllCount() {
+		long removeAllCount = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_getPortalCacheClusterChannels()) {
+
+			if (portalCacheClusterChannel instanceof
+					BaseBatchingPortalCacheClusterChannel) {
+
+				BaseBatchingPortalCacheClusterChannel
+					baseBatchingPortalCacheClusterChannel =
+						(BaseBatchingPortalCacheClusterChannel)
+							portalCacheClusterChannel;
+
+				removeAllCount +=
+					baseBatchingPortalCacheClusterChannel.getRemoveAllNumber();
+			}
+		}
+
+		return removeAllCount;
+	}
+
+	public long getSentEventCount() {
+		long sentEventCount = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_getPortalCacheClusterChannels()) {
+
+			sentEventCount += portalCacheClusterChannel.getSentEventNumber();
+		}
+
+		return sentEventCount;
+	}
+
+	public long getSubmittedEventCount() {
+		return PortalCacheClusterLinkUtil.getSubmittedEventNumber();
+	}
+
+	public void resetStatistics() {
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_getPortalCacheClusterChannels()) {
+
+			if (portalCacheClusterChannel instanceof
+					BaseBatchingPortalCacheClusterChannel) {
+
+				BaseBatchingPortalCacheClusterChannel
+					baseBatchingPortalCacheClusterChannel =
+						(BaseBatchingPortalCacheClusterChannel)
+							portalCacheClusterChannel;
+
+				HistogramStatistics batchLatencyStatistics =
+					baseBatchingPortalCacheClusterChannel.
+						getBatchLatencyStatistics();
+
+				batchLatencyStatistics.reset();
+
+				HistogramStatistics batchSizeStatistics =
+					baseBatchingPortalCacheClusterChannel.
+						getBatchSizeStatistics();
+
+				batchSizeStatistics.reset();
+			}
+		}
+	}
+
+	private HistogramStatistics _getBatchLatencyStatistics() {
+		HistogramStatistics histogramStatistics = new HistogramStatistics(
+			"batchLatency");
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_getPortalCacheClusterChannels()) {
+
+			if (portalCacheClusterChannel instanceof
+					BaseBatchingPortalCacheClusterChannel) {
+
+				BaseBatchingPortalCacheClusterChannel
+					baseBatchingPortalCacheClusterChannel =
+						(BaseBatchingPortalCacheClusterChannel)
+							portalCacheClusterChannel;
+
+				histogramStatistics.merge(
+					baseBatchingPortalCacheClusterChannel.
+						getBatchLatencyStatistics());
+			}
+		}
+
+		return histogramStatistics;
+	}
+
+	private HistogramStatistics _getBatchSizeStatistics() {
+		HistogramStatistics histogramStatistics = new HistogramStatistics(
+			"batchSize");
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_getPortalCacheClusterChannels()) {
+
+			if (portalCacheClusterChannel instanceof
+					BaseBatchingPortalCacheClusterChannel) {
+
+				BaseBatchingPortalCacheClusterChannel
+					baseBatchingPortalCacheClusterChannel =
+						(BaseBatchingPortalCacheClusterChannel)
+							portalCacheClusterChannel;
+
+				histogramStatistics.merge(
+					baseBatchingPortalCacheClusterChannel.
+						getBatchSizeStatistics());
+			}
+		}
+
+		return histogramStatistics;
+	}
+
+	private List<PortalCacheClusterChannel> _getPortalCacheClusterChannels() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			PortalCacheClusterLinkUtil.getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return Collections.emptyList();
+		}
+
+		List<PortalCacheClusterChannel> portalCacheClusterChannels =
+			portalCacheClusterLink.getPortalCacheClusterChannels();
+
+		if (portalCacheClusterChannels == null) {
+			return Collections.emptyList();
+		}
+
+		return portalCacheClusterChannels;
+	}
+
+}
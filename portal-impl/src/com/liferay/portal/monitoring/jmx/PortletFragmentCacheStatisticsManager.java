@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portlet.PortletFragmentCacheUtil;
+
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class PortletFragmentCacheStatisticsManager
+	implements PortletFragmentCacheStatisticsManagerMBean {
+
+	public long getHitCount(String portletId) {
+		return PortletFragmentCacheUtil.getHitCount(portletId);
+	}
+
+	public double getHitRatio(String portletId) {
+		long hitCount = PortletFragmentCacheUtil.getHitCount(portletId);
+
+		long totalCount =
+			hitCount + PortletFragmentCacheUtil.getMissCount(portletId);
+
+		if (totalCount == 0) {
+			return 0;
+		}
+
+		return (double)hitCount / totalCount;
+	}
+
+	public long getMissCount(String portletId) {
+		return PortletFragmentCacheUtil.getMissCount(portletId);
+	}
+
+	public String[] getPortletIds() {
+		List<String> portletIds = PortletFragmentCacheUtil.getPortletIds();
+
+		return portletIds.toArray(new String[portletIds.size()]);
+	}
+
+	public void resetStatistics() {
+		PortletFragmentCacheUtil.resetStatistics();
+	}
+
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+/**
+ * @author agent
+ */
+public interface PortletFragmentCacheStatisticsManagerMBean {
+
+	public long getHitCount(String portletId);
+
+	public double getHitRatio(String portletId);
+
+	public long getMissCount(String portletId);
+
+	public String[] getPortletIds();
+
+	public void resetStatistics();
+
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portal.kernel.cache.RequestLocalCache;
+import com.liferay.portal.kernel.cache.RequestLocalCacheManager;
+import com.liferay.portal.kernel.monitoring.MonitoringException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class RequestLocalCacheStatisticsManager
+	implements RequestLocalCacheStatisticsManagerMBean {
+
+	public double getAverageHitCount(String cacheName)
+		throws MonitoringException {
+
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		long requestCount = requestLocalCache.getRequestCount();
+
+		if (requestCount == 0) {
+			return 0;
+		}
+
+		return (double)requestLocalCache.getHitCount() / requestCount;
+	}
+
+	public double getAverageMissCount(String cacheName)
+		throws MonitoringException {
+
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		long requestCount = requestLocalCache.getRequestCount();
+
+		if (requestCount == 0) {
+			return 0;
+		}
+
+		return (double)requestLocalCache.getMissCount() / requestCount;
+	}
+
+	public String[] getCacheNames() {
+		Collection<RequestLocalCache<?>> requestLocalCaches =
+			RequestLocalCacheManager.getRequestLocalCaches();
+
+		List<String> cacheNames = new ArrayList<String>(
+			requestLocalCaches.size());
+
+		for (RequestLocalCache<?> requestLocalCache : requestLocalCaches) {
+			cacheNames.add(requestLocalCache.getName());
+		}
+
+		Collections.sort(cacheNames);
+
+		return cacheNames.toArray(new String[cacheNames.size()]);
+	}
+
+	public long getEvictionCount(String cacheName) throws MonitoringException {
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		return requestLocalCache.getEvictionCount();
+	}
+
+	public long getHitCount(String cacheName) throws MonitoringException {
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		return requestLocalCache.getHitCount();
+	}
+
+	public double getHitRatio(String cacheName) throws MonitoringException {
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		long hitCount = requestLocalCache.getHitCount();
+
+		long totalCount = hitCount + requestLocalCache.getMissCount();
+
+		if (totalCount == 0) {
+			return 0;
+		}
+
+		return (double)hitCount / totalCount;
+	}
+
+	public int getMaxSize(String cacheName) throws MonitoringException {
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		return requestLocalCache.getMaxSize();
+	}
+
+	public long getMissCount(String cacheName) throws MonitoringException {
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		return requestLocalCache.getMissCount();
+	}
+
+	public long getRequestCount(String cacheName) throws MonitoringException {
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		return requestLocalCache.getRequestCount();
+	}
+
+	public void resetStatistics() {
+		for (RequestLocalCache<?> requestLocalCache :
+				RequestLocalCacheManager.getRequestLocalCaches()) {
+
+			requestLocalCache.resetStatistics();
+		}
+	}
+
+	public void resetStatistics(String cacheName) throws MonitoringException {
+		RequestLocalCache<?> requestLocalCache = _getRequestLocalCache(
+			cacheName);
+
+		requestLocalCache.resetStatistics();
+	}
+
+	private RequestLocalCache<?> _getRequestLocalCache(String cacheName)
+		throws MonitoringException {
+
+		RequestLocalCache<?> requestLocalCache =
+			RequestLocalCacheManager.getRequestLocalCache(cacheName);
+
+		if (requestLocalCache == null) {
+			throw new MonitoringException(
+				"No request local cache exists with name " + cacheName);
+		}
+
+		return requestLocalCache;
+	}
+
+}
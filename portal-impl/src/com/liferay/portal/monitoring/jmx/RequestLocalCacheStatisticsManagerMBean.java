@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portal.kernel.monitoring.MonitoringException;
+
+/**
+ * @author agent
+ */
+public interface RequestLocalCacheStatisticsManagerMBean {
+
+	public double getAverageHitCount(String cacheName)
+		throws MonitoringException;
+
+	public double getAverageMissCount(String cacheName)
+		throws MonitoringException;
+
+	public String[] getCacheNames();
+
+	public long getEvictionCount(String cacheName) throws MonitoringException;
+
+	public long getHitCount(String cacheName) throws MonitoringException;
+
+	public double getHitRatio(String cacheName) throws MonitoringException;
+
+	public int getMaxSize(String cacheName) throws MonitoringException;
+
+	public long getMissCount(String cacheName) throws MonitoringException;
+
+	public long getRequestCount(String cacheName) throws MonitoringException;
+
+	public void resetStatistics();
+
+	public void resetStatistics(String cacheName) throws MonitoringException;
+
+}
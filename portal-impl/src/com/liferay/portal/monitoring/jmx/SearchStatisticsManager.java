@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portal.kernel.monitoring.statistics.HistogramStatistics;
+import com.liferay.portal.monitoring.statistics.search.SearchPhase;
+import com.liferay.portal.monitoring.statistics.search.SearchRequestDataSample;
+import com.liferay.portal.monitoring.statistics.search.SearchStatistics;
+import com.liferay.portal.search.lucene.IndexAccessorImpl;
+import com.liferay.portal.search.lucene.LuceneIndexSearcher;
+
+/**
+ * Reports on Lucene searches, index commits, and segment merges. Times are in
+ * microseconds.
+ *
+ * @author agent
+ */
+public class SearchStatisticsManager implements SearchStatisticsManagerMBean {
+
+	public double getAverageCommitTime() {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getCommitTimeStatistics();
+
+		return histogramStatistics.getAverage();
+	}
+
+	public double getAveragePhaseTime(String phase) {
+		HistogramStatistics histogramStatistics = _getPhaseTimeStatistics(
+			phase);
+
+		return histogramStatistics.getAverage();
+	}
+
+	public double getAverageSearchTime() {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getSearchTimeStatistics();
+
+		return histogramStatistics.getAverage();
+	}
+
+	public long getCommitBatchSizePercentile(double percentile) {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getCommitBatchSizeStatistics();
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public long getCommitCount() {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getCommitTimeStatistics();
+
+		return histogramStatistics.getCount();
+	}
+
+	public long[] getCommitTimeHistogram() {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getCommitTimeStatistics();
+
+		return histogramStatistics.getBucketCounts();
+	}
+
+	public long getCommitTimePercentile(double percentile) {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getCommitTimeStatistics();
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public long getErrorCount() {
+		return _searchStatistics.getErrorCount();
+	}
+
+	public long[] getHistogramBucketUpperBounds() {
+		return HistogramStatistics.getBucketUpperBounds();
+	}
+
+	public long getMergeCount() {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getMergeTimeStatistics();
+
+		return histogramStatistics.getCount();
+	}
+
+	public long getMergeDocCountPercentile(double percentile) {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getMergeDocCountStatistics();
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public long getMergeTimePercentile(double percentile) {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getMergeTimeStatistics();
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public String[] getPhases() {
+		SearchPhase[] searchPhases = SearchPhase.values();
+
+		String[] phases = new String[searchPhases.length];
+
+		for (int i = 0; i < searchPhases.length; i++) {
+			phases[i] = searchPhases[i].name();
+		}
+
+		return phases;
+	}
+
+	public long[] getPhaseTimeHistogram(String phase) {
+		HistogramStatistics histogramStatistics = _getPhaseTimeStatistics(
+			phase);
+
+		return histogramStatistics.getBucketCounts();
+	}
+
+	public long getPhaseTimePercentile(String phase, double percentile) {
+		HistogramStatistics histogramStatistics = _getPhaseTimeStatistics(
+			phase);
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public long getSearchCount() {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getSearchTimeStatistics();
+
+		return histogramStatistics.getCount();
+	}
+
+	public long[] getSearchTimeHistogram() {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getSearchTimeStatistics();
+
+		return histogramStatistics.getBucketCounts();
+	}
+
+	public long getSearchTimePercentile(double percentile) {
+		HistogramStatistics histogramStatistics =
+			_searchStatistics.getSearchTimeStatistics();
+
+		return histogramStatistics.getPercentile(percentile);
+	}
+
+	public String getSlowestSearch() {
+		SearchRequestDataSample searchRequestDataSample =
+			_searchStatistics.getSlowestSearchRequestDataSample();
+
+		if (searchRequestDataSample == null) {
+			return null;
+		}
+
+		return searchRequestDataSample.toString();
+	}
+
+	public boolean isMonitoringIndexWriter() {
+		return IndexAccessorImpl.isMonitoringIndexWriter();
+	}
+
+	public boolean isMonitoringSearchRequest() {
+		return LuceneIndexSearcher.isMonitoringSearchRequest();
+	}
+
+	public void resetStatistics() {
+		_searchStatistics.reset();
+	}
+
+	public void setMonitoringIndexWriter(boolean monitoringIndexWriter) {
+		IndexAccessorImpl.setMonitoringIndexWriter(monitoringIndexWriter);
+	}
+
+	public void setMonitoringSearchRequest(boolean monitoringSearchRequest) {
+		LuceneIndexSearcher.setMonitoringSearchRequest(monitoringSearchRequest);
+	}
+
+	public void setSearchStatistics(SearchStatistics searchStatistics) {
+		_searchStatistics = searchStatistics;
+	}
+
+	private HistogramStatistics _getPhaseTimeStatistics(String phase) {
+		return _searchStatistics.getPhaseTimeStatistics(
+			SearchPhase.valueOf(phase));
+	}
+
+	private SearchStatistics _searchStatistics;
+
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+/**
+ * @author agent
+ */
+public interface SearchStatisticsManagerMBean {
+
+	public double getAverageCommitTime();
+
+	public double getAveragePhaseTime(String phase);
+
+	public double getAverageSearchTime();
+
+	public long getCommitBatchSizePercentile(double percentile);
+
+	public long getCommitCount();
+
+	public long[] getCommitTimeHistogram();
+
+	public long getCommitTimePercentile(double percentile);
+
+	public long getErrorCount();
+
+	public long[] getHistogramBucketUpperBounds();
+
+	public long getMergeCount();
+
+	public long getMergeDocCountPercentile(double percentile);
+
+	public long getMergeTimePercentile(double percentile);
+
+	public String[] getPhases();
+
+	public long[] getPhaseTimeHistogram(String phase);
+
+	public long getPhaseTimePercentile(String phase, double percentile);
+
+	public long getSearchCount();
+
+	public long[] getSearchTimeHistogram();
+
+	public long getSearchTimePercentile(double percentile);
+
+	public String getSlowestSearch();
+
+	public boolean isMonitoringIndexWriter();
+
+	public boolean isMonitoringSearchRequest();
+
+	public void resetStatistics();
+
+	public void setMonitoringIndexWriter(boolean monitoringIndexWriter);
+
+	public void setMonitoringSearchRequest(boolean monitoringSearchRequest);
+
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.statistics.search;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.monitoring.MonitorNames;
+import com.liferay.portal.monitoring.statistics.BaseDataSample;
+
+/**
+ * @author agent
+ */
+public class IndexCommitDataSample extends BaseDataSample {
+
+	public IndexCommitDataSample(
+		long companyId, int batchSize, long commitTime) {
+
+		setCompanyId(companyId);
+		setNamespace(MonitorNames.SEARCH);
+
+		_batchSize = batchSize;
+		_commitTime = commitTime;
+	}
+
+	public int getBatchSize() {
+		return _batchSize;
+	}
+
+	/**
+	 * Returns the commit time in microseconds.
+	 */
+	public long getCommitTime() {
+		return _commitTime;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(7);
+
+		sb.append("{batchSize=");
+		sb.append(_batchSize);
+		sb.append(", commitTime=");
+		sb.append(_commitTime);
+		sb.append(", ");
+		sb.append(super.toString());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	private int _batchSize;
+	private long _commitTime;
+
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.statistics.search;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.monitoring.MonitorNames;
+import com.liferay.portal.monitoring.statistics.BaseDataSample;
+
+/**
+ * @author agent
+ */
+public class IndexMergeDataSample extends BaseDataSample {
+
+	public IndexMergeDataSample(
+		long companyId, int segmentCount, int docCount, long mergeTime) {
+
+		setCompanyId(companyId);
+		setNamespace(MonitorNames.SEARCH);
+
+		_segmentCount = segmentCount;
+		_docCount = docCount;
+		_mergeTime = mergeTime;
+	}
+
+	public int getDocCount() {
+		return _docCount;
+	}
+
+	/**
+	 * Returns the merge time in microseconds.
+	 */
+	public long getMergeTime() {
+		return _mergeTime;
+	}
+
+	public int getSegmentCount() {
+		return _segmentCount;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(9);
+
+		sb.append("{docCount=");
+		sb.append(_docCount);
+		sb.append(", mergeTime=");
+		sb.append(_mergeTime);
+		sb.append(", segmentCount=");
+		sb.append(_segmentCount);
+		sb.append(", ");
+		sb.append(super.toString());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	private int _docCount;
+	private long _mergeTime;
+	private int _segmentCount;
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.statistics.search;
+
+import com.liferay.portal.kernel.monitoring.RequestStatus;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.monitoring.MonitorNames;
+import com.liferay.portal.monitoring.statistics.BaseDataSample;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of one search. Phases may be entered several times, for
+ * example once per loaded hit, and their times add up. Times are reported in
+ * microseconds.
+ *
+ * @author agent
+ */
+public class SearchRequestDataSample extends BaseDataSample {
+
+	public SearchRequestDataSample(long companyId) {
+		setCompanyId(companyId);
+		setNamespace(MonitorNames.SEARCH);
+	}
+
+	@Override
+	public void capture(RequestStatus requestStatus) {
+		super.capture(requestStatus);
+
+		_searchTime = TimeUnit.NANOSECONDS.toMicros(
+			System.nanoTime() - _startTime);
+	}
+
+	public void endPhase(SearchPhase searchPhase) {
+		_phaseTimes[searchPhase.ordinal()] +=
+			System.nanoTime() - _phaseStartTime;
+	}
+
+	public int getHitCount() {
+		return _hitCount;
+	}
+
+	public long getPhaseTime(SearchPhase searchPhase) {
+		return TimeUnit.NANOSECONDS.toMicros(
+			_phaseTimes[searchPhase.ordinal()]);
+	}
+
+	/**
+	 * Returns the time between {@link #prepare()} and {@link
+	 * #capture(RequestStatus)}.
+	 */
+	public long getSearchTime() {
+		return _searchTime;
+	}
+
+	@Override
+	public void prepare() {
+		super.prepare();
+
+		_startTime = System.nanoTime();
+	}
+
+	public void setHitCount(int hitCount) {
+		_hitCount = hitCount;
+	}
+
+	public void startPhase(SearchPhase searchPhase) {
+		_phaseStartTime = System.nanoTime();
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(9);
+
+		sb.append("{hitCount=");
+		sb.append(_hitCount);
+		sb.append(", phaseTimes=");
+		sb.append(Arrays.toString(_phaseTimes));
+		sb.append(", searchTime=");
+		sb.append(_searchTime);
+		sb.append(", ");
+		sb.append(super.toString());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	private int _hitCount;
+	private transient long _phaseStartTime;
+	private long[] _phaseTimes = new long[SearchPhase.values().length];
+	private long _searchTime;
+	private transient long _startTime;
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.statistics.search;
+
+import com.liferay.portal.kernel.monitoring.RequestStatus;
+import com.liferay.portal.kernel.monitoring.statistics.DataSample;
+import com.liferay.portal.kernel.monitoring.statistics.DataSampleProcessor;
+import com.liferay.portal.kernel.monitoring.statistics.HistogramStatistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregates search and index writer data samples into histograms. Times are
+ * in microseconds.
+ *
+ * @author agent
+ */
+public class SearchStatistics implements DataSampleProcessor<DataSample> {
+
+	public SearchStatistics() {
+		SearchPhase[] searchPhases = SearchPhase.values();
+
+		_phaseTimeStatistics = new HistogramStatistics[searchPhases.length];
+
+		for (SearchPhase searchPhase : searchPhases) {
+			_phaseTimeStatistics[searchPhase.ordinal()] =
+				new HistogramStatistics(searchPhase.name());
+		}
+	}
+
+	public HistogramStatistics getCommitBatchSizeStatistics() {
+		return _commitBatchSizeStatistics;
+	}
+
+	public HistogramStatistics getCommitTimeStatistics() {
+		return _commitTimeStatistics;
+	}
+
+	public long getErrorCount() {
+		return _errorCount.get();
+	}
+
+	public HistogramStatistics getHitCountStatistics() {
+		return _hitCountStatistics;
+	}
+
+	public HistogramStatistics getMergeDocCountStatistics() {
+		return _mergeDocCountStatistics;
+	}
+
+	public HistogramStatistics getMergeTimeStatistics() {
+		return _mergeTimeStatistics;
+	}
+
+	public HistogramStatistics getPhaseTimeStatistics(SearchPhase searchPhase) {
+		return _phaseTimeStatistics[searchPhase.ordinal()];
+	}
+
+	public HistogramStatistics getSearchTimeStatistics() {
+		return _searchTimeStatistics;
+	}
+
+	public SearchRequestDataSample getSlowestSearchRequestDataSample() {
+		return _slowestSearchRequestDataSample;
+	}
+
+	public void processDataSample(DataSample dataSample) {
+		if (dataSample instanceof SearchRequestDataSample) {
+			processSearchRequestDataSample(
+				(SearchRequestDataSample)dataSample);
+		}
+		else if (dataSample instanceof IndexCommitDataSample) {
+			IndexCommitDataSample indexCommitDataSample =
+				(IndexCommitDataSample)dataSample;
+
+			_commitBatchSizeStatistics.add(
+				indexCommitDataSample.getBatchSize());
+			_commitTimeStatistics.add(indexCommitDataSample.getCommitTime());
+		}
+		else if (dataSample instanceof IndexMergeDataSample) {
+			IndexMergeDataSample indexMergeDataSample =
+				(IndexMergeDataSample)dataSample;
+
+			_mergeDocCountStatistics.add(indexMergeDataSample.getDocCount());
+			_mergeTimeStatistics.add(indexMergeDataSample.getMergeTime());
+		}
+	}
+
+	public void reset() {
+		_commitBatchSizeStatistics.reset();
+		_commitTimeStatistics.reset();
+		_errorCount.set(0);
+		_hitCountStatistics.reset();
+		_mergeDocCountStatistics.reset();
+		_mergeTimeStatistics.reset();
+
+		for (HistogramStatistics histogramStatistics : _phaseTimeStatistics) {
+			histogramStatistics.reset();
+		}
+
+		_searchTimeStatistics.reset();
+		_slowestSearchRequestDataSample = null;
+	}
+
+	protected void processSearchRequestDataSample(
+		SearchRequestDataSample searchRequestDataSample) {
+
+		if (searchRequestDataSample.getRequestStatus() ==
+				RequestStatus.ERROR) {
+
+			_errorCount.incrementAndGet();
+
+			return;
+		}
+
+		_hitCountStatistics.add(searchRequestDataSample.getHitCount());
+
+		for (SearchPhase searchPhase : SearchPhase.values()) {
+			HistogramStatistics histogramStatistics =
+				_phaseTimeStatistics[searchPhase.ordinal()];
+
+			histogramStatistics.add(
+				searchRequestDataSample.getPhaseTime(searchPhase));
+		}
+
+		long searchTime = searchRequestDataSample.getSearchTime();
+
+		_searchTimeStatistics.add(searchTime);
+
+		SearchRequestDataSample slowestSearchRequestDataSample =
+			_slowestSearchRequestDataSample;
+
+		if ((slowestSearchRequestDataSample == null) ||
+			(searchTime > slowestSearchRequestDataSample.getSearchTime())) {
+
+			_slowestSearchRequestDataSample = searchRequestDataSample;
+		}
+	}
+
+	private final HistogramStatistics _commitBatchSizeStatistics =
+		new HistogramStatistics("commitBatchSize");
+	private final HistogramStatistics _commitTimeStatistics =
+		new HistogramStatistics("commitTime");
+	private final AtomicLong _errorCount = new AtomicLong();
+	private final HistogramStatistics _hitCountStatistics =
+		new HistogramStatistics("hitCount");
+	private final HistogramStatistics _mergeDocCountStatistics =
+		new HistogramStatistics("mergeDocCount");
+	private final HistogramStatistics _mergeTimeStatistics =
+		new HistogramStatistics("mergeTime");
+	private final HistogramStatistics[] _phaseTimeStatistics;
+	private final HistogramStatistics _searchTimeStatistics =
+		new HistogramStatistics("searchTime");
+	private volatile SearchRequestDataSample _slowestSearchRequestDataSample;
+
+}
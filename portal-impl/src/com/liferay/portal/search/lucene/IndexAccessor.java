@@ -18,8 +18,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 
 /**
@@ -30,24 +35,49 @@ public interface IndexAccessor {
 
 	public static final long DEFAULT_LAST_GENERATION = -1;
 
+	public IndexSearcher acquireIndexSearcher() throws IOException;
+
 	public void addDocument(Document document) throws IOException;
 
+	public void addDocuments(Collection<Document> documents)
+		throws IOException;
+
+	public void beginReindex();
+
 	public void close();
 
+	public void commit() throws IOException;
+
 	public void delete();
 
 	public void deleteDocuments(Term term) throws IOException;
 
 	public void dumpIndex(OutputStream outputStream) throws IOException;
 
+	public void dumpIndexDelta(
+			OutputStream outputStream, Set<String> fingerprints)
+		throws IOException;
+
+	public void endReindex() throws IOException;
+
 	public long getCompanyId();
 
+	public Set<String> getFingerprints() throws IOException;
+
 	public long getLastGeneration();
 
 	public Directory getLuceneDir();
 
 	public void loadIndex(InputStream inputStream) throws IOException;
 
+	public void loadIndexDelta(InputStream inputStream) throws IOException;
+
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException;
+
 	public void updateDocument(Term term, Document document) throws IOException;
 
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException;
+
 }
\ No newline at end of file
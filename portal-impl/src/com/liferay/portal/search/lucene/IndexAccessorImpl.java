@@ -16,10 +16,14 @@ package com.liferay.portal.search.lucene;
 
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.DestinationNames;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.monitoring.statistics.search.IndexCommitDataSample;
+import com.liferay.portal.monitoring.statistics.search.IndexMergeDataSample;
 import com.liferay.portal.search.lucene.dump.DumpIndexDeletionPolicy;
 import com.liferay.portal.search.lucene.dump.IndexCommitSerializationUtil;
 import com.liferay.portal.util.ClassLoaderUtil;
@@ -30,26 +34,36 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.LimitTokenCountAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogMergePolicy;
 import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SearcherWarmer;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
@@ -73,6 +87,24 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_initCommitScheduler();
 	}
 
+	public static boolean isMonitoringIndexWriter() {
+		return _monitoringIndexWriter;
+	}
+
+	public static void setMonitoringIndexWriter(boolean monitoringIndexWriter) {
+		_monitoringIndexWriter = monitoringIndexWriter;
+	}
+
+	public IndexSearcher acquireIndexSearcher() throws IOException {
+		SearcherManager searcherManager = _getSearcherManager();
+
+		if (_indexSearcherStale) {
+			_reopenIndexSearcher(searcherManager);
+		}
+
+		return searcherManager.acquire();
+	}
+
 	public void addDocument(Document document) throws IOException {
 		if (SearchEngineUtil.isIndexReadOnly()) {
 			return;
@@ -81,7 +113,54 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_write(null, document);
 	}
 
+	public void addDocuments(Collection<Document> documents)
+		throws IOException {
+
+		if (SearchEngineUtil.isIndexReadOnly() || documents.isEmpty()) {
+			return;
+		}
+
+		try {
+			for (Document document : documents) {
+				_indexWriter.addDocument(document);
+
+				_batchCount++;
+			}
+		}
+		finally {
+			_commit();
+		}
+	}
+
+	public void beginReindex() {
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		if (_reindexCount.getAndIncrement() > 0) {
+			return;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Deferring commits for " + _companyId);
+		}
+
+		IndexWriterConfig indexWriterConfig = _indexWriter.getConfig();
+
+		indexWriterConfig.setRAMBufferSizeMB(
+			PropsValues.LUCENE_BUFFER_SIZE_REINDEX);
+	}
+
 	public void close() {
+		try {
+			if (_searcherManager != null) {
+				_searcherManager.close();
+			}
+		}
+		catch (Exception e) {
+			_log.error("Closing Lucene searcher failed for " + _companyId, e);
+		}
+
 		try {
 			_indexWriter.close();
 		}
@@ -90,6 +169,14 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void commit() throws IOException {
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		_doCommit();
+	}
+
 	public void delete() {
 		if (SearchEngineUtil.isIndexReadOnly()) {
 			return;
@@ -117,10 +204,60 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_dumpIndexDeletionPolicy.dump(outputStream, _indexWriter, _commitLock);
 	}
 
+	public void dumpIndexDelta(
+			OutputStream outputStream, Set<String> fingerprints)
+		throws IOException {
+
+		_dumpIndexDeletionPolicy.dumpDelta(
+			outputStream, _indexWriter, _commitLock, fingerprints);
+	}
+
+	public void endReindex() throws IOException {
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		int reindexCount = _reindexCount.decrementAndGet();
+
+		if (reindexCount < 0) {
+			_reindexCount.incrementAndGet();
+
+			return;
+		}
+		else if (reindexCount > 0) {
+			return;
+		}
+
+		IndexWriterConfig indexWriterConfig = _indexWriter.getConfig();
+
+		indexWriterConfig.setRAMBufferSizeMB(PropsValues.LUCENE_BUFFER_SIZE);
+
+		_doCommit();
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Committed deferred changes for " + _companyId);
+		}
+	}
+
 	public long getCompanyId() {
 		return _companyId;
 	}
 
+	public Set<String> getFingerprints() throws IOException {
+		IndexCommit indexCommit = _dumpIndexDeletionPolicy.acquireIndexCommit(
+			_indexWriter, _commitLock);
+
+		try {
+			Map<String, String> fingerprintFileNames =
+				_dumpIndexDeletionPolicy.getFingerprintFileNames(indexCommit);
+
+			return new HashSet<String>(fingerprintFileNames.keySet());
+		}
+		finally {
+			_dumpIndexDeletionPolicy.releaseIndexCommit(indexCommit);
+		}
+	}
+
 	public long getLastGeneration() {
 		return _dumpIndexDeletionPolicy.getLastGeneration();
 	}
@@ -190,6 +327,87 @@ public class IndexAccessorImpl implements IndexAccessor {
 		FileUtil.deltree(tempFile);
 	}
 
+	/**
+	 * Replaces the index with a delta dumped by a remote node. Segments the
+	 * remote node left out are copied from the local index, so only new
+	 * segments cross the network, and searchers keep serving the current
+	 * index until the replacement is committed.
+	 */
+	public void loadIndexDelta(InputStream inputStream) throws IOException {
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		File tempFile = FileUtil.createTempFile();
+
+		Directory tempDirectory = FSDirectory.open(tempFile);
+
+		try {
+			boolean loaded = false;
+
+			IndexCommit indexCommit =
+				_dumpIndexDeletionPolicy.acquireIndexCommit(
+					_indexWriter, _commitLock);
+
+			try {
+				loaded = IndexCommitSerializationUtil.deserializeIndexDelta(
+					inputStream, tempDirectory, indexCommit.getDirectory(),
+					_dumpIndexDeletionPolicy.getFingerprintFileNames(
+						indexCommit));
+			}
+			finally {
+				_dumpIndexDeletionPolicy.releaseIndexCommit(indexCommit);
+			}
+
+			_commitLock.lock();
+
+			try {
+				_indexWriter.deleteAll();
+
+				if (loaded) {
+					_indexWriter.addIndexes(tempDirectory);
+				}
+
+				_indexWriter.commit();
+			}
+			catch (IOException ioe) {
+
+				// Drop the uncommitted delete so that a later commit can not
+				// publish an empty index
+
+				_indexWriter.rollback();
+
+				_initIndexWriter();
+
+				throw ioe;
+			}
+			finally {
+				_commitLock.unlock();
+			}
+
+			_indexSearcherStale = true;
+
+			_batchCount = 0;
+		}
+		finally {
+			tempDirectory.close();
+
+			FileUtil.deltree(tempFile);
+		}
+	}
+
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException {
+
+		// Shared searchers and private searchers both hold one reference to
+		// their reader, so decrementing it either returns the shared reader
+		// or closes the private one
+
+		IndexReader indexReader = indexSearcher.getIndexReader();
+
+		indexReader.decRef();
+	}
+
 	public void updateDocument(Term term, Document document)
 		throws IOException {
 
@@ -204,6 +422,25 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_write(term, document);
 	}
 
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException {
+
+		if (SearchEngineUtil.isIndexReadOnly() || documents.isEmpty()) {
+			return;
+		}
+
+		try {
+			for (Map.Entry<Term, Document> entry : documents.entrySet()) {
+				_indexWriter.updateDocument(entry.getKey(), entry.getValue());
+
+				_batchCount++;
+			}
+		}
+		finally {
+			_commit();
+		}
+	}
+
 	private void _checkLuceneDir() {
 		if (SearchEngineUtil.isIndexReadOnly()) {
 			return;
@@ -222,6 +459,13 @@ public class IndexAccessorImpl implements IndexAccessor {
 	}
 
 	private void _commit() throws IOException {
+
+		// A running reindex commits once when it ends
+
+		if (_reindexCount.get() > 0) {
+			return;
+		}
+
 		if ((PropsValues.LUCENE_COMMIT_BATCH_SIZE == 0) ||
 			(PropsValues.LUCENE_COMMIT_BATCH_SIZE <= _batchCount)) {
 
@@ -261,6 +505,8 @@ public class IndexAccessorImpl implements IndexAccessor {
 			// Ensuring that all the changes has been applied to the index
 
 			_indexWriter.commit();
+
+			_indexSearcherStale = true;
 		}
 		catch (Exception e) {
 			if (_log.isWarnEnabled()) {
@@ -277,11 +523,24 @@ public class IndexAccessorImpl implements IndexAccessor {
 			_commitLock.lock();
 
 			try {
+				long startTime = System.nanoTime();
+
 				_indexWriter.commit();
+
+				if (_monitoringIndexWriter) {
+					MessageBusUtil.sendMessage(
+						DestinationNames.MONITORING,
+						new IndexCommitDataSample(
+							_companyId, _batchCount,
+							TimeUnit.NANOSECONDS.toMicros(
+								System.nanoTime() - startTime)));
+				}
 			}
 			finally {
 				_commitLock.unlock();
 			}
+
+			_indexSearcherStale = true;
 		}
 
 		_batchCount = 0;
@@ -346,6 +605,38 @@ public class IndexAccessorImpl implements IndexAccessor {
 		return mergePolicy;
 	}
 
+	private SearcherManager _getSearcherManager() throws IOException {
+		if (_searcherManager != null) {
+			return _searcherManager;
+		}
+
+		synchronized (this) {
+			if (_searcherManager == null) {
+				_indexSearcherStale = false;
+
+				SearcherManager searcherManager = new SearcherManager(
+					getLuceneDir(), _searcherWarmer, null);
+
+				// SearcherManager only warms the searchers it reopens
+
+				IndexSearcher indexSearcher = searcherManager.acquire();
+
+				try {
+					_searcherWarmer.warm(indexSearcher);
+				}
+				finally {
+					searcherManager.release(indexSearcher);
+				}
+
+				_lastReopenTime = System.currentTimeMillis();
+
+				_searcherManager = searcherManager;
+			}
+		}
+
+		return _searcherManager;
+	}
+
 	private String _getPath() {
 		return PropsValues.LUCENE_DIR.concat(String.valueOf(_companyId)).concat(
 			StringPool.SLASH);
@@ -365,7 +656,7 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 			public void run() {
 				try {
-					if (_batchCount > 0) {
+					if ((_batchCount > 0) && (_reindexCount.get() == 0)) {
 						_doCommit();
 					}
 				}
@@ -392,6 +683,7 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 			indexWriterConfig.setIndexDeletionPolicy(_dumpIndexDeletionPolicy);
 			indexWriterConfig.setMergePolicy(_getMergePolicy());
+			indexWriterConfig.setMergeScheduler(new MonitoringMergeScheduler());
 			indexWriterConfig.setRAMBufferSizeMB(
 				PropsValues.LUCENE_BUFFER_SIZE);
 
@@ -414,6 +706,31 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	private void _reopenIndexSearcher(SearcherManager searcherManager)
+		throws IOException {
+
+		long currentTime = System.currentTimeMillis();
+
+		if ((currentTime - _lastReopenTime) <
+				PropsValues.LUCENE_SEARCHER_MAX_STALENESS) {
+
+			return;
+		}
+
+		_indexSearcherStale = false;
+
+		if (searcherManager.maybeReopen()) {
+			_lastReopenTime = currentTime;
+		}
+		else {
+
+			// Another thread is reopening the searcher, check again on the
+			// next acquire
+
+			_indexSearcherStale = true;
+		}
+	}
+
 	private void _write(Term term, Document document) throws IOException {
 		try {
 			if (term != null) {
@@ -438,13 +755,56 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 	private static Log _log = LogFactoryUtil.getLog(IndexAccessorImpl.class);
 
+	private static boolean _monitoringIndexWriter =
+		PropsValues.MONITORING_INDEX_WRITER;
+
 	private volatile int _batchCount;
 	private Lock _commitLock = new ReentrantLock();
 	private long _companyId;
 	private DumpIndexDeletionPolicy _dumpIndexDeletionPolicy =
 		new DumpIndexDeletionPolicy();
+	private volatile boolean _indexSearcherStale;
 	private IndexWriter _indexWriter;
+	private volatile long _lastReopenTime;
 	private Map<String, Directory> _ramDirectories =
 		new ConcurrentHashMap<String, Directory>();
+	private AtomicInteger _reindexCount = new AtomicInteger();
+	private volatile SearcherManager _searcherManager;
+	private SearcherWarmer _searcherWarmer = new SearcherWarmer() {
+
+		public void warm(IndexSearcher indexSearcher) {
+			indexSearcher.setDefaultFieldSortScoring(true, true);
+			indexSearcher.setSimilarity(new FieldWeightSimilarity());
+		}
+
+	};
+
+	private class MonitoringMergeScheduler extends ConcurrentMergeScheduler {
+
+		@Override
+		protected void doMerge(MergePolicy.OneMerge oneMerge)
+			throws IOException {
+
+			if (!_monitoringIndexWriter) {
+				super.doMerge(oneMerge);
+
+				return;
+			}
+
+			long startTime = System.nanoTime();
+
+			super.doMerge(oneMerge);
+
+			List<SegmentInfo> segmentInfos = oneMerge.segments;
+
+			MessageBusUtil.sendMessage(
+				DestinationNames.MONITORING,
+				new IndexMergeDataSample(
+					_companyId, segmentInfos.size(), oneMerge.totalDocCount,
+					TimeUnit.NANOSECONDS.toMicros(
+						System.nanoTime() - startTime)));
+		}
+
+	}
 
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -42,6 +44,9 @@ public interface LuceneHelper {
 	public void addDocument(long companyId, Document document)
 		throws IOException;
 
+	public void addDocuments(long companyId, Collection<Document> documents)
+		throws IOException;
+
 	public void addExactTerm(
 		BooleanQuery booleanQuery, String field, String value);
 
@@ -69,6 +74,10 @@ public interface LuceneHelper {
 	public void addTerm(
 		BooleanQuery booleanQuery, String field, String[] values, boolean like);
 
+	public void beginReindex(long companyId);
+
+	public void commit(long companyId) throws IOException;
+
 	public int countScoredFieldNames(Query query, String[] fieldNames);
 
 	public void delete(long companyId);
@@ -78,14 +87,26 @@ public interface LuceneHelper {
 	public void dumpIndex(long companyId, OutputStream outputStream)
 		throws IOException;
 
+	public void dumpIndexDelta(
+			long companyId, OutputStream outputStream, Set<String> fingerprints)
+		throws IOException;
+
+	public void endReindex(long companyId) throws IOException;
+
 	public Analyzer getAnalyzer();
 
+	public long getCommitGeneration(long companyId);
+
 	public long getLastGeneration(long companyId);
 
 	public InputStream getLoadIndexesInputStreamFromCluster(
 			long companyId, Address bootupAddress)
 		throws SystemException;
 
+	public InputStream getLoadIndexesInputStreamFromCluster(
+			long companyId, Address bootupAddress, Set<String> fingerprints)
+		throws SystemException;
+
 	public Set<String> getQueryTerms(Query query);
 
 	public IndexSearcher getSearcher(long companyId, boolean readOnly)
@@ -105,6 +126,9 @@ public interface LuceneHelper {
 
 	public void loadIndexesFromCluster(long companyId) throws SystemException;
 
+	public void releaseSearcher(long companyId, IndexSearcher indexSearcher)
+		throws IOException;
+
 	public void shutdown();
 
 	public void startup(long companyId);
@@ -112,4 +136,7 @@ public interface LuceneHelper {
 	public void updateDocument(long companyId, Term term, Document document)
 		throws IOException;
 
+	public void updateDocuments(long companyId, Map<Term, Document> documents)
+		throws IOException;
+
 }
\ No newline at end of file
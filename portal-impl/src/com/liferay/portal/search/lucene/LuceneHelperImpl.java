@@ -61,6 +61,7 @@ import java.net.InetAddress;
 import java.net.URL;
 import java.net.URLConnection;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -111,6 +112,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 		indexAccessor.addDocument(document);
 	}
 
+	public void addDocuments(long companyId, Collection<Document> documents)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.addDocuments(documents);
+	}
+
 	public void addExactTerm(
 		BooleanQuery booleanQuery, String field, String value) {
 
@@ -252,6 +261,22 @@ public class LuceneHelperImpl implements LuceneHelper {
 		}
 	}
 
+	public void beginReindex(long companyId) {
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.beginReindex();
+	}
+
+	public void commit(long companyId) throws IOException {
+		IndexAccessor indexAccessor = _indexAccessors.get(companyId);
+
+		if (indexAccessor == null) {
+			return;
+		}
+
+		indexAccessor.commit();
+	}
+
 	public int countScoredFieldNames(Query query, String[] filedNames) {
 		int count = 0;
 
@@ -312,10 +337,54 @@ public class LuceneHelperImpl implements LuceneHelper {
 		indexAccessor.dumpIndex(outputStream);
 	}
 
+	public void dumpIndexDelta(
+			long companyId, OutputStream outputStream, Set<String> fingerprints)
+		throws IOException {
+
+		long lastGeneration = getLastGeneration(companyId);
+
+		if (lastGeneration == IndexAccessor.DEFAULT_LAST_GENERATION) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Dump index from cluster is not enabled for " + companyId);
+			}
+
+			return;
+		}
+
+		IndexAccessor indexAccessor = _indexAccessors.get(companyId);
+
+		if (indexAccessor == null) {
+			return;
+		}
+
+		indexAccessor.dumpIndexDelta(outputStream, fingerprints);
+	}
+
+	public void endReindex(long companyId) throws IOException {
+		IndexAccessor indexAccessor = _indexAccessors.get(companyId);
+
+		if (indexAccessor == null) {
+			return;
+		}
+
+		indexAccessor.endReindex();
+	}
+
 	public Analyzer getAnalyzer() {
 		return _analyzer;
 	}
 
+	public long getCommitGeneration(long companyId) {
+		IndexAccessor indexAccessor = _indexAccessors.get(companyId);
+
+		if (indexAccessor == null) {
+			return IndexAccessor.DEFAULT_LAST_GENERATION;
+		}
+
+		return indexAccessor.getLastGeneration();
+	}
+
 	public long getLastGeneration(long companyId) {
 		if (!isLoadIndexFromClusterEnabled()) {
 			return IndexAccessor.DEFAULT_LAST_GENERATION;
@@ -334,6 +403,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 			long companyId, Address bootupAddress)
 		throws SystemException {
 
+		return getLoadIndexesInputStreamFromCluster(
+			companyId, bootupAddress, null);
+	}
+
+	public InputStream getLoadIndexesInputStreamFromCluster(
+			long companyId, Address bootupAddress, Set<String> fingerprints)
+		throws SystemException {
+
 		if (!isLoadIndexFromClusterEnabled()) {
 			return null;
 		}
@@ -358,6 +435,11 @@ public class LuceneHelperImpl implements LuceneHelper {
 			unsyncPrintWriter.write("&companyId=");
 			unsyncPrintWriter.write(String.valueOf(companyId));
 
+			if (fingerprints != null) {
+				unsyncPrintWriter.write("&delta=true&fingerprints=");
+				unsyncPrintWriter.write(StringUtil.merge(fingerprints));
+			}
+
 			unsyncPrintWriter.close();
 
 			inputStream = urlConnection.getInputStream();
@@ -414,8 +496,12 @@ public class LuceneHelperImpl implements LuceneHelper {
 
 		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
 
+		if (readOnly) {
+			return indexAccessor.acquireIndexSearcher();
+		}
+
 		IndexReader indexReader = IndexReader.open(
-			indexAccessor.getLuceneDir(), readOnly);
+			indexAccessor.getLuceneDir(), false);
 
 		IndexSearcher indexSearcher = new IndexSearcher(indexReader);
 
@@ -530,6 +616,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 		_loadIndexFromCluster(indexAccessor, localLastGeneration);
 	}
 
+	public void releaseSearcher(long companyId, IndexSearcher indexSearcher)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.releaseIndexSearcher(indexSearcher);
+	}
+
 	public void setAnalyzer(Analyzer analyzer) {
 		_analyzer = analyzer;
 	}
@@ -597,6 +691,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 		indexAccessor.updateDocument(term, document);
 	}
 
+	public void updateDocuments(long companyId, Map<Term, Document> documents)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.updateDocuments(documents);
+	}
+
 	private LuceneHelperImpl() {
 		if (PropsValues.INDEX_ON_STARTUP && PropsValues.INDEX_WITH_THREAD) {
 			_luceneIndexThreadPoolExecutor =
@@ -960,20 +1062,61 @@ public class LuceneHelperImpl implements LuceneHelper {
 						bootupAddress);
 			}
 
+			if (PropsValues.INDEX_DUMP_DELTA_ENABLED &&
+				loadIndex(bootupAddress, true)) {
+
+				return;
+			}
+
+			loadIndex(bootupAddress, false);
+		}
+
+		@Override
+		public void processTimeoutException(TimeoutException timeoutException) {
+			_log.error(
+				"Uanble to load index for company " + _companyId,
+				timeoutException);
+		}
+
+		protected boolean loadIndex(Address bootupAddress, boolean delta) {
 			InputStream inputStream = null;
 
 			try {
-				inputStream = getLoadIndexesInputStreamFromCluster(
-					_companyId, bootupAddress);
+				if (delta) {
+					inputStream = getLoadIndexesInputStreamFromCluster(
+						_companyId, bootupAddress,
+						_indexAccessor.getFingerprints());
+
+					_indexAccessor.loadIndexDelta(inputStream);
+				}
+				else {
+					inputStream = getLoadIndexesInputStreamFromCluster(
+						_companyId, bootupAddress);
 
-				_indexAccessor.loadIndex(inputStream);
+					_indexAccessor.loadIndex(inputStream);
+				}
 
 				if (_log.isInfoEnabled()) {
 					_log.info("Lucene index files loaded successfully");
 				}
+
+				return true;
 			}
 			catch (Exception e) {
-				_log.error("Unable to load index for company " + _companyId, e);
+				if (delta) {
+					if (_log.isWarnEnabled()) {
+						_log.warn(
+							"Unable to load index delta for company " +
+								_companyId + ", loading the full index",
+							e);
+					}
+				}
+				else {
+					_log.error(
+						"Unable to load index for company " + _companyId, e);
+				}
+
+				return false;
 			}
 			finally {
 				if (inputStream != null) {
@@ -990,13 +1133,6 @@ public class LuceneHelperImpl implements LuceneHelper {
 			}
 		}
 
-		@Override
-		public void processTimeoutException(TimeoutException timeoutException) {
-			_log.error(
-				"Uanble to load index for company " + _companyId,
-				timeoutException);
-		}
-
 		private int _clusterNodeAddressesCount;
 		private long _companyId;
 		private IndexAccessor _indexAccessor;
@@ -23,7 +23,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -54,6 +56,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().addDocument(companyId, document);
 	}
 
+	public static void addDocuments(
+			long companyId, Collection<Document> documents)
+		throws IOException {
+
+		getLuceneHelper().addDocuments(companyId, documents);
+	}
+
 	public static void addExactTerm(
 		BooleanQuery booleanQuery, String field, boolean value) {
 
@@ -286,6 +295,14 @@ public class LuceneHelperUtil {
 		getLuceneHelper().addTerm(booleanQuery, field, values, like);
 	}
 
+	public static void beginReindex(long companyId) {
+		getLuceneHelper().beginReindex(companyId);
+	}
+
+	public static void commit(long companyId) throws IOException {
+		getLuceneHelper().commit(companyId);
+	}
+
 	public static int countScoredFieldNames(Query query, String[] fieldNames) {
 		return getLuceneHelper().countScoredFieldNames(query, fieldNames);
 	}
@@ -306,10 +323,26 @@ public class LuceneHelperUtil {
 		getLuceneHelper().dumpIndex(companyId, outputStream);
 	}
 
+	public static void dumpIndexDelta(
+			long companyId, OutputStream outputStream, Set<String> fingerprints)
+		throws IOException {
+
+		getLuceneHelper().dumpIndexDelta(
+			companyId, outputStream, fingerprints);
+	}
+
+	public static void endReindex(long companyId) throws IOException {
+		getLuceneHelper().endReindex(companyId);
+	}
+
 	public static Analyzer getAnalyzer() {
 		return getLuceneHelper().getAnalyzer();
 	}
 
+	public static long getCommitGeneration(long companyId) {
+		return getLuceneHelper().getCommitGeneration(companyId);
+	}
+
 	public static long getLastGeneration(long companyId) {
 		return getLuceneHelper().getLastGeneration(companyId);
 	}
@@ -322,6 +355,14 @@ public class LuceneHelperUtil {
 			companyId, bootupAddress);
 	}
 
+	public static InputStream getLoadIndexesInputStreamFromCluster(
+			long companyId, Address bootupAddress, Set<String> fingerprints)
+		throws SystemException {
+
+		return getLuceneHelper().getLoadIndexesInputStreamFromCluster(
+			companyId, bootupAddress, fingerprints);
+	}
+
 	public static LuceneHelper getLuceneHelper() {
 		return _luceneHelper;
 	}
@@ -382,6 +423,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().loadIndexesFromCluster(companyId);
 	}
 
+	public static void releaseSearcher(
+			long companyId, IndexSearcher indexSearcher)
+		throws IOException {
+
+		getLuceneHelper().releaseSearcher(companyId, indexSearcher);
+	}
+
 	public static void shutdown() {
 		getLuceneHelper().shutdown();
 	}
@@ -397,6 +445,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().updateDocument(companyId, term, document);
 	}
 
+	public static void updateDocuments(
+			long companyId, Map<Term, Document> documents)
+		throws IOException {
+
+		getLuceneHelper().updateDocuments(companyId, documents);
+	}
+
 	public void setLuceneHelper(LuceneHelper luceneHelper) {
 		_luceneHelper = luceneHelper;
 	}
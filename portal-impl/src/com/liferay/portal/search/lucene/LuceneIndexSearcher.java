@@ -34,6 +34,10 @@ import com.liferay.portal.kernel.json.JSONArray;
 import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.DestinationNames;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
+import com.liferay.portal.kernel.monitoring.RequestStatus;
+import com.liferay.portal.kernel.monitoring.statistics.DataSampleThreadLocal;
 import com.liferay.portal.kernel.search.BaseIndexSearcher;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
@@ -58,6 +62,8 @@ import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.monitoring.statistics.search.SearchPhase;
+import com.liferay.portal.monitoring.statistics.search.SearchRequestDataSample;
 import com.liferay.portal.search.BoboFacetCollector;
 import com.liferay.portal.util.PropsValues;
 
@@ -85,6 +91,16 @@ import org.apache.lucene.search.highlight.TokenGroup;
  */
 public class LuceneIndexSearcher extends BaseIndexSearcher {
 
+	public static boolean isMonitoringSearchRequest() {
+		return _monitoringSearchRequest;
+	}
+
+	public static void setMonitoringSearchRequest(
+		boolean monitoringSearchRequest) {
+
+		_monitoringSearchRequest = monitoringSearchRequest;
+	}
+
 	public Hits search(SearchContext searchContext, Query query)
 		throws SearchException {
 
@@ -99,10 +115,29 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 		BrowseRequest browseRequest = null;
 		Browsable browsable = null;
 
+		SearchRequestDataSample searchRequestDataSample = null;
+		RequestStatus requestStatus = RequestStatus.ERROR;
+
+		if (_monitoringSearchRequest) {
+			searchRequestDataSample = new SearchRequestDataSample(
+				searchContext.getCompanyId());
+
+			searchRequestDataSample.prepare();
+		}
+
 		try {
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.startPhase(
+					SearchPhase.ACQUIRE_SEARCHER);
+			}
+
 			indexSearcher = LuceneHelperUtil.getSearcher(
 				searchContext.getCompanyId(), true);
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.endPhase(SearchPhase.ACQUIRE_SEARCHER);
+			}
+
 			List<FacetHandler<?>> facetHandlers =
 				new ArrayList<FacetHandler<?>>();
 
@@ -166,9 +201,17 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 				}
 			}
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.startPhase(SearchPhase.FACET_SETUP);
+			}
+
 			BoboIndexReader boboIndexReader = BoboIndexReader.getInstance(
 				indexSearcher.getIndexReader(), facetHandlers);
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.endPhase(SearchPhase.FACET_SETUP);
+			}
+
 			SortField[] sortFields = new SortField[0];
 
 			Sort[] sorts = searchContext.getSorts();
@@ -213,8 +256,16 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 			long startTime = System.currentTimeMillis();
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.startPhase(SearchPhase.QUERY);
+			}
+
 			BrowseResult browseResult = browsable.browse(browseRequest);
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.endPhase(SearchPhase.QUERY);
+			}
+
 			BrowseHit[] browseHits = browseResult.getHits();
 
 			long endTime = System.currentTimeMillis();
@@ -223,7 +274,8 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 			hits = toHits(
 				indexSearcher, new HitDocs(browseHits), query, startTime,
-				searchTime, searchContext.getStart(), searchContext.getEnd());
+				searchTime, searchContext.getStart(), searchContext.getEnd(),
+				searchRequestDataSample);
 
 			Map<String, FacetAccessible> facetMap = browseResult.getFacetMap();
 
@@ -239,6 +291,8 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 				facet.setFacetCollector(facetCollector);
 			}
+
+			requestStatus = RequestStatus.SUCCESS;
 		}
 		catch (BooleanQuery.TooManyClauses tmc) {
 			int maxClauseCount = BooleanQuery.getMaxClauseCount();
@@ -248,8 +302,16 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 			try {
 				long startTime = System.currentTimeMillis();
 
+				if (searchRequestDataSample != null) {
+					searchRequestDataSample.startPhase(SearchPhase.QUERY);
+				}
+
 				BrowseResult result = browsable.browse(browseRequest);
 
+				if (searchRequestDataSample != null) {
+					searchRequestDataSample.endPhase(SearchPhase.QUERY);
+				}
+
 				BrowseHit[] browseHits = result.getHits();
 
 				long endTime = System.currentTimeMillis();
@@ -259,7 +321,7 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 				hits = toHits(
 					indexSearcher, new HitDocs(browseHits), query, startTime,
 					searchTime, searchContext.getStart(),
-					searchContext.getEnd());
+					searchContext.getEnd(), searchRequestDataSample);
 
 				Map<String, FacetAccessible> facetMap = result.getFacetMap();
 
@@ -275,6 +337,8 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 					facet.setFacetCollector(facetCollector);
 				}
+
+				requestStatus = RequestStatus.SUCCESS;
 			}
 			catch (Exception e) {
 				throw new SearchException(e);
@@ -296,12 +360,18 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 			if (indexSearcher != null) {
 				try {
-					indexSearcher.close();
+					LuceneHelperUtil.releaseSearcher(
+						searchContext.getCompanyId(), indexSearcher);
 				}
 				catch (IOException ioe) {
 					_log.error(ioe, ioe);
 				}
 			}
+
+			if (searchRequestDataSample != null) {
+				sendDataSample(
+					searchRequestDataSample, requestStatus, query, hits);
+			}
 		}
 
 		if (_log.isDebugEnabled()) {
@@ -327,9 +397,27 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 		org.apache.lucene.search.IndexSearcher indexSearcher = null;
 		org.apache.lucene.search.Sort luceneSort = null;
 
+		SearchRequestDataSample searchRequestDataSample = null;
+		RequestStatus requestStatus = RequestStatus.ERROR;
+
+		if (_monitoringSearchRequest) {
+			searchRequestDataSample = new SearchRequestDataSample(companyId);
+
+			searchRequestDataSample.prepare();
+		}
+
 		try {
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.startPhase(
+					SearchPhase.ACQUIRE_SEARCHER);
+			}
+
 			indexSearcher = LuceneHelperUtil.getSearcher(companyId, true);
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.endPhase(SearchPhase.ACQUIRE_SEARCHER);
+			}
+
 			if (sorts != null) {
 				SortField[] sortFields = new SortField[sorts.length];
 
@@ -348,18 +436,28 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 			long startTime = System.currentTimeMillis();
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.startPhase(SearchPhase.QUERY);
+			}
+
 			TopFieldDocs topFieldDocs = indexSearcher.search(
 				(org.apache.lucene.search.Query)QueryTranslatorUtil.translate(
 					query),
 				null, PropsValues.INDEX_SEARCH_LIMIT, luceneSort);
 
+			if (searchRequestDataSample != null) {
+				searchRequestDataSample.endPhase(SearchPhase.QUERY);
+			}
+
 			long endTime = System.currentTimeMillis();
 
 			float searchTime = (float)(endTime - startTime) / Time.SECOND;
 
 			hits = toHits(
 				indexSearcher, new HitDocs(topFieldDocs), query, startTime,
-				searchTime, start, end);
+				searchTime, start, end, searchRequestDataSample);
+
+			requestStatus = RequestStatus.SUCCESS;
 		}
 		catch (BooleanQuery.TooManyClauses tmc) {
 			int maxClauseCount = BooleanQuery.getMaxClauseCount();
@@ -369,18 +467,28 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 			try {
 				long startTime = System.currentTimeMillis();
 
+				if (searchRequestDataSample != null) {
+					searchRequestDataSample.startPhase(SearchPhase.QUERY);
+				}
+
 				TopFieldDocs topFieldDocs = indexSearcher.search(
 					(org.apache.lucene.search.Query)
 						QueryTranslatorUtil.translate(query),
 					null, PropsValues.INDEX_SEARCH_LIMIT, luceneSort);
 
+				if (searchRequestDataSample != null) {
+					searchRequestDataSample.endPhase(SearchPhase.QUERY);
+				}
+
 				long endTime = System.currentTimeMillis();
 
 				float searchTime = (float)(endTime - startTime) / Time.SECOND;
 
 				hits = toHits(
 					indexSearcher, new HitDocs(topFieldDocs), query, startTime,
-					searchTime, start, end);
+					searchTime, start, end, searchRequestDataSample);
+
+				requestStatus = RequestStatus.SUCCESS;
 			}
 			catch (Exception e) {
 				throw new SearchException(e);
@@ -400,12 +508,17 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 		finally {
 			if (indexSearcher != null) {
 				try {
-					indexSearcher.close();
+					LuceneHelperUtil.releaseSearcher(companyId, indexSearcher);
 				}
 				catch (IOException ioe) {
 					_log.error(ioe, ioe);
 				}
 			}
+
+			if (searchRequestDataSample != null) {
+				sendDataSample(
+					searchRequestDataSample, requestStatus, query, hits);
+			}
 		}
 
 		if (_log.isDebugEnabled()) {
@@ -533,10 +646,28 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 		return snippet;
 	}
 
+	protected void sendDataSample(
+		SearchRequestDataSample searchRequestDataSample,
+		RequestStatus requestStatus, Query query, Hits hits) {
+
+		searchRequestDataSample.capture(requestStatus);
+		searchRequestDataSample.setDescription(String.valueOf(query));
+
+		if (hits != null) {
+			searchRequestDataSample.setHitCount(hits.getLength());
+		}
+
+		MessageBusUtil.sendMessage(
+			DestinationNames.MONITORING, searchRequestDataSample);
+
+		DataSampleThreadLocal.addDataSample(searchRequestDataSample);
+	}
+
 	protected Hits toHits(
 			org.apache.lucene.search.IndexSearcher indexSearcher,
 			HitDocs hitDocs, Query query, long startTime, float searchTime,
-			int start, int end)
+			int start, int end,
+			SearchRequestDataSample searchRequestDataSample)
 		throws IOException, ParseException {
 
 		int length = hitDocs.getTotalHits();
@@ -585,12 +716,27 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 			for (int i = start; i < start + subsetTotal; i++) {
 				int docId = hitDocs.getDocId(i);
 
+				if (searchRequestDataSample != null) {
+					searchRequestDataSample.startPhase(
+						SearchPhase.LOAD_DOCUMENTS);
+				}
+
 				org.apache.lucene.document.Document document =
 					indexSearcher.doc(docId);
 
 				Document subsetDocument = getDocument(document);
 
+				if (searchRequestDataSample != null) {
+					searchRequestDataSample.endPhase(
+						SearchPhase.LOAD_DOCUMENTS);
+				}
+
 				if (queryConfig.isHighlightEnabled()) {
+					if (searchRequestDataSample != null) {
+						searchRequestDataSample.startPhase(
+							SearchPhase.HIGHLIGHT);
+					}
+
 					Locale locale = queryConfig.getLocale();
 
 					getSnippet(
@@ -602,6 +748,10 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 					getSnippet(
 						document, query, Field.TITLE, locale, subsetDocument,
 						queryTerms);
+
+					if (searchRequestDataSample != null) {
+						searchRequestDataSample.endPhase(SearchPhase.HIGHLIGHT);
+					}
 				}
 
 				subsetDocs.add(subsetDocument);
@@ -646,6 +796,9 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 	private static Log _log = LogFactoryUtil.getLog(LuceneIndexSearcher.class);
 
+	private static boolean _monitoringSearchRequest =
+		PropsValues.MONITORING_SEARCH_REQUEST;
+
 	private class HitDocs {
 
 		public HitDocs(BrowseHit[] browseHits) {
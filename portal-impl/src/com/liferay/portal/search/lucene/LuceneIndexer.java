@@ -17,18 +17,28 @@ package com.liferay.portal.search.lucene;
 import com.liferay.portal.kernel.dao.shard.ShardUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.Destination;
+import com.liferay.portal.kernel.messaging.DestinationStatistics;
+import com.liferay.portal.kernel.messaging.MessageBus;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.ReindexCheckpoint;
+import com.liferay.portal.kernel.search.ReindexCheckpointThreadLocal;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.util.ListUtil;
+import com.liferay.portal.kernel.util.ProgressTracker;
+import com.liferay.portal.kernel.util.ProgressTrackerThreadLocal;
 import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Portlet;
 import com.liferay.portal.service.PortletLocalServiceUtil;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.portal.util.comparator.PortletLuceneComparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang.time.StopWatch;
 
@@ -72,6 +82,19 @@ public class LuceneIndexer implements Runnable {
 		reindex(PropsValues.INDEX_ON_STARTUP_DELAY);
 	}
 
+	/**
+	 * Sets the share of the thread's {@link ProgressTracker} that this
+	 * company's reindex reports its progress in, so that a reindex of several
+	 * companies advances a single progress bar.
+	 *
+	 * @param startPercent the percentage reported when the reindex starts
+	 * @param endPercent the percentage reported when the reindex completes
+	 */
+	public void setProgressRange(int startPercent, int endPercent) {
+		_startPercent = startPercent;
+		_endPercent = endPercent;
+	}
+
 	protected void doReIndex(int delay) {
 		if (SearchEngineUtil.isIndexReadOnly()) {
 			return;
@@ -101,30 +124,70 @@ public class LuceneIndexer implements Runnable {
 			stopWatch.start();
 		}
 
+		ReindexCheckpoint reindexCheckpoint = new ReindexCheckpoint(
+			_companyId) {
+
+			@Override
+			protected void flush() throws Exception {
+				waitForSearchWriters();
+
+				LuceneHelperUtil.commit(_companyId);
+			}
+
+			@Override
+			protected long getGeneration() {
+				return LuceneHelperUtil.getCommitGeneration(_companyId);
+			}
+
+		};
+
+		boolean completed = false;
+
 		try {
-			LuceneHelperUtil.delete(_companyId);
+			if (!reindexCheckpoint.isResumable()) {
+				reindexCheckpoint.delete();
+
+				LuceneHelperUtil.delete(_companyId);
+			}
+			else if (_log.isInfoEnabled()) {
+				_log.info(
+					"Resuming interrupted reindex from its last checkpoint");
+			}
+
+			ReindexCheckpointThreadLocal.setReindexCheckpoint(
+				reindexCheckpoint);
+
+			LuceneHelperUtil.beginReindex(_companyId);
 
 			List<Portlet> portlets = PortletLocalServiceUtil.getPortlets(
 				_companyId);
 
 			portlets = ListUtil.sort(portlets, new PortletLuceneComparator());
 
+			List<Indexer> indexers = new ArrayList<Indexer>();
+
 			for (Portlet portlet : portlets) {
 				if (!portlet.isActive()) {
 					continue;
 				}
 
-				List<Indexer> indexers = portlet.getIndexerInstances();
+				List<Indexer> portletIndexers = portlet.getIndexerInstances();
 
-				if (indexers == null) {
-					continue;
+				if (portletIndexers != null) {
+					indexers.addAll(portletIndexers);
 				}
+			}
 
-				for (Indexer indexer : indexers) {
-					reindex(indexer);
-				}
+			for (int i = 0; i < indexers.size(); i++) {
+				reindex(indexers.get(i));
+
+				updateProgress(i + 1, indexers.size());
 			}
 
+			waitForSearchWriters();
+
+			completed = true;
+
 			if (_log.isInfoEnabled()) {
 				_log.info(
 					"Reindexing Lucene completed in " +
@@ -138,6 +201,20 @@ public class LuceneIndexer implements Runnable {
 				_log.info("Reindexing Lucene failed");
 			}
 		}
+		finally {
+			ReindexCheckpointThreadLocal.setReindexCheckpoint(null);
+
+			try {
+				LuceneHelperUtil.endReindex(_companyId);
+
+				if (completed) {
+					reindexCheckpoint.delete();
+				}
+			}
+			catch (Exception e) {
+				_log.error("Unable to commit reindexed documents", e);
+			}
+		}
 
 		_finished = true;
 	}
@@ -155,10 +232,10 @@ public class LuceneIndexer implements Runnable {
 			_log.info("Reindexing with " + indexer.getClass() + " started");
 		}
 
-		indexer.reindex(new String[] {String.valueOf(_companyId)});
-
 		_usedSearchEngineIds.add(indexer.getSearchEngineId());
 
+		indexer.reindex(new String[] {String.valueOf(_companyId)});
+
 		if (_log.isInfoEnabled()) {
 			_log.info(
 				"Reindexing with " + indexer.getClass() +
@@ -167,10 +244,78 @@ public class LuceneIndexer implements Runnable {
 		}
 	}
 
+	protected void updateProgress(int count, int total) {
+		ProgressTracker progressTracker =
+			ProgressTrackerThreadLocal.getProgressTracker();
+
+		if (progressTracker == null) {
+			return;
+		}
+
+		progressTracker.setPercent(
+			_startPercent + (((_endPercent - _startPercent) * count) / total));
+	}
+
+	protected void waitForSearchWriters()
+		throws InterruptedException, TimeoutException {
+
+		// Indexers write through the asynchronous search writer destinations,
+		// so the deferred commit has to wait until they have been drained
+
+		MessageBus messageBus = MessageBusUtil.getMessageBus();
+
+		long timeout = PropsValues.LUCENE_REINDEX_SEARCH_WRITER_TIMEOUT;
+
+		for (String searchEngineId : _usedSearchEngineIds) {
+			Destination destination = messageBus.getDestination(
+				SearchEngineUtil.getSearchWriterDestinationName(
+					searchEngineId));
+
+			if (destination == null) {
+				continue;
+			}
+
+			long lastProgressTime = System.currentTimeMillis();
+			long sentMessageCount = -1;
+
+			while (true) {
+				DestinationStatistics destinationStatistics =
+					destination.getDestinationStatistics();
+
+				if ((destinationStatistics.getActiveThreadCount() == 0) &&
+					(destinationStatistics.getPendingMessageCount() == 0)) {
+
+					break;
+				}
+
+				long currentTime = System.currentTimeMillis();
+
+				if (destinationStatistics.getSentMessageCount() !=
+						sentMessageCount) {
+
+					lastProgressTime = currentTime;
+					sentMessageCount =
+						destinationStatistics.getSentMessageCount();
+				}
+				else if ((currentTime - lastProgressTime) > timeout) {
+					throw new TimeoutException(
+						"Search writer destination " + destination.getName() +
+							" processed no messages in " + timeout + " ms");
+				}
+
+				Thread.sleep(_WAIT_INTERVAL);
+			}
+		}
+	}
+
+	private static final long _WAIT_INTERVAL = 100;
+
 	private static Log _log = LogFactoryUtil.getLog(LuceneIndexer.class);
 
 	private long _companyId;
+	private int _endPercent = 100;
 	private boolean _finished;
+	private int _startPercent;
 	private Set<String> _usedSearchEngineIds;
 
 }
\ No newline at end of file
@@ -18,12 +18,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 
 /**
@@ -40,6 +45,10 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		_writeLock = readWriteLock.writeLock();
 	}
 
+	public IndexSearcher acquireIndexSearcher() throws IOException {
+		return _indexAccessor.acquireIndexSearcher();
+	}
+
 	public void addDocument(Document document) throws IOException {
 		_readLock.lock();
 
@@ -51,6 +60,30 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void addDocuments(Collection<Document> documents)
+		throws IOException {
+
+		_readLock.lock();
+
+		try {
+			_indexAccessor.addDocuments(documents);
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
+	public void beginReindex() {
+		_readLock.lock();
+
+		try {
+			_indexAccessor.beginReindex();
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	public void close() {
 		_readLock.lock();
 
@@ -62,6 +95,17 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void commit() throws IOException {
+		_readLock.lock();
+
+		try {
+			_indexAccessor.commit();
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	public void delete() {
 		_writeLock.lock();
 
@@ -95,10 +139,46 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void dumpIndexDelta(
+			OutputStream outputStream, Set<String> fingerprints)
+		throws IOException {
+
+		_readLock.lock();
+
+		try {
+			_indexAccessor.dumpIndexDelta(outputStream, fingerprints);
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
+	public void endReindex() throws IOException {
+		_readLock.lock();
+
+		try {
+			_indexAccessor.endReindex();
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	public long getCompanyId() {
 		return _indexAccessor.getCompanyId();
 	}
 
+	public Set<String> getFingerprints() throws IOException {
+		_readLock.lock();
+
+		try {
+			return _indexAccessor.getFingerprints();
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	public long getLastGeneration() {
 		return _indexAccessor.getLastGeneration();
 	}
@@ -118,6 +198,23 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void loadIndexDelta(InputStream inputStream) throws IOException {
+		_writeLock.lock();
+
+		try {
+			_indexAccessor.loadIndexDelta(inputStream);
+		}
+		finally {
+			_writeLock.unlock();
+		}
+	}
+
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException {
+
+		_indexAccessor.releaseIndexSearcher(indexSearcher);
+	}
+
 	public void updateDocument(Term term, Document document)
 		throws IOException {
 
@@ -131,6 +228,19 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException {
+
+		_readLock.lock();
+
+		try {
+			_indexAccessor.updateDocuments(documents);
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	private IndexAccessor _indexAccessor;
 	private Lock _readLock;
 	private Lock _writeLock;
@@ -14,52 +14,134 @@
 
 package com.liferay.portal.search.lucene.dump;
 
+import com.liferay.portal.search.lucene.dump.IndexCommitMetaInfo.Segment;
+
 import java.io.IOException;
 import java.io.OutputStream;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexDeletionPolicy;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Shuyang Zhou
  */
 public class DumpIndexDeletionPolicy implements IndexDeletionPolicy {
 
-	public void dump(
-			OutputStream outputStream, IndexWriter indexWriter, Lock commitLock)
+	/**
+	 * Commits the index writer and pins the resulting commit so that its
+	 * files are not deleted until {@link #releaseIndexCommit(IndexCommit)} is
+	 * called.
+	 */
+	public IndexCommit acquireIndexCommit(
+			IndexWriter indexWriter, Lock commitLock)
 		throws IOException {
 
-		IndexCommit indexCommit = null;
-
-		String segmentsFileName = null;
-
 		commitLock.lock();
 
 		try {
 			indexWriter.commit();
 
-			indexCommit = _lastIndexCommit;
+			IndexCommit indexCommit = _lastIndexCommit;
 
-			segmentsFileName = indexCommit.getSegmentsFileName();
+			_segmentsFileNames.add(indexCommit.getSegmentsFileName());
 
-			_segmentsFileNames.add(segmentsFileName);
+			return indexCommit;
 		}
 		finally {
 			commitLock.unlock();
 		}
+	}
+
+	public void dump(
+			OutputStream outputStream, IndexWriter indexWriter, Lock commitLock)
+		throws IOException {
+
+		IndexCommit indexCommit = acquireIndexCommit(indexWriter, commitLock);
 
 		try {
 			IndexCommitSerializationUtil.serializeIndex(
 				indexCommit, outputStream);
 		}
 		finally {
-			_segmentsFileNames.remove(segmentsFileName);
+			releaseIndexCommit(indexCommit);
+		}
+	}
+
+	public void dumpDelta(
+			OutputStream outputStream, IndexWriter indexWriter, Lock commitLock,
+			Set<String> fingerprints)
+		throws IOException {
+
+		IndexCommit indexCommit = acquireIndexCommit(indexWriter, commitLock);
+
+		try {
+			IndexCommitSerializationUtil.serializeIndexDelta(
+				indexCommit, getChecksums(indexCommit), fingerprints,
+				outputStream);
+		}
+		finally {
+			releaseIndexCommit(indexCommit);
+		}
+	}
+
+	/**
+	 * Returns the CRC32 checksums of the files of the pinned commit, keyed by
+	 * file name. Segment files are write once, so their checksums are cached
+	 * until the files are deleted.
+	 */
+	public Map<String, Long> getChecksums(IndexCommit indexCommit)
+		throws IOException {
+
+		Directory directory = indexCommit.getDirectory();
+
+		Map<String, Long> checksums = new HashMap<String, Long>();
+
+		for (String fileName : indexCommit.getFileNames()) {
+			Long checksum = _checksums.get(fileName);
+
+			if (checksum == null) {
+				checksum = IndexCommitSerializationUtil.getChecksum(
+					directory, fileName);
+
+				_checksums.put(fileName, checksum);
+			}
+
+			checksums.put(fileName, checksum);
+		}
+
+		return checksums;
+	}
+
+	/**
+	 * Returns the file names of the pinned commit, keyed by their segment
+	 * fingerprints.
+	 */
+	public Map<String, String> getFingerprintFileNames(IndexCommit indexCommit)
+		throws IOException {
+
+		IndexCommitMetaInfo indexCommitMetaInfo = new IndexCommitMetaInfo(
+			indexCommit, getChecksums(indexCommit));
+
+		Map<String, String> fingerprintFileNames =
+			new HashMap<String, String>();
+
+		for (Segment segment : indexCommitMetaInfo.getSegments()) {
+			fingerprintFileNames.put(
+				segment.getFingerprint(), segment.getFileName());
 		}
+
+		return fingerprintFileNames;
 	}
 
 	public long getLastGeneration() {
@@ -78,14 +160,39 @@ public class DumpIndexDeletionPolicy implements IndexDeletionPolicy {
 				indexCommit.delete();
 			}
 		}
+
+		if (_checksums.isEmpty()) {
+			return;
+		}
+
+		Set<String> fileNames = new HashSet<String>();
+
+		try {
+			for (IndexCommit indexCommit : indexCommits) {
+				fileNames.addAll(indexCommit.getFileNames());
+			}
+		}
+		catch (IOException ioe) {
+			_checksums.clear();
+
+			return;
+		}
+
+		_checksums.keySet().retainAll(fileNames);
 	}
 
 	public void onInit(List<? extends IndexCommit> indexCommits) {
 		onCommit(indexCommits);
 	}
 
+	public void releaseIndexCommit(IndexCommit indexCommit) {
+		_segmentsFileNames.remove(indexCommit.getSegmentsFileName());
+	}
+
+	private Map<String, Long> _checksums =
+		new ConcurrentHashMap<String, Long>();
 	private volatile IndexCommit _lastIndexCommit;
 	private List<String> _segmentsFileNames =
 		new CopyOnWriteArrayList<String>();
 
-}
\ No newline at end of file
+}
@@ -22,6 +22,7 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.store.Directory;
@@ -32,6 +33,13 @@ import org.apache.lucene.store.Directory;
 public class IndexCommitMetaInfo implements Serializable {
 
 	public IndexCommitMetaInfo(IndexCommit indexCommit) throws IOException {
+		this(indexCommit, null);
+	}
+
+	public IndexCommitMetaInfo(
+			IndexCommit indexCommit, Map<String, Long> checksums)
+		throws IOException {
+
 		if (indexCommit == null) {
 			_empty = true;
 
@@ -46,8 +54,14 @@ public class IndexCommitMetaInfo implements Serializable {
 		Directory directory = indexCommit.getDirectory();
 
 		for (String fileName : fileNames) {
+			long checksum = 0;
+
+			if (checksums != null) {
+				checksum = checksums.get(fileName);
+			}
+
 			Segment segment = new Segment(
-				fileName, directory.fileLength(fileName));
+				fileName, directory.fileLength(fileName), checksum);
 
 			_segments.add(segment);
 		}
@@ -55,6 +69,11 @@ public class IndexCommitMetaInfo implements Serializable {
 		_generation = indexCommit.getGeneration();
 	}
 
+	public static String getFingerprint(long fileSize, long checksum) {
+		return String.valueOf(fileSize).concat(StringPool.DASH).concat(
+			Long.toHexString(checksum));
+	}
+
 	public long getGeneration() {
 		return _generation;
 	}
@@ -99,9 +118,14 @@ public class IndexCommitMetaInfo implements Serializable {
 
 	public class Segment implements Serializable {
 
-		public Segment(String fileName, long fileSize) {
+		public Segment(String fileName, long fileSize, long checksum) {
 			_fileName = fileName;
 			_fileSize = fileSize;
+			_checksum = checksum;
+		}
+
+		public long getChecksum() {
+			return _checksum;
 		}
 
 		public String getFileName() {
@@ -112,11 +136,21 @@ public class IndexCommitMetaInfo implements Serializable {
 			return _fileSize;
 		}
 
+		/**
+		 * Returns a key identifying the segment file's content regardless of
+		 * its name, which differs between nodes that wrote the same data.
+		 */
+		public String getFingerprint() {
+			return IndexCommitMetaInfo.getFingerprint(_fileSize, _checksum);
+		}
+
 		@Override
 		public String toString() {
-			StringBundler sb = new StringBundler(5);
+			StringBundler sb = new StringBundler(7);
 
-			sb.append("{_fileName=");
+			sb.append("{_checksum=");
+			sb.append(_checksum);
+			sb.append(", _fileName=");
 			sb.append(_fileName);
 			sb.append(", _fileSize=");
 			sb.append(_fileSize);
@@ -125,6 +159,7 @@ public class IndexCommitMetaInfo implements Serializable {
 			return sb.toString();
 		}
 
+		private long _checksum;
 		private String _fileName;
 		private long _fileSize;
 
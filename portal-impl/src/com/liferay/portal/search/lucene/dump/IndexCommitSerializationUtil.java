@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.search.lucene.dump.IndexCommitMetaInfo.Segment;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -26,6 +27,9 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -92,6 +96,126 @@ public class IndexCommitSerializationUtil {
 		}
 	}
 
+	/**
+	 * Reads a delta written by {@link #serializeIndexDelta(IndexCommit, Map,
+	 * Set, OutputStream)} into the directory. Segments that were left out are
+	 * copied from the local directory, where they are found by their
+	 * fingerprints. Received segments are verified against their checksums.
+	 *
+	 * @return <code>false</code> if the remote index is empty
+	 */
+	public static boolean deserializeIndexDelta(
+			InputStream inputStream, Directory directory,
+			Directory localDirectory, Map<String, String> fingerprintFileNames)
+		throws IOException {
+
+		if (PropsValues.INDEX_DUMP_COMPRESSION_ENABLED) {
+			inputStream = new GZIPInputStream(inputStream);
+		}
+
+		ObjectInputStream objectInputStream = null;
+
+		try {
+			objectInputStream = new ObjectInputStream(inputStream);
+
+			IndexCommitMetaInfo indexCommitMetaInfo = null;
+
+			try {
+				indexCommitMetaInfo =
+					(IndexCommitMetaInfo)objectInputStream.readObject();
+			}
+			catch (ClassNotFoundException cnfe) {
+				throw new IOException(cnfe.getMessage());
+			}
+
+			if (_log.isDebugEnabled()) {
+				_log.debug("Deserializing delta " + indexCommitMetaInfo);
+			}
+
+			if (indexCommitMetaInfo.isEmpty()) {
+				return false;
+			}
+
+			List<Segment> segments = indexCommitMetaInfo.getSegments();
+
+			for (Segment segment : segments) {
+				if (objectInputStream.readBoolean()) {
+					if (_log.isDebugEnabled()) {
+						_log.debug("Deserializing segment " + segment);
+					}
+
+					long checksum = _deserializeSegment(
+						objectInputStream, segment.getFileSize(),
+						directory.createOutput(segment.getFileName()));
+
+					if (checksum != segment.getChecksum()) {
+						throw new IOException(
+							"Checksum mismatch for segment " + segment);
+					}
+
+					continue;
+				}
+
+				String localFileName = fingerprintFileNames.get(
+					segment.getFingerprint());
+
+				if (localFileName == null) {
+					throw new IOException(
+						"Unable to find local copy of segment " + segment);
+				}
+
+				if (_log.isDebugEnabled()) {
+					_log.debug(
+						"Copying local file " + localFileName + " for " +
+							"segment " + segment);
+				}
+
+				localDirectory.copy(
+					directory, localFileName, segment.getFileName());
+			}
+
+			_writeSegmentsGen(directory, indexCommitMetaInfo.getGeneration());
+
+			return true;
+		}
+		finally {
+			if (objectInputStream != null) {
+				objectInputStream.close();
+			}
+		}
+	}
+
+	public static long getChecksum(Directory directory, String fileName)
+		throws IOException {
+
+		IndexInput indexInput = directory.openInput(fileName);
+
+		try {
+			CRC32 crc32 = new CRC32();
+
+			byte[] buffer = new byte[_BUFFER_SIZE];
+
+			long length = indexInput.length();
+
+			long read = 0;
+
+			while (read < length) {
+				int bufferSize = (int)Math.min(_BUFFER_SIZE, length - read);
+
+				indexInput.readBytes(buffer, 0, bufferSize);
+
+				crc32.update(buffer, 0, bufferSize);
+
+				read += bufferSize;
+			}
+
+			return crc32.getValue();
+		}
+		finally {
+			indexInput.close();
+		}
+	}
+
 	public static void serializeIndex(
 			IndexCommit indexCommit, OutputStream outputStream)
 		throws IOException {
@@ -135,13 +259,76 @@ public class IndexCommitSerializationUtil {
 		}
 	}
 
-	private static void _deserializeSegment(
+	/**
+	 * Writes the index like {@link #serializeIndex(IndexCommit,
+	 * OutputStream)}, but leaves out the content of every segment whose
+	 * fingerprint is in the given set, because the receiver already has it.
+	 */
+	public static void serializeIndexDelta(
+			IndexCommit indexCommit, Map<String, Long> checksums,
+			Set<String> fingerprints, OutputStream outputStream)
+		throws IOException {
+
+		if (PropsValues.INDEX_DUMP_COMPRESSION_ENABLED) {
+			outputStream = new GZIPOutputStream(outputStream);
+		}
+
+		ObjectOutputStream objectOputStream = new ObjectOutputStream(
+			outputStream);
+
+		IndexCommitMetaInfo indexCommitMetaInfo = new IndexCommitMetaInfo(
+			indexCommit, checksums);
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Serializing delta " + indexCommitMetaInfo);
+		}
+
+		objectOputStream.writeObject(indexCommitMetaInfo);
+
+		List<Segment> segments = indexCommitMetaInfo.getSegments();
+
+		Directory directory = indexCommit.getDirectory();
+
+		for (Segment segment : segments) {
+			if (fingerprints.contains(segment.getFingerprint())) {
+				if (_log.isDebugEnabled()) {
+					_log.debug("Skipping unchanged segment " + segment);
+				}
+
+				objectOputStream.writeBoolean(false);
+
+				continue;
+			}
+
+			if (_log.isDebugEnabled()) {
+				_log.debug("Serializing segment " + segment);
+			}
+
+			objectOputStream.writeBoolean(true);
+
+			_serializeSegment(
+				directory.openInput(segment.getFileName()),
+				segment.getFileSize(), objectOputStream);
+		}
+
+		objectOputStream.flush();
+
+		if (PropsValues.INDEX_DUMP_COMPRESSION_ENABLED) {
+			GZIPOutputStream gZipOutputStream = (GZIPOutputStream)outputStream;
+
+			gZipOutputStream.finish();
+		}
+	}
+
+	private static long _deserializeSegment(
 			InputStream inputStream, long length, IndexOutput indexOutput)
 		throws IOException {
 
 		try {
 			indexOutput.setLength(length);
 
+			CRC32 crc32 = new CRC32();
+
 			byte[] buffer = new byte[_BUFFER_SIZE];
 
 			long received = 0;
@@ -155,10 +342,19 @@ public class IndexCommitSerializationUtil {
 
 				int actualSize = inputStream.read(buffer, 0, bufferSize);
 
+				if (actualSize == -1) {
+					throw new EOFException(
+						"Received " + received + " of " + length + " bytes");
+				}
+
 				indexOutput.writeBytes(buffer, actualSize);
 
+				crc32.update(buffer, 0, actualSize);
+
 				received += actualSize;
 			}
+
+			return crc32.getValue();
 		}
 		finally {
 			indexOutput.close();
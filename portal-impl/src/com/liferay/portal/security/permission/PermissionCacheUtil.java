@@ -14,19 +14,38 @@
 
 package com.liferay.portal.security.permission;
 
+import com.liferay.portal.cluster.ClusterInvokeThreadLocal;
 import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.RequestLocalCache;
+import com.liferay.portal.kernel.cache.RequestLocalCacheManager;
+import com.liferay.portal.kernel.cache.cluster.ClusterReplicationThreadLocal;
+import com.liferay.portal.kernel.cache.index.IndexEncoder;
+import com.liferay.portal.kernel.cache.index.PortalCacheIndexer;
+import com.liferay.portal.kernel.cluster.ClusterExecutorUtil;
+import com.liferay.portal.kernel.cluster.ClusterRequest;
+import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.lar.ExportImportThreadLocal;
-import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.MethodHandler;
+import com.liferay.portal.kernel.util.MethodKey;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.ResourceConstants;
+import com.liferay.portal.service.GroupLocalServiceUtil;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.Serializable;
 
-import java.util.Map;
-
-import org.apache.commons.collections.map.LRUMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Charles May
@@ -57,13 +76,183 @@ public class PermissionCacheUtil {
 		_permissionCheckerBagPortalCache.removeAll();
 		_permissionPortalCache.removeAll();
 		_resourceBlockIdsBagCache.removeAll();
+
+		_flushCount.incrementAndGet();
+	}
+
+	/**
+	 * Removes the cached permission checker bags, permissions, and resource
+	 * block IDs bags of the users, leaving the entries of all other users in
+	 * place.
+	 *
+	 * @param userIds the primary keys of the users
+	 */
+	public static void clearCache(long... userIds) {
+		if (ExportImportThreadLocal.isImportInProcess() ||
+			!PermissionThreadLocal.isFlushEnabled()) {
+
+			return;
+		}
+
+		if (!_indexed) {
+			clearCache();
+
+			return;
+		}
+
+		clearLocalCache();
+
+		int count = 0;
+
+		for (long userId : userIds) {
+			count += _removeKeys(_permissionCheckerBagUserIdIndexer, userId);
+			count += _removeKeys(_permissionUserIdIndexer, userId);
+			count += _removeKeys(_resourceBlockIdsBagUserIdIndexer, userId);
+		}
+
+		_incrementScopedFlushCount(count);
+
+		_notifyCluster(_clearUserCacheMethodKey, userIds);
+	}
+
+	/**
+	 * Removes the cached permission checker bags, permissions, and resource
+	 * block IDs bags of the groups and of their layout scope groups, leaving
+	 * the entries of all other groups in place. Permissions checked on a
+	 * layout scoped page are cached under the layout scope group, but depend
+	 * on the roles of the site.
+	 *
+	 * @param groupIds the primary keys of the groups
+	 */
+	public static void clearGroupCache(long... groupIds) {
+		if (ExportImportThreadLocal.isImportInProcess() ||
+			!PermissionThreadLocal.isFlushEnabled()) {
+
+			return;
+		}
+
+		if (!_indexed) {
+			clearCache();
+
+			return;
+		}
+
+		// Other nodes receive the layout scope groups with the multicast
+
+		if (ClusterInvokeThreadLocal.isEnabled()) {
+			try {
+				groupIds = _addLayoutScopeGroupIds(groupIds);
+			}
+			catch (SystemException se) {
+				_log.error(se, se);
+
+				clearCache();
+
+				return;
+			}
+		}
+
+		clearLocalCache();
+
+		int count = 0;
+
+		for (long groupId : groupIds) {
+			count += _removeKeys(_permissionCheckerBagGroupIdIndexer, groupId);
+			count += _removeKeys(_permissionGroupIdIndexer, groupId);
+			count += _removeKeys(_resourceBlockIdsBagGroupIdIndexer, groupId);
+		}
+
+		_incrementScopedFlushCount(count);
+
+		_notifyCluster(_clearGroupCacheMethodKey, groupIds);
 	}
 
 	public static void clearLocalCache() {
 		if (_localCacheAvailable) {
-			Map<String, Object> localCache = _localCache.get();
+			_localCache.removeAll();
+		}
+	}
+
+	/**
+	 * Removes the cached permissions and resource block IDs bags of every
+	 * resource of the type.
+	 *
+	 * @param name the resource's name, which can be either a class name or a
+	 *        portlet ID
+	 */
+	public static void clearResourceCache(String name) {
+		if (ExportImportThreadLocal.isImportInProcess() ||
+			!PermissionThreadLocal.isFlushEnabled()) {
+
+			return;
+		}
+
+		if (!_indexed) {
+			clearCache();
+
+			return;
+		}
+
+		clearLocalCache();
+
+		int count = _removeKeys(_permissionNameIndexer, name);
+
+		count += _removeKeys(_resourceBlockIdsBagNameIndexer, name);
+
+		_incrementScopedFlushCount(count);
+
+		_notifyCluster(_clearResourceCacheMethodKey, name);
+	}
+
+	/**
+	 * Removes the cached permissions of the resource.
+	 *
+	 * @param name the resource's name, which can be either a class name or a
+	 *        portlet ID
+	 * @param primKey the primary key of the resource
+	 */
+	public static void clearResourceCache(String name, String primKey) {
+		if (ExportImportThreadLocal.isImportInProcess() ||
+			!PermissionThreadLocal.isFlushEnabled()) {
+
+			return;
+		}
+
+		if (!_indexed) {
+			clearCache();
+
+			return;
+		}
+
+		clearLocalCache();
+
+		int count = _removeKeys(
+			_permissionResourceIndexer, _encodeResource(name, primKey));
+
+		_incrementScopedFlushCount(count);
 
-			localCache.clear();
+		_notifyCluster(_clearIndividualResourceCacheMethodKey, name, primKey);
+	}
+
+	/**
+	 * Removes the cached permissions affected by a change to a resource
+	 * permission at the scope. Individual scope changes only affect the
+	 * resource itself, while changes at any other scope affect every resource
+	 * of the type.
+	 *
+	 * @param scope the scope of the resource permission
+	 * @param name the resource's name, which can be either a class name or a
+	 *        portlet ID
+	 * @param primKey the primary key of the resource
+	 */
+	public static void clearResourcePermissionCache(
+		int scope, String name, String primKey) {
+
+		if (scope == ResourceConstants.SCOPE_INDIVIDUAL) {
+			clearResourceCache(name, primKey);
+		}
+		else {
+			clearResourceCache(name);
 		}
 	}
 
@@ -73,9 +262,7 @@ public class PermissionCacheUtil {
 		BagKey bagKey = new BagKey(userId, groupId);
 
 		if (_localCacheAvailable) {
-			Map<String, Object> localCache = _localCache.get();
-
-			bag = (PermissionCheckerBag)localCache.get(bagKey);
+			bag = (PermissionCheckerBag)_localCache.get(bagKey);
 		}
 
 		if (bag == null) {
@@ -85,6 +272,10 @@ public class PermissionCacheUtil {
 		return bag;
 	}
 
+	public static long getFlushCount() {
+		return _flushCount.get();
+	}
+
 	public static Boolean getPermission(
 		long userId, boolean signedIn, boolean checkGuest, long groupId,
 		String name, String primKey, String actionId) {
@@ -95,9 +286,7 @@ public class PermissionCacheUtil {
 			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
 
 		if (_localCacheAvailable) {
-			Map<String, Object> localCache = _localCache.get();
-
-			value = (Boolean)localCache.get(permissionKey);
+			value = (Boolean)_localCache.get(permissionKey);
 		}
 
 		if (value == null) {
@@ -118,9 +307,7 @@ public class PermissionCacheUtil {
 				companyId, groupId, userId, name, checkGuest);
 
 		if (_localCacheAvailable) {
-			Map<String, Object> localCache = _localCache.get();
-
-			resourceBlockIdsBag = (ResourceBlockIdsBag)localCache.get(
+			resourceBlockIdsBag = (ResourceBlockIdsBag)_localCache.get(
 				resourceBlockIdsBagKey);
 		}
 
@@ -132,6 +319,14 @@ public class PermissionCacheUtil {
 		return resourceBlockIdsBag;
 	}
 
+	public static long getScopedEvictionCount() {
+		return _scopedEvictionCount.get();
+	}
+
+	public static long getScopedFlushCount() {
+		return _scopedFlushCount.get();
+	}
+
 	public static PermissionCheckerBag putBag(
 		long userId, long groupId, PermissionCheckerBag bag) {
 
@@ -142,13 +337,14 @@ public class PermissionCacheUtil {
 		BagKey bagKey = new BagKey(userId, groupId);
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
-
-			localCache.put(bagKey, bag);
+			_localCache.put(bagKey, bag);
 		}
 
 		_permissionCheckerBagPortalCache.put(bagKey, bag);
 
+		_permissionCheckerBagGroupIdIndexer.addKey(bagKey);
+		_permissionCheckerBagUserIdIndexer.addKey(bagKey);
+
 		return bag;
 	}
 
@@ -164,13 +360,16 @@ public class PermissionCacheUtil {
 			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
-
-			localCache.put(permissionKey, value);
+			_localCache.put(permissionKey, value);
 		}
 
 		_permissionPortalCache.put(permissionKey, value);
 
+		_permissionGroupIdIndexer.addKey(permissionKey);
+		_permissionNameIndexer.addKey(permissionKey);
+		_permissionResourceIndexer.addKey(permissionKey);
+		_permissionUserIdIndexer.addKey(permissionKey);
+
 		return value;
 	}
 
@@ -187,31 +386,181 @@ public class PermissionCacheUtil {
 				companyId, groupId, userId, name, checkGuest);
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
-
-			localCache.put(resourceBlockIdsBagKey, resourceBlockIdsBag);
+			_localCache.put(resourceBlockIdsBagKey, resourceBlockIdsBag);
 		}
 
 		_resourceBlockIdsBagCache.put(
 			resourceBlockIdsBagKey, resourceBlockIdsBag);
 
+		_resourceBlockIdsBagGroupIdIndexer.addKey(resourceBlockIdsBagKey);
+		_resourceBlockIdsBagNameIndexer.addKey(resourceBlockIdsBagKey);
+		_resourceBlockIdsBagUserIdIndexer.addKey(resourceBlockIdsBagKey);
+
 		return resourceBlockIdsBag;
 	}
 
-	private static ThreadLocal<LRUMap> _localCache;
+	private static long[] _addLayoutScopeGroupIds(long[] groupIds)
+		throws SystemException {
+
+		Set<Long> scopeGroupIds = new LinkedHashSet<Long>();
+
+		for (long groupId : groupIds) {
+			scopeGroupIds.add(groupId);
+
+			Group group = GroupLocalServiceUtil.fetchGroup(groupId);
+
+			if ((group == null) || group.isLayout()) {
+				continue;
+			}
+
+			List<Group> layoutScopeGroups = GroupLocalServiceUtil.getGroups(
+				group.getCompanyId(), Layout.class.getName(), groupId);
+
+			for (Group layoutScopeGroup : layoutScopeGroups) {
+				scopeGroupIds.add(layoutScopeGroup.getGroupId());
+			}
+		}
+
+		if (scopeGroupIds.size() == groupIds.length) {
+			return groupIds;
+		}
+
+		return ArrayUtil.toArray(
+			scopeGroupIds.toArray(new Long[scopeGroupIds.size()]));
+	}
+
+	private static String _encodeResource(String name, String primKey) {
+		return String.valueOf(name).concat(StringPool.POUND).concat(
+			String.valueOf(primKey));
+	}
+
+	private static void _incrementScopedFlushCount(int count) {
+		_scopedEvictionCount.addAndGet(count);
+		_scopedFlushCount.incrementAndGet();
+	}
+
+	private static void _notifyCluster(
+		MethodKey methodKey, Object... arguments) {
+
+		if (!ClusterExecutorUtil.isEnabled() ||
+			!ClusterInvokeThreadLocal.isEnabled()) {
+
+			return;
+		}
+
+		ClusterRequest clusterRequest = ClusterRequest.createMulticastRequest(
+			new MethodHandler(methodKey, arguments), true);
+
+		try {
+			ClusterExecutorUtil.execute(clusterRequest);
+		}
+		catch (Exception e) {
+			_log.error("Unable to clear cluster wide permission cache", e);
+		}
+	}
+
+	private static <I> int _removeKeys(
+		PortalCacheIndexer<I, ?, ?> portalCacheIndexer, I index) {
+
+		// With the cluster link enabled, the other nodes remove their own
+		// indexed entries when the scoped clear is multicast to them, so
+		// replicating every single removal would only send it twice
+
+		if (!ClusterExecutorUtil.isEnabled()) {
+			return portalCacheIndexer.removeKeys(index);
+		}
+
+		boolean replicate = ClusterReplicationThreadLocal.isReplicate();
+
+		ClusterReplicationThreadLocal.setReplicate(false);
+
+		try {
+			return portalCacheIndexer.removeKeys(index);
+		}
+		finally {
+			ClusterReplicationThreadLocal.setReplicate(replicate);
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(PermissionCacheUtil.class);
+
+	private static MethodKey _clearGroupCacheMethodKey = new MethodKey(
+		PermissionCacheUtil.class, "clearGroupCache", long[].class);
+	private static MethodKey _clearIndividualResourceCacheMethodKey =
+		new MethodKey(
+			PermissionCacheUtil.class, "clearResourceCache", String.class,
+			String.class);
+	private static MethodKey _clearResourceCacheMethodKey = new MethodKey(
+		PermissionCacheUtil.class, "clearResourceCache", String.class);
+	private static MethodKey _clearUserCacheMethodKey = new MethodKey(
+		PermissionCacheUtil.class, "clearCache", long[].class);
+	private static AtomicLong _flushCount = new AtomicLong();
+	private static boolean _indexed;
+	private static RequestLocalCache<Object> _localCache;
 	private static boolean _localCacheAvailable;
 	private static PortalCache<BagKey, PermissionCheckerBag>
 		_permissionCheckerBagPortalCache = MultiVMPoolUtil.getCache(
 			PERMISSION_CHECKER_BAG_CACHE_NAME,
 			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static PortalCacheIndexer<Long, BagKey, PermissionCheckerBag>
+		_permissionCheckerBagGroupIdIndexer =
+			new PortalCacheIndexer<Long, BagKey, PermissionCheckerBag>(
+				new BagKeyGroupIdIndexEncoder(),
+				_permissionCheckerBagPortalCache);
+	private static PortalCacheIndexer<Long, BagKey, PermissionCheckerBag>
+		_permissionCheckerBagUserIdIndexer =
+			new PortalCacheIndexer<Long, BagKey, PermissionCheckerBag>(
+				new BagKeyUserIdIndexEncoder(),
+				_permissionCheckerBagPortalCache);
 	private static PortalCache<PermissionKey, Boolean> _permissionPortalCache =
 		MultiVMPoolUtil.getCache(
 			PERMISSION_CACHE_NAME,
 			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static PortalCacheIndexer<Long, PermissionKey, Boolean>
+		_permissionGroupIdIndexer =
+			new PortalCacheIndexer<Long, PermissionKey, Boolean>(
+				new PermissionKeyGroupIdIndexEncoder(),
+				_permissionPortalCache);
+	private static PortalCacheIndexer<String, PermissionKey, Boolean>
+		_permissionNameIndexer =
+			new PortalCacheIndexer<String, PermissionKey, Boolean>(
+				new PermissionKeyNameIndexEncoder(), _permissionPortalCache);
+	private static PortalCacheIndexer<String, PermissionKey, Boolean>
+		_permissionResourceIndexer =
+			new PortalCacheIndexer<String, PermissionKey, Boolean>(
+				new PermissionKeyResourceIndexEncoder(),
+				_permissionPortalCache);
+	private static PortalCacheIndexer<Long, PermissionKey, Boolean>
+		_permissionUserIdIndexer =
+			new PortalCacheIndexer<Long, PermissionKey, Boolean>(
+				new PermissionKeyUserIdIndexEncoder(), _permissionPortalCache);
 	private static PortalCache<ResourceBlockIdsBagKey, ResourceBlockIdsBag>
 		_resourceBlockIdsBagCache = MultiVMPoolUtil.getCache(
 			RESOURCE_BLOCK_IDS_BAG_CACHE_NAME,
 			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static PortalCacheIndexer
+		<Long, ResourceBlockIdsBagKey, ResourceBlockIdsBag>
+			_resourceBlockIdsBagGroupIdIndexer =
+				new PortalCacheIndexer
+					<Long, ResourceBlockIdsBagKey, ResourceBlockIdsBag>(
+						new ResourceBlockIdsBagKeyGroupIdIndexEncoder(),
+						_resourceBlockIdsBagCache);
+	private static PortalCacheIndexer
+		<String, ResourceBlockIdsBagKey, ResourceBlockIdsBag>
+			_resourceBlockIdsBagNameIndexer =
+				new PortalCacheIndexer
+					<String, ResourceBlockIdsBagKey, ResourceBlockIdsBag>(
+						new ResourceBlockIdsBagKeyNameIndexEncoder(),
+						_resourceBlockIdsBagCache);
+	private static PortalCacheIndexer
+		<Long, ResourceBlockIdsBagKey, ResourceBlockIdsBag>
+			_resourceBlockIdsBagUserIdIndexer =
+				new PortalCacheIndexer
+					<Long, ResourceBlockIdsBagKey, ResourceBlockIdsBag>(
+						new ResourceBlockIdsBagKeyUserIdIndexEncoder(),
+						_resourceBlockIdsBagCache);
+	private static AtomicLong _scopedEvictionCount = new AtomicLong();
+	private static AtomicLong _scopedFlushCount = new AtomicLong();
 
 	private static class BagKey implements Serializable {
 
@@ -248,6 +597,24 @@ public class PermissionCacheUtil {
 
 	}
 
+	private static class BagKeyGroupIdIndexEncoder
+		implements IndexEncoder<Long, BagKey> {
+
+		public Long encode(BagKey bagKey) {
+			return bagKey._groupId;
+		}
+
+	}
+
+	private static class BagKeyUserIdIndexEncoder
+		implements IndexEncoder<Long, BagKey> {
+
+		public Long encode(BagKey bagKey) {
+			return bagKey._userId;
+		}
+
+	}
+
 	private static class PermissionKey implements Serializable {
 
 		public PermissionKey(
@@ -312,6 +679,43 @@ public class PermissionCacheUtil {
 
 	}
 
+	private static class PermissionKeyGroupIdIndexEncoder
+		implements IndexEncoder<Long, PermissionKey> {
+
+		public Long encode(PermissionKey permissionKey) {
+			return permissionKey._groupId;
+		}
+
+	}
+
+	private static class PermissionKeyNameIndexEncoder
+		implements IndexEncoder<String, PermissionKey> {
+
+		public String encode(PermissionKey permissionKey) {
+			return permissionKey._name;
+		}
+
+	}
+
+	private static class PermissionKeyResourceIndexEncoder
+		implements IndexEncoder<String, PermissionKey> {
+
+		public String encode(PermissionKey permissionKey) {
+			return _encodeResource(
+				permissionKey._name, permissionKey._primKey);
+		}
+
+	}
+
+	private static class PermissionKeyUserIdIndexEncoder
+		implements IndexEncoder<Long, PermissionKey> {
+
+		public Long encode(PermissionKey permissionKey) {
+			return permissionKey._userId;
+		}
+
+	}
+
 	private static class ResourceBlockIdsBagKey implements Serializable {
 
 		public ResourceBlockIdsBagKey(
@@ -369,14 +773,50 @@ public class PermissionCacheUtil {
 
 	}
 
+	private static class ResourceBlockIdsBagKeyGroupIdIndexEncoder
+		implements IndexEncoder<Long, ResourceBlockIdsBagKey> {
+
+		public Long encode(ResourceBlockIdsBagKey resourceBlockIdsBagKey) {
+			return resourceBlockIdsBagKey._groupId;
+		}
+
+	}
+
+	private static class ResourceBlockIdsBagKeyNameIndexEncoder
+		implements IndexEncoder<String, ResourceBlockIdsBagKey> {
+
+		public String encode(ResourceBlockIdsBagKey resourceBlockIdsBagKey) {
+			return resourceBlockIdsBagKey._name;
+		}
+
+	}
+
+	private static class ResourceBlockIdsBagKeyUserIdIndexEncoder
+		implements IndexEncoder<Long, ResourceBlockIdsBagKey> {
+
+		public Long encode(ResourceBlockIdsBagKey resourceBlockIdsBagKey) {
+			return resourceBlockIdsBagKey._userId;
+		}
+
+	}
+
 	static {
 		if (PropsValues.PERMISSIONS_THREAD_LOCAL_CACHE_MAX_SIZE > 0) {
-			_localCache = new AutoResetThreadLocal<LRUMap>(
-				PermissionCacheUtil.class + "._localCache",
-				new LRUMap(
-					PropsValues.PERMISSIONS_THREAD_LOCAL_CACHE_MAX_SIZE));
+			_localCache = RequestLocalCacheManager.getRequestLocalCache(
+				PermissionCacheUtil.class.getName(),
+				PropsValues.PERMISSIONS_THREAD_LOCAL_CACHE_MAX_SIZE);
 			_localCacheAvailable = true;
 		}
+
+		// Caches that cannot report their evictions, such as memcached, are
+		// not indexed, so every invalidation flushes them in full
+
+		if (_permissionCheckerBagUserIdIndexer.isEnabled() &&
+			_permissionUserIdIndexer.isEnabled() &&
+			_resourceBlockIdsBagUserIdIndexer.isEnabled()) {
+
+			_indexed = true;
+		}
 	}
 
 }
\ No newline at end of file
@@ -145,7 +145,7 @@ public class ResourcePermissionLocalServiceImpl
 			companyId, name, scope, primKey, roleId, 0, new String[] {actionId},
 			ResourcePermissionConstants.OPERATOR_ADD);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourceCache(name);
 	}
 
 	/**
@@ -938,7 +938,7 @@ public class ResourcePermissionLocalServiceImpl
 			companyId, name, scope, primKey, roleId, 0, new String[] {actionId},
 			ResourcePermissionConstants.OPERATOR_REMOVE);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourcePermissionCache(scope, name, primKey);
 	}
 
 	/**
@@ -972,7 +972,7 @@ public class ResourcePermissionLocalServiceImpl
 				ResourcePermissionConstants.OPERATOR_REMOVE);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourceCache(name);
 	}
 
 	/**
@@ -1161,7 +1161,7 @@ public class ResourcePermissionLocalServiceImpl
 
 		resourcePermissionPersistence.update(resourcePermission);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourcePermissionCache(scope, name, primKey);
 
 		SearchEngineUtil.updatePermissionFields(name, primKey);
 	}
@@ -1190,7 +1190,8 @@ public class ResourcePermissionLocalServiceImpl
 		finally {
 			PermissionThreadLocal.setIndexEnabled(flushEnabled);
 
-			PermissionCacheUtil.clearCache();
+			PermissionCacheUtil.clearResourcePermissionCache(
+				scope, name, primKey);
 
 			SearchEngineUtil.updatePermissionFields(name, primKey);
 		}
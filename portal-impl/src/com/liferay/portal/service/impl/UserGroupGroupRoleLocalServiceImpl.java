@@ -50,7 +50,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(groupId);
 	}
 
 	public void addUserGroupGroupRoles(
@@ -71,7 +71,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(groupId);
 	}
 
 	@Override
@@ -81,7 +81,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 
 		userGroupGroupRolePersistence.remove(userGroupGroupRole);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(userGroupGroupRole.getGroupId());
 
 		return userGroupGroupRole;
 	}
@@ -101,7 +101,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(groupId);
 	}
 
 	public void deleteUserGroupGroupRoles(long userGroupId, long[] groupIds)
@@ -111,7 +111,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 			userGroupGroupRolePersistence.removeByU_G(userGroupId, groupId);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(groupIds);
 	}
 
 	public void deleteUserGroupGroupRoles(long[] userGroupIds, long groupId)
@@ -121,7 +121,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 			userGroupGroupRolePersistence.removeByU_G(userGroupId, groupId);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(groupId);
 	}
 
 	public void deleteUserGroupGroupRoles(
@@ -139,7 +139,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(groupId);
 	}
 
 	public void deleteUserGroupGroupRolesByGroupId(long groupId)
@@ -147,7 +147,7 @@ public class UserGroupGroupRoleLocalServiceImpl
 
 		userGroupGroupRolePersistence.removeByGroupId(groupId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearGroupCache(groupId);
 	}
 
 	public void deleteUserGroupGroupRolesByRoleId(long roleId)
@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -29,6 +30,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.UnmodifiableList;
 import com.liferay.portal.model.Account;
@@ -42,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the account service.
@@ -96,15 +102,26 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 	 * @param accounts the accounts
 	 */
 	public void cacheResult(List<Account> accounts) {
+		Map<Serializable, Account> uncachedAccounts = new HashMap<Serializable, Account>();
+
 		for (Account account : accounts) {
-			if (EntityCacheUtil.getResult(
-						AccountModelImpl.ENTITY_CACHE_ENABLED,
-						AccountImpl.class, account.getPrimaryKey()) == null) {
-				cacheResult(account);
-			}
-			else {
-				account.resetOriginalValues();
-			}
+			uncachedAccounts.put(account.getPrimaryKeyObj(), account);
+		}
+
+		Map<Serializable, Serializable> cachedAccounts = EntityCacheUtil.getResults(AccountModelImpl.ENTITY_CACHE_ENABLED,
+				AccountImpl.class, uncachedAccounts.keySet());
+
+		for (Serializable primaryKey : cachedAccounts.keySet()) {
+			Account account = uncachedAccounts.remove(primaryKey);
+
+			account.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AccountModelImpl.ENTITY_CACHE_ENABLED,
+			AccountImpl.class, uncachedAccounts);
+
+		for (Account account : uncachedAccounts.values()) {
+			account.resetOriginalValues();
 		}
 	}
 
@@ -149,10 +166,14 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(accounts.size());
+
 		for (Account account : accounts) {
-			EntityCacheUtil.removeResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
-				AccountImpl.class, account.getPrimaryKey());
+			primaryKeys.add(account.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(AccountModelImpl.ENTITY_CACHE_ENABLED,
+			AccountImpl.class, primaryKeys);
 	}
 
 	/**
@@ -421,6 +442,113 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 		return fetchByPrimaryKey((Serializable)accountId);
 	}
 
+	/**
+	 * Returns the accounts with the primary keys, keyed by primary key. Primary keys without a matching account are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the accounts
+	 * @return the accounts, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Account> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Account> map = new HashMap<Serializable, Account>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Account account = fetchByPrimaryKey(primaryKey);
+
+			if (account != null) {
+				map.put(primaryKey, account);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Account account = (Account)EntityCacheUtil.getResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
+					AccountImpl.class, primaryKey);
+
+			if (account == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (account != _nullAccount) {
+				map.put(primaryKey, account);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ACCOUNT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Account account : (List<Account>)q.list()) {
+					map.put(account.getPrimaryKeyObj(), account);
+
+					cacheResult(account);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
+						AccountImpl.class, primaryKey, _nullAccount);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the accounts.
 	 *
@@ -621,6 +749,7 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 	}
 
 	private static final String _SQL_SELECT_ACCOUNT = "SELECT account FROM Account account";
+	private static final String _SQL_SELECT_ACCOUNT_WHERE_PKS_IN = "SELECT account FROM Account account WHERE account.accountId IN (";
 	private static final String _SQL_COUNT_ACCOUNT = "SELECT COUNT(account) FROM Account account";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "account.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No Account exists with the primary key ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the address service.
@@ -3296,15 +3300,26 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 	 * @param addresses the addresses
 	 */
 	public void cacheResult(List<Address> addresses) {
+		Map<Serializable, Address> uncachedAddresses = new HashMap<Serializable, Address>();
+
 		for (Address address : addresses) {
-			if (EntityCacheUtil.getResult(
-						AddressModelImpl.ENTITY_CACHE_ENABLED,
-						AddressImpl.class, address.getPrimaryKey()) == null) {
-				cacheResult(address);
-			}
-			else {
-				address.resetOriginalValues();
-			}
+			uncachedAddresses.put(address.getPrimaryKeyObj(), address);
+		}
+
+		Map<Serializable, Serializable> cachedAddresses = EntityCacheUtil.getResults(AddressModelImpl.ENTITY_CACHE_ENABLED,
+				AddressImpl.class, uncachedAddresses.keySet());
+
+		for (Serializable primaryKey : cachedAddresses.keySet()) {
+			Address address = uncachedAddresses.remove(primaryKey);
+
+			address.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AddressModelImpl.ENTITY_CACHE_ENABLED,
+			AddressImpl.class, uncachedAddresses);
+
+		for (Address address : uncachedAddresses.values()) {
+			address.resetOriginalValues();
 		}
 	}
 
@@ -3349,10 +3364,14 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(addresses.size());
+
 		for (Address address : addresses) {
-			EntityCacheUtil.removeResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
-				AddressImpl.class, address.getPrimaryKey());
+			primaryKeys.add(address.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(AddressModelImpl.ENTITY_CACHE_ENABLED,
+			AddressImpl.class, primaryKeys);
 	}
 
 	/**
@@ -3757,6 +3776,113 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 		return fetchByPrimaryKey((Serializable)addressId);
 	}
 
+	/**
+	 * Returns the addresses with the primary keys, keyed by primary key. Primary keys without a matching address are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the addresses
+	 * @return the addresses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Address> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Address> map = new HashMap<Serializable, Address>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Address address = fetchByPrimaryKey(primaryKey);
+
+			if (address != null) {
+				map.put(primaryKey, address);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Address address = (Address)EntityCacheUtil.getResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
+					AddressImpl.class, primaryKey);
+
+			if (address == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (address != _nullAddress) {
+				map.put(primaryKey, address);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ADDRESS_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Address address : (List<Address>)q.list()) {
+					map.put(address.getPrimaryKeyObj(), address);
+
+					cacheResult(address);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
+						AddressImpl.class, primaryKey, _nullAddress);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the addresses.
 	 *
@@ -3957,6 +4083,7 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 	}
 
 	private static final String _SQL_SELECT_ADDRESS = "SELECT address FROM Address address";
+	private static final String _SQL_SELECT_ADDRESS_WHERE_PKS_IN = "SELECT address FROM Address address WHERE address.addressId IN (";
 	private static final String _SQL_SELECT_ADDRESS_WHERE = "SELECT address FROM Address address WHERE ";
 	private static final String _SQL_COUNT_ADDRESS = "SELECT COUNT(address) FROM Address address";
 	private static final String _SQL_COUNT_ADDRESS_WHERE = "SELECT COUNT(address) FROM Address address WHERE ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the browser tracker service.
@@ -309,15 +313,30 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 	 * @param browserTrackers the browser trackers
 	 */
 	public void cacheResult(List<BrowserTracker> browserTrackers) {
+		Map<Serializable, BrowserTracker> uncachedBrowserTrackers = new HashMap<Serializable, BrowserTracker>();
+
 		for (BrowserTracker browserTracker : browserTrackers) {
-			if (EntityCacheUtil.getResult(
-						BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
-						BrowserTrackerImpl.class, browserTracker.getPrimaryKey()) == null) {
-				cacheResult(browserTracker);
-			}
-			else {
-				browserTracker.resetOriginalValues();
-			}
+			uncachedBrowserTrackers.put(browserTracker.getPrimaryKeyObj(),
+				browserTracker);
+		}
+
+		Map<Serializable, Serializable> cachedBrowserTrackers = EntityCacheUtil.getResults(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+				BrowserTrackerImpl.class, uncachedBrowserTrackers.keySet());
+
+		for (Serializable primaryKey : cachedBrowserTrackers.keySet()) {
+			BrowserTracker browserTracker = uncachedBrowserTrackers.remove(primaryKey);
+
+			browserTracker.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+			BrowserTrackerImpl.class, uncachedBrowserTrackers);
+
+		for (BrowserTracker browserTracker : uncachedBrowserTrackers.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_USERID,
+				new Object[] { browserTracker.getUserId() }, browserTracker);
+
+			browserTracker.resetOriginalValues();
 		}
 	}
 
@@ -364,12 +383,16 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(browserTrackers.size());
+
 		for (BrowserTracker browserTracker : browserTrackers) {
-			EntityCacheUtil.removeResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
-				BrowserTrackerImpl.class, browserTracker.getPrimaryKey());
+			primaryKeys.add(browserTracker.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(browserTracker);
 		}
+
+		EntityCacheUtil.removeResults(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+			BrowserTrackerImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(BrowserTracker browserTracker) {
@@ -676,6 +699,113 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 		return fetchByPrimaryKey((Serializable)browserTrackerId);
 	}
 
+	/**
+	 * Returns the browser trackers with the primary keys, keyed by primary key. Primary keys without a matching browser tracker are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the browser trackers
+	 * @return the browser trackers, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, BrowserTracker> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, BrowserTracker> map = new HashMap<Serializable, BrowserTracker>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			BrowserTracker browserTracker = fetchByPrimaryKey(primaryKey);
+
+			if (browserTracker != null) {
+				map.put(primaryKey, browserTracker);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			BrowserTracker browserTracker = (BrowserTracker)EntityCacheUtil.getResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+					BrowserTrackerImpl.class, primaryKey);
+
+			if (browserTracker == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (browserTracker != _nullBrowserTracker) {
+				map.put(primaryKey, browserTracker);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_BROWSERTRACKER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (BrowserTracker browserTracker : (List<BrowserTracker>)q.list()) {
+					map.put(browserTracker.getPrimaryKeyObj(), browserTracker);
+
+					cacheResult(browserTracker);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+						BrowserTrackerImpl.class, primaryKey, _nullBrowserTracker);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the browser trackers.
 	 *
@@ -877,6 +1007,7 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 	}
 
 	private static final String _SQL_SELECT_BROWSERTRACKER = "SELECT browserTracker FROM BrowserTracker browserTracker";
+	private static final String _SQL_SELECT_BROWSERTRACKER_WHERE_PKS_IN = "SELECT browserTracker FROM BrowserTracker browserTracker WHERE browserTracker.browserTrackerId IN (";
 	private static final String _SQL_SELECT_BROWSERTRACKER_WHERE = "SELECT browserTracker FROM BrowserTracker browserTracker WHERE ";
 	private static final String _SQL_COUNT_BROWSERTRACKER = "SELECT COUNT(browserTracker) FROM BrowserTracker browserTracker";
 	private static final String _SQL_COUNT_BROWSERTRACKER_WHERE = "SELECT COUNT(browserTracker) FROM BrowserTracker browserTracker WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the class name service.
@@ -338,15 +342,29 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 	 * @param classNames the class names
 	 */
 	public void cacheResult(List<ClassName> classNames) {
+		Map<Serializable, ClassName> uncachedClassNames = new HashMap<Serializable, ClassName>();
+
 		for (ClassName className : classNames) {
-			if (EntityCacheUtil.getResult(
-						ClassNameModelImpl.ENTITY_CACHE_ENABLED,
-						ClassNameImpl.class, className.getPrimaryKey()) == null) {
-				cacheResult(className);
-			}
-			else {
-				className.resetOriginalValues();
-			}
+			uncachedClassNames.put(className.getPrimaryKeyObj(), className);
+		}
+
+		Map<Serializable, Serializable> cachedClassNames = EntityCacheUtil.getResults(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+				ClassNameImpl.class, uncachedClassNames.keySet());
+
+		for (Serializable primaryKey : cachedClassNames.keySet()) {
+			ClassName className = uncachedClassNames.remove(primaryKey);
+
+			className.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+			ClassNameImpl.class, uncachedClassNames);
+
+		for (ClassName className : uncachedClassNames.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_VALUE,
+				new Object[] { className.getValue() }, className);
+
+			className.resetOriginalValues();
 		}
 	}
 
@@ -393,12 +411,16 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(classNames.size());
+
 		for (ClassName className : classNames) {
-			EntityCacheUtil.removeResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
-				ClassNameImpl.class, className.getPrimaryKey());
+			primaryKeys.add(className.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(className);
 		}
+
+		EntityCacheUtil.removeResults(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+			ClassNameImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ClassName className) {
@@ -701,6 +723,113 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 		return fetchByPrimaryKey((Serializable)classNameId);
 	}
 
+	/**
+	 * Returns the class names with the primary keys, keyed by primary key. Primary keys without a matching class name are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the class names
+	 * @return the class names, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ClassName> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ClassName> map = new HashMap<Serializable, ClassName>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ClassName className = fetchByPrimaryKey(primaryKey);
+
+			if (className != null) {
+				map.put(primaryKey, className);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ClassName className = (ClassName)EntityCacheUtil.getResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+					ClassNameImpl.class, primaryKey);
+
+			if (className == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (className != _nullClassName) {
+				map.put(primaryKey, className);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_CLASSNAME_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ClassName className : (List<ClassName>)q.list()) {
+					map.put(className.getPrimaryKeyObj(), className);
+
+					cacheResult(className);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+						ClassNameImpl.class, primaryKey, _nullClassName);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the class names.
 	 *
@@ -902,6 +1031,7 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 	}
 
 	private static final String _SQL_SELECT_CLASSNAME = "SELECT className FROM ClassName className";
+	private static final String _SQL_SELECT_CLASSNAME_WHERE_PKS_IN = "SELECT className FROM ClassName className WHERE className.classNameId IN (";
 	private static final String _SQL_SELECT_CLASSNAME_WHERE = "SELECT className FROM ClassName className WHERE ";
 	private static final String _SQL_COUNT_CLASSNAME = "SELECT COUNT(className) FROM ClassName className";
 	private static final String _SQL_COUNT_CLASSNAME_WHERE = "SELECT COUNT(className) FROM ClassName className WHERE ";
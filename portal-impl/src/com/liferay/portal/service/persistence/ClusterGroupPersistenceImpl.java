@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -29,6 +30,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.UnmodifiableList;
 import com.liferay.portal.model.CacheModel;
@@ -42,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the cluster group service.
@@ -96,15 +102,27 @@ public class ClusterGroupPersistenceImpl extends BasePersistenceImpl<ClusterGrou
 	 * @param clusterGroups the cluster groups
 	 */
 	public void cacheResult(List<ClusterGroup> clusterGroups) {
+		Map<Serializable, ClusterGroup> uncachedClusterGroups = new HashMap<Serializable, ClusterGroup>();
+
 		for (ClusterGroup clusterGroup : clusterGroups) {
-			if (EntityCacheUtil.getResult(
-						ClusterGroupModelImpl.ENTITY_CACHE_ENABLED,
-						ClusterGroupImpl.class, clusterGroup.getPrimaryKey()) == null) {
-				cacheResult(clusterGroup);
-			}
-			else {
-				clusterGroup.resetOriginalValues();
-			}
+			uncachedClusterGroups.put(clusterGroup.getPrimaryKeyObj(),
+				clusterGroup);
+		}
+
+		Map<Serializable, Serializable> cachedClusterGroups = EntityCacheUtil.getResults(ClusterGroupModelImpl.ENTITY_CACHE_ENABLED,
+				ClusterGroupImpl.class, uncachedClusterGroups.keySet());
+
+		for (Serializable primaryKey : cachedClusterGroups.keySet()) {
+			ClusterGroup clusterGroup = uncachedClusterGroups.remove(primaryKey);
+
+			clusterGroup.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ClusterGroupModelImpl.ENTITY_CACHE_ENABLED,
+			ClusterGroupImpl.class, uncachedClusterGroups);
+
+		for (ClusterGroup clusterGroup : uncachedClusterGroups.values()) {
+			clusterGroup.resetOriginalValues();
 		}
 	}
 
@@ -149,10 +167,14 @@ public class ClusterGroupPersistenceImpl extends BasePersistenceImpl<ClusterGrou
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(clusterGroups.size());
+
 		for (ClusterGroup clusterGroup : clusterGroups) {
-			EntityCacheUtil.removeResult(ClusterGroupModelImpl.ENTITY_CACHE_ENABLED,
-				ClusterGroupImpl.class, clusterGroup.getPrimaryKey());
+			primaryKeys.add(clusterGroup.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ClusterGroupModelImpl.ENTITY_CACHE_ENABLED,
+			ClusterGroupImpl.class, primaryKeys);
 	}
 
 	/**
@@ -414,6 +436,113 @@ public class ClusterGroupPersistenceImpl extends BasePersistenceImpl<ClusterGrou
 		return fetchByPrimaryKey((Serializable)clusterGroupId);
 	}
 
+	/**
+	 * Returns the cluster groups with the primary keys, keyed by primary key. Primary keys without a matching cluster group are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the cluster groups
+	 * @return the cluster groups, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ClusterGroup> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ClusterGroup> map = new HashMap<Serializable, ClusterGroup>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ClusterGroup clusterGroup = fetchByPrimaryKey(primaryKey);
+
+			if (clusterGroup != null) {
+				map.put(primaryKey, clusterGroup);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ClusterGroup clusterGroup = (ClusterGroup)EntityCacheUtil.getResult(ClusterGroupModelImpl.ENTITY_CACHE_ENABLED,
+					ClusterGroupImpl.class, primaryKey);
+
+			if (clusterGroup == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (clusterGroup != _nullClusterGroup) {
+				map.put(primaryKey, clusterGroup);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_CLUSTERGROUP_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ClusterGroup clusterGroup : (List<ClusterGroup>)q.list()) {
+					map.put(clusterGroup.getPrimaryKeyObj(), clusterGroup);
+
+					cacheResult(clusterGroup);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ClusterGroupModelImpl.ENTITY_CACHE_ENABLED,
+						ClusterGroupImpl.class, primaryKey, _nullClusterGroup);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the cluster groups.
 	 *
@@ -615,6 +744,7 @@ public class ClusterGroupPersistenceImpl extends BasePersistenceImpl<ClusterGrou
 	}
 
 	private static final String _SQL_SELECT_CLUSTERGROUP = "SELECT clusterGroup FROM ClusterGroup clusterGroup";
+	private static final String _SQL_SELECT_CLUSTERGROUP_WHERE_PKS_IN = "SELECT clusterGroup FROM ClusterGroup clusterGroup WHERE clusterGroup.clusterGroupId IN (";
 	private static final String _SQL_COUNT_CLUSTERGROUP = "SELECT COUNT(clusterGroup) FROM ClusterGroup clusterGroup";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "clusterGroup.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No ClusterGroup exists with the primary key ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the company service.
@@ -1269,15 +1273,35 @@ public class CompanyPersistenceImpl extends BasePersistenceImpl<Company>
 	 * @param companies the companies
 	 */
 	public void cacheResult(List<Company> companies) {
+		Map<Serializable, Company> uncachedCompanies = new HashMap<Serializable, Company>();
+
 		for (Company company : companies) {
-			if (EntityCacheUtil.getResult(
-						CompanyModelImpl.ENTITY_CACHE_ENABLED,
-						CompanyImpl.class, company.getPrimaryKey()) == null) {
-				cacheResult(company);
-			}
-			else {
-				company.resetOriginalValues();
-			}
+			uncachedCompanies.put(company.getPrimaryKeyObj(), company);
+		}
+
+		Map<Serializable, Serializable> cachedCompanies = EntityCacheUtil.getResults(CompanyModelImpl.ENTITY_CACHE_ENABLED,
+				CompanyImpl.class, uncachedCompanies.keySet());
+
+		for (Serializable primaryKey : cachedCompanies.keySet()) {
+			Company company = uncachedCompanies.remove(primaryKey);
+
+			company.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(CompanyModelImpl.ENTITY_CACHE_ENABLED,
+			CompanyImpl.class, uncachedCompanies);
+
+		for (Company company : uncachedCompanies.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_WEBID,
+				new Object[] { company.getWebId() }, company);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_MX,
+				new Object[] { company.getMx() }, company);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_LOGOID,
+				new Object[] { company.getLogoId() }, company);
+
+			company.resetOriginalValues();
 		}
 	}
 
@@ -1324,12 +1348,16 @@ public class CompanyPersistenceImpl extends BasePersistenceImpl<Company>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(companies.size());
+
 		for (Company company : companies) {
-			EntityCacheUtil.removeResult(CompanyModelImpl.ENTITY_CACHE_ENABLED,
-				CompanyImpl.class, company.getPrimaryKey());
+			primaryKeys.add(company.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(company);
 		}
+
+		EntityCacheUtil.removeResults(CompanyModelImpl.ENTITY_CACHE_ENABLED,
+			CompanyImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Company company) {
@@ -1713,6 +1741,113 @@ public class CompanyPersistenceImpl extends BasePersistenceImpl<Company>
 		return fetchByPrimaryKey((Serializable)companyId);
 	}
 
+	/**
+	 * Returns the companies with the primary keys, keyed by primary key. Primary keys without a matching company are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the companies
+	 * @return the companies, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Company> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Company> map = new HashMap<Serializable, Company>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Company company = fetchByPrimaryKey(primaryKey);
+
+			if (company != null) {
+				map.put(primaryKey, company);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Company company = (Company)EntityCacheUtil.getResult(CompanyModelImpl.ENTITY_CACHE_ENABLED,
+					CompanyImpl.class, primaryKey);
+
+			if (company == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (company != _nullCompany) {
+				map.put(primaryKey, company);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_COMPANY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Company company : (List<Company>)q.list()) {
+					map.put(company.getPrimaryKeyObj(), company);
+
+					cacheResult(company);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(CompanyModelImpl.ENTITY_CACHE_ENABLED,
+						CompanyImpl.class, primaryKey, _nullCompany);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the companies.
 	 *
@@ -1913,6 +2048,7 @@ public class CompanyPersistenceImpl extends BasePersistenceImpl<Company>
 	}
 
 	private static final String _SQL_SELECT_COMPANY = "SELECT company FROM Company company";
+	private static final String _SQL_SELECT_COMPANY_WHERE_PKS_IN = "SELECT company FROM Company company WHERE company.companyId IN (";
 	private static final String _SQL_SELECT_COMPANY_WHERE = "SELECT company FROM Company company WHERE ";
 	private static final String _SQL_COUNT_COMPANY = "SELECT COUNT(company) FROM Company company";
 	private static final String _SQL_COUNT_COMPANY_WHERE = "SELECT COUNT(company) FROM Company company WHERE ";
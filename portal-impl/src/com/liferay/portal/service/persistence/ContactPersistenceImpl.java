@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the contact service.
@@ -1561,15 +1565,26 @@ public class ContactPersistenceImpl extends BasePersistenceImpl<Contact>
 	 * @param contacts the contacts
 	 */
 	public void cacheResult(List<Contact> contacts) {
+		Map<Serializable, Contact> uncachedContacts = new HashMap<Serializable, Contact>();
+
 		for (Contact contact : contacts) {
-			if (EntityCacheUtil.getResult(
-						ContactModelImpl.ENTITY_CACHE_ENABLED,
-						ContactImpl.class, contact.getPrimaryKey()) == null) {
-				cacheResult(contact);
-			}
-			else {
-				contact.resetOriginalValues();
-			}
+			uncachedContacts.put(contact.getPrimaryKeyObj(), contact);
+		}
+
+		Map<Serializable, Serializable> cachedContacts = EntityCacheUtil.getResults(ContactModelImpl.ENTITY_CACHE_ENABLED,
+				ContactImpl.class, uncachedContacts.keySet());
+
+		for (Serializable primaryKey : cachedContacts.keySet()) {
+			Contact contact = uncachedContacts.remove(primaryKey);
+
+			contact.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ContactModelImpl.ENTITY_CACHE_ENABLED,
+			ContactImpl.class, uncachedContacts);
+
+		for (Contact contact : uncachedContacts.values()) {
+			contact.resetOriginalValues();
 		}
 	}
 
@@ -1614,10 +1629,14 @@ public class ContactPersistenceImpl extends BasePersistenceImpl<Contact>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(contacts.size());
+
 		for (Contact contact : contacts) {
-			EntityCacheUtil.removeResult(ContactModelImpl.ENTITY_CACHE_ENABLED,
-				ContactImpl.class, contact.getPrimaryKey());
+			primaryKeys.add(contact.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ContactModelImpl.ENTITY_CACHE_ENABLED,
+			ContactImpl.class, primaryKeys);
 	}
 
 	/**
@@ -1966,6 +1985,113 @@ public class ContactPersistenceImpl extends BasePersistenceImpl<Contact>
 		return fetchByPrimaryKey((Serializable)contactId);
 	}
 
+	/**
+	 * Returns the contacts with the primary keys, keyed by primary key. Primary keys without a matching contact are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the contacts
+	 * @return the contacts, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Contact> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Contact> map = new HashMap<Serializable, Contact>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Contact contact = fetchByPrimaryKey(primaryKey);
+
+			if (contact != null) {
+				map.put(primaryKey, contact);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Contact contact = (Contact)EntityCacheUtil.getResult(ContactModelImpl.ENTITY_CACHE_ENABLED,
+					ContactImpl.class, primaryKey);
+
+			if (contact == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (contact != _nullContact) {
+				map.put(primaryKey, contact);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_CONTACT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Contact contact : (List<Contact>)q.list()) {
+					map.put(contact.getPrimaryKeyObj(), contact);
+
+					cacheResult(contact);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ContactModelImpl.ENTITY_CACHE_ENABLED,
+						ContactImpl.class, primaryKey, _nullContact);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the contacts.
 	 *
@@ -2166,6 +2292,7 @@ public class ContactPersistenceImpl extends BasePersistenceImpl<Contact>
 	}
 
 	private static final String _SQL_SELECT_CONTACT = "SELECT contact FROM Contact contact";
+	private static final String _SQL_SELECT_CONTACT_WHERE_PKS_IN = "SELECT contact FROM Contact contact WHERE contact.contactId IN (";
 	private static final String _SQL_SELECT_CONTACT_WHERE = "SELECT contact FROM Contact contact WHERE ";
 	private static final String _SQL_COUNT_CONTACT = "SELECT COUNT(contact) FROM Contact contact";
 	private static final String _SQL_COUNT_CONTACT_WHERE = "SELECT COUNT(contact) FROM Contact contact WHERE ";
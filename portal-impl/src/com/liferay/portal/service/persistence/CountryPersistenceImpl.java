@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the country service.
@@ -1286,15 +1290,35 @@ public class CountryPersistenceImpl extends BasePersistenceImpl<Country>
 	 * @param countries the countries
 	 */
 	public void cacheResult(List<Country> countries) {
+		Map<Serializable, Country> uncachedCountries = new HashMap<Serializable, Country>();
+
 		for (Country country : countries) {
-			if (EntityCacheUtil.getResult(
-						CountryModelImpl.ENTITY_CACHE_ENABLED,
-						CountryImpl.class, country.getPrimaryKey()) == null) {
-				cacheResult(country);
-			}
-			else {
-				country.resetOriginalValues();
-			}
+			uncachedCountries.put(country.getPrimaryKeyObj(), country);
+		}
+
+		Map<Serializable, Serializable> cachedCountries = EntityCacheUtil.getResults(CountryModelImpl.ENTITY_CACHE_ENABLED,
+				CountryImpl.class, uncachedCountries.keySet());
+
+		for (Serializable primaryKey : cachedCountries.keySet()) {
+			Country country = uncachedCountries.remove(primaryKey);
+
+			country.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(CountryModelImpl.ENTITY_CACHE_ENABLED,
+			CountryImpl.class, uncachedCountries);
+
+		for (Country country : uncachedCountries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_NAME,
+				new Object[] { country.getName() }, country);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_A2,
+				new Object[] { country.getA2() }, country);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_A3,
+				new Object[] { country.getA3() }, country);
+
+			country.resetOriginalValues();
 		}
 	}
 
@@ -1341,12 +1365,16 @@ public class CountryPersistenceImpl extends BasePersistenceImpl<Country>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(countries.size());
+
 		for (Country country : countries) {
-			EntityCacheUtil.removeResult(CountryModelImpl.ENTITY_CACHE_ENABLED,
-				CountryImpl.class, country.getPrimaryKey());
+			primaryKeys.add(country.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(country);
 		}
+
+		EntityCacheUtil.removeResults(CountryModelImpl.ENTITY_CACHE_ENABLED,
+			CountryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Country country) {
@@ -1727,6 +1755,113 @@ public class CountryPersistenceImpl extends BasePersistenceImpl<Country>
 		return fetchByPrimaryKey((Serializable)countryId);
 	}
 
+	/**
+	 * Returns the countries with the primary keys, keyed by primary key. Primary keys without a matching country are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the countries
+	 * @return the countries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Country> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Country> map = new HashMap<Serializable, Country>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Country country = fetchByPrimaryKey(primaryKey);
+
+			if (country != null) {
+				map.put(primaryKey, country);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Country country = (Country)EntityCacheUtil.getResult(CountryModelImpl.ENTITY_CACHE_ENABLED,
+					CountryImpl.class, primaryKey);
+
+			if (country == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (country != _nullCountry) {
+				map.put(primaryKey, country);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_COUNTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Country country : (List<Country>)q.list()) {
+					map.put(country.getPrimaryKeyObj(), country);
+
+					cacheResult(country);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(CountryModelImpl.ENTITY_CACHE_ENABLED,
+						CountryImpl.class, primaryKey, _nullCountry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the countries.
 	 *
@@ -1927,6 +2062,7 @@ public class CountryPersistenceImpl extends BasePersistenceImpl<Country>
 	}
 
 	private static final String _SQL_SELECT_COUNTRY = "SELECT country FROM Country country";
+	private static final String _SQL_SELECT_COUNTRY_WHERE_PKS_IN = "SELECT country FROM Country country WHERE country.countryId IN (";
 	private static final String _SQL_SELECT_COUNTRY_WHERE = "SELECT country FROM Country country WHERE ";
 	private static final String _SQL_COUNT_COUNTRY = "SELECT COUNT(country) FROM Country country";
 	private static final String _SQL_COUNT_COUNTRY_WHERE = "SELECT COUNT(country) FROM Country country WHERE ";
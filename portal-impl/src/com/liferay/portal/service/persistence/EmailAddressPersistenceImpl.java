@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the email address service.
@@ -2715,15 +2719,27 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 	 * @param emailAddresses the email addresses
 	 */
 	public void cacheResult(List<EmailAddress> emailAddresses) {
+		Map<Serializable, EmailAddress> uncachedEmailAddresses = new HashMap<Serializable, EmailAddress>();
+
 		for (EmailAddress emailAddress : emailAddresses) {
-			if (EntityCacheUtil.getResult(
-						EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
-						EmailAddressImpl.class, emailAddress.getPrimaryKey()) == null) {
-				cacheResult(emailAddress);
-			}
-			else {
-				emailAddress.resetOriginalValues();
-			}
+			uncachedEmailAddresses.put(emailAddress.getPrimaryKeyObj(),
+				emailAddress);
+		}
+
+		Map<Serializable, Serializable> cachedEmailAddresses = EntityCacheUtil.getResults(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
+				EmailAddressImpl.class, uncachedEmailAddresses.keySet());
+
+		for (Serializable primaryKey : cachedEmailAddresses.keySet()) {
+			EmailAddress emailAddress = uncachedEmailAddresses.remove(primaryKey);
+
+			emailAddress.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
+			EmailAddressImpl.class, uncachedEmailAddresses);
+
+		for (EmailAddress emailAddress : uncachedEmailAddresses.values()) {
+			emailAddress.resetOriginalValues();
 		}
 	}
 
@@ -2768,10 +2784,14 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(emailAddresses.size());
+
 		for (EmailAddress emailAddress : emailAddresses) {
-			EntityCacheUtil.removeResult(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
-				EmailAddressImpl.class, emailAddress.getPrimaryKey());
+			primaryKeys.add(emailAddress.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
+			EmailAddressImpl.class, primaryKeys);
 	}
 
 	/**
@@ -3149,6 +3169,113 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 		return fetchByPrimaryKey((Serializable)emailAddressId);
 	}
 
+	/**
+	 * Returns the email addresses with the primary keys, keyed by primary key. Primary keys without a matching email address are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the email addresses
+	 * @return the email addresses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, EmailAddress> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, EmailAddress> map = new HashMap<Serializable, EmailAddress>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			EmailAddress emailAddress = fetchByPrimaryKey(primaryKey);
+
+			if (emailAddress != null) {
+				map.put(primaryKey, emailAddress);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			EmailAddress emailAddress = (EmailAddress)EntityCacheUtil.getResult(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
+					EmailAddressImpl.class, primaryKey);
+
+			if (emailAddress == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (emailAddress != _nullEmailAddress) {
+				map.put(primaryKey, emailAddress);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_EMAILADDRESS_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (EmailAddress emailAddress : (List<EmailAddress>)q.list()) {
+					map.put(emailAddress.getPrimaryKeyObj(), emailAddress);
+
+					cacheResult(emailAddress);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
+						EmailAddressImpl.class, primaryKey, _nullEmailAddress);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the email addresses.
 	 *
@@ -3350,6 +3477,7 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 	}
 
 	private static final String _SQL_SELECT_EMAILADDRESS = "SELECT emailAddress FROM EmailAddress emailAddress";
+	private static final String _SQL_SELECT_EMAILADDRESS_WHERE_PKS_IN = "SELECT emailAddress FROM EmailAddress emailAddress WHERE emailAddress.emailAddressId IN (";
 	private static final String _SQL_SELECT_EMAILADDRESS_WHERE = "SELECT emailAddress FROM EmailAddress emailAddress WHERE ";
 	private static final String _SQL_COUNT_EMAILADDRESS = "SELECT COUNT(emailAddress) FROM EmailAddress emailAddress";
 	private static final String _SQL_COUNT_EMAILADDRESS_WHERE = "SELECT COUNT(emailAddress) FROM EmailAddress emailAddress WHERE ";
@@ -53,7 +53,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -4824,14 +4827,51 @@ public class GroupPersistenceImpl extends BasePersistenceImpl<Group>
 	 * @param groups the groups
 	 */
 	public void cacheResult(List<Group> groups) {
+		Map<Serializable, Group> uncachedGroups = new HashMap<Serializable, Group>();
+
 		for (Group group : groups) {
-			if (EntityCacheUtil.getResult(GroupModelImpl.ENTITY_CACHE_ENABLED,
-						GroupImpl.class, group.getPrimaryKey()) == null) {
-				cacheResult(group);
-			}
-			else {
-				group.resetOriginalValues();
-			}
+			uncachedGroups.put(group.getPrimaryKeyObj(), group);
+		}
+
+		Map<Serializable, Serializable> cachedGroups = EntityCacheUtil.getResults(GroupModelImpl.ENTITY_CACHE_ENABLED,
+				GroupImpl.class, uncachedGroups.keySet());
+
+		for (Serializable primaryKey : cachedGroups.keySet()) {
+			Group group = uncachedGroups.remove(primaryKey);
+
+			group.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(GroupModelImpl.ENTITY_CACHE_ENABLED,
+			GroupImpl.class, uncachedGroups);
+
+		for (Group group : uncachedGroups.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_LIVEGROUPID,
+				new Object[] { group.getLiveGroupId() }, group);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_N,
+				new Object[] { group.getCompanyId(), group.getName() }, group);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_F,
+				new Object[] { group.getCompanyId(), group.getFriendlyURL() }, group);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C_C,
+				new Object[] {
+					group.getCompanyId(), group.getClassNameId(), group.getClassPK()
+				}, group);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_L_N,
+				new Object[] {
+					group.getCompanyId(), group.getLiveGroupId(), group.getName()
+				}, group);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C_L_N,
+				new Object[] {
+					group.getCompanyId(), group.getClassNameId(),
+					group.getLiveGroupId(), group.getName()
+				}, group);
+
+			group.resetOriginalValues();
 		}
 	}
 
@@ -4878,12 +4918,16 @@ public class GroupPersistenceImpl extends BasePersistenceImpl<Group>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(groups.size());
+
 		for (Group group : groups) {
-			EntityCacheUtil.removeResult(GroupModelImpl.ENTITY_CACHE_ENABLED,
-				GroupImpl.class, group.getPrimaryKey());
+			primaryKeys.add(group.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(group);
 		}
+
+		EntityCacheUtil.removeResults(GroupModelImpl.ENTITY_CACHE_ENABLED,
+			GroupImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Group group) {
@@ -5556,6 +5600,113 @@ public class GroupPersistenceImpl extends BasePersistenceImpl<Group>
 		return fetchByPrimaryKey((Serializable)groupId);
 	}
 
+	/**
+	 * Returns the groups with the primary keys, keyed by primary key. Primary keys without a matching group are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the groups
+	 * @return the groups, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Group> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Group> map = new HashMap<Serializable, Group>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Group group = fetchByPrimaryKey(primaryKey);
+
+			if (group != null) {
+				map.put(primaryKey, group);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Group group = (Group)EntityCacheUtil.getResult(GroupModelImpl.ENTITY_CACHE_ENABLED,
+					GroupImpl.class, primaryKey);
+
+			if (group == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (group != _nullGroup) {
+				map.put(primaryKey, group);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_GROUP__WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Group group : (List<Group>)q.list()) {
+					map.put(group.getPrimaryKeyObj(), group);
+
+					cacheResult(group);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(GroupModelImpl.ENTITY_CACHE_ENABLED,
+						GroupImpl.class, primaryKey, _nullGroup);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the groups.
 	 *
@@ -8418,6 +8569,7 @@ public class GroupPersistenceImpl extends BasePersistenceImpl<Group>
 	}
 
 	private static final String _SQL_SELECT_GROUP_ = "SELECT group_ FROM Group group_";
+	private static final String _SQL_SELECT_GROUP__WHERE_PKS_IN = "SELECT group_ FROM Group group_ WHERE group_.groupId IN (";
 	private static final String _SQL_SELECT_GROUP__WHERE = "SELECT group_ FROM Group group_ WHERE ";
 	private static final String _SQL_COUNT_GROUP_ = "SELECT COUNT(group_) FROM Group group_";
 	private static final String _SQL_COUNT_GROUP__WHERE = "SELECT COUNT(group_) FROM Group group_ WHERE ";
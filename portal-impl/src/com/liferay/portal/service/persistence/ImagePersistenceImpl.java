@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the image service.
@@ -554,14 +558,26 @@ public class ImagePersistenceImpl extends BasePersistenceImpl<Image>
 	 * @param images the images
 	 */
 	public void cacheResult(List<Image> images) {
+		Map<Serializable, Image> uncachedImages = new HashMap<Serializable, Image>();
+
 		for (Image image : images) {
-			if (EntityCacheUtil.getResult(ImageModelImpl.ENTITY_CACHE_ENABLED,
-						ImageImpl.class, image.getPrimaryKey()) == null) {
-				cacheResult(image);
-			}
-			else {
-				image.resetOriginalValues();
-			}
+			uncachedImages.put(image.getPrimaryKeyObj(), image);
+		}
+
+		Map<Serializable, Serializable> cachedImages = EntityCacheUtil.getResults(ImageModelImpl.ENTITY_CACHE_ENABLED,
+				ImageImpl.class, uncachedImages.keySet());
+
+		for (Serializable primaryKey : cachedImages.keySet()) {
+			Image image = uncachedImages.remove(primaryKey);
+
+			image.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ImageModelImpl.ENTITY_CACHE_ENABLED,
+			ImageImpl.class, uncachedImages);
+
+		for (Image image : uncachedImages.values()) {
+			image.resetOriginalValues();
 		}
 	}
 
@@ -606,10 +622,14 @@ public class ImagePersistenceImpl extends BasePersistenceImpl<Image>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(images.size());
+
 		for (Image image : images) {
-			EntityCacheUtil.removeResult(ImageModelImpl.ENTITY_CACHE_ENABLED,
-				ImageImpl.class, image.getPrimaryKey());
+			primaryKeys.add(image.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ImageModelImpl.ENTITY_CACHE_ENABLED,
+			ImageImpl.class, primaryKeys);
 	}
 
 	/**
@@ -868,6 +888,113 @@ public class ImagePersistenceImpl extends BasePersistenceImpl<Image>
 		return fetchByPrimaryKey((Serializable)imageId);
 	}
 
+	/**
+	 * Returns the images with the primary keys, keyed by primary key. Primary keys without a matching image are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the images
+	 * @return the images, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Image> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Image> map = new HashMap<Serializable, Image>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Image image = fetchByPrimaryKey(primaryKey);
+
+			if (image != null) {
+				map.put(primaryKey, image);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Image image = (Image)EntityCacheUtil.getResult(ImageModelImpl.ENTITY_CACHE_ENABLED,
+					ImageImpl.class, primaryKey);
+
+			if (image == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (image != _nullImage) {
+				map.put(primaryKey, image);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_IMAGE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Image image : (List<Image>)q.list()) {
+					map.put(image.getPrimaryKeyObj(), image);
+
+					cacheResult(image);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ImageModelImpl.ENTITY_CACHE_ENABLED,
+						ImageImpl.class, primaryKey, _nullImage);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the images.
 	 *
@@ -1068,6 +1195,7 @@ public class ImagePersistenceImpl extends BasePersistenceImpl<Image>
 	}
 
 	private static final String _SQL_SELECT_IMAGE = "SELECT image FROM Image image";
+	private static final String _SQL_SELECT_IMAGE_WHERE_PKS_IN = "SELECT image FROM Image image WHERE image.imageId IN (";
 	private static final String _SQL_SELECT_IMAGE_WHERE = "SELECT image FROM Image image WHERE ";
 	private static final String _SQL_COUNT_IMAGE = "SELECT COUNT(image) FROM Image image";
 	private static final String _SQL_COUNT_IMAGE_WHERE = "SELECT COUNT(image) FROM Image image WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the layout branch service.
@@ -1656,15 +1660,39 @@ public class LayoutBranchPersistenceImpl extends BasePersistenceImpl<LayoutBranc
 	 * @param layoutBranchs the layout branchs
 	 */
 	public void cacheResult(List<LayoutBranch> layoutBranchs) {
+		Map<Serializable, LayoutBranch> uncachedLayoutBranchs = new HashMap<Serializable, LayoutBranch>();
+
 		for (LayoutBranch layoutBranch : layoutBranchs) {
-			if (EntityCacheUtil.getResult(
-						LayoutBranchModelImpl.ENTITY_CACHE_ENABLED,
-						LayoutBranchImpl.class, layoutBranch.getPrimaryKey()) == null) {
-				cacheResult(layoutBranch);
-			}
-			else {
-				layoutBranch.resetOriginalValues();
-			}
+			uncachedLayoutBranchs.put(layoutBranch.getPrimaryKeyObj(),
+				layoutBranch);
+		}
+
+		Map<Serializable, Serializable> cachedLayoutBranchs = EntityCacheUtil.getResults(LayoutBranchModelImpl.ENTITY_CACHE_ENABLED,
+				LayoutBranchImpl.class, uncachedLayoutBranchs.keySet());
+
+		for (Serializable primaryKey : cachedLayoutBranchs.keySet()) {
+			LayoutBranch layoutBranch = uncachedLayoutBranchs.remove(primaryKey);
+
+			layoutBranch.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(LayoutBranchModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutBranchImpl.class, uncachedLayoutBranchs);
+
+		for (LayoutBranch layoutBranch : uncachedLayoutBranchs.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_L_P_N,
+				new Object[] {
+					layoutBranch.getLayoutSetBranchId(), layoutBranch.getPlid(),
+					layoutBranch.getName()
+				}, layoutBranch);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_L_P_M,
+				new Object[] {
+					layoutBranch.getLayoutSetBranchId(), layoutBranch.getPlid(),
+					layoutBranch.getMaster()
+				}, layoutBranch);
+
+			layoutBranch.resetOriginalValues();
 		}
 	}
 
@@ -1711,12 +1739,16 @@ public class LayoutBranchPersistenceImpl extends BasePersistenceImpl<LayoutBranc
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(layoutBranchs.size());
+
 		for (LayoutBranch layoutBranch : layoutBranchs) {
-			EntityCacheUtil.removeResult(LayoutBranchModelImpl.ENTITY_CACHE_ENABLED,
-				LayoutBranchImpl.class, layoutBranch.getPrimaryKey());
+			primaryKeys.add(layoutBranch.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(layoutBranch);
 		}
+
+		EntityCacheUtil.removeResults(LayoutBranchModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutBranchImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(LayoutBranch layoutBranch) {
@@ -2128,6 +2160,113 @@ public class LayoutBranchPersistenceImpl extends BasePersistenceImpl<LayoutBranc
 		return fetchByPrimaryKey((Serializable)LayoutBranchId);
 	}
 
+	/**
+	 * Returns the layout branchs with the primary keys, keyed by primary key. Primary keys without a matching layout branch are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the layout branchs
+	 * @return the layout branchs, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, LayoutBranch> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, LayoutBranch> map = new HashMap<Serializable, LayoutBranch>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			LayoutBranch layoutBranch = fetchByPrimaryKey(primaryKey);
+
+			if (layoutBranch != null) {
+				map.put(primaryKey, layoutBranch);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			LayoutBranch layoutBranch = (LayoutBranch)EntityCacheUtil.getResult(LayoutBranchModelImpl.ENTITY_CACHE_ENABLED,
+					LayoutBranchImpl.class, primaryKey);
+
+			if (layoutBranch == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (layoutBranch != _nullLayoutBranch) {
+				map.put(primaryKey, layoutBranch);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LAYOUTBRANCH_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (LayoutBranch layoutBranch : (List<LayoutBranch>)q.list()) {
+					map.put(layoutBranch.getPrimaryKeyObj(), layoutBranch);
+
+					cacheResult(layoutBranch);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(LayoutBranchModelImpl.ENTITY_CACHE_ENABLED,
+						LayoutBranchImpl.class, primaryKey, _nullLayoutBranch);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the layout branchs.
 	 *
@@ -2329,6 +2468,7 @@ public class LayoutBranchPersistenceImpl extends BasePersistenceImpl<LayoutBranc
 	}
 
 	private static final String _SQL_SELECT_LAYOUTBRANCH = "SELECT layoutBranch FROM LayoutBranch layoutBranch";
+	private static final String _SQL_SELECT_LAYOUTBRANCH_WHERE_PKS_IN = "SELECT layoutBranch FROM LayoutBranch layoutBranch WHERE layoutBranch.LayoutBranchId IN (";
 	private static final String _SQL_SELECT_LAYOUTBRANCH_WHERE = "SELECT layoutBranch FROM LayoutBranch layoutBranch WHERE ";
 	private static final String _SQL_COUNT_LAYOUTBRANCH = "SELECT COUNT(layoutBranch) FROM LayoutBranch layoutBranch";
 	private static final String _SQL_COUNT_LAYOUTBRANCH_WHERE = "SELECT COUNT(layoutBranch) FROM LayoutBranch layoutBranch WHERE ";
@@ -48,7 +48,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the layout service.
@@ -7819,15 +7823,52 @@ public class LayoutPersistenceImpl extends BasePersistenceImpl<Layout>
 	 * @param layouts the layouts
 	 */
 	public void cacheResult(List<Layout> layouts) {
+		Map<Serializable, Layout> uncachedLayouts = new HashMap<Serializable, Layout>();
+
 		for (Layout layout : layouts) {
-			if (EntityCacheUtil.getResult(
-						LayoutModelImpl.ENTITY_CACHE_ENABLED, LayoutImpl.class,
-						layout.getPrimaryKey()) == null) {
-				cacheResult(layout);
-			}
-			else {
-				layout.resetOriginalValues();
-			}
+			uncachedLayouts.put(layout.getPrimaryKeyObj(), layout);
+		}
+
+		Map<Serializable, Serializable> cachedLayouts = EntityCacheUtil.getResults(LayoutModelImpl.ENTITY_CACHE_ENABLED,
+				LayoutImpl.class, uncachedLayouts.keySet());
+
+		for (Serializable primaryKey : cachedLayouts.keySet()) {
+			Layout layout = uncachedLayouts.remove(primaryKey);
+
+			layout.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(LayoutModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutImpl.class, uncachedLayouts);
+
+		for (Layout layout : uncachedLayouts.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G_P,
+				new Object[] {
+					layout.getUuid(), layout.getGroupId(), layout.getPrivateLayout()
+				}, layout);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_ICONIMAGEID,
+				new Object[] { layout.getIconImageId() }, layout);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P_L,
+				new Object[] {
+					layout.getGroupId(), layout.getPrivateLayout(),
+					layout.getLayoutId()
+				}, layout);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P_F,
+				new Object[] {
+					layout.getGroupId(), layout.getPrivateLayout(),
+					layout.getFriendlyURL()
+				}, layout);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P_SPLU,
+				new Object[] {
+					layout.getGroupId(), layout.getPrivateLayout(),
+					layout.getSourcePrototypeLayoutUuid()
+				}, layout);
+
+			layout.resetOriginalValues();
 		}
 	}
 
@@ -7874,12 +7915,16 @@ public class LayoutPersistenceImpl extends BasePersistenceImpl<Layout>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(layouts.size());
+
 		for (Layout layout : layouts) {
-			EntityCacheUtil.removeResult(LayoutModelImpl.ENTITY_CACHE_ENABLED,
-				LayoutImpl.class, layout.getPrimaryKey());
+			primaryKeys.add(layout.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(layout);
 		}
+
+		EntityCacheUtil.removeResults(LayoutModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Layout layout) {
@@ -8567,6 +8612,113 @@ public class LayoutPersistenceImpl extends BasePersistenceImpl<Layout>
 		return fetchByPrimaryKey((Serializable)plid);
 	}
 
+	/**
+	 * Returns the layouts with the primary keys, keyed by primary key. Primary keys without a matching layout are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the layouts
+	 * @return the layouts, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Layout> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Layout> map = new HashMap<Serializable, Layout>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Layout layout = fetchByPrimaryKey(primaryKey);
+
+			if (layout != null) {
+				map.put(primaryKey, layout);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Layout layout = (Layout)EntityCacheUtil.getResult(LayoutModelImpl.ENTITY_CACHE_ENABLED,
+					LayoutImpl.class, primaryKey);
+
+			if (layout == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (layout != _nullLayout) {
+				map.put(primaryKey, layout);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LAYOUT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Layout layout : (List<Layout>)q.list()) {
+					map.put(layout.getPrimaryKeyObj(), layout);
+
+					cacheResult(layout);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(LayoutModelImpl.ENTITY_CACHE_ENABLED,
+						LayoutImpl.class, primaryKey, _nullLayout);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the layouts.
 	 *
@@ -8767,6 +8919,7 @@ public class LayoutPersistenceImpl extends BasePersistenceImpl<Layout>
 	}
 
 	private static final String _SQL_SELECT_LAYOUT = "SELECT layout FROM Layout layout";
+	private static final String _SQL_SELECT_LAYOUT_WHERE_PKS_IN = "SELECT layout FROM Layout layout WHERE layout.plid IN (";
 	private static final String _SQL_SELECT_LAYOUT_WHERE = "SELECT layout FROM Layout layout WHERE ";
 	private static final String _SQL_COUNT_LAYOUT = "SELECT COUNT(layout) FROM Layout layout";
 	private static final String _SQL_COUNT_LAYOUT_WHERE = "SELECT COUNT(layout) FROM Layout layout WHERE ";
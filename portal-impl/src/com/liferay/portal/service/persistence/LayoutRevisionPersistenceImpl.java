@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the layout revision service.
@@ -5580,15 +5584,33 @@ public class LayoutRevisionPersistenceImpl extends BasePersistenceImpl<LayoutRev
 	 * @param layoutRevisions the layout revisions
 	 */
 	public void cacheResult(List<LayoutRevision> layoutRevisions) {
+		Map<Serializable, LayoutRevision> uncachedLayoutRevisions = new HashMap<Serializable, LayoutRevision>();
+
 		for (LayoutRevision layoutRevision : layoutRevisions) {
-			if (EntityCacheUtil.getResult(
-						LayoutRevisionModelImpl.ENTITY_CACHE_ENABLED,
-						LayoutRevisionImpl.class, layoutRevision.getPrimaryKey()) == null) {
-				cacheResult(layoutRevision);
-			}
-			else {
-				layoutRevision.resetOriginalValues();
-			}
+			uncachedLayoutRevisions.put(layoutRevision.getPrimaryKeyObj(),
+				layoutRevision);
+		}
+
+		Map<Serializable, Serializable> cachedLayoutRevisions = EntityCacheUtil.getResults(LayoutRevisionModelImpl.ENTITY_CACHE_ENABLED,
+				LayoutRevisionImpl.class, uncachedLayoutRevisions.keySet());
+
+		for (Serializable primaryKey : cachedLayoutRevisions.keySet()) {
+			LayoutRevision layoutRevision = uncachedLayoutRevisions.remove(primaryKey);
+
+			layoutRevision.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(LayoutRevisionModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutRevisionImpl.class, uncachedLayoutRevisions);
+
+		for (LayoutRevision layoutRevision : uncachedLayoutRevisions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_L_H_P,
+				new Object[] {
+					layoutRevision.getLayoutSetBranchId(), layoutRevision.getHead(),
+					layoutRevision.getPlid()
+				}, layoutRevision);
+
+			layoutRevision.resetOriginalValues();
 		}
 	}
 
@@ -5635,12 +5657,16 @@ public class LayoutRevisionPersistenceImpl extends BasePersistenceImpl<LayoutRev
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(layoutRevisions.size());
+
 		for (LayoutRevision layoutRevision : layoutRevisions) {
-			EntityCacheUtil.removeResult(LayoutRevisionModelImpl.ENTITY_CACHE_ENABLED,
-				LayoutRevisionImpl.class, layoutRevision.getPrimaryKey());
+			primaryKeys.add(layoutRevision.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(layoutRevision);
 		}
+
+		EntityCacheUtil.removeResults(LayoutRevisionModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutRevisionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(LayoutRevision layoutRevision) {
@@ -6183,6 +6209,113 @@ public class LayoutRevisionPersistenceImpl extends BasePersistenceImpl<LayoutRev
 		return fetchByPrimaryKey((Serializable)layoutRevisionId);
 	}
 
+	/**
+	 * Returns the layout revisions with the primary keys, keyed by primary key. Primary keys without a matching layout revision are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the layout revisions
+	 * @return the layout revisions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, LayoutRevision> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, LayoutRevision> map = new HashMap<Serializable, LayoutRevision>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			LayoutRevision layoutRevision = fetchByPrimaryKey(primaryKey);
+
+			if (layoutRevision != null) {
+				map.put(primaryKey, layoutRevision);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			LayoutRevision layoutRevision = (LayoutRevision)EntityCacheUtil.getResult(LayoutRevisionModelImpl.ENTITY_CACHE_ENABLED,
+					LayoutRevisionImpl.class, primaryKey);
+
+			if (layoutRevision == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (layoutRevision != _nullLayoutRevision) {
+				map.put(primaryKey, layoutRevision);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LAYOUTREVISION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (LayoutRevision layoutRevision : (List<LayoutRevision>)q.list()) {
+					map.put(layoutRevision.getPrimaryKeyObj(), layoutRevision);
+
+					cacheResult(layoutRevision);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(LayoutRevisionModelImpl.ENTITY_CACHE_ENABLED,
+						LayoutRevisionImpl.class, primaryKey, _nullLayoutRevision);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the layout revisions.
 	 *
@@ -6384,6 +6517,7 @@ public class LayoutRevisionPersistenceImpl extends BasePersistenceImpl<LayoutRev
 	}
 
 	private static final String _SQL_SELECT_LAYOUTREVISION = "SELECT layoutRevision FROM LayoutRevision layoutRevision";
+	private static final String _SQL_SELECT_LAYOUTREVISION_WHERE_PKS_IN = "SELECT layoutRevision FROM LayoutRevision layoutRevision WHERE layoutRevision.layoutRevisionId IN (";
 	private static final String _SQL_SELECT_LAYOUTREVISION_WHERE = "SELECT layoutRevision FROM LayoutRevision layoutRevision WHERE ";
 	private static final String _SQL_COUNT_LAYOUTREVISION = "SELECT COUNT(layoutRevision) FROM LayoutRevision layoutRevision";
 	private static final String _SQL_COUNT_LAYOUTREVISION_WHERE = "SELECT COUNT(layoutRevision) FROM LayoutRevision layoutRevision WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the layout set branch service.
@@ -2134,16 +2138,33 @@ public class LayoutSetBranchPersistenceImpl extends BasePersistenceImpl<LayoutSe
 	 * @param layoutSetBranchs the layout set branchs
 	 */
 	public void cacheResult(List<LayoutSetBranch> layoutSetBranchs) {
+		Map<Serializable, LayoutSetBranch> uncachedLayoutSetBranchs = new HashMap<Serializable, LayoutSetBranch>();
+
 		for (LayoutSetBranch layoutSetBranch : layoutSetBranchs) {
-			if (EntityCacheUtil.getResult(
-						LayoutSetBranchModelImpl.ENTITY_CACHE_ENABLED,
-						LayoutSetBranchImpl.class,
-						layoutSetBranch.getPrimaryKey()) == null) {
-				cacheResult(layoutSetBranch);
-			}
-			else {
-				layoutSetBranch.resetOriginalValues();
-			}
+			uncachedLayoutSetBranchs.put(layoutSetBranch.getPrimaryKeyObj(),
+				layoutSetBranch);
+		}
+
+		Map<Serializable, Serializable> cachedLayoutSetBranchs = EntityCacheUtil.getResults(LayoutSetBranchModelImpl.ENTITY_CACHE_ENABLED,
+				LayoutSetBranchImpl.class, uncachedLayoutSetBranchs.keySet());
+
+		for (Serializable primaryKey : cachedLayoutSetBranchs.keySet()) {
+			LayoutSetBranch layoutSetBranch = uncachedLayoutSetBranchs.remove(primaryKey);
+
+			layoutSetBranch.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(LayoutSetBranchModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutSetBranchImpl.class, uncachedLayoutSetBranchs);
+
+		for (LayoutSetBranch layoutSetBranch : uncachedLayoutSetBranchs.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P_N,
+				new Object[] {
+					layoutSetBranch.getGroupId(), layoutSetBranch.getPrivateLayout(),
+					layoutSetBranch.getName()
+				}, layoutSetBranch);
+
+			layoutSetBranch.resetOriginalValues();
 		}
 	}
 
@@ -2190,12 +2211,16 @@ public class LayoutSetBranchPersistenceImpl extends BasePersistenceImpl<LayoutSe
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(layoutSetBranchs.size());
+
 		for (LayoutSetBranch layoutSetBranch : layoutSetBranchs) {
-			EntityCacheUtil.removeResult(LayoutSetBranchModelImpl.ENTITY_CACHE_ENABLED,
-				LayoutSetBranchImpl.class, layoutSetBranch.getPrimaryKey());
+			primaryKeys.add(layoutSetBranch.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(layoutSetBranch);
 		}
+
+		EntityCacheUtil.removeResults(LayoutSetBranchModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutSetBranchImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(LayoutSetBranch layoutSetBranch) {
@@ -2577,6 +2602,113 @@ public class LayoutSetBranchPersistenceImpl extends BasePersistenceImpl<LayoutSe
 		return fetchByPrimaryKey((Serializable)layoutSetBranchId);
 	}
 
+	/**
+	 * Returns the layout set branchs with the primary keys, keyed by primary key. Primary keys without a matching layout set branch are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the layout set branchs
+	 * @return the layout set branchs, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, LayoutSetBranch> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, LayoutSetBranch> map = new HashMap<Serializable, LayoutSetBranch>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			LayoutSetBranch layoutSetBranch = fetchByPrimaryKey(primaryKey);
+
+			if (layoutSetBranch != null) {
+				map.put(primaryKey, layoutSetBranch);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			LayoutSetBranch layoutSetBranch = (LayoutSetBranch)EntityCacheUtil.getResult(LayoutSetBranchModelImpl.ENTITY_CACHE_ENABLED,
+					LayoutSetBranchImpl.class, primaryKey);
+
+			if (layoutSetBranch == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (layoutSetBranch != _nullLayoutSetBranch) {
+				map.put(primaryKey, layoutSetBranch);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LAYOUTSETBRANCH_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (LayoutSetBranch layoutSetBranch : (List<LayoutSetBranch>)q.list()) {
+					map.put(layoutSetBranch.getPrimaryKeyObj(), layoutSetBranch);
+
+					cacheResult(layoutSetBranch);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(LayoutSetBranchModelImpl.ENTITY_CACHE_ENABLED,
+						LayoutSetBranchImpl.class, primaryKey, _nullLayoutSetBranch);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the layout set branchs.
 	 *
@@ -2778,6 +2910,7 @@ public class LayoutSetBranchPersistenceImpl extends BasePersistenceImpl<LayoutSe
 	}
 
 	private static final String _SQL_SELECT_LAYOUTSETBRANCH = "SELECT layoutSetBranch FROM LayoutSetBranch layoutSetBranch";
+	private static final String _SQL_SELECT_LAYOUTSETBRANCH_WHERE_PKS_IN = "SELECT layoutSetBranch FROM LayoutSetBranch layoutSetBranch WHERE layoutSetBranch.layoutSetBranchId IN (";
 	private static final String _SQL_SELECT_LAYOUTSETBRANCH_WHERE = "SELECT layoutSetBranch FROM LayoutSetBranch layoutSetBranch WHERE ";
 	private static final String _SQL_COUNT_LAYOUTSETBRANCH = "SELECT COUNT(layoutSetBranch) FROM LayoutSetBranch layoutSetBranch";
 	private static final String _SQL_COUNT_LAYOUTSETBRANCH_WHERE = "SELECT COUNT(layoutSetBranch) FROM LayoutSetBranch layoutSetBranch WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the layout set service.
@@ -1345,15 +1349,30 @@ public class LayoutSetPersistenceImpl extends BasePersistenceImpl<LayoutSet>
 	 * @param layoutSets the layout sets
 	 */
 	public void cacheResult(List<LayoutSet> layoutSets) {
+		Map<Serializable, LayoutSet> uncachedLayoutSets = new HashMap<Serializable, LayoutSet>();
+
 		for (LayoutSet layoutSet : layoutSets) {
-			if (EntityCacheUtil.getResult(
-						LayoutSetModelImpl.ENTITY_CACHE_ENABLED,
-						LayoutSetImpl.class, layoutSet.getPrimaryKey()) == null) {
-				cacheResult(layoutSet);
-			}
-			else {
-				layoutSet.resetOriginalValues();
-			}
+			uncachedLayoutSets.put(layoutSet.getPrimaryKeyObj(), layoutSet);
+		}
+
+		Map<Serializable, Serializable> cachedLayoutSets = EntityCacheUtil.getResults(LayoutSetModelImpl.ENTITY_CACHE_ENABLED,
+				LayoutSetImpl.class, uncachedLayoutSets.keySet());
+
+		for (Serializable primaryKey : cachedLayoutSets.keySet()) {
+			LayoutSet layoutSet = uncachedLayoutSets.remove(primaryKey);
+
+			layoutSet.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(LayoutSetModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutSetImpl.class, uncachedLayoutSets);
+
+		for (LayoutSet layoutSet : uncachedLayoutSets.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P,
+				new Object[] { layoutSet.getGroupId(), layoutSet.getPrivateLayout() },
+				layoutSet);
+
+			layoutSet.resetOriginalValues();
 		}
 	}
 
@@ -1400,12 +1419,16 @@ public class LayoutSetPersistenceImpl extends BasePersistenceImpl<LayoutSet>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(layoutSets.size());
+
 		for (LayoutSet layoutSet : layoutSets) {
-			EntityCacheUtil.removeResult(LayoutSetModelImpl.ENTITY_CACHE_ENABLED,
-				LayoutSetImpl.class, layoutSet.getPrimaryKey());
+			primaryKeys.add(layoutSet.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(layoutSet);
 		}
+
+		EntityCacheUtil.removeResults(LayoutSetModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutSetImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(LayoutSet layoutSet) {
@@ -1773,6 +1796,113 @@ public class LayoutSetPersistenceImpl extends BasePersistenceImpl<LayoutSet>
 		return fetchByPrimaryKey((Serializable)layoutSetId);
 	}
 
+	/**
+	 * Returns the layout sets with the primary keys, keyed by primary key. Primary keys without a matching layout set are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the layout sets
+	 * @return the layout sets, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, LayoutSet> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, LayoutSet> map = new HashMap<Serializable, LayoutSet>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			LayoutSet layoutSet = fetchByPrimaryKey(primaryKey);
+
+			if (layoutSet != null) {
+				map.put(primaryKey, layoutSet);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			LayoutSet layoutSet = (LayoutSet)EntityCacheUtil.getResult(LayoutSetModelImpl.ENTITY_CACHE_ENABLED,
+					LayoutSetImpl.class, primaryKey);
+
+			if (layoutSet == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (layoutSet != _nullLayoutSet) {
+				map.put(primaryKey, layoutSet);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LAYOUTSET_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (LayoutSet layoutSet : (List<LayoutSet>)q.list()) {
+					map.put(layoutSet.getPrimaryKeyObj(), layoutSet);
+
+					cacheResult(layoutSet);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(LayoutSetModelImpl.ENTITY_CACHE_ENABLED,
+						LayoutSetImpl.class, primaryKey, _nullLayoutSet);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the layout sets.
 	 *
@@ -1974,6 +2104,7 @@ public class LayoutSetPersistenceImpl extends BasePersistenceImpl<LayoutSet>
 	}
 
 	private static final String _SQL_SELECT_LAYOUTSET = "SELECT layoutSet FROM LayoutSet layoutSet";
+	private static final String _SQL_SELECT_LAYOUTSET_WHERE_PKS_IN = "SELECT layoutSet FROM LayoutSet layoutSet WHERE layoutSet.layoutSetId IN (";
 	private static final String _SQL_SELECT_LAYOUTSET_WHERE = "SELECT layoutSet FROM LayoutSet layoutSet WHERE ";
 	private static final String _SQL_COUNT_LAYOUTSET = "SELECT COUNT(layoutSet) FROM LayoutSet layoutSet";
 	private static final String _SQL_COUNT_LAYOUTSET_WHERE = "SELECT COUNT(layoutSet) FROM LayoutSet layoutSet WHERE ";
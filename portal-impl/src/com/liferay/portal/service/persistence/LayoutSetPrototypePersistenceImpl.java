@@ -48,7 +48,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the layout set prototype service.
@@ -3749,16 +3753,27 @@ public class LayoutSetPrototypePersistenceImpl extends BasePersistenceImpl<Layou
 	 * @param layoutSetPrototypes the layout set prototypes
 	 */
 	public void cacheResult(List<LayoutSetPrototype> layoutSetPrototypes) {
+		Map<Serializable, LayoutSetPrototype> uncachedLayoutSetPrototypes = new HashMap<Serializable, LayoutSetPrototype>();
+
 		for (LayoutSetPrototype layoutSetPrototype : layoutSetPrototypes) {
-			if (EntityCacheUtil.getResult(
-						LayoutSetPrototypeModelImpl.ENTITY_CACHE_ENABLED,
-						LayoutSetPrototypeImpl.class,
-						layoutSetPrototype.getPrimaryKey()) == null) {
-				cacheResult(layoutSetPrototype);
-			}
-			else {
-				layoutSetPrototype.resetOriginalValues();
-			}
+			uncachedLayoutSetPrototypes.put(layoutSetPrototype.getPrimaryKeyObj(),
+				layoutSetPrototype);
+		}
+
+		Map<Serializable, Serializable> cachedLayoutSetPrototypes = EntityCacheUtil.getResults(LayoutSetPrototypeModelImpl.ENTITY_CACHE_ENABLED,
+				LayoutSetPrototypeImpl.class, uncachedLayoutSetPrototypes.keySet());
+
+		for (Serializable primaryKey : cachedLayoutSetPrototypes.keySet()) {
+			LayoutSetPrototype layoutSetPrototype = uncachedLayoutSetPrototypes.remove(primaryKey);
+
+			layoutSetPrototype.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(LayoutSetPrototypeModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutSetPrototypeImpl.class, uncachedLayoutSetPrototypes);
+
+		for (LayoutSetPrototype layoutSetPrototype : uncachedLayoutSetPrototypes.values()) {
+			layoutSetPrototype.resetOriginalValues();
 		}
 	}
 
@@ -3803,10 +3818,14 @@ public class LayoutSetPrototypePersistenceImpl extends BasePersistenceImpl<Layou
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(layoutSetPrototypes.size());
+
 		for (LayoutSetPrototype layoutSetPrototype : layoutSetPrototypes) {
-			EntityCacheUtil.removeResult(LayoutSetPrototypeModelImpl.ENTITY_CACHE_ENABLED,
-				LayoutSetPrototypeImpl.class, layoutSetPrototype.getPrimaryKey());
+			primaryKeys.add(layoutSetPrototype.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(LayoutSetPrototypeModelImpl.ENTITY_CACHE_ENABLED,
+			LayoutSetPrototypeImpl.class, primaryKeys);
 	}
 
 	/**
@@ -4168,6 +4187,113 @@ public class LayoutSetPrototypePersistenceImpl extends BasePersistenceImpl<Layou
 		return fetchByPrimaryKey((Serializable)layoutSetPrototypeId);
 	}
 
+	/**
+	 * Returns the layout set prototypes with the primary keys, keyed by primary key. Primary keys without a matching layout set prototype are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the layout set prototypes
+	 * @return the layout set prototypes, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, LayoutSetPrototype> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, LayoutSetPrototype> map = new HashMap<Serializable, LayoutSetPrototype>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			LayoutSetPrototype layoutSetPrototype = fetchByPrimaryKey(primaryKey);
+
+			if (layoutSetPrototype != null) {
+				map.put(primaryKey, layoutSetPrototype);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			LayoutSetPrototype layoutSetPrototype = (LayoutSetPrototype)EntityCacheUtil.getResult(LayoutSetPrototypeModelImpl.ENTITY_CACHE_ENABLED,
+					LayoutSetPrototypeImpl.class, primaryKey);
+
+			if (layoutSetPrototype == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (layoutSetPrototype != _nullLayoutSetPrototype) {
+				map.put(primaryKey, layoutSetPrototype);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LAYOUTSETPROTOTYPE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (LayoutSetPrototype layoutSetPrototype : (List<LayoutSetPrototype>)q.list()) {
+					map.put(layoutSetPrototype.getPrimaryKeyObj(), layoutSetPrototype);
+
+					cacheResult(layoutSetPrototype);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(LayoutSetPrototypeModelImpl.ENTITY_CACHE_ENABLED,
+						LayoutSetPrototypeImpl.class, primaryKey, _nullLayoutSetPrototype);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the layout set prototypes.
 	 *
@@ -4369,6 +4495,7 @@ public class LayoutSetPrototypePersistenceImpl extends BasePersistenceImpl<Layou
 	}
 
 	private static final String _SQL_SELECT_LAYOUTSETPROTOTYPE = "SELECT layoutSetPrototype FROM LayoutSetPrototype layoutSetPrototype";
+	private static final String _SQL_SELECT_LAYOUTSETPROTOTYPE_WHERE_PKS_IN = "SELECT layoutSetPrototype FROM LayoutSetPrototype layoutSetPrototype WHERE layoutSetPrototype.layoutSetPrototypeId IN (";
 	private static final String _SQL_SELECT_LAYOUTSETPROTOTYPE_WHERE = "SELECT layoutSetPrototype FROM LayoutSetPrototype layoutSetPrototype WHERE ";
 	private static final String _SQL_COUNT_LAYOUTSETPROTOTYPE = "SELECT COUNT(layoutSetPrototype) FROM LayoutSetPrototype layoutSetPrototype";
 	private static final String _SQL_COUNT_LAYOUTSETPROTOTYPE_WHERE = "SELECT COUNT(layoutSetPrototype) FROM LayoutSetPrototype layoutSetPrototype WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the list type service.
@@ -615,15 +619,26 @@ public class ListTypePersistenceImpl extends BasePersistenceImpl<ListType>
 	 * @param listTypes the list types
 	 */
 	public void cacheResult(List<ListType> listTypes) {
+		Map<Serializable, ListType> uncachedListTypes = new HashMap<Serializable, ListType>();
+
 		for (ListType listType : listTypes) {
-			if (EntityCacheUtil.getResult(
-						ListTypeModelImpl.ENTITY_CACHE_ENABLED,
-						ListTypeImpl.class, listType.getPrimaryKey()) == null) {
-				cacheResult(listType);
-			}
-			else {
-				listType.resetOriginalValues();
-			}
+			uncachedListTypes.put(listType.getPrimaryKeyObj(), listType);
+		}
+
+		Map<Serializable, Serializable> cachedListTypes = EntityCacheUtil.getResults(ListTypeModelImpl.ENTITY_CACHE_ENABLED,
+				ListTypeImpl.class, uncachedListTypes.keySet());
+
+		for (Serializable primaryKey : cachedListTypes.keySet()) {
+			ListType listType = uncachedListTypes.remove(primaryKey);
+
+			listType.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ListTypeModelImpl.ENTITY_CACHE_ENABLED,
+			ListTypeImpl.class, uncachedListTypes);
+
+		for (ListType listType : uncachedListTypes.values()) {
+			listType.resetOriginalValues();
 		}
 	}
 
@@ -668,10 +683,14 @@ public class ListTypePersistenceImpl extends BasePersistenceImpl<ListType>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(listTypes.size());
+
 		for (ListType listType : listTypes) {
-			EntityCacheUtil.removeResult(ListTypeModelImpl.ENTITY_CACHE_ENABLED,
-				ListTypeImpl.class, listType.getPrimaryKey());
+			primaryKeys.add(listType.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ListTypeModelImpl.ENTITY_CACHE_ENABLED,
+			ListTypeImpl.class, primaryKeys);
 	}
 
 	/**
@@ -947,6 +966,113 @@ public class ListTypePersistenceImpl extends BasePersistenceImpl<ListType>
 		return fetchByPrimaryKey((Serializable)listTypeId);
 	}
 
+	/**
+	 * Returns the list types with the primary keys, keyed by primary key. Primary keys without a matching list type are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the list types
+	 * @return the list types, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ListType> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ListType> map = new HashMap<Serializable, ListType>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ListType listType = fetchByPrimaryKey(primaryKey);
+
+			if (listType != null) {
+				map.put(primaryKey, listType);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ListType listType = (ListType)EntityCacheUtil.getResult(ListTypeModelImpl.ENTITY_CACHE_ENABLED,
+					ListTypeImpl.class, primaryKey);
+
+			if (listType == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (listType != _nullListType) {
+				map.put(primaryKey, listType);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LISTTYPE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ListType listType : (List<ListType>)q.list()) {
+					map.put(listType.getPrimaryKeyObj(), listType);
+
+					cacheResult(listType);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ListTypeModelImpl.ENTITY_CACHE_ENABLED,
+						ListTypeImpl.class, primaryKey, _nullListType);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the list types.
 	 *
@@ -1147,6 +1273,7 @@ public class ListTypePersistenceImpl extends BasePersistenceImpl<ListType>
 	}
 
 	private static final String _SQL_SELECT_LISTTYPE = "SELECT listType FROM ListType listType";
+	private static final String _SQL_SELECT_LISTTYPE_WHERE_PKS_IN = "SELECT listType FROM ListType listType WHERE listType.listTypeId IN (";
 	private static final String _SQL_SELECT_LISTTYPE_WHERE = "SELECT listType FROM ListType listType WHERE ";
 	private static final String _SQL_COUNT_LISTTYPE = "SELECT COUNT(listType) FROM ListType listType";
 	private static final String _SQL_COUNT_LISTTYPE_WHERE = "SELECT COUNT(listType) FROM ListType listType WHERE ";
@@ -48,7 +48,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the lock service.
@@ -1964,14 +1968,29 @@ public class LockPersistenceImpl extends BasePersistenceImpl<Lock>
 	 * @param locks the locks
 	 */
 	public void cacheResult(List<Lock> locks) {
+		Map<Serializable, Lock> uncachedLocks = new HashMap<Serializable, Lock>();
+
 		for (Lock lock : locks) {
-			if (EntityCacheUtil.getResult(LockModelImpl.ENTITY_CACHE_ENABLED,
-						LockImpl.class, lock.getPrimaryKey()) == null) {
-				cacheResult(lock);
-			}
-			else {
-				lock.resetOriginalValues();
-			}
+			uncachedLocks.put(lock.getPrimaryKeyObj(), lock);
+		}
+
+		Map<Serializable, Serializable> cachedLocks = EntityCacheUtil.getResults(LockModelImpl.ENTITY_CACHE_ENABLED,
+				LockImpl.class, uncachedLocks.keySet());
+
+		for (Serializable primaryKey : cachedLocks.keySet()) {
+			Lock lock = uncachedLocks.remove(primaryKey);
+
+			lock.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(LockModelImpl.ENTITY_CACHE_ENABLED,
+			LockImpl.class, uncachedLocks);
+
+		for (Lock lock : uncachedLocks.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_K,
+				new Object[] { lock.getClassName(), lock.getKey() }, lock);
+
+			lock.resetOriginalValues();
 		}
 	}
 
@@ -2018,12 +2037,16 @@ public class LockPersistenceImpl extends BasePersistenceImpl<Lock>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(locks.size());
+
 		for (Lock lock : locks) {
-			EntityCacheUtil.removeResult(LockModelImpl.ENTITY_CACHE_ENABLED,
-				LockImpl.class, lock.getPrimaryKey());
+			primaryKeys.add(lock.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(lock);
 		}
+
+		EntityCacheUtil.removeResults(LockModelImpl.ENTITY_CACHE_ENABLED,
+			LockImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Lock lock) {
@@ -2379,6 +2402,113 @@ public class LockPersistenceImpl extends BasePersistenceImpl<Lock>
 		return fetchByPrimaryKey((Serializable)lockId);
 	}
 
+	/**
+	 * Returns the locks with the primary keys, keyed by primary key. Primary keys without a matching lock are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the locks
+	 * @return the locks, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Lock> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Lock> map = new HashMap<Serializable, Lock>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Lock lock = fetchByPrimaryKey(primaryKey);
+
+			if (lock != null) {
+				map.put(primaryKey, lock);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Lock lock = (Lock)EntityCacheUtil.getResult(LockModelImpl.ENTITY_CACHE_ENABLED,
+					LockImpl.class, primaryKey);
+
+			if (lock == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (lock != _nullLock) {
+				map.put(primaryKey, lock);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_LOCK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Lock lock : (List<Lock>)q.list()) {
+					map.put(lock.getPrimaryKeyObj(), lock);
+
+					cacheResult(lock);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(LockModelImpl.ENTITY_CACHE_ENABLED,
+						LockImpl.class, primaryKey, _nullLock);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the locks.
 	 *
@@ -2579,6 +2709,7 @@ public class LockPersistenceImpl extends BasePersistenceImpl<Lock>
 	}
 
 	private static final String _SQL_SELECT_LOCK = "SELECT lock FROM Lock lock";
+	private static final String _SQL_SELECT_LOCK_WHERE_PKS_IN = "SELECT lock FROM Lock lock WHERE lock.lockId IN (";
 	private static final String _SQL_SELECT_LOCK_WHERE = "SELECT lock FROM Lock lock WHERE ";
 	private static final String _SQL_COUNT_LOCK = "SELECT COUNT(lock) FROM Lock lock";
 	private static final String _SQL_COUNT_LOCK_WHERE = "SELECT COUNT(lock) FROM Lock lock WHERE ";
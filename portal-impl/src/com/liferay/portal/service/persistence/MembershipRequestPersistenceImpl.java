@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the membership request service.
@@ -2135,16 +2139,27 @@ public class MembershipRequestPersistenceImpl extends BasePersistenceImpl<Member
 	 * @param membershipRequests the membership requests
 	 */
 	public void cacheResult(List<MembershipRequest> membershipRequests) {
+		Map<Serializable, MembershipRequest> uncachedMembershipRequests = new HashMap<Serializable, MembershipRequest>();
+
 		for (MembershipRequest membershipRequest : membershipRequests) {
-			if (EntityCacheUtil.getResult(
-						MembershipRequestModelImpl.ENTITY_CACHE_ENABLED,
-						MembershipRequestImpl.class,
-						membershipRequest.getPrimaryKey()) == null) {
-				cacheResult(membershipRequest);
-			}
-			else {
-				membershipRequest.resetOriginalValues();
-			}
+			uncachedMembershipRequests.put(membershipRequest.getPrimaryKeyObj(),
+				membershipRequest);
+		}
+
+		Map<Serializable, Serializable> cachedMembershipRequests = EntityCacheUtil.getResults(MembershipRequestModelImpl.ENTITY_CACHE_ENABLED,
+				MembershipRequestImpl.class, uncachedMembershipRequests.keySet());
+
+		for (Serializable primaryKey : cachedMembershipRequests.keySet()) {
+			MembershipRequest membershipRequest = uncachedMembershipRequests.remove(primaryKey);
+
+			membershipRequest.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MembershipRequestModelImpl.ENTITY_CACHE_ENABLED,
+			MembershipRequestImpl.class, uncachedMembershipRequests);
+
+		for (MembershipRequest membershipRequest : uncachedMembershipRequests.values()) {
+			membershipRequest.resetOriginalValues();
 		}
 	}
 
@@ -2189,10 +2204,14 @@ public class MembershipRequestPersistenceImpl extends BasePersistenceImpl<Member
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(membershipRequests.size());
+
 		for (MembershipRequest membershipRequest : membershipRequests) {
-			EntityCacheUtil.removeResult(MembershipRequestModelImpl.ENTITY_CACHE_ENABLED,
-				MembershipRequestImpl.class, membershipRequest.getPrimaryKey());
+			primaryKeys.add(membershipRequest.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(MembershipRequestModelImpl.ENTITY_CACHE_ENABLED,
+			MembershipRequestImpl.class, primaryKeys);
 	}
 
 	/**
@@ -2545,6 +2564,113 @@ public class MembershipRequestPersistenceImpl extends BasePersistenceImpl<Member
 		return fetchByPrimaryKey((Serializable)membershipRequestId);
 	}
 
+	/**
+	 * Returns the membership requests with the primary keys, keyed by primary key. Primary keys without a matching membership request are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the membership requests
+	 * @return the membership requests, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MembershipRequest> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MembershipRequest> map = new HashMap<Serializable, MembershipRequest>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MembershipRequest membershipRequest = fetchByPrimaryKey(primaryKey);
+
+			if (membershipRequest != null) {
+				map.put(primaryKey, membershipRequest);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MembershipRequest membershipRequest = (MembershipRequest)EntityCacheUtil.getResult(MembershipRequestModelImpl.ENTITY_CACHE_ENABLED,
+					MembershipRequestImpl.class, primaryKey);
+
+			if (membershipRequest == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (membershipRequest != _nullMembershipRequest) {
+				map.put(primaryKey, membershipRequest);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MEMBERSHIPREQUEST_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MembershipRequest membershipRequest : (List<MembershipRequest>)q.list()) {
+					map.put(membershipRequest.getPrimaryKeyObj(), membershipRequest);
+
+					cacheResult(membershipRequest);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MembershipRequestModelImpl.ENTITY_CACHE_ENABLED,
+						MembershipRequestImpl.class, primaryKey, _nullMembershipRequest);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the membership requests.
 	 *
@@ -2746,6 +2872,7 @@ public class MembershipRequestPersistenceImpl extends BasePersistenceImpl<Member
 	}
 
 	private static final String _SQL_SELECT_MEMBERSHIPREQUEST = "SELECT membershipRequest FROM MembershipRequest membershipRequest";
+	private static final String _SQL_SELECT_MEMBERSHIPREQUEST_WHERE_PKS_IN = "SELECT membershipRequest FROM MembershipRequest membershipRequest WHERE membershipRequest.membershipRequestId IN (";
 	private static final String _SQL_SELECT_MEMBERSHIPREQUEST_WHERE = "SELECT membershipRequest FROM MembershipRequest membershipRequest WHERE ";
 	private static final String _SQL_COUNT_MEMBERSHIPREQUEST = "SELECT COUNT(membershipRequest) FROM MembershipRequest membershipRequest";
 	private static final String _SQL_COUNT_MEMBERSHIPREQUEST_WHERE = "SELECT COUNT(membershipRequest) FROM MembershipRequest membershipRequest WHERE ";
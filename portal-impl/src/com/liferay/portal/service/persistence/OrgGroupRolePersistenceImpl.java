@@ -44,7 +44,9 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The persistence implementation for the org group role service.
@@ -1049,15 +1051,27 @@ public class OrgGroupRolePersistenceImpl extends BasePersistenceImpl<OrgGroupRol
 	 * @param orgGroupRoles the org group roles
 	 */
 	public void cacheResult(List<OrgGroupRole> orgGroupRoles) {
+		Map<Serializable, OrgGroupRole> uncachedOrgGroupRoles = new HashMap<Serializable, OrgGroupRole>();
+
 		for (OrgGroupRole orgGroupRole : orgGroupRoles) {
-			if (EntityCacheUtil.getResult(
-						OrgGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
-						OrgGroupRoleImpl.class, orgGroupRole.getPrimaryKey()) == null) {
-				cacheResult(orgGroupRole);
-			}
-			else {
-				orgGroupRole.resetOriginalValues();
-			}
+			uncachedOrgGroupRoles.put(orgGroupRole.getPrimaryKeyObj(),
+				orgGroupRole);
+		}
+
+		Map<Serializable, Serializable> cachedOrgGroupRoles = EntityCacheUtil.getResults(OrgGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+				OrgGroupRoleImpl.class, uncachedOrgGroupRoles.keySet());
+
+		for (Serializable primaryKey : cachedOrgGroupRoles.keySet()) {
+			OrgGroupRole orgGroupRole = uncachedOrgGroupRoles.remove(primaryKey);
+
+			orgGroupRole.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(OrgGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+			OrgGroupRoleImpl.class, uncachedOrgGroupRoles);
+
+		for (OrgGroupRole orgGroupRole : uncachedOrgGroupRoles.values()) {
+			orgGroupRole.resetOriginalValues();
 		}
 	}
 
@@ -1102,10 +1116,14 @@ public class OrgGroupRolePersistenceImpl extends BasePersistenceImpl<OrgGroupRol
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(orgGroupRoles.size());
+
 		for (OrgGroupRole orgGroupRole : orgGroupRoles) {
-			EntityCacheUtil.removeResult(OrgGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
-				OrgGroupRoleImpl.class, orgGroupRole.getPrimaryKey());
+			primaryKeys.add(orgGroupRole.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(OrgGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+			OrgGroupRoleImpl.class, primaryKeys);
 	}
 
 	/**
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the org labor service.
@@ -583,15 +587,26 @@ public class OrgLaborPersistenceImpl extends BasePersistenceImpl<OrgLabor>
 	 * @param orgLabors the org labors
 	 */
 	public void cacheResult(List<OrgLabor> orgLabors) {
+		Map<Serializable, OrgLabor> uncachedOrgLabors = new HashMap<Serializable, OrgLabor>();
+
 		for (OrgLabor orgLabor : orgLabors) {
-			if (EntityCacheUtil.getResult(
-						OrgLaborModelImpl.ENTITY_CACHE_ENABLED,
-						OrgLaborImpl.class, orgLabor.getPrimaryKey()) == null) {
-				cacheResult(orgLabor);
-			}
-			else {
-				orgLabor.resetOriginalValues();
-			}
+			uncachedOrgLabors.put(orgLabor.getPrimaryKeyObj(), orgLabor);
+		}
+
+		Map<Serializable, Serializable> cachedOrgLabors = EntityCacheUtil.getResults(OrgLaborModelImpl.ENTITY_CACHE_ENABLED,
+				OrgLaborImpl.class, uncachedOrgLabors.keySet());
+
+		for (Serializable primaryKey : cachedOrgLabors.keySet()) {
+			OrgLabor orgLabor = uncachedOrgLabors.remove(primaryKey);
+
+			orgLabor.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(OrgLaborModelImpl.ENTITY_CACHE_ENABLED,
+			OrgLaborImpl.class, uncachedOrgLabors);
+
+		for (OrgLabor orgLabor : uncachedOrgLabors.values()) {
+			orgLabor.resetOriginalValues();
 		}
 	}
 
@@ -636,10 +651,14 @@ public class OrgLaborPersistenceImpl extends BasePersistenceImpl<OrgLabor>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(orgLabors.size());
+
 		for (OrgLabor orgLabor : orgLabors) {
-			EntityCacheUtil.removeResult(OrgLaborModelImpl.ENTITY_CACHE_ENABLED,
-				OrgLaborImpl.class, orgLabor.getPrimaryKey());
+			primaryKeys.add(orgLabor.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(OrgLaborModelImpl.ENTITY_CACHE_ENABLED,
+			OrgLaborImpl.class, primaryKeys);
 	}
 
 	/**
@@ -934,6 +953,113 @@ public class OrgLaborPersistenceImpl extends BasePersistenceImpl<OrgLabor>
 		return fetchByPrimaryKey((Serializable)orgLaborId);
 	}
 
+	/**
+	 * Returns the org labors with the primary keys, keyed by primary key. Primary keys without a matching org labor are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the org labors
+	 * @return the org labors, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, OrgLabor> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, OrgLabor> map = new HashMap<Serializable, OrgLabor>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			OrgLabor orgLabor = fetchByPrimaryKey(primaryKey);
+
+			if (orgLabor != null) {
+				map.put(primaryKey, orgLabor);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			OrgLabor orgLabor = (OrgLabor)EntityCacheUtil.getResult(OrgLaborModelImpl.ENTITY_CACHE_ENABLED,
+					OrgLaborImpl.class, primaryKey);
+
+			if (orgLabor == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (orgLabor != _nullOrgLabor) {
+				map.put(primaryKey, orgLabor);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ORGLABOR_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (OrgLabor orgLabor : (List<OrgLabor>)q.list()) {
+					map.put(orgLabor.getPrimaryKeyObj(), orgLabor);
+
+					cacheResult(orgLabor);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(OrgLaborModelImpl.ENTITY_CACHE_ENABLED,
+						OrgLaborImpl.class, primaryKey, _nullOrgLabor);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the org labors.
 	 *
@@ -1134,6 +1260,7 @@ public class OrgLaborPersistenceImpl extends BasePersistenceImpl<OrgLabor>
 	}
 
 	private static final String _SQL_SELECT_ORGLABOR = "SELECT orgLabor FROM OrgLabor orgLabor";
+	private static final String _SQL_SELECT_ORGLABOR_WHERE_PKS_IN = "SELECT orgLabor FROM OrgLabor orgLabor WHERE orgLabor.orgLaborId IN (";
 	private static final String _SQL_SELECT_ORGLABOR_WHERE = "SELECT orgLabor FROM OrgLabor orgLabor WHERE ";
 	private static final String _SQL_COUNT_ORGLABOR = "SELECT COUNT(orgLabor) FROM OrgLabor orgLabor";
 	private static final String _SQL_COUNT_ORGLABOR_WHERE = "SELECT COUNT(orgLabor) FROM OrgLabor orgLabor WHERE ";
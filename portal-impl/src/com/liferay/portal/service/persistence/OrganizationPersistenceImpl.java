@@ -54,7 +54,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -2947,15 +2950,31 @@ public class OrganizationPersistenceImpl extends BasePersistenceImpl<Organizatio
 	 * @param organizations the organizations
 	 */
 	public void cacheResult(List<Organization> organizations) {
+		Map<Serializable, Organization> uncachedOrganizations = new HashMap<Serializable, Organization>();
+
 		for (Organization organization : organizations) {
-			if (EntityCacheUtil.getResult(
-						OrganizationModelImpl.ENTITY_CACHE_ENABLED,
-						OrganizationImpl.class, organization.getPrimaryKey()) == null) {
-				cacheResult(organization);
-			}
-			else {
-				organization.resetOriginalValues();
-			}
+			uncachedOrganizations.put(organization.getPrimaryKeyObj(),
+				organization);
+		}
+
+		Map<Serializable, Serializable> cachedOrganizations = EntityCacheUtil.getResults(OrganizationModelImpl.ENTITY_CACHE_ENABLED,
+				OrganizationImpl.class, uncachedOrganizations.keySet());
+
+		for (Serializable primaryKey : cachedOrganizations.keySet()) {
+			Organization organization = uncachedOrganizations.remove(primaryKey);
+
+			organization.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(OrganizationModelImpl.ENTITY_CACHE_ENABLED,
+			OrganizationImpl.class, uncachedOrganizations);
+
+		for (Organization organization : uncachedOrganizations.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_N,
+				new Object[] { organization.getCompanyId(), organization.getName() },
+				organization);
+
+			organization.resetOriginalValues();
 		}
 	}
 
@@ -3002,12 +3021,16 @@ public class OrganizationPersistenceImpl extends BasePersistenceImpl<Organizatio
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(organizations.size());
+
 		for (Organization organization : organizations) {
-			EntityCacheUtil.removeResult(OrganizationModelImpl.ENTITY_CACHE_ENABLED,
-				OrganizationImpl.class, organization.getPrimaryKey());
+			primaryKeys.add(organization.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(organization);
 		}
+
+		EntityCacheUtil.removeResults(OrganizationModelImpl.ENTITY_CACHE_ENABLED,
+			OrganizationImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Organization organization) {
@@ -3412,6 +3435,113 @@ public class OrganizationPersistenceImpl extends BasePersistenceImpl<Organizatio
 		return fetchByPrimaryKey((Serializable)organizationId);
 	}
 
+	/**
+	 * Returns the organizations with the primary keys, keyed by primary key. Primary keys without a matching organization are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the organizations
+	 * @return the organizations, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Organization> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Organization> map = new HashMap<Serializable, Organization>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Organization organization = fetchByPrimaryKey(primaryKey);
+
+			if (organization != null) {
+				map.put(primaryKey, organization);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Organization organization = (Organization)EntityCacheUtil.getResult(OrganizationModelImpl.ENTITY_CACHE_ENABLED,
+					OrganizationImpl.class, primaryKey);
+
+			if (organization == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (organization != _nullOrganization) {
+				map.put(primaryKey, organization);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ORGANIZATION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Organization organization : (List<Organization>)q.list()) {
+					map.put(organization.getPrimaryKeyObj(), organization);
+
+					cacheResult(organization);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(OrganizationModelImpl.ENTITY_CACHE_ENABLED,
+						OrganizationImpl.class, primaryKey, _nullOrganization);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the organizations.
 	 *
@@ -4929,6 +5059,7 @@ public class OrganizationPersistenceImpl extends BasePersistenceImpl<Organizatio
 	}
 
 	private static final String _SQL_SELECT_ORGANIZATION = "SELECT organization FROM Organization organization";
+	private static final String _SQL_SELECT_ORGANIZATION_WHERE_PKS_IN = "SELECT organization FROM Organization organization WHERE organization.organizationId IN (";
 	private static final String _SQL_SELECT_ORGANIZATION_WHERE = "SELECT organization FROM Organization organization WHERE ";
 	private static final String _SQL_COUNT_ORGANIZATION = "SELECT COUNT(organization) FROM Organization organization";
 	private static final String _SQL_COUNT_ORGANIZATION_WHERE = "SELECT COUNT(organization) FROM Organization organization WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the password policy service.
@@ -603,15 +607,36 @@ public class PasswordPolicyPersistenceImpl extends BasePersistenceImpl<PasswordP
 	 * @param passwordPolicies the password policies
 	 */
 	public void cacheResult(List<PasswordPolicy> passwordPolicies) {
+		Map<Serializable, PasswordPolicy> uncachedPasswordPolicies = new HashMap<Serializable, PasswordPolicy>();
+
 		for (PasswordPolicy passwordPolicy : passwordPolicies) {
-			if (EntityCacheUtil.getResult(
-						PasswordPolicyModelImpl.ENTITY_CACHE_ENABLED,
-						PasswordPolicyImpl.class, passwordPolicy.getPrimaryKey()) == null) {
-				cacheResult(passwordPolicy);
-			}
-			else {
-				passwordPolicy.resetOriginalValues();
-			}
+			uncachedPasswordPolicies.put(passwordPolicy.getPrimaryKeyObj(),
+				passwordPolicy);
+		}
+
+		Map<Serializable, Serializable> cachedPasswordPolicies = EntityCacheUtil.getResults(PasswordPolicyModelImpl.ENTITY_CACHE_ENABLED,
+				PasswordPolicyImpl.class, uncachedPasswordPolicies.keySet());
+
+		for (Serializable primaryKey : cachedPasswordPolicies.keySet()) {
+			PasswordPolicy passwordPolicy = uncachedPasswordPolicies.remove(primaryKey);
+
+			passwordPolicy.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PasswordPolicyModelImpl.ENTITY_CACHE_ENABLED,
+			PasswordPolicyImpl.class, uncachedPasswordPolicies);
+
+		for (PasswordPolicy passwordPolicy : uncachedPasswordPolicies.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_DP,
+				new Object[] {
+					passwordPolicy.getCompanyId(), passwordPolicy.getDefaultPolicy()
+				}, passwordPolicy);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_N,
+				new Object[] { passwordPolicy.getCompanyId(), passwordPolicy.getName() },
+				passwordPolicy);
+
+			passwordPolicy.resetOriginalValues();
 		}
 	}
 
@@ -658,12 +683,16 @@ public class PasswordPolicyPersistenceImpl extends BasePersistenceImpl<PasswordP
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(passwordPolicies.size());
+
 		for (PasswordPolicy passwordPolicy : passwordPolicies) {
-			EntityCacheUtil.removeResult(PasswordPolicyModelImpl.ENTITY_CACHE_ENABLED,
-				PasswordPolicyImpl.class, passwordPolicy.getPrimaryKey());
+			primaryKeys.add(passwordPolicy.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(passwordPolicy);
 		}
+
+		EntityCacheUtil.removeResults(PasswordPolicyModelImpl.ENTITY_CACHE_ENABLED,
+			PasswordPolicyImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PasswordPolicy passwordPolicy) {
@@ -1050,6 +1079,113 @@ public class PasswordPolicyPersistenceImpl extends BasePersistenceImpl<PasswordP
 		return fetchByPrimaryKey((Serializable)passwordPolicyId);
 	}
 
+	/**
+	 * Returns the password policies with the primary keys, keyed by primary key. Primary keys without a matching password policy are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the password policies
+	 * @return the password policies, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PasswordPolicy> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PasswordPolicy> map = new HashMap<Serializable, PasswordPolicy>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PasswordPolicy passwordPolicy = fetchByPrimaryKey(primaryKey);
+
+			if (passwordPolicy != null) {
+				map.put(primaryKey, passwordPolicy);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PasswordPolicy passwordPolicy = (PasswordPolicy)EntityCacheUtil.getResult(PasswordPolicyModelImpl.ENTITY_CACHE_ENABLED,
+					PasswordPolicyImpl.class, primaryKey);
+
+			if (passwordPolicy == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (passwordPolicy != _nullPasswordPolicy) {
+				map.put(primaryKey, passwordPolicy);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PASSWORDPOLICY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PasswordPolicy passwordPolicy : (List<PasswordPolicy>)q.list()) {
+					map.put(passwordPolicy.getPrimaryKeyObj(), passwordPolicy);
+
+					cacheResult(passwordPolicy);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PasswordPolicyModelImpl.ENTITY_CACHE_ENABLED,
+						PasswordPolicyImpl.class, primaryKey, _nullPasswordPolicy);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the password policies.
 	 *
@@ -1251,6 +1387,7 @@ public class PasswordPolicyPersistenceImpl extends BasePersistenceImpl<PasswordP
 	}
 
 	private static final String _SQL_SELECT_PASSWORDPOLICY = "SELECT passwordPolicy FROM PasswordPolicy passwordPolicy";
+	private static final String _SQL_SELECT_PASSWORDPOLICY_WHERE_PKS_IN = "SELECT passwordPolicy FROM PasswordPolicy passwordPolicy WHERE passwordPolicy.passwordPolicyId IN (";
 	private static final String _SQL_SELECT_PASSWORDPOLICY_WHERE = "SELECT passwordPolicy FROM PasswordPolicy passwordPolicy WHERE ";
 	private static final String _SQL_COUNT_PASSWORDPOLICY = "SELECT COUNT(passwordPolicy) FROM PasswordPolicy passwordPolicy";
 	private static final String _SQL_COUNT_PASSWORDPOLICY_WHERE = "SELECT COUNT(passwordPolicy) FROM PasswordPolicy passwordPolicy WHERE ";
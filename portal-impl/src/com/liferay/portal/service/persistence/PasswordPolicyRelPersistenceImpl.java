@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the password policy rel service.
@@ -828,16 +832,33 @@ public class PasswordPolicyRelPersistenceImpl extends BasePersistenceImpl<Passwo
 	 * @param passwordPolicyRels the password policy rels
 	 */
 	public void cacheResult(List<PasswordPolicyRel> passwordPolicyRels) {
+		Map<Serializable, PasswordPolicyRel> uncachedPasswordPolicyRels = new HashMap<Serializable, PasswordPolicyRel>();
+
 		for (PasswordPolicyRel passwordPolicyRel : passwordPolicyRels) {
-			if (EntityCacheUtil.getResult(
-						PasswordPolicyRelModelImpl.ENTITY_CACHE_ENABLED,
-						PasswordPolicyRelImpl.class,
-						passwordPolicyRel.getPrimaryKey()) == null) {
-				cacheResult(passwordPolicyRel);
-			}
-			else {
-				passwordPolicyRel.resetOriginalValues();
-			}
+			uncachedPasswordPolicyRels.put(passwordPolicyRel.getPrimaryKeyObj(),
+				passwordPolicyRel);
+		}
+
+		Map<Serializable, Serializable> cachedPasswordPolicyRels = EntityCacheUtil.getResults(PasswordPolicyRelModelImpl.ENTITY_CACHE_ENABLED,
+				PasswordPolicyRelImpl.class, uncachedPasswordPolicyRels.keySet());
+
+		for (Serializable primaryKey : cachedPasswordPolicyRels.keySet()) {
+			PasswordPolicyRel passwordPolicyRel = uncachedPasswordPolicyRels.remove(primaryKey);
+
+			passwordPolicyRel.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PasswordPolicyRelModelImpl.ENTITY_CACHE_ENABLED,
+			PasswordPolicyRelImpl.class, uncachedPasswordPolicyRels);
+
+		for (PasswordPolicyRel passwordPolicyRel : uncachedPasswordPolicyRels.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C,
+				new Object[] {
+					passwordPolicyRel.getClassNameId(),
+					passwordPolicyRel.getClassPK()
+				}, passwordPolicyRel);
+
+			passwordPolicyRel.resetOriginalValues();
 		}
 	}
 
@@ -884,12 +905,16 @@ public class PasswordPolicyRelPersistenceImpl extends BasePersistenceImpl<Passwo
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(passwordPolicyRels.size());
+
 		for (PasswordPolicyRel passwordPolicyRel : passwordPolicyRels) {
-			EntityCacheUtil.removeResult(PasswordPolicyRelModelImpl.ENTITY_CACHE_ENABLED,
-				PasswordPolicyRelImpl.class, passwordPolicyRel.getPrimaryKey());
+			primaryKeys.add(passwordPolicyRel.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(passwordPolicyRel);
 		}
+
+		EntityCacheUtil.removeResults(PasswordPolicyRelModelImpl.ENTITY_CACHE_ENABLED,
+			PasswordPolicyRelImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PasswordPolicyRel passwordPolicyRel) {
@@ -1235,6 +1260,113 @@ public class PasswordPolicyRelPersistenceImpl extends BasePersistenceImpl<Passwo
 		return fetchByPrimaryKey((Serializable)passwordPolicyRelId);
 	}
 
+	/**
+	 * Returns the password policy rels with the primary keys, keyed by primary key. Primary keys without a matching password policy rel are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the password policy rels
+	 * @return the password policy rels, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PasswordPolicyRel> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PasswordPolicyRel> map = new HashMap<Serializable, PasswordPolicyRel>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PasswordPolicyRel passwordPolicyRel = fetchByPrimaryKey(primaryKey);
+
+			if (passwordPolicyRel != null) {
+				map.put(primaryKey, passwordPolicyRel);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PasswordPolicyRel passwordPolicyRel = (PasswordPolicyRel)EntityCacheUtil.getResult(PasswordPolicyRelModelImpl.ENTITY_CACHE_ENABLED,
+					PasswordPolicyRelImpl.class, primaryKey);
+
+			if (passwordPolicyRel == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (passwordPolicyRel != _nullPasswordPolicyRel) {
+				map.put(primaryKey, passwordPolicyRel);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PASSWORDPOLICYREL_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PasswordPolicyRel passwordPolicyRel : (List<PasswordPolicyRel>)q.list()) {
+					map.put(passwordPolicyRel.getPrimaryKeyObj(), passwordPolicyRel);
+
+					cacheResult(passwordPolicyRel);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PasswordPolicyRelModelImpl.ENTITY_CACHE_ENABLED,
+						PasswordPolicyRelImpl.class, primaryKey, _nullPasswordPolicyRel);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the password policy rels.
 	 *
@@ -1436,6 +1568,7 @@ public class PasswordPolicyRelPersistenceImpl extends BasePersistenceImpl<Passwo
 	}
 
 	private static final String _SQL_SELECT_PASSWORDPOLICYREL = "SELECT passwordPolicyRel FROM PasswordPolicyRel passwordPolicyRel";
+	private static final String _SQL_SELECT_PASSWORDPOLICYREL_WHERE_PKS_IN = "SELECT passwordPolicyRel FROM PasswordPolicyRel passwordPolicyRel WHERE passwordPolicyRel.passwordPolicyRelId IN (";
 	private static final String _SQL_SELECT_PASSWORDPOLICYREL_WHERE = "SELECT passwordPolicyRel FROM PasswordPolicyRel passwordPolicyRel WHERE ";
 	private static final String _SQL_COUNT_PASSWORDPOLICYREL = "SELECT COUNT(passwordPolicyRel) FROM PasswordPolicyRel passwordPolicyRel";
 	private static final String _SQL_COUNT_PASSWORDPOLICYREL_WHERE = "SELECT COUNT(passwordPolicyRel) FROM PasswordPolicyRel passwordPolicyRel WHERE ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the password tracker service.
@@ -580,16 +584,27 @@ public class PasswordTrackerPersistenceImpl extends BasePersistenceImpl<Password
 	 * @param passwordTrackers the password trackers
 	 */
 	public void cacheResult(List<PasswordTracker> passwordTrackers) {
+		Map<Serializable, PasswordTracker> uncachedPasswordTrackers = new HashMap<Serializable, PasswordTracker>();
+
 		for (PasswordTracker passwordTracker : passwordTrackers) {
-			if (EntityCacheUtil.getResult(
-						PasswordTrackerModelImpl.ENTITY_CACHE_ENABLED,
-						PasswordTrackerImpl.class,
-						passwordTracker.getPrimaryKey()) == null) {
-				cacheResult(passwordTracker);
-			}
-			else {
-				passwordTracker.resetOriginalValues();
-			}
+			uncachedPasswordTrackers.put(passwordTracker.getPrimaryKeyObj(),
+				passwordTracker);
+		}
+
+		Map<Serializable, Serializable> cachedPasswordTrackers = EntityCacheUtil.getResults(PasswordTrackerModelImpl.ENTITY_CACHE_ENABLED,
+				PasswordTrackerImpl.class, uncachedPasswordTrackers.keySet());
+
+		for (Serializable primaryKey : cachedPasswordTrackers.keySet()) {
+			PasswordTracker passwordTracker = uncachedPasswordTrackers.remove(primaryKey);
+
+			passwordTracker.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PasswordTrackerModelImpl.ENTITY_CACHE_ENABLED,
+			PasswordTrackerImpl.class, uncachedPasswordTrackers);
+
+		for (PasswordTracker passwordTracker : uncachedPasswordTrackers.values()) {
+			passwordTracker.resetOriginalValues();
 		}
 	}
 
@@ -634,10 +649,14 @@ public class PasswordTrackerPersistenceImpl extends BasePersistenceImpl<Password
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(passwordTrackers.size());
+
 		for (PasswordTracker passwordTracker : passwordTrackers) {
-			EntityCacheUtil.removeResult(PasswordTrackerModelImpl.ENTITY_CACHE_ENABLED,
-				PasswordTrackerImpl.class, passwordTracker.getPrimaryKey());
+			primaryKeys.add(passwordTracker.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(PasswordTrackerModelImpl.ENTITY_CACHE_ENABLED,
+			PasswordTrackerImpl.class, primaryKeys);
 	}
 
 	/**
@@ -922,6 +941,113 @@ public class PasswordTrackerPersistenceImpl extends BasePersistenceImpl<Password
 		return fetchByPrimaryKey((Serializable)passwordTrackerId);
 	}
 
+	/**
+	 * Returns the password trackers with the primary keys, keyed by primary key. Primary keys without a matching password tracker are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the password trackers
+	 * @return the password trackers, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PasswordTracker> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PasswordTracker> map = new HashMap<Serializable, PasswordTracker>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PasswordTracker passwordTracker = fetchByPrimaryKey(primaryKey);
+
+			if (passwordTracker != null) {
+				map.put(primaryKey, passwordTracker);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PasswordTracker passwordTracker = (PasswordTracker)EntityCacheUtil.getResult(PasswordTrackerModelImpl.ENTITY_CACHE_ENABLED,
+					PasswordTrackerImpl.class, primaryKey);
+
+			if (passwordTracker == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (passwordTracker != _nullPasswordTracker) {
+				map.put(primaryKey, passwordTracker);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PASSWORDTRACKER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PasswordTracker passwordTracker : (List<PasswordTracker>)q.list()) {
+					map.put(passwordTracker.getPrimaryKeyObj(), passwordTracker);
+
+					cacheResult(passwordTracker);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PasswordTrackerModelImpl.ENTITY_CACHE_ENABLED,
+						PasswordTrackerImpl.class, primaryKey, _nullPasswordTracker);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the password trackers.
 	 *
@@ -1123,6 +1249,7 @@ public class PasswordTrackerPersistenceImpl extends BasePersistenceImpl<Password
 	}
 
 	private static final String _SQL_SELECT_PASSWORDTRACKER = "SELECT passwordTracker FROM PasswordTracker passwordTracker";
+	private static final String _SQL_SELECT_PASSWORDTRACKER_WHERE_PKS_IN = "SELECT passwordTracker FROM PasswordTracker passwordTracker WHERE passwordTracker.passwordTrackerId IN (";
 	private static final String _SQL_SELECT_PASSWORDTRACKER_WHERE = "SELECT passwordTracker FROM PasswordTracker passwordTracker WHERE ";
 	private static final String _SQL_COUNT_PASSWORDTRACKER = "SELECT COUNT(passwordTracker) FROM PasswordTracker passwordTracker";
 	private static final String _SQL_COUNT_PASSWORDTRACKER_WHERE = "SELECT COUNT(passwordTracker) FROM PasswordTracker passwordTracker WHERE ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the phone service.
@@ -2701,14 +2705,26 @@ public class PhonePersistenceImpl extends BasePersistenceImpl<Phone>
 	 * @param phones the phones
 	 */
 	public void cacheResult(List<Phone> phones) {
+		Map<Serializable, Phone> uncachedPhones = new HashMap<Serializable, Phone>();
+
 		for (Phone phone : phones) {
-			if (EntityCacheUtil.getResult(PhoneModelImpl.ENTITY_CACHE_ENABLED,
-						PhoneImpl.class, phone.getPrimaryKey()) == null) {
-				cacheResult(phone);
-			}
-			else {
-				phone.resetOriginalValues();
-			}
+			uncachedPhones.put(phone.getPrimaryKeyObj(), phone);
+		}
+
+		Map<Serializable, Serializable> cachedPhones = EntityCacheUtil.getResults(PhoneModelImpl.ENTITY_CACHE_ENABLED,
+				PhoneImpl.class, uncachedPhones.keySet());
+
+		for (Serializable primaryKey : cachedPhones.keySet()) {
+			Phone phone = uncachedPhones.remove(primaryKey);
+
+			phone.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PhoneModelImpl.ENTITY_CACHE_ENABLED,
+			PhoneImpl.class, uncachedPhones);
+
+		for (Phone phone : uncachedPhones.values()) {
+			phone.resetOriginalValues();
 		}
 	}
 
@@ -2753,10 +2769,14 @@ public class PhonePersistenceImpl extends BasePersistenceImpl<Phone>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(phones.size());
+
 		for (Phone phone : phones) {
-			EntityCacheUtil.removeResult(PhoneModelImpl.ENTITY_CACHE_ENABLED,
-				PhoneImpl.class, phone.getPrimaryKey());
+			primaryKeys.add(phone.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(PhoneModelImpl.ENTITY_CACHE_ENABLED,
+			PhoneImpl.class, primaryKeys);
 	}
 
 	/**
@@ -3127,6 +3147,113 @@ public class PhonePersistenceImpl extends BasePersistenceImpl<Phone>
 		return fetchByPrimaryKey((Serializable)phoneId);
 	}
 
+	/**
+	 * Returns the phones with the primary keys, keyed by primary key. Primary keys without a matching phone are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the phones
+	 * @return the phones, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Phone> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Phone> map = new HashMap<Serializable, Phone>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Phone phone = fetchByPrimaryKey(primaryKey);
+
+			if (phone != null) {
+				map.put(primaryKey, phone);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Phone phone = (Phone)EntityCacheUtil.getResult(PhoneModelImpl.ENTITY_CACHE_ENABLED,
+					PhoneImpl.class, primaryKey);
+
+			if (phone == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (phone != _nullPhone) {
+				map.put(primaryKey, phone);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PHONE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Phone phone : (List<Phone>)q.list()) {
+					map.put(phone.getPrimaryKeyObj(), phone);
+
+					cacheResult(phone);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PhoneModelImpl.ENTITY_CACHE_ENABLED,
+						PhoneImpl.class, primaryKey, _nullPhone);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the phones.
 	 *
@@ -3327,6 +3454,7 @@ public class PhonePersistenceImpl extends BasePersistenceImpl<Phone>
 	}
 
 	private static final String _SQL_SELECT_PHONE = "SELECT phone FROM Phone phone";
+	private static final String _SQL_SELECT_PHONE_WHERE_PKS_IN = "SELECT phone FROM Phone phone WHERE phone.phoneId IN (";
 	private static final String _SQL_SELECT_PHONE_WHERE = "SELECT phone FROM Phone phone WHERE ";
 	private static final String _SQL_COUNT_PHONE = "SELECT COUNT(phone) FROM Phone phone";
 	private static final String _SQL_COUNT_PHONE_WHERE = "SELECT COUNT(phone) FROM Phone phone WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the plugin setting service.
@@ -904,15 +908,33 @@ public class PluginSettingPersistenceImpl extends BasePersistenceImpl<PluginSett
 	 * @param pluginSettings the plugin settings
 	 */
 	public void cacheResult(List<PluginSetting> pluginSettings) {
+		Map<Serializable, PluginSetting> uncachedPluginSettings = new HashMap<Serializable, PluginSetting>();
+
 		for (PluginSetting pluginSetting : pluginSettings) {
-			if (EntityCacheUtil.getResult(
-						PluginSettingModelImpl.ENTITY_CACHE_ENABLED,
-						PluginSettingImpl.class, pluginSetting.getPrimaryKey()) == null) {
-				cacheResult(pluginSetting);
-			}
-			else {
-				pluginSetting.resetOriginalValues();
-			}
+			uncachedPluginSettings.put(pluginSetting.getPrimaryKeyObj(),
+				pluginSetting);
+		}
+
+		Map<Serializable, Serializable> cachedPluginSettings = EntityCacheUtil.getResults(PluginSettingModelImpl.ENTITY_CACHE_ENABLED,
+				PluginSettingImpl.class, uncachedPluginSettings.keySet());
+
+		for (Serializable primaryKey : cachedPluginSettings.keySet()) {
+			PluginSetting pluginSetting = uncachedPluginSettings.remove(primaryKey);
+
+			pluginSetting.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PluginSettingModelImpl.ENTITY_CACHE_ENABLED,
+			PluginSettingImpl.class, uncachedPluginSettings);
+
+		for (PluginSetting pluginSetting : uncachedPluginSettings.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_I_T,
+				new Object[] {
+					pluginSetting.getCompanyId(), pluginSetting.getPluginId(),
+					pluginSetting.getPluginType()
+				}, pluginSetting);
+
+			pluginSetting.resetOriginalValues();
 		}
 	}
 
@@ -959,12 +981,16 @@ public class PluginSettingPersistenceImpl extends BasePersistenceImpl<PluginSett
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(pluginSettings.size());
+
 		for (PluginSetting pluginSetting : pluginSettings) {
-			EntityCacheUtil.removeResult(PluginSettingModelImpl.ENTITY_CACHE_ENABLED,
-				PluginSettingImpl.class, pluginSetting.getPrimaryKey());
+			primaryKeys.add(pluginSetting.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(pluginSetting);
 		}
+
+		EntityCacheUtil.removeResults(PluginSettingModelImpl.ENTITY_CACHE_ENABLED,
+			PluginSettingImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PluginSetting pluginSetting) {
@@ -1310,6 +1336,113 @@ public class PluginSettingPersistenceImpl extends BasePersistenceImpl<PluginSett
 		return fetchByPrimaryKey((Serializable)pluginSettingId);
 	}
 
+	/**
+	 * Returns the plugin settings with the primary keys, keyed by primary key. Primary keys without a matching plugin setting are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the plugin settings
+	 * @return the plugin settings, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PluginSetting> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PluginSetting> map = new HashMap<Serializable, PluginSetting>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PluginSetting pluginSetting = fetchByPrimaryKey(primaryKey);
+
+			if (pluginSetting != null) {
+				map.put(primaryKey, pluginSetting);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PluginSetting pluginSetting = (PluginSetting)EntityCacheUtil.getResult(PluginSettingModelImpl.ENTITY_CACHE_ENABLED,
+					PluginSettingImpl.class, primaryKey);
+
+			if (pluginSetting == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (pluginSetting != _nullPluginSetting) {
+				map.put(primaryKey, pluginSetting);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PLUGINSETTING_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PluginSetting pluginSetting : (List<PluginSetting>)q.list()) {
+					map.put(pluginSetting.getPrimaryKeyObj(), pluginSetting);
+
+					cacheResult(pluginSetting);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PluginSettingModelImpl.ENTITY_CACHE_ENABLED,
+						PluginSettingImpl.class, primaryKey, _nullPluginSetting);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the plugin settings.
 	 *
@@ -1511,6 +1644,7 @@ public class PluginSettingPersistenceImpl extends BasePersistenceImpl<PluginSett
 	}
 
 	private static final String _SQL_SELECT_PLUGINSETTING = "SELECT pluginSetting FROM PluginSetting pluginSetting";
+	private static final String _SQL_SELECT_PLUGINSETTING_WHERE_PKS_IN = "SELECT pluginSetting FROM PluginSetting pluginSetting WHERE pluginSetting.pluginSettingId IN (";
 	private static final String _SQL_SELECT_PLUGINSETTING_WHERE = "SELECT pluginSetting FROM PluginSetting pluginSetting WHERE ";
 	private static final String _SQL_COUNT_PLUGINSETTING = "SELECT COUNT(pluginSetting) FROM PluginSetting pluginSetting";
 	private static final String _SQL_COUNT_PLUGINSETTING_WHERE = "SELECT COUNT(pluginSetting) FROM PluginSetting pluginSetting WHERE ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the portal preferences service.
@@ -341,16 +345,32 @@ public class PortalPreferencesPersistenceImpl extends BasePersistenceImpl<Portal
 	 * @param portalPreferenceses the portal preferenceses
 	 */
 	public void cacheResult(List<PortalPreferences> portalPreferenceses) {
+		Map<Serializable, PortalPreferences> uncachedPortalPreferenceses = new HashMap<Serializable, PortalPreferences>();
+
 		for (PortalPreferences portalPreferences : portalPreferenceses) {
-			if (EntityCacheUtil.getResult(
-						PortalPreferencesModelImpl.ENTITY_CACHE_ENABLED,
-						PortalPreferencesImpl.class,
-						portalPreferences.getPrimaryKey()) == null) {
-				cacheResult(portalPreferences);
-			}
-			else {
-				portalPreferences.resetOriginalValues();
-			}
+			uncachedPortalPreferenceses.put(portalPreferences.getPrimaryKeyObj(),
+				portalPreferences);
+		}
+
+		Map<Serializable, Serializable> cachedPortalPreferenceses = EntityCacheUtil.getResults(PortalPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+				PortalPreferencesImpl.class, uncachedPortalPreferenceses.keySet());
+
+		for (Serializable primaryKey : cachedPortalPreferenceses.keySet()) {
+			PortalPreferences portalPreferences = uncachedPortalPreferenceses.remove(primaryKey);
+
+			portalPreferences.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PortalPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+			PortalPreferencesImpl.class, uncachedPortalPreferenceses);
+
+		for (PortalPreferences portalPreferences : uncachedPortalPreferenceses.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_O_O,
+				new Object[] {
+					portalPreferences.getOwnerId(), portalPreferences.getOwnerType()
+				}, portalPreferences);
+
+			portalPreferences.resetOriginalValues();
 		}
 	}
 
@@ -397,12 +417,16 @@ public class PortalPreferencesPersistenceImpl extends BasePersistenceImpl<Portal
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(portalPreferenceses.size());
+
 		for (PortalPreferences portalPreferences : portalPreferenceses) {
-			EntityCacheUtil.removeResult(PortalPreferencesModelImpl.ENTITY_CACHE_ENABLED,
-				PortalPreferencesImpl.class, portalPreferences.getPrimaryKey());
+			primaryKeys.add(portalPreferences.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(portalPreferences);
 		}
+
+		EntityCacheUtil.removeResults(PortalPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+			PortalPreferencesImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PortalPreferences portalPreferences) {
@@ -722,6 +746,113 @@ public class PortalPreferencesPersistenceImpl extends BasePersistenceImpl<Portal
 		return fetchByPrimaryKey((Serializable)portalPreferencesId);
 	}
 
+	/**
+	 * Returns the portal preferenceses with the primary keys, keyed by primary key. Primary keys without a matching portal preferences are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the portal preferenceses
+	 * @return the portal preferenceses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PortalPreferences> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PortalPreferences> map = new HashMap<Serializable, PortalPreferences>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PortalPreferences portalPreferences = fetchByPrimaryKey(primaryKey);
+
+			if (portalPreferences != null) {
+				map.put(primaryKey, portalPreferences);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PortalPreferences portalPreferences = (PortalPreferences)EntityCacheUtil.getResult(PortalPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+					PortalPreferencesImpl.class, primaryKey);
+
+			if (portalPreferences == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (portalPreferences != _nullPortalPreferences) {
+				map.put(primaryKey, portalPreferences);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PORTALPREFERENCES_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PortalPreferences portalPreferences : (List<PortalPreferences>)q.list()) {
+					map.put(portalPreferences.getPrimaryKeyObj(), portalPreferences);
+
+					cacheResult(portalPreferences);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PortalPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+						PortalPreferencesImpl.class, primaryKey, _nullPortalPreferences);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the portal preferenceses.
 	 *
@@ -923,6 +1054,7 @@ public class PortalPreferencesPersistenceImpl extends BasePersistenceImpl<Portal
 	}
 
 	private static final String _SQL_SELECT_PORTALPREFERENCES = "SELECT portalPreferences FROM PortalPreferences portalPreferences";
+	private static final String _SQL_SELECT_PORTALPREFERENCES_WHERE_PKS_IN = "SELECT portalPreferences FROM PortalPreferences portalPreferences WHERE portalPreferences.portalPreferencesId IN (";
 	private static final String _SQL_SELECT_PORTALPREFERENCES_WHERE = "SELECT portalPreferences FROM PortalPreferences portalPreferences WHERE ";
 	private static final String _SQL_COUNT_PORTALPREFERENCES = "SELECT COUNT(portalPreferences) FROM PortalPreferences portalPreferences";
 	private static final String _SQL_COUNT_PORTALPREFERENCES_WHERE = "SELECT COUNT(portalPreferences) FROM PortalPreferences portalPreferences WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the portlet item service.
@@ -1565,15 +1569,33 @@ public class PortletItemPersistenceImpl extends BasePersistenceImpl<PortletItem>
 	 * @param portletItems the portlet items
 	 */
 	public void cacheResult(List<PortletItem> portletItems) {
+		Map<Serializable, PortletItem> uncachedPortletItems = new HashMap<Serializable, PortletItem>();
+
 		for (PortletItem portletItem : portletItems) {
-			if (EntityCacheUtil.getResult(
-						PortletItemModelImpl.ENTITY_CACHE_ENABLED,
-						PortletItemImpl.class, portletItem.getPrimaryKey()) == null) {
-				cacheResult(portletItem);
-			}
-			else {
-				portletItem.resetOriginalValues();
-			}
+			uncachedPortletItems.put(portletItem.getPrimaryKeyObj(),
+				portletItem);
+		}
+
+		Map<Serializable, Serializable> cachedPortletItems = EntityCacheUtil.getResults(PortletItemModelImpl.ENTITY_CACHE_ENABLED,
+				PortletItemImpl.class, uncachedPortletItems.keySet());
+
+		for (Serializable primaryKey : cachedPortletItems.keySet()) {
+			PortletItem portletItem = uncachedPortletItems.remove(primaryKey);
+
+			portletItem.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PortletItemModelImpl.ENTITY_CACHE_ENABLED,
+			PortletItemImpl.class, uncachedPortletItems);
+
+		for (PortletItem portletItem : uncachedPortletItems.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N_P_C,
+				new Object[] {
+					portletItem.getGroupId(), portletItem.getName(),
+					portletItem.getPortletId(), portletItem.getClassNameId()
+				}, portletItem);
+
+			portletItem.resetOriginalValues();
 		}
 	}
 
@@ -1620,12 +1642,16 @@ public class PortletItemPersistenceImpl extends BasePersistenceImpl<PortletItem>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(portletItems.size());
+
 		for (PortletItem portletItem : portletItems) {
-			EntityCacheUtil.removeResult(PortletItemModelImpl.ENTITY_CACHE_ENABLED,
-				PortletItemImpl.class, portletItem.getPrimaryKey());
+			primaryKeys.add(portletItem.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(portletItem);
 		}
+
+		EntityCacheUtil.removeResults(PortletItemModelImpl.ENTITY_CACHE_ENABLED,
+			PortletItemImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PortletItem portletItem) {
@@ -1999,6 +2025,113 @@ public class PortletItemPersistenceImpl extends BasePersistenceImpl<PortletItem>
 		return fetchByPrimaryKey((Serializable)portletItemId);
 	}
 
+	/**
+	 * Returns the portlet items with the primary keys, keyed by primary key. Primary keys without a matching portlet item are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the portlet items
+	 * @return the portlet items, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PortletItem> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PortletItem> map = new HashMap<Serializable, PortletItem>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PortletItem portletItem = fetchByPrimaryKey(primaryKey);
+
+			if (portletItem != null) {
+				map.put(primaryKey, portletItem);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PortletItem portletItem = (PortletItem)EntityCacheUtil.getResult(PortletItemModelImpl.ENTITY_CACHE_ENABLED,
+					PortletItemImpl.class, primaryKey);
+
+			if (portletItem == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (portletItem != _nullPortletItem) {
+				map.put(primaryKey, portletItem);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PORTLETITEM_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PortletItem portletItem : (List<PortletItem>)q.list()) {
+					map.put(portletItem.getPrimaryKeyObj(), portletItem);
+
+					cacheResult(portletItem);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PortletItemModelImpl.ENTITY_CACHE_ENABLED,
+						PortletItemImpl.class, primaryKey, _nullPortletItem);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the portlet items.
 	 *
@@ -2200,6 +2333,7 @@ public class PortletItemPersistenceImpl extends BasePersistenceImpl<PortletItem>
 	}
 
 	private static final String _SQL_SELECT_PORTLETITEM = "SELECT portletItem FROM PortletItem portletItem";
+	private static final String _SQL_SELECT_PORTLETITEM_WHERE_PKS_IN = "SELECT portletItem FROM PortletItem portletItem WHERE portletItem.portletItemId IN (";
 	private static final String _SQL_SELECT_PORTLETITEM_WHERE = "SELECT portletItem FROM PortletItem portletItem WHERE ";
 	private static final String _SQL_COUNT_PORTLETITEM = "SELECT COUNT(portletItem) FROM PortletItem portletItem";
 	private static final String _SQL_COUNT_PORTLETITEM_WHERE = "SELECT COUNT(portletItem) FROM PortletItem portletItem WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the portlet service.
@@ -836,15 +840,30 @@ public class PortletPersistenceImpl extends BasePersistenceImpl<Portlet>
 	 * @param portlets the portlets
 	 */
 	public void cacheResult(List<Portlet> portlets) {
+		Map<Serializable, Portlet> uncachedPortlets = new HashMap<Serializable, Portlet>();
+
 		for (Portlet portlet : portlets) {
-			if (EntityCacheUtil.getResult(
-						PortletModelImpl.ENTITY_CACHE_ENABLED,
-						PortletImpl.class, portlet.getPrimaryKey()) == null) {
-				cacheResult(portlet);
-			}
-			else {
-				portlet.resetOriginalValues();
-			}
+			uncachedPortlets.put(portlet.getPrimaryKeyObj(), portlet);
+		}
+
+		Map<Serializable, Serializable> cachedPortlets = EntityCacheUtil.getResults(PortletModelImpl.ENTITY_CACHE_ENABLED,
+				PortletImpl.class, uncachedPortlets.keySet());
+
+		for (Serializable primaryKey : cachedPortlets.keySet()) {
+			Portlet portlet = uncachedPortlets.remove(primaryKey);
+
+			portlet.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PortletModelImpl.ENTITY_CACHE_ENABLED,
+			PortletImpl.class, uncachedPortlets);
+
+		for (Portlet portlet : uncachedPortlets.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_P,
+				new Object[] { portlet.getCompanyId(), portlet.getPortletId() },
+				portlet);
+
+			portlet.resetOriginalValues();
 		}
 	}
 
@@ -891,12 +910,16 @@ public class PortletPersistenceImpl extends BasePersistenceImpl<Portlet>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(portlets.size());
+
 		for (Portlet portlet : portlets) {
-			EntityCacheUtil.removeResult(PortletModelImpl.ENTITY_CACHE_ENABLED,
-				PortletImpl.class, portlet.getPrimaryKey());
+			primaryKeys.add(portlet.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(portlet);
 		}
+
+		EntityCacheUtil.removeResults(PortletModelImpl.ENTITY_CACHE_ENABLED,
+			PortletImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Portlet portlet) {
@@ -1229,6 +1252,113 @@ public class PortletPersistenceImpl extends BasePersistenceImpl<Portlet>
 		return fetchByPrimaryKey((Serializable)id);
 	}
 
+	/**
+	 * Returns the portlets with the primary keys, keyed by primary key. Primary keys without a matching portlet are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the portlets
+	 * @return the portlets, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Portlet> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Portlet> map = new HashMap<Serializable, Portlet>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Portlet portlet = fetchByPrimaryKey(primaryKey);
+
+			if (portlet != null) {
+				map.put(primaryKey, portlet);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Portlet portlet = (Portlet)EntityCacheUtil.getResult(PortletModelImpl.ENTITY_CACHE_ENABLED,
+					PortletImpl.class, primaryKey);
+
+			if (portlet == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (portlet != _nullPortlet) {
+				map.put(primaryKey, portlet);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PORTLET_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Portlet portlet : (List<Portlet>)q.list()) {
+					map.put(portlet.getPrimaryKeyObj(), portlet);
+
+					cacheResult(portlet);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PortletModelImpl.ENTITY_CACHE_ENABLED,
+						PortletImpl.class, primaryKey, _nullPortlet);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the portlets.
 	 *
@@ -1429,6 +1559,7 @@ public class PortletPersistenceImpl extends BasePersistenceImpl<Portlet>
 	}
 
 	private static final String _SQL_SELECT_PORTLET = "SELECT portlet FROM Portlet portlet";
+	private static final String _SQL_SELECT_PORTLET_WHERE_PKS_IN = "SELECT portlet FROM Portlet portlet WHERE portlet.id IN (";
 	private static final String _SQL_SELECT_PORTLET_WHERE = "SELECT portlet FROM Portlet portlet WHERE ";
 	private static final String _SQL_COUNT_PORTLET = "SELECT COUNT(portlet) FROM Portlet portlet";
 	private static final String _SQL_COUNT_PORTLET_WHERE = "SELECT COUNT(portlet) FROM Portlet portlet WHERE ";
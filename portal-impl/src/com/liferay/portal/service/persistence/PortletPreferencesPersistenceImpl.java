@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the portlet preferences service.
@@ -3145,16 +3149,34 @@ public class PortletPreferencesPersistenceImpl extends BasePersistenceImpl<Portl
 	 * @param portletPreferenceses the portlet preferenceses
 	 */
 	public void cacheResult(List<PortletPreferences> portletPreferenceses) {
+		Map<Serializable, PortletPreferences> uncachedPortletPreferenceses = new HashMap<Serializable, PortletPreferences>();
+
 		for (PortletPreferences portletPreferences : portletPreferenceses) {
-			if (EntityCacheUtil.getResult(
-						PortletPreferencesModelImpl.ENTITY_CACHE_ENABLED,
-						PortletPreferencesImpl.class,
-						portletPreferences.getPrimaryKey()) == null) {
-				cacheResult(portletPreferences);
-			}
-			else {
-				portletPreferences.resetOriginalValues();
-			}
+			uncachedPortletPreferenceses.put(portletPreferences.getPrimaryKeyObj(),
+				portletPreferences);
+		}
+
+		Map<Serializable, Serializable> cachedPortletPreferenceses = EntityCacheUtil.getResults(PortletPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+				PortletPreferencesImpl.class, uncachedPortletPreferenceses.keySet());
+
+		for (Serializable primaryKey : cachedPortletPreferenceses.keySet()) {
+			PortletPreferences portletPreferences = uncachedPortletPreferenceses.remove(primaryKey);
+
+			portletPreferences.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PortletPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+			PortletPreferencesImpl.class, uncachedPortletPreferenceses);
+
+		for (PortletPreferences portletPreferences : uncachedPortletPreferenceses.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_O_O_P_P,
+				new Object[] {
+					portletPreferences.getOwnerId(),
+					portletPreferences.getOwnerType(), portletPreferences.getPlid(),
+					portletPreferences.getPortletId()
+				}, portletPreferences);
+
+			portletPreferences.resetOriginalValues();
 		}
 	}
 
@@ -3201,12 +3223,16 @@ public class PortletPreferencesPersistenceImpl extends BasePersistenceImpl<Portl
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(portletPreferenceses.size());
+
 		for (PortletPreferences portletPreferences : portletPreferenceses) {
-			EntityCacheUtil.removeResult(PortletPreferencesModelImpl.ENTITY_CACHE_ENABLED,
-				PortletPreferencesImpl.class, portletPreferences.getPrimaryKey());
+			primaryKeys.add(portletPreferences.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(portletPreferences);
 		}
+
+		EntityCacheUtil.removeResults(PortletPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+			PortletPreferencesImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -3645,6 +3671,113 @@ public class PortletPreferencesPersistenceImpl extends BasePersistenceImpl<Portl
 		return fetchByPrimaryKey((Serializable)portletPreferencesId);
 	}
 
+	/**
+	 * Returns the portlet preferenceses with the primary keys, keyed by primary key. Primary keys without a matching portlet preferences are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the portlet preferenceses
+	 * @return the portlet preferenceses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PortletPreferences> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PortletPreferences> map = new HashMap<Serializable, PortletPreferences>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PortletPreferences portletPreferences = fetchByPrimaryKey(primaryKey);
+
+			if (portletPreferences != null) {
+				map.put(primaryKey, portletPreferences);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PortletPreferences portletPreferences = (PortletPreferences)EntityCacheUtil.getResult(PortletPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+					PortletPreferencesImpl.class, primaryKey);
+
+			if (portletPreferences == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (portletPreferences != _nullPortletPreferences) {
+				map.put(primaryKey, portletPreferences);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_PORTLETPREFERENCES_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PortletPreferences portletPreferences : (List<PortletPreferences>)q.list()) {
+					map.put(portletPreferences.getPrimaryKeyObj(), portletPreferences);
+
+					cacheResult(portletPreferences);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PortletPreferencesModelImpl.ENTITY_CACHE_ENABLED,
+						PortletPreferencesImpl.class, primaryKey, _nullPortletPreferences);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the portlet preferenceses.
 	 *
@@ -3846,6 +3979,7 @@ public class PortletPreferencesPersistenceImpl extends BasePersistenceImpl<Portl
 	}
 
 	private static final String _SQL_SELECT_PORTLETPREFERENCES = "SELECT portletPreferences FROM PortletPreferences portletPreferences";
+	private static final String _SQL_SELECT_PORTLETPREFERENCES_WHERE_PKS_IN = "SELECT portletPreferences FROM PortletPreferences portletPreferences WHERE portletPreferences.portletPreferencesId IN (";
 	private static final String _SQL_SELECT_PORTLETPREFERENCES_WHERE = "SELECT portletPreferences FROM PortletPreferences portletPreferences WHERE ";
 	private static final String _SQL_COUNT_PORTLETPREFERENCES = "SELECT COUNT(portletPreferences) FROM PortletPreferences portletPreferences";
 	private static final String _SQL_COUNT_PORTLETPREFERENCES_WHERE = "SELECT COUNT(portletPreferences) FROM PortletPreferences portletPreferences WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the region service.
@@ -1819,15 +1823,30 @@ public class RegionPersistenceImpl extends BasePersistenceImpl<Region>
 	 * @param regions the regions
 	 */
 	public void cacheResult(List<Region> regions) {
+		Map<Serializable, Region> uncachedRegions = new HashMap<Serializable, Region>();
+
 		for (Region region : regions) {
-			if (EntityCacheUtil.getResult(
-						RegionModelImpl.ENTITY_CACHE_ENABLED, RegionImpl.class,
-						region.getPrimaryKey()) == null) {
-				cacheResult(region);
-			}
-			else {
-				region.resetOriginalValues();
-			}
+			uncachedRegions.put(region.getPrimaryKeyObj(), region);
+		}
+
+		Map<Serializable, Serializable> cachedRegions = EntityCacheUtil.getResults(RegionModelImpl.ENTITY_CACHE_ENABLED,
+				RegionImpl.class, uncachedRegions.keySet());
+
+		for (Serializable primaryKey : cachedRegions.keySet()) {
+			Region region = uncachedRegions.remove(primaryKey);
+
+			region.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(RegionModelImpl.ENTITY_CACHE_ENABLED,
+			RegionImpl.class, uncachedRegions);
+
+		for (Region region : uncachedRegions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R,
+				new Object[] { region.getCountryId(), region.getRegionCode() },
+				region);
+
+			region.resetOriginalValues();
 		}
 	}
 
@@ -1874,12 +1893,16 @@ public class RegionPersistenceImpl extends BasePersistenceImpl<Region>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(regions.size());
+
 		for (Region region : regions) {
-			EntityCacheUtil.removeResult(RegionModelImpl.ENTITY_CACHE_ENABLED,
-				RegionImpl.class, region.getPrimaryKey());
+			primaryKeys.add(region.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(region);
 		}
+
+		EntityCacheUtil.removeResults(RegionModelImpl.ENTITY_CACHE_ENABLED,
+			RegionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Region region) {
@@ -2247,6 +2270,113 @@ public class RegionPersistenceImpl extends BasePersistenceImpl<Region>
 		return fetchByPrimaryKey((Serializable)regionId);
 	}
 
+	/**
+	 * Returns the regions with the primary keys, keyed by primary key. Primary keys without a matching region are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the regions
+	 * @return the regions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Region> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Region> map = new HashMap<Serializable, Region>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Region region = fetchByPrimaryKey(primaryKey);
+
+			if (region != null) {
+				map.put(primaryKey, region);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Region region = (Region)EntityCacheUtil.getResult(RegionModelImpl.ENTITY_CACHE_ENABLED,
+					RegionImpl.class, primaryKey);
+
+			if (region == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (region != _nullRegion) {
+				map.put(primaryKey, region);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_REGION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Region region : (List<Region>)q.list()) {
+					map.put(region.getPrimaryKeyObj(), region);
+
+					cacheResult(region);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(RegionModelImpl.ENTITY_CACHE_ENABLED,
+						RegionImpl.class, primaryKey, _nullRegion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the regions.
 	 *
@@ -2447,6 +2577,7 @@ public class RegionPersistenceImpl extends BasePersistenceImpl<Region>
 	}
 
 	private static final String _SQL_SELECT_REGION = "SELECT region FROM Region region";
+	private static final String _SQL_SELECT_REGION_WHERE_PKS_IN = "SELECT region FROM Region region WHERE region.regionId IN (";
 	private static final String _SQL_SELECT_REGION_WHERE = "SELECT region FROM Region region WHERE ";
 	private static final String _SQL_COUNT_REGION = "SELECT COUNT(region) FROM Region region";
 	private static final String _SQL_COUNT_REGION_WHERE = "SELECT COUNT(region) FROM Region region WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the release service.
@@ -345,15 +349,29 @@ public class ReleasePersistenceImpl extends BasePersistenceImpl<Release>
 	 * @param releases the releases
 	 */
 	public void cacheResult(List<Release> releases) {
+		Map<Serializable, Release> uncachedReleases = new HashMap<Serializable, Release>();
+
 		for (Release release : releases) {
-			if (EntityCacheUtil.getResult(
-						ReleaseModelImpl.ENTITY_CACHE_ENABLED,
-						ReleaseImpl.class, release.getPrimaryKey()) == null) {
-				cacheResult(release);
-			}
-			else {
-				release.resetOriginalValues();
-			}
+			uncachedReleases.put(release.getPrimaryKeyObj(), release);
+		}
+
+		Map<Serializable, Serializable> cachedReleases = EntityCacheUtil.getResults(ReleaseModelImpl.ENTITY_CACHE_ENABLED,
+				ReleaseImpl.class, uncachedReleases.keySet());
+
+		for (Serializable primaryKey : cachedReleases.keySet()) {
+			Release release = uncachedReleases.remove(primaryKey);
+
+			release.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ReleaseModelImpl.ENTITY_CACHE_ENABLED,
+			ReleaseImpl.class, uncachedReleases);
+
+		for (Release release : uncachedReleases.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_SERVLETCONTEXTNAME,
+				new Object[] { release.getServletContextName() }, release);
+
+			release.resetOriginalValues();
 		}
 	}
 
@@ -400,12 +418,16 @@ public class ReleasePersistenceImpl extends BasePersistenceImpl<Release>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(releases.size());
+
 		for (Release release : releases) {
-			EntityCacheUtil.removeResult(ReleaseModelImpl.ENTITY_CACHE_ENABLED,
-				ReleaseImpl.class, release.getPrimaryKey());
+			primaryKeys.add(release.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(release);
 		}
+
+		EntityCacheUtil.removeResults(ReleaseModelImpl.ENTITY_CACHE_ENABLED,
+			ReleaseImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Release release) {
@@ -715,6 +737,113 @@ public class ReleasePersistenceImpl extends BasePersistenceImpl<Release>
 		return fetchByPrimaryKey((Serializable)releaseId);
 	}
 
+	/**
+	 * Returns the releases with the primary keys, keyed by primary key. Primary keys without a matching release are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the releases
+	 * @return the releases, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Release> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Release> map = new HashMap<Serializable, Release>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Release release = fetchByPrimaryKey(primaryKey);
+
+			if (release != null) {
+				map.put(primaryKey, release);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Release release = (Release)EntityCacheUtil.getResult(ReleaseModelImpl.ENTITY_CACHE_ENABLED,
+					ReleaseImpl.class, primaryKey);
+
+			if (release == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (release != _nullRelease) {
+				map.put(primaryKey, release);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RELEASE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Release release : (List<Release>)q.list()) {
+					map.put(release.getPrimaryKeyObj(), release);
+
+					cacheResult(release);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ReleaseModelImpl.ENTITY_CACHE_ENABLED,
+						ReleaseImpl.class, primaryKey, _nullRelease);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the releases.
 	 *
@@ -915,6 +1044,7 @@ public class ReleasePersistenceImpl extends BasePersistenceImpl<Release>
 	}
 
 	private static final String _SQL_SELECT_RELEASE = "SELECT release FROM Release release";
+	private static final String _SQL_SELECT_RELEASE_WHERE_PKS_IN = "SELECT release FROM Release release WHERE release.releaseId IN (";
 	private static final String _SQL_SELECT_RELEASE_WHERE = "SELECT release FROM Release release WHERE ";
 	private static final String _SQL_COUNT_RELEASE = "SELECT COUNT(release) FROM Release release";
 	private static final String _SQL_COUNT_RELEASE_WHERE = "SELECT COUNT(release) FROM Release release WHERE ";
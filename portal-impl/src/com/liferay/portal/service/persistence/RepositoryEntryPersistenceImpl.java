@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the repository entry service.
@@ -2197,16 +2201,36 @@ public class RepositoryEntryPersistenceImpl extends BasePersistenceImpl<Reposito
 	 * @param repositoryEntries the repository entries
 	 */
 	public void cacheResult(List<RepositoryEntry> repositoryEntries) {
+		Map<Serializable, RepositoryEntry> uncachedRepositoryEntries = new HashMap<Serializable, RepositoryEntry>();
+
 		for (RepositoryEntry repositoryEntry : repositoryEntries) {
-			if (EntityCacheUtil.getResult(
-						RepositoryEntryModelImpl.ENTITY_CACHE_ENABLED,
-						RepositoryEntryImpl.class,
-						repositoryEntry.getPrimaryKey()) == null) {
-				cacheResult(repositoryEntry);
-			}
-			else {
-				repositoryEntry.resetOriginalValues();
-			}
+			uncachedRepositoryEntries.put(repositoryEntry.getPrimaryKeyObj(),
+				repositoryEntry);
+		}
+
+		Map<Serializable, Serializable> cachedRepositoryEntries = EntityCacheUtil.getResults(RepositoryEntryModelImpl.ENTITY_CACHE_ENABLED,
+				RepositoryEntryImpl.class, uncachedRepositoryEntries.keySet());
+
+		for (Serializable primaryKey : cachedRepositoryEntries.keySet()) {
+			RepositoryEntry repositoryEntry = uncachedRepositoryEntries.remove(primaryKey);
+
+			repositoryEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(RepositoryEntryModelImpl.ENTITY_CACHE_ENABLED,
+			RepositoryEntryImpl.class, uncachedRepositoryEntries);
+
+		for (RepositoryEntry repositoryEntry : uncachedRepositoryEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { repositoryEntry.getUuid(), repositoryEntry.getGroupId() },
+				repositoryEntry);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_R_M,
+				new Object[] {
+					repositoryEntry.getRepositoryId(), repositoryEntry.getMappedId()
+				}, repositoryEntry);
+
+			repositoryEntry.resetOriginalValues();
 		}
 	}
 
@@ -2253,12 +2277,16 @@ public class RepositoryEntryPersistenceImpl extends BasePersistenceImpl<Reposito
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(repositoryEntries.size());
+
 		for (RepositoryEntry repositoryEntry : repositoryEntries) {
-			EntityCacheUtil.removeResult(RepositoryEntryModelImpl.ENTITY_CACHE_ENABLED,
-				RepositoryEntryImpl.class, repositoryEntry.getPrimaryKey());
+			primaryKeys.add(repositoryEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(repositoryEntry);
 		}
+
+		EntityCacheUtil.removeResults(RepositoryEntryModelImpl.ENTITY_CACHE_ENABLED,
+			RepositoryEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(RepositoryEntry repositoryEntry) {
@@ -2694,6 +2722,113 @@ public class RepositoryEntryPersistenceImpl extends BasePersistenceImpl<Reposito
 		return fetchByPrimaryKey((Serializable)repositoryEntryId);
 	}
 
+	/**
+	 * Returns the repository entries with the primary keys, keyed by primary key. Primary keys without a matching repository entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the repository entries
+	 * @return the repository entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, RepositoryEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, RepositoryEntry> map = new HashMap<Serializable, RepositoryEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			RepositoryEntry repositoryEntry = fetchByPrimaryKey(primaryKey);
+
+			if (repositoryEntry != null) {
+				map.put(primaryKey, repositoryEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			RepositoryEntry repositoryEntry = (RepositoryEntry)EntityCacheUtil.getResult(RepositoryEntryModelImpl.ENTITY_CACHE_ENABLED,
+					RepositoryEntryImpl.class, primaryKey);
+
+			if (repositoryEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (repositoryEntry != _nullRepositoryEntry) {
+				map.put(primaryKey, repositoryEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_REPOSITORYENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (RepositoryEntry repositoryEntry : (List<RepositoryEntry>)q.list()) {
+					map.put(repositoryEntry.getPrimaryKeyObj(), repositoryEntry);
+
+					cacheResult(repositoryEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(RepositoryEntryModelImpl.ENTITY_CACHE_ENABLED,
+						RepositoryEntryImpl.class, primaryKey, _nullRepositoryEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the repository entries.
 	 *
@@ -2895,6 +3030,7 @@ public class RepositoryEntryPersistenceImpl extends BasePersistenceImpl<Reposito
 	}
 
 	private static final String _SQL_SELECT_REPOSITORYENTRY = "SELECT repositoryEntry FROM RepositoryEntry repositoryEntry";
+	private static final String _SQL_SELECT_REPOSITORYENTRY_WHERE_PKS_IN = "SELECT repositoryEntry FROM RepositoryEntry repositoryEntry WHERE repositoryEntry.repositoryEntryId IN (";
 	private static final String _SQL_SELECT_REPOSITORYENTRY_WHERE = "SELECT repositoryEntry FROM RepositoryEntry repositoryEntry WHERE ";
 	private static final String _SQL_COUNT_REPOSITORYENTRY = "SELECT COUNT(repositoryEntry) FROM RepositoryEntry repositoryEntry";
 	private static final String _SQL_COUNT_REPOSITORYENTRY_WHERE = "SELECT COUNT(repositoryEntry) FROM RepositoryEntry repositoryEntry WHERE ";
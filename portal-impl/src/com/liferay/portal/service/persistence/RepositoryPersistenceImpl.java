@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the repository service.
@@ -2230,15 +2234,36 @@ public class RepositoryPersistenceImpl extends BasePersistenceImpl<Repository>
 	 * @param repositories the repositories
 	 */
 	public void cacheResult(List<Repository> repositories) {
+		Map<Serializable, Repository> uncachedRepositories = new HashMap<Serializable, Repository>();
+
 		for (Repository repository : repositories) {
-			if (EntityCacheUtil.getResult(
-						RepositoryModelImpl.ENTITY_CACHE_ENABLED,
-						RepositoryImpl.class, repository.getPrimaryKey()) == null) {
-				cacheResult(repository);
-			}
-			else {
-				repository.resetOriginalValues();
-			}
+			uncachedRepositories.put(repository.getPrimaryKeyObj(), repository);
+		}
+
+		Map<Serializable, Serializable> cachedRepositories = EntityCacheUtil.getResults(RepositoryModelImpl.ENTITY_CACHE_ENABLED,
+				RepositoryImpl.class, uncachedRepositories.keySet());
+
+		for (Serializable primaryKey : cachedRepositories.keySet()) {
+			Repository repository = uncachedRepositories.remove(primaryKey);
+
+			repository.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(RepositoryModelImpl.ENTITY_CACHE_ENABLED,
+			RepositoryImpl.class, uncachedRepositories);
+
+		for (Repository repository : uncachedRepositories.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { repository.getUuid(), repository.getGroupId() },
+				repository);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N_P,
+				new Object[] {
+					repository.getGroupId(), repository.getName(),
+					repository.getPortletId()
+				}, repository);
+
+			repository.resetOriginalValues();
 		}
 	}
 
@@ -2285,12 +2310,16 @@ public class RepositoryPersistenceImpl extends BasePersistenceImpl<Repository>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(repositories.size());
+
 		for (Repository repository : repositories) {
-			EntityCacheUtil.removeResult(RepositoryModelImpl.ENTITY_CACHE_ENABLED,
-				RepositoryImpl.class, repository.getPrimaryKey());
+			primaryKeys.add(repository.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(repository);
 		}
+
+		EntityCacheUtil.removeResults(RepositoryModelImpl.ENTITY_CACHE_ENABLED,
+			RepositoryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Repository repository) {
@@ -2726,6 +2755,113 @@ public class RepositoryPersistenceImpl extends BasePersistenceImpl<Repository>
 		return fetchByPrimaryKey((Serializable)repositoryId);
 	}
 
+	/**
+	 * Returns the repositories with the primary keys, keyed by primary key. Primary keys without a matching repository are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the repositories
+	 * @return the repositories, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Repository> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Repository> map = new HashMap<Serializable, Repository>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Repository repository = fetchByPrimaryKey(primaryKey);
+
+			if (repository != null) {
+				map.put(primaryKey, repository);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Repository repository = (Repository)EntityCacheUtil.getResult(RepositoryModelImpl.ENTITY_CACHE_ENABLED,
+					RepositoryImpl.class, primaryKey);
+
+			if (repository == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (repository != _nullRepository) {
+				map.put(primaryKey, repository);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_REPOSITORY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Repository repository : (List<Repository>)q.list()) {
+					map.put(repository.getPrimaryKeyObj(), repository);
+
+					cacheResult(repository);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(RepositoryModelImpl.ENTITY_CACHE_ENABLED,
+						RepositoryImpl.class, primaryKey, _nullRepository);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the repositories.
 	 *
@@ -2927,6 +3063,7 @@ public class RepositoryPersistenceImpl extends BasePersistenceImpl<Repository>
 	}
 
 	private static final String _SQL_SELECT_REPOSITORY = "SELECT repository FROM Repository repository";
+	private static final String _SQL_SELECT_REPOSITORY_WHERE_PKS_IN = "SELECT repository FROM Repository repository WHERE repository.repositoryId IN (";
 	private static final String _SQL_SELECT_REPOSITORY_WHERE = "SELECT repository FROM Repository repository WHERE ";
 	private static final String _SQL_COUNT_REPOSITORY = "SELECT COUNT(repository) FROM Repository repository";
 	private static final String _SQL_COUNT_REPOSITORY_WHERE = "SELECT COUNT(repository) FROM Repository repository WHERE ";
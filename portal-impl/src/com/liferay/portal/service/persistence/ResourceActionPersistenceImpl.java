@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the resource action service.
@@ -915,15 +919,31 @@ public class ResourceActionPersistenceImpl extends BasePersistenceImpl<ResourceA
 	 * @param resourceActions the resource actions
 	 */
 	public void cacheResult(List<ResourceAction> resourceActions) {
+		Map<Serializable, ResourceAction> uncachedResourceActions = new HashMap<Serializable, ResourceAction>();
+
 		for (ResourceAction resourceAction : resourceActions) {
-			if (EntityCacheUtil.getResult(
-						ResourceActionModelImpl.ENTITY_CACHE_ENABLED,
-						ResourceActionImpl.class, resourceAction.getPrimaryKey()) == null) {
-				cacheResult(resourceAction);
-			}
-			else {
-				resourceAction.resetOriginalValues();
-			}
+			uncachedResourceActions.put(resourceAction.getPrimaryKeyObj(),
+				resourceAction);
+		}
+
+		Map<Serializable, Serializable> cachedResourceActions = EntityCacheUtil.getResults(ResourceActionModelImpl.ENTITY_CACHE_ENABLED,
+				ResourceActionImpl.class, uncachedResourceActions.keySet());
+
+		for (Serializable primaryKey : cachedResourceActions.keySet()) {
+			ResourceAction resourceAction = uncachedResourceActions.remove(primaryKey);
+
+			resourceAction.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ResourceActionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceActionImpl.class, uncachedResourceActions);
+
+		for (ResourceAction resourceAction : uncachedResourceActions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_N_A,
+				new Object[] { resourceAction.getName(), resourceAction.getActionId() },
+				resourceAction);
+
+			resourceAction.resetOriginalValues();
 		}
 	}
 
@@ -970,12 +990,16 @@ public class ResourceActionPersistenceImpl extends BasePersistenceImpl<ResourceA
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(resourceActions.size());
+
 		for (ResourceAction resourceAction : resourceActions) {
-			EntityCacheUtil.removeResult(ResourceActionModelImpl.ENTITY_CACHE_ENABLED,
-				ResourceActionImpl.class, resourceAction.getPrimaryKey());
+			primaryKeys.add(resourceAction.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(resourceAction);
 		}
+
+		EntityCacheUtil.removeResults(ResourceActionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceActionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ResourceAction resourceAction) {
@@ -1313,6 +1337,113 @@ public class ResourceActionPersistenceImpl extends BasePersistenceImpl<ResourceA
 		return fetchByPrimaryKey((Serializable)resourceActionId);
 	}
 
+	/**
+	 * Returns the resource actions with the primary keys, keyed by primary key. Primary keys without a matching resource action are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the resource actions
+	 * @return the resource actions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ResourceAction> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ResourceAction> map = new HashMap<Serializable, ResourceAction>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ResourceAction resourceAction = fetchByPrimaryKey(primaryKey);
+
+			if (resourceAction != null) {
+				map.put(primaryKey, resourceAction);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ResourceAction resourceAction = (ResourceAction)EntityCacheUtil.getResult(ResourceActionModelImpl.ENTITY_CACHE_ENABLED,
+					ResourceActionImpl.class, primaryKey);
+
+			if (resourceAction == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (resourceAction != _nullResourceAction) {
+				map.put(primaryKey, resourceAction);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RESOURCEACTION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ResourceAction resourceAction : (List<ResourceAction>)q.list()) {
+					map.put(resourceAction.getPrimaryKeyObj(), resourceAction);
+
+					cacheResult(resourceAction);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ResourceActionModelImpl.ENTITY_CACHE_ENABLED,
+						ResourceActionImpl.class, primaryKey, _nullResourceAction);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the resource actions.
 	 *
@@ -1514,6 +1645,7 @@ public class ResourceActionPersistenceImpl extends BasePersistenceImpl<ResourceA
 	}
 
 	private static final String _SQL_SELECT_RESOURCEACTION = "SELECT resourceAction FROM ResourceAction resourceAction";
+	private static final String _SQL_SELECT_RESOURCEACTION_WHERE_PKS_IN = "SELECT resourceAction FROM ResourceAction resourceAction WHERE resourceAction.resourceActionId IN (";
 	private static final String _SQL_SELECT_RESOURCEACTION_WHERE = "SELECT resourceAction FROM ResourceAction resourceAction WHERE ";
 	private static final String _SQL_COUNT_RESOURCEACTION = "SELECT COUNT(resourceAction) FROM ResourceAction resourceAction";
 	private static final String _SQL_COUNT_RESOURCEACTION_WHERE = "SELECT COUNT(resourceAction) FROM ResourceAction resourceAction WHERE ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the resource block permission service.
@@ -832,16 +836,33 @@ public class ResourceBlockPermissionPersistenceImpl extends BasePersistenceImpl<
 	 */
 	public void cacheResult(
 		List<ResourceBlockPermission> resourceBlockPermissions) {
+		Map<Serializable, ResourceBlockPermission> uncachedResourceBlockPermissions = new HashMap<Serializable, ResourceBlockPermission>();
+
 		for (ResourceBlockPermission resourceBlockPermission : resourceBlockPermissions) {
-			if (EntityCacheUtil.getResult(
-						ResourceBlockPermissionModelImpl.ENTITY_CACHE_ENABLED,
-						ResourceBlockPermissionImpl.class,
-						resourceBlockPermission.getPrimaryKey()) == null) {
-				cacheResult(resourceBlockPermission);
-			}
-			else {
-				resourceBlockPermission.resetOriginalValues();
-			}
+			uncachedResourceBlockPermissions.put(resourceBlockPermission.getPrimaryKeyObj(),
+				resourceBlockPermission);
+		}
+
+		Map<Serializable, Serializable> cachedResourceBlockPermissions = EntityCacheUtil.getResults(ResourceBlockPermissionModelImpl.ENTITY_CACHE_ENABLED,
+				ResourceBlockPermissionImpl.class, uncachedResourceBlockPermissions.keySet());
+
+		for (Serializable primaryKey : cachedResourceBlockPermissions.keySet()) {
+			ResourceBlockPermission resourceBlockPermission = uncachedResourceBlockPermissions.remove(primaryKey);
+
+			resourceBlockPermission.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ResourceBlockPermissionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceBlockPermissionImpl.class, uncachedResourceBlockPermissions);
+
+		for (ResourceBlockPermission resourceBlockPermission : uncachedResourceBlockPermissions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_R_R,
+				new Object[] {
+					resourceBlockPermission.getResourceBlockId(),
+					resourceBlockPermission.getRoleId()
+				}, resourceBlockPermission);
+
+			resourceBlockPermission.resetOriginalValues();
 		}
 	}
 
@@ -890,13 +911,16 @@ public class ResourceBlockPermissionPersistenceImpl extends BasePersistenceImpl<
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(resourceBlockPermissions.size());
+
 		for (ResourceBlockPermission resourceBlockPermission : resourceBlockPermissions) {
-			EntityCacheUtil.removeResult(ResourceBlockPermissionModelImpl.ENTITY_CACHE_ENABLED,
-				ResourceBlockPermissionImpl.class,
-				resourceBlockPermission.getPrimaryKey());
+			primaryKeys.add(resourceBlockPermission.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(resourceBlockPermission);
 		}
+
+		EntityCacheUtil.removeResults(ResourceBlockPermissionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceBlockPermissionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -1246,6 +1270,113 @@ public class ResourceBlockPermissionPersistenceImpl extends BasePersistenceImpl<
 		return fetchByPrimaryKey((Serializable)resourceBlockPermissionId);
 	}
 
+	/**
+	 * Returns the resource block permissions with the primary keys, keyed by primary key. Primary keys without a matching resource block permission are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the resource block permissions
+	 * @return the resource block permissions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ResourceBlockPermission> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ResourceBlockPermission> map = new HashMap<Serializable, ResourceBlockPermission>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ResourceBlockPermission resourceBlockPermission = fetchByPrimaryKey(primaryKey);
+
+			if (resourceBlockPermission != null) {
+				map.put(primaryKey, resourceBlockPermission);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ResourceBlockPermission resourceBlockPermission = (ResourceBlockPermission)EntityCacheUtil.getResult(ResourceBlockPermissionModelImpl.ENTITY_CACHE_ENABLED,
+					ResourceBlockPermissionImpl.class, primaryKey);
+
+			if (resourceBlockPermission == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (resourceBlockPermission != _nullResourceBlockPermission) {
+				map.put(primaryKey, resourceBlockPermission);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RESOURCEBLOCKPERMISSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ResourceBlockPermission resourceBlockPermission : (List<ResourceBlockPermission>)q.list()) {
+					map.put(resourceBlockPermission.getPrimaryKeyObj(), resourceBlockPermission);
+
+					cacheResult(resourceBlockPermission);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ResourceBlockPermissionModelImpl.ENTITY_CACHE_ENABLED,
+						ResourceBlockPermissionImpl.class, primaryKey, _nullResourceBlockPermission);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the resource block permissions.
 	 *
@@ -1447,6 +1578,7 @@ public class ResourceBlockPermissionPersistenceImpl extends BasePersistenceImpl<
 	}
 
 	private static final String _SQL_SELECT_RESOURCEBLOCKPERMISSION = "SELECT resourceBlockPermission FROM ResourceBlockPermission resourceBlockPermission";
+	private static final String _SQL_SELECT_RESOURCEBLOCKPERMISSION_WHERE_PKS_IN = "SELECT resourceBlockPermission FROM ResourceBlockPermission resourceBlockPermission WHERE resourceBlockPermission.resourceBlockPermissionId IN (";
 	private static final String _SQL_SELECT_RESOURCEBLOCKPERMISSION_WHERE = "SELECT resourceBlockPermission FROM ResourceBlockPermission resourceBlockPermission WHERE ";
 	private static final String _SQL_COUNT_RESOURCEBLOCKPERMISSION = "SELECT COUNT(resourceBlockPermission) FROM ResourceBlockPermission resourceBlockPermission";
 	private static final String _SQL_COUNT_RESOURCEBLOCKPERMISSION_WHERE = "SELECT COUNT(resourceBlockPermission) FROM ResourceBlockPermission resourceBlockPermission WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the resource block service.
@@ -1616,15 +1620,33 @@ public class ResourceBlockPersistenceImpl extends BasePersistenceImpl<ResourceBl
 	 * @param resourceBlocks the resource blocks
 	 */
 	public void cacheResult(List<ResourceBlock> resourceBlocks) {
+		Map<Serializable, ResourceBlock> uncachedResourceBlocks = new HashMap<Serializable, ResourceBlock>();
+
 		for (ResourceBlock resourceBlock : resourceBlocks) {
-			if (EntityCacheUtil.getResult(
-						ResourceBlockModelImpl.ENTITY_CACHE_ENABLED,
-						ResourceBlockImpl.class, resourceBlock.getPrimaryKey()) == null) {
-				cacheResult(resourceBlock);
-			}
-			else {
-				resourceBlock.resetOriginalValues();
-			}
+			uncachedResourceBlocks.put(resourceBlock.getPrimaryKeyObj(),
+				resourceBlock);
+		}
+
+		Map<Serializable, Serializable> cachedResourceBlocks = EntityCacheUtil.getResults(ResourceBlockModelImpl.ENTITY_CACHE_ENABLED,
+				ResourceBlockImpl.class, uncachedResourceBlocks.keySet());
+
+		for (Serializable primaryKey : cachedResourceBlocks.keySet()) {
+			ResourceBlock resourceBlock = uncachedResourceBlocks.remove(primaryKey);
+
+			resourceBlock.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ResourceBlockModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceBlockImpl.class, uncachedResourceBlocks);
+
+		for (ResourceBlock resourceBlock : uncachedResourceBlocks.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_G_N_P,
+				new Object[] {
+					resourceBlock.getCompanyId(), resourceBlock.getGroupId(),
+					resourceBlock.getName(), resourceBlock.getPermissionsHash()
+				}, resourceBlock);
+
+			resourceBlock.resetOriginalValues();
 		}
 	}
 
@@ -1671,12 +1693,16 @@ public class ResourceBlockPersistenceImpl extends BasePersistenceImpl<ResourceBl
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(resourceBlocks.size());
+
 		for (ResourceBlock resourceBlock : resourceBlocks) {
-			EntityCacheUtil.removeResult(ResourceBlockModelImpl.ENTITY_CACHE_ENABLED,
-				ResourceBlockImpl.class, resourceBlock.getPrimaryKey());
+			primaryKeys.add(resourceBlock.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(resourceBlock);
 		}
+
+		EntityCacheUtil.removeResults(ResourceBlockModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceBlockImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ResourceBlock resourceBlock) {
@@ -2048,6 +2074,113 @@ public class ResourceBlockPersistenceImpl extends BasePersistenceImpl<ResourceBl
 		return fetchByPrimaryKey((Serializable)resourceBlockId);
 	}
 
+	/**
+	 * Returns the resource blocks with the primary keys, keyed by primary key. Primary keys without a matching resource block are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the resource blocks
+	 * @return the resource blocks, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ResourceBlock> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ResourceBlock> map = new HashMap<Serializable, ResourceBlock>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ResourceBlock resourceBlock = fetchByPrimaryKey(primaryKey);
+
+			if (resourceBlock != null) {
+				map.put(primaryKey, resourceBlock);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ResourceBlock resourceBlock = (ResourceBlock)EntityCacheUtil.getResult(ResourceBlockModelImpl.ENTITY_CACHE_ENABLED,
+					ResourceBlockImpl.class, primaryKey);
+
+			if (resourceBlock == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (resourceBlock != _nullResourceBlock) {
+				map.put(primaryKey, resourceBlock);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RESOURCEBLOCK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ResourceBlock resourceBlock : (List<ResourceBlock>)q.list()) {
+					map.put(resourceBlock.getPrimaryKeyObj(), resourceBlock);
+
+					cacheResult(resourceBlock);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ResourceBlockModelImpl.ENTITY_CACHE_ENABLED,
+						ResourceBlockImpl.class, primaryKey, _nullResourceBlock);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the resource blocks.
 	 *
@@ -2249,6 +2382,7 @@ public class ResourceBlockPersistenceImpl extends BasePersistenceImpl<ResourceBl
 	}
 
 	private static final String _SQL_SELECT_RESOURCEBLOCK = "SELECT resourceBlock FROM ResourceBlock resourceBlock";
+	private static final String _SQL_SELECT_RESOURCEBLOCK_WHERE_PKS_IN = "SELECT resourceBlock FROM ResourceBlock resourceBlock WHERE resourceBlock.resourceBlockId IN (";
 	private static final String _SQL_SELECT_RESOURCEBLOCK_WHERE = "SELECT resourceBlock FROM ResourceBlock resourceBlock WHERE ";
 	private static final String _SQL_COUNT_RESOURCEBLOCK = "SELECT COUNT(resourceBlock) FROM ResourceBlock resourceBlock";
 	private static final String _SQL_COUNT_RESOURCEBLOCK_WHERE = "SELECT COUNT(resourceBlock) FROM ResourceBlock resourceBlock WHERE ";
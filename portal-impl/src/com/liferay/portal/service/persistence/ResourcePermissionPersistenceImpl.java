@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the resource permission service.
@@ -3969,16 +3973,34 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 	 * @param resourcePermissions the resource permissions
 	 */
 	public void cacheResult(List<ResourcePermission> resourcePermissions) {
+		Map<Serializable, ResourcePermission> uncachedResourcePermissions = new HashMap<Serializable, ResourcePermission>();
+
 		for (ResourcePermission resourcePermission : resourcePermissions) {
-			if (EntityCacheUtil.getResult(
-						ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
-						ResourcePermissionImpl.class,
-						resourcePermission.getPrimaryKey()) == null) {
-				cacheResult(resourcePermission);
-			}
-			else {
-				resourcePermission.resetOriginalValues();
-			}
+			uncachedResourcePermissions.put(resourcePermission.getPrimaryKeyObj(),
+				resourcePermission);
+		}
+
+		Map<Serializable, Serializable> cachedResourcePermissions = EntityCacheUtil.getResults(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
+				ResourcePermissionImpl.class, uncachedResourcePermissions.keySet());
+
+		for (Serializable primaryKey : cachedResourcePermissions.keySet()) {
+			ResourcePermission resourcePermission = uncachedResourcePermissions.remove(primaryKey);
+
+			resourcePermission.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourcePermissionImpl.class, uncachedResourcePermissions);
+
+		for (ResourcePermission resourcePermission : uncachedResourcePermissions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_N_S_P_R,
+				new Object[] {
+					resourcePermission.getCompanyId(), resourcePermission.getName(),
+					resourcePermission.getScope(), resourcePermission.getPrimKey(),
+					resourcePermission.getRoleId()
+				}, resourcePermission);
+
+			resourcePermission.resetOriginalValues();
 		}
 	}
 
@@ -4025,12 +4047,16 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(resourcePermissions.size());
+
 		for (ResourcePermission resourcePermission : resourcePermissions) {
-			EntityCacheUtil.removeResult(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
-				ResourcePermissionImpl.class, resourcePermission.getPrimaryKey());
+			primaryKeys.add(resourcePermission.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(resourcePermission);
 		}
+
+		EntityCacheUtil.removeResults(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourcePermissionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -4481,6 +4507,113 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 		return fetchByPrimaryKey((Serializable)resourcePermissionId);
 	}
 
+	/**
+	 * Returns the resource permissions with the primary keys, keyed by primary key. Primary keys without a matching resource permission are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the resource permissions
+	 * @return the resource permissions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ResourcePermission> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ResourcePermission> map = new HashMap<Serializable, ResourcePermission>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ResourcePermission resourcePermission = fetchByPrimaryKey(primaryKey);
+
+			if (resourcePermission != null) {
+				map.put(primaryKey, resourcePermission);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ResourcePermission resourcePermission = (ResourcePermission)EntityCacheUtil.getResult(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
+					ResourcePermissionImpl.class, primaryKey);
+
+			if (resourcePermission == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (resourcePermission != _nullResourcePermission) {
+				map.put(primaryKey, resourcePermission);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RESOURCEPERMISSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ResourcePermission resourcePermission : (List<ResourcePermission>)q.list()) {
+					map.put(resourcePermission.getPrimaryKeyObj(), resourcePermission);
+
+					cacheResult(resourcePermission);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
+						ResourcePermissionImpl.class, primaryKey, _nullResourcePermission);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the resource permissions.
 	 *
@@ -4682,6 +4815,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 	}
 
 	private static final String _SQL_SELECT_RESOURCEPERMISSION = "SELECT resourcePermission FROM ResourcePermission resourcePermission";
+	private static final String _SQL_SELECT_RESOURCEPERMISSION_WHERE_PKS_IN = "SELECT resourcePermission FROM ResourcePermission resourcePermission WHERE resourcePermission.resourcePermissionId IN (";
 	private static final String _SQL_SELECT_RESOURCEPERMISSION_WHERE = "SELECT resourcePermission FROM ResourcePermission resourcePermission WHERE ";
 	private static final String _SQL_COUNT_RESOURCEPERMISSION = "SELECT COUNT(resourcePermission) FROM ResourcePermission resourcePermission";
 	private static final String _SQL_COUNT_RESOURCEPERMISSION_WHERE = "SELECT COUNT(resourcePermission) FROM ResourcePermission resourcePermission WHERE ";
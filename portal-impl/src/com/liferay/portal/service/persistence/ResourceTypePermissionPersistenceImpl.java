@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the resource type permission service.
@@ -1503,16 +1507,35 @@ public class ResourceTypePermissionPersistenceImpl extends BasePersistenceImpl<R
 	 */
 	public void cacheResult(
 		List<ResourceTypePermission> resourceTypePermissions) {
+		Map<Serializable, ResourceTypePermission> uncachedResourceTypePermissions = new HashMap<Serializable, ResourceTypePermission>();
+
 		for (ResourceTypePermission resourceTypePermission : resourceTypePermissions) {
-			if (EntityCacheUtil.getResult(
-						ResourceTypePermissionModelImpl.ENTITY_CACHE_ENABLED,
-						ResourceTypePermissionImpl.class,
-						resourceTypePermission.getPrimaryKey()) == null) {
-				cacheResult(resourceTypePermission);
-			}
-			else {
-				resourceTypePermission.resetOriginalValues();
-			}
+			uncachedResourceTypePermissions.put(resourceTypePermission.getPrimaryKeyObj(),
+				resourceTypePermission);
+		}
+
+		Map<Serializable, Serializable> cachedResourceTypePermissions = EntityCacheUtil.getResults(ResourceTypePermissionModelImpl.ENTITY_CACHE_ENABLED,
+				ResourceTypePermissionImpl.class, uncachedResourceTypePermissions.keySet());
+
+		for (Serializable primaryKey : cachedResourceTypePermissions.keySet()) {
+			ResourceTypePermission resourceTypePermission = uncachedResourceTypePermissions.remove(primaryKey);
+
+			resourceTypePermission.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ResourceTypePermissionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceTypePermissionImpl.class, uncachedResourceTypePermissions);
+
+		for (ResourceTypePermission resourceTypePermission : uncachedResourceTypePermissions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_G_N_R,
+				new Object[] {
+					resourceTypePermission.getCompanyId(),
+					resourceTypePermission.getGroupId(),
+					resourceTypePermission.getName(),
+					resourceTypePermission.getRoleId()
+				}, resourceTypePermission);
+
+			resourceTypePermission.resetOriginalValues();
 		}
 	}
 
@@ -1560,13 +1583,16 @@ public class ResourceTypePermissionPersistenceImpl extends BasePersistenceImpl<R
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(resourceTypePermissions.size());
+
 		for (ResourceTypePermission resourceTypePermission : resourceTypePermissions) {
-			EntityCacheUtil.removeResult(ResourceTypePermissionModelImpl.ENTITY_CACHE_ENABLED,
-				ResourceTypePermissionImpl.class,
-				resourceTypePermission.getPrimaryKey());
+			primaryKeys.add(resourceTypePermission.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(resourceTypePermission);
 		}
+
+		EntityCacheUtil.removeResults(ResourceTypePermissionModelImpl.ENTITY_CACHE_ENABLED,
+			ResourceTypePermissionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -1945,6 +1971,113 @@ public class ResourceTypePermissionPersistenceImpl extends BasePersistenceImpl<R
 		return fetchByPrimaryKey((Serializable)resourceTypePermissionId);
 	}
 
+	/**
+	 * Returns the resource type permissions with the primary keys, keyed by primary key. Primary keys without a matching resource type permission are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the resource type permissions
+	 * @return the resource type permissions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ResourceTypePermission> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ResourceTypePermission> map = new HashMap<Serializable, ResourceTypePermission>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ResourceTypePermission resourceTypePermission = fetchByPrimaryKey(primaryKey);
+
+			if (resourceTypePermission != null) {
+				map.put(primaryKey, resourceTypePermission);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ResourceTypePermission resourceTypePermission = (ResourceTypePermission)EntityCacheUtil.getResult(ResourceTypePermissionModelImpl.ENTITY_CACHE_ENABLED,
+					ResourceTypePermissionImpl.class, primaryKey);
+
+			if (resourceTypePermission == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (resourceTypePermission != _nullResourceTypePermission) {
+				map.put(primaryKey, resourceTypePermission);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RESOURCETYPEPERMISSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ResourceTypePermission resourceTypePermission : (List<ResourceTypePermission>)q.list()) {
+					map.put(resourceTypePermission.getPrimaryKeyObj(), resourceTypePermission);
+
+					cacheResult(resourceTypePermission);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ResourceTypePermissionModelImpl.ENTITY_CACHE_ENABLED,
+						ResourceTypePermissionImpl.class, primaryKey, _nullResourceTypePermission);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the resource type permissions.
 	 *
@@ -2146,6 +2279,7 @@ public class ResourceTypePermissionPersistenceImpl extends BasePersistenceImpl<R
 	}
 
 	private static final String _SQL_SELECT_RESOURCETYPEPERMISSION = "SELECT resourceTypePermission FROM ResourceTypePermission resourceTypePermission";
+	private static final String _SQL_SELECT_RESOURCETYPEPERMISSION_WHERE_PKS_IN = "SELECT resourceTypePermission FROM ResourceTypePermission resourceTypePermission WHERE resourceTypePermission.resourceTypePermissionId IN (";
 	private static final String _SQL_SELECT_RESOURCETYPEPERMISSION_WHERE = "SELECT resourceTypePermission FROM ResourceTypePermission resourceTypePermission WHERE ";
 	private static final String _SQL_COUNT_RESOURCETYPEPERMISSION = "SELECT COUNT(resourceTypePermission) FROM ResourceTypePermission resourceTypePermission";
 	private static final String _SQL_COUNT_RESOURCETYPEPERMISSION_WHERE = "SELECT COUNT(resourceTypePermission) FROM ResourceTypePermission resourceTypePermission WHERE ";
@@ -54,7 +54,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -5056,14 +5059,34 @@ public class RolePersistenceImpl extends BasePersistenceImpl<Role>
 	 * @param roles the roles
 	 */
 	public void cacheResult(List<Role> roles) {
+		Map<Serializable, Role> uncachedRoles = new HashMap<Serializable, Role>();
+
 		for (Role role : roles) {
-			if (EntityCacheUtil.getResult(RoleModelImpl.ENTITY_CACHE_ENABLED,
-						RoleImpl.class, role.getPrimaryKey()) == null) {
-				cacheResult(role);
-			}
-			else {
-				role.resetOriginalValues();
-			}
+			uncachedRoles.put(role.getPrimaryKeyObj(), role);
+		}
+
+		Map<Serializable, Serializable> cachedRoles = EntityCacheUtil.getResults(RoleModelImpl.ENTITY_CACHE_ENABLED,
+				RoleImpl.class, uncachedRoles.keySet());
+
+		for (Serializable primaryKey : cachedRoles.keySet()) {
+			Role role = uncachedRoles.remove(primaryKey);
+
+			role.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(RoleModelImpl.ENTITY_CACHE_ENABLED,
+			RoleImpl.class, uncachedRoles);
+
+		for (Role role : uncachedRoles.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_N,
+				new Object[] { role.getCompanyId(), role.getName() }, role);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C_C,
+				new Object[] {
+					role.getCompanyId(), role.getClassNameId(), role.getClassPK()
+				}, role);
+
+			role.resetOriginalValues();
 		}
 	}
 
@@ -5110,12 +5133,16 @@ public class RolePersistenceImpl extends BasePersistenceImpl<Role>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(roles.size());
+
 		for (Role role : roles) {
-			EntityCacheUtil.removeResult(RoleModelImpl.ENTITY_CACHE_ENABLED,
-				RoleImpl.class, role.getPrimaryKey());
+			primaryKeys.add(role.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(role);
 		}
+
+		EntityCacheUtil.removeResults(RoleModelImpl.ENTITY_CACHE_ENABLED,
+			RoleImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Role role) {
@@ -5568,6 +5595,113 @@ public class RolePersistenceImpl extends BasePersistenceImpl<Role>
 		return fetchByPrimaryKey((Serializable)roleId);
 	}
 
+	/**
+	 * Returns the roles with the primary keys, keyed by primary key. Primary keys without a matching role are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the roles
+	 * @return the roles, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Role> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Role> map = new HashMap<Serializable, Role>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Role role = fetchByPrimaryKey(primaryKey);
+
+			if (role != null) {
+				map.put(primaryKey, role);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Role role = (Role)EntityCacheUtil.getResult(RoleModelImpl.ENTITY_CACHE_ENABLED,
+					RoleImpl.class, primaryKey);
+
+			if (role == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (role != _nullRole) {
+				map.put(primaryKey, role);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ROLE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Role role : (List<Role>)q.list()) {
+					map.put(role.getPrimaryKeyObj(), role);
+
+					cacheResult(role);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(RoleModelImpl.ENTITY_CACHE_ENABLED,
+						RoleImpl.class, primaryKey, _nullRole);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the roles.
 	 *
@@ -7079,6 +7213,7 @@ public class RolePersistenceImpl extends BasePersistenceImpl<Role>
 	}
 
 	private static final String _SQL_SELECT_ROLE = "SELECT role FROM Role role";
+	private static final String _SQL_SELECT_ROLE_WHERE_PKS_IN = "SELECT role FROM Role role WHERE role.roleId IN (";
 	private static final String _SQL_SELECT_ROLE_WHERE = "SELECT role FROM Role role WHERE ";
 	private static final String _SQL_COUNT_ROLE = "SELECT COUNT(role) FROM Role role";
 	private static final String _SQL_COUNT_ROLE_WHERE = "SELECT COUNT(role) FROM Role role WHERE ";
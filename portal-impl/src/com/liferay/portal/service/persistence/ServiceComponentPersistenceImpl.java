@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the service component service.
@@ -908,16 +912,33 @@ public class ServiceComponentPersistenceImpl extends BasePersistenceImpl<Service
 	 * @param serviceComponents the service components
 	 */
 	public void cacheResult(List<ServiceComponent> serviceComponents) {
+		Map<Serializable, ServiceComponent> uncachedServiceComponents = new HashMap<Serializable, ServiceComponent>();
+
 		for (ServiceComponent serviceComponent : serviceComponents) {
-			if (EntityCacheUtil.getResult(
-						ServiceComponentModelImpl.ENTITY_CACHE_ENABLED,
-						ServiceComponentImpl.class,
-						serviceComponent.getPrimaryKey()) == null) {
-				cacheResult(serviceComponent);
-			}
-			else {
-				serviceComponent.resetOriginalValues();
-			}
+			uncachedServiceComponents.put(serviceComponent.getPrimaryKeyObj(),
+				serviceComponent);
+		}
+
+		Map<Serializable, Serializable> cachedServiceComponents = EntityCacheUtil.getResults(ServiceComponentModelImpl.ENTITY_CACHE_ENABLED,
+				ServiceComponentImpl.class, uncachedServiceComponents.keySet());
+
+		for (Serializable primaryKey : cachedServiceComponents.keySet()) {
+			ServiceComponent serviceComponent = uncachedServiceComponents.remove(primaryKey);
+
+			serviceComponent.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ServiceComponentModelImpl.ENTITY_CACHE_ENABLED,
+			ServiceComponentImpl.class, uncachedServiceComponents);
+
+		for (ServiceComponent serviceComponent : uncachedServiceComponents.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_BNS_BNU,
+				new Object[] {
+					serviceComponent.getBuildNamespace(),
+					serviceComponent.getBuildNumber()
+				}, serviceComponent);
+
+			serviceComponent.resetOriginalValues();
 		}
 	}
 
@@ -964,12 +985,16 @@ public class ServiceComponentPersistenceImpl extends BasePersistenceImpl<Service
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(serviceComponents.size());
+
 		for (ServiceComponent serviceComponent : serviceComponents) {
-			EntityCacheUtil.removeResult(ServiceComponentModelImpl.ENTITY_CACHE_ENABLED,
-				ServiceComponentImpl.class, serviceComponent.getPrimaryKey());
+			primaryKeys.add(serviceComponent.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(serviceComponent);
 		}
+
+		EntityCacheUtil.removeResults(ServiceComponentModelImpl.ENTITY_CACHE_ENABLED,
+			ServiceComponentImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ServiceComponent serviceComponent) {
@@ -1316,6 +1341,113 @@ public class ServiceComponentPersistenceImpl extends BasePersistenceImpl<Service
 		return fetchByPrimaryKey((Serializable)serviceComponentId);
 	}
 
+	/**
+	 * Returns the service components with the primary keys, keyed by primary key. Primary keys without a matching service component are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the service components
+	 * @return the service components, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ServiceComponent> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ServiceComponent> map = new HashMap<Serializable, ServiceComponent>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ServiceComponent serviceComponent = fetchByPrimaryKey(primaryKey);
+
+			if (serviceComponent != null) {
+				map.put(primaryKey, serviceComponent);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ServiceComponent serviceComponent = (ServiceComponent)EntityCacheUtil.getResult(ServiceComponentModelImpl.ENTITY_CACHE_ENABLED,
+					ServiceComponentImpl.class, primaryKey);
+
+			if (serviceComponent == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (serviceComponent != _nullServiceComponent) {
+				map.put(primaryKey, serviceComponent);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SERVICECOMPONENT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ServiceComponent serviceComponent : (List<ServiceComponent>)q.list()) {
+					map.put(serviceComponent.getPrimaryKeyObj(), serviceComponent);
+
+					cacheResult(serviceComponent);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ServiceComponentModelImpl.ENTITY_CACHE_ENABLED,
+						ServiceComponentImpl.class, primaryKey, _nullServiceComponent);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the service components.
 	 *
@@ -1517,6 +1649,7 @@ public class ServiceComponentPersistenceImpl extends BasePersistenceImpl<Service
 	}
 
 	private static final String _SQL_SELECT_SERVICECOMPONENT = "SELECT serviceComponent FROM ServiceComponent serviceComponent";
+	private static final String _SQL_SELECT_SERVICECOMPONENT_WHERE_PKS_IN = "SELECT serviceComponent FROM ServiceComponent serviceComponent WHERE serviceComponent.serviceComponentId IN (";
 	private static final String _SQL_SELECT_SERVICECOMPONENT_WHERE = "SELECT serviceComponent FROM ServiceComponent serviceComponent WHERE ";
 	private static final String _SQL_COUNT_SERVICECOMPONENT = "SELECT COUNT(serviceComponent) FROM ServiceComponent serviceComponent";
 	private static final String _SQL_COUNT_SERVICECOMPONENT_WHERE = "SELECT COUNT(serviceComponent) FROM ServiceComponent serviceComponent WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shard service.
@@ -582,14 +586,32 @@ public class ShardPersistenceImpl extends BasePersistenceImpl<Shard>
 	 * @param shards the shards
 	 */
 	public void cacheResult(List<Shard> shards) {
+		Map<Serializable, Shard> uncachedShards = new HashMap<Serializable, Shard>();
+
 		for (Shard shard : shards) {
-			if (EntityCacheUtil.getResult(ShardModelImpl.ENTITY_CACHE_ENABLED,
-						ShardImpl.class, shard.getPrimaryKey()) == null) {
-				cacheResult(shard);
-			}
-			else {
-				shard.resetOriginalValues();
-			}
+			uncachedShards.put(shard.getPrimaryKeyObj(), shard);
+		}
+
+		Map<Serializable, Serializable> cachedShards = EntityCacheUtil.getResults(ShardModelImpl.ENTITY_CACHE_ENABLED,
+				ShardImpl.class, uncachedShards.keySet());
+
+		for (Serializable primaryKey : cachedShards.keySet()) {
+			Shard shard = uncachedShards.remove(primaryKey);
+
+			shard.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShardModelImpl.ENTITY_CACHE_ENABLED,
+			ShardImpl.class, uncachedShards);
+
+		for (Shard shard : uncachedShards.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_NAME,
+				new Object[] { shard.getName() }, shard);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C,
+				new Object[] { shard.getClassNameId(), shard.getClassPK() }, shard);
+
+			shard.resetOriginalValues();
 		}
 	}
 
@@ -636,12 +658,16 @@ public class ShardPersistenceImpl extends BasePersistenceImpl<Shard>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shards.size());
+
 		for (Shard shard : shards) {
-			EntityCacheUtil.removeResult(ShardModelImpl.ENTITY_CACHE_ENABLED,
-				ShardImpl.class, shard.getPrimaryKey());
+			primaryKeys.add(shard.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(shard);
 		}
+
+		EntityCacheUtil.removeResults(ShardModelImpl.ENTITY_CACHE_ENABLED,
+			ShardImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Shard shard) {
@@ -973,6 +999,113 @@ public class ShardPersistenceImpl extends BasePersistenceImpl<Shard>
 		return fetchByPrimaryKey((Serializable)shardId);
 	}
 
+	/**
+	 * Returns the shards with the primary keys, keyed by primary key. Primary keys without a matching shard are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shards
+	 * @return the shards, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Shard> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Shard> map = new HashMap<Serializable, Shard>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Shard shard = fetchByPrimaryKey(primaryKey);
+
+			if (shard != null) {
+				map.put(primaryKey, shard);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Shard shard = (Shard)EntityCacheUtil.getResult(ShardModelImpl.ENTITY_CACHE_ENABLED,
+					ShardImpl.class, primaryKey);
+
+			if (shard == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shard != _nullShard) {
+				map.put(primaryKey, shard);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHARD_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Shard shard : (List<Shard>)q.list()) {
+					map.put(shard.getPrimaryKeyObj(), shard);
+
+					cacheResult(shard);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShardModelImpl.ENTITY_CACHE_ENABLED,
+						ShardImpl.class, primaryKey, _nullShard);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shards.
 	 *
@@ -1173,6 +1306,7 @@ public class ShardPersistenceImpl extends BasePersistenceImpl<Shard>
 	}
 
 	private static final String _SQL_SELECT_SHARD = "SELECT shard FROM Shard shard";
+	private static final String _SQL_SELECT_SHARD_WHERE_PKS_IN = "SELECT shard FROM Shard shard WHERE shard.shardId IN (";
 	private static final String _SQL_SELECT_SHARD_WHERE = "SELECT shard FROM Shard shard WHERE ";
 	private static final String _SQL_COUNT_SHARD = "SELECT COUNT(shard) FROM Shard shard";
 	private static final String _SQL_COUNT_SHARD_WHERE = "SELECT COUNT(shard) FROM Shard shard WHERE ";
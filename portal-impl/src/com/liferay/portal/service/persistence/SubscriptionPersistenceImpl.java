@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the subscription service.
@@ -2300,15 +2304,33 @@ public class SubscriptionPersistenceImpl extends BasePersistenceImpl<Subscriptio
 	 * @param subscriptions the subscriptions
 	 */
 	public void cacheResult(List<Subscription> subscriptions) {
+		Map<Serializable, Subscription> uncachedSubscriptions = new HashMap<Serializable, Subscription>();
+
 		for (Subscription subscription : subscriptions) {
-			if (EntityCacheUtil.getResult(
-						SubscriptionModelImpl.ENTITY_CACHE_ENABLED,
-						SubscriptionImpl.class, subscription.getPrimaryKey()) == null) {
-				cacheResult(subscription);
-			}
-			else {
-				subscription.resetOriginalValues();
-			}
+			uncachedSubscriptions.put(subscription.getPrimaryKeyObj(),
+				subscription);
+		}
+
+		Map<Serializable, Serializable> cachedSubscriptions = EntityCacheUtil.getResults(SubscriptionModelImpl.ENTITY_CACHE_ENABLED,
+				SubscriptionImpl.class, uncachedSubscriptions.keySet());
+
+		for (Serializable primaryKey : cachedSubscriptions.keySet()) {
+			Subscription subscription = uncachedSubscriptions.remove(primaryKey);
+
+			subscription.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SubscriptionModelImpl.ENTITY_CACHE_ENABLED,
+			SubscriptionImpl.class, uncachedSubscriptions);
+
+		for (Subscription subscription : uncachedSubscriptions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_U_C_C,
+				new Object[] {
+					subscription.getCompanyId(), subscription.getUserId(),
+					subscription.getClassNameId(), subscription.getClassPK()
+				}, subscription);
+
+			subscription.resetOriginalValues();
 		}
 	}
 
@@ -2355,12 +2377,16 @@ public class SubscriptionPersistenceImpl extends BasePersistenceImpl<Subscriptio
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(subscriptions.size());
+
 		for (Subscription subscription : subscriptions) {
-			EntityCacheUtil.removeResult(SubscriptionModelImpl.ENTITY_CACHE_ENABLED,
-				SubscriptionImpl.class, subscription.getPrimaryKey());
+			primaryKeys.add(subscription.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(subscription);
 		}
+
+		EntityCacheUtil.removeResults(SubscriptionModelImpl.ENTITY_CACHE_ENABLED,
+			SubscriptionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Subscription subscription) {
@@ -2775,6 +2801,113 @@ public class SubscriptionPersistenceImpl extends BasePersistenceImpl<Subscriptio
 		return fetchByPrimaryKey((Serializable)subscriptionId);
 	}
 
+	/**
+	 * Returns the subscriptions with the primary keys, keyed by primary key. Primary keys without a matching subscription are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the subscriptions
+	 * @return the subscriptions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Subscription> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Subscription> map = new HashMap<Serializable, Subscription>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Subscription subscription = fetchByPrimaryKey(primaryKey);
+
+			if (subscription != null) {
+				map.put(primaryKey, subscription);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Subscription subscription = (Subscription)EntityCacheUtil.getResult(SubscriptionModelImpl.ENTITY_CACHE_ENABLED,
+					SubscriptionImpl.class, primaryKey);
+
+			if (subscription == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (subscription != _nullSubscription) {
+				map.put(primaryKey, subscription);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SUBSCRIPTION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Subscription subscription : (List<Subscription>)q.list()) {
+					map.put(subscription.getPrimaryKeyObj(), subscription);
+
+					cacheResult(subscription);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SubscriptionModelImpl.ENTITY_CACHE_ENABLED,
+						SubscriptionImpl.class, primaryKey, _nullSubscription);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the subscriptions.
 	 *
@@ -2976,6 +3109,7 @@ public class SubscriptionPersistenceImpl extends BasePersistenceImpl<Subscriptio
 	}
 
 	private static final String _SQL_SELECT_SUBSCRIPTION = "SELECT subscription FROM Subscription subscription";
+	private static final String _SQL_SELECT_SUBSCRIPTION_WHERE_PKS_IN = "SELECT subscription FROM Subscription subscription WHERE subscription.subscriptionId IN (";
 	private static final String _SQL_SELECT_SUBSCRIPTION_WHERE = "SELECT subscription FROM Subscription subscription WHERE ";
 	private static final String _SQL_COUNT_SUBSCRIPTION = "SELECT COUNT(subscription) FROM Subscription subscription";
 	private static final String _SQL_COUNT_SUBSCRIPTION_WHERE = "SELECT COUNT(subscription) FROM Subscription subscription WHERE ";
@@ -54,7 +54,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -1196,14 +1199,29 @@ public class TeamPersistenceImpl extends BasePersistenceImpl<Team>
 	 * @param teams the teams
 	 */
 	public void cacheResult(List<Team> teams) {
+		Map<Serializable, Team> uncachedTeams = new HashMap<Serializable, Team>();
+
 		for (Team team : teams) {
-			if (EntityCacheUtil.getResult(TeamModelImpl.ENTITY_CACHE_ENABLED,
-						TeamImpl.class, team.getPrimaryKey()) == null) {
-				cacheResult(team);
-			}
-			else {
-				team.resetOriginalValues();
-			}
+			uncachedTeams.put(team.getPrimaryKeyObj(), team);
+		}
+
+		Map<Serializable, Serializable> cachedTeams = EntityCacheUtil.getResults(TeamModelImpl.ENTITY_CACHE_ENABLED,
+				TeamImpl.class, uncachedTeams.keySet());
+
+		for (Serializable primaryKey : cachedTeams.keySet()) {
+			Team team = uncachedTeams.remove(primaryKey);
+
+			team.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(TeamModelImpl.ENTITY_CACHE_ENABLED,
+			TeamImpl.class, uncachedTeams);
+
+		for (Team team : uncachedTeams.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N,
+				new Object[] { team.getGroupId(), team.getName() }, team);
+
+			team.resetOriginalValues();
 		}
 	}
 
@@ -1250,12 +1268,16 @@ public class TeamPersistenceImpl extends BasePersistenceImpl<Team>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(teams.size());
+
 		for (Team team : teams) {
-			EntityCacheUtil.removeResult(TeamModelImpl.ENTITY_CACHE_ENABLED,
-				TeamImpl.class, team.getPrimaryKey());
+			primaryKeys.add(team.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(team);
 		}
+
+		EntityCacheUtil.removeResults(TeamModelImpl.ENTITY_CACHE_ENABLED,
+			TeamImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Team team) {
@@ -1599,6 +1621,113 @@ public class TeamPersistenceImpl extends BasePersistenceImpl<Team>
 		return fetchByPrimaryKey((Serializable)teamId);
 	}
 
+	/**
+	 * Returns the teams with the primary keys, keyed by primary key. Primary keys without a matching team are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the teams
+	 * @return the teams, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Team> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Team> map = new HashMap<Serializable, Team>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Team team = fetchByPrimaryKey(primaryKey);
+
+			if (team != null) {
+				map.put(primaryKey, team);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Team team = (Team)EntityCacheUtil.getResult(TeamModelImpl.ENTITY_CACHE_ENABLED,
+					TeamImpl.class, primaryKey);
+
+			if (team == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (team != _nullTeam) {
+				map.put(primaryKey, team);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_TEAM_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Team team : (List<Team>)q.list()) {
+					map.put(team.getPrimaryKeyObj(), team);
+
+					cacheResult(team);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(TeamModelImpl.ENTITY_CACHE_ENABLED,
+						TeamImpl.class, primaryKey, _nullTeam);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the teams.
 	 *
@@ -3129,6 +3258,7 @@ public class TeamPersistenceImpl extends BasePersistenceImpl<Team>
 	}
 
 	private static final String _SQL_SELECT_TEAM = "SELECT team FROM Team team";
+	private static final String _SQL_SELECT_TEAM_WHERE_PKS_IN = "SELECT team FROM Team team WHERE team.teamId IN (";
 	private static final String _SQL_SELECT_TEAM_WHERE = "SELECT team FROM Team team WHERE ";
 	private static final String _SQL_COUNT_TEAM = "SELECT COUNT(team) FROM Team team";
 	private static final String _SQL_COUNT_TEAM_WHERE = "SELECT COUNT(team) FROM Team team WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the ticket service.
@@ -345,15 +349,29 @@ public class TicketPersistenceImpl extends BasePersistenceImpl<Ticket>
 	 * @param tickets the tickets
 	 */
 	public void cacheResult(List<Ticket> tickets) {
+		Map<Serializable, Ticket> uncachedTickets = new HashMap<Serializable, Ticket>();
+
 		for (Ticket ticket : tickets) {
-			if (EntityCacheUtil.getResult(
-						TicketModelImpl.ENTITY_CACHE_ENABLED, TicketImpl.class,
-						ticket.getPrimaryKey()) == null) {
-				cacheResult(ticket);
-			}
-			else {
-				ticket.resetOriginalValues();
-			}
+			uncachedTickets.put(ticket.getPrimaryKeyObj(), ticket);
+		}
+
+		Map<Serializable, Serializable> cachedTickets = EntityCacheUtil.getResults(TicketModelImpl.ENTITY_CACHE_ENABLED,
+				TicketImpl.class, uncachedTickets.keySet());
+
+		for (Serializable primaryKey : cachedTickets.keySet()) {
+			Ticket ticket = uncachedTickets.remove(primaryKey);
+
+			ticket.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(TicketModelImpl.ENTITY_CACHE_ENABLED,
+			TicketImpl.class, uncachedTickets);
+
+		for (Ticket ticket : uncachedTickets.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_KEY,
+				new Object[] { ticket.getKey() }, ticket);
+
+			ticket.resetOriginalValues();
 		}
 	}
 
@@ -400,12 +418,16 @@ public class TicketPersistenceImpl extends BasePersistenceImpl<Ticket>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(tickets.size());
+
 		for (Ticket ticket : tickets) {
-			EntityCacheUtil.removeResult(TicketModelImpl.ENTITY_CACHE_ENABLED,
-				TicketImpl.class, ticket.getPrimaryKey());
+			primaryKeys.add(ticket.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ticket);
 		}
+
+		EntityCacheUtil.removeResults(TicketModelImpl.ENTITY_CACHE_ENABLED,
+			TicketImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(Ticket ticket) {
@@ -709,6 +731,113 @@ public class TicketPersistenceImpl extends BasePersistenceImpl<Ticket>
 		return fetchByPrimaryKey((Serializable)ticketId);
 	}
 
+	/**
+	 * Returns the tickets with the primary keys, keyed by primary key. Primary keys without a matching ticket are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the tickets
+	 * @return the tickets, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Ticket> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Ticket> map = new HashMap<Serializable, Ticket>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Ticket ticket = fetchByPrimaryKey(primaryKey);
+
+			if (ticket != null) {
+				map.put(primaryKey, ticket);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Ticket ticket = (Ticket)EntityCacheUtil.getResult(TicketModelImpl.ENTITY_CACHE_ENABLED,
+					TicketImpl.class, primaryKey);
+
+			if (ticket == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ticket != _nullTicket) {
+				map.put(primaryKey, ticket);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_TICKET_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Ticket ticket : (List<Ticket>)q.list()) {
+					map.put(ticket.getPrimaryKeyObj(), ticket);
+
+					cacheResult(ticket);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(TicketModelImpl.ENTITY_CACHE_ENABLED,
+						TicketImpl.class, primaryKey, _nullTicket);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the tickets.
 	 *
@@ -909,6 +1038,7 @@ public class TicketPersistenceImpl extends BasePersistenceImpl<Ticket>
 	}
 
 	private static final String _SQL_SELECT_TICKET = "SELECT ticket FROM Ticket ticket";
+	private static final String _SQL_SELECT_TICKET_WHERE_PKS_IN = "SELECT ticket FROM Ticket ticket WHERE ticket.ticketId IN (";
 	private static final String _SQL_SELECT_TICKET_WHERE = "SELECT ticket FROM Ticket ticket WHERE ";
 	private static final String _SQL_COUNT_TICKET = "SELECT COUNT(ticket) FROM Ticket ticket";
 	private static final String _SQL_COUNT_TICKET_WHERE = "SELECT COUNT(ticket) FROM Ticket ticket WHERE ";
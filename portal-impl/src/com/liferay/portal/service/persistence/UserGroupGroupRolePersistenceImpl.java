@@ -44,7 +44,9 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The persistence implementation for the user group group role service.
@@ -2574,16 +2576,27 @@ public class UserGroupGroupRolePersistenceImpl extends BasePersistenceImpl<UserG
 	 * @param userGroupGroupRoles the user group group roles
 	 */
 	public void cacheResult(List<UserGroupGroupRole> userGroupGroupRoles) {
+		Map<Serializable, UserGroupGroupRole> uncachedUserGroupGroupRoles = new HashMap<Serializable, UserGroupGroupRole>();
+
 		for (UserGroupGroupRole userGroupGroupRole : userGroupGroupRoles) {
-			if (EntityCacheUtil.getResult(
-						UserGroupGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
-						UserGroupGroupRoleImpl.class,
-						userGroupGroupRole.getPrimaryKey()) == null) {
-				cacheResult(userGroupGroupRole);
-			}
-			else {
-				userGroupGroupRole.resetOriginalValues();
-			}
+			uncachedUserGroupGroupRoles.put(userGroupGroupRole.getPrimaryKeyObj(),
+				userGroupGroupRole);
+		}
+
+		Map<Serializable, Serializable> cachedUserGroupGroupRoles = EntityCacheUtil.getResults(UserGroupGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+				UserGroupGroupRoleImpl.class, uncachedUserGroupGroupRoles.keySet());
+
+		for (Serializable primaryKey : cachedUserGroupGroupRoles.keySet()) {
+			UserGroupGroupRole userGroupGroupRole = uncachedUserGroupGroupRoles.remove(primaryKey);
+
+			userGroupGroupRole.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserGroupGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+			UserGroupGroupRoleImpl.class, uncachedUserGroupGroupRoles);
+
+		for (UserGroupGroupRole userGroupGroupRole : uncachedUserGroupGroupRoles.values()) {
+			userGroupGroupRole.resetOriginalValues();
 		}
 	}
 
@@ -2628,10 +2641,14 @@ public class UserGroupGroupRolePersistenceImpl extends BasePersistenceImpl<UserG
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(userGroupGroupRoles.size());
+
 		for (UserGroupGroupRole userGroupGroupRole : userGroupGroupRoles) {
-			EntityCacheUtil.removeResult(UserGroupGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
-				UserGroupGroupRoleImpl.class, userGroupGroupRole.getPrimaryKey());
+			primaryKeys.add(userGroupGroupRole.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(UserGroupGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+			UserGroupGroupRoleImpl.class, primaryKeys);
 	}
 
 	/**
@@ -54,7 +54,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -2095,15 +2098,30 @@ public class UserGroupPersistenceImpl extends BasePersistenceImpl<UserGroup>
 	 * @param userGroups the user groups
 	 */
 	public void cacheResult(List<UserGroup> userGroups) {
+		Map<Serializable, UserGroup> uncachedUserGroups = new HashMap<Serializable, UserGroup>();
+
 		for (UserGroup userGroup : userGroups) {
-			if (EntityCacheUtil.getResult(
-						UserGroupModelImpl.ENTITY_CACHE_ENABLED,
-						UserGroupImpl.class, userGroup.getPrimaryKey()) == null) {
-				cacheResult(userGroup);
-			}
-			else {
-				userGroup.resetOriginalValues();
-			}
+			uncachedUserGroups.put(userGroup.getPrimaryKeyObj(), userGroup);
+		}
+
+		Map<Serializable, Serializable> cachedUserGroups = EntityCacheUtil.getResults(UserGroupModelImpl.ENTITY_CACHE_ENABLED,
+				UserGroupImpl.class, uncachedUserGroups.keySet());
+
+		for (Serializable primaryKey : cachedUserGroups.keySet()) {
+			UserGroup userGroup = uncachedUserGroups.remove(primaryKey);
+
+			userGroup.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserGroupModelImpl.ENTITY_CACHE_ENABLED,
+			UserGroupImpl.class, uncachedUserGroups);
+
+		for (UserGroup userGroup : uncachedUserGroups.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_N,
+				new Object[] { userGroup.getCompanyId(), userGroup.getName() },
+				userGroup);
+
+			userGroup.resetOriginalValues();
 		}
 	}
 
@@ -2150,12 +2168,16 @@ public class UserGroupPersistenceImpl extends BasePersistenceImpl<UserGroup>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(userGroups.size());
+
 		for (UserGroup userGroup : userGroups) {
-			EntityCacheUtil.removeResult(UserGroupModelImpl.ENTITY_CACHE_ENABLED,
-				UserGroupImpl.class, userGroup.getPrimaryKey());
+			primaryKeys.add(userGroup.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(userGroup);
 		}
+
+		EntityCacheUtil.removeResults(UserGroupModelImpl.ENTITY_CACHE_ENABLED,
+			UserGroupImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(UserGroup userGroup) {
@@ -2544,6 +2566,113 @@ public class UserGroupPersistenceImpl extends BasePersistenceImpl<UserGroup>
 		return fetchByPrimaryKey((Serializable)userGroupId);
 	}
 
+	/**
+	 * Returns the user groups with the primary keys, keyed by primary key. Primary keys without a matching user group are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the user groups
+	 * @return the user groups, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, UserGroup> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, UserGroup> map = new HashMap<Serializable, UserGroup>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			UserGroup userGroup = fetchByPrimaryKey(primaryKey);
+
+			if (userGroup != null) {
+				map.put(primaryKey, userGroup);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			UserGroup userGroup = (UserGroup)EntityCacheUtil.getResult(UserGroupModelImpl.ENTITY_CACHE_ENABLED,
+					UserGroupImpl.class, primaryKey);
+
+			if (userGroup == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (userGroup != _nullUserGroup) {
+				map.put(primaryKey, userGroup);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_USERGROUP_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (UserGroup userGroup : (List<UserGroup>)q.list()) {
+					map.put(userGroup.getPrimaryKeyObj(), userGroup);
+
+					cacheResult(userGroup);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(UserGroupModelImpl.ENTITY_CACHE_ENABLED,
+						UserGroupImpl.class, primaryKey, _nullUserGroup);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the user groups.
 	 *
@@ -4720,6 +4849,7 @@ public class UserGroupPersistenceImpl extends BasePersistenceImpl<UserGroup>
 	}
 
 	private static final String _SQL_SELECT_USERGROUP = "SELECT userGroup FROM UserGroup userGroup";
+	private static final String _SQL_SELECT_USERGROUP_WHERE_PKS_IN = "SELECT userGroup FROM UserGroup userGroup WHERE userGroup.userGroupId IN (";
 	private static final String _SQL_SELECT_USERGROUP_WHERE = "SELECT userGroup FROM UserGroup userGroup WHERE ";
 	private static final String _SQL_COUNT_USERGROUP = "SELECT COUNT(userGroup) FROM UserGroup userGroup";
 	private static final String _SQL_COUNT_USERGROUP_WHERE = "SELECT COUNT(userGroup) FROM UserGroup userGroup WHERE ";
@@ -44,7 +44,9 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The persistence implementation for the user group role service.
@@ -2563,15 +2565,27 @@ public class UserGroupRolePersistenceImpl extends BasePersistenceImpl<UserGroupR
 	 * @param userGroupRoles the user group roles
 	 */
 	public void cacheResult(List<UserGroupRole> userGroupRoles) {
+		Map<Serializable, UserGroupRole> uncachedUserGroupRoles = new HashMap<Serializable, UserGroupRole>();
+
 		for (UserGroupRole userGroupRole : userGroupRoles) {
-			if (EntityCacheUtil.getResult(
-						UserGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
-						UserGroupRoleImpl.class, userGroupRole.getPrimaryKey()) == null) {
-				cacheResult(userGroupRole);
-			}
-			else {
-				userGroupRole.resetOriginalValues();
-			}
+			uncachedUserGroupRoles.put(userGroupRole.getPrimaryKeyObj(),
+				userGroupRole);
+		}
+
+		Map<Serializable, Serializable> cachedUserGroupRoles = EntityCacheUtil.getResults(UserGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+				UserGroupRoleImpl.class, uncachedUserGroupRoles.keySet());
+
+		for (Serializable primaryKey : cachedUserGroupRoles.keySet()) {
+			UserGroupRole userGroupRole = uncachedUserGroupRoles.remove(primaryKey);
+
+			userGroupRole.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+			UserGroupRoleImpl.class, uncachedUserGroupRoles);
+
+		for (UserGroupRole userGroupRole : uncachedUserGroupRoles.values()) {
+			userGroupRole.resetOriginalValues();
 		}
 	}
 
@@ -2616,10 +2630,14 @@ public class UserGroupRolePersistenceImpl extends BasePersistenceImpl<UserGroupR
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(userGroupRoles.size());
+
 		for (UserGroupRole userGroupRole : userGroupRoles) {
-			EntityCacheUtil.removeResult(UserGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
-				UserGroupRoleImpl.class, userGroupRole.getPrimaryKey());
+			primaryKeys.add(userGroupRole.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(UserGroupRoleModelImpl.ENTITY_CACHE_ENABLED,
+			UserGroupRoleImpl.class, primaryKeys);
 	}
 
 	/**
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the user ID mapper service.
@@ -1130,15 +1134,36 @@ public class UserIdMapperPersistenceImpl extends BasePersistenceImpl<UserIdMappe
 	 * @param userIdMappers the user ID mappers
 	 */
 	public void cacheResult(List<UserIdMapper> userIdMappers) {
+		Map<Serializable, UserIdMapper> uncachedUserIdMappers = new HashMap<Serializable, UserIdMapper>();
+
 		for (UserIdMapper userIdMapper : userIdMappers) {
-			if (EntityCacheUtil.getResult(
-						UserIdMapperModelImpl.ENTITY_CACHE_ENABLED,
-						UserIdMapperImpl.class, userIdMapper.getPrimaryKey()) == null) {
-				cacheResult(userIdMapper);
-			}
-			else {
-				userIdMapper.resetOriginalValues();
-			}
+			uncachedUserIdMappers.put(userIdMapper.getPrimaryKeyObj(),
+				userIdMapper);
+		}
+
+		Map<Serializable, Serializable> cachedUserIdMappers = EntityCacheUtil.getResults(UserIdMapperModelImpl.ENTITY_CACHE_ENABLED,
+				UserIdMapperImpl.class, uncachedUserIdMappers.keySet());
+
+		for (Serializable primaryKey : cachedUserIdMappers.keySet()) {
+			UserIdMapper userIdMapper = uncachedUserIdMappers.remove(primaryKey);
+
+			userIdMapper.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserIdMapperModelImpl.ENTITY_CACHE_ENABLED,
+			UserIdMapperImpl.class, uncachedUserIdMappers);
+
+		for (UserIdMapper userIdMapper : uncachedUserIdMappers.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_U_T,
+				new Object[] { userIdMapper.getUserId(), userIdMapper.getType() },
+				userIdMapper);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_T_E,
+				new Object[] {
+					userIdMapper.getType(), userIdMapper.getExternalUserId()
+				}, userIdMapper);
+
+			userIdMapper.resetOriginalValues();
 		}
 	}
 
@@ -1185,12 +1210,16 @@ public class UserIdMapperPersistenceImpl extends BasePersistenceImpl<UserIdMappe
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(userIdMappers.size());
+
 		for (UserIdMapper userIdMapper : userIdMappers) {
-			EntityCacheUtil.removeResult(UserIdMapperModelImpl.ENTITY_CACHE_ENABLED,
-				UserIdMapperImpl.class, userIdMapper.getPrimaryKey());
+			primaryKeys.add(userIdMapper.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(userIdMapper);
 		}
+
+		EntityCacheUtil.removeResults(UserIdMapperModelImpl.ENTITY_CACHE_ENABLED,
+			UserIdMapperImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(UserIdMapper userIdMapper) {
@@ -1566,6 +1595,113 @@ public class UserIdMapperPersistenceImpl extends BasePersistenceImpl<UserIdMappe
 		return fetchByPrimaryKey((Serializable)userIdMapperId);
 	}
 
+	/**
+	 * Returns the user ID mappers with the primary keys, keyed by primary key. Primary keys without a matching user ID mapper are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the user ID mappers
+	 * @return the user ID mappers, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, UserIdMapper> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, UserIdMapper> map = new HashMap<Serializable, UserIdMapper>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			UserIdMapper userIdMapper = fetchByPrimaryKey(primaryKey);
+
+			if (userIdMapper != null) {
+				map.put(primaryKey, userIdMapper);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			UserIdMapper userIdMapper = (UserIdMapper)EntityCacheUtil.getResult(UserIdMapperModelImpl.ENTITY_CACHE_ENABLED,
+					UserIdMapperImpl.class, primaryKey);
+
+			if (userIdMapper == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (userIdMapper != _nullUserIdMapper) {
+				map.put(primaryKey, userIdMapper);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_USERIDMAPPER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (UserIdMapper userIdMapper : (List<UserIdMapper>)q.list()) {
+					map.put(userIdMapper.getPrimaryKeyObj(), userIdMapper);
+
+					cacheResult(userIdMapper);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(UserIdMapperModelImpl.ENTITY_CACHE_ENABLED,
+						UserIdMapperImpl.class, primaryKey, _nullUserIdMapper);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the user ID mappers.
 	 *
@@ -1767,6 +1903,7 @@ public class UserIdMapperPersistenceImpl extends BasePersistenceImpl<UserIdMappe
 	}
 
 	private static final String _SQL_SELECT_USERIDMAPPER = "SELECT userIdMapper FROM UserIdMapper userIdMapper";
+	private static final String _SQL_SELECT_USERIDMAPPER_WHERE_PKS_IN = "SELECT userIdMapper FROM UserIdMapper userIdMapper WHERE userIdMapper.userIdMapperId IN (";
 	private static final String _SQL_SELECT_USERIDMAPPER_WHERE = "SELECT userIdMapper FROM UserIdMapper userIdMapper WHERE ";
 	private static final String _SQL_COUNT_USERIDMAPPER = "SELECT COUNT(userIdMapper) FROM UserIdMapper userIdMapper";
 	private static final String _SQL_COUNT_USERIDMAPPER_WHERE = "SELECT COUNT(userIdMapper) FROM UserIdMapper userIdMapper WHERE ";
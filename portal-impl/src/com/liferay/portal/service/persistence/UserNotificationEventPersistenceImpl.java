@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the user notification event service.
@@ -2190,16 +2194,27 @@ public class UserNotificationEventPersistenceImpl extends BasePersistenceImpl<Us
 	 * @param userNotificationEvents the user notification events
 	 */
 	public void cacheResult(List<UserNotificationEvent> userNotificationEvents) {
+		Map<Serializable, UserNotificationEvent> uncachedUserNotificationEvents = new HashMap<Serializable, UserNotificationEvent>();
+
 		for (UserNotificationEvent userNotificationEvent : userNotificationEvents) {
-			if (EntityCacheUtil.getResult(
-						UserNotificationEventModelImpl.ENTITY_CACHE_ENABLED,
-						UserNotificationEventImpl.class,
-						userNotificationEvent.getPrimaryKey()) == null) {
-				cacheResult(userNotificationEvent);
-			}
-			else {
-				userNotificationEvent.resetOriginalValues();
-			}
+			uncachedUserNotificationEvents.put(userNotificationEvent.getPrimaryKeyObj(),
+				userNotificationEvent);
+		}
+
+		Map<Serializable, Serializable> cachedUserNotificationEvents = EntityCacheUtil.getResults(UserNotificationEventModelImpl.ENTITY_CACHE_ENABLED,
+				UserNotificationEventImpl.class, uncachedUserNotificationEvents.keySet());
+
+		for (Serializable primaryKey : cachedUserNotificationEvents.keySet()) {
+			UserNotificationEvent userNotificationEvent = uncachedUserNotificationEvents.remove(primaryKey);
+
+			userNotificationEvent.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserNotificationEventModelImpl.ENTITY_CACHE_ENABLED,
+			UserNotificationEventImpl.class, uncachedUserNotificationEvents);
+
+		for (UserNotificationEvent userNotificationEvent : uncachedUserNotificationEvents.values()) {
+			userNotificationEvent.resetOriginalValues();
 		}
 	}
 
@@ -2245,11 +2260,14 @@ public class UserNotificationEventPersistenceImpl extends BasePersistenceImpl<Us
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(userNotificationEvents.size());
+
 		for (UserNotificationEvent userNotificationEvent : userNotificationEvents) {
-			EntityCacheUtil.removeResult(UserNotificationEventModelImpl.ENTITY_CACHE_ENABLED,
-				UserNotificationEventImpl.class,
-				userNotificationEvent.getPrimaryKey());
+			primaryKeys.add(userNotificationEvent.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(UserNotificationEventModelImpl.ENTITY_CACHE_ENABLED,
+			UserNotificationEventImpl.class, primaryKeys);
 	}
 
 	/**
@@ -2609,6 +2627,113 @@ public class UserNotificationEventPersistenceImpl extends BasePersistenceImpl<Us
 		return fetchByPrimaryKey((Serializable)userNotificationEventId);
 	}
 
+	/**
+	 * Returns the user notification events with the primary keys, keyed by primary key. Primary keys without a matching user notification event are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the user notification events
+	 * @return the user notification events, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, UserNotificationEvent> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, UserNotificationEvent> map = new HashMap<Serializable, UserNotificationEvent>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			UserNotificationEvent userNotificationEvent = fetchByPrimaryKey(primaryKey);
+
+			if (userNotificationEvent != null) {
+				map.put(primaryKey, userNotificationEvent);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			UserNotificationEvent userNotificationEvent = (UserNotificationEvent)EntityCacheUtil.getResult(UserNotificationEventModelImpl.ENTITY_CACHE_ENABLED,
+					UserNotificationEventImpl.class, primaryKey);
+
+			if (userNotificationEvent == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (userNotificationEvent != _nullUserNotificationEvent) {
+				map.put(primaryKey, userNotificationEvent);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_USERNOTIFICATIONEVENT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (UserNotificationEvent userNotificationEvent : (List<UserNotificationEvent>)q.list()) {
+					map.put(userNotificationEvent.getPrimaryKeyObj(), userNotificationEvent);
+
+					cacheResult(userNotificationEvent);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(UserNotificationEventModelImpl.ENTITY_CACHE_ENABLED,
+						UserNotificationEventImpl.class, primaryKey, _nullUserNotificationEvent);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the user notification events.
 	 *
@@ -2810,6 +2935,7 @@ public class UserNotificationEventPersistenceImpl extends BasePersistenceImpl<Us
 	}
 
 	private static final String _SQL_SELECT_USERNOTIFICATIONEVENT = "SELECT userNotificationEvent FROM UserNotificationEvent userNotificationEvent";
+	private static final String _SQL_SELECT_USERNOTIFICATIONEVENT_WHERE_PKS_IN = "SELECT userNotificationEvent FROM UserNotificationEvent userNotificationEvent WHERE userNotificationEvent.userNotificationEventId IN (";
 	private static final String _SQL_SELECT_USERNOTIFICATIONEVENT_WHERE = "SELECT userNotificationEvent FROM UserNotificationEvent userNotificationEvent WHERE ";
 	private static final String _SQL_COUNT_USERNOTIFICATIONEVENT = "SELECT COUNT(userNotificationEvent) FROM UserNotificationEvent userNotificationEvent";
 	private static final String _SQL_COUNT_USERNOTIFICATIONEVENT_WHERE = "SELECT COUNT(userNotificationEvent) FROM UserNotificationEvent userNotificationEvent WHERE ";
@@ -56,7 +56,10 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -6314,14 +6317,50 @@ public class UserPersistenceImpl extends BasePersistenceImpl<User>
 	 * @param users the users
 	 */
 	public void cacheResult(List<User> users) {
+		Map<Serializable, User> uncachedUsers = new HashMap<Serializable, User>();
+
 		for (User user : users) {
-			if (EntityCacheUtil.getResult(UserModelImpl.ENTITY_CACHE_ENABLED,
-						UserImpl.class, user.getPrimaryKey()) == null) {
-				cacheResult(user);
-			}
-			else {
-				user.resetOriginalValues();
-			}
+			uncachedUsers.put(user.getPrimaryKeyObj(), user);
+		}
+
+		Map<Serializable, Serializable> cachedUsers = EntityCacheUtil.getResults(UserModelImpl.ENTITY_CACHE_ENABLED,
+				UserImpl.class, uncachedUsers.keySet());
+
+		for (Serializable primaryKey : cachedUsers.keySet()) {
+			User user = uncachedUsers.remove(primaryKey);
+
+			user.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserModelImpl.ENTITY_CACHE_ENABLED,
+			UserImpl.class, uncachedUsers);
+
+		for (User user : uncachedUsers.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_CONTACTID,
+				new Object[] { user.getContactId() }, user);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_PORTRAITID,
+				new Object[] { user.getPortraitId() }, user);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_U,
+				new Object[] { user.getCompanyId(), user.getUserId() }, user);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_DU,
+				new Object[] { user.getCompanyId(), user.getDefaultUser() }, user);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_SN,
+				new Object[] { user.getCompanyId(), user.getScreenName() }, user);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_EA,
+				new Object[] { user.getCompanyId(), user.getEmailAddress() }, user);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_FID,
+				new Object[] { user.getCompanyId(), user.getFacebookId() }, user);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_O,
+				new Object[] { user.getCompanyId(), user.getOpenId() }, user);
+
+			user.resetOriginalValues();
 		}
 	}
 
@@ -6368,12 +6407,16 @@ public class UserPersistenceImpl extends BasePersistenceImpl<User>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(users.size());
+
 		for (User user : users) {
-			EntityCacheUtil.removeResult(UserModelImpl.ENTITY_CACHE_ENABLED,
-				UserImpl.class, user.getPrimaryKey());
+			primaryKeys.add(user.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(user);
 		}
+
+		EntityCacheUtil.removeResults(UserModelImpl.ENTITY_CACHE_ENABLED,
+			UserImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(User user) {
@@ -7157,6 +7200,113 @@ public class UserPersistenceImpl extends BasePersistenceImpl<User>
 		return fetchByPrimaryKey((Serializable)userId);
 	}
 
+	/**
+	 * Returns the users with the primary keys, keyed by primary key. Primary keys without a matching user are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the users
+	 * @return the users, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, User> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, User> map = new HashMap<Serializable, User>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			User user = fetchByPrimaryKey(primaryKey);
+
+			if (user != null) {
+				map.put(primaryKey, user);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			User user = (User)EntityCacheUtil.getResult(UserModelImpl.ENTITY_CACHE_ENABLED,
+					UserImpl.class, primaryKey);
+
+			if (user == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (user != _nullUser) {
+				map.put(primaryKey, user);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_USER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (User user : (List<User>)q.list()) {
+					map.put(user.getPrimaryKeyObj(), user);
+
+					cacheResult(user);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(UserModelImpl.ENTITY_CACHE_ENABLED,
+						UserImpl.class, primaryKey, _nullUser);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the users.
 	 *
@@ -10673,6 +10823,7 @@ public class UserPersistenceImpl extends BasePersistenceImpl<User>
 	}
 
 	private static final String _SQL_SELECT_USER = "SELECT user FROM User user";
+	private static final String _SQL_SELECT_USER_WHERE_PKS_IN = "SELECT user FROM User user WHERE user.userId IN (";
 	private static final String _SQL_SELECT_USER_WHERE = "SELECT user FROM User user WHERE ";
 	private static final String _SQL_COUNT_USER = "SELECT COUNT(user) FROM User user";
 	private static final String _SQL_COUNT_USER_WHERE = "SELECT COUNT(user) FROM User user WHERE ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the user tracker path service.
@@ -589,16 +593,27 @@ public class UserTrackerPathPersistenceImpl extends BasePersistenceImpl<UserTrac
 	 * @param userTrackerPaths the user tracker paths
 	 */
 	public void cacheResult(List<UserTrackerPath> userTrackerPaths) {
+		Map<Serializable, UserTrackerPath> uncachedUserTrackerPaths = new HashMap<Serializable, UserTrackerPath>();
+
 		for (UserTrackerPath userTrackerPath : userTrackerPaths) {
-			if (EntityCacheUtil.getResult(
-						UserTrackerPathModelImpl.ENTITY_CACHE_ENABLED,
-						UserTrackerPathImpl.class,
-						userTrackerPath.getPrimaryKey()) == null) {
-				cacheResult(userTrackerPath);
-			}
-			else {
-				userTrackerPath.resetOriginalValues();
-			}
+			uncachedUserTrackerPaths.put(userTrackerPath.getPrimaryKeyObj(),
+				userTrackerPath);
+		}
+
+		Map<Serializable, Serializable> cachedUserTrackerPaths = EntityCacheUtil.getResults(UserTrackerPathModelImpl.ENTITY_CACHE_ENABLED,
+				UserTrackerPathImpl.class, uncachedUserTrackerPaths.keySet());
+
+		for (Serializable primaryKey : cachedUserTrackerPaths.keySet()) {
+			UserTrackerPath userTrackerPath = uncachedUserTrackerPaths.remove(primaryKey);
+
+			userTrackerPath.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserTrackerPathModelImpl.ENTITY_CACHE_ENABLED,
+			UserTrackerPathImpl.class, uncachedUserTrackerPaths);
+
+		for (UserTrackerPath userTrackerPath : uncachedUserTrackerPaths.values()) {
+			userTrackerPath.resetOriginalValues();
 		}
 	}
 
@@ -643,10 +658,14 @@ public class UserTrackerPathPersistenceImpl extends BasePersistenceImpl<UserTrac
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(userTrackerPaths.size());
+
 		for (UserTrackerPath userTrackerPath : userTrackerPaths) {
-			EntityCacheUtil.removeResult(UserTrackerPathModelImpl.ENTITY_CACHE_ENABLED,
-				UserTrackerPathImpl.class, userTrackerPath.getPrimaryKey());
+			primaryKeys.add(userTrackerPath.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(UserTrackerPathModelImpl.ENTITY_CACHE_ENABLED,
+			UserTrackerPathImpl.class, primaryKeys);
 	}
 
 	/**
@@ -933,6 +952,113 @@ public class UserTrackerPathPersistenceImpl extends BasePersistenceImpl<UserTrac
 		return fetchByPrimaryKey((Serializable)userTrackerPathId);
 	}
 
+	/**
+	 * Returns the user tracker paths with the primary keys, keyed by primary key. Primary keys without a matching user tracker path are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the user tracker paths
+	 * @return the user tracker paths, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, UserTrackerPath> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, UserTrackerPath> map = new HashMap<Serializable, UserTrackerPath>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			UserTrackerPath userTrackerPath = fetchByPrimaryKey(primaryKey);
+
+			if (userTrackerPath != null) {
+				map.put(primaryKey, userTrackerPath);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			UserTrackerPath userTrackerPath = (UserTrackerPath)EntityCacheUtil.getResult(UserTrackerPathModelImpl.ENTITY_CACHE_ENABLED,
+					UserTrackerPathImpl.class, primaryKey);
+
+			if (userTrackerPath == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (userTrackerPath != _nullUserTrackerPath) {
+				map.put(primaryKey, userTrackerPath);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_USERTRACKERPATH_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (UserTrackerPath userTrackerPath : (List<UserTrackerPath>)q.list()) {
+					map.put(userTrackerPath.getPrimaryKeyObj(), userTrackerPath);
+
+					cacheResult(userTrackerPath);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(UserTrackerPathModelImpl.ENTITY_CACHE_ENABLED,
+						UserTrackerPathImpl.class, primaryKey, _nullUserTrackerPath);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the user tracker paths.
 	 *
@@ -1134,6 +1260,7 @@ public class UserTrackerPathPersistenceImpl extends BasePersistenceImpl<UserTrac
 	}
 
 	private static final String _SQL_SELECT_USERTRACKERPATH = "SELECT userTrackerPath FROM UserTrackerPath userTrackerPath";
+	private static final String _SQL_SELECT_USERTRACKERPATH_WHERE_PKS_IN = "SELECT userTrackerPath FROM UserTrackerPath userTrackerPath WHERE userTrackerPath.userTrackerPathId IN (";
 	private static final String _SQL_SELECT_USERTRACKERPATH_WHERE = "SELECT userTrackerPath FROM UserTrackerPath userTrackerPath WHERE ";
 	private static final String _SQL_COUNT_USERTRACKERPATH = "SELECT COUNT(userTrackerPath) FROM UserTrackerPath userTrackerPath";
 	private static final String _SQL_COUNT_USERTRACKERPATH_WHERE = "SELECT COUNT(userTrackerPath) FROM UserTrackerPath userTrackerPath WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the user tracker service.
@@ -1572,15 +1576,27 @@ public class UserTrackerPersistenceImpl extends BasePersistenceImpl<UserTracker>
 	 * @param userTrackers the user trackers
 	 */
 	public void cacheResult(List<UserTracker> userTrackers) {
+		Map<Serializable, UserTracker> uncachedUserTrackers = new HashMap<Serializable, UserTracker>();
+
 		for (UserTracker userTracker : userTrackers) {
-			if (EntityCacheUtil.getResult(
-						UserTrackerModelImpl.ENTITY_CACHE_ENABLED,
-						UserTrackerImpl.class, userTracker.getPrimaryKey()) == null) {
-				cacheResult(userTracker);
-			}
-			else {
-				userTracker.resetOriginalValues();
-			}
+			uncachedUserTrackers.put(userTracker.getPrimaryKeyObj(),
+				userTracker);
+		}
+
+		Map<Serializable, Serializable> cachedUserTrackers = EntityCacheUtil.getResults(UserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+				UserTrackerImpl.class, uncachedUserTrackers.keySet());
+
+		for (Serializable primaryKey : cachedUserTrackers.keySet()) {
+			UserTracker userTracker = uncachedUserTrackers.remove(primaryKey);
+
+			userTracker.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(UserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+			UserTrackerImpl.class, uncachedUserTrackers);
+
+		for (UserTracker userTracker : uncachedUserTrackers.values()) {
+			userTracker.resetOriginalValues();
 		}
 	}
 
@@ -1625,10 +1641,14 @@ public class UserTrackerPersistenceImpl extends BasePersistenceImpl<UserTracker>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(userTrackers.size());
+
 		for (UserTracker userTracker : userTrackers) {
-			EntityCacheUtil.removeResult(UserTrackerModelImpl.ENTITY_CACHE_ENABLED,
-				UserTrackerImpl.class, userTracker.getPrimaryKey());
+			primaryKeys.add(userTracker.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(UserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+			UserTrackerImpl.class, primaryKeys);
 	}
 
 	/**
@@ -1953,6 +1973,113 @@ public class UserTrackerPersistenceImpl extends BasePersistenceImpl<UserTracker>
 		return fetchByPrimaryKey((Serializable)userTrackerId);
 	}
 
+	/**
+	 * Returns the user trackers with the primary keys, keyed by primary key. Primary keys without a matching user tracker are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the user trackers
+	 * @return the user trackers, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, UserTracker> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, UserTracker> map = new HashMap<Serializable, UserTracker>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			UserTracker userTracker = fetchByPrimaryKey(primaryKey);
+
+			if (userTracker != null) {
+				map.put(primaryKey, userTracker);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			UserTracker userTracker = (UserTracker)EntityCacheUtil.getResult(UserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+					UserTrackerImpl.class, primaryKey);
+
+			if (userTracker == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (userTracker != _nullUserTracker) {
+				map.put(primaryKey, userTracker);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_USERTRACKER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (UserTracker userTracker : (List<UserTracker>)q.list()) {
+					map.put(userTracker.getPrimaryKeyObj(), userTracker);
+
+					cacheResult(userTracker);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(UserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+						UserTrackerImpl.class, primaryKey, _nullUserTracker);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the user trackers.
 	 *
@@ -2154,6 +2281,7 @@ public class UserTrackerPersistenceImpl extends BasePersistenceImpl<UserTracker>
 	}
 
 	private static final String _SQL_SELECT_USERTRACKER = "SELECT userTracker FROM UserTracker userTracker";
+	private static final String _SQL_SELECT_USERTRACKER_WHERE_PKS_IN = "SELECT userTracker FROM UserTracker userTracker WHERE userTracker.userTrackerId IN (";
 	private static final String _SQL_SELECT_USERTRACKER_WHERE = "SELECT userTracker FROM UserTracker userTracker WHERE ";
 	private static final String _SQL_COUNT_USERTRACKER = "SELECT COUNT(userTracker) FROM UserTracker userTracker";
 	private static final String _SQL_COUNT_USERTRACKER_WHERE = "SELECT COUNT(userTracker) FROM UserTracker userTracker WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the virtual host service.
@@ -571,15 +575,35 @@ public class VirtualHostPersistenceImpl extends BasePersistenceImpl<VirtualHost>
 	 * @param virtualHosts the virtual hosts
 	 */
 	public void cacheResult(List<VirtualHost> virtualHosts) {
+		Map<Serializable, VirtualHost> uncachedVirtualHosts = new HashMap<Serializable, VirtualHost>();
+
 		for (VirtualHost virtualHost : virtualHosts) {
-			if (EntityCacheUtil.getResult(
-						VirtualHostModelImpl.ENTITY_CACHE_ENABLED,
-						VirtualHostImpl.class, virtualHost.getPrimaryKey()) == null) {
-				cacheResult(virtualHost);
-			}
-			else {
-				virtualHost.resetOriginalValues();
-			}
+			uncachedVirtualHosts.put(virtualHost.getPrimaryKeyObj(),
+				virtualHost);
+		}
+
+		Map<Serializable, Serializable> cachedVirtualHosts = EntityCacheUtil.getResults(VirtualHostModelImpl.ENTITY_CACHE_ENABLED,
+				VirtualHostImpl.class, uncachedVirtualHosts.keySet());
+
+		for (Serializable primaryKey : cachedVirtualHosts.keySet()) {
+			VirtualHost virtualHost = uncachedVirtualHosts.remove(primaryKey);
+
+			virtualHost.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(VirtualHostModelImpl.ENTITY_CACHE_ENABLED,
+			VirtualHostImpl.class, uncachedVirtualHosts);
+
+		for (VirtualHost virtualHost : uncachedVirtualHosts.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_HOSTNAME,
+				new Object[] { virtualHost.getHostname() }, virtualHost);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_L,
+				new Object[] {
+					virtualHost.getCompanyId(), virtualHost.getLayoutSetId()
+				}, virtualHost);
+
+			virtualHost.resetOriginalValues();
 		}
 	}
 
@@ -626,12 +650,16 @@ public class VirtualHostPersistenceImpl extends BasePersistenceImpl<VirtualHost>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(virtualHosts.size());
+
 		for (VirtualHost virtualHost : virtualHosts) {
-			EntityCacheUtil.removeResult(VirtualHostModelImpl.ENTITY_CACHE_ENABLED,
-				VirtualHostImpl.class, virtualHost.getPrimaryKey());
+			primaryKeys.add(virtualHost.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(virtualHost);
 		}
+
+		EntityCacheUtil.removeResults(VirtualHostModelImpl.ENTITY_CACHE_ENABLED,
+			VirtualHostImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(VirtualHost virtualHost) {
@@ -976,6 +1004,113 @@ public class VirtualHostPersistenceImpl extends BasePersistenceImpl<VirtualHost>
 		return fetchByPrimaryKey((Serializable)virtualHostId);
 	}
 
+	/**
+	 * Returns the virtual hosts with the primary keys, keyed by primary key. Primary keys without a matching virtual host are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the virtual hosts
+	 * @return the virtual hosts, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, VirtualHost> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, VirtualHost> map = new HashMap<Serializable, VirtualHost>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			VirtualHost virtualHost = fetchByPrimaryKey(primaryKey);
+
+			if (virtualHost != null) {
+				map.put(primaryKey, virtualHost);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			VirtualHost virtualHost = (VirtualHost)EntityCacheUtil.getResult(VirtualHostModelImpl.ENTITY_CACHE_ENABLED,
+					VirtualHostImpl.class, primaryKey);
+
+			if (virtualHost == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (virtualHost != _nullVirtualHost) {
+				map.put(primaryKey, virtualHost);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_VIRTUALHOST_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (VirtualHost virtualHost : (List<VirtualHost>)q.list()) {
+					map.put(virtualHost.getPrimaryKeyObj(), virtualHost);
+
+					cacheResult(virtualHost);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(VirtualHostModelImpl.ENTITY_CACHE_ENABLED,
+						VirtualHostImpl.class, primaryKey, _nullVirtualHost);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the virtual hosts.
 	 *
@@ -1177,6 +1312,7 @@ public class VirtualHostPersistenceImpl extends BasePersistenceImpl<VirtualHost>
 	}
 
 	private static final String _SQL_SELECT_VIRTUALHOST = "SELECT virtualHost FROM VirtualHost virtualHost";
+	private static final String _SQL_SELECT_VIRTUALHOST_WHERE_PKS_IN = "SELECT virtualHost FROM VirtualHost virtualHost WHERE virtualHost.virtualHostId IN (";
 	private static final String _SQL_SELECT_VIRTUALHOST_WHERE = "SELECT virtualHost FROM VirtualHost virtualHost WHERE ";
 	private static final String _SQL_COUNT_VIRTUALHOST = "SELECT COUNT(virtualHost) FROM VirtualHost virtualHost";
 	private static final String _SQL_COUNT_VIRTUALHOST_WHERE = "SELECT COUNT(virtualHost) FROM VirtualHost virtualHost WHERE ";
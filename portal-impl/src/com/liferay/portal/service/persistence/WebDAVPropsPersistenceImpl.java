@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the web d a v props service.
@@ -329,15 +333,31 @@ public class WebDAVPropsPersistenceImpl extends BasePersistenceImpl<WebDAVProps>
 	 * @param webDAVPropses the web d a v propses
 	 */
 	public void cacheResult(List<WebDAVProps> webDAVPropses) {
+		Map<Serializable, WebDAVProps> uncachedWebDAVPropses = new HashMap<Serializable, WebDAVProps>();
+
 		for (WebDAVProps webDAVProps : webDAVPropses) {
-			if (EntityCacheUtil.getResult(
-						WebDAVPropsModelImpl.ENTITY_CACHE_ENABLED,
-						WebDAVPropsImpl.class, webDAVProps.getPrimaryKey()) == null) {
-				cacheResult(webDAVProps);
-			}
-			else {
-				webDAVProps.resetOriginalValues();
-			}
+			uncachedWebDAVPropses.put(webDAVProps.getPrimaryKeyObj(),
+				webDAVProps);
+		}
+
+		Map<Serializable, Serializable> cachedWebDAVPropses = EntityCacheUtil.getResults(WebDAVPropsModelImpl.ENTITY_CACHE_ENABLED,
+				WebDAVPropsImpl.class, uncachedWebDAVPropses.keySet());
+
+		for (Serializable primaryKey : cachedWebDAVPropses.keySet()) {
+			WebDAVProps webDAVProps = uncachedWebDAVPropses.remove(primaryKey);
+
+			webDAVProps.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(WebDAVPropsModelImpl.ENTITY_CACHE_ENABLED,
+			WebDAVPropsImpl.class, uncachedWebDAVPropses);
+
+		for (WebDAVProps webDAVProps : uncachedWebDAVPropses.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C,
+				new Object[] { webDAVProps.getClassNameId(), webDAVProps.getClassPK() },
+				webDAVProps);
+
+			webDAVProps.resetOriginalValues();
 		}
 	}
 
@@ -384,12 +404,16 @@ public class WebDAVPropsPersistenceImpl extends BasePersistenceImpl<WebDAVProps>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(webDAVPropses.size());
+
 		for (WebDAVProps webDAVProps : webDAVPropses) {
-			EntityCacheUtil.removeResult(WebDAVPropsModelImpl.ENTITY_CACHE_ENABLED,
-				WebDAVPropsImpl.class, webDAVProps.getPrimaryKey());
+			primaryKeys.add(webDAVProps.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(webDAVProps);
 		}
+
+		EntityCacheUtil.removeResults(WebDAVPropsModelImpl.ENTITY_CACHE_ENABLED,
+			WebDAVPropsImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(WebDAVProps webDAVProps) {
@@ -707,6 +731,113 @@ public class WebDAVPropsPersistenceImpl extends BasePersistenceImpl<WebDAVProps>
 		return fetchByPrimaryKey((Serializable)webDavPropsId);
 	}
 
+	/**
+	 * Returns the web d a v propses with the primary keys, keyed by primary key. Primary keys without a matching web d a v props are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the web d a v propses
+	 * @return the web d a v propses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, WebDAVProps> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, WebDAVProps> map = new HashMap<Serializable, WebDAVProps>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			WebDAVProps webDAVProps = fetchByPrimaryKey(primaryKey);
+
+			if (webDAVProps != null) {
+				map.put(primaryKey, webDAVProps);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			WebDAVProps webDAVProps = (WebDAVProps)EntityCacheUtil.getResult(WebDAVPropsModelImpl.ENTITY_CACHE_ENABLED,
+					WebDAVPropsImpl.class, primaryKey);
+
+			if (webDAVProps == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (webDAVProps != _nullWebDAVProps) {
+				map.put(primaryKey, webDAVProps);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_WEBDAVPROPS_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (WebDAVProps webDAVProps : (List<WebDAVProps>)q.list()) {
+					map.put(webDAVProps.getPrimaryKeyObj(), webDAVProps);
+
+					cacheResult(webDAVProps);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(WebDAVPropsModelImpl.ENTITY_CACHE_ENABLED,
+						WebDAVPropsImpl.class, primaryKey, _nullWebDAVProps);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the web d a v propses.
 	 *
@@ -908,6 +1039,7 @@ public class WebDAVPropsPersistenceImpl extends BasePersistenceImpl<WebDAVProps>
 	}
 
 	private static final String _SQL_SELECT_WEBDAVPROPS = "SELECT webDAVProps FROM WebDAVProps webDAVProps";
+	private static final String _SQL_SELECT_WEBDAVPROPS_WHERE_PKS_IN = "SELECT webDAVProps FROM WebDAVProps webDAVProps WHERE webDAVProps.webDavPropsId IN (";
 	private static final String _SQL_SELECT_WEBDAVPROPS_WHERE = "SELECT webDAVProps FROM WebDAVProps webDAVProps WHERE ";
 	private static final String _SQL_COUNT_WEBDAVPROPS = "SELECT COUNT(webDAVProps) FROM WebDAVProps webDAVProps";
 	private static final String _SQL_COUNT_WEBDAVPROPS_WHERE = "SELECT COUNT(webDAVProps) FROM WebDAVProps webDAVProps WHERE ";
@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the website service.
@@ -2704,15 +2708,26 @@ public class WebsitePersistenceImpl extends BasePersistenceImpl<Website>
 	 * @param websites the websites
 	 */
 	public void cacheResult(List<Website> websites) {
+		Map<Serializable, Website> uncachedWebsites = new HashMap<Serializable, Website>();
+
 		for (Website website : websites) {
-			if (EntityCacheUtil.getResult(
-						WebsiteModelImpl.ENTITY_CACHE_ENABLED,
-						WebsiteImpl.class, website.getPrimaryKey()) == null) {
-				cacheResult(website);
-			}
-			else {
-				website.resetOriginalValues();
-			}
+			uncachedWebsites.put(website.getPrimaryKeyObj(), website);
+		}
+
+		Map<Serializable, Serializable> cachedWebsites = EntityCacheUtil.getResults(WebsiteModelImpl.ENTITY_CACHE_ENABLED,
+				WebsiteImpl.class, uncachedWebsites.keySet());
+
+		for (Serializable primaryKey : cachedWebsites.keySet()) {
+			Website website = uncachedWebsites.remove(primaryKey);
+
+			website.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(WebsiteModelImpl.ENTITY_CACHE_ENABLED,
+			WebsiteImpl.class, uncachedWebsites);
+
+		for (Website website : uncachedWebsites.values()) {
+			website.resetOriginalValues();
 		}
 	}
 
@@ -2757,10 +2772,14 @@ public class WebsitePersistenceImpl extends BasePersistenceImpl<Website>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(websites.size());
+
 		for (Website website : websites) {
-			EntityCacheUtil.removeResult(WebsiteModelImpl.ENTITY_CACHE_ENABLED,
-				WebsiteImpl.class, website.getPrimaryKey());
+			primaryKeys.add(website.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(WebsiteModelImpl.ENTITY_CACHE_ENABLED,
+			WebsiteImpl.class, primaryKeys);
 	}
 
 	/**
@@ -3133,6 +3152,113 @@ public class WebsitePersistenceImpl extends BasePersistenceImpl<Website>
 		return fetchByPrimaryKey((Serializable)websiteId);
 	}
 
+	/**
+	 * Returns the websites with the primary keys, keyed by primary key. Primary keys without a matching website are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the websites
+	 * @return the websites, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Website> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, Website> map = new HashMap<Serializable, Website>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			Website website = fetchByPrimaryKey(primaryKey);
+
+			if (website != null) {
+				map.put(primaryKey, website);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Website website = (Website)EntityCacheUtil.getResult(WebsiteModelImpl.ENTITY_CACHE_ENABLED,
+					WebsiteImpl.class, primaryKey);
+
+			if (website == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (website != _nullWebsite) {
+				map.put(primaryKey, website);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_WEBSITE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (Website website : (List<Website>)q.list()) {
+					map.put(website.getPrimaryKeyObj(), website);
+
+					cacheResult(website);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(WebsiteModelImpl.ENTITY_CACHE_ENABLED,
+						WebsiteImpl.class, primaryKey, _nullWebsite);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the websites.
 	 *
@@ -3333,6 +3459,7 @@ public class WebsitePersistenceImpl extends BasePersistenceImpl<Website>
 	}
 
 	private static final String _SQL_SELECT_WEBSITE = "SELECT website FROM Website website";
+	private static final String _SQL_SELECT_WEBSITE_WHERE_PKS_IN = "SELECT website FROM Website website WHERE website.websiteId IN (";
 	private static final String _SQL_SELECT_WEBSITE_WHERE = "SELECT website FROM Website website WHERE ";
 	private static final String _SQL_COUNT_WEBSITE = "SELECT COUNT(website) FROM Website website";
 	private static final String _SQL_COUNT_WEBSITE_WHERE = "SELECT COUNT(website) FROM Website website WHERE ";
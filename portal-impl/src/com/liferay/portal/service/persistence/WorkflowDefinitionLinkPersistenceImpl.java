@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the workflow definition link service.
@@ -1531,16 +1535,36 @@ public class WorkflowDefinitionLinkPersistenceImpl extends BasePersistenceImpl<W
 	 */
 	public void cacheResult(
 		List<WorkflowDefinitionLink> workflowDefinitionLinks) {
+		Map<Serializable, WorkflowDefinitionLink> uncachedWorkflowDefinitionLinks = new HashMap<Serializable, WorkflowDefinitionLink>();
+
 		for (WorkflowDefinitionLink workflowDefinitionLink : workflowDefinitionLinks) {
-			if (EntityCacheUtil.getResult(
-						WorkflowDefinitionLinkModelImpl.ENTITY_CACHE_ENABLED,
-						WorkflowDefinitionLinkImpl.class,
-						workflowDefinitionLink.getPrimaryKey()) == null) {
-				cacheResult(workflowDefinitionLink);
-			}
-			else {
-				workflowDefinitionLink.resetOriginalValues();
-			}
+			uncachedWorkflowDefinitionLinks.put(workflowDefinitionLink.getPrimaryKeyObj(),
+				workflowDefinitionLink);
+		}
+
+		Map<Serializable, Serializable> cachedWorkflowDefinitionLinks = EntityCacheUtil.getResults(WorkflowDefinitionLinkModelImpl.ENTITY_CACHE_ENABLED,
+				WorkflowDefinitionLinkImpl.class, uncachedWorkflowDefinitionLinks.keySet());
+
+		for (Serializable primaryKey : cachedWorkflowDefinitionLinks.keySet()) {
+			WorkflowDefinitionLink workflowDefinitionLink = uncachedWorkflowDefinitionLinks.remove(primaryKey);
+
+			workflowDefinitionLink.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(WorkflowDefinitionLinkModelImpl.ENTITY_CACHE_ENABLED,
+			WorkflowDefinitionLinkImpl.class, uncachedWorkflowDefinitionLinks);
+
+		for (WorkflowDefinitionLink workflowDefinitionLink : uncachedWorkflowDefinitionLinks.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C_C_C_T,
+				new Object[] {
+					workflowDefinitionLink.getGroupId(),
+					workflowDefinitionLink.getCompanyId(),
+					workflowDefinitionLink.getClassNameId(),
+					workflowDefinitionLink.getClassPK(),
+					workflowDefinitionLink.getTypePK()
+				}, workflowDefinitionLink);
+
+			workflowDefinitionLink.resetOriginalValues();
 		}
 	}
 
@@ -1588,13 +1612,16 @@ public class WorkflowDefinitionLinkPersistenceImpl extends BasePersistenceImpl<W
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(workflowDefinitionLinks.size());
+
 		for (WorkflowDefinitionLink workflowDefinitionLink : workflowDefinitionLinks) {
-			EntityCacheUtil.removeResult(WorkflowDefinitionLinkModelImpl.ENTITY_CACHE_ENABLED,
-				WorkflowDefinitionLinkImpl.class,
-				workflowDefinitionLink.getPrimaryKey());
+			primaryKeys.add(workflowDefinitionLink.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(workflowDefinitionLink);
 		}
+
+		EntityCacheUtil.removeResults(WorkflowDefinitionLinkModelImpl.ENTITY_CACHE_ENABLED,
+			WorkflowDefinitionLinkImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -1987,6 +2014,113 @@ public class WorkflowDefinitionLinkPersistenceImpl extends BasePersistenceImpl<W
 		return fetchByPrimaryKey((Serializable)workflowDefinitionLinkId);
 	}
 
+	/**
+	 * Returns the workflow definition links with the primary keys, keyed by primary key. Primary keys without a matching workflow definition link are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the workflow definition links
+	 * @return the workflow definition links, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, WorkflowDefinitionLink> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, WorkflowDefinitionLink> map = new HashMap<Serializable, WorkflowDefinitionLink>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			WorkflowDefinitionLink workflowDefinitionLink = fetchByPrimaryKey(primaryKey);
+
+			if (workflowDefinitionLink != null) {
+				map.put(primaryKey, workflowDefinitionLink);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			WorkflowDefinitionLink workflowDefinitionLink = (WorkflowDefinitionLink)EntityCacheUtil.getResult(WorkflowDefinitionLinkModelImpl.ENTITY_CACHE_ENABLED,
+					WorkflowDefinitionLinkImpl.class, primaryKey);
+
+			if (workflowDefinitionLink == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (workflowDefinitionLink != _nullWorkflowDefinitionLink) {
+				map.put(primaryKey, workflowDefinitionLink);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_WORKFLOWDEFINITIONLINK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (WorkflowDefinitionLink workflowDefinitionLink : (List<WorkflowDefinitionLink>)q.list()) {
+					map.put(workflowDefinitionLink.getPrimaryKeyObj(), workflowDefinitionLink);
+
+					cacheResult(workflowDefinitionLink);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(WorkflowDefinitionLinkModelImpl.ENTITY_CACHE_ENABLED,
+						WorkflowDefinitionLinkImpl.class, primaryKey, _nullWorkflowDefinitionLink);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the workflow definition links.
 	 *
@@ -2188,6 +2322,7 @@ public class WorkflowDefinitionLinkPersistenceImpl extends BasePersistenceImpl<W
 	}
 
 	private static final String _SQL_SELECT_WORKFLOWDEFINITIONLINK = "SELECT workflowDefinitionLink FROM WorkflowDefinitionLink workflowDefinitionLink";
+	private static final String _SQL_SELECT_WORKFLOWDEFINITIONLINK_WHERE_PKS_IN = "SELECT workflowDefinitionLink FROM WorkflowDefinitionLink workflowDefinitionLink WHERE workflowDefinitionLink.workflowDefinitionLinkId IN (";
 	private static final String _SQL_SELECT_WORKFLOWDEFINITIONLINK_WHERE = "SELECT workflowDefinitionLink FROM WorkflowDefinitionLink workflowDefinitionLink WHERE ";
 	private static final String _SQL_COUNT_WORKFLOWDEFINITIONLINK = "SELECT COUNT(workflowDefinitionLink) FROM WorkflowDefinitionLink workflowDefinitionLink";
 	private static final String _SQL_COUNT_WORKFLOWDEFINITIONLINK_WHERE = "SELECT COUNT(workflowDefinitionLink) FROM WorkflowDefinitionLink workflowDefinitionLink WHERE ";
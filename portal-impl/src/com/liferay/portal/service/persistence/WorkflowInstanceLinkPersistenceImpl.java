@@ -44,7 +44,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the workflow instance link service.
@@ -702,16 +706,27 @@ public class WorkflowInstanceLinkPersistenceImpl extends BasePersistenceImpl<Wor
 	 * @param workflowInstanceLinks the workflow instance links
 	 */
 	public void cacheResult(List<WorkflowInstanceLink> workflowInstanceLinks) {
+		Map<Serializable, WorkflowInstanceLink> uncachedWorkflowInstanceLinks = new HashMap<Serializable, WorkflowInstanceLink>();
+
 		for (WorkflowInstanceLink workflowInstanceLink : workflowInstanceLinks) {
-			if (EntityCacheUtil.getResult(
-						WorkflowInstanceLinkModelImpl.ENTITY_CACHE_ENABLED,
-						WorkflowInstanceLinkImpl.class,
-						workflowInstanceLink.getPrimaryKey()) == null) {
-				cacheResult(workflowInstanceLink);
-			}
-			else {
-				workflowInstanceLink.resetOriginalValues();
-			}
+			uncachedWorkflowInstanceLinks.put(workflowInstanceLink.getPrimaryKeyObj(),
+				workflowInstanceLink);
+		}
+
+		Map<Serializable, Serializable> cachedWorkflowInstanceLinks = EntityCacheUtil.getResults(WorkflowInstanceLinkModelImpl.ENTITY_CACHE_ENABLED,
+				WorkflowInstanceLinkImpl.class, uncachedWorkflowInstanceLinks.keySet());
+
+		for (Serializable primaryKey : cachedWorkflowInstanceLinks.keySet()) {
+			WorkflowInstanceLink workflowInstanceLink = uncachedWorkflowInstanceLinks.remove(primaryKey);
+
+			workflowInstanceLink.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(WorkflowInstanceLinkModelImpl.ENTITY_CACHE_ENABLED,
+			WorkflowInstanceLinkImpl.class, uncachedWorkflowInstanceLinks);
+
+		for (WorkflowInstanceLink workflowInstanceLink : uncachedWorkflowInstanceLinks.values()) {
+			workflowInstanceLink.resetOriginalValues();
 		}
 	}
 
@@ -756,11 +771,14 @@ public class WorkflowInstanceLinkPersistenceImpl extends BasePersistenceImpl<Wor
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(workflowInstanceLinks.size());
+
 		for (WorkflowInstanceLink workflowInstanceLink : workflowInstanceLinks) {
-			EntityCacheUtil.removeResult(WorkflowInstanceLinkModelImpl.ENTITY_CACHE_ENABLED,
-				WorkflowInstanceLinkImpl.class,
-				workflowInstanceLink.getPrimaryKey());
+			primaryKeys.add(workflowInstanceLink.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(WorkflowInstanceLinkModelImpl.ENTITY_CACHE_ENABLED,
+			WorkflowInstanceLinkImpl.class, primaryKeys);
 	}
 
 	/**
@@ -1060,6 +1078,113 @@ public class WorkflowInstanceLinkPersistenceImpl extends BasePersistenceImpl<Wor
 		return fetchByPrimaryKey((Serializable)workflowInstanceLinkId);
 	}
 
+	/**
+	 * Returns the workflow instance links with the primary keys, keyed by primary key. Primary keys without a matching workflow instance link are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the workflow instance links
+	 * @return the workflow instance links, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, WorkflowInstanceLink> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, WorkflowInstanceLink> map = new HashMap<Serializable, WorkflowInstanceLink>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			WorkflowInstanceLink workflowInstanceLink = fetchByPrimaryKey(primaryKey);
+
+			if (workflowInstanceLink != null) {
+				map.put(primaryKey, workflowInstanceLink);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			WorkflowInstanceLink workflowInstanceLink = (WorkflowInstanceLink)EntityCacheUtil.getResult(WorkflowInstanceLinkModelImpl.ENTITY_CACHE_ENABLED,
+					WorkflowInstanceLinkImpl.class, primaryKey);
+
+			if (workflowInstanceLink == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (workflowInstanceLink != _nullWorkflowInstanceLink) {
+				map.put(primaryKey, workflowInstanceLink);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_WORKFLOWINSTANCELINK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (WorkflowInstanceLink workflowInstanceLink : (List<WorkflowInstanceLink>)q.list()) {
+					map.put(workflowInstanceLink.getPrimaryKeyObj(), workflowInstanceLink);
+
+					cacheResult(workflowInstanceLink);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(WorkflowInstanceLinkModelImpl.ENTITY_CACHE_ENABLED,
+						WorkflowInstanceLinkImpl.class, primaryKey, _nullWorkflowInstanceLink);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the workflow instance links.
 	 *
@@ -1261,6 +1386,7 @@ public class WorkflowInstanceLinkPersistenceImpl extends BasePersistenceImpl<Wor
 	}
 
 	private static final String _SQL_SELECT_WORKFLOWINSTANCELINK = "SELECT workflowInstanceLink FROM WorkflowInstanceLink workflowInstanceLink";
+	private static final String _SQL_SELECT_WORKFLOWINSTANCELINK_WHERE_PKS_IN = "SELECT workflowInstanceLink FROM WorkflowInstanceLink workflowInstanceLink WHERE workflowInstanceLink.workflowInstanceLinkId IN (";
 	private static final String _SQL_SELECT_WORKFLOWINSTANCELINK_WHERE = "SELECT workflowInstanceLink FROM WorkflowInstanceLink workflowInstanceLink WHERE ";
 	private static final String _SQL_COUNT_WORKFLOWINSTANCELINK = "SELECT COUNT(workflowInstanceLink) FROM WorkflowInstanceLink workflowInstanceLink";
 	private static final String _SQL_COUNT_WORKFLOWINSTANCELINK_WHERE = "SELECT COUNT(workflowInstanceLink) FROM WorkflowInstanceLink workflowInstanceLink WHERE ";
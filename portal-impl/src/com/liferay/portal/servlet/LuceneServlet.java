@@ -16,6 +16,8 @@ package com.liferay.portal.servlet;
 
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.CompanyConstants;
 import com.liferay.portal.search.lucene.LuceneHelperUtil;
@@ -79,6 +81,17 @@ public class LuceneServlet extends HttpServlet {
 			}
 		}
 
+		if (ParamUtil.getBoolean(request, "delta")) {
+			String[] fingerprints = StringUtil.split(
+				ParamUtil.getString(request, "fingerprints"));
+
+			LuceneHelperUtil.dumpIndexDelta(
+				companyId, response.getOutputStream(),
+				SetUtil.fromArray(fingerprints));
+
+			return;
+		}
+
 		LuceneHelperUtil.dumpIndex(companyId, response.getOutputStream());
 	}
 
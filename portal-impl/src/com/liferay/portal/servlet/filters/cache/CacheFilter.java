@@ -43,6 +43,7 @@ import com.liferay.portal.service.GroupLocalServiceUtil;
 import com.liferay.portal.service.LayoutLocalServiceUtil;
 import com.liferay.portal.service.PortletLocalServiceUtil;
 import com.liferay.portal.servlet.filters.BasePortalFilter;
+import com.liferay.portal.servlet.filters.gzip.GZipFilter;
 import com.liferay.portal.util.PortalInstances;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PropsValues;
@@ -95,7 +96,7 @@ public class CacheFilter extends BasePortalFilter {
 	}
 
 	protected String getCacheKey(HttpServletRequest request) {
-		StringBundler sb = new StringBundler(13);
+		StringBundler sb = new StringBundler(11);
 
 		// Url
 
@@ -148,11 +149,6 @@ public class CacheFilter extends BasePortalFilter {
 		sb.append(StringPool.POUND);
 		sb.append(userAgent.toLowerCase().hashCode());
 
-		// Gzip compression
-
-		sb.append(StringPool.POUND);
-		sb.append(BrowserSnifferUtil.acceptsGzip(request));
-
 		return sb.toString().trim().toUpperCase();
 	}
 
@@ -443,12 +439,28 @@ public class CacheFilter extends BasePortalFilter {
 			BufferCacheServletResponse bufferCacheServletResponse =
 				new BufferCacheServletResponse(response);
 
+			// Cache the uncompressed content so that one entry serves every
+			// client, and compress it once instead of on every hit
+
+			request.setAttribute(GZipFilter.DEFER_COMPRESSION, Boolean.TRUE);
+
 			processFilter(
 				CacheFilter.class, request, bufferCacheServletResponse,
 				filterChain);
 
+			request.removeAttribute(GZipFilter.DEFER_COMPRESSION);
+
+			boolean gZipCompressible = false;
+
+			Boolean compressionDeferred = (Boolean)request.getAttribute(
+				GZipFilter.COMPRESSION_DEFERRED);
+
+			if (compressionDeferred != null) {
+				gZipCompressible = true;
+			}
+
 			cacheResponseData = new CacheResponseData(
-				bufferCacheServletResponse);
+				bufferCacheServletResponse, gZipCompressible);
 
 			LastPath lastPath = (LastPath)request.getAttribute(
 				WebKeys.LAST_PATH);
@@ -487,7 +499,9 @@ public class CacheFilter extends BasePortalFilter {
 			}
 		}
 
-		CacheResponseUtil.write(response, cacheResponseData);
+		CacheResponseUtil.write(
+			response, cacheResponseData,
+			BrowserSnifferUtil.acceptsGzip(request));
 	}
 
 	private static final int _PATTERN_FRIENDLY = 0;
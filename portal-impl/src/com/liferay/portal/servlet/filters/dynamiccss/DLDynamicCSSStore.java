@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.dynamiccss;
+
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CompanyConstants;
+import com.liferay.portlet.documentlibrary.DuplicateFileException;
+import com.liferay.portlet.documentlibrary.store.DLStoreUtil;
+
+import java.io.InputStream;
+
+/**
+ * Stores compiled CSS in the document library store so that every node of a
+ * cluster shares the entries regardless of its local file system.
+ *
+ * @author agent
+ */
+public class DLDynamicCSSStore implements DynamicCSSStore {
+
+	public String get(String key) throws Exception {
+		String fileName = getFileName(key);
+
+		if (!DLStoreUtil.hasFile(
+				CompanyConstants.SYSTEM, _REPOSITORY_ID, fileName)) {
+
+			return null;
+		}
+
+		InputStream inputStream = DLStoreUtil.getFileAsStream(
+			CompanyConstants.SYSTEM, _REPOSITORY_ID, fileName);
+
+		return new String(FileUtil.getBytes(inputStream), StringPool.UTF8);
+	}
+
+	public void put(String key, String css) throws Exception {
+		String fileName = getFileName(key);
+
+		if (DLStoreUtil.hasFile(
+				CompanyConstants.SYSTEM, _REPOSITORY_ID, fileName)) {
+
+			return;
+		}
+
+		try {
+			DLStoreUtil.addFile(
+				CompanyConstants.SYSTEM, _REPOSITORY_ID, fileName, false,
+				css.getBytes(StringPool.UTF8));
+		}
+		catch (DuplicateFileException dfe) {
+
+			// Another node stored the same content first
+
+		}
+	}
+
+	protected String getFileName(String key) {
+		return _DIR_NAME + StringPool.SLASH + key + _FILE_EXTENSION;
+	}
+
+	private static final String _DIR_NAME = "dynamic_css";
+
+	private static final String _FILE_EXTENSION = ".css";
+
+	private static final long _REPOSITORY_ID = CompanyConstants.SYSTEM;
+
+}
\ No newline at end of file
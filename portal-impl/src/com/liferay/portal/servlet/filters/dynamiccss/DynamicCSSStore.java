@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.dynamiccss;
+
+/**
+ * Stores compiled Sass output keyed by a digest of the uncompiled content, so
+ * that CSS compiled once, whether on one node or ahead of time by the theme
+ * deployer, can be served without invoking the Sass compiler again.
+ *
+ * @author agent
+ */
+public interface DynamicCSSStore {
+
+	public String get(String key) throws Exception;
+
+	public void put(String key, String css) throws Exception;
+
+}
\ No newline at end of file
@@ -14,11 +14,15 @@
 
 package com.liferay.portal.servlet.filters.dynamiccss;
 
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.io.unsync.UnsyncPrintWriter;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.JavaConstants;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.SessionParamUtil;
@@ -28,6 +32,7 @@ import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.UnsyncPrintWriterPool;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.util.WebKeys;
+import com.liferay.portal.model.CompanyConstants;
 import com.liferay.portal.model.PortletConstants;
 import com.liferay.portal.model.Theme;
 import com.liferay.portal.scripting.ruby.RubyExecutor;
@@ -39,13 +44,20 @@ import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.File;
+import java.io.InputStream;
 
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLDecoder;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -69,6 +81,18 @@ public class DynamicCSSUtil {
 		catch (Exception e) {
 			_log.error(e, e);
 		}
+
+		try {
+			_dynamicCSSStore = (DynamicCSSStore)InstanceFactory.newInstance(
+				ClassLoaderUtil.getPortalClassLoader(),
+				PropsValues.THEME_CSS_STORE_IMPL);
+		}
+		catch (Exception e) {
+			_log.error(
+				"Unable to initialize theme CSS store " +
+					PropsValues.THEME_CSS_STORE_IMPL,
+				e);
+		}
 	}
 
 	public static String parseSass(
@@ -156,8 +180,14 @@ public class DynamicCSSUtil {
 				content = propagateQueryString(content, queryString);
 			}
 
+			if (themeDisplay != null) {
+				theme = themeDisplay.getTheme();
+			}
+
 			parsedContent = _parseSass(
-				servletContext, request, themeDisplay, theme, resourcePath,
+				servletContext,
+				_getCssThemePath(request, themeDisplay, theme),
+				_getImportRootPath(theme, resourcePath), resourcePath,
 				content);
 
 			if (_log.isDebugEnabled()) {
@@ -184,6 +214,125 @@ public class DynamicCSSUtil {
 		return parsedContent;
 	}
 
+	public static void precompileThemes(
+		ServletContext servletContext, List<String> themeIds) {
+
+		if (!DynamicCSSFilter.ENABLED ||
+			!PropsValues.THEME_CSS_PRECOMPILE_ENABLED) {
+
+			return;
+		}
+
+		if (_rubyScript == null) {
+			init();
+		}
+
+		if (_dynamicCSSStore == null) {
+			return;
+		}
+
+		for (String themeId : themeIds) {
+			Theme theme = ThemeLocalServiceUtil.fetchTheme(
+				CompanyConstants.SYSTEM, themeId);
+
+			if (theme == null) {
+				continue;
+			}
+
+			String cssThemePath =
+				theme.getStaticResourcePath() + theme.getCssPath();
+			String importRootPath = theme.getCssPath() + StringPool.SLASH;
+
+			List<String> resourcePaths = new ArrayList<String>();
+
+			_collectResourcePaths(
+				servletContext, importRootPath, _CSS_EXTENSIONS,
+				resourcePaths);
+
+			for (String resourcePath : resourcePaths) {
+				Callable<Void> callable = new PrecompileCallable(
+					servletContext, cssThemePath, importRootPath,
+					resourcePath);
+
+				try {
+					PortalExecutorManagerUtil.execute(
+						DynamicCSSUtil.class.getName(), callable);
+				}
+				catch (Exception e) {
+					if (_log.isWarnEnabled()) {
+						_log.warn(
+							"Unable to schedule compiling " + resourcePath, e);
+					}
+				}
+			}
+
+			if (_log.isInfoEnabled()) {
+				_log.info(
+					"Scheduled compiling " + resourcePaths.size() +
+						" CSS files for theme " + themeId);
+			}
+		}
+	}
+
+	private static void _collectResourcePaths(
+		ServletContext servletContext, String dirPath, String[] extensions,
+		List<String> resourcePaths) {
+
+		Set<String> paths = servletContext.getResourcePaths(dirPath);
+
+		if (paths == null) {
+			return;
+		}
+
+		for (String path : paths) {
+			if (path.endsWith(StringPool.SLASH)) {
+				if (!path.endsWith(_SASS_CACHE_DIR)) {
+					_collectResourcePaths(
+						servletContext, path, extensions, resourcePaths);
+				}
+			}
+			else {
+				for (String extension : extensions) {
+					if (path.endsWith(extension)) {
+						resourcePaths.add(path);
+
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private static String _compileSass(
+			ServletContext servletContext, String cssThemePath,
+			String resourcePath, String content)
+		throws Exception {
+
+		Map<String, Object> inputObjects = new HashMap<String, Object>();
+
+		inputObjects.put("content", content);
+		inputObjects.put("cssRealPath", resourcePath);
+		inputObjects.put("cssThemePath", cssThemePath);
+
+		File sassTempDir = _getSassTempDir(servletContext);
+
+		inputObjects.put("sassCachePath", sassTempDir.getCanonicalPath());
+
+		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+			new UnsyncByteArrayOutputStream();
+
+		UnsyncPrintWriter unsyncPrintWriter = UnsyncPrintWriterPool.borrow(
+			unsyncByteArrayOutputStream);
+
+		inputObjects.put("out", unsyncPrintWriter);
+
+		_rubyExecutor.eval(null, inputObjects, null, _rubyScript);
+
+		unsyncPrintWriter.flush();
+
+		return unsyncByteArrayOutputStream.toString();
+	}
+
 	private static URL _getCacheResource(
 			ServletContext servletContext, String resourcePath)
 		throws Exception {
@@ -222,6 +371,81 @@ public class DynamicCSSUtil {
 		return cssThemePath;
 	}
 
+	private static String _getImportRootPath(
+		Theme theme, String resourcePath) {
+
+		if (theme != null) {
+			String importRootPath = theme.getCssPath() + StringPool.SLASH;
+
+			if (resourcePath.startsWith(importRootPath)) {
+				return importRootPath;
+			}
+		}
+
+		int pos = resourcePath.lastIndexOf(StringPool.SLASH);
+
+		return resourcePath.substring(0, pos + 1);
+	}
+
+	/**
+	 * Returns a digest of every Sass and CSS file under the import root path,
+	 * so that the store key changes when a redeployed theme changes a partial
+	 * that the compiled file imports. The digest is computed once per
+	 * deployment because a redeployed plugin gets a new servlet context.
+	 */
+	private static String _getImportsDigest(
+			ServletContext servletContext, String importRootPath)
+		throws Exception {
+
+		@SuppressWarnings("unchecked")
+		Map<String, String> importsDigests =
+			(Map<String, String>)servletContext.getAttribute(
+				_IMPORTS_DIGESTS_KEY);
+
+		if (importsDigests == null) {
+			importsDigests = new ConcurrentHashMap<String, String>();
+
+			servletContext.setAttribute(_IMPORTS_DIGESTS_KEY, importsDigests);
+		}
+
+		String importsDigest = importsDigests.get(importRootPath);
+
+		if (importsDigest != null) {
+			return importsDigest;
+		}
+
+		List<String> resourcePaths = new ArrayList<String>();
+
+		_collectResourcePaths(
+			servletContext, importRootPath, _IMPORT_EXTENSIONS,
+			resourcePaths);
+
+		Collections.sort(resourcePaths);
+
+		List<String> parts = new ArrayList<String>(resourcePaths.size() * 4);
+
+		for (String resourcePath : resourcePaths) {
+			InputStream inputStream = servletContext.getResourceAsStream(
+				resourcePath);
+
+			if (inputStream == null) {
+				continue;
+			}
+
+			parts.add(resourcePath);
+			parts.add(StringPool.NEW_LINE);
+			parts.add(StringUtil.read(inputStream));
+			parts.add(StringPool.NEW_LINE);
+		}
+
+		importsDigest = DigesterUtil.digestHex(
+			Digester.SHA_1, parts.toArray(new String[parts.size()]));
+
+		importsDigests.put(importRootPath, importsDigest);
+
+		return importsDigest;
+	}
+
 	private static File _getSassTempDir(ServletContext servletContext) {
 		File sassTempDir = (File)servletContext.getAttribute(_SASS_DIR_KEY);
 
@@ -241,6 +465,18 @@ public class DynamicCSSUtil {
 		return sassTempDir;
 	}
 
+	private static String _getStoreKey(
+			ServletContext servletContext, String cssThemePath,
+			String importRootPath, String resourcePath, String content)
+		throws Exception {
+
+		return DigesterUtil.digestHex(
+			Digester.SHA_1, cssThemePath, StringPool.NEW_LINE, resourcePath,
+			StringPool.NEW_LINE,
+			_getImportsDigest(servletContext, importRootPath),
+			StringPool.NEW_LINE, content);
+	}
+
 	private static Theme _getTheme(HttpServletRequest request)
 		throws Exception {
 
@@ -345,35 +581,53 @@ public class DynamicCSSUtil {
 	}
 
 	private static String _parseSass(
-			ServletContext servletContext, HttpServletRequest request,
-			ThemeDisplay themeDisplay, Theme theme, String resourcePath,
-			String content)
+			ServletContext servletContext, String cssThemePath,
+			String importRootPath, String resourcePath, String content)
 		throws Exception {
 
-		Map<String, Object> inputObjects = new HashMap<String, Object>();
-
-		inputObjects.put("content", content);
-		inputObjects.put("cssRealPath", resourcePath);
-		inputObjects.put(
-			"cssThemePath", _getCssThemePath(request, themeDisplay, theme));
+		if (_dynamicCSSStore == null) {
+			return _compileSass(
+				servletContext, cssThemePath, resourcePath, content);
+		}
 
-		File sassTempDir = _getSassTempDir(servletContext);
+		String key = _getStoreKey(
+			servletContext, cssThemePath, importRootPath, resourcePath,
+			content);
 
-		inputObjects.put("sassCachePath", sassTempDir.getCanonicalPath());
+		String parsedContent = null;
 
-		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
-			new UnsyncByteArrayOutputStream();
+		try {
+			parsedContent = _dynamicCSSStore.get(key);
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to read compiled CSS for " + resourcePath, e);
+			}
+		}
 
-		UnsyncPrintWriter unsyncPrintWriter = UnsyncPrintWriterPool.borrow(
-			unsyncByteArrayOutputStream);
+		if (parsedContent != null) {
+			return parsedContent;
+		}
 
-		inputObjects.put("out", unsyncPrintWriter);
+		parsedContent = _compileSass(
+			servletContext, cssThemePath, resourcePath, content);
 
-		_rubyExecutor.eval(null, inputObjects, null, _rubyScript);
+		if (Validator.isNull(parsedContent)) {
+			return parsedContent;
+		}
 
-		unsyncPrintWriter.flush();
+		try {
+			_dynamicCSSStore.put(key, parsedContent);
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to store compiled CSS for " + resourcePath, e);
+			}
+		}
 
-		return unsyncByteArrayOutputStream.toString();
+		return parsedContent;
 	}
 
 	/**
@@ -408,15 +662,26 @@ public class DynamicCSSUtil {
 		return sb.toString();
 	}
 
+	private static final String[] _CSS_EXTENSIONS = {".css"};
+
 	private static final String _CSS_IMPORT_BEGIN = "@import url(";
 
 	private static final String _CSS_IMPORT_END = ");";
 
+	private static final String[] _IMPORT_EXTENSIONS =
+		{".css", ".sass", ".scss"};
+
+	private static final String _IMPORTS_DIGESTS_KEY =
+		DynamicCSSUtil.class.getName() + "#importsDigests";
+
+	private static final String _SASS_CACHE_DIR = "/.sass-cache/";
+
 	private static final String _SASS_DIR = "sass";
 
 	private static final String _SASS_DIR_KEY =
 		DynamicCSSUtil.class.getName() + "#sass";
 
+	private static DynamicCSSStore _dynamicCSSStore;
 	private static Log _log = LogFactoryUtil.getLog(DynamicCSSUtil.class);
 
 	private static Pattern _pluginThemePattern = Pattern.compile(
@@ -426,4 +691,58 @@ public class DynamicCSSUtil {
 	private static RubyExecutor _rubyExecutor = new RubyExecutor();
 	private static String _rubyScript;
 
+	private static class PrecompileCallable implements Callable<Void> {
+
+		public PrecompileCallable(
+			ServletContext servletContext, String cssThemePath,
+			String importRootPath, String resourcePath) {
+
+			_servletContext = servletContext;
+			_cssThemePath = cssThemePath;
+			_importRootPath = importRootPath;
+			_resourcePath = resourcePath;
+		}
+
+		public Void call() throws Exception {
+			InputStream inputStream = _servletContext.getResourceAsStream(
+				_resourcePath);
+
+			if (inputStream == null) {
+				return null;
+			}
+
+			try {
+				String content = StringUtil.read(inputStream);
+
+				content = SassToCssBuilder.parseStaticTokens(content);
+
+				String key = _getStoreKey(
+					_servletContext, _cssThemePath, _importRootPath,
+					_resourcePath, content);
+
+				if (_dynamicCSSStore.get(key) != null) {
+					return null;
+				}
+
+				String parsedContent = _compileSass(
+					_servletContext, _cssThemePath, _resourcePath, content);
+
+				if (Validator.isNotNull(parsedContent)) {
+					_dynamicCSSStore.put(key, parsedContent);
+				}
+			}
+			catch (Exception e) {
+				_log.error("Unable to compile " + _resourcePath, e);
+			}
+
+			return null;
+		}
+
+		private String _cssThemePath;
+		private String _importRootPath;
+		private String _resourcePath;
+		private ServletContext _servletContext;
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.dynamiccss;
+
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.util.PropsValues;
+
+import java.io.File;
+
+/**
+ * @author agent
+ */
+public class FileSystemDynamicCSSStore implements DynamicCSSStore {
+
+	public FileSystemDynamicCSSStore() {
+		this(new File(PropsValues.THEME_CSS_STORE_FILE_SYSTEM_ROOT_DIR));
+	}
+
+	public FileSystemDynamicCSSStore(File rootDir) {
+		_rootDir = rootDir;
+
+		_rootDir.mkdirs();
+	}
+
+	public String get(String key) throws Exception {
+		File file = getFile(key);
+
+		if (!file.exists()) {
+			return null;
+		}
+
+		return FileUtil.read(file);
+	}
+
+	public void put(String key, String css) throws Exception {
+		File file = getFile(key);
+
+		if (file.exists()) {
+			return;
+		}
+
+		// Write to a temporary file first so that a concurrent reader, possibly
+		// on another node sharing the directory, never sees a partial entry
+
+		File dir = file.getParentFile();
+
+		dir.mkdirs();
+
+		File tempFile = File.createTempFile(
+			key + StringPool.PERIOD, _TEMP_FILE_EXTENSION, dir);
+
+		FileUtil.write(tempFile, css);
+
+		if (!FileUtil.move(tempFile, file)) {
+			FileUtil.delete(tempFile);
+		}
+	}
+
+	protected File getFile(String key) {
+		File dir = new File(_rootDir, key.substring(0, 2));
+
+		return new File(dir, key + _FILE_EXTENSION);
+	}
+
+	private static final String _FILE_EXTENSION = ".css";
+
+	private static final String _TEMP_FILE_EXTENSION = ".tmp";
+
+	private File _rootDir;
+
+}
\ No newline at end of file
@@ -33,6 +33,18 @@ import javax.servlet.http.HttpServletResponse;
  */
 public class GZipFilter extends BasePortalFilter {
 
+	public static final String COMPRESSION_DEFERRED =
+		GZipFilter.class.getName() + "COMPRESSION_DEFERRED";
+
+	/**
+	 * Set by an outer filter that compresses the response itself. The
+	 * response is then passed on uncompressed, and {@link
+	 * #COMPRESSION_DEFERRED} is set if it would have been compressed for a
+	 * client that accepts gzip.
+	 */
+	public static final String DEFER_COMPRESSION =
+		GZipFilter.class.getName() + "DEFER_COMPRESSION";
+
 	public static final String SKIP_FILTER =
 		GZipFilter.class.getName() + "SKIP_FILTER";
 
@@ -64,7 +76,8 @@ public class GZipFilter extends BasePortalFilter {
 		HttpServletRequest request, HttpServletResponse response) {
 
 		if (isCompress(request) && !isInclude(request) &&
-			BrowserSnifferUtil.acceptsGzip(request) &&
+			(isDeferCompression(request) ||
+			 BrowserSnifferUtil.acceptsGzip(request)) &&
 			!isAlreadyFiltered(request)) {
 
 			return true;
@@ -92,6 +105,15 @@ public class GZipFilter extends BasePortalFilter {
 		}
 	}
 
+	protected boolean isDeferCompression(HttpServletRequest request) {
+		if (request.getAttribute(DEFER_COMPRESSION) != null) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	protected boolean isInclude(HttpServletRequest request) {
 		String uri = (String)request.getAttribute(
 			JavaConstants.JAVAX_SERVLET_INCLUDE_REQUEST_URI);
@@ -110,14 +132,28 @@ public class GZipFilter extends BasePortalFilter {
 			FilterChain filterChain)
 		throws Exception {
 
+		request.setAttribute(SKIP_FILTER, Boolean.TRUE);
+
+		if (isDeferCompression(request)) {
+			if (_log.isDebugEnabled()) {
+				String completeURL = HttpUtil.getCompleteURL(request);
+
+				_log.debug("Deferring compression of " + completeURL);
+			}
+
+			request.setAttribute(COMPRESSION_DEFERRED, Boolean.TRUE);
+
+			processFilter(GZipFilter.class, request, response, filterChain);
+
+			return;
+		}
+
 		if (_log.isDebugEnabled()) {
 			String completeURL = HttpUtil.getCompleteURL(request);
 
 			_log.debug("Compressing " + completeURL);
 		}
 
-		request.setAttribute(SKIP_FILTER, Boolean.TRUE);
-
 		GZipResponse gZipResponse = new GZipResponse(request, response);
 
 		processFilter(GZipFilter.class, request, gZipResponse, filterChain);
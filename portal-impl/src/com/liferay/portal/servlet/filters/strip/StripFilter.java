@@ -17,17 +17,12 @@ package com.liferay.portal.servlet.filters.strip;
 import com.liferay.portal.kernel.cache.key.CacheKeyGenerator;
 import com.liferay.portal.kernel.cache.key.CacheKeyGeneratorUtil;
 import com.liferay.portal.kernel.concurrent.ConcurrentLFUCache;
-import com.liferay.portal.kernel.io.OutputStreamWriter;
-import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.portlet.LiferayWindowState;
 import com.liferay.portal.kernel.scripting.ScriptingException;
-import com.liferay.portal.kernel.servlet.BufferCacheServletResponse;
 import com.liferay.portal.kernel.servlet.HttpHeaders;
-import com.liferay.portal.kernel.servlet.ServletResponseUtil;
 import com.liferay.portal.kernel.util.CharPool;
-import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.JavaConstants;
 import com.liferay.portal.kernel.util.KMPSearch;
@@ -117,6 +112,31 @@ public class StripFilter extends BasePortalFilter {
 		return content;
 	}
 
+	/**
+	 * Returns the close marker of the tag that starts at the position of the
+	 * char buffer, which must be right after a <code>&lt;</code>, or
+	 * <code>null</code> if the tag is not processed by {@link #processTag}.
+	 */
+	protected String getCloseMarker(CharBuffer charBuffer) {
+		if (hasMarker(charBuffer, _MARKER_INPUT_OPEN)) {
+			return _MARKER_INPUT_CLOSE;
+		}
+		else if (hasMarker(charBuffer, _MARKER_PRE_OPEN)) {
+			return _MARKER_PRE_CLOSE;
+		}
+		else if (hasMarker(charBuffer, _MARKER_TEXTAREA_OPEN)) {
+			return _MARKER_TEXTAREA_CLOSE;
+		}
+		else if (hasMarker(charBuffer, _MARKER_SCRIPT_OPEN)) {
+			return _MARKER_SCRIPT_CLOSE;
+		}
+		else if (hasMarker(charBuffer, _MARKER_STYLE_OPEN)) {
+			return _MARKER_STYLE_CLOSE;
+		}
+
+		return null;
+	}
+
 	protected boolean hasLanguageAttribute(
 		CharBuffer charBuffer, int startPos, int length) {
 
@@ -352,51 +372,15 @@ public class StripFilter extends BasePortalFilter {
 
 		request.setAttribute(SKIP_FILTER, Boolean.TRUE);
 
-		BufferCacheServletResponse bufferCacheServletResponse =
-			new BufferCacheServletResponse(response);
-
-		processFilter(
-			StripFilter.class, request, bufferCacheServletResponse,
-			filterChain);
-
-		String contentType = GetterUtil.getString(
-			bufferCacheServletResponse.getContentType()).toLowerCase();
-
-		if (_log.isDebugEnabled()) {
-			_log.debug("Stripping content of type " + contentType);
-		}
-
-		response.setContentType(contentType);
-
-		if (isStripContentType(contentType) &&
-			(bufferCacheServletResponse.getStatus() ==
-				HttpServletResponse.SC_OK)) {
-
-			CharBuffer oldCharBuffer =
-				bufferCacheServletResponse.getCharBuffer();
-
-			boolean ensureContentLength = ParamUtil.getBoolean(
-				request, _ENSURE_CONTENT_LENGTH);
-
-			if (ensureContentLength) {
-				UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
-					new UnsyncByteArrayOutputStream();
+		boolean ensureContentLength = ParamUtil.getBoolean(
+			request, _ENSURE_CONTENT_LENGTH);
 
-				strip(
-					request, response, oldCharBuffer,
-					new OutputStreamWriter(unsyncByteArrayOutputStream));
+		StripResponse stripResponse = new StripResponse(
+			this, request, response, ensureContentLength);
 
-				response.setContentLength(unsyncByteArrayOutputStream.size());
+		processFilter(StripFilter.class, request, stripResponse, filterChain);
 
-				unsyncByteArrayOutputStream.writeTo(response.getOutputStream());
-			}
-			else if (!response.isCommitted()) {
-				strip(request, response, oldCharBuffer, response.getWriter());
-			}
-		}
-		else {
-			ServletResponseUtil.write(response, bufferCacheServletResponse);
-		}
+		stripResponse.finishResponse();
 	}
 
 	protected void processInput(CharBuffer oldCharBuffer, Writer writer)
@@ -637,53 +621,38 @@ public class StripFilter extends BasePortalFilter {
 		return skipped;
 	}
 
-	protected void strip(
+	/**
+	 * Processes the tag that starts at the position of the char buffer, which
+	 * must be right after a <code>&lt;</code>, if it is an input, pre,
+	 * textarea, script or style tag.
+	 *
+	 * @return <code>true</code> if the tag was processed
+	 */
+	protected boolean processTag(
 			HttpServletRequest request, HttpServletResponse response,
 			CharBuffer charBuffer, Writer writer)
 		throws Exception {
 
-		skipWhiteSpace(charBuffer, writer, false);
-
-		while (charBuffer.hasRemaining()) {
-			char c = charBuffer.get();
-
-			writer.write(c);
-
-			if (c == CharPool.LESS_THAN) {
-				if (hasMarker(charBuffer, _MARKER_INPUT_OPEN)) {
-					processInput(charBuffer, writer);
-
-					continue;
-				}
-				else if (hasMarker(charBuffer, _MARKER_PRE_OPEN)) {
-					processPre(charBuffer, writer);
-
-					continue;
-				}
-				else if (hasMarker(charBuffer, _MARKER_TEXTAREA_OPEN)) {
-					processTextArea(charBuffer, writer);
-
-					continue;
-				}
-				else if (hasMarker(charBuffer, _MARKER_SCRIPT_OPEN)) {
-					processJavaScript(charBuffer, writer, _MARKER_SCRIPT_OPEN);
-
-					continue;
-				}
-				else if (hasMarker(charBuffer, _MARKER_STYLE_OPEN)) {
-					processCSS(request, response, charBuffer, writer);
-
-					continue;
-				}
-			}
-			else if (c == CharPool.GREATER_THAN) {
-				skipWhiteSpace(charBuffer, writer, true);
-			}
-
-			skipWhiteSpace(charBuffer, writer, true);
+		if (hasMarker(charBuffer, _MARKER_INPUT_OPEN)) {
+			processInput(charBuffer, writer);
+		}
+		else if (hasMarker(charBuffer, _MARKER_PRE_OPEN)) {
+			processPre(charBuffer, writer);
+		}
+		else if (hasMarker(charBuffer, _MARKER_TEXTAREA_OPEN)) {
+			processTextArea(charBuffer, writer);
+		}
+		else if (hasMarker(charBuffer, _MARKER_SCRIPT_OPEN)) {
+			processJavaScript(charBuffer, writer, _MARKER_SCRIPT_OPEN);
+		}
+		else if (hasMarker(charBuffer, _MARKER_STYLE_OPEN)) {
+			processCSS(request, response, charBuffer, writer);
+		}
+		else {
+			return false;
 		}
 
-		writer.flush();
+		return true;
 	}
 
 	private static final String _ENSURE_CONTENT_LENGTH = "ensureContentLength";
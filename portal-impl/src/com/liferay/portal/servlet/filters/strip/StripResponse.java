@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.strip;
+
+import com.liferay.portal.kernel.io.OutputStreamWriter;
+import com.liferay.portal.kernel.io.WriterOutputStream;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.servlet.MetaInfoCacheServletResponse;
+import com.liferay.portal.kernel.servlet.ServletOutputStreamAdapter;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.UnsyncPrintWriterPool;
+import com.liferay.portal.util.PropsValues;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Decides whether to strip when the output is first requested, based on the
+ * content type and status set so far, and then streams the output through a
+ * {@link StripWriter} instead of buffering all of it.
+ *
+ * @author agent
+ */
+public class StripResponse extends MetaInfoCacheServletResponse {
+
+	public StripResponse(
+		StripFilter stripFilter, HttpServletRequest request,
+		HttpServletResponse response, boolean ensureContentLength) {
+
+		super(response);
+
+		_stripFilter = stripFilter;
+		_request = request;
+		_response = response;
+		_ensureContentLength = ensureContentLength;
+	}
+
+	@Override
+	public void finishResponse() throws IOException {
+		if (_stripWriter == null) {
+			if (!calledGetOutputStream && !calledGetWriter) {
+				_applyContentLength();
+			}
+
+			return;
+		}
+
+		if (_servletOutputStream != null) {
+			_servletOutputStream.flush();
+		}
+		else {
+			_printWriter.flush();
+		}
+
+		_stripWriter.finish();
+
+		if (_unsyncByteArrayOutputStream != null) {
+			_response.setContentLength(_unsyncByteArrayOutputStream.size());
+
+			_unsyncByteArrayOutputStream.writeTo(_response.getOutputStream());
+		}
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (_printWriter != null) {
+			_printWriter.flush();
+		}
+		else if (_servletOutputStream != null) {
+			_servletOutputStream.flush();
+		}
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (_servletOutputStream != null) {
+			return _servletOutputStream;
+		}
+
+		if (_printWriter != null) {
+			throw new IllegalStateException(
+				"Cannot obtain OutputStream because Writer is already in use");
+		}
+
+		if (_isStrip()) {
+			_servletOutputStream = new ServletOutputStreamAdapter(
+				new WriterOutputStream(
+					_createStripWriter(), getCharacterEncoding()));
+
+			calledGetOutputStream = true;
+		}
+		else {
+			_applyContentLength();
+
+			_servletOutputStream = super.getOutputStream();
+		}
+
+		return _servletOutputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (_printWriter != null) {
+			return _printWriter;
+		}
+
+		if (_servletOutputStream != null) {
+			throw new IllegalStateException(
+				"Cannot obtain Writer because OutputStream is already in use");
+		}
+
+		if (_isStrip()) {
+			_printWriter = UnsyncPrintWriterPool.borrow(_createStripWriter());
+
+			calledGetWriter = true;
+		}
+		else {
+			_applyContentLength();
+
+			_printWriter = super.getWriter();
+		}
+
+		return _printWriter;
+	}
+
+	@Override
+	public void setContentLength(int contentLength) {
+
+		// The content length is only known once it is clear that the content
+		// will not be stripped
+
+		if (calledGetOutputStream || calledGetWriter) {
+			if (_stripWriter == null) {
+				super.setContentLength(contentLength);
+			}
+		}
+		else {
+			_contentLength = contentLength;
+		}
+	}
+
+	private void _applyContentLength() {
+		if (_contentLength != -1) {
+			super.setContentLength(_contentLength);
+
+			_contentLength = -1;
+		}
+	}
+
+	private Writer _createStripWriter() throws IOException {
+		Writer writer = null;
+
+		if (_ensureContentLength) {
+			_unsyncByteArrayOutputStream = new UnsyncByteArrayOutputStream();
+
+			writer = new OutputStreamWriter(
+				_unsyncByteArrayOutputStream, getCharacterEncoding());
+		}
+		else {
+			writer = _response.getWriter();
+		}
+
+		_stripWriter = new StripWriter(
+			_stripFilter, _request, _response, writer,
+			PropsValues.STRIP_WINDOW_SIZE);
+
+		return _stripWriter;
+	}
+
+	private boolean _isStrip() {
+		if (getStatus() != SC_OK) {
+			return false;
+		}
+
+		String contentType = GetterUtil.getString(getContentType());
+
+		contentType = contentType.toLowerCase();
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Stripping content of type " + contentType);
+		}
+
+		return _stripFilter.isStripContentType(contentType);
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(StripResponse.class);
+
+	private int _contentLength = -1;
+	private boolean _ensureContentLength;
+	private PrintWriter _printWriter;
+	private HttpServletRequest _request;
+	private HttpServletResponse _response;
+	private ServletOutputStream _servletOutputStream;
+	private StripFilter _stripFilter;
+	private StripWriter _stripWriter;
+	private UnsyncByteArrayOutputStream _unsyncByteArrayOutputStream;
+
+}
@@ -0,0 +1,479 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.strip;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.KMPSearch;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import java.nio.CharBuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Strips the content written to it and passes the result on to the wrapped
+ * writer as it goes.
+ *
+ * <p>
+ * Content is held in a window that grows up to the window size. A run of white
+ * space is held until its end is known, and an input, pre, textarea, script or
+ * style tag is held until its close marker is in the window, so that {@link
+ * StripFilter#processTag} sees the whole tag. A tag that does not fit into the
+ * window is passed on unstripped up to its close marker.
+ * </p>
+ *
+ * @author agent
+ */
+public class StripWriter extends Writer {
+
+	public static long getInputCharCount() {
+		return _totalInputCharCount.get();
+	}
+
+	public static long getMaxWindowSize() {
+		return _maxWindowSize.get();
+	}
+
+	public static long getOutputCharCount() {
+		return _totalOutputCharCount.get();
+	}
+
+	public static long getStripTime() {
+		return TimeUnit.NANOSECONDS.toMillis(_totalStripTime.get());
+	}
+
+	public static long getStrippedResponseCount() {
+		return _strippedResponseCount.get();
+	}
+
+	public static long getWindowCharCount() {
+		return _windowCharCount.get();
+	}
+
+	public static void resetStatistics() {
+		_maxWindowSize.set(0);
+		_strippedResponseCount.set(0);
+		_totalInputCharCount.set(0);
+		_totalOutputCharCount.set(0);
+		_totalStripTime.set(0);
+	}
+
+	public StripWriter(
+		StripFilter stripFilter, HttpServletRequest request,
+		HttpServletResponse response, Writer writer, int windowSize) {
+
+		if (windowSize <= _MARKER_LOOK_AHEAD_LENGTH) {
+			throw new IllegalArgumentException(
+				"Window size " + windowSize + " is less than " +
+					(_MARKER_LOOK_AHEAD_LENGTH + 1));
+		}
+
+		_stripFilter = stripFilter;
+		_request = request;
+		_response = response;
+		_writer = new OutputWriter(writer);
+		_windowSize = windowSize;
+
+		_buffer = new char[Math.min(windowSize, _INITIAL_WINDOW_SIZE)];
+
+		_windowCharCount.addAndGet(_buffer.length);
+	}
+
+	@Override
+	public void close() throws IOException {
+		finish();
+
+		_writer.close();
+	}
+
+	/**
+	 * Strips the rest of the content, treating the end of what has been
+	 * written so far as the end of the document, and releases the window.
+	 */
+	public void finish() throws IOException {
+		if (_buffer == null) {
+			return;
+		}
+
+		_process(true);
+
+		if (_skippedWhiteSpace) {
+			_writer.write(CharPool.SPACE);
+
+			_skippedWhiteSpace = false;
+		}
+
+		_writer.flush();
+
+		long windowSize = _buffer.length;
+
+		_windowCharCount.addAndGet(-windowSize);
+
+		_buffer = null;
+
+		_strippedResponseCount.incrementAndGet();
+		_totalInputCharCount.addAndGet(_inputCharCount);
+		_totalOutputCharCount.addAndGet(_writer._outputCharCount);
+		_totalStripTime.addAndGet(_stripTime);
+
+		long maxWindowSize = _maxWindowSize.get();
+
+		while ((windowSize > maxWindowSize) &&
+			   !_maxWindowSize.compareAndSet(maxWindowSize, windowSize)) {
+
+			maxWindowSize = _maxWindowSize.get();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (_buffer != null) {
+			_process(false);
+		}
+
+		_writer.flush();
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int length) throws IOException {
+		_inputCharCount += length;
+
+		while (length > 0) {
+			_ensureCapacity();
+
+			int copyLength = Math.min(length, _buffer.length - _count);
+
+			System.arraycopy(chars, offset, _buffer, _count, copyLength);
+
+			_count += copyLength;
+			offset += copyLength;
+			length -= copyLength;
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		_inputCharCount++;
+
+		_ensureCapacity();
+
+		_buffer[_count++] = (char)c;
+	}
+
+	@Override
+	public void write(String string, int offset, int length)
+		throws IOException {
+
+		_inputCharCount += length;
+
+		while (length > 0) {
+			_ensureCapacity();
+
+			int copyLength = Math.min(length, _buffer.length - _count);
+
+			string.getChars(offset, offset + copyLength, _buffer, _count);
+
+			_count += copyLength;
+			offset += copyLength;
+			length -= copyLength;
+		}
+	}
+
+	private void _ensureCapacity() throws IOException {
+		if (_buffer == null) {
+			throw new IOException("Writer is finished");
+		}
+
+		if (_count < _buffer.length) {
+			return;
+		}
+
+		_process(false);
+
+		if ((_count < _buffer.length) || (_buffer.length == _windowSize)) {
+			return;
+		}
+
+		// Nothing could be stripped, so the held tag needs more room
+
+		char[] buffer = new char[Math.min(_buffer.length * 2, _windowSize)];
+
+		System.arraycopy(_buffer, 0, buffer, 0, _count);
+
+		_windowCharCount.addAndGet(buffer.length - _buffer.length);
+
+		_buffer = buffer;
+	}
+
+	/**
+	 * Returns <code>true</code> if the window holds the close marker of the
+	 * tag and the end of the white space that follows it, which the process
+	 * methods of {@link StripFilter} skip together with the tag.
+	 */
+	private boolean _hasTag(CharBuffer charBuffer, String closeMarker) {
+		int index = KMPSearch.search(
+			charBuffer, closeMarker, KMPSearch.generateNexts(closeMarker));
+
+		if (index == -1) {
+			return false;
+		}
+
+		for (int i = index + closeMarker.length(); i < charBuffer.remaining();
+				i++) {
+
+			if (!_isWhiteSpace(charBuffer.charAt(i))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean _isWhiteSpace(char c) {
+		if ((c == CharPool.SPACE) || (c == CharPool.TAB) ||
+			(c == CharPool.RETURN) || (c == CharPool.NEW_LINE)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean _passThrough(CharBuffer charBuffer, boolean end)
+		throws IOException {
+
+		int position = charBuffer.position();
+
+		int index = KMPSearch.search(
+			charBuffer, _closeMarker, KMPSearch.generateNexts(_closeMarker));
+
+		if (index != -1) {
+			int length = index + _closeMarker.length();
+
+			_writer.write(_buffer, position, length);
+
+			charBuffer.position(position + length);
+
+			_closeMarker = null;
+
+			return true;
+		}
+
+		int length = charBuffer.remaining();
+
+		if (!end) {
+
+			// Keep enough to recognize a close marker that is split between
+			// two writes
+
+			length -= _closeMarker.length() - 1;
+		}
+
+		if (length > 0) {
+			_writer.write(_buffer, position, length);
+
+			charBuffer.position(position + length);
+		}
+
+		return false;
+	}
+
+	private void _process(boolean end) throws IOException {
+		long startTime = System.nanoTime();
+
+		CharBuffer charBuffer = CharBuffer.wrap(_buffer, 0, _count);
+
+		while (charBuffer.hasRemaining()) {
+			if (_closeMarker != null) {
+				if (_passThrough(charBuffer, end)) {
+					continue;
+				}
+
+				break;
+			}
+
+			int position = charBuffer.position();
+
+			char c = _buffer[position];
+
+			if (_isWhiteSpace(c)) {
+				charBuffer.position(position + 1);
+
+				if (_started) {
+					_skippedWhiteSpace = true;
+				}
+
+				continue;
+			}
+
+			boolean processTag = false;
+
+			if (c == CharPool.LESS_THAN) {
+				if (!end &&
+					(charBuffer.remaining() <= _MARKER_LOOK_AHEAD_LENGTH)) {
+
+					break;
+				}
+
+				charBuffer.position(position + 1);
+
+				String closeMarker = _stripFilter.getCloseMarker(charBuffer);
+
+				if (closeMarker != null) {
+					processTag = true;
+
+					if (!end && !_hasTag(charBuffer, closeMarker)) {
+						if ((position > 0) || (_count < _windowSize)) {
+							charBuffer.position(position);
+
+							break;
+						}
+
+						if (_log.isDebugEnabled()) {
+							_log.debug(
+								"Passing through a tag that does not fit " +
+									"into the strip window");
+						}
+
+						_closeMarker = closeMarker;
+
+						processTag = false;
+					}
+				}
+			}
+			else {
+				charBuffer.position(position + 1);
+			}
+
+			if (_skippedWhiteSpace) {
+				_writer.write(CharPool.SPACE);
+
+				_skippedWhiteSpace = false;
+			}
+
+			_started = true;
+
+			_writer.write(c);
+
+			if (processTag) {
+				try {
+					_stripFilter.processTag(
+						_request, _response, charBuffer, _writer);
+				}
+				catch (IOException ioe) {
+					throw ioe;
+				}
+				catch (Exception e) {
+					throw new IOException(e);
+				}
+			}
+		}
+
+		int position = charBuffer.position();
+
+		_count -= position;
+
+		if ((_count > 0) && (position > 0)) {
+			System.arraycopy(_buffer, position, _buffer, 0, _count);
+		}
+
+		_stripTime += System.nanoTime() - startTime;
+	}
+
+	private static final int _INITIAL_WINDOW_SIZE = 8192;
+
+	/**
+	 * Longer than the longest open marker checked by {@link
+	 * StripFilter#getCloseMarker}
+	 */
+	private static final int _MARKER_LOOK_AHEAD_LENGTH = 32;
+
+	private static Log _log = LogFactoryUtil.getLog(StripWriter.class);
+
+	private static AtomicLong _maxWindowSize = new AtomicLong();
+	private static AtomicLong _strippedResponseCount = new AtomicLong();
+	private static AtomicLong _totalInputCharCount = new AtomicLong();
+	private static AtomicLong _totalOutputCharCount = new AtomicLong();
+	private static AtomicLong _totalStripTime = new AtomicLong();
+	private static AtomicLong _windowCharCount = new AtomicLong();
+
+	private char[] _buffer;
+	private String _closeMarker;
+	private int _count;
+	private long _inputCharCount;
+	private HttpServletRequest _request;
+	private HttpServletResponse _response;
+	private boolean _skippedWhiteSpace;
+	private boolean _started;
+	private StripFilter _stripFilter;
+	private long _stripTime;
+	private int _windowSize;
+	private OutputWriter _writer;
+
+	private static class OutputWriter extends Writer {
+
+		public OutputWriter(Writer writer) {
+			_writer = writer;
+		}
+
+		@Override
+		public void close() throws IOException {
+			_writer.close();
+		}
+
+		@Override
+		public void flush() throws IOException {
+			_writer.flush();
+		}
+
+		@Override
+		public void write(char[] chars, int offset, int length)
+			throws IOException {
+
+			_outputCharCount += length;
+
+			_writer.write(chars, offset, length);
+		}
+
+		@Override
+		public void write(int c) throws IOException {
+			_outputCharCount++;
+
+			_writer.write(c);
+		}
+
+		@Override
+		public void write(String string, int offset, int length)
+			throws IOException {
+
+			_outputCharCount += length;
+
+			_writer.write(string, offset, length);
+		}
+
+		private long _outputCharCount;
+		private Writer _writer;
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.strip.jmx;
+
+import com.liferay.portal.servlet.filters.strip.StripWriter;
+
+/**
+ * @author agent
+ */
+public class StripFilterManager implements StripFilterManagerMBean {
+
+	public double getCompressionRatio() {
+		long inputCharCount = StripWriter.getInputCharCount();
+
+		if (inputCharCount == 0) {
+			return 0;
+		}
+
+		return (double)StripWriter.getOutputCharCount() / inputCharCount;
+	}
+
+	public long getInputCharCount() {
+		return StripWriter.getInputCharCount();
+	}
+
+	public long getMaxWindowSize() {
+		return StripWriter.getMaxWindowSize();
+	}
+
+	public long getOutputCharCount() {
+		return StripWriter.getOutputCharCount();
+	}
+
+	public long getStripTime() {
+		return StripWriter.getStripTime();
+	}
+
+	public long getStrippedResponseCount() {
+		return StripWriter.getStrippedResponseCount();
+	}
+
+	/**
+	 * Returns the number of input chars stripped per millisecond of strip
+	 * time.
+	 */
+	public double getThroughput() {
+		long stripTime = StripWriter.getStripTime();
+
+		if (stripTime == 0) {
+			return 0;
+		}
+
+		return (double)StripWriter.getInputCharCount() / stripTime;
+	}
+
+	public long getWindowCharCount() {
+		return StripWriter.getWindowCharCount();
+	}
+
+	public void resetStatistics() {
+		StripWriter.resetStatistics();
+	}
+
+}
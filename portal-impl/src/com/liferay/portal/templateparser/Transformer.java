@@ -27,6 +27,7 @@ import com.liferay.portal.kernel.template.TemplateContextType;
 import com.liferay.portal.kernel.template.TemplateManagerUtil;
 import com.liferay.portal.kernel.template.TemplateResource;
 import com.liferay.portal.kernel.template.URLTemplateResource;
+import com.liferay.portal.kernel.templateparser.BaseTransformerListener;
 import com.liferay.portal.kernel.templateparser.TemplateNode;
 import com.liferay.portal.kernel.templateparser.TransformException;
 import com.liferay.portal.kernel.templateparser.TransformerListener;
@@ -52,6 +53,7 @@ import com.liferay.portal.theme.ThemeDisplay;
 import com.liferay.portal.util.PropsUtil;
 import com.liferay.portal.xsl.XSLTemplateResource;
 import com.liferay.portal.xsl.XSLURIResolver;
+import com.liferay.portlet.dynamicdatamapping.util.DDMXMLUtil;
 import com.liferay.portlet.journal.util.JournalXSLURIResolver;
 import com.liferay.portlet.portletdisplaytemplate.util.PortletDisplayTemplateConstants;
 import com.liferay.taglib.util.VelocityTaglib;
@@ -169,10 +171,11 @@ public class Transformer {
 		return unsyncStringWriter.toString();
 	}
 
+	@SuppressWarnings("deprecation")
 	public String transform(
 			ThemeDisplay themeDisplay, Map<String, String> tokens,
-			String viewMode, String languageId, String xml, String script,
-			String langType)
+			String viewMode, String languageId, Document document,
+			String script, String langType)
 		throws Exception {
 
 		// Setup listeners
@@ -192,7 +195,7 @@ public class Transformer {
 		}
 
 		if (_logTransformBefore.isDebugEnabled()) {
-			_logTransformBefore.debug(xml);
+			_logTransformBefore.debug(toXML(document));
 		}
 
 		List<TransformerListener> transformerListeners =
@@ -226,15 +229,27 @@ public class Transformer {
 			// Modify XML
 
 			if (_logXmlBeforeListener.isDebugEnabled()) {
-				_logXmlBeforeListener.debug(xml);
+				_logXmlBeforeListener.debug(toXML(document));
 			}
 
-			if (transformerListener != null) {
-				xml = transformerListener.onXml(xml, languageId, tokens);
+			if (transformerListener instanceof BaseTransformerListener) {
+				document = transformerListener.onXml(
+					document, languageId, tokens);
+			}
+			else if (transformerListener != null) {
 
-				if (_logXmlAfterListener.isDebugEnabled()) {
-					_logXmlAfterListener.debug(xml);
-				}
+				// Listeners that implement the interface directly may have
+				// been written against the String based methods
+
+				document = toDocument(
+					transformerListener.onXml(
+						toXML(document), languageId, tokens));
+			}
+
+			if ((transformerListener != null) &&
+				_logXmlAfterListener.isDebugEnabled()) {
+
+				_logXmlAfterListener.debug(toXML(document));
 			}
 
 			// Modify script
@@ -243,13 +258,19 @@ public class Transformer {
 				_logScriptBeforeListener.debug(script);
 			}
 
-			if (transformerListener != null) {
+			if (transformerListener instanceof BaseTransformerListener) {
+				script = transformerListener.onScript(
+					script, document, languageId, tokens);
+			}
+			else if (transformerListener != null) {
 				script = transformerListener.onScript(
-					script, xml, languageId, tokens);
+					script, toXML(document), languageId, tokens);
+			}
 
-				if (_logScriptAfterListener.isDebugEnabled()) {
-					_logScriptAfterListener.debug(script);
-				}
+			if ((transformerListener != null) &&
+				_logScriptAfterListener.isDebugEnabled()) {
+
+				_logScriptAfterListener.debug(script);
 			}
 		}
 
@@ -258,7 +279,8 @@ public class Transformer {
 		String output = null;
 
 		if (Validator.isNull(langType)) {
-			output = LocalizationUtil.getLocalization(xml, languageId);
+			output = LocalizationUtil.getLocalization(
+				toXML(document), languageId);
 		}
 		else {
 			long companyId = 0;
@@ -283,16 +305,14 @@ public class Transformer {
 				templateId, companyId, companyGroupId, groupId);
 
 			Template template = getTemplate(
-				templateId, tokens, languageId, xml, script, langType);
+				templateId, tokens, languageId, document, script, langType);
 
 			UnsyncStringWriter unsyncStringWriter = new UnsyncStringWriter();
 
 			boolean load = false;
 
 			try {
-				if (Validator.isNotNull(xml)) {
-					Document document = SAXReaderUtil.read(xml);
-
+				if (document != null) {
 					Element rootElement = document.getRootElement();
 
 					List<TemplateNode> templateNodes = getTemplateNodes(
@@ -385,6 +405,19 @@ public class Transformer {
 		return output;
 	}
 
+	public String transform(
+			ThemeDisplay themeDisplay, Map<String, String> tokens,
+			String viewMode, String languageId, String xml, String script,
+			String langType)
+		throws Exception {
+
+		Document document = toDocument(xml);
+
+		return transform(
+			themeDisplay, tokens, viewMode, languageId, document, script,
+			langType);
+	}
+
 	protected Company getCompany(ThemeDisplay themeDisplay, long companyId)
 		throws Exception {
 
@@ -423,7 +456,7 @@ public class Transformer {
 
 	protected Template getTemplate(
 			String templateId, Map<String, String> tokens, String languageId,
-			String xml, String script, String langType)
+			Document document, String script, String langType)
 		throws Exception {
 
 		TemplateResource templateResource = null;
@@ -432,6 +465,12 @@ public class Transformer {
 			XSLURIResolver xslURIResolver = new JournalXSLURIResolver(
 				tokens, languageId);
 
+			String xml = null;
+
+			if (document != null) {
+				xml = DDMXMLUtil.formatXML(document);
+			}
+
 			templateResource = new XSLTemplateResource(
 				templateId, script, xslURIResolver, xml);
 		}
@@ -655,6 +694,27 @@ public class Transformer {
 		return s;
 	}
 
+	protected Document toDocument(String xml) throws TransformException {
+		if (Validator.isNull(xml)) {
+			return null;
+		}
+
+		try {
+			return SAXReaderUtil.read(xml);
+		}
+		catch (DocumentException de) {
+			throw new TransformException("Unable to read XML document", de);
+		}
+	}
+
+	protected String toXML(Document document) {
+		if (document == null) {
+			return null;
+		}
+
+		return document.asXML();
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(Transformer.class);
 
 	private static Log _logOutputAfterListener = LogFactoryUtil.getLog(
@@ -1405,6 +1405,7 @@ public class ServiceBuilder {
 		String methodName = method.getName();
 
 		if (methodName.equals("clearCache") ||
+			methodName.equals("fetchByPrimaryKeys") ||
 			methodName.equals("findWithDynamicQuery")) {
 
 			return true;
@@ -68,8 +68,10 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 <#list referenceList as tempEntity>
@@ -176,13 +178,41 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 	 * @param ${entity.varNames} the ${entity.humanNames}
 	 */
 	public void cacheResult(List<${entity.name}> ${entity.varNames}) {
+		Map<Serializable, ${entity.name}> uncached${entity.varNames?cap_first} = new HashMap<Serializable, ${entity.name}>();
+
 		for (${entity.name} ${entity.varName} : ${entity.varNames}) {
-			if (EntityCacheUtil.getResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, ${entity.varName}.getPrimaryKey()) == null) {
-				cacheResult(${entity.varName});
-			}
-			else {
-				${entity.varName}.resetOriginalValues();
-			}
+			uncached${entity.varNames?cap_first}.put(${entity.varName}.getPrimaryKeyObj(), ${entity.varName});
+		}
+
+		Map<Serializable, Serializable> cached${entity.varNames?cap_first} = EntityCacheUtil.getResults(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, uncached${entity.varNames?cap_first}.keySet());
+
+		for (Serializable primaryKey : cached${entity.varNames?cap_first}.keySet()) {
+			${entity.name} ${entity.varName} = uncached${entity.varNames?cap_first}.remove(primaryKey);
+
+			${entity.varName}.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, uncached${entity.varNames?cap_first});
+
+		for (${entity.name} ${entity.varName} : uncached${entity.varNames?cap_first}.values()) {
+			<#list entity.getUniqueFinderList() as finder>
+				<#assign finderColsList = finder.getColumns()>
+
+				FinderCacheUtil.putResult(
+					FINDER_PATH_FETCH_BY_${finder.name?upper_case},
+					new Object[] {
+						<#list finderColsList as finderCol>
+							${entity.varName}.get${finderCol.methodName}()
+
+							<#if finderCol_has_next>
+								,
+							</#if>
+						</#list>
+					},
+					${entity.varName});
+			</#list>
+
+			${entity.varName}.resetOriginalValues();
 		}
 	}
 
@@ -230,13 +260,17 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(${entity.varNames}.size());
+
 		for (${entity.name} ${entity.varName} : ${entity.varNames}) {
-			EntityCacheUtil.removeResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, ${entity.varName}.getPrimaryKey());
+			primaryKeys.add(${entity.varName}.getPrimaryKeyObj());
 
 			<#if entity.getUniqueFinderList()?size &gt; 0>
 				clearUniqueFindersCache(${entity.varName});
 			</#if>
 		}
+
+		EntityCacheUtil.removeResults(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKeys);
 	}
 
 	<#if entity.getUniqueFinderList()?size &gt; 0>
@@ -796,6 +830,108 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 		return fetchByPrimaryKey((Serializable)${entity.PKVarName});
 	}
 
+	<#if !entity.hasCompoundPK()>
+		/**
+		 * Returns the ${entity.humanNames} with the primary keys, keyed by primary key. Primary keys without a matching ${entity.humanName} are left out of the map.
+		 *
+		 * @param primaryKeys the primary keys of the ${entity.humanNames}
+		 * @return the ${entity.humanNames}, keyed by primary key
+		 * @throws SystemException if a system exception occurred
+		 */
+		@Override
+		public Map<Serializable, ${entity.name}> fetchByPrimaryKeys(Set<Serializable> primaryKeys) throws SystemException {
+			if (primaryKeys.isEmpty()) {
+				return Collections.emptyMap();
+			}
+
+			Map<Serializable, ${entity.name}> map = new HashMap<Serializable, ${entity.name}>();
+
+			if (primaryKeys.size() == 1) {
+				Iterator<Serializable> iterator = primaryKeys.iterator();
+
+				Serializable primaryKey = iterator.next();
+
+				${entity.name} ${entity.varName} = fetchByPrimaryKey(primaryKey);
+
+				if (${entity.varName} != null) {
+					map.put(primaryKey, ${entity.varName});
+				}
+
+				return map;
+			}
+
+			List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+			for (Serializable primaryKey : primaryKeys) {
+				${entity.name} ${entity.varName} = (${entity.name})EntityCacheUtil.getResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKey);
+
+				if (${entity.varName} == null) {
+					uncachedPrimaryKeys.add(primaryKey);
+				}
+				else if (${entity.varName} != _null${entity.name}) {
+					map.put(primaryKey, ${entity.varName});
+				}
+			}
+
+			if (uncachedPrimaryKeys.isEmpty()) {
+				return map;
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				for (int i = 0; i < uncachedPrimaryKeys.size(); i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+					List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i, Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE, uncachedPrimaryKeys.size()));
+
+					StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) + 1);
+
+					query.append(_SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN);
+
+					for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+						query.append(StringPool.QUESTION);
+						query.append(StringPool.COMMA);
+					}
+
+					query.setIndex(query.index() - 1);
+
+					query.append(StringPool.CLOSE_PARENTHESIS);
+
+					String sql = query.toString();
+
+					Query q = session.createQuery(sql);
+
+					QueryPos qPos = QueryPos.getInstance(q);
+
+					for (Serializable primaryKey : batchPrimaryKeys) {
+						qPos.add(primaryKey);
+					}
+
+					for (${entity.name} ${entity.varName} : (List<${entity.name}>)q.list()) {
+						map.put(${entity.varName}.getPrimaryKeyObj(), ${entity.varName});
+
+						cacheResult(${entity.varName});
+					}
+				}
+
+				for (Serializable primaryKey : uncachedPrimaryKeys) {
+					if (!map.containsKey(primaryKey)) {
+						EntityCacheUtil.putResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKey, _null${entity.name});
+					}
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+
+			return map;
+		}
+	</#if>
+
 	/**
 	 * Returns all the ${entity.humanNames}.
 	 *
@@ -2020,6 +2156,10 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 
 	private static final String _SQL_SELECT_${entity.alias?upper_case} = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias}";
 
+	<#if !entity.hasCompoundPK()>
+		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ${entity.alias}.${entity.PKVarName} IN (";
+	</#if>
+
 	<#if entity.getFinderList()?size != 0>
 		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ";
 	</#if>
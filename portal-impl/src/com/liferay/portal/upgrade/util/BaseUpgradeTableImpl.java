@@ -23,6 +23,7 @@ import com.liferay.portal.kernel.upgrade.UpgradeException;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.util.PropsValues;
 
 /**
  * @author Alexander Chow
@@ -81,53 +82,123 @@ public abstract class BaseUpgradeTableImpl extends Table {
 	public void updateTable() throws Exception {
 		_calledUpdateTable = true;
 
-		_tempFileName = generateTempFile();
+		DB db = DBFactoryUtil.getDB();
 
-		try {
-			DB db = DBFactoryUtil.getDB();
+		String createSQL = getCreateSQL();
 
-			if (Validator.isNotNull(_tempFileName)) {
-				String deleteSQL = getDeleteSQL();
+		// A custom select SQL refers to the table by its name, which the copy
+		// renames
 
-				db.runSQL(deleteSQL);
-			}
+		if (PropsValues.UPGRADE_TABLE_COPY_ENABLED &&
+			Validator.isNotNull(createSQL) && !isCustomSelectSQL() &&
+			isSupportsAlterTableName(db)) {
 
-			String createSQL = getCreateSQL();
+			updateTableByCopy(db, createSQL);
+		}
+		else {
+			updateTableByTempFile(db, createSQL);
+		}
 
-			if (Validator.isNotNull(createSQL)) {
-				db.runSQL("drop table " + getTableName());
+		String[] indexesSQL = getIndexesSQL();
 
-				db.runSQL(createSQL);
+		boolean dropIndexes = false;
+
+		for (String indexSQL : indexesSQL) {
+			if (!isAllowUniqueIndexes()) {
+				if (indexSQL.contains("create unique index")) {
+					indexSQL = StringUtil.replace(
+						indexSQL, "create unique index ", "create index ");
+
+					dropIndexes = true;
+				}
 			}
 
-			if (Validator.isNotNull(_tempFileName)) {
-				populateTable(_tempFileName);
+			try {
+				db.runSQL(indexSQL);
+			}
+			catch (Exception e) {
+				_log.warn(e.getMessage() + ": " + indexSQL);
 			}
+		}
 
-			String[] indexesSQL = getIndexesSQL();
+		if (dropIndexes) {
+			StartupHelperUtil.setDropIndexes(true);
+		}
+	}
 
-			boolean dropIndexes = false;
+	protected boolean isSupportsAlterTableName(DB db) {
+		String type = db.getType();
 
-			for (String indexSQL : indexesSQL) {
-				if (!isAllowUniqueIndexes()) {
-					if (indexSQL.contains("create unique index")) {
-						indexSQL = StringUtil.replace(
-							indexSQL, "create unique index ", "create index ");
+		if (type.equals(DB.TYPE_FIREBIRD) || type.equals(DB.TYPE_INTERBASE) ||
+			type.equals(DB.TYPE_JDATASTORE)) {
 
-						dropIndexes = true;
-					}
-				}
+			return false;
+		}
 
-				try {
-					db.runSQL(indexSQL);
-				}
-				catch (Exception e) {
-					_log.warn(e.getMessage() + ": " + indexSQL);
+		return true;
+	}
+
+	protected void updateTableByCopy(DB db, String createSQL) throws Exception {
+		String tableName = getTableName();
+
+		String tempTableName =
+			"TMP_" + StringUtil.toHexString(tableName.hashCode());
+
+		db.runSQL("alter_table_name " + tableName + " " + tempTableName);
+
+		if (DB.TYPE_POSTGRESQL.equals(db.getType())) {
+
+			// Free the primary key name so that the new table gets the same
+			// one
+
+			try {
+				db.runSQL(
+					"alter index " + tableName + "_pkey rename to " +
+						tempTableName + "_pkey");
+			}
+			catch (Exception e) {
+				if (_log.isDebugEnabled()) {
+					_log.debug(e, e);
 				}
 			}
+		}
+
+		try {
+			db.runSQL(createSQL);
+
+			copyTable(tempTableName, null);
+		}
+		catch (Exception e) {
+			_log.error(
+				"Unable to copy " + tableName + ". Its rows are kept in " +
+					tempTableName + ".");
+
+			throw e;
+		}
 
-			if (dropIndexes) {
-				StartupHelperUtil.setDropIndexes(true);
+		db.runSQL("drop table " + tempTableName);
+	}
+
+	protected void updateTableByTempFile(DB db, String createSQL)
+		throws Exception {
+
+		_tempFileName = generateTempFile();
+
+		try {
+			if (Validator.isNotNull(_tempFileName)) {
+				String deleteSQL = getDeleteSQL();
+
+				db.runSQL(deleteSQL);
+			}
+
+			if (Validator.isNotNull(createSQL)) {
+				db.runSQL("drop table " + getTableName());
+
+				db.runSQL(createSQL);
+			}
+
+			if (Validator.isNotNull(_tempFileName)) {
+				populateTable(_tempFileName);
 			}
 		}
 		finally {
@@ -144,6 +144,20 @@ public class DefaultUpgradeTableImpl
 		}
 	}
 
+	@Override
+	protected boolean isExportThreadSafe() {
+
+		// Upgrade columns keep the values of the row that is being exported
+
+		for (UpgradeColumn upgradeColumn : _upgradeColumns) {
+			if (upgradeColumn != null) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	protected void prepareUpgradeColumns(UpgradeColumn upgradeColumn) {
 		if (upgradeColumn == null) {
 			return;
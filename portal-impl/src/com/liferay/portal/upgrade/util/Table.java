@@ -14,6 +14,7 @@
 
 package com.liferay.portal.upgrade.util;
 
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
 import com.liferay.portal.kernel.dao.jdbc.DataAccess;
 import com.liferay.portal.kernel.io.unsync.UnsyncBufferedReader;
 import com.liferay.portal.kernel.io.unsync.UnsyncBufferedWriter;
@@ -24,13 +25,16 @@ import com.liferay.portal.kernel.upgrade.UpgradeException;
 import com.liferay.portal.kernel.util.DateUtil;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.SystemProperties;
+import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
 import com.liferay.portal.util.PropsUtil;
+import com.liferay.portal.util.PropsValues;
 
 import java.io.FileReader;
 import java.io.FileWriter;
@@ -46,7 +50,22 @@ import java.sql.Types;
 
 import java.text.DateFormat;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
 
 import org.apache.commons.lang.time.StopWatch;
 
@@ -124,6 +143,97 @@ public class Table {
 		appendColumn(sb, value, last);
 	}
 
+	public void copyTable(DataSource dataSource) throws Exception {
+		copyTable(getTableName(), dataSource);
+	}
+
+	/**
+	 * Copies the rows of the source table into the insert table without a
+	 * temp file. Rows are streamed from the select to a thread that inserts
+	 * them in batches, through a bounded queue. If the create SQL declares a
+	 * numeric primary key, ranges of the key are copied in parallel. A custom
+	 * select SQL is only used when copying from this table.
+	 *
+	 * @param dataSource the data source to insert into, or <code>null</code>
+	 *        to insert into the portal's database
+	 */
+	public void copyTable(String sourceTableName, DataSource dataSource)
+		throws Exception {
+
+		CopyProgress copyProgress = new CopyProgress(sourceTableName);
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Starting copy of " + sourceTableName + " to " +
+					getInsertTableName());
+		}
+
+		String selectSQL = "select * from " + sourceTableName;
+
+		if (sourceTableName.equals(getTableName())) {
+			selectSQL = getSelectSQL();
+		}
+
+		long[][] ranges = null;
+
+		int threadCount = PropsValues.UPGRADE_TABLE_COPY_THREAD_COUNT;
+
+		if ((threadCount > 1) && isExportThreadSafe()) {
+			ranges = getCopyRanges(sourceTableName, threadCount);
+		}
+
+		long rowCount = 0;
+
+		if (ranges == null) {
+			rowCount = copyRows(selectSQL, null, dataSource, copyProgress);
+		}
+		else {
+			String primaryKeyColumnName = getPrimaryKeyColumnName();
+
+			selectSQL =
+				"select * from " + sourceTableName + " where " +
+					primaryKeyColumnName + " >= ? and " +
+						primaryKeyColumnName + " < ?";
+
+			Thread currentThread = Thread.currentThread();
+
+			ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+				threadCount, threadCount);
+
+			threadPoolExecutor.setThreadFactory(
+				new NamedThreadFactory(
+					Table.class.getName(), Thread.NORM_PRIORITY,
+					currentThread.getContextClassLoader()));
+
+			try {
+				List<Future<Long>> futures = new ArrayList<Future<Long>>(
+					ranges.length);
+
+				for (long[] range : ranges) {
+					futures.add(
+						threadPoolExecutor.submit(
+							new CopyRowsCallable(
+								selectSQL, range, dataSource, copyProgress)));
+				}
+
+				for (Future<Long> future : futures) {
+					rowCount += _getFuture(future);
+				}
+			}
+			finally {
+				_shutdown(threadPoolExecutor, sourceTableName);
+			}
+		}
+
+		_totalRows += rowCount;
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Finished copy of " + rowCount + " rows of " +
+					sourceTableName + " " + copyProgress.getDescription());
+		}
+	}
+
 	public String generateTempFile() throws Exception {
 		Connection con = DataAccess.getUpgradeOptimizedConnection();
 
@@ -300,6 +410,40 @@ public class Table {
 		return _order;
 	}
 
+	/**
+	 * Returns the name of the numeric column that the create SQL declares as
+	 * the primary key, or <code>null</code> if there is none.
+	 */
+	public String getPrimaryKeyColumnName() throws Exception {
+		String createSQL = getCreateSQL();
+
+		if (Validator.isNull(createSQL)) {
+			return null;
+		}
+
+		Matcher matcher = _primaryKeyPattern.matcher(createSQL);
+
+		if (!matcher.find()) {
+			return null;
+		}
+
+		String primaryKeyColumnName = matcher.group(1);
+
+		for (Object[] column : getColumns()) {
+			if (!primaryKeyColumnName.equalsIgnoreCase((String)column[0])) {
+				continue;
+			}
+
+			int type = (Integer)column[1];
+
+			if ((type == Types.BIGINT) || (type == Types.INTEGER)) {
+				return primaryKeyColumnName;
+			}
+		}
+
+		return null;
+	}
+
 	public PreparedStatement getSelectPreparedStatement(Connection con)
 		throws Exception {
 
@@ -465,27 +609,11 @@ public class Table {
 			int count = 0;
 
 			while ((line = unsyncBufferedReader.readLine()) != null) {
-				String[] values = StringUtil.split(line);
-
-				Object[][] columns = getColumns();
-
-				if (values.length != columns.length) {
-					throw new UpgradeException(
-						"Column lengths differ between temp file and schema. " +
-							"Attempted to insert row " + line + ".");
-				}
-
 				if (count == 0) {
 					ps = con.prepareStatement(insertSQL);
 				}
 
-				int[] order = getOrder();
-
-				for (int i = 0; i < order.length; i++) {
-					int pos = order[i];
-
-					setColumn(ps, i, (Integer)columns[pos][1], values[pos]);
-				}
+				setRow(ps, line);
 
 				if (databaseMetaData.supportsBatchUpdates()) {
 					ps.addBatch();
@@ -618,13 +746,319 @@ public class Table {
 		_createSQL = createSQL;
 	}
 
+	public void setRow(PreparedStatement ps, String line) throws Exception {
+		String[] values = StringUtil.split(line);
+
+		Object[][] columns = getColumns();
+
+		if (values.length != columns.length) {
+			throw new UpgradeException(
+				"Column lengths differ between temp file and schema. " +
+					"Attempted to insert row " + line + ".");
+		}
+
+		int[] order = getOrder();
+
+		for (int i = 0; i < order.length; i++) {
+			int pos = order[i];
+
+			setColumn(ps, i, (Integer)columns[pos][1], values[pos]);
+		}
+	}
+
 	public void setSelectSQL(String selectSQL) throws Exception {
 		_selectSQL = selectSQL;
 	}
 
+	protected long copyRows(
+			String selectSQL, long[] range, DataSource dataSource,
+			CopyProgress copyProgress)
+		throws Exception {
+
+		BlockingQueue<List<String>> queue =
+			new ArrayBlockingQueue<List<String>>(
+				Math.max(PropsValues.UPGRADE_TABLE_COPY_QUEUE_SIZE, 1));
+
+		FutureTask<Long> futureTask = new FutureTask<Long>(
+			new RowWriter(dataSource, queue, copyProgress));
+
+		Thread currentThread = Thread.currentThread();
+
+		NamedThreadFactory namedThreadFactory = new NamedThreadFactory(
+			Table.class.getName().concat("-writer"), Thread.NORM_PRIORITY,
+			currentThread.getContextClassLoader());
+
+		Thread thread = namedThreadFactory.newThread(futureTask);
+
+		thread.start();
+
+		Connection con = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			con = DataAccess.getUpgradeOptimizedConnection();
+
+			ps = con.prepareStatement(selectSQL);
+
+			if (range != null) {
+				ps.setLong(1, range[0]);
+				ps.setLong(2, range[1]);
+			}
+
+			DatabaseMetaData databaseMetaData = con.getMetaData();
+
+			String productName = databaseMetaData.getDatabaseProductName();
+
+			if (productName.equals("MySQL")) {
+
+				// MySQL only streams the result set with this fetch size
+
+				ps.setFetchSize(Integer.MIN_VALUE);
+			}
+			else {
+				ps.setFetchSize(_COPY_BATCH_SIZE);
+			}
+
+			rs = ps.executeQuery();
+
+			List<String> lines = new ArrayList<String>(_COPY_BATCH_SIZE);
+
+			while (rs.next()) {
+				try {
+					lines.add(getExportedData(rs));
+				}
+				catch (StagnantRowException sre) {
+					if (_log.isWarnEnabled()) {
+						_log.warn(
+							"Skipping stagnant data in " + _tableName + ": " +
+								sre.getMessage());
+					}
+
+					continue;
+				}
+
+				if (lines.size() >= _COPY_BATCH_SIZE) {
+					_putLines(queue, lines, futureTask);
+
+					lines = new ArrayList<String>(_COPY_BATCH_SIZE);
+				}
+			}
+
+			if (!lines.isEmpty()) {
+				_putLines(queue, lines, futureTask);
+			}
+
+			_putLines(queue, Collections.<String>emptyList(), futureTask);
+
+			return _getFuture(futureTask);
+		}
+		finally {
+			futureTask.cancel(true);
+
+			DataAccess.cleanUp(con, ps, rs);
+
+			_join(thread);
+		}
+	}
+
+	/**
+	 * Splits the primary key span of the source table into ranges of about
+	 * the configured number of rows each, assuming the keys are evenly spread.
+	 * At most four ranges per thread are returned, so a table with sparse keys
+	 * does not produce many nearly empty ranges.
+	 *
+	 * @return the ranges as inclusive start and exclusive end keys, or
+	 *         <code>null</code> if the table should be copied as a whole
+	 */
+	protected long[][] getCopyRanges(String sourceTableName, int threadCount)
+		throws Exception {
+
+		String primaryKeyColumnName = getPrimaryKeyColumnName();
+
+		if (primaryKeyColumnName == null) {
+			return null;
+		}
+
+		long minPrimaryKey = 0;
+		long maxPrimaryKey = 0;
+		long rowCount = 0;
+
+		Connection con = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			con = DataAccess.getUpgradeOptimizedConnection();
+
+			ps = con.prepareStatement(
+				"select min(" + primaryKeyColumnName + "), max(" +
+					primaryKeyColumnName + "), count(*) from " +
+						sourceTableName);
+
+			rs = ps.executeQuery();
+
+			if (!rs.next()) {
+				return null;
+			}
+
+			minPrimaryKey = rs.getLong(1);
+
+			if (rs.wasNull()) {
+				return null;
+			}
+
+			maxPrimaryKey = rs.getLong(2);
+			rowCount = rs.getLong(3);
+		}
+		catch (SQLException sqle) {
+
+			// The source table may not have the new primary key column
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Unable to split " + sourceTableName + " by " +
+						primaryKeyColumnName,
+					sqle);
+			}
+
+			return null;
+		}
+		finally {
+			DataAccess.cleanUp(con, ps, rs);
+		}
+
+		long rangeSize = PropsValues.UPGRADE_TABLE_COPY_RANGE_SIZE;
+
+		if ((rangeSize <= 0) || (rowCount <= rangeSize)) {
+			return null;
+		}
+
+		long rangesCount = Math.min(
+			((rowCount - 1) / rangeSize) + 1,
+			threadCount * _COPY_RANGES_PER_THREAD);
+
+		long rangeSpan = ((maxPrimaryKey - minPrimaryKey) / rangesCount) + 1;
+
+		List<long[]> ranges = new ArrayList<long[]>();
+
+		long startPrimaryKey = minPrimaryKey;
+
+		while (startPrimaryKey <= maxPrimaryKey) {
+			ranges.add(
+				new long[] {startPrimaryKey, startPrimaryKey + rangeSpan});
+
+			startPrimaryKey += rangeSpan;
+		}
+
+		return ranges.toArray(new long[ranges.size()][]);
+	}
+
+	/**
+	 * Returns <code>true</code> if a select SQL was set with {@link
+	 * #setSelectSQL(String)}.
+	 */
+	protected boolean isCustomSelectSQL() {
+		if (_selectSQL != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if {@link #getExportedData(ResultSet)} may be
+	 * called by several threads at once, which allows key ranges to be copied
+	 * in parallel.
+	 */
+	protected boolean isExportThreadSafe() {
+		return true;
+	}
+
+	private long _getFuture(Future<Long> future) throws Exception {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof Exception) {
+				throw (Exception)cause;
+			}
+
+			throw ee;
+		}
+	}
+
+	private void _join(Thread thread) {
+		boolean interrupted = false;
+
+		while (true) {
+			try {
+				thread.join();
+
+				break;
+			}
+			catch (InterruptedException ie) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+	}
+
+	private void _putLines(
+			BlockingQueue<List<String>> queue, List<String> lines,
+			Future<Long> future)
+		throws Exception {
+
+		while (!queue.offer(lines, 1, TimeUnit.SECONDS)) {
+			if (future.isDone()) {
+				_getFuture(future);
+
+				throw new UpgradeException(
+					"Row writer stopped before all rows were copied");
+			}
+		}
+	}
+
+	private void _shutdown(
+		ThreadPoolExecutor threadPoolExecutor, String sourceTableName) {
+
+		threadPoolExecutor.shutdownNow();
+
+		// Wait for the remaining ranges so that none of them still reads or
+		// inserts rows once the copy has failed
+
+		try {
+			while (!threadPoolExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Waiting for the copy of " + sourceTableName +
+							" to stop");
+				}
+			}
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+	}
+
 	private static final int _BATCH_SIZE = GetterUtil.getInteger(
 		PropsUtil.get("hibernate.jdbc.batch_size"));
 
+	private static final int _COPY_BATCH_SIZE = Math.max(_BATCH_SIZE, 100);
+
+	private static final long _COPY_PROGRESS_INTERVAL = 10000;
+
+	private static final int _COPY_RANGES_PER_THREAD = 4;
+
 	private static final String[][] _SAFE_TABLE_CHARS = {
 		{StringPool.COMMA, StringPool.NEW_LINE, StringPool.RETURN},
 		{
@@ -645,6 +1079,11 @@ public class Table {
 
 	private static Log _log = LogFactoryUtil.getLog(Table.class);
 
+	private static Pattern _primaryKeyPattern = Pattern.compile(
+		"[(,]\\s*(\\w+)\\s+(?:bigint|int|integer|long)\\s+" +
+			"not\\s+null\\s+primary\\s+key",
+		Pattern.CASE_INSENSITIVE);
+
 	private Object[][] _columns;
 	private String _createSQL;
 	private int[] _order;
@@ -652,4 +1091,142 @@ public class Table {
 	private String _tableName;
 	private long _totalRows;
 
-}
\ No newline at end of file
+	protected static class CopyProgress {
+
+		public CopyProgress(String tableName) {
+			_tableName = tableName;
+		}
+
+		public void add(int rowCount) {
+			long totalRowCount = _rowCount.addAndGet(rowCount);
+
+			if (!_log.isInfoEnabled()) {
+				return;
+			}
+
+			long lastLogTime = _lastLogTime.get();
+
+			long time = System.currentTimeMillis();
+
+			if (((time - lastLogTime) >= _COPY_PROGRESS_INTERVAL) &&
+				_lastLogTime.compareAndSet(lastLogTime, time)) {
+
+				_log.info(
+					"Copied " + totalRowCount + " rows of " + _tableName +
+						" " + getDescription());
+			}
+		}
+
+		public String getDescription() {
+			long time = Math.max(System.currentTimeMillis() - _startTime, 1);
+
+			long rowsPerSecond = (_rowCount.get() * Time.SECOND) / time;
+
+			return "in " + time + " ms at " + rowsPerSecond +
+				" rows per second";
+		}
+
+		private final AtomicLong _lastLogTime = new AtomicLong(
+			System.currentTimeMillis());
+		private final AtomicLong _rowCount = new AtomicLong();
+		private final long _startTime = System.currentTimeMillis();
+		private final String _tableName;
+
+	}
+
+	private class CopyRowsCallable implements Callable<Long> {
+
+		public CopyRowsCallable(
+			String selectSQL, long[] range, DataSource dataSource,
+			CopyProgress copyProgress) {
+
+			_selectSQL = selectSQL;
+			_range = range;
+			_dataSource = dataSource;
+			_copyProgress = copyProgress;
+		}
+
+		public Long call() throws Exception {
+			return copyRows(_selectSQL, _range, _dataSource, _copyProgress);
+		}
+
+		private final CopyProgress _copyProgress;
+		private final DataSource _dataSource;
+		private final long[] _range;
+		private final String _selectSQL;
+
+	}
+
+	private class RowWriter implements Callable<Long> {
+
+		public RowWriter(
+			DataSource dataSource, BlockingQueue<List<String>> queue,
+			CopyProgress copyProgress) {
+
+			_dataSource = dataSource;
+			_queue = queue;
+			_copyProgress = copyProgress;
+		}
+
+		public Long call() throws Exception {
+			long rowCount = 0;
+
+			Connection con = null;
+			PreparedStatement ps = null;
+
+			try {
+				if (_dataSource == null) {
+					con = DataAccess.getUpgradeOptimizedConnection();
+				}
+				else {
+					con = _dataSource.getConnection();
+				}
+
+				DatabaseMetaData databaseMetaData = con.getMetaData();
+
+				boolean supportsBatchUpdates =
+					databaseMetaData.supportsBatchUpdates();
+
+				ps = con.prepareStatement(getInsertSQL());
+
+				while (true) {
+					List<String> lines = _queue.take();
+
+					if (lines.isEmpty()) {
+						break;
+					}
+
+					for (String line : lines) {
+						setRow(ps, line);
+
+						if (supportsBatchUpdates) {
+							ps.addBatch();
+						}
+						else {
+							ps.executeUpdate();
+						}
+					}
+
+					if (supportsBatchUpdates) {
+						ps.executeBatch();
+					}
+
+					rowCount += lines.size();
+
+					_copyProgress.add(lines.size());
+				}
+			}
+			finally {
+				DataAccess.cleanUp(con, ps);
+			}
+
+			return rowCount;
+		}
+
+		private final CopyProgress _copyProgress;
+		private final DataSource _dataSource;
+		private final BlockingQueue<List<String>> _queue;
+
+	}
+
+}
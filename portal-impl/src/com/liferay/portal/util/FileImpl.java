@@ -24,6 +24,7 @@ import com.liferay.portal.kernel.process.ClassPathUtil;
 import com.liferay.portal.kernel.process.ProcessCallable;
 import com.liferay.portal.kernel.process.ProcessException;
 import com.liferay.portal.kernel.process.ProcessExecutor;
+import com.liferay.portal.kernel.process.WorkerProcessExecutor;
 import com.liferay.portal.kernel.security.pacl.DoPrivileged;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.CharPool;
@@ -57,6 +58,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -317,9 +319,20 @@ public class FileImpl implements com.liferay.portal.kernel.util.File {
 			}
 
 			if (forkProcess) {
-				Future<String> future = ProcessExecutor.execute(
-					ClassPathUtil.getPortalClassPath(),
-					new ExtractTextProcessCallable(getBytes(is)));
+				Future<String> future = null;
+
+				if (PropsValues.TEXT_EXTRACTION_FORK_PROCESS_WORKER_ENABLED) {
+					future = WorkerProcessExecutor.execute(
+						ClassPathUtil.getPortalClassPath(),
+						new ExtractTextProcessCallable(getBytes(is)),
+						PropsValues.TEXT_EXTRACTION_FORK_PROCESS_WORKER_TIMEOUT,
+						TimeUnit.MILLISECONDS);
+				}
+				else {
+					future = ProcessExecutor.execute(
+						ClassPathUtil.getPortalClassPath(),
+						new ExtractTextProcessCallable(getBytes(is)));
+				}
 
 				text = future.get();
 			}
@@ -82,6 +82,10 @@ public class PropsValues {
 
 	public static final int ASSET_CATEGORIES_SELECTOR_MAX_ENTRIES = GetterUtil.getInteger(PropsUtil.get(PropsKeys.ASSET_CATEGORIES_SELECTOR_MAX_ENTRIES));
 
+	public static final boolean ASSET_ENTRY_BITMAP_INDEX_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.ASSET_ENTRY_BITMAP_INDEX_ENABLED));
+
+	public static final int ASSET_ENTRY_BITMAP_INDEX_MAX_ENTRY_IDS = GetterUtil.getInteger(PropsUtil.get(PropsKeys.ASSET_ENTRY_BITMAP_INDEX_MAX_ENTRY_IDS));
+
 	public static final boolean ASSET_ENTRY_BUFFERED_INCREMENT_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.BUFFERED_INCREMENT_ENABLED, new Filter("AssetEntry")));
 
 	public static final String ASSET_ENTRY_VALIDATOR = PropsUtil.get(PropsKeys.ASSET_ENTRY_VALIDATOR);
@@ -386,8 +390,18 @@ public class PropsValues {
 
 	public static String[] CONVERT_PROCESSES = PropsUtil.getArray(PropsKeys.CONVERT_PROCESSES);
 
+	public static final boolean COUNTER_ADAPTIVE_INCREMENT_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_ENABLED));
+
+	public static final long COUNTER_ADAPTIVE_INCREMENT_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_INTERVAL));
+
+	public static final int COUNTER_ADAPTIVE_INCREMENT_MAX = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_MAX));
+
 	public static final int COUNTER_INCREMENT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_INCREMENT));
 
+	public static final boolean COUNTER_PREFETCH_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.COUNTER_PREFETCH_ENABLED));
+
+	public static final int COUNTER_PREFETCH_THRESHOLD = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_PREFETCH_THRESHOLD));
+
 	public static final String CUSTOM_SQL_FUNCTION_ISNOTNULL = PropsUtil.get(PropsKeys.CUSTOM_SQL_FUNCTION_ISNOTNULL);
 
 	public static final String CUSTOM_SQL_FUNCTION_ISNULL = PropsUtil.get(PropsKeys.CUSTOM_SQL_FUNCTION_ISNULL);
@@ -604,6 +618,8 @@ public class PropsValues {
 
 	public static final String DL_STORE_CMIS_SYSTEM_ROOT_DIR = PropsUtil.get(PropsKeys.DL_STORE_CMIS_SYSTEM_ROOT_DIR);
 
+	public static final int DL_STORE_DB_CHUNK_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.DL_STORE_DB_CHUNK_SIZE));
+
 	public static final String DL_STORE_FILE_SYSTEM_ROOT_DIR = PropsUtil.get(PropsKeys.DL_STORE_FILE_SYSTEM_ROOT_DIR);
 
 	public static String DL_STORE_IMPL = PropsUtil.get(PropsKeys.DL_STORE_IMPL);
@@ -644,8 +660,20 @@ public class PropsValues {
 
 	public static final String EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY = PropsUtil.get(PropsKeys.EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY);
 
+	public static final boolean EHCACHE_CLUSTER_LINK_BATCH_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_BATCH_ENABLED));
+
+	public static final long EHCACHE_CLUSTER_LINK_BATCH_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_BATCH_INTERVAL));
+
+	public static final int EHCACHE_CLUSTER_LINK_BATCH_REMOVE_ALL_THRESHOLD = GetterUtil.getInteger(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_BATCH_REMOVE_ALL_THRESHOLD));
+
+	public static final int EHCACHE_CLUSTER_LINK_BATCH_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_BATCH_SIZE));
+
 	public static final boolean EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED));
 
+	public static final int EHCACHE_OFF_HEAP_BLOCK_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.EHCACHE_OFF_HEAP_BLOCK_SIZE));
+
+	public static final int EHCACHE_OFF_HEAP_SLAB_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.EHCACHE_OFF_HEAP_SLAB_SIZE));
+
 	public static final boolean EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED));
 
 	public static final boolean EHCACHE_STATISTICS_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_STATISTICS_ENABLED));
@@ -732,6 +760,8 @@ public class PropsValues {
 
 	public static final boolean INDEX_DUMP_COMPRESSION_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_DUMP_COMPRESSION_ENABLED));
 
+	public static final boolean INDEX_DUMP_DELTA_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_DUMP_DELTA_ENABLED));
+
 	public static boolean INDEX_ON_STARTUP = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_ON_STARTUP));
 
 	public static final int INDEX_ON_STARTUP_DELAY = GetterUtil.getInteger(PropsUtil.get(PropsKeys.INDEX_ON_STARTUP_DELAY));
@@ -874,6 +904,10 @@ public class PropsValues {
 
 	public static final boolean LAYOUT_PARALLEL_RENDER_ENABLE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_ENABLE));
 
+	public static final boolean LAYOUT_PARALLEL_RENDER_LATE_ENABLE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_LATE_ENABLE));
+
+	public static final int LAYOUT_PARALLEL_RENDER_LATE_TIMEOUT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_LATE_TIMEOUT));
+
 	public static final boolean LAYOUT_PARALLEL_RENDER_THREAD_POOL_ALLOW_CORE_THREAD_TIMEOUT = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_THREAD_POOL_ALLOW_CORE_THREAD_TIMEOUT));
 
 	public static final int LAYOUT_PARALLEL_RENDER_THREAD_POOL_CORE_THREAD_COUNT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_THREAD_POOL_CORE_THREAD_COUNT));
@@ -1002,6 +1036,8 @@ public class PropsValues {
 
 	public static final int LUCENE_BUFFER_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LUCENE_BUFFER_SIZE));
 
+	public static final int LUCENE_BUFFER_SIZE_REINDEX = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LUCENE_BUFFER_SIZE_REINDEX));
+
 	public static final long LUCENE_CLUSTER_INDEX_LOADING_SYNC_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.LUCENE_CLUSTER_INDEX_LOADING_SYNC_TIMEOUT));
 
 	public static final int LUCENE_COMMIT_BATCH_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LUCENE_COMMIT_BATCH_SIZE));
@@ -1018,8 +1054,12 @@ public class PropsValues {
 
 	public static String LUCENE_MERGE_POLICY = PropsUtil.get(PropsKeys.LUCENE_MERGE_POLICY);
 
+	public static final long LUCENE_REINDEX_SEARCH_WRITER_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.LUCENE_REINDEX_SEARCH_WRITER_TIMEOUT));
+
 	public static final boolean LUCENE_REPLICATE_WRITE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LUCENE_REPLICATE_WRITE));
 
+	public static final long LUCENE_SEARCHER_MAX_STALENESS = GetterUtil.getLong(PropsUtil.get(PropsKeys.LUCENE_SEARCHER_MAX_STALENESS));
+
 	public static final String LUCENE_STORE_TYPE = PropsUtil.get(PropsKeys.LUCENE_STORE_TYPE);
 
 	public static final boolean LUCENE_STORE_TYPE_FILE_FORCE_MMAP = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LUCENE_STORE_TYPE_FILE_FORCE_MMAP));
@@ -1160,6 +1200,8 @@ public class PropsValues {
 
 	public static final boolean MONITORING_DATA_SAMPLE_THREAD_LOCAL = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MONITORING_DATA_SAMPLE_THREAD_LOCAL));
 
+	public static boolean MONITORING_INDEX_WRITER = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MONITORING_INDEX_WRITER));
+
 	public static boolean MONITORING_PORTAL_REQUEST = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MONITORING_PORTAL_REQUEST));
 
 	public static boolean MONITORING_PORTLET_ACTION_REQUEST = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MONITORING_PORTLET_ACTION_REQUEST));
@@ -1170,6 +1212,8 @@ public class PropsValues {
 
 	public static boolean MONITORING_PORTLET_RESOURCE_REQUEST = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MONITORING_PORTLET_RESOURCE_REQUEST));
 
+	public static boolean MONITORING_SEARCH_REQUEST = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MONITORING_SEARCH_REQUEST));
+
 	public static final boolean MONITORING_SHOW_PER_REQUEST_DATA_SAMPLE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MONITORING_SHOW_PER_REQUEST_DATA_SAMPLE));
 
 	public static final String[] MY_SITES_DIRECTORY_SITE_EXCLUDES = PropsUtil.getArray(PropsKeys.MY_SITES_DIRECTORY_SITE_EXCLUDES);
@@ -1620,6 +1664,12 @@ public class PropsValues {
 
 	public static final int[] SOCIAL_ACTIVITY_CONTRIBUTION_LIMIT_VALUES = GetterUtil.getIntegerValues(PropsUtil.getArray(PropsKeys.SOCIAL_ACTIVITY_CONTRIBUTION_LIMIT_VALUES));
 
+	public static final int SOCIAL_ACTIVITY_COUNTER_BUFFER_BATCH_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.SOCIAL_ACTIVITY_COUNTER_BUFFER_BATCH_SIZE));
+
+	public static final boolean SOCIAL_ACTIVITY_COUNTER_BUFFER_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.SOCIAL_ACTIVITY_COUNTER_BUFFER_ENABLED));
+
+	public static final long SOCIAL_ACTIVITY_COUNTER_BUFFER_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.SOCIAL_ACTIVITY_COUNTER_BUFFER_INTERVAL));
+
 	public static final long SOCIAL_ACTIVITY_COUNTER_LOCK_RETRY_DELAY = GetterUtil.getLong(PropsUtil.get(PropsKeys.SOCIAL_ACTIVITY_COUNTER_LOCK_RETRY_DELAY));
 
 	public static final long SOCIAL_ACTIVITY_COUNTER_LOCK_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.SOCIAL_ACTIVITY_COUNTER_LOCK_TIMEOUT));
@@ -1660,6 +1710,8 @@ public class PropsValues {
 
 	public static String[] STRIP_MIME_TYPES = PropsUtil.getArray(PropsKeys.STRIP_MIME_TYPES);
 
+	public static final int STRIP_WINDOW_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.STRIP_WINDOW_SIZE));
+
 	public static final String STRUTS_PORTLET_REQUEST_PROCESSOR = PropsUtil.get(PropsKeys.STRUTS_PORTLET_REQUEST_PROCESSOR);
 
 	public static final boolean TAGS_COMPILER_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.TAGS_COMPILER_ENABLED));
@@ -1676,8 +1728,18 @@ public class PropsValues {
 
 	public static final String[] TEXT_EXTRACTION_FORK_PROCESS_MIME_TYPES = PropsUtil.getArray(PropsKeys.TEXT_EXTRACTION_FORK_PROCESS_MIME_TYPES);
 
+	public static final boolean TEXT_EXTRACTION_FORK_PROCESS_WORKER_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.TEXT_EXTRACTION_FORK_PROCESS_WORKER_ENABLED));
+
+	public static final long TEXT_EXTRACTION_FORK_PROCESS_WORKER_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.TEXT_EXTRACTION_FORK_PROCESS_WORKER_TIMEOUT));
+
 	public static boolean THEME_CSS_FAST_LOAD = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.THEME_CSS_FAST_LOAD));
 
+	public static final boolean THEME_CSS_PRECOMPILE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.THEME_CSS_PRECOMPILE_ENABLED));
+
+	public static final String THEME_CSS_STORE_FILE_SYSTEM_ROOT_DIR = PropsUtil.get(PropsKeys.THEME_CSS_STORE_FILE_SYSTEM_ROOT_DIR);
+
+	public static final String THEME_CSS_STORE_IMPL = PropsUtil.get(PropsKeys.THEME_CSS_STORE_IMPL);
+
 	public static boolean THEME_IMAGES_FAST_LOAD = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.THEME_IMAGES_FAST_LOAD));
 
 	public static boolean THEME_JSP_OVERRIDE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.THEME_JSP_OVERRIDE_ENABLED));
@@ -1718,6 +1780,16 @@ public class PropsValues {
 
 	public static final boolean UPGRADE_DATABASE_TRANSACTIONS_DISABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.UPGRADE_DATABASE_TRANSACTIONS_DISABLED));
 
+	public static final boolean UPGRADE_TABLE_COPY_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.UPGRADE_TABLE_COPY_ENABLED));
+
+	public static final int UPGRADE_TABLE_COPY_QUEUE_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.UPGRADE_TABLE_COPY_QUEUE_SIZE));
+
+	public static final long UPGRADE_TABLE_COPY_RANGE_SIZE = GetterUtil.getLong(PropsUtil.get(PropsKeys.UPGRADE_TABLE_COPY_RANGE_SIZE));
+
+	public static final int UPGRADE_TABLE_COPY_TABLE_THREAD_COUNT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.UPGRADE_TABLE_COPY_TABLE_THREAD_COUNT));
+
+	public static final int UPGRADE_TABLE_COPY_THREAD_COUNT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.UPGRADE_TABLE_COPY_THREAD_COUNT));
+
 	public static boolean USER_GROUPS_COPY_LAYOUTS_TO_USER_PERSONAL_SITE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.USER_GROUPS_COPY_LAYOUTS_TO_USER_PERSONAL_SITE));
 
 	public static final boolean USER_GROUPS_INDEXER_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.USER_GROUPS_INDEXER_ENABLED));
@@ -52,8 +52,6 @@ public class WebKeys implements com.liferay.portal.kernel.util.WebKeys {
 
 	public static final String BOOKMARKS_FOLDER = "BOOKMARKS_FOLDER";
 
-	public static final String CACHE_PORTLET_RESPONSES = "CACHE_PORTLET_RESPONSES";
-
 	public static final String CALENDAR_EVENT = "CALENDAR_EVENT";
 
 	public static final String CAPTCHA_COUNT = "CAPTCHA_COUNT";
@@ -314,6 +312,8 @@ public class WebKeys implements com.liferay.portal.kernel.util.WebKeys {
 
 	public static final String OUTER_PORTLET_ID = "OUTER_PORTLET_ID";
 
+	public static final String PARALLEL_RENDERING_LATE_PORTLETS = "PARALLEL_RENDERING_LATE_PORTLETS";
+
 	public static final String PASSWORD_POLICY = "PASSWORD_POLICY";
 
 	public static final String PHONE = "PHONE";
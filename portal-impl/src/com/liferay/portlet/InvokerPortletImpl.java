@@ -14,7 +14,6 @@
 
 package com.liferay.portlet;
 
-import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.portlet.LiferayPortletConfig;
@@ -28,18 +27,16 @@ import com.liferay.portal.kernel.servlet.PortletServlet;
 import com.liferay.portal.kernel.util.ClassUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.JavaConstants;
-import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Time;
-import com.liferay.portal.model.Layout;
 import com.liferay.portal.model.PortletApp;
 import com.liferay.portal.model.PortletConstants;
 import com.liferay.portal.model.impl.PortletFilterImpl;
+import com.liferay.portal.security.auth.AuthTokenThreadLocal;
 import com.liferay.portal.tools.deploy.PortletDeployer;
 import com.liferay.portal.util.ClassLoaderUtil;
 import com.liferay.portal.util.PropsValues;
-import com.liferay.portal.util.WebKeys;
 
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -49,7 +46,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.portlet.ActionRequest;
 import javax.portlet.ActionResponse;
@@ -60,7 +56,6 @@ import javax.portlet.PortletConfig;
 import javax.portlet.PortletContext;
 import javax.portlet.PortletException;
 import javax.portlet.PortletRequest;
-import javax.portlet.PortletSession;
 import javax.portlet.RenderRequest;
 import javax.portlet.RenderResponse;
 import javax.portlet.ResourceRequest;
@@ -77,7 +72,6 @@ import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 
 import org.apache.commons.lang.time.StopWatch;
 
@@ -88,59 +82,6 @@ import org.apache.commons.lang.time.StopWatch;
  */
 public class InvokerPortletImpl implements InvokerPortlet {
 
-	public static void clearResponse(
-		HttpSession session, long plid, String portletId, String languageId) {
-
-		String sesResponseId = encodeResponseKey(plid, portletId, languageId);
-
-		getResponses(session).remove(sesResponseId);
-	}
-
-	public static void clearResponses(HttpSession session) {
-		getResponses(session).clear();
-	}
-
-	public static void clearResponses(PortletSession session) {
-		getResponses(session).clear();
-	}
-
-	public static String encodeResponseKey(
-		long plid, String portletId, String languageId) {
-
-		StringBundler sb = new StringBundler(5);
-
-		sb.append(StringUtil.toHexString(plid));
-		sb.append(StringPool.UNDERLINE);
-		sb.append(portletId);
-		sb.append(StringPool.UNDERLINE);
-		sb.append(languageId);
-
-		return sb.toString();
-	}
-
-	public static Map<String, InvokerPortletResponse> getResponses(
-		HttpSession session) {
-
-		Map<String, InvokerPortletResponse> responses =
-			(Map<String, InvokerPortletResponse>)session.getAttribute(
-				WebKeys.CACHE_PORTLET_RESPONSES);
-
-		if (responses == null) {
-			responses = new ConcurrentHashMap<String, InvokerPortletResponse>();
-
-			session.setAttribute(WebKeys.CACHE_PORTLET_RESPONSES, responses);
-		}
-
-		return responses;
-	}
-
-	public static Map<String, InvokerPortletResponse> getResponses(
-		PortletSession portletSession) {
-
-		return getResponses(
-			((PortletSessionImpl)portletSession).getHttpSession());
-	}
-
 	public InvokerPortletImpl(
 			com.liferay.portal.model.Portlet portletModel, Portlet portlet,
 			PortletConfig portletConfig, PortletContext portletContext,
@@ -360,11 +301,15 @@ public class InvokerPortletImpl implements InvokerPortlet {
 			stopWatch.start();
 		}
 
-		String remoteUser = renderRequest.getRemoteUser();
+		String fragmentCacheKey = null;
 
-		if ((remoteUser == null) || (_expCache == null) ||
-			(_expCache.intValue() == 0)) {
+		if ((_expCache != null) && (_expCache.intValue() != 0)) {
+			fragmentCacheKey = PortletFragmentCacheUtil.getKey(
+				(RenderRequestImpl)renderRequest, _portletId,
+				_fragmentCachePublicScope, _fragmentCacheVaryByParameterNames);
+		}
 
+		if (fragmentCacheKey == null) {
 			invokeRender(renderRequest, renderResponse);
 		}
 		else {
@@ -375,37 +320,45 @@ public class InvokerPortletImpl implements InvokerPortlet {
 				(BufferCacheServletResponse)
 					renderResponseImpl.getHttpServletResponse();
 
-			PortletSession portletSession = renderRequest.getPortletSession();
+			InvokerPortletResponse response =
+				PortletFragmentCacheUtil.getResponse(
+					_portletId, fragmentCacheKey);
 
-			long now = System.currentTimeMillis();
+			if (response == null) {
+				boolean tokenRequested =
+					AuthTokenThreadLocal.isTokenRequested();
 
-			Layout layout = (Layout)renderRequest.getAttribute(WebKeys.LAYOUT);
+				AuthTokenThreadLocal.setTokenRequested(false);
 
-			Map<String, InvokerPortletResponse> sessionResponses = getResponses(
-				portletSession);
+				try {
+					String title = invokeRender(renderRequest, renderResponse);
 
-			String sessionResponseId = encodeResponseKey(
-				layout.getPlid(), _portletId,
-				LanguageUtil.getLanguageId(renderRequest));
+					int expCache = _expCache.intValue();
 
-			InvokerPortletResponse response = sessionResponses.get(
-				sessionResponseId);
+					long time = Long.MAX_VALUE;
 
-			if (response == null) {
-				String title = invokeRender(renderRequest, renderResponse);
+					if (expCache > 0) {
+						time =
+							System.currentTimeMillis() +
+								Time.SECOND * expCache;
+					}
 
-				response = new InvokerPortletResponse(
-					title, bufferCacheServletResponse.getString(),
-					now + Time.SECOND * _expCache.intValue());
+					response = new InvokerPortletResponse(
+						title, bufferCacheServletResponse.getString(), time);
 
-				sessionResponses.put(sessionResponseId, response);
-			}
-			else if ((response.getTime() < now) && (_expCache.intValue() > 0)) {
-				String title = invokeRender(renderRequest, renderResponse);
+					PortletFragmentCacheUtil.putResponse(
+						fragmentCacheKey, response, expCache);
+				}
+				finally {
+
+					// Restore the flag of an enclosing render. A token asked
+					// for here stays flagged, since the enclosing fragment
+					// includes this one.
 
-				response.setTitle(title);
-				response.setContent(bufferCacheServletResponse.getString());
-				response.setTime(now + Time.SECOND * _expCache.intValue());
+					if (tokenRequested) {
+						AuthTokenThreadLocal.setTokenRequested(true);
+					}
+				}
 			}
 			else {
 				renderResponseImpl.setTitle(response.getTitle());
@@ -715,6 +668,17 @@ public class InvokerPortletImpl implements InvokerPortlet {
 		_strutsPortlet = strutsPortlet;
 		_strutsBridgePortlet = strutsBridgePortlet;
 		_expCache = portletModel.getExpCache();
+
+		Map<String, String> initParams = portletModel.getInitParams();
+
+		String fragmentCacheScope = GetterUtil.getString(
+			initParams.get("fragment-cache-scope"));
+
+		_fragmentCachePublicScope = fragmentCacheScope.equalsIgnoreCase(
+			"public");
+		_fragmentCacheVaryByParameterNames = StringUtil.split(
+			initParams.get("fragment-cache-vary-by"));
+
 		setPortletFilters();
 
 		if (_log.isDebugEnabled()) {
@@ -731,6 +695,8 @@ public class InvokerPortletImpl implements InvokerPortlet {
 	private List<EventFilter> _eventFilters = new ArrayList<EventFilter>();
 	private Integer _expCache;
 	private boolean _facesPortlet;
+	private boolean _fragmentCachePublicScope;
+	private String[] _fragmentCacheVaryByParameterNames;
 	private LiferayPortletConfig _liferayPortletConfig;
 	private LiferayPortletContext _liferayPortletContext;
 	private Portlet _portlet;
@@ -16,7 +16,6 @@ package com.liferay.portlet;
 
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
-import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.portlet.ActionResult;
@@ -90,7 +89,6 @@ import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 
 /**
  * @author Shuyang Zhou
@@ -339,12 +337,9 @@ public class PortletContainerImpl implements PortletContainer {
 		themeDisplay.setScopeGroupId(scopeGroupId);
 		themeDisplay.setSiteGroupId(siteGroupId);
 
-		if (user != null) {
-			HttpSession session = request.getSession();
-
-			InvokerPortletImpl.clearResponse(
-				session, layout.getPrimaryKey(), portlet.getPortletId(),
-				LanguageUtil.getLanguageId(request));
+		if (themeDisplay.isLifecycleAction()) {
+			PortletFragmentCacheUtil.clearCache(
+				layout.getPlid(), portlet.getPortletId());
 		}
 
 		processPublicRenderParameters(request, layout, portlet);
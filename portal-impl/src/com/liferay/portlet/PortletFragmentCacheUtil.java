@@ -0,0 +1,358 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.language.LanguageUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.PortletConstants;
+import com.liferay.portal.security.auth.AuthTokenThreadLocal;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portal.util.WebKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches rendered portlet fragments across users in the multi VM pool.
+ *
+ * <p>
+ * A fragment key holds the portlet id, the plid, the preferences owner, the
+ * language, the window state, the portlet mode and the values of the render
+ * parameters, or only of the vary by parameters if the portlet declares them.
+ * Fragments of private scope portlets are further keyed by user, while
+ * fragments of public scope portlets are keyed by the user's role ids in the
+ * scope group, so that users with the same roles share one copy.
+ * </p>
+ *
+ * <p>
+ * Invalidating a site, a portlet or a user removes its version, so every
+ * fragment keyed by the old version is never read again and ages out of the
+ * cache.
+ * </p>
+ *
+ * <p>
+ * Fragments that contain a session's authentication token are not cached.
+ * </p>
+ *
+ * @author agent
+ */
+public class PortletFragmentCacheUtil {
+
+	public static final String CACHE_NAME =
+		PortletFragmentCacheUtil.class.getName();
+
+	public static void clearCache() {
+		_portalCache.removeAll();
+		_versionPortalCache.removeAll();
+	}
+
+	public static void clearCache(long plid, String portletId) {
+		_versionPortalCache.remove(_encodePortletVersionKey(plid, portletId));
+	}
+
+	public static void clearGroupCache(long groupId) {
+		_versionPortalCache.remove(_encodeGroupVersionKey(groupId));
+	}
+
+	public static void clearUserCache(long userId) {
+		_versionPortalCache.remove(_encodeUserVersionKey(userId));
+	}
+
+	public static long getHitCount(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		return statistics._hitCounter.get();
+	}
+
+	public static String getKey(
+		RenderRequestImpl renderRequestImpl, String portletId,
+		boolean publicScope, String[] varyByParameterNames) {
+
+		ThemeDisplay themeDisplay =
+			(ThemeDisplay)renderRequestImpl.getAttribute(
+				WebKeys.THEME_DISPLAY);
+
+		if (!publicScope && !themeDisplay.isSignedIn()) {
+			return null;
+		}
+
+		Layout layout = (Layout)renderRequestImpl.getAttribute(WebKeys.LAYOUT);
+
+		long plid = layout.getPlid();
+
+		Map<String, String[]> parameterMap =
+			renderRequestImpl.getParameterMap();
+
+		// Without a declared list, every private and public render parameter
+		// is part of the key so that render URLs never serve another view
+
+		List<String> parameterNames = null;
+
+		if (varyByParameterNames.length > 0) {
+			parameterNames = Arrays.asList(varyByParameterNames);
+		}
+		else {
+			parameterNames = new ArrayList<String>(parameterMap.keySet());
+
+			Collections.sort(parameterNames);
+		}
+
+		StringBundler sb = new StringBundler(20 + parameterNames.size() * 6);
+
+		sb.append(portletId);
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.toHexString(plid));
+		sb.append(StringPool.POUND);
+		sb.append(
+			StringUtil.toHexString(
+				_getVersion(_encodeGroupVersionKey(layout.getGroupId()))));
+		sb.append(StringPool.UNDERLINE);
+		sb.append(
+			StringUtil.toHexString(
+				_getVersion(_encodePortletVersionKey(plid, portletId))));
+		sb.append(StringPool.POUND);
+
+		PortletPreferencesImpl portletPreferencesImpl =
+			renderRequestImpl.getPreferencesImpl();
+
+		sb.append(portletPreferencesImpl.getOwnerType());
+		sb.append(StringPool.UNDERLINE);
+		sb.append(StringUtil.toHexString(portletPreferencesImpl.getOwnerId()));
+		sb.append(StringPool.POUND);
+
+		sb.append(LanguageUtil.getLanguageId(renderRequestImpl));
+		sb.append(StringPool.POUND);
+		sb.append(renderRequestImpl.getWindowState());
+		sb.append(StringPool.POUND);
+		sb.append(renderRequestImpl.getPortletMode());
+		sb.append(StringPool.POUND);
+
+		if (publicScope) {
+			sb.append(_getRoleFingerprint(themeDisplay));
+		}
+		else {
+			long userId = themeDisplay.getUserId();
+
+			sb.append(StringUtil.toHexString(userId));
+			sb.append(StringPool.UNDERLINE);
+			sb.append(
+				StringUtil.toHexString(
+					_getVersion(_encodeUserVersionKey(userId))));
+		}
+
+		for (String parameterName : parameterNames) {
+			sb.append(StringPool.POUND);
+			sb.append(parameterName);
+			sb.append(StringPool.EQUAL);
+
+			String[] values = parameterMap.get(parameterName);
+
+			if (values == null) {
+				continue;
+			}
+
+			for (String value : values) {
+
+				// Prefix each value with its length so that no value can
+				// impersonate the rest of the key
+
+				sb.append(value.length());
+				sb.append(StringPool.COLON);
+				sb.append(value);
+			}
+		}
+
+		return sb.toString();
+	}
+
+	public static long getMissCount(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		return statistics._missCounter.get();
+	}
+
+	public static List<String> getPortletIds() {
+		List<String> portletIds = new ArrayList<String>(
+			_statisticsMap.keySet());
+
+		Collections.sort(portletIds);
+
+		return portletIds;
+	}
+
+	public static InvokerPortletResponse getResponse(
+		String portletId, String key) {
+
+		InvokerPortletResponse invokerPortletResponse = _portalCache.get(key);
+
+		if ((invokerPortletResponse != null) &&
+			(invokerPortletResponse.getTime() < System.currentTimeMillis())) {
+
+			invokerPortletResponse = null;
+		}
+
+		Statistics statistics = _getStatistics(portletId);
+
+		if (invokerPortletResponse == null) {
+			statistics._missCounter.incrementAndGet();
+		}
+		else {
+			statistics._hitCounter.incrementAndGet();
+		}
+
+		return invokerPortletResponse;
+	}
+
+	/**
+	 * Caches the fragment unless its render asked for the session's
+	 * authentication token, for example to render an action URL. Such a
+	 * fragment would hand the token to other sessions, where it fails the
+	 * token check or is reused for cross site request forgery.
+	 */
+	public static void putResponse(
+		String key, InvokerPortletResponse invokerPortletResponse,
+		int expCache) {
+
+		if (AuthTokenThreadLocal.isTokenRequested()) {
+			return;
+		}
+
+		if (expCache > 0) {
+			_portalCache.put(key, invokerPortletResponse, expCache);
+		}
+		else {
+			_portalCache.put(key, invokerPortletResponse);
+		}
+	}
+
+	public static void resetStatistics() {
+		_statisticsMap.clear();
+	}
+
+	private static String _encodeGroupVersionKey(long groupId) {
+		return _GROUP_VERSION_KEY_PREFIX.concat(
+			StringUtil.toHexString(groupId));
+	}
+
+	private static String _encodePortletVersionKey(
+		long plid, String portletId) {
+
+		StringBundler sb = new StringBundler(3);
+
+		sb.append(StringUtil.toHexString(plid));
+		sb.append(StringPool.UNDERLINE);
+		sb.append(portletId);
+
+		return sb.toString();
+	}
+
+	private static String _encodeUserVersionKey(long userId) {
+		return _USER_VERSION_KEY_PREFIX.concat(StringUtil.toHexString(userId));
+	}
+
+	private static String _getRoleFingerprint(ThemeDisplay themeDisplay) {
+		PermissionChecker permissionChecker =
+			themeDisplay.getPermissionChecker();
+
+		long[] roleIds = permissionChecker.getRoleIds(
+			themeDisplay.getUserId(), themeDisplay.getScopeGroupId());
+
+		roleIds = roleIds.clone();
+
+		Arrays.sort(roleIds);
+
+		StringBundler sb = new StringBundler(roleIds.length * 2 + 1);
+
+		sb.append(StringUtil.toHexString(themeDisplay.getScopeGroupId()));
+
+		for (long roleId : roleIds) {
+			sb.append(StringPool.COMMA);
+			sb.append(StringUtil.toHexString(roleId));
+		}
+
+		return sb.toString();
+	}
+
+	private static Statistics _getStatistics(String portletId) {
+		String rootPortletId = PortletConstants.getRootPortletId(portletId);
+
+		Statistics statistics = _statisticsMap.get(rootPortletId);
+
+		if (statistics == null) {
+			statistics = new Statistics();
+
+			Statistics previousStatistics = _statisticsMap.putIfAbsent(
+				rootPortletId, statistics);
+
+			if (previousStatistics != null) {
+				statistics = previousStatistics;
+			}
+		}
+
+		return statistics;
+	}
+
+	private static long _getVersion(String versionKey) {
+		Long version = _versionPortalCache.get(versionKey);
+
+		if (version == null) {
+			version = _versionCounter.incrementAndGet();
+
+			_versionPortalCache.put(versionKey, version);
+		}
+
+		return version;
+	}
+
+	private static final String _GROUP_VERSION_KEY_PREFIX = "group_";
+
+	private static final String _USER_VERSION_KEY_PREFIX = "user_";
+
+	private static PortalCache<String, InvokerPortletResponse> _portalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME);
+	private static ConcurrentMap<String, Statistics> _statisticsMap =
+		new ConcurrentHashMap<String, Statistics>();
+	private static AtomicLong _versionCounter = new AtomicLong();
+	private static PortalCache<String, Long> _versionPortalCache =
+		MultiVMPoolUtil.getCache(CACHE_NAME.concat("_VERSION"));
+
+	private static class Statistics {
+
+		private final AtomicLong _hitCounter = new AtomicLong();
+		private final AtomicLong _missCounter = new AtomicLong();
+
+	}
+
+}
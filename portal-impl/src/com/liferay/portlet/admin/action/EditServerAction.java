@@ -61,6 +61,7 @@ import com.liferay.portal.kernel.util.MethodKey;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.ProgressStatusConstants;
 import com.liferay.portal.kernel.util.ProgressTracker;
+import com.liferay.portal.kernel.util.ProgressTrackerThreadLocal;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
@@ -315,56 +316,10 @@ public class EditServerAction extends PortletAction {
 		}
 	}
 
-	protected void gc() throws Exception {
-		Runtime.getRuntime().gc();
-	}
-
-	protected String getFileExtensions(
-		ActionRequest actionRequest, String name) {
-
-		String value = ParamUtil.getString(actionRequest, name);
-
-		return value.replace(", .", ",.");
-	}
-
-	protected void installXuggler(
-			ActionRequest actionRequest, ActionResponse actionResponse)
+	protected void doReindex(
+			ActionRequest actionRequest, ProgressTracker progressTracker)
 		throws Exception {
 
-		ProgressTracker progressTracker = new ProgressTracker(
-			actionRequest, WebKeys.XUGGLER_INSTALL_STATUS);
-
-		progressTracker.addProgress(
-			ProgressStatusConstants.DOWNLOADING, 15, "downloading-xuggler");
-		progressTracker.addProgress(
-			ProgressStatusConstants.COPYING, 70, "copying-xuggler-files");
-
-		progressTracker.initialize();
-
-		String jarName = ParamUtil.getString(actionRequest, "jarName");
-
-		try {
-			XugglerUtil.installNativeLibraries(jarName, progressTracker);
-
-			JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
-
-			jsonObject.put("success", Boolean.TRUE);
-
-			writeJSON(actionRequest, actionResponse, jsonObject);
-		}
-		catch (Exception e) {
-			JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
-
-			jsonObject.put("exception", e.getMessage());
-			jsonObject.put("success", Boolean.FALSE);
-
-			writeJSON(actionRequest, actionResponse, jsonObject);
-		}
-
-		progressTracker.finish();
-	}
-
-	protected void reindex(ActionRequest actionRequest) throws Exception {
 		String portletId = ParamUtil.getString(actionRequest, "portletId");
 
 		long[] companyIds = PortalInstances.getCompanyIds();
@@ -377,10 +332,16 @@ public class EditServerAction extends PortletAction {
 		Set<String> usedSearchEngineIds = new HashSet<String>();
 
 		if (Validator.isNull(portletId)) {
-			for (long companyId : companyIds) {
+			for (int i = 0; i < companyIds.length; i++) {
+				long companyId = companyIds[i];
+
 				try {
 					LuceneIndexer luceneIndexer = new LuceneIndexer(companyId);
 
+					luceneIndexer.setProgressRange(
+						(i * 100) / companyIds.length,
+						((i + 1) * 100) / companyIds.length);
+
 					luceneIndexer.reindex();
 
 					usedSearchEngineIds.addAll(
@@ -418,6 +379,9 @@ public class EditServerAction extends PortletAction {
 				}
 			}
 
+			int count = 0;
+			int total = indexers.size() * companyIds.length;
+
 			for (Indexer indexer : indexers) {
 				for (long companyId : companyIds) {
 					ShardUtil.pushCompanyService(companyId);
@@ -434,6 +398,10 @@ public class EditServerAction extends PortletAction {
 					finally {
 						ShardUtil.popCompanyService();
 					}
+
+					count++;
+
+					progressTracker.setPercent((count * 100) / total);
 				}
 			}
 		}
@@ -465,6 +433,73 @@ public class EditServerAction extends PortletAction {
 		}
 	}
 
+	protected void gc() throws Exception {
+		Runtime.getRuntime().gc();
+	}
+
+	protected String getFileExtensions(
+		ActionRequest actionRequest, String name) {
+
+		String value = ParamUtil.getString(actionRequest, name);
+
+		return value.replace(", .", ",.");
+	}
+
+	protected void installXuggler(
+			ActionRequest actionRequest, ActionResponse actionResponse)
+		throws Exception {
+
+		ProgressTracker progressTracker = new ProgressTracker(
+			actionRequest, WebKeys.XUGGLER_INSTALL_STATUS);
+
+		progressTracker.addProgress(
+			ProgressStatusConstants.DOWNLOADING, 15, "downloading-xuggler");
+		progressTracker.addProgress(
+			ProgressStatusConstants.COPYING, 70, "copying-xuggler-files");
+
+		progressTracker.initialize();
+
+		String jarName = ParamUtil.getString(actionRequest, "jarName");
+
+		try {
+			XugglerUtil.installNativeLibraries(jarName, progressTracker);
+
+			JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+			jsonObject.put("success", Boolean.TRUE);
+
+			writeJSON(actionRequest, actionResponse, jsonObject);
+		}
+		catch (Exception e) {
+			JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+			jsonObject.put("exception", e.getMessage());
+			jsonObject.put("success", Boolean.FALSE);
+
+			writeJSON(actionRequest, actionResponse, jsonObject);
+		}
+
+		progressTracker.finish();
+	}
+
+	protected void reindex(ActionRequest actionRequest) throws Exception {
+		ProgressTracker progressTracker = new ProgressTracker(
+			actionRequest, WebKeys.REINDEX_STATUS);
+
+		progressTracker.initialize();
+
+		ProgressTrackerThreadLocal.setProgressTracker(progressTracker);
+
+		try {
+			doReindex(actionRequest, progressTracker);
+		}
+		finally {
+			progressTracker.finish();
+
+			ProgressTrackerThreadLocal.setProgressTracker(null);
+		}
+	}
+
 	protected void reindexDictionaries(ActionRequest actionRequest)
 		throws Exception {
 
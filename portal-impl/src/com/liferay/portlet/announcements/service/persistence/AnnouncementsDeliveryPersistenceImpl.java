@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the announcements delivery service.
@@ -845,16 +849,33 @@ public class AnnouncementsDeliveryPersistenceImpl extends BasePersistenceImpl<An
 	 * @param announcementsDeliveries the announcements deliveries
 	 */
 	public void cacheResult(List<AnnouncementsDelivery> announcementsDeliveries) {
+		Map<Serializable, AnnouncementsDelivery> uncachedAnnouncementsDeliveries = new HashMap<Serializable, AnnouncementsDelivery>();
+
 		for (AnnouncementsDelivery announcementsDelivery : announcementsDeliveries) {
-			if (EntityCacheUtil.getResult(
-						AnnouncementsDeliveryModelImpl.ENTITY_CACHE_ENABLED,
-						AnnouncementsDeliveryImpl.class,
-						announcementsDelivery.getPrimaryKey()) == null) {
-				cacheResult(announcementsDelivery);
-			}
-			else {
-				announcementsDelivery.resetOriginalValues();
-			}
+			uncachedAnnouncementsDeliveries.put(announcementsDelivery.getPrimaryKeyObj(),
+				announcementsDelivery);
+		}
+
+		Map<Serializable, Serializable> cachedAnnouncementsDeliveries = EntityCacheUtil.getResults(AnnouncementsDeliveryModelImpl.ENTITY_CACHE_ENABLED,
+				AnnouncementsDeliveryImpl.class, uncachedAnnouncementsDeliveries.keySet());
+
+		for (Serializable primaryKey : cachedAnnouncementsDeliveries.keySet()) {
+			AnnouncementsDelivery announcementsDelivery = uncachedAnnouncementsDeliveries.remove(primaryKey);
+
+			announcementsDelivery.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AnnouncementsDeliveryModelImpl.ENTITY_CACHE_ENABLED,
+			AnnouncementsDeliveryImpl.class, uncachedAnnouncementsDeliveries);
+
+		for (AnnouncementsDelivery announcementsDelivery : uncachedAnnouncementsDeliveries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_U_T,
+				new Object[] {
+					announcementsDelivery.getUserId(),
+					announcementsDelivery.getType()
+				}, announcementsDelivery);
+
+			announcementsDelivery.resetOriginalValues();
 		}
 	}
 
@@ -902,13 +923,16 @@ public class AnnouncementsDeliveryPersistenceImpl extends BasePersistenceImpl<An
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(announcementsDeliveries.size());
+
 		for (AnnouncementsDelivery announcementsDelivery : announcementsDeliveries) {
-			EntityCacheUtil.removeResult(AnnouncementsDeliveryModelImpl.ENTITY_CACHE_ENABLED,
-				AnnouncementsDeliveryImpl.class,
-				announcementsDelivery.getPrimaryKey());
+			primaryKeys.add(announcementsDelivery.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(announcementsDelivery);
 		}
+
+		EntityCacheUtil.removeResults(AnnouncementsDeliveryModelImpl.ENTITY_CACHE_ENABLED,
+			AnnouncementsDeliveryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -1255,6 +1279,113 @@ public class AnnouncementsDeliveryPersistenceImpl extends BasePersistenceImpl<An
 		return fetchByPrimaryKey((Serializable)deliveryId);
 	}
 
+	/**
+	 * Returns the announcements deliveries with the primary keys, keyed by primary key. Primary keys without a matching announcements delivery are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the announcements deliveries
+	 * @return the announcements deliveries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AnnouncementsDelivery> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AnnouncementsDelivery> map = new HashMap<Serializable, AnnouncementsDelivery>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AnnouncementsDelivery announcementsDelivery = fetchByPrimaryKey(primaryKey);
+
+			if (announcementsDelivery != null) {
+				map.put(primaryKey, announcementsDelivery);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AnnouncementsDelivery announcementsDelivery = (AnnouncementsDelivery)EntityCacheUtil.getResult(AnnouncementsDeliveryModelImpl.ENTITY_CACHE_ENABLED,
+					AnnouncementsDeliveryImpl.class, primaryKey);
+
+			if (announcementsDelivery == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (announcementsDelivery != _nullAnnouncementsDelivery) {
+				map.put(primaryKey, announcementsDelivery);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ANNOUNCEMENTSDELIVERY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AnnouncementsDelivery announcementsDelivery : (List<AnnouncementsDelivery>)q.list()) {
+					map.put(announcementsDelivery.getPrimaryKeyObj(), announcementsDelivery);
+
+					cacheResult(announcementsDelivery);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AnnouncementsDeliveryModelImpl.ENTITY_CACHE_ENABLED,
+						AnnouncementsDeliveryImpl.class, primaryKey, _nullAnnouncementsDelivery);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the announcements deliveries.
 	 *
@@ -1456,6 +1587,7 @@ public class AnnouncementsDeliveryPersistenceImpl extends BasePersistenceImpl<An
 	}
 
 	private static final String _SQL_SELECT_ANNOUNCEMENTSDELIVERY = "SELECT announcementsDelivery FROM AnnouncementsDelivery announcementsDelivery";
+	private static final String _SQL_SELECT_ANNOUNCEMENTSDELIVERY_WHERE_PKS_IN = "SELECT announcementsDelivery FROM AnnouncementsDelivery announcementsDelivery WHERE announcementsDelivery.deliveryId IN (";
 	private static final String _SQL_SELECT_ANNOUNCEMENTSDELIVERY_WHERE = "SELECT announcementsDelivery FROM AnnouncementsDelivery announcementsDelivery WHERE ";
 	private static final String _SQL_COUNT_ANNOUNCEMENTSDELIVERY = "SELECT COUNT(announcementsDelivery) FROM AnnouncementsDelivery announcementsDelivery";
 	private static final String _SQL_COUNT_ANNOUNCEMENTSDELIVERY_WHERE = "SELECT COUNT(announcementsDelivery) FROM AnnouncementsDelivery announcementsDelivery WHERE ";
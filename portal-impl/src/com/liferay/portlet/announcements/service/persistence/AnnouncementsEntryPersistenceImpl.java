@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the announcements entry service.
@@ -4704,16 +4708,27 @@ public class AnnouncementsEntryPersistenceImpl extends BasePersistenceImpl<Annou
 	 * @param announcementsEntries the announcements entries
 	 */
 	public void cacheResult(List<AnnouncementsEntry> announcementsEntries) {
+		Map<Serializable, AnnouncementsEntry> uncachedAnnouncementsEntries = new HashMap<Serializable, AnnouncementsEntry>();
+
 		for (AnnouncementsEntry announcementsEntry : announcementsEntries) {
-			if (EntityCacheUtil.getResult(
-						AnnouncementsEntryModelImpl.ENTITY_CACHE_ENABLED,
-						AnnouncementsEntryImpl.class,
-						announcementsEntry.getPrimaryKey()) == null) {
-				cacheResult(announcementsEntry);
-			}
-			else {
-				announcementsEntry.resetOriginalValues();
-			}
+			uncachedAnnouncementsEntries.put(announcementsEntry.getPrimaryKeyObj(),
+				announcementsEntry);
+		}
+
+		Map<Serializable, Serializable> cachedAnnouncementsEntries = EntityCacheUtil.getResults(AnnouncementsEntryModelImpl.ENTITY_CACHE_ENABLED,
+				AnnouncementsEntryImpl.class, uncachedAnnouncementsEntries.keySet());
+
+		for (Serializable primaryKey : cachedAnnouncementsEntries.keySet()) {
+			AnnouncementsEntry announcementsEntry = uncachedAnnouncementsEntries.remove(primaryKey);
+
+			announcementsEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AnnouncementsEntryModelImpl.ENTITY_CACHE_ENABLED,
+			AnnouncementsEntryImpl.class, uncachedAnnouncementsEntries);
+
+		for (AnnouncementsEntry announcementsEntry : uncachedAnnouncementsEntries.values()) {
+			announcementsEntry.resetOriginalValues();
 		}
 	}
 
@@ -4758,10 +4773,14 @@ public class AnnouncementsEntryPersistenceImpl extends BasePersistenceImpl<Annou
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(announcementsEntries.size());
+
 		for (AnnouncementsEntry announcementsEntry : announcementsEntries) {
-			EntityCacheUtil.removeResult(AnnouncementsEntryModelImpl.ENTITY_CACHE_ENABLED,
-				AnnouncementsEntryImpl.class, announcementsEntry.getPrimaryKey());
+			primaryKeys.add(announcementsEntry.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(AnnouncementsEntryModelImpl.ENTITY_CACHE_ENABLED,
+			AnnouncementsEntryImpl.class, primaryKeys);
 	}
 
 	/**
@@ -5152,6 +5171,113 @@ public class AnnouncementsEntryPersistenceImpl extends BasePersistenceImpl<Annou
 		return fetchByPrimaryKey((Serializable)entryId);
 	}
 
+	/**
+	 * Returns the announcements entries with the primary keys, keyed by primary key. Primary keys without a matching announcements entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the announcements entries
+	 * @return the announcements entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AnnouncementsEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AnnouncementsEntry> map = new HashMap<Serializable, AnnouncementsEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AnnouncementsEntry announcementsEntry = fetchByPrimaryKey(primaryKey);
+
+			if (announcementsEntry != null) {
+				map.put(primaryKey, announcementsEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AnnouncementsEntry announcementsEntry = (AnnouncementsEntry)EntityCacheUtil.getResult(AnnouncementsEntryModelImpl.ENTITY_CACHE_ENABLED,
+					AnnouncementsEntryImpl.class, primaryKey);
+
+			if (announcementsEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (announcementsEntry != _nullAnnouncementsEntry) {
+				map.put(primaryKey, announcementsEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ANNOUNCEMENTSENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AnnouncementsEntry announcementsEntry : (List<AnnouncementsEntry>)q.list()) {
+					map.put(announcementsEntry.getPrimaryKeyObj(), announcementsEntry);
+
+					cacheResult(announcementsEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AnnouncementsEntryModelImpl.ENTITY_CACHE_ENABLED,
+						AnnouncementsEntryImpl.class, primaryKey, _nullAnnouncementsEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the announcements entries.
 	 *
@@ -5353,6 +5479,7 @@ public class AnnouncementsEntryPersistenceImpl extends BasePersistenceImpl<Annou
 	}
 
 	private static final String _SQL_SELECT_ANNOUNCEMENTSENTRY = "SELECT announcementsEntry FROM AnnouncementsEntry announcementsEntry";
+	private static final String _SQL_SELECT_ANNOUNCEMENTSENTRY_WHERE_PKS_IN = "SELECT announcementsEntry FROM AnnouncementsEntry announcementsEntry WHERE announcementsEntry.entryId IN (";
 	private static final String _SQL_SELECT_ANNOUNCEMENTSENTRY_WHERE = "SELECT announcementsEntry FROM AnnouncementsEntry announcementsEntry WHERE ";
 	private static final String _SQL_COUNT_ANNOUNCEMENTSENTRY = "SELECT COUNT(announcementsEntry) FROM AnnouncementsEntry announcementsEntry";
 	private static final String _SQL_COUNT_ANNOUNCEMENTSENTRY_WHERE = "SELECT COUNT(announcementsEntry) FROM AnnouncementsEntry announcementsEntry WHERE ";
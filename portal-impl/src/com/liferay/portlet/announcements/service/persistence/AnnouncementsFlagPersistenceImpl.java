@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the announcements flag service.
@@ -843,16 +847,33 @@ public class AnnouncementsFlagPersistenceImpl extends BasePersistenceImpl<Announ
 	 * @param announcementsFlags the announcements flags
 	 */
 	public void cacheResult(List<AnnouncementsFlag> announcementsFlags) {
+		Map<Serializable, AnnouncementsFlag> uncachedAnnouncementsFlags = new HashMap<Serializable, AnnouncementsFlag>();
+
 		for (AnnouncementsFlag announcementsFlag : announcementsFlags) {
-			if (EntityCacheUtil.getResult(
-						AnnouncementsFlagModelImpl.ENTITY_CACHE_ENABLED,
-						AnnouncementsFlagImpl.class,
-						announcementsFlag.getPrimaryKey()) == null) {
-				cacheResult(announcementsFlag);
-			}
-			else {
-				announcementsFlag.resetOriginalValues();
-			}
+			uncachedAnnouncementsFlags.put(announcementsFlag.getPrimaryKeyObj(),
+				announcementsFlag);
+		}
+
+		Map<Serializable, Serializable> cachedAnnouncementsFlags = EntityCacheUtil.getResults(AnnouncementsFlagModelImpl.ENTITY_CACHE_ENABLED,
+				AnnouncementsFlagImpl.class, uncachedAnnouncementsFlags.keySet());
+
+		for (Serializable primaryKey : cachedAnnouncementsFlags.keySet()) {
+			AnnouncementsFlag announcementsFlag = uncachedAnnouncementsFlags.remove(primaryKey);
+
+			announcementsFlag.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AnnouncementsFlagModelImpl.ENTITY_CACHE_ENABLED,
+			AnnouncementsFlagImpl.class, uncachedAnnouncementsFlags);
+
+		for (AnnouncementsFlag announcementsFlag : uncachedAnnouncementsFlags.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_U_E_V,
+				new Object[] {
+					announcementsFlag.getUserId(), announcementsFlag.getEntryId(),
+					announcementsFlag.getValue()
+				}, announcementsFlag);
+
+			announcementsFlag.resetOriginalValues();
 		}
 	}
 
@@ -899,12 +920,16 @@ public class AnnouncementsFlagPersistenceImpl extends BasePersistenceImpl<Announ
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(announcementsFlags.size());
+
 		for (AnnouncementsFlag announcementsFlag : announcementsFlags) {
-			EntityCacheUtil.removeResult(AnnouncementsFlagModelImpl.ENTITY_CACHE_ENABLED,
-				AnnouncementsFlagImpl.class, announcementsFlag.getPrimaryKey());
+			primaryKeys.add(announcementsFlag.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(announcementsFlag);
 		}
+
+		EntityCacheUtil.removeResults(AnnouncementsFlagModelImpl.ENTITY_CACHE_ENABLED,
+			AnnouncementsFlagImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AnnouncementsFlag announcementsFlag) {
@@ -1249,6 +1274,113 @@ public class AnnouncementsFlagPersistenceImpl extends BasePersistenceImpl<Announ
 		return fetchByPrimaryKey((Serializable)flagId);
 	}
 
+	/**
+	 * Returns the announcements flags with the primary keys, keyed by primary key. Primary keys without a matching announcements flag are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the announcements flags
+	 * @return the announcements flags, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AnnouncementsFlag> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AnnouncementsFlag> map = new HashMap<Serializable, AnnouncementsFlag>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AnnouncementsFlag announcementsFlag = fetchByPrimaryKey(primaryKey);
+
+			if (announcementsFlag != null) {
+				map.put(primaryKey, announcementsFlag);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AnnouncementsFlag announcementsFlag = (AnnouncementsFlag)EntityCacheUtil.getResult(AnnouncementsFlagModelImpl.ENTITY_CACHE_ENABLED,
+					AnnouncementsFlagImpl.class, primaryKey);
+
+			if (announcementsFlag == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (announcementsFlag != _nullAnnouncementsFlag) {
+				map.put(primaryKey, announcementsFlag);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ANNOUNCEMENTSFLAG_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AnnouncementsFlag announcementsFlag : (List<AnnouncementsFlag>)q.list()) {
+					map.put(announcementsFlag.getPrimaryKeyObj(), announcementsFlag);
+
+					cacheResult(announcementsFlag);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AnnouncementsFlagModelImpl.ENTITY_CACHE_ENABLED,
+						AnnouncementsFlagImpl.class, primaryKey, _nullAnnouncementsFlag);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the announcements flags.
 	 *
@@ -1450,6 +1582,7 @@ public class AnnouncementsFlagPersistenceImpl extends BasePersistenceImpl<Announ
 	}
 
 	private static final String _SQL_SELECT_ANNOUNCEMENTSFLAG = "SELECT announcementsFlag FROM AnnouncementsFlag announcementsFlag";
+	private static final String _SQL_SELECT_ANNOUNCEMENTSFLAG_WHERE_PKS_IN = "SELECT announcementsFlag FROM AnnouncementsFlag announcementsFlag WHERE announcementsFlag.flagId IN (";
 	private static final String _SQL_SELECT_ANNOUNCEMENTSFLAG_WHERE = "SELECT announcementsFlag FROM AnnouncementsFlag announcementsFlag WHERE ";
 	private static final String _SQL_COUNT_ANNOUNCEMENTSFLAG = "SELECT COUNT(announcementsFlag) FROM AnnouncementsFlag announcementsFlag";
 	private static final String _SQL_COUNT_ANNOUNCEMENTSFLAG_WHERE = "SELECT COUNT(announcementsFlag) FROM AnnouncementsFlag announcementsFlag WHERE ";
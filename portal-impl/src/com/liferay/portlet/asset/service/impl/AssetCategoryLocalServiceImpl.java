@@ -39,6 +39,7 @@ import com.liferay.portlet.asset.model.AssetCategoryConstants;
 import com.liferay.portlet.asset.model.AssetCategoryProperty;
 import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.service.base.AssetCategoryLocalServiceBaseImpl;
+import com.liferay.portlet.asset.service.persistence.AssetEntryBitmapIndexUtil;
 
 import java.util.Date;
 import java.util.HashMap;
@@ -355,6 +356,8 @@ public class AssetCategoryLocalServiceImpl
 
 		assetCategoryPersistence.addAssetEntries(toCategoryId, entries);
 
+		AssetEntryBitmapIndexUtil.clearIndexes();
+
 		List<AssetCategoryProperty> categoryProperties =
 			assetCategoryPropertyPersistence.findByCategoryId(fromCategoryId);
 
@@ -566,6 +569,8 @@ public class AssetCategoryLocalServiceImpl
 
 		assetCategoryPersistence.remove(category);
 
+		AssetEntryBitmapIndexUtil.clearIndexes();
+
 		// Resources
 
 		resourceLocalService.deleteResource(
@@ -32,6 +32,7 @@ import com.liferay.portal.kernel.search.facet.Facet;
 import com.liferay.portal.kernel.search.facet.ScopeFacet;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstancePool;
+import com.liferay.portal.kernel.util.ListUtil;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
@@ -49,6 +50,7 @@ import com.liferay.portlet.asset.model.AssetLinkConstants;
 import com.liferay.portlet.asset.model.AssetRendererFactory;
 import com.liferay.portlet.asset.model.AssetTag;
 import com.liferay.portlet.asset.service.base.AssetEntryLocalServiceBaseImpl;
+import com.liferay.portlet.asset.service.persistence.AssetEntryBitmapIndexUtil;
 import com.liferay.portlet.asset.service.persistence.AssetEntryQuery;
 import com.liferay.portlet.asset.util.AssetEntryValidator;
 import com.liferay.portlet.blogs.model.BlogsEntry;
@@ -79,6 +81,9 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 
 		assetEntryPersistence.remove(entry);
 
+		AssetEntryBitmapIndexUtil.removeEntry(
+			entry.getGroupId(), entry.getEntryId());
+
 		// Links
 
 		assetLinkLocalService.deleteLinks(entry.getEntryId());
@@ -517,9 +522,11 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 		AssetEntry entry = assetEntryPersistence.fetchByC_C(
 			classNameId, classPK);
 
+		long oldGroupId = groupId;
 		boolean oldVisible = false;
 
 		if (entry != null) {
+			oldGroupId = entry.getGroupId();
 			oldVisible = entry.isVisible();
 		}
 
@@ -585,6 +592,8 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 
 		// Tags
 
+		long[] tagIds = null;
+
 		if (tagNames != null) {
 			long siteGroupId = PortalUtil.getSiteGroupId(groupId);
 
@@ -619,6 +628,9 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 
 			assetEntryPersistence.setAssetTags(entry.getEntryId(), tags);
 
+			tagIds = StringUtil.split(
+				ListUtil.toString(tags, AssetTag.TAG_ID_ACCESSOR), 0L);
+
 			if (entry.isVisible()) {
 				boolean isNew = entry.isNew();
 
@@ -659,6 +671,12 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 
 		assetEntryPersistence.update(entry);
 
+		// Bitmap index
+
+		AssetEntryBitmapIndexUtil.updateEntry(
+			oldGroupId, groupId, entry.getEntryId(), classNameId, classTypeId,
+			categoryIds, tagIds);
+
 		// Synchronize
 
 		if (!sync) {
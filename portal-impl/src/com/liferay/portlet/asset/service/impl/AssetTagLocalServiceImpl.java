@@ -37,6 +37,7 @@ import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.model.AssetTag;
 import com.liferay.portlet.asset.model.AssetTagProperty;
 import com.liferay.portlet.asset.service.base.AssetTagLocalServiceBaseImpl;
+import com.liferay.portlet.asset.service.persistence.AssetEntryBitmapIndexUtil;
 import com.liferay.portlet.asset.util.AssetUtil;
 import com.liferay.portlet.social.util.SocialCounterPeriodUtil;
 
@@ -203,6 +204,8 @@ public class AssetTagLocalServiceImpl extends AssetTagLocalServiceBaseImpl {
 
 		assetTagPersistence.remove(tag);
 
+		AssetEntryBitmapIndexUtil.clearIndexes();
+
 		// Resources
 
 		resourceLocalService.deleteResource(
@@ -433,6 +436,8 @@ public class AssetTagLocalServiceImpl extends AssetTagLocalServiceBaseImpl {
 
 		assetTagPersistence.addAssetEntries(toTagId, entries);
 
+		AssetEntryBitmapIndexUtil.clearIndexes();
+
 		List<AssetTagProperty> tagProperties =
 			assetTagPropertyPersistence.findByTagId(fromTagId);
 
@@ -57,7 +57,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -10315,15 +10318,37 @@ public class AssetCategoryPersistenceImpl extends BasePersistenceImpl<AssetCateg
 	 * @param assetCategories the asset categories
 	 */
 	public void cacheResult(List<AssetCategory> assetCategories) {
+		Map<Serializable, AssetCategory> uncachedAssetCategories = new HashMap<Serializable, AssetCategory>();
+
 		for (AssetCategory assetCategory : assetCategories) {
-			if (EntityCacheUtil.getResult(
-						AssetCategoryModelImpl.ENTITY_CACHE_ENABLED,
-						AssetCategoryImpl.class, assetCategory.getPrimaryKey()) == null) {
-				cacheResult(assetCategory);
-			}
-			else {
-				assetCategory.resetOriginalValues();
-			}
+			uncachedAssetCategories.put(assetCategory.getPrimaryKeyObj(),
+				assetCategory);
+		}
+
+		Map<Serializable, Serializable> cachedAssetCategories = EntityCacheUtil.getResults(AssetCategoryModelImpl.ENTITY_CACHE_ENABLED,
+				AssetCategoryImpl.class, uncachedAssetCategories.keySet());
+
+		for (Serializable primaryKey : cachedAssetCategories.keySet()) {
+			AssetCategory assetCategory = uncachedAssetCategories.remove(primaryKey);
+
+			assetCategory.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetCategoryModelImpl.ENTITY_CACHE_ENABLED,
+			AssetCategoryImpl.class, uncachedAssetCategories);
+
+		for (AssetCategory assetCategory : uncachedAssetCategories.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { assetCategory.getUuid(), assetCategory.getGroupId() },
+				assetCategory);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_P_N_V,
+				new Object[] {
+					assetCategory.getParentCategoryId(), assetCategory.getName(),
+					assetCategory.getVocabularyId()
+				}, assetCategory);
+
+			assetCategory.resetOriginalValues();
 		}
 	}
 
@@ -10370,12 +10395,16 @@ public class AssetCategoryPersistenceImpl extends BasePersistenceImpl<AssetCateg
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetCategories.size());
+
 		for (AssetCategory assetCategory : assetCategories) {
-			EntityCacheUtil.removeResult(AssetCategoryModelImpl.ENTITY_CACHE_ENABLED,
-				AssetCategoryImpl.class, assetCategory.getPrimaryKey());
+			primaryKeys.add(assetCategory.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetCategory);
 		}
+
+		EntityCacheUtil.removeResults(AssetCategoryModelImpl.ENTITY_CACHE_ENABLED,
+			AssetCategoryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AssetCategory assetCategory) {
@@ -11008,6 +11037,113 @@ public class AssetCategoryPersistenceImpl extends BasePersistenceImpl<AssetCateg
 		return fetchByPrimaryKey((Serializable)categoryId);
 	}
 
+	/**
+	 * Returns the asset categories with the primary keys, keyed by primary key. Primary keys without a matching asset category are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset categories
+	 * @return the asset categories, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetCategory> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetCategory> map = new HashMap<Serializable, AssetCategory>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetCategory assetCategory = fetchByPrimaryKey(primaryKey);
+
+			if (assetCategory != null) {
+				map.put(primaryKey, assetCategory);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetCategory assetCategory = (AssetCategory)EntityCacheUtil.getResult(AssetCategoryModelImpl.ENTITY_CACHE_ENABLED,
+					AssetCategoryImpl.class, primaryKey);
+
+			if (assetCategory == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetCategory != _nullAssetCategory) {
+				map.put(primaryKey, assetCategory);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETCATEGORY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetCategory assetCategory : (List<AssetCategory>)q.list()) {
+					map.put(assetCategory.getPrimaryKeyObj(), assetCategory);
+
+					cacheResult(assetCategory);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetCategoryModelImpl.ENTITY_CACHE_ENABLED,
+						AssetCategoryImpl.class, primaryKey, _nullAssetCategory);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset categories.
 	 *
@@ -12273,6 +12409,7 @@ public class AssetCategoryPersistenceImpl extends BasePersistenceImpl<AssetCateg
 	}
 
 	private static final String _SQL_SELECT_ASSETCATEGORY = "SELECT assetCategory FROM AssetCategory assetCategory";
+	private static final String _SQL_SELECT_ASSETCATEGORY_WHERE_PKS_IN = "SELECT assetCategory FROM AssetCategory assetCategory WHERE assetCategory.categoryId IN (";
 	private static final String _SQL_SELECT_ASSETCATEGORY_WHERE = "SELECT assetCategory FROM AssetCategory assetCategory WHERE ";
 	private static final String _SQL_COUNT_ASSETCATEGORY = "SELECT COUNT(assetCategory) FROM AssetCategory assetCategory";
 	private static final String _SQL_COUNT_ASSETCATEGORY_WHERE = "SELECT COUNT(assetCategory) FROM AssetCategory assetCategory WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the asset category property service.
@@ -1895,16 +1899,33 @@ public class AssetCategoryPropertyPersistenceImpl extends BasePersistenceImpl<As
 	 * @param assetCategoryProperties the asset category properties
 	 */
 	public void cacheResult(List<AssetCategoryProperty> assetCategoryProperties) {
+		Map<Serializable, AssetCategoryProperty> uncachedAssetCategoryProperties = new HashMap<Serializable, AssetCategoryProperty>();
+
 		for (AssetCategoryProperty assetCategoryProperty : assetCategoryProperties) {
-			if (EntityCacheUtil.getResult(
-						AssetCategoryPropertyModelImpl.ENTITY_CACHE_ENABLED,
-						AssetCategoryPropertyImpl.class,
-						assetCategoryProperty.getPrimaryKey()) == null) {
-				cacheResult(assetCategoryProperty);
-			}
-			else {
-				assetCategoryProperty.resetOriginalValues();
-			}
+			uncachedAssetCategoryProperties.put(assetCategoryProperty.getPrimaryKeyObj(),
+				assetCategoryProperty);
+		}
+
+		Map<Serializable, Serializable> cachedAssetCategoryProperties = EntityCacheUtil.getResults(AssetCategoryPropertyModelImpl.ENTITY_CACHE_ENABLED,
+				AssetCategoryPropertyImpl.class, uncachedAssetCategoryProperties.keySet());
+
+		for (Serializable primaryKey : cachedAssetCategoryProperties.keySet()) {
+			AssetCategoryProperty assetCategoryProperty = uncachedAssetCategoryProperties.remove(primaryKey);
+
+			assetCategoryProperty.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetCategoryPropertyModelImpl.ENTITY_CACHE_ENABLED,
+			AssetCategoryPropertyImpl.class, uncachedAssetCategoryProperties);
+
+		for (AssetCategoryProperty assetCategoryProperty : uncachedAssetCategoryProperties.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_CA_K,
+				new Object[] {
+					assetCategoryProperty.getCategoryId(),
+					assetCategoryProperty.getKey()
+				}, assetCategoryProperty);
+
+			assetCategoryProperty.resetOriginalValues();
 		}
 	}
 
@@ -1952,13 +1973,16 @@ public class AssetCategoryPropertyPersistenceImpl extends BasePersistenceImpl<As
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetCategoryProperties.size());
+
 		for (AssetCategoryProperty assetCategoryProperty : assetCategoryProperties) {
-			EntityCacheUtil.removeResult(AssetCategoryPropertyModelImpl.ENTITY_CACHE_ENABLED,
-				AssetCategoryPropertyImpl.class,
-				assetCategoryProperty.getPrimaryKey());
+			primaryKeys.add(assetCategoryProperty.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetCategoryProperty);
 		}
+
+		EntityCacheUtil.removeResults(AssetCategoryPropertyModelImpl.ENTITY_CACHE_ENABLED,
+			AssetCategoryPropertyImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -2353,6 +2377,113 @@ public class AssetCategoryPropertyPersistenceImpl extends BasePersistenceImpl<As
 		return fetchByPrimaryKey((Serializable)categoryPropertyId);
 	}
 
+	/**
+	 * Returns the asset category properties with the primary keys, keyed by primary key. Primary keys without a matching asset category property are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset category properties
+	 * @return the asset category properties, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetCategoryProperty> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetCategoryProperty> map = new HashMap<Serializable, AssetCategoryProperty>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetCategoryProperty assetCategoryProperty = fetchByPrimaryKey(primaryKey);
+
+			if (assetCategoryProperty != null) {
+				map.put(primaryKey, assetCategoryProperty);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetCategoryProperty assetCategoryProperty = (AssetCategoryProperty)EntityCacheUtil.getResult(AssetCategoryPropertyModelImpl.ENTITY_CACHE_ENABLED,
+					AssetCategoryPropertyImpl.class, primaryKey);
+
+			if (assetCategoryProperty == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetCategoryProperty != _nullAssetCategoryProperty) {
+				map.put(primaryKey, assetCategoryProperty);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETCATEGORYPROPERTY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetCategoryProperty assetCategoryProperty : (List<AssetCategoryProperty>)q.list()) {
+					map.put(assetCategoryProperty.getPrimaryKeyObj(), assetCategoryProperty);
+
+					cacheResult(assetCategoryProperty);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetCategoryPropertyModelImpl.ENTITY_CACHE_ENABLED,
+						AssetCategoryPropertyImpl.class, primaryKey, _nullAssetCategoryProperty);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset category properties.
 	 *
@@ -2554,6 +2685,7 @@ public class AssetCategoryPropertyPersistenceImpl extends BasePersistenceImpl<As
 	}
 
 	private static final String _SQL_SELECT_ASSETCATEGORYPROPERTY = "SELECT assetCategoryProperty FROM AssetCategoryProperty assetCategoryProperty";
+	private static final String _SQL_SELECT_ASSETCATEGORYPROPERTY_WHERE_PKS_IN = "SELECT assetCategoryProperty FROM AssetCategoryProperty assetCategoryProperty WHERE assetCategoryProperty.categoryPropertyId IN (";
 	private static final String _SQL_SELECT_ASSETCATEGORYPROPERTY_WHERE = "SELECT assetCategoryProperty FROM AssetCategoryProperty assetCategoryProperty WHERE ";
 	private static final String _SQL_COUNT_ASSETCATEGORYPROPERTY = "SELECT COUNT(assetCategoryProperty) FROM AssetCategoryProperty assetCategoryProperty";
 	private static final String _SQL_COUNT_ASSETCATEGORYPROPERTY_WHERE = "SELECT COUNT(assetCategoryProperty) FROM AssetCategoryProperty assetCategoryProperty WHERE ";
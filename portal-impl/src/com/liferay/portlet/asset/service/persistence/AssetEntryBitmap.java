@@ -0,0 +1,559 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.service.persistence;
+
+import java.io.Serializable;
+
+import java.util.Arrays;
+
+/**
+ * A compressed set of non negative int values. Values are grouped into chunks
+ * of 65536 by their upper 16 bits. Sparse chunks keep their lower bits in a
+ * sorted char array and dense chunks in a bit set of 1024 words, so the
+ * postings of rarely used tags and categories take little memory while large
+ * postings are intersected a word at a time.
+ *
+ * <p>
+ * The set operations return new instances and never change their operands.
+ * </p>
+ *
+ * @author agent
+ */
+public class AssetEntryBitmap implements Serializable {
+
+	public AssetEntryBitmap() {
+		this(0);
+	}
+
+	public void add(int value) {
+		int high = value >>> 16;
+
+		if (high >= _containers.length) {
+			_containers = Arrays.copyOf(_containers, high + 1);
+		}
+
+		Container container = _containers[high];
+
+		if (container == null) {
+			container = new Container();
+
+			_containers[high] = container;
+		}
+
+		container.add((char)value);
+	}
+
+	public AssetEntryBitmap and(AssetEntryBitmap bitmap) {
+		int length = Math.min(_containers.length, bitmap._containers.length);
+
+		AssetEntryBitmap resultBitmap = new AssetEntryBitmap(length);
+
+		for (int i = 0; i < length; i++) {
+			Container container1 = _containers[i];
+			Container container2 = bitmap._containers[i];
+
+			if ((container1 != null) && (container2 != null)) {
+				resultBitmap._setContainer(i, container1.and(container2));
+			}
+		}
+
+		return resultBitmap;
+	}
+
+	public AssetEntryBitmap andNot(AssetEntryBitmap bitmap) {
+		AssetEntryBitmap resultBitmap = new AssetEntryBitmap(
+			_containers.length);
+
+		for (int i = 0; i < _containers.length; i++) {
+			Container container1 = _containers[i];
+
+			if (container1 == null) {
+				continue;
+			}
+
+			Container container2 = null;
+
+			if (i < bitmap._containers.length) {
+				container2 = bitmap._containers[i];
+			}
+
+			if (container2 == null) {
+				resultBitmap._setContainer(i, container1.copy());
+			}
+			else {
+				resultBitmap._setContainer(i, container1.andNot(container2));
+			}
+		}
+
+		return resultBitmap;
+	}
+
+	public int cardinality() {
+		int cardinality = 0;
+
+		for (Container container : _containers) {
+			if (container != null) {
+				cardinality += container._size;
+			}
+		}
+
+		return cardinality;
+	}
+
+	public boolean contains(int value) {
+		int high = value >>> 16;
+
+		if (high >= _containers.length) {
+			return false;
+		}
+
+		Container container = _containers[high];
+
+		if (container == null) {
+			return false;
+		}
+
+		return container.contains((char)value);
+	}
+
+	public AssetEntryBitmap copy() {
+		AssetEntryBitmap resultBitmap = new AssetEntryBitmap(
+			_containers.length);
+
+		for (int i = 0; i < _containers.length; i++) {
+			Container container = _containers[i];
+
+			if (container != null) {
+				resultBitmap._setContainer(i, container.copy());
+			}
+		}
+
+		return resultBitmap;
+	}
+
+	public boolean isEmpty() {
+		for (Container container : _containers) {
+			if ((container != null) && (container._size > 0)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public AssetEntryBitmap or(AssetEntryBitmap bitmap) {
+		int length = Math.max(_containers.length, bitmap._containers.length);
+
+		AssetEntryBitmap resultBitmap = new AssetEntryBitmap(length);
+
+		for (int i = 0; i < length; i++) {
+			Container container1 = null;
+
+			if (i < _containers.length) {
+				container1 = _containers[i];
+			}
+
+			Container container2 = null;
+
+			if (i < bitmap._containers.length) {
+				container2 = bitmap._containers[i];
+			}
+
+			if ((container1 != null) && (container2 != null)) {
+				resultBitmap._setContainer(i, container1.or(container2));
+			}
+			else if (container1 != null) {
+				resultBitmap._setContainer(i, container1.copy());
+			}
+			else if (container2 != null) {
+				resultBitmap._setContainer(i, container2.copy());
+			}
+		}
+
+		return resultBitmap;
+	}
+
+	public void remove(int value) {
+		int high = value >>> 16;
+
+		if (high >= _containers.length) {
+			return;
+		}
+
+		Container container = _containers[high];
+
+		if (container == null) {
+			return;
+		}
+
+		container.remove((char)value);
+
+		if (container._size == 0) {
+			_containers[high] = null;
+		}
+	}
+
+	public int[] toArray() {
+		int[] values = new int[cardinality()];
+
+		int index = 0;
+
+		for (int i = 0; i < _containers.length; i++) {
+			Container container = _containers[i];
+
+			if (container != null) {
+				index = container.toArray(i << 16, values, index);
+			}
+		}
+
+		return values;
+	}
+
+	private AssetEntryBitmap(int length) {
+		_containers = new Container[length];
+	}
+
+	private void _setContainer(int high, Container container) {
+		if (container._size > 0) {
+			_containers[high] = container;
+		}
+	}
+
+	private static final int _ARRAY_MAX_SIZE = 4096;
+
+	private static final int _WORDS_LENGTH = 1024;
+
+	private Container[] _containers;
+
+	private static class Container implements Serializable {
+
+		public void add(char value) {
+			if (_words != null) {
+				long word = _words[value >>> 6];
+				long mask = 1L << value;
+
+				if ((word & mask) == 0) {
+					_words[value >>> 6] = word | mask;
+
+					_size++;
+				}
+
+				return;
+			}
+
+			int index = _size;
+
+			if ((_size > 0) && (_values[_size - 1] >= value)) {
+				index = Arrays.binarySearch(_values, 0, _size, value);
+
+				if (index >= 0) {
+					return;
+				}
+
+				index = -(index + 1);
+			}
+
+			if (_size == _ARRAY_MAX_SIZE) {
+				_toWords();
+
+				add(value);
+
+				return;
+			}
+
+			if (_size == _values.length) {
+				int length = Math.max(
+					Math.min(_size * 2, _ARRAY_MAX_SIZE), _size + 1);
+
+				_values = Arrays.copyOf(_values, length);
+			}
+
+			System.arraycopy(
+				_values, index, _values, index + 1, _size - index);
+
+			_values[index] = value;
+
+			_size++;
+		}
+
+		public Container and(Container container) {
+			if (_words == null) {
+				return _filter(container, true);
+			}
+
+			if (container._words == null) {
+				return container._filter(this, true);
+			}
+
+			long[] words = new long[_WORDS_LENGTH];
+
+			for (int i = 0; i < _WORDS_LENGTH; i++) {
+				words[i] = _words[i] & container._words[i];
+			}
+
+			return _newContainer(words);
+		}
+
+		public Container andNot(Container container) {
+			if (_words == null) {
+				return _filter(container, false);
+			}
+
+			long[] words = _words.clone();
+
+			if (container._words == null) {
+				for (int i = 0; i < container._size; i++) {
+					char value = container._values[i];
+
+					words[value >>> 6] &= ~(1L << value);
+				}
+			}
+			else {
+				for (int i = 0; i < _WORDS_LENGTH; i++) {
+					words[i] &= ~container._words[i];
+				}
+			}
+
+			return _newContainer(words);
+		}
+
+		public boolean contains(char value) {
+			if (_words != null) {
+				return (_words[value >>> 6] & (1L << value)) != 0;
+			}
+
+			if (Arrays.binarySearch(_values, 0, _size, value) >= 0) {
+				return true;
+			}
+
+			return false;
+		}
+
+		public Container copy() {
+			Container container = new Container();
+
+			if (_words != null) {
+				container._values = null;
+				container._words = _words.clone();
+			}
+			else {
+				container._values = Arrays.copyOf(_values, _size);
+			}
+
+			container._size = _size;
+
+			return container;
+		}
+
+		public Container or(Container container) {
+			if ((_words == null) && (container._words == null) &&
+				((_size + container._size) <= _ARRAY_MAX_SIZE)) {
+
+				return _merge(container);
+			}
+
+			long[] words = new long[_WORDS_LENGTH];
+
+			_orInto(words);
+			container._orInto(words);
+
+			return _newContainer(words);
+		}
+
+		public void remove(char value) {
+			if (_words != null) {
+				long word = _words[value >>> 6];
+				long mask = 1L << value;
+
+				if ((word & mask) != 0) {
+					_words[value >>> 6] = word & ~mask;
+
+					_size--;
+				}
+
+				return;
+			}
+
+			int index = Arrays.binarySearch(_values, 0, _size, value);
+
+			if (index < 0) {
+				return;
+			}
+
+			System.arraycopy(
+				_values, index + 1, _values, index, _size - index - 1);
+
+			_size--;
+		}
+
+		public int toArray(int base, int[] values, int index) {
+			if (_words == null) {
+				for (int i = 0; i < _size; i++) {
+					values[index++] = base | _values[i];
+				}
+
+				return index;
+			}
+
+			for (int i = 0; i < _WORDS_LENGTH; i++) {
+				long word = _words[i];
+
+				while (word != 0) {
+					int bit = Long.numberOfTrailingZeros(word);
+
+					values[index++] = base | (i << 6) | bit;
+
+					word &= word - 1;
+				}
+			}
+
+			return index;
+		}
+
+		private static Container _newContainer(long[] words) {
+			Container container = new Container();
+
+			int size = 0;
+
+			for (long word : words) {
+				size += Long.bitCount(word);
+			}
+
+			container._size = size;
+
+			if (size > _ARRAY_MAX_SIZE) {
+				container._values = null;
+				container._words = words;
+
+				return container;
+			}
+
+			char[] values = new char[size];
+
+			int index = 0;
+
+			for (int i = 0; i < _WORDS_LENGTH; i++) {
+				long word = words[i];
+
+				while (word != 0) {
+					int bit = Long.numberOfTrailingZeros(word);
+
+					values[index++] = (char)((i << 6) | bit);
+
+					word &= word - 1;
+				}
+			}
+
+			container._values = values;
+
+			return container;
+		}
+
+		private Container _filter(Container container, boolean contains) {
+			Container resultContainer = new Container();
+
+			resultContainer._values = new char[_size];
+
+			int size = 0;
+
+			for (int i = 0; i < _size; i++) {
+				char value = _values[i];
+
+				if (container.contains(value) == contains) {
+					resultContainer._values[size++] = value;
+				}
+			}
+
+			resultContainer._size = size;
+
+			return resultContainer;
+		}
+
+		private Container _merge(Container container) {
+			Container resultContainer = new Container();
+
+			char[] values = new char[_size + container._size];
+
+			int i = 0;
+			int j = 0;
+			int size = 0;
+
+			while ((i < _size) && (j < container._size)) {
+				char value1 = _values[i];
+				char value2 = container._values[j];
+
+				if (value1 < value2) {
+					values[size++] = value1;
+
+					i++;
+				}
+				else if (value1 > value2) {
+					values[size++] = value2;
+
+					j++;
+				}
+				else {
+					values[size++] = value1;
+
+					i++;
+					j++;
+				}
+			}
+
+			while (i < _size) {
+				values[size++] = _values[i++];
+			}
+
+			while (j < container._size) {
+				values[size++] = container._values[j++];
+			}
+
+			resultContainer._size = size;
+			resultContainer._values = values;
+
+			return resultContainer;
+		}
+
+		private void _orInto(long[] words) {
+			if (_words != null) {
+				for (int i = 0; i < _WORDS_LENGTH; i++) {
+					words[i] |= _words[i];
+				}
+			}
+			else {
+				for (int i = 0; i < _size; i++) {
+					char value = _values[i];
+
+					words[value >>> 6] |= 1L << value;
+				}
+			}
+		}
+
+		private void _toWords() {
+			long[] words = new long[_WORDS_LENGTH];
+
+			_orInto(words);
+
+			_values = null;
+			_words = words;
+		}
+
+		private int _size;
+		private char[] _values = new char[4];
+		private long[] _words;
+
+	}
+
+}
@@ -0,0 +1,354 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.service.persistence;
+
+import java.io.Serializable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The tag, category, class name and class type postings of the asset entries
+ * of one group. Entries are numbered densely in the order they are added so
+ * the postings stay compact no matter how large the entry primary keys grow.
+ *
+ * <p>
+ * Postings are copied on write so readers never lock and may keep using the
+ * bitmaps they obtained. The bitmaps returned by this class must not be
+ * changed.
+ * </p>
+ *
+ * @author agent
+ */
+public class AssetEntryBitmapIndex implements Serializable {
+
+	public AssetEntryBitmapIndex(long groupId) {
+		_groupId = groupId;
+	}
+
+	public AssetEntryBitmap getCategoryEntries(long[] categoryIds) {
+		return _getEntries(_categoryBitmaps, categoryIds);
+	}
+
+	public AssetEntryBitmap getClassNameEntries(long[] classNameIds) {
+		return _getEntries(_classNameBitmaps, classNameIds);
+	}
+
+	public AssetEntryBitmap getClassTypeEntries(long[] classTypeIds) {
+		return _getEntries(_classTypeBitmaps, classTypeIds);
+	}
+
+	public AssetEntryBitmap getEntries() {
+		return _entries;
+	}
+
+	public long[] getEntryIds(AssetEntryBitmap bitmap) {
+		long[] entryIds = _entryIds;
+
+		int[] indexes = bitmap.toArray();
+
+		long[] resultEntryIds = new long[indexes.length];
+
+		for (int i = 0; i < indexes.length; i++) {
+			resultEntryIds[i] = entryIds[indexes[i]];
+		}
+
+		return resultEntryIds;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public AssetEntryBitmap getTagEntries(long[] tagIds) {
+		return _getEntries(_tagBitmaps, tagIds);
+	}
+
+	public synchronized void removeEntry(long entryId) {
+		Integer index = _indexes.remove(entryId);
+
+		if (index == null) {
+			return;
+		}
+
+		_entries = _copyOnWrite(_entries, index, false);
+
+		_updateBitmap(_classNameBitmaps, _classNameIds[index], index, false);
+		_updateBitmap(_classTypeBitmaps, _classTypeIds[index], index, false);
+
+		for (long categoryId : _categoryIds[index]) {
+			_updateBitmap(_categoryBitmaps, categoryId, index, false);
+		}
+
+		for (long tagId : _tagIds[index]) {
+			_updateBitmap(_tagBitmaps, tagId, index, false);
+		}
+
+		_categoryIds[index] = null;
+		_tagIds[index] = null;
+	}
+
+	/**
+	 * Adds or updates an entry. A <code>null</code> array of category or tag
+	 * IDs keeps the categories or tags the entry already has.
+	 */
+	public synchronized void updateEntry(
+		long entryId, long classNameId, long classTypeId, long[] categoryIds,
+		long[] tagIds) {
+
+		Integer index = _indexes.get(entryId);
+
+		if (index == null) {
+			index = _addIndex(entryId, classNameId, classTypeId);
+
+			_updateBitmap(_classNameBitmaps, classNameId, index, true);
+			_updateBitmap(_classTypeBitmaps, classTypeId, index, true);
+
+			_entries = _copyOnWrite(_entries, index, true);
+		}
+		else {
+			if (_classNameIds[index] != classNameId) {
+				_updateBitmap(
+					_classNameBitmaps, _classNameIds[index], index, false);
+				_updateBitmap(_classNameBitmaps, classNameId, index, true);
+
+				_classNameIds[index] = classNameId;
+			}
+
+			if (_classTypeIds[index] != classTypeId) {
+				_updateBitmap(
+					_classTypeBitmaps, _classTypeIds[index], index, false);
+				_updateBitmap(_classTypeBitmaps, classTypeId, index, true);
+
+				_classTypeIds[index] = classTypeId;
+			}
+		}
+
+		if (categoryIds != null) {
+			_categoryIds[index] = _updateBitmaps(
+				_categoryBitmaps, _categoryIds[index], categoryIds, index);
+		}
+
+		if (tagIds != null) {
+			_tagIds[index] = _updateBitmaps(
+				_tagBitmaps, _tagIds[index], tagIds, index);
+		}
+	}
+
+	protected void addEntry(long entryId, long classNameId, long classTypeId) {
+		int index = _addIndex(entryId, classNameId, classTypeId);
+
+		_addBit(_classNameBitmaps, classNameId, index);
+		_addBit(_classTypeBitmaps, classTypeId, index);
+
+		_entries.add(index);
+	}
+
+	protected void addEntryCategory(long entryId, long categoryId) {
+		Integer index = _indexes.get(entryId);
+
+		if (index == null) {
+			return;
+		}
+
+		_categoryIds[index] = _append(_categoryIds[index], categoryId);
+
+		_addBit(_categoryBitmaps, categoryId, index);
+	}
+
+	protected void addEntryTag(long entryId, long tagId) {
+		Integer index = _indexes.get(entryId);
+
+		if (index == null) {
+			return;
+		}
+
+		_tagIds[index] = _append(_tagIds[index], tagId);
+
+		_addBit(_tagBitmaps, tagId, index);
+	}
+
+	private void _addBit(
+		Map<Long, AssetEntryBitmap> bitmaps, long id, int index) {
+
+		AssetEntryBitmap bitmap = bitmaps.get(id);
+
+		if (bitmap == null) {
+			bitmap = new AssetEntryBitmap();
+
+			bitmaps.put(id, bitmap);
+		}
+
+		bitmap.add(index);
+	}
+
+	private int _addIndex(long entryId, long classNameId, long classTypeId) {
+		int index = _size;
+
+		if (index == _entryIds.length) {
+			int length = Math.max(index * 2, 16);
+
+			_categoryIds = Arrays.copyOf(_categoryIds, length);
+			_classNameIds = Arrays.copyOf(_classNameIds, length);
+			_classTypeIds = Arrays.copyOf(_classTypeIds, length);
+			_tagIds = Arrays.copyOf(_tagIds, length);
+
+			long[] entryIds = Arrays.copyOf(_entryIds, length);
+
+			entryIds[index] = entryId;
+
+			_entryIds = entryIds;
+		}
+		else {
+			_entryIds[index] = entryId;
+		}
+
+		_categoryIds[index] = _EMPTY_IDS;
+		_classNameIds[index] = classNameId;
+		_classTypeIds[index] = classTypeId;
+		_tagIds[index] = _EMPTY_IDS;
+
+		_indexes.put(entryId, index);
+
+		_size++;
+
+		return index;
+	}
+
+	private long[] _append(long[] ids, long id) {
+		long[] newIds = Arrays.copyOf(ids, ids.length + 1);
+
+		newIds[ids.length] = id;
+
+		return newIds;
+	}
+
+	private boolean _contains(long[] ids, long id) {
+		for (long curId : ids) {
+			if (curId == id) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private AssetEntryBitmap _copyOnWrite(
+		AssetEntryBitmap bitmap, int index, boolean add) {
+
+		AssetEntryBitmap newBitmap = bitmap.copy();
+
+		if (add) {
+			newBitmap.add(index);
+		}
+		else {
+			newBitmap.remove(index);
+		}
+
+		return newBitmap;
+	}
+
+	private AssetEntryBitmap _getEntries(
+		Map<Long, AssetEntryBitmap> bitmaps, long[] ids) {
+
+		AssetEntryBitmap resultBitmap = null;
+
+		for (long id : ids) {
+			AssetEntryBitmap bitmap = bitmaps.get(id);
+
+			if (bitmap == null) {
+				continue;
+			}
+
+			if (resultBitmap == null) {
+				resultBitmap = bitmap;
+			}
+			else {
+				resultBitmap = resultBitmap.or(bitmap);
+			}
+		}
+
+		if (resultBitmap == null) {
+			return new AssetEntryBitmap();
+		}
+
+		return resultBitmap;
+	}
+
+	private void _updateBitmap(
+		Map<Long, AssetEntryBitmap> bitmaps, long id, int index, boolean add) {
+
+		AssetEntryBitmap bitmap = bitmaps.get(id);
+
+		if (bitmap == null) {
+			if (!add) {
+				return;
+			}
+
+			bitmap = new AssetEntryBitmap();
+		}
+
+		bitmap = _copyOnWrite(bitmap, index, add);
+
+		if (bitmap.isEmpty()) {
+			bitmaps.remove(id);
+		}
+		else {
+			bitmaps.put(id, bitmap);
+		}
+	}
+
+	private long[] _updateBitmaps(
+		Map<Long, AssetEntryBitmap> bitmaps, long[] oldIds, long[] newIds,
+		int index) {
+
+		for (long oldId : oldIds) {
+			if (!_contains(newIds, oldId)) {
+				_updateBitmap(bitmaps, oldId, index, false);
+			}
+		}
+
+		for (long newId : newIds) {
+			if (!_contains(oldIds, newId)) {
+				_updateBitmap(bitmaps, newId, index, true);
+			}
+		}
+
+		return newIds.clone();
+	}
+
+	private static final long[] _EMPTY_IDS = new long[0];
+
+	private Map<Long, AssetEntryBitmap> _categoryBitmaps =
+		new ConcurrentHashMap<Long, AssetEntryBitmap>();
+	private long[][] _categoryIds = new long[0][];
+	private Map<Long, AssetEntryBitmap> _classNameBitmaps =
+		new ConcurrentHashMap<Long, AssetEntryBitmap>();
+	private long[] _classNameIds = new long[0];
+	private Map<Long, AssetEntryBitmap> _classTypeBitmaps =
+		new ConcurrentHashMap<Long, AssetEntryBitmap>();
+	private long[] _classTypeIds = new long[0];
+	private volatile AssetEntryBitmap _entries = new AssetEntryBitmap();
+	private volatile long[] _entryIds = new long[0];
+	private long _groupId;
+	private Map<Long, Integer> _indexes =
+		new ConcurrentHashMap<Long, Integer>();
+	private int _size;
+	private Map<Long, AssetEntryBitmap> _tagBitmaps =
+		new ConcurrentHashMap<Long, AssetEntryBitmap>();
+	private long[][] _tagIds = new long[0][];
+
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.service.persistence;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.dao.jdbc.DataAccess;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps an {@link AssetEntryBitmapIndex} for each group. Indexes are built
+ * from the database on first use and kept current by the asset services
+ * after their transactions commit. Every change puts the index back into the
+ * cache so the other nodes of a cluster drop their copies and rebuild them.
+ *
+ * @author agent
+ */
+public class AssetEntryBitmapIndexUtil {
+
+	public static void clearIndexes() {
+		_registerCallback(
+			new Callable<Void>() {
+
+				public Void call() {
+					_portalCache.removeAll();
+
+					return null;
+				}
+
+			});
+	}
+
+	public static AssetEntryBitmapIndex getIndex(long groupId)
+		throws SystemException {
+
+		AssetEntryBitmapIndex index = _portalCache.get(groupId);
+
+		if (index != null) {
+			return index;
+		}
+
+		synchronized (_getBuildLock(groupId)) {
+			index = _portalCache.get(groupId);
+
+			if (index != null) {
+				return index;
+			}
+
+			long modCount = _modCount.get();
+
+			index = _buildIndex(groupId);
+
+			synchronized (_modCount) {
+				if (modCount == _modCount.get()) {
+					_portalCache.put(groupId, index);
+				}
+			}
+		}
+
+		return index;
+	}
+
+	public static void removeEntry(final long groupId, final long entryId) {
+		_registerCallback(
+			new Callable<Void>() {
+
+				public Void call() {
+					AssetEntryBitmapIndex index = _portalCache.get(groupId);
+
+					if (index != null) {
+						index.removeEntry(entryId);
+
+						_portalCache.put(groupId, index);
+					}
+
+					return null;
+				}
+
+			});
+	}
+
+	public static void updateEntry(
+		final long oldGroupId, final long groupId, final long entryId,
+		final long classNameId, final long classTypeId,
+		final long[] categoryIds, final long[] tagIds) {
+
+		_registerCallback(
+			new Callable<Void>() {
+
+				public Void call() {
+					if (oldGroupId != groupId) {
+						_portalCache.remove(oldGroupId);
+						_portalCache.remove(groupId);
+
+						return null;
+					}
+
+					AssetEntryBitmapIndex index = _portalCache.get(groupId);
+
+					if (index != null) {
+						index.updateEntry(
+							entryId, classNameId, classTypeId, categoryIds,
+							tagIds);
+
+						_portalCache.put(groupId, index);
+					}
+
+					return null;
+				}
+
+			});
+	}
+
+	private static AssetEntryBitmapIndex _buildIndex(long groupId)
+		throws SystemException {
+
+		AssetEntryBitmapIndex index = new AssetEntryBitmapIndex(groupId);
+
+		Connection con = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			con = DataAccess.getConnection();
+
+			ps = con.prepareStatement(_SQL_SELECT_ENTRIES);
+
+			ps.setLong(1, groupId);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				index.addEntry(rs.getLong(1), rs.getLong(2), rs.getLong(3));
+			}
+
+			DataAccess.cleanUp(null, ps, rs);
+
+			ps = con.prepareStatement(_SQL_SELECT_ENTRY_CATEGORIES);
+
+			ps.setLong(1, groupId);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				index.addEntryCategory(rs.getLong(1), rs.getLong(2));
+			}
+
+			DataAccess.cleanUp(null, ps, rs);
+
+			ps = con.prepareStatement(_SQL_SELECT_ENTRY_TAGS);
+
+			ps.setLong(1, groupId);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				index.addEntryTag(rs.getLong(1), rs.getLong(2));
+			}
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			DataAccess.cleanUp(con, ps, rs);
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Built asset entry bitmap index for group " + groupId +
+					" with " + index.getEntries().cardinality() + " entries");
+		}
+
+		return index;
+	}
+
+	private static Object _getBuildLock(long groupId) {
+		Object lock = _buildLocks.get(groupId);
+
+		if (lock == null) {
+			lock = new Object();
+
+			Object previousLock = _buildLocks.putIfAbsent(groupId, lock);
+
+			if (previousLock != null) {
+				lock = previousLock;
+			}
+		}
+
+		return lock;
+	}
+
+	private static void _registerCallback(final Callable<Void> callable) {
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				public Void call() throws Exception {
+					synchronized (_modCount) {
+						_modCount.incrementAndGet();
+
+						return callable.call();
+					}
+				}
+
+			});
+	}
+
+	private static final String _CACHE_NAME =
+		AssetEntryBitmapIndexUtil.class.getName();
+
+	private static final String _SQL_SELECT_ENTRIES =
+		"select entryId, classNameId, classTypeId from AssetEntry where " +
+			"groupId = ? order by entryId";
+
+	private static final String _SQL_SELECT_ENTRY_CATEGORIES =
+		"select AssetEntries_AssetCategories.entryId, " +
+			"AssetEntries_AssetCategories.categoryId from " +
+				"AssetEntries_AssetCategories inner join AssetEntry on " +
+					"AssetEntry.entryId = " +
+						"AssetEntries_AssetCategories.entryId where " +
+							"AssetEntry.groupId = ?";
+
+	private static final String _SQL_SELECT_ENTRY_TAGS =
+		"select AssetEntries_AssetTags.entryId, AssetEntries_AssetTags.tagId " +
+			"from AssetEntries_AssetTags inner join AssetEntry on " +
+				"AssetEntry.entryId = AssetEntries_AssetTags.entryId where " +
+					"AssetEntry.groupId = ?";
+
+	private static Log _log = LogFactoryUtil.getLog(
+		AssetEntryBitmapIndexUtil.class);
+
+	private static ConcurrentMap<Long, Object> _buildLocks =
+		new ConcurrentHashMap<Long, Object>();
+	private static AtomicLong _modCount = new AtomicLong();
+	private static PortalCache<Long, AssetEntryBitmapIndex> _portalCache =
+		MultiVMPoolUtil.getCache(_CACHE_NAME);
+
+}
@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.dao.orm.SQLQuery;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.dao.orm.Type;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.CalendarUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.StringBundler;
@@ -36,6 +37,7 @@ import com.liferay.util.dao.orm.CustomSQLUtil;
 import java.sql.Timestamp;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
@@ -55,12 +57,19 @@ public class AssetEntryFinderImpl
 		AssetEntryFinder.class.getName() + ".findByAndTagIds";
 
 	public int countEntries(AssetEntryQuery entryQuery) throws SystemException {
+		long[] entryIds = getIndexedEntryIds(entryQuery);
+
+		if ((entryIds != null) && (entryIds.length == 0)) {
+			return 0;
+		}
+
 		Session session = null;
 
 		try {
 			session = openSession();
 
-			SQLQuery q = buildAssetQuerySQL(entryQuery, true, session);
+			SQLQuery q = buildAssetQuerySQL(
+				entryQuery, entryIds, true, session);
 
 			Iterator<Long> itr = q.iterate();
 
@@ -85,12 +94,19 @@ public class AssetEntryFinderImpl
 	public List<AssetEntry> findEntries(AssetEntryQuery entryQuery)
 		throws SystemException {
 
+		long[] entryIds = getIndexedEntryIds(entryQuery);
+
+		if ((entryIds != null) && (entryIds.length == 0)) {
+			return Collections.emptyList();
+		}
+
 		Session session = null;
 
 		try {
 			session = openSession();
 
-			SQLQuery q = buildAssetQuerySQL(entryQuery, false, session);
+			SQLQuery q = buildAssetQuerySQL(
+				entryQuery, entryIds, false, session);
 
 			return (List<AssetEntry>)QueryUtil.list(
 				q, getDialect(), entryQuery.getStart(), entryQuery.getEnd());
@@ -214,7 +230,8 @@ public class AssetEntryFinderImpl
 	}
 
 	protected SQLQuery buildAssetQuerySQL(
-			AssetEntryQuery entryQuery, boolean count, Session session)
+			AssetEntryQuery entryQuery, long[] entryIds, boolean count,
+			Session session)
 		throws SystemException {
 
 		StringBundler sb = new StringBundler();
@@ -238,7 +255,7 @@ public class AssetEntryFinderImpl
 
 		sb.append("FROM AssetEntry ");
 
-		if (entryQuery.getAnyTagIds().length > 0) {
+		if ((entryIds == null) && (entryQuery.getAnyTagIds().length > 0)) {
 			sb.append("INNER JOIN ");
 			sb.append("AssetEntries_AssetTags ON ");
 			sb.append("(AssetEntries_AssetTags.entryId = ");
@@ -307,46 +324,55 @@ public class AssetEntryFinderImpl
 			sb.append(" AND (AssetEntry.layoutUuid = ?)");
 		}
 
-		// Category conditions
+		if (entryIds != null) {
 
-		if (entryQuery.getAllCategoryIds().length > 0) {
-			buildAllCategoriesSQL(entryQuery.getAllCategoryIds(), sb);
-		}
+			// Bitmap index
 
-		if (entryQuery.getAnyCategoryIds().length > 0) {
-			buildAnyCategoriesSQL(entryQuery.getAnyCategoryIds(), sb);
+			buildEntryIdsSQL(entryIds, sb);
 		}
+		else {
 
-		if (entryQuery.getNotAllCategoryIds().length > 0) {
-			buildNotAllCategoriesSQL(entryQuery.getNotAllCategoryIds(), sb);
-		}
+			// Category conditions
 
-		if (entryQuery.getNotAnyCategoryIds().length > 0) {
-			buildNotAnyCategoriesSQL(entryQuery.getNotAnyCategoryIds(), sb);
-		}
+			if (entryQuery.getAllCategoryIds().length > 0) {
+				buildAllCategoriesSQL(entryQuery.getAllCategoryIds(), sb);
+			}
 
-		// Asset entry subtypes
+			if (entryQuery.getAnyCategoryIds().length > 0) {
+				buildAnyCategoriesSQL(entryQuery.getAnyCategoryIds(), sb);
+			}
 
-		if (entryQuery.getClassTypeIds().length > 0) {
-			buildClassTypeIdsSQL(entryQuery.getClassTypeIds(), sb);
-		}
+			if (entryQuery.getNotAllCategoryIds().length > 0) {
+				buildNotAllCategoriesSQL(entryQuery.getNotAllCategoryIds(), sb);
+			}
 
-		// Tag conditions
+			if (entryQuery.getNotAnyCategoryIds().length > 0) {
+				buildNotAnyCategoriesSQL(entryQuery.getNotAnyCategoryIds(), sb);
+			}
 
-		if (entryQuery.getAllTagIds().length > 0) {
-			buildAllTagsSQL(entryQuery.getAllTagIdsArray(), sb);
-		}
+			// Asset entry subtypes
 
-		if (entryQuery.getAnyTagIds().length > 0) {
-			buildAnyTagsSQL(entryQuery.getAnyTagIds(), sb);
-		}
+			if (entryQuery.getClassTypeIds().length > 0) {
+				buildClassTypeIdsSQL(entryQuery.getClassTypeIds(), sb);
+			}
 
-		if (entryQuery.getNotAllTagIds().length > 0) {
-			buildNotAllTagsSQL(entryQuery.getNotAllTagIdsArray(), sb);
-		}
+			// Tag conditions
 
-		if (entryQuery.getNotAnyTagIds().length > 0) {
-			buildNotAnyTagsSQL(entryQuery.getNotAnyTagIds(), sb);
+			if (entryQuery.getAllTagIds().length > 0) {
+				buildAllTagsSQL(entryQuery.getAllTagIdsArray(), sb);
+			}
+
+			if (entryQuery.getAnyTagIds().length > 0) {
+				buildAnyTagsSQL(entryQuery.getAnyTagIds(), sb);
+			}
+
+			if (entryQuery.getNotAllTagIds().length > 0) {
+				buildNotAllTagsSQL(entryQuery.getNotAllTagIdsArray(), sb);
+			}
+
+			if (entryQuery.getNotAnyTagIds().length > 0) {
+				buildNotAnyTagsSQL(entryQuery.getNotAnyTagIds(), sb);
+			}
 		}
 
 		// Other conditions
@@ -462,6 +488,28 @@ public class AssetEntryFinderImpl
 		}
 	}
 
+	protected void buildEntryIdsSQL(long[] entryIds, StringBundler sb) {
+		sb.append(" AND (");
+
+		// Some databases, like Oracle, limit the size of an IN list
+
+		for (int i = 0; i < entryIds.length; i += _ENTRY_IDS_MAX_LENGTH) {
+			if (i > 0) {
+				sb.append(" OR ");
+			}
+
+			sb.append("AssetEntry.entryId IN (");
+			sb.append(
+				StringUtil.merge(
+					ArrayUtil.subset(
+						entryIds, i,
+						Math.min(i + _ENTRY_IDS_MAX_LENGTH, entryIds.length))));
+			sb.append(StringPool.CLOSE_PARENTHESIS);
+		}
+
+		sb.append(StringPool.CLOSE_PARENTHESIS);
+	}
+
 	protected void buildNotAllCategoriesSQL(
 			long[] categoryIds, StringBundler sb)
 		throws SystemException {
@@ -576,6 +624,49 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected AssetEntryBitmap getAllCategoryEntries(
+		AssetEntryBitmapIndex index, long[][] categoryIdsArray) {
+
+		AssetEntryBitmap bitmap = null;
+
+		for (long[] categoryIds : categoryIdsArray) {
+			AssetEntryBitmap categoryBitmap = index.getCategoryEntries(
+				categoryIds);
+
+			if (bitmap == null) {
+				bitmap = categoryBitmap;
+			}
+			else {
+				bitmap = bitmap.and(categoryBitmap);
+			}
+		}
+
+		return bitmap;
+	}
+
+	protected AssetEntryBitmap getAllTagEntries(
+		AssetEntryBitmapIndex index, long[][] tagIdsArray) {
+
+		AssetEntryBitmap bitmap = null;
+
+		for (long[] tagIds : tagIdsArray) {
+			if (tagIds.length == 0) {
+				continue;
+			}
+
+			AssetEntryBitmap tagBitmap = index.getTagEntries(tagIds);
+
+			if (bitmap == null) {
+				bitmap = tagBitmap;
+			}
+			else {
+				bitmap = bitmap.and(tagBitmap);
+			}
+		}
+
+		return bitmap;
+	}
+
 	protected String getClassNameIds(long[] classNameIds) {
 		if (classNameIds.length == 0) {
 			return StringPool.BLANK;
@@ -628,6 +719,107 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected long[] getIndexedEntryIds(AssetEntryQuery entryQuery)
+		throws SystemException {
+
+		if (!PropsValues.ASSET_ENTRY_BITMAP_INDEX_ENABLED ||
+			(entryQuery.getGroupIds().length == 0) ||
+			!hasIndexedConditions(entryQuery)) {
+
+			return null;
+		}
+
+		long[] classNameIds = entryQuery.getClassNameIds();
+		long[] classTypeIds = entryQuery.getClassTypeIds();
+
+		long[][] allCategoryIdsArray = getTreeCategoryIdsArray(
+			entryQuery.getAllCategoryIds());
+		long[] anyCategoryIds = getTreeCategoryIds(
+			entryQuery.getAnyCategoryIds());
+		long[][] notAllCategoryIdsArray = getTreeCategoryIdsArray(
+			entryQuery.getNotAllCategoryIds());
+		long[] notAnyCategoryIds = getTreeCategoryIds(
+			entryQuery.getNotAnyCategoryIds());
+
+		long[][] allTagIdsArray = entryQuery.getAllTagIdsArray();
+		long[] anyTagIds = entryQuery.getAnyTagIds();
+		long[][] notAllTagIdsArray = entryQuery.getNotAllTagIdsArray();
+		long[] notAnyTagIds = entryQuery.getNotAnyTagIds();
+
+		long[] entryIds = new long[0];
+
+		for (long groupId : entryQuery.getGroupIds()) {
+			AssetEntryBitmapIndex index = AssetEntryBitmapIndexUtil.getIndex(
+				groupId);
+
+			AssetEntryBitmap bitmap = null;
+
+			if (classNameIds.length > 0) {
+				bitmap = index.getClassNameEntries(classNameIds);
+			}
+			else {
+				bitmap = index.getEntries();
+			}
+
+			if (classTypeIds.length > 0) {
+				bitmap = bitmap.and(index.getClassTypeEntries(classTypeIds));
+			}
+
+			AssetEntryBitmap allBitmap = getAllCategoryEntries(
+				index, allCategoryIdsArray);
+
+			if (allBitmap != null) {
+				bitmap = bitmap.and(allBitmap);
+			}
+
+			if (anyCategoryIds.length > 0) {
+				bitmap = bitmap.and(index.getCategoryEntries(anyCategoryIds));
+			}
+
+			AssetEntryBitmap notAllBitmap = getAllCategoryEntries(
+				index, notAllCategoryIdsArray);
+
+			if (notAllBitmap != null) {
+				bitmap = bitmap.andNot(notAllBitmap);
+			}
+
+			if (notAnyCategoryIds.length > 0) {
+				bitmap = bitmap.andNot(
+					index.getCategoryEntries(notAnyCategoryIds));
+			}
+
+			allBitmap = getAllTagEntries(index, allTagIdsArray);
+
+			if (allBitmap != null) {
+				bitmap = bitmap.and(allBitmap);
+			}
+
+			if (anyTagIds.length > 0) {
+				bitmap = bitmap.and(index.getTagEntries(anyTagIds));
+			}
+
+			notAllBitmap = getAllTagEntries(index, notAllTagIdsArray);
+
+			if (notAllBitmap != null) {
+				bitmap = bitmap.andNot(notAllBitmap);
+			}
+
+			if (notAnyTagIds.length > 0) {
+				bitmap = bitmap.andNot(index.getTagEntries(notAnyTagIds));
+			}
+
+			if ((entryIds.length + bitmap.cardinality()) >
+					PropsValues.ASSET_ENTRY_BITMAP_INDEX_MAX_ENTRY_IDS) {
+
+				return null;
+			}
+
+			entryIds = ArrayUtil.append(entryIds, index.getEntryIds(bitmap));
+		}
+
+		return entryIds;
+	}
+
 	protected String getTagIds(long[] tagIds) {
 		StringBundler sb = new StringBundler((tagIds.length * 3) - 1);
 
@@ -643,6 +835,64 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected long[] getTreeCategoryIds(long[] categoryIds)
+		throws SystemException {
+
+		if (!PropsValues.ASSET_CATEGORIES_SEARCH_HIERARCHICAL) {
+			return categoryIds;
+		}
+
+		List<Long> categoryIdsList = new ArrayList<Long>();
+
+		for (long categoryId : categoryIds) {
+			categoryIdsList.addAll(
+				AssetCategoryFinderUtil.findByG_L(categoryId));
+		}
+
+		return ArrayUtil.toArray(
+			categoryIdsList.toArray(new Long[categoryIdsList.size()]));
+	}
+
+	protected long[][] getTreeCategoryIdsArray(long[] categoryIds)
+		throws SystemException {
+
+		long[][] categoryIdsArray = new long[categoryIds.length][];
+
+		for (int i = 0; i < categoryIds.length; i++) {
+			categoryIdsArray[i] = new long[] {categoryIds[i]};
+
+			if (PropsValues.ASSET_CATEGORIES_SEARCH_HIERARCHICAL) {
+				List<Long> treeCategoryIds = AssetCategoryFinderUtil.findByG_L(
+					categoryIds[i]);
+
+				if (treeCategoryIds.size() > 1) {
+					categoryIdsArray[i] = ArrayUtil.toArray(
+						treeCategoryIds.toArray(
+							new Long[treeCategoryIds.size()]));
+				}
+			}
+		}
+
+		return categoryIdsArray;
+	}
+
+	protected boolean hasIndexedConditions(AssetEntryQuery entryQuery) {
+		if ((entryQuery.getAllCategoryIds().length > 0) ||
+			(entryQuery.getAnyCategoryIds().length > 0) ||
+			(entryQuery.getNotAllCategoryIds().length > 0) ||
+			(entryQuery.getNotAnyCategoryIds().length > 0) ||
+			(entryQuery.getClassTypeIds().length > 0) ||
+			(entryQuery.getAllTagIds().length > 0) ||
+			(entryQuery.getAnyTagIds().length > 0) ||
+			(entryQuery.getNotAllTagIds().length > 0) ||
+			(entryQuery.getNotAnyTagIds().length > 0)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	protected void setDates(
 		QueryPos qPos, Date publishDate, Date expirationDate) {
 
@@ -660,4 +910,6 @@ public class AssetEntryFinderImpl
 		}
 	}
 
+	private static final int _ENTRY_IDS_MAX_LENGTH = 1000;
+
 }
\ No newline at end of file
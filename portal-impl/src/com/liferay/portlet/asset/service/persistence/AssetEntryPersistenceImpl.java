@@ -56,7 +56,10 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -3116,15 +3119,34 @@ public class AssetEntryPersistenceImpl extends BasePersistenceImpl<AssetEntry>
 	 * @param assetEntries the asset entries
 	 */
 	public void cacheResult(List<AssetEntry> assetEntries) {
+		Map<Serializable, AssetEntry> uncachedAssetEntries = new HashMap<Serializable, AssetEntry>();
+
 		for (AssetEntry assetEntry : assetEntries) {
-			if (EntityCacheUtil.getResult(
-						AssetEntryModelImpl.ENTITY_CACHE_ENABLED,
-						AssetEntryImpl.class, assetEntry.getPrimaryKey()) == null) {
-				cacheResult(assetEntry);
-			}
-			else {
-				assetEntry.resetOriginalValues();
-			}
+			uncachedAssetEntries.put(assetEntry.getPrimaryKeyObj(), assetEntry);
+		}
+
+		Map<Serializable, Serializable> cachedAssetEntries = EntityCacheUtil.getResults(AssetEntryModelImpl.ENTITY_CACHE_ENABLED,
+				AssetEntryImpl.class, uncachedAssetEntries.keySet());
+
+		for (Serializable primaryKey : cachedAssetEntries.keySet()) {
+			AssetEntry assetEntry = uncachedAssetEntries.remove(primaryKey);
+
+			assetEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetEntryModelImpl.ENTITY_CACHE_ENABLED,
+			AssetEntryImpl.class, uncachedAssetEntries);
+
+		for (AssetEntry assetEntry : uncachedAssetEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_CU,
+				new Object[] { assetEntry.getGroupId(), assetEntry.getClassUuid() },
+				assetEntry);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C,
+				new Object[] { assetEntry.getClassNameId(), assetEntry.getClassPK() },
+				assetEntry);
+
+			assetEntry.resetOriginalValues();
 		}
 	}
 
@@ -3171,12 +3193,16 @@ public class AssetEntryPersistenceImpl extends BasePersistenceImpl<AssetEntry>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetEntries.size());
+
 		for (AssetEntry assetEntry : assetEntries) {
-			EntityCacheUtil.removeResult(AssetEntryModelImpl.ENTITY_CACHE_ENABLED,
-				AssetEntryImpl.class, assetEntry.getPrimaryKey());
+			primaryKeys.add(assetEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetEntry);
 		}
+
+		EntityCacheUtil.removeResults(AssetEntryModelImpl.ENTITY_CACHE_ENABLED,
+			AssetEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AssetEntry assetEntry) {
@@ -3665,6 +3691,113 @@ public class AssetEntryPersistenceImpl extends BasePersistenceImpl<AssetEntry>
 		return fetchByPrimaryKey((Serializable)entryId);
 	}
 
+	/**
+	 * Returns the asset entries with the primary keys, keyed by primary key. Primary keys without a matching asset entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset entries
+	 * @return the asset entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetEntry> map = new HashMap<Serializable, AssetEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetEntry assetEntry = fetchByPrimaryKey(primaryKey);
+
+			if (assetEntry != null) {
+				map.put(primaryKey, assetEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetEntry assetEntry = (AssetEntry)EntityCacheUtil.getResult(AssetEntryModelImpl.ENTITY_CACHE_ENABLED,
+					AssetEntryImpl.class, primaryKey);
+
+			if (assetEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetEntry != _nullAssetEntry) {
+				map.put(primaryKey, assetEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetEntry assetEntry : (List<AssetEntry>)q.list()) {
+					map.put(assetEntry.getPrimaryKeyObj(), assetEntry);
+
+					cacheResult(assetEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetEntryModelImpl.ENTITY_CACHE_ENABLED,
+						AssetEntryImpl.class, primaryKey, _nullAssetEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset entries.
 	 *
@@ -5224,6 +5357,7 @@ public class AssetEntryPersistenceImpl extends BasePersistenceImpl<AssetEntry>
 	}
 
 	private static final String _SQL_SELECT_ASSETENTRY = "SELECT assetEntry FROM AssetEntry assetEntry";
+	private static final String _SQL_SELECT_ASSETENTRY_WHERE_PKS_IN = "SELECT assetEntry FROM AssetEntry assetEntry WHERE assetEntry.entryId IN (";
 	private static final String _SQL_SELECT_ASSETENTRY_WHERE = "SELECT assetEntry FROM AssetEntry assetEntry WHERE ";
 	private static final String _SQL_COUNT_ASSETENTRY = "SELECT COUNT(assetEntry) FROM AssetEntry assetEntry";
 	private static final String _SQL_COUNT_ASSETENTRY_WHERE = "SELECT COUNT(assetEntry) FROM AssetEntry assetEntry WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the asset link service.
@@ -2838,15 +2842,32 @@ public class AssetLinkPersistenceImpl extends BasePersistenceImpl<AssetLink>
 	 * @param assetLinks the asset links
 	 */
 	public void cacheResult(List<AssetLink> assetLinks) {
+		Map<Serializable, AssetLink> uncachedAssetLinks = new HashMap<Serializable, AssetLink>();
+
 		for (AssetLink assetLink : assetLinks) {
-			if (EntityCacheUtil.getResult(
-						AssetLinkModelImpl.ENTITY_CACHE_ENABLED,
-						AssetLinkImpl.class, assetLink.getPrimaryKey()) == null) {
-				cacheResult(assetLink);
-			}
-			else {
-				assetLink.resetOriginalValues();
-			}
+			uncachedAssetLinks.put(assetLink.getPrimaryKeyObj(), assetLink);
+		}
+
+		Map<Serializable, Serializable> cachedAssetLinks = EntityCacheUtil.getResults(AssetLinkModelImpl.ENTITY_CACHE_ENABLED,
+				AssetLinkImpl.class, uncachedAssetLinks.keySet());
+
+		for (Serializable primaryKey : cachedAssetLinks.keySet()) {
+			AssetLink assetLink = uncachedAssetLinks.remove(primaryKey);
+
+			assetLink.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetLinkModelImpl.ENTITY_CACHE_ENABLED,
+			AssetLinkImpl.class, uncachedAssetLinks);
+
+		for (AssetLink assetLink : uncachedAssetLinks.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_E_E_T,
+				new Object[] {
+					assetLink.getEntryId1(), assetLink.getEntryId2(),
+					assetLink.getType()
+				}, assetLink);
+
+			assetLink.resetOriginalValues();
 		}
 	}
 
@@ -2893,12 +2914,16 @@ public class AssetLinkPersistenceImpl extends BasePersistenceImpl<AssetLink>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetLinks.size());
+
 		for (AssetLink assetLink : assetLinks) {
-			EntityCacheUtil.removeResult(AssetLinkModelImpl.ENTITY_CACHE_ENABLED,
-				AssetLinkImpl.class, assetLink.getPrimaryKey());
+			primaryKeys.add(assetLink.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetLink);
 		}
+
+		EntityCacheUtil.removeResults(AssetLinkModelImpl.ENTITY_CACHE_ENABLED,
+			AssetLinkImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AssetLink assetLink) {
@@ -3322,6 +3347,113 @@ public class AssetLinkPersistenceImpl extends BasePersistenceImpl<AssetLink>
 		return fetchByPrimaryKey((Serializable)linkId);
 	}
 
+	/**
+	 * Returns the asset links with the primary keys, keyed by primary key. Primary keys without a matching asset link are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset links
+	 * @return the asset links, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetLink> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetLink> map = new HashMap<Serializable, AssetLink>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetLink assetLink = fetchByPrimaryKey(primaryKey);
+
+			if (assetLink != null) {
+				map.put(primaryKey, assetLink);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetLink assetLink = (AssetLink)EntityCacheUtil.getResult(AssetLinkModelImpl.ENTITY_CACHE_ENABLED,
+					AssetLinkImpl.class, primaryKey);
+
+			if (assetLink == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetLink != _nullAssetLink) {
+				map.put(primaryKey, assetLink);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETLINK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetLink assetLink : (List<AssetLink>)q.list()) {
+					map.put(assetLink.getPrimaryKeyObj(), assetLink);
+
+					cacheResult(assetLink);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetLinkModelImpl.ENTITY_CACHE_ENABLED,
+						AssetLinkImpl.class, primaryKey, _nullAssetLink);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset links.
 	 *
@@ -3523,6 +3655,7 @@ public class AssetLinkPersistenceImpl extends BasePersistenceImpl<AssetLink>
 	}
 
 	private static final String _SQL_SELECT_ASSETLINK = "SELECT assetLink FROM AssetLink assetLink";
+	private static final String _SQL_SELECT_ASSETLINK_WHERE_PKS_IN = "SELECT assetLink FROM AssetLink assetLink WHERE assetLink.linkId IN (";
 	private static final String _SQL_SELECT_ASSETLINK_WHERE = "SELECT assetLink FROM AssetLink assetLink WHERE ";
 	private static final String _SQL_COUNT_ASSETLINK = "SELECT COUNT(assetLink) FROM AssetLink assetLink";
 	private static final String _SQL_COUNT_ASSETLINK_WHERE = "SELECT COUNT(assetLink) FROM AssetLink assetLink WHERE ";
@@ -55,7 +55,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -1207,15 +1210,29 @@ public class AssetTagPersistenceImpl extends BasePersistenceImpl<AssetTag>
 	 * @param assetTags the asset tags
 	 */
 	public void cacheResult(List<AssetTag> assetTags) {
+		Map<Serializable, AssetTag> uncachedAssetTags = new HashMap<Serializable, AssetTag>();
+
 		for (AssetTag assetTag : assetTags) {
-			if (EntityCacheUtil.getResult(
-						AssetTagModelImpl.ENTITY_CACHE_ENABLED,
-						AssetTagImpl.class, assetTag.getPrimaryKey()) == null) {
-				cacheResult(assetTag);
-			}
-			else {
-				assetTag.resetOriginalValues();
-			}
+			uncachedAssetTags.put(assetTag.getPrimaryKeyObj(), assetTag);
+		}
+
+		Map<Serializable, Serializable> cachedAssetTags = EntityCacheUtil.getResults(AssetTagModelImpl.ENTITY_CACHE_ENABLED,
+				AssetTagImpl.class, uncachedAssetTags.keySet());
+
+		for (Serializable primaryKey : cachedAssetTags.keySet()) {
+			AssetTag assetTag = uncachedAssetTags.remove(primaryKey);
+
+			assetTag.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetTagModelImpl.ENTITY_CACHE_ENABLED,
+			AssetTagImpl.class, uncachedAssetTags);
+
+		for (AssetTag assetTag : uncachedAssetTags.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N,
+				new Object[] { assetTag.getGroupId(), assetTag.getName() }, assetTag);
+
+			assetTag.resetOriginalValues();
 		}
 	}
 
@@ -1262,12 +1279,16 @@ public class AssetTagPersistenceImpl extends BasePersistenceImpl<AssetTag>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetTags.size());
+
 		for (AssetTag assetTag : assetTags) {
-			EntityCacheUtil.removeResult(AssetTagModelImpl.ENTITY_CACHE_ENABLED,
-				AssetTagImpl.class, assetTag.getPrimaryKey());
+			primaryKeys.add(assetTag.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetTag);
 		}
+
+		EntityCacheUtil.removeResults(AssetTagModelImpl.ENTITY_CACHE_ENABLED,
+			AssetTagImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AssetTag assetTag) {
@@ -1612,6 +1633,113 @@ public class AssetTagPersistenceImpl extends BasePersistenceImpl<AssetTag>
 		return fetchByPrimaryKey((Serializable)tagId);
 	}
 
+	/**
+	 * Returns the asset tags with the primary keys, keyed by primary key. Primary keys without a matching asset tag are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset tags
+	 * @return the asset tags, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetTag> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetTag> map = new HashMap<Serializable, AssetTag>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetTag assetTag = fetchByPrimaryKey(primaryKey);
+
+			if (assetTag != null) {
+				map.put(primaryKey, assetTag);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetTag assetTag = (AssetTag)EntityCacheUtil.getResult(AssetTagModelImpl.ENTITY_CACHE_ENABLED,
+					AssetTagImpl.class, primaryKey);
+
+			if (assetTag == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetTag != _nullAssetTag) {
+				map.put(primaryKey, assetTag);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETTAG_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetTag assetTag : (List<AssetTag>)q.list()) {
+					map.put(assetTag.getPrimaryKeyObj(), assetTag);
+
+					cacheResult(assetTag);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetTagModelImpl.ENTITY_CACHE_ENABLED,
+						AssetTagImpl.class, primaryKey, _nullAssetTag);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset tags.
 	 *
@@ -2492,6 +2620,7 @@ public class AssetTagPersistenceImpl extends BasePersistenceImpl<AssetTag>
 	}
 
 	private static final String _SQL_SELECT_ASSETTAG = "SELECT assetTag FROM AssetTag assetTag";
+	private static final String _SQL_SELECT_ASSETTAG_WHERE_PKS_IN = "SELECT assetTag FROM AssetTag assetTag WHERE assetTag.tagId IN (";
 	private static final String _SQL_SELECT_ASSETTAG_WHERE = "SELECT assetTag FROM AssetTag assetTag WHERE ";
 	private static final String _SQL_COUNT_ASSETTAG = "SELECT COUNT(assetTag) FROM AssetTag assetTag";
 	private static final String _SQL_COUNT_ASSETTAG_WHERE = "SELECT COUNT(assetTag) FROM AssetTag assetTag WHERE ";
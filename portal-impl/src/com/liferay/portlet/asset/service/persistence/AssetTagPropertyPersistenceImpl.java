@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the asset tag property service.
@@ -1881,16 +1885,31 @@ public class AssetTagPropertyPersistenceImpl extends BasePersistenceImpl<AssetTa
 	 * @param assetTagProperties the asset tag properties
 	 */
 	public void cacheResult(List<AssetTagProperty> assetTagProperties) {
+		Map<Serializable, AssetTagProperty> uncachedAssetTagProperties = new HashMap<Serializable, AssetTagProperty>();
+
 		for (AssetTagProperty assetTagProperty : assetTagProperties) {
-			if (EntityCacheUtil.getResult(
-						AssetTagPropertyModelImpl.ENTITY_CACHE_ENABLED,
-						AssetTagPropertyImpl.class,
-						assetTagProperty.getPrimaryKey()) == null) {
-				cacheResult(assetTagProperty);
-			}
-			else {
-				assetTagProperty.resetOriginalValues();
-			}
+			uncachedAssetTagProperties.put(assetTagProperty.getPrimaryKeyObj(),
+				assetTagProperty);
+		}
+
+		Map<Serializable, Serializable> cachedAssetTagProperties = EntityCacheUtil.getResults(AssetTagPropertyModelImpl.ENTITY_CACHE_ENABLED,
+				AssetTagPropertyImpl.class, uncachedAssetTagProperties.keySet());
+
+		for (Serializable primaryKey : cachedAssetTagProperties.keySet()) {
+			AssetTagProperty assetTagProperty = uncachedAssetTagProperties.remove(primaryKey);
+
+			assetTagProperty.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetTagPropertyModelImpl.ENTITY_CACHE_ENABLED,
+			AssetTagPropertyImpl.class, uncachedAssetTagProperties);
+
+		for (AssetTagProperty assetTagProperty : uncachedAssetTagProperties.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_T_K,
+				new Object[] { assetTagProperty.getTagId(), assetTagProperty.getKey() },
+				assetTagProperty);
+
+			assetTagProperty.resetOriginalValues();
 		}
 	}
 
@@ -1937,12 +1956,16 @@ public class AssetTagPropertyPersistenceImpl extends BasePersistenceImpl<AssetTa
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetTagProperties.size());
+
 		for (AssetTagProperty assetTagProperty : assetTagProperties) {
-			EntityCacheUtil.removeResult(AssetTagPropertyModelImpl.ENTITY_CACHE_ENABLED,
-				AssetTagPropertyImpl.class, assetTagProperty.getPrimaryKey());
+			primaryKeys.add(assetTagProperty.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetTagProperty);
 		}
+
+		EntityCacheUtil.removeResults(AssetTagPropertyModelImpl.ENTITY_CACHE_ENABLED,
+			AssetTagPropertyImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AssetTagProperty assetTagProperty) {
@@ -2326,6 +2349,113 @@ public class AssetTagPropertyPersistenceImpl extends BasePersistenceImpl<AssetTa
 		return fetchByPrimaryKey((Serializable)tagPropertyId);
 	}
 
+	/**
+	 * Returns the asset tag properties with the primary keys, keyed by primary key. Primary keys without a matching asset tag property are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset tag properties
+	 * @return the asset tag properties, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetTagProperty> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetTagProperty> map = new HashMap<Serializable, AssetTagProperty>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetTagProperty assetTagProperty = fetchByPrimaryKey(primaryKey);
+
+			if (assetTagProperty != null) {
+				map.put(primaryKey, assetTagProperty);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetTagProperty assetTagProperty = (AssetTagProperty)EntityCacheUtil.getResult(AssetTagPropertyModelImpl.ENTITY_CACHE_ENABLED,
+					AssetTagPropertyImpl.class, primaryKey);
+
+			if (assetTagProperty == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetTagProperty != _nullAssetTagProperty) {
+				map.put(primaryKey, assetTagProperty);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETTAGPROPERTY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetTagProperty assetTagProperty : (List<AssetTagProperty>)q.list()) {
+					map.put(assetTagProperty.getPrimaryKeyObj(), assetTagProperty);
+
+					cacheResult(assetTagProperty);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetTagPropertyModelImpl.ENTITY_CACHE_ENABLED,
+						AssetTagPropertyImpl.class, primaryKey, _nullAssetTagProperty);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset tag properties.
 	 *
@@ -2527,6 +2657,7 @@ public class AssetTagPropertyPersistenceImpl extends BasePersistenceImpl<AssetTa
 	}
 
 	private static final String _SQL_SELECT_ASSETTAGPROPERTY = "SELECT assetTagProperty FROM AssetTagProperty assetTagProperty";
+	private static final String _SQL_SELECT_ASSETTAGPROPERTY_WHERE_PKS_IN = "SELECT assetTagProperty FROM AssetTagProperty assetTagProperty WHERE assetTagProperty.tagPropertyId IN (";
 	private static final String _SQL_SELECT_ASSETTAGPROPERTY_WHERE = "SELECT assetTagProperty FROM AssetTagProperty assetTagProperty WHERE ";
 	private static final String _SQL_COUNT_ASSETTAGPROPERTY = "SELECT COUNT(assetTagProperty) FROM AssetTagProperty assetTagProperty";
 	private static final String _SQL_COUNT_ASSETTAGPROPERTY_WHERE = "SELECT COUNT(assetTagProperty) FROM AssetTagProperty assetTagProperty WHERE ";
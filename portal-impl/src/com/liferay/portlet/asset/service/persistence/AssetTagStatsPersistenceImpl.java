@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the asset tag stats service.
@@ -1289,15 +1293,32 @@ public class AssetTagStatsPersistenceImpl extends BasePersistenceImpl<AssetTagSt
 	 * @param assetTagStatses the asset tag statses
 	 */
 	public void cacheResult(List<AssetTagStats> assetTagStatses) {
+		Map<Serializable, AssetTagStats> uncachedAssetTagStatses = new HashMap<Serializable, AssetTagStats>();
+
 		for (AssetTagStats assetTagStats : assetTagStatses) {
-			if (EntityCacheUtil.getResult(
-						AssetTagStatsModelImpl.ENTITY_CACHE_ENABLED,
-						AssetTagStatsImpl.class, assetTagStats.getPrimaryKey()) == null) {
-				cacheResult(assetTagStats);
-			}
-			else {
-				assetTagStats.resetOriginalValues();
-			}
+			uncachedAssetTagStatses.put(assetTagStats.getPrimaryKeyObj(),
+				assetTagStats);
+		}
+
+		Map<Serializable, Serializable> cachedAssetTagStatses = EntityCacheUtil.getResults(AssetTagStatsModelImpl.ENTITY_CACHE_ENABLED,
+				AssetTagStatsImpl.class, uncachedAssetTagStatses.keySet());
+
+		for (Serializable primaryKey : cachedAssetTagStatses.keySet()) {
+			AssetTagStats assetTagStats = uncachedAssetTagStatses.remove(primaryKey);
+
+			assetTagStats.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetTagStatsModelImpl.ENTITY_CACHE_ENABLED,
+			AssetTagStatsImpl.class, uncachedAssetTagStatses);
+
+		for (AssetTagStats assetTagStats : uncachedAssetTagStatses.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_T_C,
+				new Object[] {
+					assetTagStats.getTagId(), assetTagStats.getClassNameId()
+				}, assetTagStats);
+
+			assetTagStats.resetOriginalValues();
 		}
 	}
 
@@ -1344,12 +1365,16 @@ public class AssetTagStatsPersistenceImpl extends BasePersistenceImpl<AssetTagSt
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetTagStatses.size());
+
 		for (AssetTagStats assetTagStats : assetTagStatses) {
-			EntityCacheUtil.removeResult(AssetTagStatsModelImpl.ENTITY_CACHE_ENABLED,
-				AssetTagStatsImpl.class, assetTagStats.getPrimaryKey());
+			primaryKeys.add(assetTagStats.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetTagStats);
 		}
+
+		EntityCacheUtil.removeResults(AssetTagStatsModelImpl.ENTITY_CACHE_ENABLED,
+			AssetTagStatsImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AssetTagStats assetTagStats) {
@@ -1705,6 +1730,113 @@ public class AssetTagStatsPersistenceImpl extends BasePersistenceImpl<AssetTagSt
 		return fetchByPrimaryKey((Serializable)tagStatsId);
 	}
 
+	/**
+	 * Returns the asset tag statses with the primary keys, keyed by primary key. Primary keys without a matching asset tag stats are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset tag statses
+	 * @return the asset tag statses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetTagStats> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetTagStats> map = new HashMap<Serializable, AssetTagStats>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetTagStats assetTagStats = fetchByPrimaryKey(primaryKey);
+
+			if (assetTagStats != null) {
+				map.put(primaryKey, assetTagStats);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetTagStats assetTagStats = (AssetTagStats)EntityCacheUtil.getResult(AssetTagStatsModelImpl.ENTITY_CACHE_ENABLED,
+					AssetTagStatsImpl.class, primaryKey);
+
+			if (assetTagStats == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetTagStats != _nullAssetTagStats) {
+				map.put(primaryKey, assetTagStats);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETTAGSTATS_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetTagStats assetTagStats : (List<AssetTagStats>)q.list()) {
+					map.put(assetTagStats.getPrimaryKeyObj(), assetTagStats);
+
+					cacheResult(assetTagStats);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetTagStatsModelImpl.ENTITY_CACHE_ENABLED,
+						AssetTagStatsImpl.class, primaryKey, _nullAssetTagStats);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset tag statses.
 	 *
@@ -1906,6 +2038,7 @@ public class AssetTagStatsPersistenceImpl extends BasePersistenceImpl<AssetTagSt
 	}
 
 	private static final String _SQL_SELECT_ASSETTAGSTATS = "SELECT assetTagStats FROM AssetTagStats assetTagStats";
+	private static final String _SQL_SELECT_ASSETTAGSTATS_WHERE_PKS_IN = "SELECT assetTagStats FROM AssetTagStats assetTagStats WHERE assetTagStats.tagStatsId IN (";
 	private static final String _SQL_SELECT_ASSETTAGSTATS_WHERE = "SELECT assetTagStats FROM AssetTagStats assetTagStats WHERE ";
 	private static final String _SQL_COUNT_ASSETTAGSTATS = "SELECT COUNT(assetTagStats) FROM AssetTagStats assetTagStats";
 	private static final String _SQL_COUNT_ASSETTAGSTATS_WHERE = "SELECT COUNT(assetTagStats) FROM AssetTagStats assetTagStats WHERE ";
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the asset vocabulary service.
@@ -3032,16 +3036,35 @@ public class AssetVocabularyPersistenceImpl extends BasePersistenceImpl<AssetVoc
 	 * @param assetVocabularies the asset vocabularies
 	 */
 	public void cacheResult(List<AssetVocabulary> assetVocabularies) {
+		Map<Serializable, AssetVocabulary> uncachedAssetVocabularies = new HashMap<Serializable, AssetVocabulary>();
+
 		for (AssetVocabulary assetVocabulary : assetVocabularies) {
-			if (EntityCacheUtil.getResult(
-						AssetVocabularyModelImpl.ENTITY_CACHE_ENABLED,
-						AssetVocabularyImpl.class,
-						assetVocabulary.getPrimaryKey()) == null) {
-				cacheResult(assetVocabulary);
-			}
-			else {
-				assetVocabulary.resetOriginalValues();
-			}
+			uncachedAssetVocabularies.put(assetVocabulary.getPrimaryKeyObj(),
+				assetVocabulary);
+		}
+
+		Map<Serializable, Serializable> cachedAssetVocabularies = EntityCacheUtil.getResults(AssetVocabularyModelImpl.ENTITY_CACHE_ENABLED,
+				AssetVocabularyImpl.class, uncachedAssetVocabularies.keySet());
+
+		for (Serializable primaryKey : cachedAssetVocabularies.keySet()) {
+			AssetVocabulary assetVocabulary = uncachedAssetVocabularies.remove(primaryKey);
+
+			assetVocabulary.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(AssetVocabularyModelImpl.ENTITY_CACHE_ENABLED,
+			AssetVocabularyImpl.class, uncachedAssetVocabularies);
+
+		for (AssetVocabulary assetVocabulary : uncachedAssetVocabularies.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { assetVocabulary.getUuid(), assetVocabulary.getGroupId() },
+				assetVocabulary);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N,
+				new Object[] { assetVocabulary.getGroupId(), assetVocabulary.getName() },
+				assetVocabulary);
+
+			assetVocabulary.resetOriginalValues();
 		}
 	}
 
@@ -3088,12 +3111,16 @@ public class AssetVocabularyPersistenceImpl extends BasePersistenceImpl<AssetVoc
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(assetVocabularies.size());
+
 		for (AssetVocabulary assetVocabulary : assetVocabularies) {
-			EntityCacheUtil.removeResult(AssetVocabularyModelImpl.ENTITY_CACHE_ENABLED,
-				AssetVocabularyImpl.class, assetVocabulary.getPrimaryKey());
+			primaryKeys.add(assetVocabulary.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(assetVocabulary);
 		}
+
+		EntityCacheUtil.removeResults(AssetVocabularyModelImpl.ENTITY_CACHE_ENABLED,
+			AssetVocabularyImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(AssetVocabulary assetVocabulary) {
@@ -3545,6 +3572,113 @@ public class AssetVocabularyPersistenceImpl extends BasePersistenceImpl<AssetVoc
 		return fetchByPrimaryKey((Serializable)vocabularyId);
 	}
 
+	/**
+	 * Returns the asset vocabularies with the primary keys, keyed by primary key. Primary keys without a matching asset vocabulary are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the asset vocabularies
+	 * @return the asset vocabularies, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, AssetVocabulary> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, AssetVocabulary> map = new HashMap<Serializable, AssetVocabulary>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			AssetVocabulary assetVocabulary = fetchByPrimaryKey(primaryKey);
+
+			if (assetVocabulary != null) {
+				map.put(primaryKey, assetVocabulary);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			AssetVocabulary assetVocabulary = (AssetVocabulary)EntityCacheUtil.getResult(AssetVocabularyModelImpl.ENTITY_CACHE_ENABLED,
+					AssetVocabularyImpl.class, primaryKey);
+
+			if (assetVocabulary == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (assetVocabulary != _nullAssetVocabulary) {
+				map.put(primaryKey, assetVocabulary);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ASSETVOCABULARY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (AssetVocabulary assetVocabulary : (List<AssetVocabulary>)q.list()) {
+					map.put(assetVocabulary.getPrimaryKeyObj(), assetVocabulary);
+
+					cacheResult(assetVocabulary);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(AssetVocabularyModelImpl.ENTITY_CACHE_ENABLED,
+						AssetVocabularyImpl.class, primaryKey, _nullAssetVocabulary);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the asset vocabularies.
 	 *
@@ -3746,6 +3880,7 @@ public class AssetVocabularyPersistenceImpl extends BasePersistenceImpl<AssetVoc
 	}
 
 	private static final String _SQL_SELECT_ASSETVOCABULARY = "SELECT assetVocabulary FROM AssetVocabulary assetVocabulary";
+	private static final String _SQL_SELECT_ASSETVOCABULARY_WHERE_PKS_IN = "SELECT assetVocabulary FROM AssetVocabulary assetVocabulary WHERE assetVocabulary.vocabularyId IN (";
 	private static final String _SQL_SELECT_ASSETVOCABULARY_WHERE = "SELECT assetVocabulary FROM AssetVocabulary assetVocabulary WHERE ";
 	private static final String _SQL_COUNT_ASSETVOCABULARY = "SELECT COUNT(assetVocabulary) FROM AssetVocabulary assetVocabulary";
 	private static final String _SQL_COUNT_ASSETVOCABULARY_WHERE = "SELECT COUNT(assetVocabulary) FROM AssetVocabulary assetVocabulary WHERE ";
@@ -56,7 +56,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the blogs entry service.
@@ -17570,15 +17574,34 @@ public class BlogsEntryPersistenceImpl extends BasePersistenceImpl<BlogsEntry>
 	 * @param blogsEntries the blogs entries
 	 */
 	public void cacheResult(List<BlogsEntry> blogsEntries) {
+		Map<Serializable, BlogsEntry> uncachedBlogsEntries = new HashMap<Serializable, BlogsEntry>();
+
 		for (BlogsEntry blogsEntry : blogsEntries) {
-			if (EntityCacheUtil.getResult(
-						BlogsEntryModelImpl.ENTITY_CACHE_ENABLED,
-						BlogsEntryImpl.class, blogsEntry.getPrimaryKey()) == null) {
-				cacheResult(blogsEntry);
-			}
-			else {
-				blogsEntry.resetOriginalValues();
-			}
+			uncachedBlogsEntries.put(blogsEntry.getPrimaryKeyObj(), blogsEntry);
+		}
+
+		Map<Serializable, Serializable> cachedBlogsEntries = EntityCacheUtil.getResults(BlogsEntryModelImpl.ENTITY_CACHE_ENABLED,
+				BlogsEntryImpl.class, uncachedBlogsEntries.keySet());
+
+		for (Serializable primaryKey : cachedBlogsEntries.keySet()) {
+			BlogsEntry blogsEntry = uncachedBlogsEntries.remove(primaryKey);
+
+			blogsEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(BlogsEntryModelImpl.ENTITY_CACHE_ENABLED,
+			BlogsEntryImpl.class, uncachedBlogsEntries);
+
+		for (BlogsEntry blogsEntry : uncachedBlogsEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { blogsEntry.getUuid(), blogsEntry.getGroupId() },
+				blogsEntry);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_UT,
+				new Object[] { blogsEntry.getGroupId(), blogsEntry.getUrlTitle() },
+				blogsEntry);
+
+			blogsEntry.resetOriginalValues();
 		}
 	}
 
@@ -17625,12 +17648,16 @@ public class BlogsEntryPersistenceImpl extends BasePersistenceImpl<BlogsEntry>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(blogsEntries.size());
+
 		for (BlogsEntry blogsEntry : blogsEntries) {
-			EntityCacheUtil.removeResult(BlogsEntryModelImpl.ENTITY_CACHE_ENABLED,
-				BlogsEntryImpl.class, blogsEntry.getPrimaryKey());
+			primaryKeys.add(blogsEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(blogsEntry);
 		}
+
+		EntityCacheUtil.removeResults(BlogsEntryModelImpl.ENTITY_CACHE_ENABLED,
+			BlogsEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(BlogsEntry blogsEntry) {
@@ -18228,6 +18255,113 @@ public class BlogsEntryPersistenceImpl extends BasePersistenceImpl<BlogsEntry>
 		return fetchByPrimaryKey((Serializable)entryId);
 	}
 
+	/**
+	 * Returns the blogs entries with the primary keys, keyed by primary key. Primary keys without a matching blogs entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the blogs entries
+	 * @return the blogs entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, BlogsEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, BlogsEntry> map = new HashMap<Serializable, BlogsEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			BlogsEntry blogsEntry = fetchByPrimaryKey(primaryKey);
+
+			if (blogsEntry != null) {
+				map.put(primaryKey, blogsEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			BlogsEntry blogsEntry = (BlogsEntry)EntityCacheUtil.getResult(BlogsEntryModelImpl.ENTITY_CACHE_ENABLED,
+					BlogsEntryImpl.class, primaryKey);
+
+			if (blogsEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (blogsEntry != _nullBlogsEntry) {
+				map.put(primaryKey, blogsEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_BLOGSENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (BlogsEntry blogsEntry : (List<BlogsEntry>)q.list()) {
+					map.put(blogsEntry.getPrimaryKeyObj(), blogsEntry);
+
+					cacheResult(blogsEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(BlogsEntryModelImpl.ENTITY_CACHE_ENABLED,
+						BlogsEntryImpl.class, primaryKey, _nullBlogsEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the blogs entries.
 	 *
@@ -18429,6 +18563,7 @@ public class BlogsEntryPersistenceImpl extends BasePersistenceImpl<BlogsEntry>
 	}
 
 	private static final String _SQL_SELECT_BLOGSENTRY = "SELECT blogsEntry FROM BlogsEntry blogsEntry";
+	private static final String _SQL_SELECT_BLOGSENTRY_WHERE_PKS_IN = "SELECT blogsEntry FROM BlogsEntry blogsEntry WHERE blogsEntry.entryId IN (";
 	private static final String _SQL_SELECT_BLOGSENTRY_WHERE = "SELECT blogsEntry FROM BlogsEntry blogsEntry WHERE ";
 	private static final String _SQL_COUNT_BLOGSENTRY = "SELECT COUNT(blogsEntry) FROM BlogsEntry blogsEntry";
 	private static final String _SQL_COUNT_BLOGSENTRY_WHERE = "SELECT COUNT(blogsEntry) FROM BlogsEntry blogsEntry WHERE ";
@@ -48,7 +48,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the blogs stats user service.
@@ -2846,15 +2850,31 @@ public class BlogsStatsUserPersistenceImpl extends BasePersistenceImpl<BlogsStat
 	 * @param blogsStatsUsers the blogs stats users
 	 */
 	public void cacheResult(List<BlogsStatsUser> blogsStatsUsers) {
+		Map<Serializable, BlogsStatsUser> uncachedBlogsStatsUsers = new HashMap<Serializable, BlogsStatsUser>();
+
 		for (BlogsStatsUser blogsStatsUser : blogsStatsUsers) {
-			if (EntityCacheUtil.getResult(
-						BlogsStatsUserModelImpl.ENTITY_CACHE_ENABLED,
-						BlogsStatsUserImpl.class, blogsStatsUser.getPrimaryKey()) == null) {
-				cacheResult(blogsStatsUser);
-			}
-			else {
-				blogsStatsUser.resetOriginalValues();
-			}
+			uncachedBlogsStatsUsers.put(blogsStatsUser.getPrimaryKeyObj(),
+				blogsStatsUser);
+		}
+
+		Map<Serializable, Serializable> cachedBlogsStatsUsers = EntityCacheUtil.getResults(BlogsStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+				BlogsStatsUserImpl.class, uncachedBlogsStatsUsers.keySet());
+
+		for (Serializable primaryKey : cachedBlogsStatsUsers.keySet()) {
+			BlogsStatsUser blogsStatsUser = uncachedBlogsStatsUsers.remove(primaryKey);
+
+			blogsStatsUser.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(BlogsStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+			BlogsStatsUserImpl.class, uncachedBlogsStatsUsers);
+
+		for (BlogsStatsUser blogsStatsUser : uncachedBlogsStatsUsers.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_U,
+				new Object[] { blogsStatsUser.getGroupId(), blogsStatsUser.getUserId() },
+				blogsStatsUser);
+
+			blogsStatsUser.resetOriginalValues();
 		}
 	}
 
@@ -2901,12 +2921,16 @@ public class BlogsStatsUserPersistenceImpl extends BasePersistenceImpl<BlogsStat
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(blogsStatsUsers.size());
+
 		for (BlogsStatsUser blogsStatsUser : blogsStatsUsers) {
-			EntityCacheUtil.removeResult(BlogsStatsUserModelImpl.ENTITY_CACHE_ENABLED,
-				BlogsStatsUserImpl.class, blogsStatsUser.getPrimaryKey());
+			primaryKeys.add(blogsStatsUser.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(blogsStatsUser);
 		}
+
+		EntityCacheUtil.removeResults(BlogsStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+			BlogsStatsUserImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(BlogsStatsUser blogsStatsUser) {
@@ -3287,6 +3311,113 @@ public class BlogsStatsUserPersistenceImpl extends BasePersistenceImpl<BlogsStat
 		return fetchByPrimaryKey((Serializable)statsUserId);
 	}
 
+	/**
+	 * Returns the blogs stats users with the primary keys, keyed by primary key. Primary keys without a matching blogs stats user are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the blogs stats users
+	 * @return the blogs stats users, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, BlogsStatsUser> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, BlogsStatsUser> map = new HashMap<Serializable, BlogsStatsUser>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			BlogsStatsUser blogsStatsUser = fetchByPrimaryKey(primaryKey);
+
+			if (blogsStatsUser != null) {
+				map.put(primaryKey, blogsStatsUser);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			BlogsStatsUser blogsStatsUser = (BlogsStatsUser)EntityCacheUtil.getResult(BlogsStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+					BlogsStatsUserImpl.class, primaryKey);
+
+			if (blogsStatsUser == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (blogsStatsUser != _nullBlogsStatsUser) {
+				map.put(primaryKey, blogsStatsUser);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_BLOGSSTATSUSER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (BlogsStatsUser blogsStatsUser : (List<BlogsStatsUser>)q.list()) {
+					map.put(blogsStatsUser.getPrimaryKeyObj(), blogsStatsUser);
+
+					cacheResult(blogsStatsUser);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(BlogsStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+						BlogsStatsUserImpl.class, primaryKey, _nullBlogsStatsUser);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the blogs stats users.
 	 *
@@ -3488,6 +3619,7 @@ public class BlogsStatsUserPersistenceImpl extends BasePersistenceImpl<BlogsStat
 	}
 
 	private static final String _SQL_SELECT_BLOGSSTATSUSER = "SELECT blogsStatsUser FROM BlogsStatsUser blogsStatsUser";
+	private static final String _SQL_SELECT_BLOGSSTATSUSER_WHERE_PKS_IN = "SELECT blogsStatsUser FROM BlogsStatsUser blogsStatsUser WHERE blogsStatsUser.statsUserId IN (";
 	private static final String _SQL_SELECT_BLOGSSTATSUSER_WHERE = "SELECT blogsStatsUser FROM BlogsStatsUser blogsStatsUser WHERE ";
 	private static final String _SQL_COUNT_BLOGSSTATSUSER = "SELECT COUNT(blogsStatsUser) FROM BlogsStatsUser blogsStatsUser";
 	private static final String _SQL_COUNT_BLOGSSTATSUSER_WHERE = "SELECT COUNT(blogsStatsUser) FROM BlogsStatsUser blogsStatsUser WHERE ";
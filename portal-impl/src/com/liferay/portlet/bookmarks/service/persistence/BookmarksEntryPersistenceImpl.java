@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the bookmarks entry service.
@@ -7981,15 +7985,31 @@ public class BookmarksEntryPersistenceImpl extends BasePersistenceImpl<Bookmarks
 	 * @param bookmarksEntries the bookmarks entries
 	 */
 	public void cacheResult(List<BookmarksEntry> bookmarksEntries) {
+		Map<Serializable, BookmarksEntry> uncachedBookmarksEntries = new HashMap<Serializable, BookmarksEntry>();
+
 		for (BookmarksEntry bookmarksEntry : bookmarksEntries) {
-			if (EntityCacheUtil.getResult(
-						BookmarksEntryModelImpl.ENTITY_CACHE_ENABLED,
-						BookmarksEntryImpl.class, bookmarksEntry.getPrimaryKey()) == null) {
-				cacheResult(bookmarksEntry);
-			}
-			else {
-				bookmarksEntry.resetOriginalValues();
-			}
+			uncachedBookmarksEntries.put(bookmarksEntry.getPrimaryKeyObj(),
+				bookmarksEntry);
+		}
+
+		Map<Serializable, Serializable> cachedBookmarksEntries = EntityCacheUtil.getResults(BookmarksEntryModelImpl.ENTITY_CACHE_ENABLED,
+				BookmarksEntryImpl.class, uncachedBookmarksEntries.keySet());
+
+		for (Serializable primaryKey : cachedBookmarksEntries.keySet()) {
+			BookmarksEntry bookmarksEntry = uncachedBookmarksEntries.remove(primaryKey);
+
+			bookmarksEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(BookmarksEntryModelImpl.ENTITY_CACHE_ENABLED,
+			BookmarksEntryImpl.class, uncachedBookmarksEntries);
+
+		for (BookmarksEntry bookmarksEntry : uncachedBookmarksEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { bookmarksEntry.getUuid(), bookmarksEntry.getGroupId() },
+				bookmarksEntry);
+
+			bookmarksEntry.resetOriginalValues();
 		}
 	}
 
@@ -8036,12 +8056,16 @@ public class BookmarksEntryPersistenceImpl extends BasePersistenceImpl<Bookmarks
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(bookmarksEntries.size());
+
 		for (BookmarksEntry bookmarksEntry : bookmarksEntries) {
-			EntityCacheUtil.removeResult(BookmarksEntryModelImpl.ENTITY_CACHE_ENABLED,
-				BookmarksEntryImpl.class, bookmarksEntry.getPrimaryKey());
+			primaryKeys.add(bookmarksEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(bookmarksEntry);
 		}
+
+		EntityCacheUtil.removeResults(BookmarksEntryModelImpl.ENTITY_CACHE_ENABLED,
+			BookmarksEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(BookmarksEntry bookmarksEntry) {
@@ -8557,6 +8581,113 @@ public class BookmarksEntryPersistenceImpl extends BasePersistenceImpl<Bookmarks
 		return fetchByPrimaryKey((Serializable)entryId);
 	}
 
+	/**
+	 * Returns the bookmarks entries with the primary keys, keyed by primary key. Primary keys without a matching bookmarks entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the bookmarks entries
+	 * @return the bookmarks entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, BookmarksEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, BookmarksEntry> map = new HashMap<Serializable, BookmarksEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			BookmarksEntry bookmarksEntry = fetchByPrimaryKey(primaryKey);
+
+			if (bookmarksEntry != null) {
+				map.put(primaryKey, bookmarksEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			BookmarksEntry bookmarksEntry = (BookmarksEntry)EntityCacheUtil.getResult(BookmarksEntryModelImpl.ENTITY_CACHE_ENABLED,
+					BookmarksEntryImpl.class, primaryKey);
+
+			if (bookmarksEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (bookmarksEntry != _nullBookmarksEntry) {
+				map.put(primaryKey, bookmarksEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_BOOKMARKSENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (BookmarksEntry bookmarksEntry : (List<BookmarksEntry>)q.list()) {
+					map.put(bookmarksEntry.getPrimaryKeyObj(), bookmarksEntry);
+
+					cacheResult(bookmarksEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(BookmarksEntryModelImpl.ENTITY_CACHE_ENABLED,
+						BookmarksEntryImpl.class, primaryKey, _nullBookmarksEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the bookmarks entries.
 	 *
@@ -8758,6 +8889,7 @@ public class BookmarksEntryPersistenceImpl extends BasePersistenceImpl<Bookmarks
 	}
 
 	private static final String _SQL_SELECT_BOOKMARKSENTRY = "SELECT bookmarksEntry FROM BookmarksEntry bookmarksEntry";
+	private static final String _SQL_SELECT_BOOKMARKSENTRY_WHERE_PKS_IN = "SELECT bookmarksEntry FROM BookmarksEntry bookmarksEntry WHERE bookmarksEntry.entryId IN (";
 	private static final String _SQL_SELECT_BOOKMARKSENTRY_WHERE = "SELECT bookmarksEntry FROM BookmarksEntry bookmarksEntry WHERE ";
 	private static final String _SQL_COUNT_BOOKMARKSENTRY = "SELECT COUNT(bookmarksEntry) FROM BookmarksEntry bookmarksEntry";
 	private static final String _SQL_COUNT_BOOKMARKSENTRY_WHERE = "SELECT COUNT(bookmarksEntry) FROM BookmarksEntry bookmarksEntry WHERE ";
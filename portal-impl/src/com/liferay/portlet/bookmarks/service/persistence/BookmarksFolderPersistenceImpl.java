@@ -48,7 +48,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the bookmarks folder service.
@@ -5820,16 +5824,31 @@ public class BookmarksFolderPersistenceImpl extends BasePersistenceImpl<Bookmark
 	 * @param bookmarksFolders the bookmarks folders
 	 */
 	public void cacheResult(List<BookmarksFolder> bookmarksFolders) {
+		Map<Serializable, BookmarksFolder> uncachedBookmarksFolders = new HashMap<Serializable, BookmarksFolder>();
+
 		for (BookmarksFolder bookmarksFolder : bookmarksFolders) {
-			if (EntityCacheUtil.getResult(
-						BookmarksFolderModelImpl.ENTITY_CACHE_ENABLED,
-						BookmarksFolderImpl.class,
-						bookmarksFolder.getPrimaryKey()) == null) {
-				cacheResult(bookmarksFolder);
-			}
-			else {
-				bookmarksFolder.resetOriginalValues();
-			}
+			uncachedBookmarksFolders.put(bookmarksFolder.getPrimaryKeyObj(),
+				bookmarksFolder);
+		}
+
+		Map<Serializable, Serializable> cachedBookmarksFolders = EntityCacheUtil.getResults(BookmarksFolderModelImpl.ENTITY_CACHE_ENABLED,
+				BookmarksFolderImpl.class, uncachedBookmarksFolders.keySet());
+
+		for (Serializable primaryKey : cachedBookmarksFolders.keySet()) {
+			BookmarksFolder bookmarksFolder = uncachedBookmarksFolders.remove(primaryKey);
+
+			bookmarksFolder.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(BookmarksFolderModelImpl.ENTITY_CACHE_ENABLED,
+			BookmarksFolderImpl.class, uncachedBookmarksFolders);
+
+		for (BookmarksFolder bookmarksFolder : uncachedBookmarksFolders.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { bookmarksFolder.getUuid(), bookmarksFolder.getGroupId() },
+				bookmarksFolder);
+
+			bookmarksFolder.resetOriginalValues();
 		}
 	}
 
@@ -5876,12 +5895,16 @@ public class BookmarksFolderPersistenceImpl extends BasePersistenceImpl<Bookmark
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(bookmarksFolders.size());
+
 		for (BookmarksFolder bookmarksFolder : bookmarksFolders) {
-			EntityCacheUtil.removeResult(BookmarksFolderModelImpl.ENTITY_CACHE_ENABLED,
-				BookmarksFolderImpl.class, bookmarksFolder.getPrimaryKey());
+			primaryKeys.add(bookmarksFolder.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(bookmarksFolder);
 		}
+
+		EntityCacheUtil.removeResults(BookmarksFolderModelImpl.ENTITY_CACHE_ENABLED,
+			BookmarksFolderImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(BookmarksFolder bookmarksFolder) {
@@ -6363,6 +6386,113 @@ public class BookmarksFolderPersistenceImpl extends BasePersistenceImpl<Bookmark
 		return fetchByPrimaryKey((Serializable)folderId);
 	}
 
+	/**
+	 * Returns the bookmarks folders with the primary keys, keyed by primary key. Primary keys without a matching bookmarks folder are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the bookmarks folders
+	 * @return the bookmarks folders, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, BookmarksFolder> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, BookmarksFolder> map = new HashMap<Serializable, BookmarksFolder>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			BookmarksFolder bookmarksFolder = fetchByPrimaryKey(primaryKey);
+
+			if (bookmarksFolder != null) {
+				map.put(primaryKey, bookmarksFolder);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			BookmarksFolder bookmarksFolder = (BookmarksFolder)EntityCacheUtil.getResult(BookmarksFolderModelImpl.ENTITY_CACHE_ENABLED,
+					BookmarksFolderImpl.class, primaryKey);
+
+			if (bookmarksFolder == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (bookmarksFolder != _nullBookmarksFolder) {
+				map.put(primaryKey, bookmarksFolder);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_BOOKMARKSFOLDER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (BookmarksFolder bookmarksFolder : (List<BookmarksFolder>)q.list()) {
+					map.put(bookmarksFolder.getPrimaryKeyObj(), bookmarksFolder);
+
+					cacheResult(bookmarksFolder);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(BookmarksFolderModelImpl.ENTITY_CACHE_ENABLED,
+						BookmarksFolderImpl.class, primaryKey, _nullBookmarksFolder);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the bookmarks folders.
 	 *
@@ -6564,6 +6694,7 @@ public class BookmarksFolderPersistenceImpl extends BasePersistenceImpl<Bookmark
 	}
 
 	private static final String _SQL_SELECT_BOOKMARKSFOLDER = "SELECT bookmarksFolder FROM BookmarksFolder bookmarksFolder";
+	private static final String _SQL_SELECT_BOOKMARKSFOLDER_WHERE_PKS_IN = "SELECT bookmarksFolder FROM BookmarksFolder bookmarksFolder WHERE bookmarksFolder.folderId IN (";
 	private static final String _SQL_SELECT_BOOKMARKSFOLDER_WHERE = "SELECT bookmarksFolder FROM BookmarksFolder bookmarksFolder WHERE ";
 	private static final String _SQL_COUNT_BOOKMARKSFOLDER = "SELECT COUNT(bookmarksFolder) FROM BookmarksFolder bookmarksFolder";
 	private static final String _SQL_COUNT_BOOKMARKSFOLDER_WHERE = "SELECT COUNT(bookmarksFolder) FROM BookmarksFolder bookmarksFolder WHERE ";
@@ -55,7 +55,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the cal event service.
@@ -7289,15 +7293,29 @@ public class CalEventPersistenceImpl extends BasePersistenceImpl<CalEvent>
 	 * @param calEvents the cal events
 	 */
 	public void cacheResult(List<CalEvent> calEvents) {
+		Map<Serializable, CalEvent> uncachedCalEvents = new HashMap<Serializable, CalEvent>();
+
 		for (CalEvent calEvent : calEvents) {
-			if (EntityCacheUtil.getResult(
-						CalEventModelImpl.ENTITY_CACHE_ENABLED,
-						CalEventImpl.class, calEvent.getPrimaryKey()) == null) {
-				cacheResult(calEvent);
-			}
-			else {
-				calEvent.resetOriginalValues();
-			}
+			uncachedCalEvents.put(calEvent.getPrimaryKeyObj(), calEvent);
+		}
+
+		Map<Serializable, Serializable> cachedCalEvents = EntityCacheUtil.getResults(CalEventModelImpl.ENTITY_CACHE_ENABLED,
+				CalEventImpl.class, uncachedCalEvents.keySet());
+
+		for (Serializable primaryKey : cachedCalEvents.keySet()) {
+			CalEvent calEvent = uncachedCalEvents.remove(primaryKey);
+
+			calEvent.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(CalEventModelImpl.ENTITY_CACHE_ENABLED,
+			CalEventImpl.class, uncachedCalEvents);
+
+		for (CalEvent calEvent : uncachedCalEvents.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { calEvent.getUuid(), calEvent.getGroupId() }, calEvent);
+
+			calEvent.resetOriginalValues();
 		}
 	}
 
@@ -7344,12 +7362,16 @@ public class CalEventPersistenceImpl extends BasePersistenceImpl<CalEvent>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(calEvents.size());
+
 		for (CalEvent calEvent : calEvents) {
-			EntityCacheUtil.removeResult(CalEventModelImpl.ENTITY_CACHE_ENABLED,
-				CalEventImpl.class, calEvent.getPrimaryKey());
+			primaryKeys.add(calEvent.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(calEvent);
 		}
+
+		EntityCacheUtil.removeResults(CalEventModelImpl.ENTITY_CACHE_ENABLED,
+			CalEventImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(CalEvent calEvent) {
@@ -7860,6 +7882,113 @@ public class CalEventPersistenceImpl extends BasePersistenceImpl<CalEvent>
 		return fetchByPrimaryKey((Serializable)eventId);
 	}
 
+	/**
+	 * Returns the cal events with the primary keys, keyed by primary key. Primary keys without a matching cal event are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the cal events
+	 * @return the cal events, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, CalEvent> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, CalEvent> map = new HashMap<Serializable, CalEvent>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			CalEvent calEvent = fetchByPrimaryKey(primaryKey);
+
+			if (calEvent != null) {
+				map.put(primaryKey, calEvent);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			CalEvent calEvent = (CalEvent)EntityCacheUtil.getResult(CalEventModelImpl.ENTITY_CACHE_ENABLED,
+					CalEventImpl.class, primaryKey);
+
+			if (calEvent == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (calEvent != _nullCalEvent) {
+				map.put(primaryKey, calEvent);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_CALEVENT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (CalEvent calEvent : (List<CalEvent>)q.list()) {
+					map.put(calEvent.getPrimaryKeyObj(), calEvent);
+
+					cacheResult(calEvent);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(CalEventModelImpl.ENTITY_CACHE_ENABLED,
+						CalEventImpl.class, primaryKey, _nullCalEvent);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the cal events.
 	 *
@@ -8060,6 +8189,7 @@ public class CalEventPersistenceImpl extends BasePersistenceImpl<CalEvent>
 	}
 
 	private static final String _SQL_SELECT_CALEVENT = "SELECT calEvent FROM CalEvent calEvent";
+	private static final String _SQL_SELECT_CALEVENT_WHERE_PKS_IN = "SELECT calEvent FROM CalEvent calEvent WHERE calEvent.eventId IN (";
 	private static final String _SQL_SELECT_CALEVENT_WHERE = "SELECT calEvent FROM CalEvent calEvent WHERE ";
 	private static final String _SQL_COUNT_CALEVENT = "SELECT COUNT(calEvent) FROM CalEvent calEvent";
 	private static final String _SQL_COUNT_CALEVENT_WHERE = "SELECT COUNT(calEvent) FROM CalEvent calEvent WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the document library content service.
@@ -2147,15 +2151,32 @@ public class DLContentPersistenceImpl extends BasePersistenceImpl<DLContent>
 	 * @param dlContents the document library contents
 	 */
 	public void cacheResult(List<DLContent> dlContents) {
+		Map<Serializable, DLContent> uncachedDlContents = new HashMap<Serializable, DLContent>();
+
 		for (DLContent dlContent : dlContents) {
-			if (EntityCacheUtil.getResult(
-						DLContentModelImpl.ENTITY_CACHE_ENABLED,
-						DLContentImpl.class, dlContent.getPrimaryKey()) == null) {
-				cacheResult(dlContent);
-			}
-			else {
-				dlContent.resetOriginalValues();
-			}
+			uncachedDlContents.put(dlContent.getPrimaryKeyObj(), dlContent);
+		}
+
+		Map<Serializable, Serializable> cachedDlContents = EntityCacheUtil.getResults(DLContentModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentImpl.class, uncachedDlContents.keySet());
+
+		for (Serializable primaryKey : cachedDlContents.keySet()) {
+			DLContent dlContent = uncachedDlContents.remove(primaryKey);
+
+			dlContent.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLContentModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentImpl.class, uncachedDlContents);
+
+		for (DLContent dlContent : uncachedDlContents.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+				new Object[] {
+					dlContent.getCompanyId(), dlContent.getRepositoryId(),
+					dlContent.getPath(), dlContent.getVersion()
+				}, dlContent);
+
+			dlContent.resetOriginalValues();
 		}
 	}
 
@@ -2202,12 +2223,16 @@ public class DLContentPersistenceImpl extends BasePersistenceImpl<DLContent>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlContents.size());
+
 		for (DLContent dlContent : dlContents) {
-			EntityCacheUtil.removeResult(DLContentModelImpl.ENTITY_CACHE_ENABLED,
-				DLContentImpl.class, dlContent.getPrimaryKey());
+			primaryKeys.add(dlContent.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlContent);
 		}
+
+		EntityCacheUtil.removeResults(DLContentModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLContent dlContent) {
@@ -2585,6 +2610,113 @@ public class DLContentPersistenceImpl extends BasePersistenceImpl<DLContent>
 		return fetchByPrimaryKey((Serializable)contentId);
 	}
 
+	/**
+	 * Returns the document library contents with the primary keys, keyed by primary key. Primary keys without a matching document library content are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library contents
+	 * @return the document library contents, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLContent> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLContent> map = new HashMap<Serializable, DLContent>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLContent dlContent = fetchByPrimaryKey(primaryKey);
+
+			if (dlContent != null) {
+				map.put(primaryKey, dlContent);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLContent dlContent = (DLContent)EntityCacheUtil.getResult(DLContentModelImpl.ENTITY_CACHE_ENABLED,
+					DLContentImpl.class, primaryKey);
+
+			if (dlContent == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlContent != _nullDLContent) {
+				map.put(primaryKey, dlContent);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLCONTENT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLContent dlContent : (List<DLContent>)q.list()) {
+					map.put(dlContent.getPrimaryKeyObj(), dlContent);
+
+					cacheResult(dlContent);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLContentModelImpl.ENTITY_CACHE_ENABLED,
+						DLContentImpl.class, primaryKey, _nullDLContent);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library contents.
 	 *
@@ -2786,6 +2918,7 @@ public class DLContentPersistenceImpl extends BasePersistenceImpl<DLContent>
 	}
 
 	private static final String _SQL_SELECT_DLCONTENT = "SELECT dlContent FROM DLContent dlContent";
+	private static final String _SQL_SELECT_DLCONTENT_WHERE_PKS_IN = "SELECT dlContent FROM DLContent dlContent WHERE dlContent.contentId IN (";
 	private static final String _SQL_SELECT_DLCONTENT_WHERE = "SELECT dlContent FROM DLContent dlContent WHERE ";
 	private static final String _SQL_COUNT_DLCONTENT = "SELECT COUNT(dlContent) FROM DLContent dlContent";
 	private static final String _SQL_COUNT_DLCONTENT_WHERE = "SELECT COUNT(dlContent) FROM DLContent dlContent WHERE ";
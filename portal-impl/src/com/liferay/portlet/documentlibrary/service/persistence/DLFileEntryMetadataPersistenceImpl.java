@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the document library file entry metadata service.
@@ -2329,16 +2333,33 @@ public class DLFileEntryMetadataPersistenceImpl extends BasePersistenceImpl<DLFi
 	 * @param dlFileEntryMetadatas the document library file entry metadatas
 	 */
 	public void cacheResult(List<DLFileEntryMetadata> dlFileEntryMetadatas) {
+		Map<Serializable, DLFileEntryMetadata> uncachedDlFileEntryMetadatas = new HashMap<Serializable, DLFileEntryMetadata>();
+
 		for (DLFileEntryMetadata dlFileEntryMetadata : dlFileEntryMetadatas) {
-			if (EntityCacheUtil.getResult(
-						DLFileEntryMetadataModelImpl.ENTITY_CACHE_ENABLED,
-						DLFileEntryMetadataImpl.class,
-						dlFileEntryMetadata.getPrimaryKey()) == null) {
-				cacheResult(dlFileEntryMetadata);
-			}
-			else {
-				dlFileEntryMetadata.resetOriginalValues();
-			}
+			uncachedDlFileEntryMetadatas.put(dlFileEntryMetadata.getPrimaryKeyObj(),
+				dlFileEntryMetadata);
+		}
+
+		Map<Serializable, Serializable> cachedDlFileEntryMetadatas = EntityCacheUtil.getResults(DLFileEntryMetadataModelImpl.ENTITY_CACHE_ENABLED,
+				DLFileEntryMetadataImpl.class, uncachedDlFileEntryMetadatas.keySet());
+
+		for (Serializable primaryKey : cachedDlFileEntryMetadatas.keySet()) {
+			DLFileEntryMetadata dlFileEntryMetadata = uncachedDlFileEntryMetadatas.remove(primaryKey);
+
+			dlFileEntryMetadata.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLFileEntryMetadataModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileEntryMetadataImpl.class, uncachedDlFileEntryMetadatas);
+
+		for (DLFileEntryMetadata dlFileEntryMetadata : uncachedDlFileEntryMetadatas.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_D_F,
+				new Object[] {
+					dlFileEntryMetadata.getDDMStructureId(),
+					dlFileEntryMetadata.getFileVersionId()
+				}, dlFileEntryMetadata);
+
+			dlFileEntryMetadata.resetOriginalValues();
 		}
 	}
 
@@ -2385,13 +2406,16 @@ public class DLFileEntryMetadataPersistenceImpl extends BasePersistenceImpl<DLFi
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlFileEntryMetadatas.size());
+
 		for (DLFileEntryMetadata dlFileEntryMetadata : dlFileEntryMetadatas) {
-			EntityCacheUtil.removeResult(DLFileEntryMetadataModelImpl.ENTITY_CACHE_ENABLED,
-				DLFileEntryMetadataImpl.class,
-				dlFileEntryMetadata.getPrimaryKey());
+			primaryKeys.add(dlFileEntryMetadata.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlFileEntryMetadata);
 		}
+
+		EntityCacheUtil.removeResults(DLFileEntryMetadataModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileEntryMetadataImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -2811,6 +2835,113 @@ public class DLFileEntryMetadataPersistenceImpl extends BasePersistenceImpl<DLFi
 		return fetchByPrimaryKey((Serializable)fileEntryMetadataId);
 	}
 
+	/**
+	 * Returns the document library file entry metadatas with the primary keys, keyed by primary key. Primary keys without a matching document library file entry metadata are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library file entry metadatas
+	 * @return the document library file entry metadatas, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLFileEntryMetadata> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLFileEntryMetadata> map = new HashMap<Serializable, DLFileEntryMetadata>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLFileEntryMetadata dlFileEntryMetadata = fetchByPrimaryKey(primaryKey);
+
+			if (dlFileEntryMetadata != null) {
+				map.put(primaryKey, dlFileEntryMetadata);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLFileEntryMetadata dlFileEntryMetadata = (DLFileEntryMetadata)EntityCacheUtil.getResult(DLFileEntryMetadataModelImpl.ENTITY_CACHE_ENABLED,
+					DLFileEntryMetadataImpl.class, primaryKey);
+
+			if (dlFileEntryMetadata == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlFileEntryMetadata != _nullDLFileEntryMetadata) {
+				map.put(primaryKey, dlFileEntryMetadata);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLFILEENTRYMETADATA_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLFileEntryMetadata dlFileEntryMetadata : (List<DLFileEntryMetadata>)q.list()) {
+					map.put(dlFileEntryMetadata.getPrimaryKeyObj(), dlFileEntryMetadata);
+
+					cacheResult(dlFileEntryMetadata);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLFileEntryMetadataModelImpl.ENTITY_CACHE_ENABLED,
+						DLFileEntryMetadataImpl.class, primaryKey, _nullDLFileEntryMetadata);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library file entry metadatas.
 	 *
@@ -3012,6 +3143,7 @@ public class DLFileEntryMetadataPersistenceImpl extends BasePersistenceImpl<DLFi
 	}
 
 	private static final String _SQL_SELECT_DLFILEENTRYMETADATA = "SELECT dlFileEntryMetadata FROM DLFileEntryMetadata dlFileEntryMetadata";
+	private static final String _SQL_SELECT_DLFILEENTRYMETADATA_WHERE_PKS_IN = "SELECT dlFileEntryMetadata FROM DLFileEntryMetadata dlFileEntryMetadata WHERE dlFileEntryMetadata.fileEntryMetadataId IN (";
 	private static final String _SQL_SELECT_DLFILEENTRYMETADATA_WHERE = "SELECT dlFileEntryMetadata FROM DLFileEntryMetadata dlFileEntryMetadata WHERE ";
 	private static final String _SQL_COUNT_DLFILEENTRYMETADATA = "SELECT COUNT(dlFileEntryMetadata) FROM DLFileEntryMetadata dlFileEntryMetadata";
 	private static final String _SQL_COUNT_DLFILEENTRYMETADATA_WHERE = "SELECT COUNT(dlFileEntryMetadata) FROM DLFileEntryMetadata dlFileEntryMetadata WHERE ";
@@ -50,7 +50,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the document library file entry service.
@@ -9753,15 +9757,43 @@ public class DLFileEntryPersistenceImpl extends BasePersistenceImpl<DLFileEntry>
 	 * @param dlFileEntries the document library file entries
 	 */
 	public void cacheResult(List<DLFileEntry> dlFileEntries) {
+		Map<Serializable, DLFileEntry> uncachedDlFileEntries = new HashMap<Serializable, DLFileEntry>();
+
 		for (DLFileEntry dlFileEntry : dlFileEntries) {
-			if (EntityCacheUtil.getResult(
-						DLFileEntryModelImpl.ENTITY_CACHE_ENABLED,
-						DLFileEntryImpl.class, dlFileEntry.getPrimaryKey()) == null) {
-				cacheResult(dlFileEntry);
-			}
-			else {
-				dlFileEntry.resetOriginalValues();
-			}
+			uncachedDlFileEntries.put(dlFileEntry.getPrimaryKeyObj(),
+				dlFileEntry);
+		}
+
+		Map<Serializable, Serializable> cachedDlFileEntries = EntityCacheUtil.getResults(DLFileEntryModelImpl.ENTITY_CACHE_ENABLED,
+				DLFileEntryImpl.class, uncachedDlFileEntries.keySet());
+
+		for (Serializable primaryKey : cachedDlFileEntries.keySet()) {
+			DLFileEntry dlFileEntry = uncachedDlFileEntries.remove(primaryKey);
+
+			dlFileEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLFileEntryModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileEntryImpl.class, uncachedDlFileEntries);
+
+		for (DLFileEntry dlFileEntry : uncachedDlFileEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { dlFileEntry.getUuid(), dlFileEntry.getGroupId() },
+				dlFileEntry);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_F_N,
+				new Object[] {
+					dlFileEntry.getGroupId(), dlFileEntry.getFolderId(),
+					dlFileEntry.getName()
+				}, dlFileEntry);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_F_T,
+				new Object[] {
+					dlFileEntry.getGroupId(), dlFileEntry.getFolderId(),
+					dlFileEntry.getTitle()
+				}, dlFileEntry);
+
+			dlFileEntry.resetOriginalValues();
 		}
 	}
 
@@ -9808,12 +9840,16 @@ public class DLFileEntryPersistenceImpl extends BasePersistenceImpl<DLFileEntry>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlFileEntries.size());
+
 		for (DLFileEntry dlFileEntry : dlFileEntries) {
-			EntityCacheUtil.removeResult(DLFileEntryModelImpl.ENTITY_CACHE_ENABLED,
-				DLFileEntryImpl.class, dlFileEntry.getPrimaryKey());
+			primaryKeys.add(dlFileEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlFileEntry);
 		}
+
+		EntityCacheUtil.removeResults(DLFileEntryModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLFileEntry dlFileEntry) {
@@ -10453,6 +10489,113 @@ public class DLFileEntryPersistenceImpl extends BasePersistenceImpl<DLFileEntry>
 		return fetchByPrimaryKey((Serializable)fileEntryId);
 	}
 
+	/**
+	 * Returns the document library file entries with the primary keys, keyed by primary key. Primary keys without a matching document library file entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library file entries
+	 * @return the document library file entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLFileEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLFileEntry> map = new HashMap<Serializable, DLFileEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLFileEntry dlFileEntry = fetchByPrimaryKey(primaryKey);
+
+			if (dlFileEntry != null) {
+				map.put(primaryKey, dlFileEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLFileEntry dlFileEntry = (DLFileEntry)EntityCacheUtil.getResult(DLFileEntryModelImpl.ENTITY_CACHE_ENABLED,
+					DLFileEntryImpl.class, primaryKey);
+
+			if (dlFileEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlFileEntry != _nullDLFileEntry) {
+				map.put(primaryKey, dlFileEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLFILEENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLFileEntry dlFileEntry : (List<DLFileEntry>)q.list()) {
+					map.put(dlFileEntry.getPrimaryKeyObj(), dlFileEntry);
+
+					cacheResult(dlFileEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLFileEntryModelImpl.ENTITY_CACHE_ENABLED,
+						DLFileEntryImpl.class, primaryKey, _nullDLFileEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library file entries.
 	 *
@@ -10654,6 +10797,7 @@ public class DLFileEntryPersistenceImpl extends BasePersistenceImpl<DLFileEntry>
 	}
 
 	private static final String _SQL_SELECT_DLFILEENTRY = "SELECT dlFileEntry FROM DLFileEntry dlFileEntry";
+	private static final String _SQL_SELECT_DLFILEENTRY_WHERE_PKS_IN = "SELECT dlFileEntry FROM DLFileEntry dlFileEntry WHERE dlFileEntry.fileEntryId IN (";
 	private static final String _SQL_SELECT_DLFILEENTRY_WHERE = "SELECT dlFileEntry FROM DLFileEntry dlFileEntry WHERE ";
 	private static final String _SQL_COUNT_DLFILEENTRY = "SELECT COUNT(dlFileEntry) FROM DLFileEntry dlFileEntry";
 	private static final String _SQL_COUNT_DLFILEENTRY_WHERE = "SELECT COUNT(dlFileEntry) FROM DLFileEntry dlFileEntry WHERE ";
@@ -58,7 +58,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -3016,16 +3019,35 @@ public class DLFileEntryTypePersistenceImpl extends BasePersistenceImpl<DLFileEn
 	 * @param dlFileEntryTypes the document library file entry types
 	 */
 	public void cacheResult(List<DLFileEntryType> dlFileEntryTypes) {
+		Map<Serializable, DLFileEntryType> uncachedDlFileEntryTypes = new HashMap<Serializable, DLFileEntryType>();
+
 		for (DLFileEntryType dlFileEntryType : dlFileEntryTypes) {
-			if (EntityCacheUtil.getResult(
-						DLFileEntryTypeModelImpl.ENTITY_CACHE_ENABLED,
-						DLFileEntryTypeImpl.class,
-						dlFileEntryType.getPrimaryKey()) == null) {
-				cacheResult(dlFileEntryType);
-			}
-			else {
-				dlFileEntryType.resetOriginalValues();
-			}
+			uncachedDlFileEntryTypes.put(dlFileEntryType.getPrimaryKeyObj(),
+				dlFileEntryType);
+		}
+
+		Map<Serializable, Serializable> cachedDlFileEntryTypes = EntityCacheUtil.getResults(DLFileEntryTypeModelImpl.ENTITY_CACHE_ENABLED,
+				DLFileEntryTypeImpl.class, uncachedDlFileEntryTypes.keySet());
+
+		for (Serializable primaryKey : cachedDlFileEntryTypes.keySet()) {
+			DLFileEntryType dlFileEntryType = uncachedDlFileEntryTypes.remove(primaryKey);
+
+			dlFileEntryType.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLFileEntryTypeModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileEntryTypeImpl.class, uncachedDlFileEntryTypes);
+
+		for (DLFileEntryType dlFileEntryType : uncachedDlFileEntryTypes.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { dlFileEntryType.getUuid(), dlFileEntryType.getGroupId() },
+				dlFileEntryType);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N,
+				new Object[] { dlFileEntryType.getGroupId(), dlFileEntryType.getName() },
+				dlFileEntryType);
+
+			dlFileEntryType.resetOriginalValues();
 		}
 	}
 
@@ -3072,12 +3094,16 @@ public class DLFileEntryTypePersistenceImpl extends BasePersistenceImpl<DLFileEn
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlFileEntryTypes.size());
+
 		for (DLFileEntryType dlFileEntryType : dlFileEntryTypes) {
-			EntityCacheUtil.removeResult(DLFileEntryTypeModelImpl.ENTITY_CACHE_ENABLED,
-				DLFileEntryTypeImpl.class, dlFileEntryType.getPrimaryKey());
+			primaryKeys.add(dlFileEntryType.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlFileEntryType);
 		}
+
+		EntityCacheUtil.removeResults(DLFileEntryTypeModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileEntryTypeImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLFileEntryType dlFileEntryType) {
@@ -3528,6 +3554,113 @@ public class DLFileEntryTypePersistenceImpl extends BasePersistenceImpl<DLFileEn
 		return fetchByPrimaryKey((Serializable)fileEntryTypeId);
 	}
 
+	/**
+	 * Returns the document library file entry types with the primary keys, keyed by primary key. Primary keys without a matching document library file entry type are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library file entry types
+	 * @return the document library file entry types, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLFileEntryType> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLFileEntryType> map = new HashMap<Serializable, DLFileEntryType>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLFileEntryType dlFileEntryType = fetchByPrimaryKey(primaryKey);
+
+			if (dlFileEntryType != null) {
+				map.put(primaryKey, dlFileEntryType);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLFileEntryType dlFileEntryType = (DLFileEntryType)EntityCacheUtil.getResult(DLFileEntryTypeModelImpl.ENTITY_CACHE_ENABLED,
+					DLFileEntryTypeImpl.class, primaryKey);
+
+			if (dlFileEntryType == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlFileEntryType != _nullDLFileEntryType) {
+				map.put(primaryKey, dlFileEntryType);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLFILEENTRYTYPE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLFileEntryType dlFileEntryType : (List<DLFileEntryType>)q.list()) {
+					map.put(dlFileEntryType.getPrimaryKeyObj(), dlFileEntryType);
+
+					cacheResult(dlFileEntryType);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLFileEntryTypeModelImpl.ENTITY_CACHE_ENABLED,
+						DLFileEntryTypeImpl.class, primaryKey, _nullDLFileEntryType);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library file entry types.
 	 *
@@ -5091,6 +5224,7 @@ public class DLFileEntryTypePersistenceImpl extends BasePersistenceImpl<DLFileEn
 	}
 
 	private static final String _SQL_SELECT_DLFILEENTRYTYPE = "SELECT dlFileEntryType FROM DLFileEntryType dlFileEntryType";
+	private static final String _SQL_SELECT_DLFILEENTRYTYPE_WHERE_PKS_IN = "SELECT dlFileEntryType FROM DLFileEntryType dlFileEntryType WHERE dlFileEntryType.fileEntryTypeId IN (";
 	private static final String _SQL_SELECT_DLFILEENTRYTYPE_WHERE = "SELECT dlFileEntryType FROM DLFileEntryType dlFileEntryType WHERE ";
 	private static final String _SQL_COUNT_DLFILEENTRYTYPE = "SELECT COUNT(dlFileEntryType) FROM DLFileEntryType dlFileEntryType";
 	private static final String _SQL_COUNT_DLFILEENTRYTYPE_WHERE = "SELECT COUNT(dlFileEntryType) FROM DLFileEntryType dlFileEntryType WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the document library file rank service.
@@ -3716,15 +3720,36 @@ public class DLFileRankPersistenceImpl extends BasePersistenceImpl<DLFileRank>
 	 * @param dlFileRanks the document library file ranks
 	 */
 	public void cacheResult(List<DLFileRank> dlFileRanks) {
+		Map<Serializable, DLFileRank> uncachedDlFileRanks = new HashMap<Serializable, DLFileRank>();
+
 		for (DLFileRank dlFileRank : dlFileRanks) {
-			if (EntityCacheUtil.getResult(
-						DLFileRankModelImpl.ENTITY_CACHE_ENABLED,
-						DLFileRankImpl.class, dlFileRank.getPrimaryKey()) == null) {
-				cacheResult(dlFileRank);
-			}
-			else {
-				dlFileRank.resetOriginalValues();
-			}
+			uncachedDlFileRanks.put(dlFileRank.getPrimaryKeyObj(), dlFileRank);
+		}
+
+		Map<Serializable, Serializable> cachedDlFileRanks = EntityCacheUtil.getResults(DLFileRankModelImpl.ENTITY_CACHE_ENABLED,
+				DLFileRankImpl.class, uncachedDlFileRanks.keySet());
+
+		for (Serializable primaryKey : cachedDlFileRanks.keySet()) {
+			DLFileRank dlFileRank = uncachedDlFileRanks.remove(primaryKey);
+
+			dlFileRank.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLFileRankModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileRankImpl.class, uncachedDlFileRanks);
+
+		for (DLFileRank dlFileRank : uncachedDlFileRanks.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { dlFileRank.getUuid(), dlFileRank.getGroupId() },
+				dlFileRank);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_U_F,
+				new Object[] {
+					dlFileRank.getCompanyId(), dlFileRank.getUserId(),
+					dlFileRank.getFileEntryId()
+				}, dlFileRank);
+
+			dlFileRank.resetOriginalValues();
 		}
 	}
 
@@ -3771,12 +3796,16 @@ public class DLFileRankPersistenceImpl extends BasePersistenceImpl<DLFileRank>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlFileRanks.size());
+
 		for (DLFileRank dlFileRank : dlFileRanks) {
-			EntityCacheUtil.removeResult(DLFileRankModelImpl.ENTITY_CACHE_ENABLED,
-				DLFileRankImpl.class, dlFileRank.getPrimaryKey());
+			primaryKeys.add(dlFileRank.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlFileRank);
 		}
+
+		EntityCacheUtil.removeResults(DLFileRankModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileRankImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLFileRank dlFileRank) {
@@ -4272,6 +4301,113 @@ public class DLFileRankPersistenceImpl extends BasePersistenceImpl<DLFileRank>
 		return fetchByPrimaryKey((Serializable)fileRankId);
 	}
 
+	/**
+	 * Returns the document library file ranks with the primary keys, keyed by primary key. Primary keys without a matching document library file rank are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library file ranks
+	 * @return the document library file ranks, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLFileRank> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLFileRank> map = new HashMap<Serializable, DLFileRank>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLFileRank dlFileRank = fetchByPrimaryKey(primaryKey);
+
+			if (dlFileRank != null) {
+				map.put(primaryKey, dlFileRank);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLFileRank dlFileRank = (DLFileRank)EntityCacheUtil.getResult(DLFileRankModelImpl.ENTITY_CACHE_ENABLED,
+					DLFileRankImpl.class, primaryKey);
+
+			if (dlFileRank == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlFileRank != _nullDLFileRank) {
+				map.put(primaryKey, dlFileRank);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLFILERANK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLFileRank dlFileRank : (List<DLFileRank>)q.list()) {
+					map.put(dlFileRank.getPrimaryKeyObj(), dlFileRank);
+
+					cacheResult(dlFileRank);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLFileRankModelImpl.ENTITY_CACHE_ENABLED,
+						DLFileRankImpl.class, primaryKey, _nullDLFileRank);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library file ranks.
 	 *
@@ -4473,6 +4609,7 @@ public class DLFileRankPersistenceImpl extends BasePersistenceImpl<DLFileRank>
 	}
 
 	private static final String _SQL_SELECT_DLFILERANK = "SELECT dlFileRank FROM DLFileRank dlFileRank";
+	private static final String _SQL_SELECT_DLFILERANK_WHERE_PKS_IN = "SELECT dlFileRank FROM DLFileRank dlFileRank WHERE dlFileRank.fileRankId IN (";
 	private static final String _SQL_SELECT_DLFILERANK_WHERE = "SELECT dlFileRank FROM DLFileRank dlFileRank WHERE ";
 	private static final String _SQL_COUNT_DLFILERANK = "SELECT COUNT(dlFileRank) FROM DLFileRank dlFileRank";
 	private static final String _SQL_COUNT_DLFILERANK_WHERE = "SELECT COUNT(dlFileRank) FROM DLFileRank dlFileRank WHERE ";
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the document library file shortcut service.
@@ -4793,15 +4797,31 @@ public class DLFileShortcutPersistenceImpl extends BasePersistenceImpl<DLFileSho
 	 * @param dlFileShortcuts the document library file shortcuts
 	 */
 	public void cacheResult(List<DLFileShortcut> dlFileShortcuts) {
+		Map<Serializable, DLFileShortcut> uncachedDlFileShortcuts = new HashMap<Serializable, DLFileShortcut>();
+
 		for (DLFileShortcut dlFileShortcut : dlFileShortcuts) {
-			if (EntityCacheUtil.getResult(
-						DLFileShortcutModelImpl.ENTITY_CACHE_ENABLED,
-						DLFileShortcutImpl.class, dlFileShortcut.getPrimaryKey()) == null) {
-				cacheResult(dlFileShortcut);
-			}
-			else {
-				dlFileShortcut.resetOriginalValues();
-			}
+			uncachedDlFileShortcuts.put(dlFileShortcut.getPrimaryKeyObj(),
+				dlFileShortcut);
+		}
+
+		Map<Serializable, Serializable> cachedDlFileShortcuts = EntityCacheUtil.getResults(DLFileShortcutModelImpl.ENTITY_CACHE_ENABLED,
+				DLFileShortcutImpl.class, uncachedDlFileShortcuts.keySet());
+
+		for (Serializable primaryKey : cachedDlFileShortcuts.keySet()) {
+			DLFileShortcut dlFileShortcut = uncachedDlFileShortcuts.remove(primaryKey);
+
+			dlFileShortcut.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLFileShortcutModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileShortcutImpl.class, uncachedDlFileShortcuts);
+
+		for (DLFileShortcut dlFileShortcut : uncachedDlFileShortcuts.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { dlFileShortcut.getUuid(), dlFileShortcut.getGroupId() },
+				dlFileShortcut);
+
+			dlFileShortcut.resetOriginalValues();
 		}
 	}
 
@@ -4848,12 +4868,16 @@ public class DLFileShortcutPersistenceImpl extends BasePersistenceImpl<DLFileSho
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlFileShortcuts.size());
+
 		for (DLFileShortcut dlFileShortcut : dlFileShortcuts) {
-			EntityCacheUtil.removeResult(DLFileShortcutModelImpl.ENTITY_CACHE_ENABLED,
-				DLFileShortcutImpl.class, dlFileShortcut.getPrimaryKey());
+			primaryKeys.add(dlFileShortcut.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlFileShortcut);
 		}
+
+		EntityCacheUtil.removeResults(DLFileShortcutModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileShortcutImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLFileShortcut dlFileShortcut) {
@@ -5322,6 +5346,113 @@ public class DLFileShortcutPersistenceImpl extends BasePersistenceImpl<DLFileSho
 		return fetchByPrimaryKey((Serializable)fileShortcutId);
 	}
 
+	/**
+	 * Returns the document library file shortcuts with the primary keys, keyed by primary key. Primary keys without a matching document library file shortcut are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library file shortcuts
+	 * @return the document library file shortcuts, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLFileShortcut> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLFileShortcut> map = new HashMap<Serializable, DLFileShortcut>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLFileShortcut dlFileShortcut = fetchByPrimaryKey(primaryKey);
+
+			if (dlFileShortcut != null) {
+				map.put(primaryKey, dlFileShortcut);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLFileShortcut dlFileShortcut = (DLFileShortcut)EntityCacheUtil.getResult(DLFileShortcutModelImpl.ENTITY_CACHE_ENABLED,
+					DLFileShortcutImpl.class, primaryKey);
+
+			if (dlFileShortcut == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlFileShortcut != _nullDLFileShortcut) {
+				map.put(primaryKey, dlFileShortcut);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLFILESHORTCUT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLFileShortcut dlFileShortcut : (List<DLFileShortcut>)q.list()) {
+					map.put(dlFileShortcut.getPrimaryKeyObj(), dlFileShortcut);
+
+					cacheResult(dlFileShortcut);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLFileShortcutModelImpl.ENTITY_CACHE_ENABLED,
+						DLFileShortcutImpl.class, primaryKey, _nullDLFileShortcut);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library file shortcuts.
 	 *
@@ -5523,6 +5654,7 @@ public class DLFileShortcutPersistenceImpl extends BasePersistenceImpl<DLFileSho
 	}
 
 	private static final String _SQL_SELECT_DLFILESHORTCUT = "SELECT dlFileShortcut FROM DLFileShortcut dlFileShortcut";
+	private static final String _SQL_SELECT_DLFILESHORTCUT_WHERE_PKS_IN = "SELECT dlFileShortcut FROM DLFileShortcut dlFileShortcut WHERE dlFileShortcut.fileShortcutId IN (";
 	private static final String _SQL_SELECT_DLFILESHORTCUT_WHERE = "SELECT dlFileShortcut FROM DLFileShortcut dlFileShortcut WHERE ";
 	private static final String _SQL_COUNT_DLFILESHORTCUT = "SELECT COUNT(dlFileShortcut) FROM DLFileShortcut dlFileShortcut";
 	private static final String _SQL_COUNT_DLFILESHORTCUT_WHERE = "SELECT COUNT(dlFileShortcut) FROM DLFileShortcut dlFileShortcut WHERE ";
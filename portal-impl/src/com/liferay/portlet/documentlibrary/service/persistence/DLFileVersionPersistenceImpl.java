@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the document library file version service.
@@ -4471,15 +4475,36 @@ public class DLFileVersionPersistenceImpl extends BasePersistenceImpl<DLFileVers
 	 * @param dlFileVersions the document library file versions
 	 */
 	public void cacheResult(List<DLFileVersion> dlFileVersions) {
+		Map<Serializable, DLFileVersion> uncachedDlFileVersions = new HashMap<Serializable, DLFileVersion>();
+
 		for (DLFileVersion dlFileVersion : dlFileVersions) {
-			if (EntityCacheUtil.getResult(
-						DLFileVersionModelImpl.ENTITY_CACHE_ENABLED,
-						DLFileVersionImpl.class, dlFileVersion.getPrimaryKey()) == null) {
-				cacheResult(dlFileVersion);
-			}
-			else {
-				dlFileVersion.resetOriginalValues();
-			}
+			uncachedDlFileVersions.put(dlFileVersion.getPrimaryKeyObj(),
+				dlFileVersion);
+		}
+
+		Map<Serializable, Serializable> cachedDlFileVersions = EntityCacheUtil.getResults(DLFileVersionModelImpl.ENTITY_CACHE_ENABLED,
+				DLFileVersionImpl.class, uncachedDlFileVersions.keySet());
+
+		for (Serializable primaryKey : cachedDlFileVersions.keySet()) {
+			DLFileVersion dlFileVersion = uncachedDlFileVersions.remove(primaryKey);
+
+			dlFileVersion.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLFileVersionModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileVersionImpl.class, uncachedDlFileVersions);
+
+		for (DLFileVersion dlFileVersion : uncachedDlFileVersions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { dlFileVersion.getUuid(), dlFileVersion.getGroupId() },
+				dlFileVersion);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_F_V,
+				new Object[] {
+					dlFileVersion.getFileEntryId(), dlFileVersion.getVersion()
+				}, dlFileVersion);
+
+			dlFileVersion.resetOriginalValues();
 		}
 	}
 
@@ -4526,12 +4551,16 @@ public class DLFileVersionPersistenceImpl extends BasePersistenceImpl<DLFileVers
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlFileVersions.size());
+
 		for (DLFileVersion dlFileVersion : dlFileVersions) {
-			EntityCacheUtil.removeResult(DLFileVersionModelImpl.ENTITY_CACHE_ENABLED,
-				DLFileVersionImpl.class, dlFileVersion.getPrimaryKey());
+			primaryKeys.add(dlFileVersion.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlFileVersion);
 		}
+
+		EntityCacheUtil.removeResults(DLFileVersionModelImpl.ENTITY_CACHE_ENABLED,
+			DLFileVersionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLFileVersion dlFileVersion) {
@@ -5065,6 +5094,113 @@ public class DLFileVersionPersistenceImpl extends BasePersistenceImpl<DLFileVers
 		return fetchByPrimaryKey((Serializable)fileVersionId);
 	}
 
+	/**
+	 * Returns the document library file versions with the primary keys, keyed by primary key. Primary keys without a matching document library file version are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library file versions
+	 * @return the document library file versions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLFileVersion> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLFileVersion> map = new HashMap<Serializable, DLFileVersion>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLFileVersion dlFileVersion = fetchByPrimaryKey(primaryKey);
+
+			if (dlFileVersion != null) {
+				map.put(primaryKey, dlFileVersion);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLFileVersion dlFileVersion = (DLFileVersion)EntityCacheUtil.getResult(DLFileVersionModelImpl.ENTITY_CACHE_ENABLED,
+					DLFileVersionImpl.class, primaryKey);
+
+			if (dlFileVersion == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlFileVersion != _nullDLFileVersion) {
+				map.put(primaryKey, dlFileVersion);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLFILEVERSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLFileVersion dlFileVersion : (List<DLFileVersion>)q.list()) {
+					map.put(dlFileVersion.getPrimaryKeyObj(), dlFileVersion);
+
+					cacheResult(dlFileVersion);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLFileVersionModelImpl.ENTITY_CACHE_ENABLED,
+						DLFileVersionImpl.class, primaryKey, _nullDLFileVersion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library file versions.
 	 *
@@ -5266,6 +5402,7 @@ public class DLFileVersionPersistenceImpl extends BasePersistenceImpl<DLFileVers
 	}
 
 	private static final String _SQL_SELECT_DLFILEVERSION = "SELECT dlFileVersion FROM DLFileVersion dlFileVersion";
+	private static final String _SQL_SELECT_DLFILEVERSION_WHERE_PKS_IN = "SELECT dlFileVersion FROM DLFileVersion dlFileVersion WHERE dlFileVersion.fileVersionId IN (";
 	private static final String _SQL_SELECT_DLFILEVERSION_WHERE = "SELECT dlFileVersion FROM DLFileVersion dlFileVersion WHERE ";
 	private static final String _SQL_COUNT_DLFILEVERSION = "SELECT COUNT(dlFileVersion) FROM DLFileVersion dlFileVersion";
 	private static final String _SQL_COUNT_DLFILEVERSION_WHERE = "SELECT COUNT(dlFileVersion) FROM DLFileVersion dlFileVersion WHERE ";
@@ -56,7 +56,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -7818,15 +7821,38 @@ public class DLFolderPersistenceImpl extends BasePersistenceImpl<DLFolder>
 	 * @param dlFolders the document library folders
 	 */
 	public void cacheResult(List<DLFolder> dlFolders) {
+		Map<Serializable, DLFolder> uncachedDlFolders = new HashMap<Serializable, DLFolder>();
+
 		for (DLFolder dlFolder : dlFolders) {
-			if (EntityCacheUtil.getResult(
-						DLFolderModelImpl.ENTITY_CACHE_ENABLED,
-						DLFolderImpl.class, dlFolder.getPrimaryKey()) == null) {
-				cacheResult(dlFolder);
-			}
-			else {
-				dlFolder.resetOriginalValues();
-			}
+			uncachedDlFolders.put(dlFolder.getPrimaryKeyObj(), dlFolder);
+		}
+
+		Map<Serializable, Serializable> cachedDlFolders = EntityCacheUtil.getResults(DLFolderModelImpl.ENTITY_CACHE_ENABLED,
+				DLFolderImpl.class, uncachedDlFolders.keySet());
+
+		for (Serializable primaryKey : cachedDlFolders.keySet()) {
+			DLFolder dlFolder = uncachedDlFolders.remove(primaryKey);
+
+			dlFolder.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLFolderModelImpl.ENTITY_CACHE_ENABLED,
+			DLFolderImpl.class, uncachedDlFolders);
+
+		for (DLFolder dlFolder : uncachedDlFolders.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { dlFolder.getUuid(), dlFolder.getGroupId() }, dlFolder);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_REPOSITORYID,
+				new Object[] { dlFolder.getRepositoryId() }, dlFolder);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P_N,
+				new Object[] {
+					dlFolder.getGroupId(), dlFolder.getParentFolderId(),
+					dlFolder.getName()
+				}, dlFolder);
+
+			dlFolder.resetOriginalValues();
 		}
 	}
 
@@ -7873,12 +7899,16 @@ public class DLFolderPersistenceImpl extends BasePersistenceImpl<DLFolder>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlFolders.size());
+
 		for (DLFolder dlFolder : dlFolders) {
-			EntityCacheUtil.removeResult(DLFolderModelImpl.ENTITY_CACHE_ENABLED,
-				DLFolderImpl.class, dlFolder.getPrimaryKey());
+			primaryKeys.add(dlFolder.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlFolder);
 		}
+
+		EntityCacheUtil.removeResults(DLFolderModelImpl.ENTITY_CACHE_ENABLED,
+			DLFolderImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLFolder dlFolder) {
@@ -8494,6 +8524,113 @@ public class DLFolderPersistenceImpl extends BasePersistenceImpl<DLFolder>
 		return fetchByPrimaryKey((Serializable)folderId);
 	}
 
+	/**
+	 * Returns the document library folders with the primary keys, keyed by primary key. Primary keys without a matching document library folder are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the document library folders
+	 * @return the document library folders, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLFolder> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLFolder> map = new HashMap<Serializable, DLFolder>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLFolder dlFolder = fetchByPrimaryKey(primaryKey);
+
+			if (dlFolder != null) {
+				map.put(primaryKey, dlFolder);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLFolder dlFolder = (DLFolder)EntityCacheUtil.getResult(DLFolderModelImpl.ENTITY_CACHE_ENABLED,
+					DLFolderImpl.class, primaryKey);
+
+			if (dlFolder == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlFolder != _nullDLFolder) {
+				map.put(primaryKey, dlFolder);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLFOLDER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLFolder dlFolder : (List<DLFolder>)q.list()) {
+					map.put(dlFolder.getPrimaryKeyObj(), dlFolder);
+
+					cacheResult(dlFolder);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLFolderModelImpl.ENTITY_CACHE_ENABLED,
+						DLFolderImpl.class, primaryKey, _nullDLFolder);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the document library folders.
 	 *
@@ -9382,6 +9519,7 @@ public class DLFolderPersistenceImpl extends BasePersistenceImpl<DLFolder>
 	}
 
 	private static final String _SQL_SELECT_DLFOLDER = "SELECT dlFolder FROM DLFolder dlFolder";
+	private static final String _SQL_SELECT_DLFOLDER_WHERE_PKS_IN = "SELECT dlFolder FROM DLFolder dlFolder WHERE dlFolder.folderId IN (";
 	private static final String _SQL_SELECT_DLFOLDER_WHERE = "SELECT dlFolder FROM DLFolder dlFolder WHERE ";
 	private static final String _SQL_COUNT_DLFOLDER = "SELECT COUNT(dlFolder) FROM DLFolder dlFolder";
 	private static final String _SQL_COUNT_DLFOLDER_WHERE = "SELECT COUNT(dlFolder) FROM DLFolder dlFolder WHERE ";
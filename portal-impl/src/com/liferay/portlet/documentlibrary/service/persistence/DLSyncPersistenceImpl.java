@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d l sync service.
@@ -843,15 +847,29 @@ public class DLSyncPersistenceImpl extends BasePersistenceImpl<DLSync>
 	 * @param dlSyncs the d l syncs
 	 */
 	public void cacheResult(List<DLSync> dlSyncs) {
+		Map<Serializable, DLSync> uncachedDlSyncs = new HashMap<Serializable, DLSync>();
+
 		for (DLSync dlSync : dlSyncs) {
-			if (EntityCacheUtil.getResult(
-						DLSyncModelImpl.ENTITY_CACHE_ENABLED, DLSyncImpl.class,
-						dlSync.getPrimaryKey()) == null) {
-				cacheResult(dlSync);
-			}
-			else {
-				dlSync.resetOriginalValues();
-			}
+			uncachedDlSyncs.put(dlSync.getPrimaryKeyObj(), dlSync);
+		}
+
+		Map<Serializable, Serializable> cachedDlSyncs = EntityCacheUtil.getResults(DLSyncModelImpl.ENTITY_CACHE_ENABLED,
+				DLSyncImpl.class, uncachedDlSyncs.keySet());
+
+		for (Serializable primaryKey : cachedDlSyncs.keySet()) {
+			DLSync dlSync = uncachedDlSyncs.remove(primaryKey);
+
+			dlSync.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DLSyncModelImpl.ENTITY_CACHE_ENABLED,
+			DLSyncImpl.class, uncachedDlSyncs);
+
+		for (DLSync dlSync : uncachedDlSyncs.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_FILEID,
+				new Object[] { dlSync.getFileId() }, dlSync);
+
+			dlSync.resetOriginalValues();
 		}
 	}
 
@@ -898,12 +916,16 @@ public class DLSyncPersistenceImpl extends BasePersistenceImpl<DLSync>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(dlSyncs.size());
+
 		for (DLSync dlSync : dlSyncs) {
-			EntityCacheUtil.removeResult(DLSyncModelImpl.ENTITY_CACHE_ENABLED,
-				DLSyncImpl.class, dlSync.getPrimaryKey());
+			primaryKeys.add(dlSync.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(dlSync);
 		}
+
+		EntityCacheUtil.removeResults(DLSyncModelImpl.ENTITY_CACHE_ENABLED,
+			DLSyncImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DLSync dlSync) {
@@ -1213,6 +1235,113 @@ public class DLSyncPersistenceImpl extends BasePersistenceImpl<DLSync>
 		return fetchByPrimaryKey((Serializable)syncId);
 	}
 
+	/**
+	 * Returns the d l syncs with the primary keys, keyed by primary key. Primary keys without a matching d l sync are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d l syncs
+	 * @return the d l syncs, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DLSync> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DLSync> map = new HashMap<Serializable, DLSync>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DLSync dlSync = fetchByPrimaryKey(primaryKey);
+
+			if (dlSync != null) {
+				map.put(primaryKey, dlSync);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DLSync dlSync = (DLSync)EntityCacheUtil.getResult(DLSyncModelImpl.ENTITY_CACHE_ENABLED,
+					DLSyncImpl.class, primaryKey);
+
+			if (dlSync == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (dlSync != _nullDLSync) {
+				map.put(primaryKey, dlSync);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLSYNC_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DLSync dlSync : (List<DLSync>)q.list()) {
+					map.put(dlSync.getPrimaryKeyObj(), dlSync);
+
+					cacheResult(dlSync);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DLSyncModelImpl.ENTITY_CACHE_ENABLED,
+						DLSyncImpl.class, primaryKey, _nullDLSync);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d l syncs.
 	 *
@@ -1413,6 +1542,7 @@ public class DLSyncPersistenceImpl extends BasePersistenceImpl<DLSync>
 	}
 
 	private static final String _SQL_SELECT_DLSYNC = "SELECT dlSync FROM DLSync dlSync";
+	private static final String _SQL_SELECT_DLSYNC_WHERE_PKS_IN = "SELECT dlSync FROM DLSync dlSync WHERE dlSync.syncId IN (";
 	private static final String _SQL_SELECT_DLSYNC_WHERE = "SELECT dlSync FROM DLSync dlSync WHERE ";
 	private static final String _SQL_COUNT_DLSYNC = "SELECT COUNT(dlSync) FROM DLSync dlSync";
 	private static final String _SQL_COUNT_DLSYNC_WHERE = "SELECT COUNT(dlSync) FROM DLSync dlSync WHERE ";
@@ -14,6 +14,8 @@
 
 package com.liferay.portlet.documentlibrary.store;
 
+import com.liferay.counter.service.CounterLocalServiceUtil;
+import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
@@ -22,7 +24,10 @@ import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.transaction.Propagation;
 import com.liferay.portal.kernel.transaction.Transactional;
 import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.util.PropsValues;
 import com.liferay.portlet.documentlibrary.DuplicateFileException;
 import com.liferay.portlet.documentlibrary.model.DLContent;
 import com.liferay.portlet.documentlibrary.service.DLContentLocalServiceUtil;
@@ -39,6 +44,7 @@ import java.nio.channels.FileChannel;
 import java.sql.Blob;
 import java.sql.SQLException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -100,6 +106,20 @@ public class DBStore extends BaseStore {
 
 		DLContentLocalServiceUtil.deleteContents(
 			companyId, repositoryId, fileName);
+
+		for (int i = 0;; i++) {
+			String chunkPath = getChunkPath(fileName, i);
+
+			List<DLContent> dlContents = DLContentLocalServiceUtil.getContents(
+				companyId, repositoryId, chunkPath);
+
+			if (dlContents.isEmpty()) {
+				break;
+			}
+
+			DLContentLocalServiceUtil.deleteContents(
+				companyId, repositoryId, chunkPath);
+		}
 	}
 
 	@Override
@@ -110,6 +130,19 @@ public class DBStore extends BaseStore {
 
 		DLContentLocalServiceUtil.deleteContent(
 			companyId, repositoryId, fileName, versionLabel);
+
+		for (int i = 0;; i++) {
+			String chunkPath = getChunkPath(fileName, i);
+
+			if (!DLContentLocalServiceUtil.hasContent(
+					companyId, repositoryId, chunkPath, versionLabel)) {
+
+				break;
+			}
+
+			DLContentLocalServiceUtil.deleteContent(
+				companyId, repositoryId, chunkPath, versionLabel);
+		}
 	}
 
 	@Override
@@ -123,6 +156,13 @@ public class DBStore extends BaseStore {
 
 		dlContent.resetOriginalValues();
 
+		InputStream inputStream = getChunkInputStream(
+			companyId, repositoryId, fileName, dlContent);
+
+		if (inputStream != null) {
+			return inputStream;
+		}
+
 		Blob blobData = dlContent.getData();
 
 		if (blobData == null) {
@@ -171,6 +211,13 @@ public class DBStore extends BaseStore {
 		DLContent dlContent = DLContentLocalServiceUtil.getContent(
 			companyId, repositoryId, fileName, versionLabel);
 
+		InputStream inputStream = getChunkInputStream(
+			companyId, repositoryId, fileName, dlContent);
+
+		if (inputStream != null) {
+			return inputStream;
+		}
+
 		Blob blobData = dlContent.getData();
 
 		if (blobData == null) {
@@ -219,15 +266,7 @@ public class DBStore extends BaseStore {
 		List<DLContent> dlContents = DLContentLocalServiceUtil.getContents(
 			companyId, repositoryId);
 
-		String[] fileNames = new String[dlContents.size()];
-
-		for (int i = 0; i < dlContents.size(); i++) {
-			DLContent dlContent = dlContents.get(i);
-
-			fileNames[i] = dlContent.getPath();
-		}
-
-		return fileNames;
+		return getFileNames(dlContents);
 	}
 
 	@Override
@@ -239,15 +278,7 @@ public class DBStore extends BaseStore {
 			DLContentLocalServiceUtil.getContentsByDirectory(
 				companyId, repositoryId, dirName);
 
-		String[] fileNames = new String[dlContents.size()];
-
-		for (int i = 0; i < dlContents.size(); i++) {
-			DLContent dlContent = dlContents.get(i);
-
-			fileNames[i] = dlContent.getPath();
-		}
-
-		return fileNames;
+		return getFileNames(dlContents);
 	}
 
 	@Override
@@ -289,6 +320,9 @@ public class DBStore extends BaseStore {
 
 		DLContentLocalServiceUtil.updateDLContent(
 			companyId, repositoryId, newRepositoryId, fileName, fileName);
+
+		updateChunks(
+			companyId, repositoryId, newRepositoryId, fileName, fileName);
 	}
 
 	public void updateFile(
@@ -298,6 +332,9 @@ public class DBStore extends BaseStore {
 
 		DLContentLocalServiceUtil.updateDLContent(
 			companyId, repositoryId, repositoryId, fileName, newFileName);
+
+		updateChunks(
+			companyId, repositoryId, repositoryId, fileName, newFileName);
 	}
 
 	@Override
@@ -312,6 +349,14 @@ public class DBStore extends BaseStore {
 			throw new DuplicateFileException(fileName);
 		}
 
+		if (isChunked(bytes.length)) {
+			addChunkedContent(
+				companyId, repositoryId, fileName, versionLabel,
+				new UnsyncByteArrayInputStream(bytes));
+
+			return;
+		}
+
 		DLContentLocalServiceUtil.addContent(
 			companyId, repositoryId, fileName, versionLabel, bytes);
 	}
@@ -337,6 +382,13 @@ public class DBStore extends BaseStore {
 			throw new SystemException(fnfe);
 		}
 
+		if (isChunked(file.length())) {
+			addChunkedContent(
+				companyId, repositoryId, fileName, versionLabel, inputStream);
+
+			return;
+		}
+
 		DLContentLocalServiceUtil.addContent(
 			companyId, repositoryId, fileName, versionLabel, inputStream,
 			file.length());
@@ -384,7 +436,11 @@ public class DBStore extends BaseStore {
 			length = unsyncByteArrayInputStream.available();
 		}
 
-		if (length >= 0) {
+		if (isChunked(length)) {
+			addChunkedContent(
+				companyId, repositoryId, fileName, versionLabel, inputStream);
+		}
+		else if (length >= 0) {
 			DLContentLocalServiceUtil.addContent(
 				companyId, repositoryId, fileName, versionLabel, inputStream,
 				length);
@@ -410,6 +466,183 @@ public class DBStore extends BaseStore {
 		}
 	}
 
+	protected static String getChunkPath(String fileName, int chunkIndex) {
+		return fileName.concat(_CHUNK_PATH_SEPARATOR).concat(
+			String.valueOf(chunkIndex));
+	}
+
+	protected void addChunkedContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, InputStream inputStream)
+		throws SystemException {
+
+		byte[] buffer = new byte[PropsValues.DL_STORE_DB_CHUNK_SIZE];
+
+		long size = 0;
+
+		try {
+			for (int i = 0;; i++) {
+				int length = read(inputStream, buffer);
+
+				if (length == 0) {
+					break;
+				}
+
+				DLContentLocalServiceUtil.addContent(
+					companyId, repositoryId, getChunkPath(fileName, i),
+					versionLabel,
+					new UnsyncByteArrayInputStream(buffer, 0, length), length);
+
+				size += length;
+
+				if (length < buffer.length) {
+					break;
+				}
+			}
+		}
+		catch (IOException ioe) {
+			throw new SystemException(ioe);
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
+
+		DLContent dlContent = DLContentLocalServiceUtil.createDLContent(
+			CounterLocalServiceUtil.increment());
+
+		dlContent.setCompanyId(companyId);
+		dlContent.setRepositoryId(repositoryId);
+		dlContent.setPath(fileName);
+		dlContent.setVersion(versionLabel);
+		dlContent.setData(
+			new OutputBlob(new UnsyncByteArrayInputStream(new byte[0]), 0));
+		dlContent.setSize(size);
+
+		DLContentLocalServiceUtil.addDLContent(dlContent);
+	}
+
+	protected InputStream getChunkInputStream(
+			long companyId, long repositoryId, String fileName,
+			DLContent dlContent)
+		throws PortalException, SystemException {
+
+		if (dlContent.getSize() == 0) {
+			return null;
+		}
+
+		// Without chunking, only a version that was chunked before it was
+		// disabled, whose head row holds an empty blob, needs the lookup
+
+		if ((PropsValues.DL_STORE_DB_CHUNK_SIZE <= 0) &&
+			!hasEmptyData(dlContent)) {
+
+			return null;
+		}
+
+		String chunkPath = getChunkPath(fileName, 0);
+		String versionLabel = dlContent.getVersion();
+
+		if (!DLContentLocalServiceUtil.hasContent(
+				companyId, repositoryId, chunkPath, versionLabel)) {
+
+			return null;
+		}
+
+		DLContent chunkDLContent = DLContentLocalServiceUtil.getContent(
+			companyId, repositoryId, chunkPath, versionLabel);
+
+		return new DBStoreChunkInputStream(
+			companyId, repositoryId, fileName, versionLabel,
+			dlContent.getSize(), chunkDLContent.getSize());
+	}
+
+	protected String[] getFileNames(List<DLContent> dlContents) {
+		List<String> fileNames = new ArrayList<String>(dlContents.size());
+
+		for (DLContent dlContent : dlContents) {
+			String path = dlContent.getPath();
+
+			if (!path.contains(_CHUNK_PATH_SEPARATOR)) {
+				fileNames.add(path);
+			}
+		}
+
+		return fileNames.toArray(new String[fileNames.size()]);
+	}
+
+	protected boolean hasEmptyData(DLContent dlContent) {
+		Blob blobData = dlContent.getData();
+
+		if (blobData == null) {
+			return false;
+		}
+
+		try {
+			if (blobData.length() == 0) {
+				return true;
+			}
+		}
+		catch (SQLException sqle) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(sqle, sqle);
+			}
+		}
+
+		return false;
+	}
+
+	protected boolean isChunked(long length) {
+		if ((PropsValues.DL_STORE_DB_CHUNK_SIZE > 0) &&
+			((length < 0) || (length > PropsValues.DL_STORE_DB_CHUNK_SIZE))) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	protected int read(InputStream inputStream, byte[] buffer)
+		throws IOException {
+
+		int offset = 0;
+
+		while (offset < buffer.length) {
+			int count = inputStream.read(
+				buffer, offset, buffer.length - offset);
+
+			if (count == -1) {
+				break;
+			}
+
+			offset += count;
+		}
+
+		return offset;
+	}
+
+	protected void updateChunks(
+			long companyId, long repositoryId, long newRepositoryId,
+			String fileName, String newFileName)
+		throws SystemException {
+
+		for (int i = 0;; i++) {
+			String chunkPath = getChunkPath(fileName, i);
+
+			List<DLContent> dlContents = DLContentLocalServiceUtil.getContents(
+				companyId, repositoryId, chunkPath);
+
+			if (dlContents.isEmpty()) {
+				break;
+			}
+
+			DLContentLocalServiceUtil.updateDLContent(
+				companyId, repositoryId, newRepositoryId, chunkPath,
+				getChunkPath(newFileName, i));
+		}
+	}
+
+	private static final String _CHUNK_PATH_SEPARATOR = StringPool.PIPE;
+
 	private static Log _log = LogFactoryUtil.getLog(DBStore.class);
 
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.store;
+
+import com.liferay.portal.kernel.io.Seekable;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portlet.documentlibrary.model.DLContent;
+import com.liferay.portlet.documentlibrary.service.DLContentLocalServiceUtil;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.sql.Blob;
+
+/**
+ * Reads a file version that {@link DBStore} split into chunk rows. Only the
+ * chunk covering the current position is held in memory, and seeking or
+ * skipping never loads the chunks in between.
+ *
+ * @author agent
+ */
+public class DBStoreChunkInputStream extends InputStream implements Seekable {
+
+	public DBStoreChunkInputStream(
+		long companyId, long repositoryId, String fileName,
+		String versionLabel, long size, long chunkSize) {
+
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size is less than 1");
+		}
+
+		_companyId = companyId;
+		_repositoryId = repositoryId;
+		_fileName = fileName;
+		_versionLabel = versionLabel;
+		_size = size;
+		_chunkSize = chunkSize;
+	}
+
+	@Override
+	public int available() {
+		if ((_chunk == null) || (_chunkIndex != (_position / _chunkSize))) {
+			return 0;
+		}
+
+		return _chunk.length - (int)(_position % _chunkSize);
+	}
+
+	@Override
+	public void close() {
+		_chunk = null;
+		_position = _size;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!_loadChunk()) {
+			return -1;
+		}
+
+		int offset = (int)(_position % _chunkSize);
+
+		_position++;
+
+		return _chunk[offset] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+
+		if (!_loadChunk()) {
+			return -1;
+		}
+
+		int chunkOffset = (int)(_position % _chunkSize);
+
+		length = Math.min(length, _chunk.length - chunkOffset);
+
+		System.arraycopy(_chunk, chunkOffset, bytes, offset, length);
+
+		_position += length;
+
+		return length;
+	}
+
+	public void seek(long position) throws IOException {
+		if (position < 0) {
+			throw new IOException("Position is less than 0");
+		}
+
+		_position = Math.min(position, _size);
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+
+		long position = _position;
+
+		seek(Math.min(_position + n, _size));
+
+		return _position - position;
+	}
+
+	private boolean _loadChunk() throws IOException {
+		if (_position >= _size) {
+			return false;
+		}
+
+		long chunkIndex = _position / _chunkSize;
+
+		if ((_chunk != null) && (_chunkIndex == chunkIndex)) {
+			return true;
+		}
+
+		_chunk = null;
+
+		InputStream inputStream = null;
+
+		try {
+			DLContent dlContent = DLContentLocalServiceUtil.getContent(
+				_companyId, _repositoryId,
+				DBStore.getChunkPath(_fileName, (int)chunkIndex),
+				_versionLabel);
+
+			Blob blob = dlContent.getData();
+
+			if (blob == null) {
+				throw new IOException(
+					"No blob data found for chunk " + chunkIndex + " of " +
+						_fileName);
+			}
+
+			inputStream = blob.getBinaryStream();
+
+			byte[] chunk = new byte[(int)dlContent.getSize()];
+
+			DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+			dataInputStream.readFully(chunk);
+
+			_chunk = chunk;
+			_chunkIndex = chunkIndex;
+		}
+		catch (IOException ioe) {
+			throw ioe;
+		}
+		catch (Exception e) {
+			throw new IOException(e);
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
+
+		if ((_position % _chunkSize) >= _chunk.length) {
+			throw new IOException(
+				"Chunk " + chunkIndex + " of " + _fileName + " is truncated");
+		}
+
+		return true;
+	}
+
+	private byte[] _chunk;
+	private long _chunkIndex = -1;
+	private final long _chunkSize;
+	private final long _companyId;
+	private final String _fileName;
+	private long _position;
+	private final long _repositoryId;
+	private final long _size;
+	private final String _versionLabel;
+
+}
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d l record service.
@@ -2904,15 +2908,30 @@ public class DDLRecordPersistenceImpl extends BasePersistenceImpl<DDLRecord>
 	 * @param ddlRecords the d d l records
 	 */
 	public void cacheResult(List<DDLRecord> ddlRecords) {
+		Map<Serializable, DDLRecord> uncachedDdlRecords = new HashMap<Serializable, DDLRecord>();
+
 		for (DDLRecord ddlRecord : ddlRecords) {
-			if (EntityCacheUtil.getResult(
-						DDLRecordModelImpl.ENTITY_CACHE_ENABLED,
-						DDLRecordImpl.class, ddlRecord.getPrimaryKey()) == null) {
-				cacheResult(ddlRecord);
-			}
-			else {
-				ddlRecord.resetOriginalValues();
-			}
+			uncachedDdlRecords.put(ddlRecord.getPrimaryKeyObj(), ddlRecord);
+		}
+
+		Map<Serializable, Serializable> cachedDdlRecords = EntityCacheUtil.getResults(DDLRecordModelImpl.ENTITY_CACHE_ENABLED,
+				DDLRecordImpl.class, uncachedDdlRecords.keySet());
+
+		for (Serializable primaryKey : cachedDdlRecords.keySet()) {
+			DDLRecord ddlRecord = uncachedDdlRecords.remove(primaryKey);
+
+			ddlRecord.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDLRecordModelImpl.ENTITY_CACHE_ENABLED,
+			DDLRecordImpl.class, uncachedDdlRecords);
+
+		for (DDLRecord ddlRecord : uncachedDdlRecords.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { ddlRecord.getUuid(), ddlRecord.getGroupId() },
+				ddlRecord);
+
+			ddlRecord.resetOriginalValues();
 		}
 	}
 
@@ -2959,12 +2978,16 @@ public class DDLRecordPersistenceImpl extends BasePersistenceImpl<DDLRecord>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddlRecords.size());
+
 		for (DDLRecord ddlRecord : ddlRecords) {
-			EntityCacheUtil.removeResult(DDLRecordModelImpl.ENTITY_CACHE_ENABLED,
-				DDLRecordImpl.class, ddlRecord.getPrimaryKey());
+			primaryKeys.add(ddlRecord.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddlRecord);
 		}
+
+		EntityCacheUtil.removeResults(DDLRecordModelImpl.ENTITY_CACHE_ENABLED,
+			DDLRecordImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDLRecord ddlRecord) {
@@ -3397,6 +3420,113 @@ public class DDLRecordPersistenceImpl extends BasePersistenceImpl<DDLRecord>
 		return fetchByPrimaryKey((Serializable)recordId);
 	}
 
+	/**
+	 * Returns the d d l records with the primary keys, keyed by primary key. Primary keys without a matching d d l record are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d l records
+	 * @return the d d l records, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDLRecord> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDLRecord> map = new HashMap<Serializable, DDLRecord>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDLRecord ddlRecord = fetchByPrimaryKey(primaryKey);
+
+			if (ddlRecord != null) {
+				map.put(primaryKey, ddlRecord);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDLRecord ddlRecord = (DDLRecord)EntityCacheUtil.getResult(DDLRecordModelImpl.ENTITY_CACHE_ENABLED,
+					DDLRecordImpl.class, primaryKey);
+
+			if (ddlRecord == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddlRecord != _nullDDLRecord) {
+				map.put(primaryKey, ddlRecord);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDLRECORD_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDLRecord ddlRecord : (List<DDLRecord>)q.list()) {
+					map.put(ddlRecord.getPrimaryKeyObj(), ddlRecord);
+
+					cacheResult(ddlRecord);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDLRecordModelImpl.ENTITY_CACHE_ENABLED,
+						DDLRecordImpl.class, primaryKey, _nullDDLRecord);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d l records.
 	 *
@@ -3598,6 +3728,7 @@ public class DDLRecordPersistenceImpl extends BasePersistenceImpl<DDLRecord>
 	}
 
 	private static final String _SQL_SELECT_DDLRECORD = "SELECT ddlRecord FROM DDLRecord ddlRecord";
+	private static final String _SQL_SELECT_DDLRECORD_WHERE_PKS_IN = "SELECT ddlRecord FROM DDLRecord ddlRecord WHERE ddlRecord.recordId IN (";
 	private static final String _SQL_SELECT_DDLRECORD_WHERE = "SELECT ddlRecord FROM DDLRecord ddlRecord WHERE ";
 	private static final String _SQL_COUNT_DDLRECORD = "SELECT COUNT(ddlRecord) FROM DDLRecord ddlRecord";
 	private static final String _SQL_COUNT_DDLRECORD_WHERE = "SELECT COUNT(ddlRecord) FROM DDLRecord ddlRecord WHERE ";
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d l record set service.
@@ -2537,15 +2541,36 @@ public class DDLRecordSetPersistenceImpl extends BasePersistenceImpl<DDLRecordSe
 	 * @param ddlRecordSets the d d l record sets
 	 */
 	public void cacheResult(List<DDLRecordSet> ddlRecordSets) {
+		Map<Serializable, DDLRecordSet> uncachedDdlRecordSets = new HashMap<Serializable, DDLRecordSet>();
+
 		for (DDLRecordSet ddlRecordSet : ddlRecordSets) {
-			if (EntityCacheUtil.getResult(
-						DDLRecordSetModelImpl.ENTITY_CACHE_ENABLED,
-						DDLRecordSetImpl.class, ddlRecordSet.getPrimaryKey()) == null) {
-				cacheResult(ddlRecordSet);
-			}
-			else {
-				ddlRecordSet.resetOriginalValues();
-			}
+			uncachedDdlRecordSets.put(ddlRecordSet.getPrimaryKeyObj(),
+				ddlRecordSet);
+		}
+
+		Map<Serializable, Serializable> cachedDdlRecordSets = EntityCacheUtil.getResults(DDLRecordSetModelImpl.ENTITY_CACHE_ENABLED,
+				DDLRecordSetImpl.class, uncachedDdlRecordSets.keySet());
+
+		for (Serializable primaryKey : cachedDdlRecordSets.keySet()) {
+			DDLRecordSet ddlRecordSet = uncachedDdlRecordSets.remove(primaryKey);
+
+			ddlRecordSet.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDLRecordSetModelImpl.ENTITY_CACHE_ENABLED,
+			DDLRecordSetImpl.class, uncachedDdlRecordSets);
+
+		for (DDLRecordSet ddlRecordSet : uncachedDdlRecordSets.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { ddlRecordSet.getUuid(), ddlRecordSet.getGroupId() },
+				ddlRecordSet);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_R,
+				new Object[] {
+					ddlRecordSet.getGroupId(), ddlRecordSet.getRecordSetKey()
+				}, ddlRecordSet);
+
+			ddlRecordSet.resetOriginalValues();
 		}
 	}
 
@@ -2592,12 +2617,16 @@ public class DDLRecordSetPersistenceImpl extends BasePersistenceImpl<DDLRecordSe
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddlRecordSets.size());
+
 		for (DDLRecordSet ddlRecordSet : ddlRecordSets) {
-			EntityCacheUtil.removeResult(DDLRecordSetModelImpl.ENTITY_CACHE_ENABLED,
-				DDLRecordSetImpl.class, ddlRecordSet.getPrimaryKey());
+			primaryKeys.add(ddlRecordSet.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddlRecordSet);
 		}
+
+		EntityCacheUtil.removeResults(DDLRecordSetModelImpl.ENTITY_CACHE_ENABLED,
+			DDLRecordSetImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDLRecordSet ddlRecordSet) {
@@ -3031,6 +3060,113 @@ public class DDLRecordSetPersistenceImpl extends BasePersistenceImpl<DDLRecordSe
 		return fetchByPrimaryKey((Serializable)recordSetId);
 	}
 
+	/**
+	 * Returns the d d l record sets with the primary keys, keyed by primary key. Primary keys without a matching d d l record set are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d l record sets
+	 * @return the d d l record sets, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDLRecordSet> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDLRecordSet> map = new HashMap<Serializable, DDLRecordSet>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDLRecordSet ddlRecordSet = fetchByPrimaryKey(primaryKey);
+
+			if (ddlRecordSet != null) {
+				map.put(primaryKey, ddlRecordSet);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDLRecordSet ddlRecordSet = (DDLRecordSet)EntityCacheUtil.getResult(DDLRecordSetModelImpl.ENTITY_CACHE_ENABLED,
+					DDLRecordSetImpl.class, primaryKey);
+
+			if (ddlRecordSet == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddlRecordSet != _nullDDLRecordSet) {
+				map.put(primaryKey, ddlRecordSet);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDLRECORDSET_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDLRecordSet ddlRecordSet : (List<DDLRecordSet>)q.list()) {
+					map.put(ddlRecordSet.getPrimaryKeyObj(), ddlRecordSet);
+
+					cacheResult(ddlRecordSet);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDLRecordSetModelImpl.ENTITY_CACHE_ENABLED,
+						DDLRecordSetImpl.class, primaryKey, _nullDDLRecordSet);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d l record sets.
 	 *
@@ -3232,6 +3368,7 @@ public class DDLRecordSetPersistenceImpl extends BasePersistenceImpl<DDLRecordSe
 	}
 
 	private static final String _SQL_SELECT_DDLRECORDSET = "SELECT ddlRecordSet FROM DDLRecordSet ddlRecordSet";
+	private static final String _SQL_SELECT_DDLRECORDSET_WHERE_PKS_IN = "SELECT ddlRecordSet FROM DDLRecordSet ddlRecordSet WHERE ddlRecordSet.recordSetId IN (";
 	private static final String _SQL_SELECT_DDLRECORDSET_WHERE = "SELECT ddlRecordSet FROM DDLRecordSet ddlRecordSet WHERE ";
 	private static final String _SQL_COUNT_DDLRECORDSET = "SELECT COUNT(ddlRecordSet) FROM DDLRecordSet ddlRecordSet";
 	private static final String _SQL_COUNT_DDLRECORDSET_WHERE = "SELECT COUNT(ddlRecordSet) FROM DDLRecordSet ddlRecordSet WHERE ";
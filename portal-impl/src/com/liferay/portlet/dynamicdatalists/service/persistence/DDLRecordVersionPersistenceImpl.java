@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d l record version service.
@@ -1360,16 +1364,32 @@ public class DDLRecordVersionPersistenceImpl extends BasePersistenceImpl<DDLReco
 	 * @param ddlRecordVersions the d d l record versions
 	 */
 	public void cacheResult(List<DDLRecordVersion> ddlRecordVersions) {
+		Map<Serializable, DDLRecordVersion> uncachedDdlRecordVersions = new HashMap<Serializable, DDLRecordVersion>();
+
 		for (DDLRecordVersion ddlRecordVersion : ddlRecordVersions) {
-			if (EntityCacheUtil.getResult(
-						DDLRecordVersionModelImpl.ENTITY_CACHE_ENABLED,
-						DDLRecordVersionImpl.class,
-						ddlRecordVersion.getPrimaryKey()) == null) {
-				cacheResult(ddlRecordVersion);
-			}
-			else {
-				ddlRecordVersion.resetOriginalValues();
-			}
+			uncachedDdlRecordVersions.put(ddlRecordVersion.getPrimaryKeyObj(),
+				ddlRecordVersion);
+		}
+
+		Map<Serializable, Serializable> cachedDdlRecordVersions = EntityCacheUtil.getResults(DDLRecordVersionModelImpl.ENTITY_CACHE_ENABLED,
+				DDLRecordVersionImpl.class, uncachedDdlRecordVersions.keySet());
+
+		for (Serializable primaryKey : cachedDdlRecordVersions.keySet()) {
+			DDLRecordVersion ddlRecordVersion = uncachedDdlRecordVersions.remove(primaryKey);
+
+			ddlRecordVersion.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDLRecordVersionModelImpl.ENTITY_CACHE_ENABLED,
+			DDLRecordVersionImpl.class, uncachedDdlRecordVersions);
+
+		for (DDLRecordVersion ddlRecordVersion : uncachedDdlRecordVersions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_R_V,
+				new Object[] {
+					ddlRecordVersion.getRecordId(), ddlRecordVersion.getVersion()
+				}, ddlRecordVersion);
+
+			ddlRecordVersion.resetOriginalValues();
 		}
 	}
 
@@ -1416,12 +1436,16 @@ public class DDLRecordVersionPersistenceImpl extends BasePersistenceImpl<DDLReco
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddlRecordVersions.size());
+
 		for (DDLRecordVersion ddlRecordVersion : ddlRecordVersions) {
-			EntityCacheUtil.removeResult(DDLRecordVersionModelImpl.ENTITY_CACHE_ENABLED,
-				DDLRecordVersionImpl.class, ddlRecordVersion.getPrimaryKey());
+			primaryKeys.add(ddlRecordVersion.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddlRecordVersion);
 		}
+
+		EntityCacheUtil.removeResults(DDLRecordVersionModelImpl.ENTITY_CACHE_ENABLED,
+			DDLRecordVersionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDLRecordVersion ddlRecordVersion) {
@@ -1794,6 +1818,113 @@ public class DDLRecordVersionPersistenceImpl extends BasePersistenceImpl<DDLReco
 		return fetchByPrimaryKey((Serializable)recordVersionId);
 	}
 
+	/**
+	 * Returns the d d l record versions with the primary keys, keyed by primary key. Primary keys without a matching d d l record version are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d l record versions
+	 * @return the d d l record versions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDLRecordVersion> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDLRecordVersion> map = new HashMap<Serializable, DDLRecordVersion>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDLRecordVersion ddlRecordVersion = fetchByPrimaryKey(primaryKey);
+
+			if (ddlRecordVersion != null) {
+				map.put(primaryKey, ddlRecordVersion);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDLRecordVersion ddlRecordVersion = (DDLRecordVersion)EntityCacheUtil.getResult(DDLRecordVersionModelImpl.ENTITY_CACHE_ENABLED,
+					DDLRecordVersionImpl.class, primaryKey);
+
+			if (ddlRecordVersion == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddlRecordVersion != _nullDDLRecordVersion) {
+				map.put(primaryKey, ddlRecordVersion);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDLRECORDVERSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDLRecordVersion ddlRecordVersion : (List<DDLRecordVersion>)q.list()) {
+					map.put(ddlRecordVersion.getPrimaryKeyObj(), ddlRecordVersion);
+
+					cacheResult(ddlRecordVersion);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDLRecordVersionModelImpl.ENTITY_CACHE_ENABLED,
+						DDLRecordVersionImpl.class, primaryKey, _nullDDLRecordVersion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d l record versions.
 	 *
@@ -1995,6 +2126,7 @@ public class DDLRecordVersionPersistenceImpl extends BasePersistenceImpl<DDLReco
 	}
 
 	private static final String _SQL_SELECT_DDLRECORDVERSION = "SELECT ddlRecordVersion FROM DDLRecordVersion ddlRecordVersion";
+	private static final String _SQL_SELECT_DDLRECORDVERSION_WHERE_PKS_IN = "SELECT ddlRecordVersion FROM DDLRecordVersion ddlRecordVersion WHERE ddlRecordVersion.recordVersionId IN (";
 	private static final String _SQL_SELECT_DDLRECORDVERSION_WHERE = "SELECT ddlRecordVersion FROM DDLRecordVersion ddlRecordVersion WHERE ";
 	private static final String _SQL_COUNT_DDLRECORDVERSION = "SELECT COUNT(ddlRecordVersion) FROM DDLRecordVersion ddlRecordVersion";
 	private static final String _SQL_COUNT_DDLRECORDVERSION_WHERE = "SELECT COUNT(ddlRecordVersion) FROM DDLRecordVersion ddlRecordVersion WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d m content service.
@@ -2388,15 +2392,30 @@ public class DDMContentPersistenceImpl extends BasePersistenceImpl<DDMContent>
 	 * @param ddmContents the d d m contents
 	 */
 	public void cacheResult(List<DDMContent> ddmContents) {
+		Map<Serializable, DDMContent> uncachedDdmContents = new HashMap<Serializable, DDMContent>();
+
 		for (DDMContent ddmContent : ddmContents) {
-			if (EntityCacheUtil.getResult(
-						DDMContentModelImpl.ENTITY_CACHE_ENABLED,
-						DDMContentImpl.class, ddmContent.getPrimaryKey()) == null) {
-				cacheResult(ddmContent);
-			}
-			else {
-				ddmContent.resetOriginalValues();
-			}
+			uncachedDdmContents.put(ddmContent.getPrimaryKeyObj(), ddmContent);
+		}
+
+		Map<Serializable, Serializable> cachedDdmContents = EntityCacheUtil.getResults(DDMContentModelImpl.ENTITY_CACHE_ENABLED,
+				DDMContentImpl.class, uncachedDdmContents.keySet());
+
+		for (Serializable primaryKey : cachedDdmContents.keySet()) {
+			DDMContent ddmContent = uncachedDdmContents.remove(primaryKey);
+
+			ddmContent.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDMContentModelImpl.ENTITY_CACHE_ENABLED,
+			DDMContentImpl.class, uncachedDdmContents);
+
+		for (DDMContent ddmContent : uncachedDdmContents.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { ddmContent.getUuid(), ddmContent.getGroupId() },
+				ddmContent);
+
+			ddmContent.resetOriginalValues();
 		}
 	}
 
@@ -2443,12 +2462,16 @@ public class DDMContentPersistenceImpl extends BasePersistenceImpl<DDMContent>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddmContents.size());
+
 		for (DDMContent ddmContent : ddmContents) {
-			EntityCacheUtil.removeResult(DDMContentModelImpl.ENTITY_CACHE_ENABLED,
-				DDMContentImpl.class, ddmContent.getPrimaryKey());
+			primaryKeys.add(ddmContent.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddmContent);
 		}
+
+		EntityCacheUtil.removeResults(DDMContentModelImpl.ENTITY_CACHE_ENABLED,
+			DDMContentImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDMContent ddmContent) {
@@ -2858,6 +2881,113 @@ public class DDMContentPersistenceImpl extends BasePersistenceImpl<DDMContent>
 		return fetchByPrimaryKey((Serializable)contentId);
 	}
 
+	/**
+	 * Returns the d d m contents with the primary keys, keyed by primary key. Primary keys without a matching d d m content are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d m contents
+	 * @return the d d m contents, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDMContent> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDMContent> map = new HashMap<Serializable, DDMContent>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDMContent ddmContent = fetchByPrimaryKey(primaryKey);
+
+			if (ddmContent != null) {
+				map.put(primaryKey, ddmContent);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDMContent ddmContent = (DDMContent)EntityCacheUtil.getResult(DDMContentModelImpl.ENTITY_CACHE_ENABLED,
+					DDMContentImpl.class, primaryKey);
+
+			if (ddmContent == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddmContent != _nullDDMContent) {
+				map.put(primaryKey, ddmContent);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDMCONTENT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDMContent ddmContent : (List<DDMContent>)q.list()) {
+					map.put(ddmContent.getPrimaryKeyObj(), ddmContent);
+
+					cacheResult(ddmContent);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDMContentModelImpl.ENTITY_CACHE_ENABLED,
+						DDMContentImpl.class, primaryKey, _nullDDMContent);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d m contents.
 	 *
@@ -3059,6 +3189,7 @@ public class DDMContentPersistenceImpl extends BasePersistenceImpl<DDMContent>
 	}
 
 	private static final String _SQL_SELECT_DDMCONTENT = "SELECT ddmContent FROM DDMContent ddmContent";
+	private static final String _SQL_SELECT_DDMCONTENT_WHERE_PKS_IN = "SELECT ddmContent FROM DDMContent ddmContent WHERE ddmContent.contentId IN (";
 	private static final String _SQL_SELECT_DDMCONTENT_WHERE = "SELECT ddmContent FROM DDMContent ddmContent WHERE ";
 	private static final String _SQL_COUNT_DDMCONTENT = "SELECT COUNT(ddmContent) FROM DDMContent ddmContent";
 	private static final String _SQL_COUNT_DDMCONTENT_WHERE = "SELECT COUNT(ddmContent) FROM DDMContent ddmContent WHERE ";
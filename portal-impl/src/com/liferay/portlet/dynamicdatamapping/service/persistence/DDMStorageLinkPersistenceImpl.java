@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d m storage link service.
@@ -1312,15 +1316,30 @@ public class DDMStorageLinkPersistenceImpl extends BasePersistenceImpl<DDMStorag
 	 * @param ddmStorageLinks the d d m storage links
 	 */
 	public void cacheResult(List<DDMStorageLink> ddmStorageLinks) {
+		Map<Serializable, DDMStorageLink> uncachedDdmStorageLinks = new HashMap<Serializable, DDMStorageLink>();
+
 		for (DDMStorageLink ddmStorageLink : ddmStorageLinks) {
-			if (EntityCacheUtil.getResult(
-						DDMStorageLinkModelImpl.ENTITY_CACHE_ENABLED,
-						DDMStorageLinkImpl.class, ddmStorageLink.getPrimaryKey()) == null) {
-				cacheResult(ddmStorageLink);
-			}
-			else {
-				ddmStorageLink.resetOriginalValues();
-			}
+			uncachedDdmStorageLinks.put(ddmStorageLink.getPrimaryKeyObj(),
+				ddmStorageLink);
+		}
+
+		Map<Serializable, Serializable> cachedDdmStorageLinks = EntityCacheUtil.getResults(DDMStorageLinkModelImpl.ENTITY_CACHE_ENABLED,
+				DDMStorageLinkImpl.class, uncachedDdmStorageLinks.keySet());
+
+		for (Serializable primaryKey : cachedDdmStorageLinks.keySet()) {
+			DDMStorageLink ddmStorageLink = uncachedDdmStorageLinks.remove(primaryKey);
+
+			ddmStorageLink.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDMStorageLinkModelImpl.ENTITY_CACHE_ENABLED,
+			DDMStorageLinkImpl.class, uncachedDdmStorageLinks);
+
+		for (DDMStorageLink ddmStorageLink : uncachedDdmStorageLinks.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_CLASSPK,
+				new Object[] { ddmStorageLink.getClassPK() }, ddmStorageLink);
+
+			ddmStorageLink.resetOriginalValues();
 		}
 	}
 
@@ -1367,12 +1386,16 @@ public class DDMStorageLinkPersistenceImpl extends BasePersistenceImpl<DDMStorag
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddmStorageLinks.size());
+
 		for (DDMStorageLink ddmStorageLink : ddmStorageLinks) {
-			EntityCacheUtil.removeResult(DDMStorageLinkModelImpl.ENTITY_CACHE_ENABLED,
-				DDMStorageLinkImpl.class, ddmStorageLink.getPrimaryKey());
+			primaryKeys.add(ddmStorageLink.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddmStorageLink);
 		}
+
+		EntityCacheUtil.removeResults(DDMStorageLinkModelImpl.ENTITY_CACHE_ENABLED,
+			DDMStorageLinkImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDMStorageLink ddmStorageLink) {
@@ -1731,6 +1754,113 @@ public class DDMStorageLinkPersistenceImpl extends BasePersistenceImpl<DDMStorag
 		return fetchByPrimaryKey((Serializable)storageLinkId);
 	}
 
+	/**
+	 * Returns the d d m storage links with the primary keys, keyed by primary key. Primary keys without a matching d d m storage link are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d m storage links
+	 * @return the d d m storage links, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDMStorageLink> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDMStorageLink> map = new HashMap<Serializable, DDMStorageLink>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDMStorageLink ddmStorageLink = fetchByPrimaryKey(primaryKey);
+
+			if (ddmStorageLink != null) {
+				map.put(primaryKey, ddmStorageLink);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDMStorageLink ddmStorageLink = (DDMStorageLink)EntityCacheUtil.getResult(DDMStorageLinkModelImpl.ENTITY_CACHE_ENABLED,
+					DDMStorageLinkImpl.class, primaryKey);
+
+			if (ddmStorageLink == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddmStorageLink != _nullDDMStorageLink) {
+				map.put(primaryKey, ddmStorageLink);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDMSTORAGELINK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDMStorageLink ddmStorageLink : (List<DDMStorageLink>)q.list()) {
+					map.put(ddmStorageLink.getPrimaryKeyObj(), ddmStorageLink);
+
+					cacheResult(ddmStorageLink);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDMStorageLinkModelImpl.ENTITY_CACHE_ENABLED,
+						DDMStorageLinkImpl.class, primaryKey, _nullDDMStorageLink);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d m storage links.
 	 *
@@ -1932,6 +2062,7 @@ public class DDMStorageLinkPersistenceImpl extends BasePersistenceImpl<DDMStorag
 	}
 
 	private static final String _SQL_SELECT_DDMSTORAGELINK = "SELECT ddmStorageLink FROM DDMStorageLink ddmStorageLink";
+	private static final String _SQL_SELECT_DDMSTORAGELINK_WHERE_PKS_IN = "SELECT ddmStorageLink FROM DDMStorageLink ddmStorageLink WHERE ddmStorageLink.storageLinkId IN (";
 	private static final String _SQL_SELECT_DDMSTORAGELINK_WHERE = "SELECT ddmStorageLink FROM DDMStorageLink ddmStorageLink WHERE ";
 	private static final String _SQL_COUNT_DDMSTORAGELINK = "SELECT COUNT(ddmStorageLink) FROM DDMStorageLink ddmStorageLink";
 	private static final String _SQL_COUNT_DDMSTORAGELINK_WHERE = "SELECT COUNT(ddmStorageLink) FROM DDMStorageLink ddmStorageLink WHERE ";
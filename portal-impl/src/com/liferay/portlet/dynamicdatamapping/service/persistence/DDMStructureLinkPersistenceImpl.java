@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d m structure link service.
@@ -1275,16 +1279,30 @@ public class DDMStructureLinkPersistenceImpl extends BasePersistenceImpl<DDMStru
 	 * @param ddmStructureLinks the d d m structure links
 	 */
 	public void cacheResult(List<DDMStructureLink> ddmStructureLinks) {
+		Map<Serializable, DDMStructureLink> uncachedDdmStructureLinks = new HashMap<Serializable, DDMStructureLink>();
+
 		for (DDMStructureLink ddmStructureLink : ddmStructureLinks) {
-			if (EntityCacheUtil.getResult(
-						DDMStructureLinkModelImpl.ENTITY_CACHE_ENABLED,
-						DDMStructureLinkImpl.class,
-						ddmStructureLink.getPrimaryKey()) == null) {
-				cacheResult(ddmStructureLink);
-			}
-			else {
-				ddmStructureLink.resetOriginalValues();
-			}
+			uncachedDdmStructureLinks.put(ddmStructureLink.getPrimaryKeyObj(),
+				ddmStructureLink);
+		}
+
+		Map<Serializable, Serializable> cachedDdmStructureLinks = EntityCacheUtil.getResults(DDMStructureLinkModelImpl.ENTITY_CACHE_ENABLED,
+				DDMStructureLinkImpl.class, uncachedDdmStructureLinks.keySet());
+
+		for (Serializable primaryKey : cachedDdmStructureLinks.keySet()) {
+			DDMStructureLink ddmStructureLink = uncachedDdmStructureLinks.remove(primaryKey);
+
+			ddmStructureLink.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDMStructureLinkModelImpl.ENTITY_CACHE_ENABLED,
+			DDMStructureLinkImpl.class, uncachedDdmStructureLinks);
+
+		for (DDMStructureLink ddmStructureLink : uncachedDdmStructureLinks.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_CLASSPK,
+				new Object[] { ddmStructureLink.getClassPK() }, ddmStructureLink);
+
+			ddmStructureLink.resetOriginalValues();
 		}
 	}
 
@@ -1331,12 +1349,16 @@ public class DDMStructureLinkPersistenceImpl extends BasePersistenceImpl<DDMStru
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddmStructureLinks.size());
+
 		for (DDMStructureLink ddmStructureLink : ddmStructureLinks) {
-			EntityCacheUtil.removeResult(DDMStructureLinkModelImpl.ENTITY_CACHE_ENABLED,
-				DDMStructureLinkImpl.class, ddmStructureLink.getPrimaryKey());
+			primaryKeys.add(ddmStructureLink.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddmStructureLink);
 		}
+
+		EntityCacheUtil.removeResults(DDMStructureLinkModelImpl.ENTITY_CACHE_ENABLED,
+			DDMStructureLinkImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDMStructureLink ddmStructureLink) {
@@ -1687,6 +1709,113 @@ public class DDMStructureLinkPersistenceImpl extends BasePersistenceImpl<DDMStru
 		return fetchByPrimaryKey((Serializable)structureLinkId);
 	}
 
+	/**
+	 * Returns the d d m structure links with the primary keys, keyed by primary key. Primary keys without a matching d d m structure link are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d m structure links
+	 * @return the d d m structure links, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDMStructureLink> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDMStructureLink> map = new HashMap<Serializable, DDMStructureLink>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDMStructureLink ddmStructureLink = fetchByPrimaryKey(primaryKey);
+
+			if (ddmStructureLink != null) {
+				map.put(primaryKey, ddmStructureLink);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDMStructureLink ddmStructureLink = (DDMStructureLink)EntityCacheUtil.getResult(DDMStructureLinkModelImpl.ENTITY_CACHE_ENABLED,
+					DDMStructureLinkImpl.class, primaryKey);
+
+			if (ddmStructureLink == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddmStructureLink != _nullDDMStructureLink) {
+				map.put(primaryKey, ddmStructureLink);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDMSTRUCTURELINK_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDMStructureLink ddmStructureLink : (List<DDMStructureLink>)q.list()) {
+					map.put(ddmStructureLink.getPrimaryKeyObj(), ddmStructureLink);
+
+					cacheResult(ddmStructureLink);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDMStructureLinkModelImpl.ENTITY_CACHE_ENABLED,
+						DDMStructureLinkImpl.class, primaryKey, _nullDDMStructureLink);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d m structure links.
 	 *
@@ -1888,6 +2017,7 @@ public class DDMStructureLinkPersistenceImpl extends BasePersistenceImpl<DDMStru
 	}
 
 	private static final String _SQL_SELECT_DDMSTRUCTURELINK = "SELECT ddmStructureLink FROM DDMStructureLink ddmStructureLink";
+	private static final String _SQL_SELECT_DDMSTRUCTURELINK_WHERE_PKS_IN = "SELECT ddmStructureLink FROM DDMStructureLink ddmStructureLink WHERE ddmStructureLink.structureLinkId IN (";
 	private static final String _SQL_SELECT_DDMSTRUCTURELINK_WHERE = "SELECT ddmStructureLink FROM DDMStructureLink ddmStructureLink WHERE ";
 	private static final String _SQL_COUNT_DDMSTRUCTURELINK = "SELECT COUNT(ddmStructureLink) FROM DDMStructureLink ddmStructureLink";
 	private static final String _SQL_COUNT_DDMSTRUCTURELINK_WHERE = "SELECT COUNT(ddmStructureLink) FROM DDMStructureLink ddmStructureLink WHERE ";
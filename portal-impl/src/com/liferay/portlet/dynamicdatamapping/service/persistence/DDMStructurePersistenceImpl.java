@@ -50,7 +50,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d m structure service.
@@ -7082,15 +7086,37 @@ public class DDMStructurePersistenceImpl extends BasePersistenceImpl<DDMStructur
 	 * @param ddmStructures the d d m structures
 	 */
 	public void cacheResult(List<DDMStructure> ddmStructures) {
+		Map<Serializable, DDMStructure> uncachedDdmStructures = new HashMap<Serializable, DDMStructure>();
+
 		for (DDMStructure ddmStructure : ddmStructures) {
-			if (EntityCacheUtil.getResult(
-						DDMStructureModelImpl.ENTITY_CACHE_ENABLED,
-						DDMStructureImpl.class, ddmStructure.getPrimaryKey()) == null) {
-				cacheResult(ddmStructure);
-			}
-			else {
-				ddmStructure.resetOriginalValues();
-			}
+			uncachedDdmStructures.put(ddmStructure.getPrimaryKeyObj(),
+				ddmStructure);
+		}
+
+		Map<Serializable, Serializable> cachedDdmStructures = EntityCacheUtil.getResults(DDMStructureModelImpl.ENTITY_CACHE_ENABLED,
+				DDMStructureImpl.class, uncachedDdmStructures.keySet());
+
+		for (Serializable primaryKey : cachedDdmStructures.keySet()) {
+			DDMStructure ddmStructure = uncachedDdmStructures.remove(primaryKey);
+
+			ddmStructure.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDMStructureModelImpl.ENTITY_CACHE_ENABLED,
+			DDMStructureImpl.class, uncachedDdmStructures);
+
+		for (DDMStructure ddmStructure : uncachedDdmStructures.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { ddmStructure.getUuid(), ddmStructure.getGroupId() },
+				ddmStructure);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C_S,
+				new Object[] {
+					ddmStructure.getGroupId(), ddmStructure.getClassNameId(),
+					ddmStructure.getStructureKey()
+				}, ddmStructure);
+
+			ddmStructure.resetOriginalValues();
 		}
 	}
 
@@ -7137,12 +7163,16 @@ public class DDMStructurePersistenceImpl extends BasePersistenceImpl<DDMStructur
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddmStructures.size());
+
 		for (DDMStructure ddmStructure : ddmStructures) {
-			EntityCacheUtil.removeResult(DDMStructureModelImpl.ENTITY_CACHE_ENABLED,
-				DDMStructureImpl.class, ddmStructure.getPrimaryKey());
+			primaryKeys.add(ddmStructure.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddmStructure);
 		}
+
+		EntityCacheUtil.removeResults(DDMStructureModelImpl.ENTITY_CACHE_ENABLED,
+			DDMStructureImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDMStructure ddmStructure) {
@@ -7684,6 +7714,113 @@ public class DDMStructurePersistenceImpl extends BasePersistenceImpl<DDMStructur
 		return fetchByPrimaryKey((Serializable)structureId);
 	}
 
+	/**
+	 * Returns the d d m structures with the primary keys, keyed by primary key. Primary keys without a matching d d m structure are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d m structures
+	 * @return the d d m structures, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDMStructure> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDMStructure> map = new HashMap<Serializable, DDMStructure>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDMStructure ddmStructure = fetchByPrimaryKey(primaryKey);
+
+			if (ddmStructure != null) {
+				map.put(primaryKey, ddmStructure);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDMStructure ddmStructure = (DDMStructure)EntityCacheUtil.getResult(DDMStructureModelImpl.ENTITY_CACHE_ENABLED,
+					DDMStructureImpl.class, primaryKey);
+
+			if (ddmStructure == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddmStructure != _nullDDMStructure) {
+				map.put(primaryKey, ddmStructure);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDMSTRUCTURE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDMStructure ddmStructure : (List<DDMStructure>)q.list()) {
+					map.put(ddmStructure.getPrimaryKeyObj(), ddmStructure);
+
+					cacheResult(ddmStructure);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDMStructureModelImpl.ENTITY_CACHE_ENABLED,
+						DDMStructureImpl.class, primaryKey, _nullDDMStructure);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d m structures.
 	 *
@@ -7885,6 +8022,7 @@ public class DDMStructurePersistenceImpl extends BasePersistenceImpl<DDMStructur
 	}
 
 	private static final String _SQL_SELECT_DDMSTRUCTURE = "SELECT ddmStructure FROM DDMStructure ddmStructure";
+	private static final String _SQL_SELECT_DDMSTRUCTURE_WHERE_PKS_IN = "SELECT ddmStructure FROM DDMStructure ddmStructure WHERE ddmStructure.structureId IN (";
 	private static final String _SQL_SELECT_DDMSTRUCTURE_WHERE = "SELECT ddmStructure FROM DDMStructure ddmStructure WHERE ";
 	private static final String _SQL_COUNT_DDMSTRUCTURE = "SELECT COUNT(ddmStructure) FROM DDMStructure ddmStructure";
 	private static final String _SQL_COUNT_DDMSTRUCTURE_WHERE = "SELECT COUNT(ddmStructure) FROM DDMStructure ddmStructure WHERE ";
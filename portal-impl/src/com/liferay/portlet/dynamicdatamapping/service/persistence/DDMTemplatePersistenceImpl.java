@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the d d m template service.
@@ -10249,15 +10253,37 @@ public class DDMTemplatePersistenceImpl extends BasePersistenceImpl<DDMTemplate>
 	 * @param ddmTemplates the d d m templates
 	 */
 	public void cacheResult(List<DDMTemplate> ddmTemplates) {
+		Map<Serializable, DDMTemplate> uncachedDdmTemplates = new HashMap<Serializable, DDMTemplate>();
+
 		for (DDMTemplate ddmTemplate : ddmTemplates) {
-			if (EntityCacheUtil.getResult(
-						DDMTemplateModelImpl.ENTITY_CACHE_ENABLED,
-						DDMTemplateImpl.class, ddmTemplate.getPrimaryKey()) == null) {
-				cacheResult(ddmTemplate);
-			}
-			else {
-				ddmTemplate.resetOriginalValues();
-			}
+			uncachedDdmTemplates.put(ddmTemplate.getPrimaryKeyObj(),
+				ddmTemplate);
+		}
+
+		Map<Serializable, Serializable> cachedDdmTemplates = EntityCacheUtil.getResults(DDMTemplateModelImpl.ENTITY_CACHE_ENABLED,
+				DDMTemplateImpl.class, uncachedDdmTemplates.keySet());
+
+		for (Serializable primaryKey : cachedDdmTemplates.keySet()) {
+			DDMTemplate ddmTemplate = uncachedDdmTemplates.remove(primaryKey);
+
+			ddmTemplate.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(DDMTemplateModelImpl.ENTITY_CACHE_ENABLED,
+			DDMTemplateImpl.class, uncachedDdmTemplates);
+
+		for (DDMTemplate ddmTemplate : uncachedDdmTemplates.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { ddmTemplate.getUuid(), ddmTemplate.getGroupId() },
+				ddmTemplate);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C_T,
+				new Object[] {
+					ddmTemplate.getGroupId(), ddmTemplate.getClassNameId(),
+					ddmTemplate.getTemplateKey()
+				}, ddmTemplate);
+
+			ddmTemplate.resetOriginalValues();
 		}
 	}
 
@@ -10304,12 +10330,16 @@ public class DDMTemplatePersistenceImpl extends BasePersistenceImpl<DDMTemplate>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ddmTemplates.size());
+
 		for (DDMTemplate ddmTemplate : ddmTemplates) {
-			EntityCacheUtil.removeResult(DDMTemplateModelImpl.ENTITY_CACHE_ENABLED,
-				DDMTemplateImpl.class, ddmTemplate.getPrimaryKey());
+			primaryKeys.add(ddmTemplate.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ddmTemplate);
 		}
+
+		EntityCacheUtil.removeResults(DDMTemplateModelImpl.ENTITY_CACHE_ENABLED,
+			DDMTemplateImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(DDMTemplate ddmTemplate) {
@@ -10965,6 +10995,113 @@ public class DDMTemplatePersistenceImpl extends BasePersistenceImpl<DDMTemplate>
 		return fetchByPrimaryKey((Serializable)templateId);
 	}
 
+	/**
+	 * Returns the d d m templates with the primary keys, keyed by primary key. Primary keys without a matching d d m template are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the d d m templates
+	 * @return the d d m templates, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, DDMTemplate> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, DDMTemplate> map = new HashMap<Serializable, DDMTemplate>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			DDMTemplate ddmTemplate = fetchByPrimaryKey(primaryKey);
+
+			if (ddmTemplate != null) {
+				map.put(primaryKey, ddmTemplate);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			DDMTemplate ddmTemplate = (DDMTemplate)EntityCacheUtil.getResult(DDMTemplateModelImpl.ENTITY_CACHE_ENABLED,
+					DDMTemplateImpl.class, primaryKey);
+
+			if (ddmTemplate == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ddmTemplate != _nullDDMTemplate) {
+				map.put(primaryKey, ddmTemplate);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DDMTEMPLATE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (DDMTemplate ddmTemplate : (List<DDMTemplate>)q.list()) {
+					map.put(ddmTemplate.getPrimaryKeyObj(), ddmTemplate);
+
+					cacheResult(ddmTemplate);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(DDMTemplateModelImpl.ENTITY_CACHE_ENABLED,
+						DDMTemplateImpl.class, primaryKey, _nullDDMTemplate);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the d d m templates.
 	 *
@@ -11166,6 +11303,7 @@ public class DDMTemplatePersistenceImpl extends BasePersistenceImpl<DDMTemplate>
 	}
 
 	private static final String _SQL_SELECT_DDMTEMPLATE = "SELECT ddmTemplate FROM DDMTemplate ddmTemplate";
+	private static final String _SQL_SELECT_DDMTEMPLATE_WHERE_PKS_IN = "SELECT ddmTemplate FROM DDMTemplate ddmTemplate WHERE ddmTemplate.templateId IN (";
 	private static final String _SQL_SELECT_DDMTEMPLATE_WHERE = "SELECT ddmTemplate FROM DDMTemplate ddmTemplate WHERE ";
 	private static final String _SQL_COUNT_DDMTEMPLATE = "SELECT COUNT(ddmTemplate) FROM DDMTemplate ddmTemplate";
 	private static final String _SQL_COUNT_DDMTEMPLATE_WHERE = "SELECT COUNT(ddmTemplate) FROM DDMTemplate ddmTemplate WHERE ";
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the expando column service.
@@ -1692,15 +1696,31 @@ public class ExpandoColumnPersistenceImpl extends BasePersistenceImpl<ExpandoCol
 	 * @param expandoColumns the expando columns
 	 */
 	public void cacheResult(List<ExpandoColumn> expandoColumns) {
+		Map<Serializable, ExpandoColumn> uncachedExpandoColumns = new HashMap<Serializable, ExpandoColumn>();
+
 		for (ExpandoColumn expandoColumn : expandoColumns) {
-			if (EntityCacheUtil.getResult(
-						ExpandoColumnModelImpl.ENTITY_CACHE_ENABLED,
-						ExpandoColumnImpl.class, expandoColumn.getPrimaryKey()) == null) {
-				cacheResult(expandoColumn);
-			}
-			else {
-				expandoColumn.resetOriginalValues();
-			}
+			uncachedExpandoColumns.put(expandoColumn.getPrimaryKeyObj(),
+				expandoColumn);
+		}
+
+		Map<Serializable, Serializable> cachedExpandoColumns = EntityCacheUtil.getResults(ExpandoColumnModelImpl.ENTITY_CACHE_ENABLED,
+				ExpandoColumnImpl.class, uncachedExpandoColumns.keySet());
+
+		for (Serializable primaryKey : cachedExpandoColumns.keySet()) {
+			ExpandoColumn expandoColumn = uncachedExpandoColumns.remove(primaryKey);
+
+			expandoColumn.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ExpandoColumnModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoColumnImpl.class, uncachedExpandoColumns);
+
+		for (ExpandoColumn expandoColumn : uncachedExpandoColumns.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_T_N,
+				new Object[] { expandoColumn.getTableId(), expandoColumn.getName() },
+				expandoColumn);
+
+			expandoColumn.resetOriginalValues();
 		}
 	}
 
@@ -1747,12 +1767,16 @@ public class ExpandoColumnPersistenceImpl extends BasePersistenceImpl<ExpandoCol
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(expandoColumns.size());
+
 		for (ExpandoColumn expandoColumn : expandoColumns) {
-			EntityCacheUtil.removeResult(ExpandoColumnModelImpl.ENTITY_CACHE_ENABLED,
-				ExpandoColumnImpl.class, expandoColumn.getPrimaryKey());
+			primaryKeys.add(expandoColumn.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(expandoColumn);
 		}
+
+		EntityCacheUtil.removeResults(ExpandoColumnModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoColumnImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ExpandoColumn expandoColumn) {
@@ -2113,6 +2137,113 @@ public class ExpandoColumnPersistenceImpl extends BasePersistenceImpl<ExpandoCol
 		return fetchByPrimaryKey((Serializable)columnId);
 	}
 
+	/**
+	 * Returns the expando columns with the primary keys, keyed by primary key. Primary keys without a matching expando column are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the expando columns
+	 * @return the expando columns, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ExpandoColumn> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ExpandoColumn> map = new HashMap<Serializable, ExpandoColumn>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ExpandoColumn expandoColumn = fetchByPrimaryKey(primaryKey);
+
+			if (expandoColumn != null) {
+				map.put(primaryKey, expandoColumn);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ExpandoColumn expandoColumn = (ExpandoColumn)EntityCacheUtil.getResult(ExpandoColumnModelImpl.ENTITY_CACHE_ENABLED,
+					ExpandoColumnImpl.class, primaryKey);
+
+			if (expandoColumn == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (expandoColumn != _nullExpandoColumn) {
+				map.put(primaryKey, expandoColumn);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_EXPANDOCOLUMN_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ExpandoColumn expandoColumn : (List<ExpandoColumn>)q.list()) {
+					map.put(expandoColumn.getPrimaryKeyObj(), expandoColumn);
+
+					cacheResult(expandoColumn);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ExpandoColumnModelImpl.ENTITY_CACHE_ENABLED,
+						ExpandoColumnImpl.class, primaryKey, _nullExpandoColumn);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the expando columns.
 	 *
@@ -2314,6 +2445,7 @@ public class ExpandoColumnPersistenceImpl extends BasePersistenceImpl<ExpandoCol
 	}
 
 	private static final String _SQL_SELECT_EXPANDOCOLUMN = "SELECT expandoColumn FROM ExpandoColumn expandoColumn";
+	private static final String _SQL_SELECT_EXPANDOCOLUMN_WHERE_PKS_IN = "SELECT expandoColumn FROM ExpandoColumn expandoColumn WHERE expandoColumn.columnId IN (";
 	private static final String _SQL_SELECT_EXPANDOCOLUMN_WHERE = "SELECT expandoColumn FROM ExpandoColumn expandoColumn WHERE ";
 	private static final String _SQL_COUNT_EXPANDOCOLUMN = "SELECT COUNT(expandoColumn) FROM ExpandoColumn expandoColumn";
 	private static final String _SQL_COUNT_EXPANDOCOLUMN_WHERE = "SELECT COUNT(expandoColumn) FROM ExpandoColumn expandoColumn WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the expando row service.
@@ -802,15 +806,30 @@ public class ExpandoRowPersistenceImpl extends BasePersistenceImpl<ExpandoRow>
 	 * @param expandoRows the expando rows
 	 */
 	public void cacheResult(List<ExpandoRow> expandoRows) {
+		Map<Serializable, ExpandoRow> uncachedExpandoRows = new HashMap<Serializable, ExpandoRow>();
+
 		for (ExpandoRow expandoRow : expandoRows) {
-			if (EntityCacheUtil.getResult(
-						ExpandoRowModelImpl.ENTITY_CACHE_ENABLED,
-						ExpandoRowImpl.class, expandoRow.getPrimaryKey()) == null) {
-				cacheResult(expandoRow);
-			}
-			else {
-				expandoRow.resetOriginalValues();
-			}
+			uncachedExpandoRows.put(expandoRow.getPrimaryKeyObj(), expandoRow);
+		}
+
+		Map<Serializable, Serializable> cachedExpandoRows = EntityCacheUtil.getResults(ExpandoRowModelImpl.ENTITY_CACHE_ENABLED,
+				ExpandoRowImpl.class, uncachedExpandoRows.keySet());
+
+		for (Serializable primaryKey : cachedExpandoRows.keySet()) {
+			ExpandoRow expandoRow = uncachedExpandoRows.remove(primaryKey);
+
+			expandoRow.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ExpandoRowModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoRowImpl.class, uncachedExpandoRows);
+
+		for (ExpandoRow expandoRow : uncachedExpandoRows.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_T_C,
+				new Object[] { expandoRow.getTableId(), expandoRow.getClassPK() },
+				expandoRow);
+
+			expandoRow.resetOriginalValues();
 		}
 	}
 
@@ -857,12 +876,16 @@ public class ExpandoRowPersistenceImpl extends BasePersistenceImpl<ExpandoRow>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(expandoRows.size());
+
 		for (ExpandoRow expandoRow : expandoRows) {
-			EntityCacheUtil.removeResult(ExpandoRowModelImpl.ENTITY_CACHE_ENABLED,
-				ExpandoRowImpl.class, expandoRow.getPrimaryKey());
+			primaryKeys.add(expandoRow.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(expandoRow);
 		}
+
+		EntityCacheUtil.removeResults(ExpandoRowModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoRowImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ExpandoRow expandoRow) {
@@ -1197,6 +1220,113 @@ public class ExpandoRowPersistenceImpl extends BasePersistenceImpl<ExpandoRow>
 		return fetchByPrimaryKey((Serializable)rowId);
 	}
 
+	/**
+	 * Returns the expando rows with the primary keys, keyed by primary key. Primary keys without a matching expando row are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the expando rows
+	 * @return the expando rows, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ExpandoRow> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ExpandoRow> map = new HashMap<Serializable, ExpandoRow>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ExpandoRow expandoRow = fetchByPrimaryKey(primaryKey);
+
+			if (expandoRow != null) {
+				map.put(primaryKey, expandoRow);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ExpandoRow expandoRow = (ExpandoRow)EntityCacheUtil.getResult(ExpandoRowModelImpl.ENTITY_CACHE_ENABLED,
+					ExpandoRowImpl.class, primaryKey);
+
+			if (expandoRow == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (expandoRow != _nullExpandoRow) {
+				map.put(primaryKey, expandoRow);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_EXPANDOROW_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ExpandoRow expandoRow : (List<ExpandoRow>)q.list()) {
+					map.put(expandoRow.getPrimaryKeyObj(), expandoRow);
+
+					cacheResult(expandoRow);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ExpandoRowModelImpl.ENTITY_CACHE_ENABLED,
+						ExpandoRowImpl.class, primaryKey, _nullExpandoRow);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the expando rows.
 	 *
@@ -1398,6 +1528,7 @@ public class ExpandoRowPersistenceImpl extends BasePersistenceImpl<ExpandoRow>
 	}
 
 	private static final String _SQL_SELECT_EXPANDOROW = "SELECT expandoRow FROM ExpandoRow expandoRow";
+	private static final String _SQL_SELECT_EXPANDOROW_WHERE_PKS_IN = "SELECT expandoRow FROM ExpandoRow expandoRow WHERE expandoRow.rowId IN (";
 	private static final String _SQL_SELECT_EXPANDOROW_WHERE = "SELECT expandoRow FROM ExpandoRow expandoRow WHERE ";
 	private static final String _SQL_COUNT_EXPANDOROW = "SELECT COUNT(expandoRow) FROM ExpandoRow expandoRow";
 	private static final String _SQL_COUNT_EXPANDOROW_WHERE = "SELECT COUNT(expandoRow) FROM ExpandoRow expandoRow WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the expando table service.
@@ -904,15 +908,33 @@ public class ExpandoTablePersistenceImpl extends BasePersistenceImpl<ExpandoTabl
 	 * @param expandoTables the expando tables
 	 */
 	public void cacheResult(List<ExpandoTable> expandoTables) {
+		Map<Serializable, ExpandoTable> uncachedExpandoTables = new HashMap<Serializable, ExpandoTable>();
+
 		for (ExpandoTable expandoTable : expandoTables) {
-			if (EntityCacheUtil.getResult(
-						ExpandoTableModelImpl.ENTITY_CACHE_ENABLED,
-						ExpandoTableImpl.class, expandoTable.getPrimaryKey()) == null) {
-				cacheResult(expandoTable);
-			}
-			else {
-				expandoTable.resetOriginalValues();
-			}
+			uncachedExpandoTables.put(expandoTable.getPrimaryKeyObj(),
+				expandoTable);
+		}
+
+		Map<Serializable, Serializable> cachedExpandoTables = EntityCacheUtil.getResults(ExpandoTableModelImpl.ENTITY_CACHE_ENABLED,
+				ExpandoTableImpl.class, uncachedExpandoTables.keySet());
+
+		for (Serializable primaryKey : cachedExpandoTables.keySet()) {
+			ExpandoTable expandoTable = uncachedExpandoTables.remove(primaryKey);
+
+			expandoTable.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ExpandoTableModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoTableImpl.class, uncachedExpandoTables);
+
+		for (ExpandoTable expandoTable : uncachedExpandoTables.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C_N,
+				new Object[] {
+					expandoTable.getCompanyId(), expandoTable.getClassNameId(),
+					expandoTable.getName()
+				}, expandoTable);
+
+			expandoTable.resetOriginalValues();
 		}
 	}
 
@@ -959,12 +981,16 @@ public class ExpandoTablePersistenceImpl extends BasePersistenceImpl<ExpandoTabl
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(expandoTables.size());
+
 		for (ExpandoTable expandoTable : expandoTables) {
-			EntityCacheUtil.removeResult(ExpandoTableModelImpl.ENTITY_CACHE_ENABLED,
-				ExpandoTableImpl.class, expandoTable.getPrimaryKey());
+			primaryKeys.add(expandoTable.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(expandoTable);
 		}
+
+		EntityCacheUtil.removeResults(ExpandoTableModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoTableImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ExpandoTable expandoTable) {
@@ -1308,6 +1334,113 @@ public class ExpandoTablePersistenceImpl extends BasePersistenceImpl<ExpandoTabl
 		return fetchByPrimaryKey((Serializable)tableId);
 	}
 
+	/**
+	 * Returns the expando tables with the primary keys, keyed by primary key. Primary keys without a matching expando table are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the expando tables
+	 * @return the expando tables, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ExpandoTable> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ExpandoTable> map = new HashMap<Serializable, ExpandoTable>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ExpandoTable expandoTable = fetchByPrimaryKey(primaryKey);
+
+			if (expandoTable != null) {
+				map.put(primaryKey, expandoTable);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ExpandoTable expandoTable = (ExpandoTable)EntityCacheUtil.getResult(ExpandoTableModelImpl.ENTITY_CACHE_ENABLED,
+					ExpandoTableImpl.class, primaryKey);
+
+			if (expandoTable == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (expandoTable != _nullExpandoTable) {
+				map.put(primaryKey, expandoTable);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_EXPANDOTABLE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ExpandoTable expandoTable : (List<ExpandoTable>)q.list()) {
+					map.put(expandoTable.getPrimaryKeyObj(), expandoTable);
+
+					cacheResult(expandoTable);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ExpandoTableModelImpl.ENTITY_CACHE_ENABLED,
+						ExpandoTableImpl.class, primaryKey, _nullExpandoTable);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the expando tables.
 	 *
@@ -1509,6 +1642,7 @@ public class ExpandoTablePersistenceImpl extends BasePersistenceImpl<ExpandoTabl
 	}
 
 	private static final String _SQL_SELECT_EXPANDOTABLE = "SELECT expandoTable FROM ExpandoTable expandoTable";
+	private static final String _SQL_SELECT_EXPANDOTABLE_WHERE_PKS_IN = "SELECT expandoTable FROM ExpandoTable expandoTable WHERE expandoTable.tableId IN (";
 	private static final String _SQL_SELECT_EXPANDOTABLE_WHERE = "SELECT expandoTable FROM ExpandoTable expandoTable WHERE ";
 	private static final String _SQL_COUNT_EXPANDOTABLE = "SELECT COUNT(expandoTable) FROM ExpandoTable expandoTable";
 	private static final String _SQL_COUNT_EXPANDOTABLE_WHERE = "SELECT COUNT(expandoTable) FROM ExpandoTable expandoTable WHERE ";
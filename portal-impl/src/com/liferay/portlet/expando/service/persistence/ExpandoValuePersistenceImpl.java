@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the expando value service.
@@ -4674,15 +4678,37 @@ public class ExpandoValuePersistenceImpl extends BasePersistenceImpl<ExpandoValu
 	 * @param expandoValues the expando values
 	 */
 	public void cacheResult(List<ExpandoValue> expandoValues) {
+		Map<Serializable, ExpandoValue> uncachedExpandoValues = new HashMap<Serializable, ExpandoValue>();
+
 		for (ExpandoValue expandoValue : expandoValues) {
-			if (EntityCacheUtil.getResult(
-						ExpandoValueModelImpl.ENTITY_CACHE_ENABLED,
-						ExpandoValueImpl.class, expandoValue.getPrimaryKey()) == null) {
-				cacheResult(expandoValue);
-			}
-			else {
-				expandoValue.resetOriginalValues();
-			}
+			uncachedExpandoValues.put(expandoValue.getPrimaryKeyObj(),
+				expandoValue);
+		}
+
+		Map<Serializable, Serializable> cachedExpandoValues = EntityCacheUtil.getResults(ExpandoValueModelImpl.ENTITY_CACHE_ENABLED,
+				ExpandoValueImpl.class, uncachedExpandoValues.keySet());
+
+		for (Serializable primaryKey : cachedExpandoValues.keySet()) {
+			ExpandoValue expandoValue = uncachedExpandoValues.remove(primaryKey);
+
+			expandoValue.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ExpandoValueModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoValueImpl.class, uncachedExpandoValues);
+
+		for (ExpandoValue expandoValue : uncachedExpandoValues.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R,
+				new Object[] { expandoValue.getColumnId(), expandoValue.getRowId() },
+				expandoValue);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_T_C_C,
+				new Object[] {
+					expandoValue.getTableId(), expandoValue.getColumnId(),
+					expandoValue.getClassPK()
+				}, expandoValue);
+
+			expandoValue.resetOriginalValues();
 		}
 	}
 
@@ -4729,12 +4755,16 @@ public class ExpandoValuePersistenceImpl extends BasePersistenceImpl<ExpandoValu
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(expandoValues.size());
+
 		for (ExpandoValue expandoValue : expandoValues) {
-			EntityCacheUtil.removeResult(ExpandoValueModelImpl.ENTITY_CACHE_ENABLED,
-				ExpandoValueImpl.class, expandoValue.getPrimaryKey());
+			primaryKeys.add(expandoValue.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(expandoValue);
 		}
+
+		EntityCacheUtil.removeResults(ExpandoValueModelImpl.ENTITY_CACHE_ENABLED,
+			ExpandoValueImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ExpandoValue expandoValue) {
@@ -5258,6 +5288,113 @@ public class ExpandoValuePersistenceImpl extends BasePersistenceImpl<ExpandoValu
 		return fetchByPrimaryKey((Serializable)valueId);
 	}
 
+	/**
+	 * Returns the expando values with the primary keys, keyed by primary key. Primary keys without a matching expando value are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the expando values
+	 * @return the expando values, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ExpandoValue> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ExpandoValue> map = new HashMap<Serializable, ExpandoValue>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ExpandoValue expandoValue = fetchByPrimaryKey(primaryKey);
+
+			if (expandoValue != null) {
+				map.put(primaryKey, expandoValue);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ExpandoValue expandoValue = (ExpandoValue)EntityCacheUtil.getResult(ExpandoValueModelImpl.ENTITY_CACHE_ENABLED,
+					ExpandoValueImpl.class, primaryKey);
+
+			if (expandoValue == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (expandoValue != _nullExpandoValue) {
+				map.put(primaryKey, expandoValue);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_EXPANDOVALUE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ExpandoValue expandoValue : (List<ExpandoValue>)q.list()) {
+					map.put(expandoValue.getPrimaryKeyObj(), expandoValue);
+
+					cacheResult(expandoValue);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ExpandoValueModelImpl.ENTITY_CACHE_ENABLED,
+						ExpandoValueImpl.class, primaryKey, _nullExpandoValue);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the expando values.
 	 *
@@ -5459,6 +5596,7 @@ public class ExpandoValuePersistenceImpl extends BasePersistenceImpl<ExpandoValu
 	}
 
 	private static final String _SQL_SELECT_EXPANDOVALUE = "SELECT expandoValue FROM ExpandoValue expandoValue";
+	private static final String _SQL_SELECT_EXPANDOVALUE_WHERE_PKS_IN = "SELECT expandoValue FROM ExpandoValue expandoValue WHERE expandoValue.valueId IN (";
 	private static final String _SQL_SELECT_EXPANDOVALUE_WHERE = "SELECT expandoValue FROM ExpandoValue expandoValue WHERE ";
 	private static final String _SQL_COUNT_EXPANDOVALUE = "SELECT COUNT(expandoValue) FROM ExpandoValue expandoValue";
 	private static final String _SQL_COUNT_EXPANDOVALUE_WHERE = "SELECT COUNT(expandoValue) FROM ExpandoValue expandoValue WHERE ";
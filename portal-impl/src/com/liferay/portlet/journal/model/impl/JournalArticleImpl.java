@@ -25,14 +25,18 @@ import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.LocalizationUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.xml.Document;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
 import com.liferay.portal.model.Image;
 import com.liferay.portal.service.ImageLocalServiceUtil;
 import com.liferay.portal.theme.ThemeDisplay;
 import com.liferay.portal.webserver.WebServerServletTokenUtil;
+import com.liferay.portlet.dynamicdatamapping.util.DDMXMLUtil;
 import com.liferay.portlet.journal.model.JournalArticleResource;
 import com.liferay.portlet.journal.model.JournalFolder;
 import com.liferay.portlet.journal.service.JournalArticleResourceLocalServiceUtil;
 import com.liferay.portlet.journal.service.JournalFolderLocalServiceUtil;
+import com.liferay.portlet.journal.util.JournalArticleDocumentCacheUtil;
 import com.liferay.portlet.journal.util.LocaleTransformerListener;
 
 import java.util.Locale;
@@ -49,10 +53,25 @@ public class JournalArticleImpl extends JournalArticleBaseImpl {
 	public static String getContentByLocale(
 		String content, boolean templateDriven, String languageId) {
 
+		if (content == null) {
+			return content;
+		}
+
 		TransformerListener transformerListener =
 			new LocaleTransformerListener();
 
-		return transformerListener.onXml(content, languageId, null);
+		try {
+			Document document = SAXReaderUtil.read(content);
+
+			document = transformerListener.onXml(document, languageId, null);
+
+			return DDMXMLUtil.formatXML(document);
+		}
+		catch (Exception e) {
+			_log.error(e);
+		}
+
+		return content;
 	}
 
 	public JournalArticleImpl() {
@@ -130,7 +149,24 @@ public class JournalArticleImpl extends JournalArticleBaseImpl {
 	}
 
 	public String getContentByLocale(String languageId) {
-		return getContentByLocale(getContent(), isTemplateDriven(), languageId);
+		String content = getContent();
+
+		if (content == null) {
+			return content;
+		}
+
+		try {
+			Document document =
+				JournalArticleDocumentCacheUtil.getSharedDocument(
+					this, languageId);
+
+			return DDMXMLUtil.formatXML(document);
+		}
+		catch (Exception e) {
+			_log.error(e);
+		}
+
+		return content;
 	}
 
 	public String getDefaultLocale() {
@@ -112,6 +112,7 @@ import com.liferay.portlet.journal.model.JournalArticleResource;
 import com.liferay.portlet.journal.model.impl.JournalArticleDisplayImpl;
 import com.liferay.portlet.journal.service.base.JournalArticleLocalServiceBaseImpl;
 import com.liferay.portlet.journal.social.JournalActivityKeys;
+import com.liferay.portlet.journal.util.JournalArticleDocumentCacheUtil;
 import com.liferay.portlet.journal.util.JournalUtil;
 import com.liferay.portlet.journal.util.comparator.ArticleIDComparator;
 import com.liferay.portlet.journal.util.comparator.ArticleVersionComparator;
@@ -1067,15 +1068,14 @@ public class JournalArticleLocalServiceImpl
 			tokens.put("template_id", ddmTemplateKey);
 		}
 
-		String xml = article.getContent();
+		Document document = null;
 
 		try {
-			Document document = null;
-
 			Element rootElement = null;
 
 			if (article.isTemplateDriven()) {
-				document = SAXReaderUtil.read(xml);
+				document = JournalArticleDocumentCacheUtil.getDocument(
+					article, languageId);
 
 				rootElement = document.getRootElement();
 
@@ -1129,8 +1129,10 @@ public class JournalArticleLocalServiceImpl
 
 				JournalUtil.addAllReservedEls(
 					rootElement, tokens, article, languageId, themeDisplay);
-
-				xml = DDMXMLUtil.formatXML(document);
+			}
+			else {
+				document = JournalArticleDocumentCacheUtil.getDocument(
+					article, null);
 			}
 		}
 		catch (DocumentException de) {
@@ -1196,7 +1198,7 @@ public class JournalArticleLocalServiceImpl
 			}
 
 			content = JournalUtil.transform(
-				themeDisplay, tokens, viewMode, languageId, xml, script,
+				themeDisplay, tokens, viewMode, languageId, document, script,
 				langType);
 
 			if (!pageFlow) {
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal article image service.
@@ -2134,16 +2138,37 @@ public class JournalArticleImagePersistenceImpl extends BasePersistenceImpl<Jour
 	 * @param journalArticleImages the journal article images
 	 */
 	public void cacheResult(List<JournalArticleImage> journalArticleImages) {
+		Map<Serializable, JournalArticleImage> uncachedJournalArticleImages = new HashMap<Serializable, JournalArticleImage>();
+
 		for (JournalArticleImage journalArticleImage : journalArticleImages) {
-			if (EntityCacheUtil.getResult(
-						JournalArticleImageModelImpl.ENTITY_CACHE_ENABLED,
-						JournalArticleImageImpl.class,
-						journalArticleImage.getPrimaryKey()) == null) {
-				cacheResult(journalArticleImage);
-			}
-			else {
-				journalArticleImage.resetOriginalValues();
-			}
+			uncachedJournalArticleImages.put(journalArticleImage.getPrimaryKeyObj(),
+				journalArticleImage);
+		}
+
+		Map<Serializable, Serializable> cachedJournalArticleImages = EntityCacheUtil.getResults(JournalArticleImageModelImpl.ENTITY_CACHE_ENABLED,
+				JournalArticleImageImpl.class, uncachedJournalArticleImages.keySet());
+
+		for (Serializable primaryKey : cachedJournalArticleImages.keySet()) {
+			JournalArticleImage journalArticleImage = uncachedJournalArticleImages.remove(primaryKey);
+
+			journalArticleImage.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalArticleImageModelImpl.ENTITY_CACHE_ENABLED,
+			JournalArticleImageImpl.class, uncachedJournalArticleImages);
+
+		for (JournalArticleImage journalArticleImage : uncachedJournalArticleImages.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_A_V_E_E_L,
+				new Object[] {
+					journalArticleImage.getGroupId(),
+					journalArticleImage.getArticleId(),
+					journalArticleImage.getVersion(),
+					journalArticleImage.getElInstanceId(),
+					journalArticleImage.getElName(),
+					journalArticleImage.getLanguageId()
+				}, journalArticleImage);
+
+			journalArticleImage.resetOriginalValues();
 		}
 	}
 
@@ -2190,13 +2215,16 @@ public class JournalArticleImagePersistenceImpl extends BasePersistenceImpl<Jour
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalArticleImages.size());
+
 		for (JournalArticleImage journalArticleImage : journalArticleImages) {
-			EntityCacheUtil.removeResult(JournalArticleImageModelImpl.ENTITY_CACHE_ENABLED,
-				JournalArticleImageImpl.class,
-				journalArticleImage.getPrimaryKey());
+			primaryKeys.add(journalArticleImage.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalArticleImage);
 		}
+
+		EntityCacheUtil.removeResults(JournalArticleImageModelImpl.ENTITY_CACHE_ENABLED,
+			JournalArticleImageImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -2602,6 +2630,113 @@ public class JournalArticleImagePersistenceImpl extends BasePersistenceImpl<Jour
 		return fetchByPrimaryKey((Serializable)articleImageId);
 	}
 
+	/**
+	 * Returns the journal article images with the primary keys, keyed by primary key. Primary keys without a matching journal article image are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal article images
+	 * @return the journal article images, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalArticleImage> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalArticleImage> map = new HashMap<Serializable, JournalArticleImage>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalArticleImage journalArticleImage = fetchByPrimaryKey(primaryKey);
+
+			if (journalArticleImage != null) {
+				map.put(primaryKey, journalArticleImage);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalArticleImage journalArticleImage = (JournalArticleImage)EntityCacheUtil.getResult(JournalArticleImageModelImpl.ENTITY_CACHE_ENABLED,
+					JournalArticleImageImpl.class, primaryKey);
+
+			if (journalArticleImage == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalArticleImage != _nullJournalArticleImage) {
+				map.put(primaryKey, journalArticleImage);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALARTICLEIMAGE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalArticleImage journalArticleImage : (List<JournalArticleImage>)q.list()) {
+					map.put(journalArticleImage.getPrimaryKeyObj(), journalArticleImage);
+
+					cacheResult(journalArticleImage);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalArticleImageModelImpl.ENTITY_CACHE_ENABLED,
+						JournalArticleImageImpl.class, primaryKey, _nullJournalArticleImage);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal article images.
 	 *
@@ -2803,6 +2938,7 @@ public class JournalArticleImagePersistenceImpl extends BasePersistenceImpl<Jour
 	}
 
 	private static final String _SQL_SELECT_JOURNALARTICLEIMAGE = "SELECT journalArticleImage FROM JournalArticleImage journalArticleImage";
+	private static final String _SQL_SELECT_JOURNALARTICLEIMAGE_WHERE_PKS_IN = "SELECT journalArticleImage FROM JournalArticleImage journalArticleImage WHERE journalArticleImage.articleImageId IN (";
 	private static final String _SQL_SELECT_JOURNALARTICLEIMAGE_WHERE = "SELECT journalArticleImage FROM JournalArticleImage journalArticleImage WHERE ";
 	private static final String _SQL_COUNT_JOURNALARTICLEIMAGE = "SELECT COUNT(journalArticleImage) FROM JournalArticleImage journalArticleImage";
 	private static final String _SQL_COUNT_JOURNALARTICLEIMAGE_WHERE = "SELECT COUNT(journalArticleImage) FROM JournalArticleImage journalArticleImage WHERE ";
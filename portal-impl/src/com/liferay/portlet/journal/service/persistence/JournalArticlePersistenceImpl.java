@@ -50,7 +50,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal article service.
@@ -24369,15 +24373,43 @@ public class JournalArticlePersistenceImpl extends BasePersistenceImpl<JournalAr
 	 * @param journalArticles the journal articles
 	 */
 	public void cacheResult(List<JournalArticle> journalArticles) {
+		Map<Serializable, JournalArticle> uncachedJournalArticles = new HashMap<Serializable, JournalArticle>();
+
 		for (JournalArticle journalArticle : journalArticles) {
-			if (EntityCacheUtil.getResult(
-						JournalArticleModelImpl.ENTITY_CACHE_ENABLED,
-						JournalArticleImpl.class, journalArticle.getPrimaryKey()) == null) {
-				cacheResult(journalArticle);
-			}
-			else {
-				journalArticle.resetOriginalValues();
-			}
+			uncachedJournalArticles.put(journalArticle.getPrimaryKeyObj(),
+				journalArticle);
+		}
+
+		Map<Serializable, Serializable> cachedJournalArticles = EntityCacheUtil.getResults(JournalArticleModelImpl.ENTITY_CACHE_ENABLED,
+				JournalArticleImpl.class, uncachedJournalArticles.keySet());
+
+		for (Serializable primaryKey : cachedJournalArticles.keySet()) {
+			JournalArticle journalArticle = uncachedJournalArticles.remove(primaryKey);
+
+			journalArticle.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalArticleModelImpl.ENTITY_CACHE_ENABLED,
+			JournalArticleImpl.class, uncachedJournalArticles);
+
+		for (JournalArticle journalArticle : uncachedJournalArticles.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { journalArticle.getUuid(), journalArticle.getGroupId() },
+				journalArticle);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C_S,
+				new Object[] {
+					journalArticle.getGroupId(), journalArticle.getClassNameId(),
+					journalArticle.getStructureId()
+				}, journalArticle);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_A_V,
+				new Object[] {
+					journalArticle.getGroupId(), journalArticle.getArticleId(),
+					journalArticle.getVersion()
+				}, journalArticle);
+
+			journalArticle.resetOriginalValues();
 		}
 	}
 
@@ -24424,12 +24456,16 @@ public class JournalArticlePersistenceImpl extends BasePersistenceImpl<JournalAr
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalArticles.size());
+
 		for (JournalArticle journalArticle : journalArticles) {
-			EntityCacheUtil.removeResult(JournalArticleModelImpl.ENTITY_CACHE_ENABLED,
-				JournalArticleImpl.class, journalArticle.getPrimaryKey());
+			primaryKeys.add(journalArticle.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalArticle);
 		}
+
+		EntityCacheUtil.removeResults(JournalArticleModelImpl.ENTITY_CACHE_ENABLED,
+			JournalArticleImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(JournalArticle journalArticle) {
@@ -25460,6 +25496,113 @@ public class JournalArticlePersistenceImpl extends BasePersistenceImpl<JournalAr
 		return fetchByPrimaryKey((Serializable)id);
 	}
 
+	/**
+	 * Returns the journal articles with the primary keys, keyed by primary key. Primary keys without a matching journal article are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal articles
+	 * @return the journal articles, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalArticle> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalArticle> map = new HashMap<Serializable, JournalArticle>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalArticle journalArticle = fetchByPrimaryKey(primaryKey);
+
+			if (journalArticle != null) {
+				map.put(primaryKey, journalArticle);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalArticle journalArticle = (JournalArticle)EntityCacheUtil.getResult(JournalArticleModelImpl.ENTITY_CACHE_ENABLED,
+					JournalArticleImpl.class, primaryKey);
+
+			if (journalArticle == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalArticle != _nullJournalArticle) {
+				map.put(primaryKey, journalArticle);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALARTICLE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalArticle journalArticle : (List<JournalArticle>)q.list()) {
+					map.put(journalArticle.getPrimaryKeyObj(), journalArticle);
+
+					cacheResult(journalArticle);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalArticleModelImpl.ENTITY_CACHE_ENABLED,
+						JournalArticleImpl.class, primaryKey, _nullJournalArticle);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal articles.
 	 *
@@ -25661,6 +25804,7 @@ public class JournalArticlePersistenceImpl extends BasePersistenceImpl<JournalAr
 	}
 
 	private static final String _SQL_SELECT_JOURNALARTICLE = "SELECT journalArticle FROM JournalArticle journalArticle";
+	private static final String _SQL_SELECT_JOURNALARTICLE_WHERE_PKS_IN = "SELECT journalArticle FROM JournalArticle journalArticle WHERE journalArticle.id IN (";
 	private static final String _SQL_SELECT_JOURNALARTICLE_WHERE = "SELECT journalArticle FROM JournalArticle journalArticle WHERE ";
 	private static final String _SQL_COUNT_JOURNALARTICLE = "SELECT COUNT(journalArticle) FROM JournalArticle journalArticle";
 	private static final String _SQL_COUNT_JOURNALARTICLE_WHERE = "SELECT COUNT(journalArticle) FROM JournalArticle journalArticle WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal article resource service.
@@ -1640,16 +1644,39 @@ public class JournalArticleResourcePersistenceImpl extends BasePersistenceImpl<J
 	 */
 	public void cacheResult(
 		List<JournalArticleResource> journalArticleResources) {
+		Map<Serializable, JournalArticleResource> uncachedJournalArticleResources = new HashMap<Serializable, JournalArticleResource>();
+
 		for (JournalArticleResource journalArticleResource : journalArticleResources) {
-			if (EntityCacheUtil.getResult(
-						JournalArticleResourceModelImpl.ENTITY_CACHE_ENABLED,
-						JournalArticleResourceImpl.class,
-						journalArticleResource.getPrimaryKey()) == null) {
-				cacheResult(journalArticleResource);
-			}
-			else {
-				journalArticleResource.resetOriginalValues();
-			}
+			uncachedJournalArticleResources.put(journalArticleResource.getPrimaryKeyObj(),
+				journalArticleResource);
+		}
+
+		Map<Serializable, Serializable> cachedJournalArticleResources = EntityCacheUtil.getResults(JournalArticleResourceModelImpl.ENTITY_CACHE_ENABLED,
+				JournalArticleResourceImpl.class, uncachedJournalArticleResources.keySet());
+
+		for (Serializable primaryKey : cachedJournalArticleResources.keySet()) {
+			JournalArticleResource journalArticleResource = uncachedJournalArticleResources.remove(primaryKey);
+
+			journalArticleResource.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalArticleResourceModelImpl.ENTITY_CACHE_ENABLED,
+			JournalArticleResourceImpl.class, uncachedJournalArticleResources);
+
+		for (JournalArticleResource journalArticleResource : uncachedJournalArticleResources.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] {
+					journalArticleResource.getUuid(),
+					journalArticleResource.getGroupId()
+				}, journalArticleResource);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_A,
+				new Object[] {
+					journalArticleResource.getGroupId(),
+					journalArticleResource.getArticleId()
+				}, journalArticleResource);
+
+			journalArticleResource.resetOriginalValues();
 		}
 	}
 
@@ -1697,13 +1724,16 @@ public class JournalArticleResourcePersistenceImpl extends BasePersistenceImpl<J
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalArticleResources.size());
+
 		for (JournalArticleResource journalArticleResource : journalArticleResources) {
-			EntityCacheUtil.removeResult(JournalArticleResourceModelImpl.ENTITY_CACHE_ENABLED,
-				JournalArticleResourceImpl.class,
-				journalArticleResource.getPrimaryKey());
+			primaryKeys.add(journalArticleResource.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalArticleResource);
 		}
+
+		EntityCacheUtil.removeResults(JournalArticleResourceModelImpl.ENTITY_CACHE_ENABLED,
+			JournalArticleResourceImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -2117,6 +2147,113 @@ public class JournalArticleResourcePersistenceImpl extends BasePersistenceImpl<J
 		return fetchByPrimaryKey((Serializable)resourcePrimKey);
 	}
 
+	/**
+	 * Returns the journal article resources with the primary keys, keyed by primary key. Primary keys without a matching journal article resource are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal article resources
+	 * @return the journal article resources, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalArticleResource> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalArticleResource> map = new HashMap<Serializable, JournalArticleResource>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalArticleResource journalArticleResource = fetchByPrimaryKey(primaryKey);
+
+			if (journalArticleResource != null) {
+				map.put(primaryKey, journalArticleResource);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalArticleResource journalArticleResource = (JournalArticleResource)EntityCacheUtil.getResult(JournalArticleResourceModelImpl.ENTITY_CACHE_ENABLED,
+					JournalArticleResourceImpl.class, primaryKey);
+
+			if (journalArticleResource == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalArticleResource != _nullJournalArticleResource) {
+				map.put(primaryKey, journalArticleResource);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALARTICLERESOURCE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalArticleResource journalArticleResource : (List<JournalArticleResource>)q.list()) {
+					map.put(journalArticleResource.getPrimaryKeyObj(), journalArticleResource);
+
+					cacheResult(journalArticleResource);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalArticleResourceModelImpl.ENTITY_CACHE_ENABLED,
+						JournalArticleResourceImpl.class, primaryKey, _nullJournalArticleResource);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal article resources.
 	 *
@@ -2318,6 +2455,7 @@ public class JournalArticleResourcePersistenceImpl extends BasePersistenceImpl<J
 	}
 
 	private static final String _SQL_SELECT_JOURNALARTICLERESOURCE = "SELECT journalArticleResource FROM JournalArticleResource journalArticleResource";
+	private static final String _SQL_SELECT_JOURNALARTICLERESOURCE_WHERE_PKS_IN = "SELECT journalArticleResource FROM JournalArticleResource journalArticleResource WHERE journalArticleResource.resourcePrimKey IN (";
 	private static final String _SQL_SELECT_JOURNALARTICLERESOURCE_WHERE = "SELECT journalArticleResource FROM JournalArticleResource journalArticleResource WHERE ";
 	private static final String _SQL_COUNT_JOURNALARTICLERESOURCE = "SELECT COUNT(journalArticleResource) FROM JournalArticleResource journalArticleResource";
 	private static final String _SQL_COUNT_JOURNALARTICLERESOURCE_WHERE = "SELECT COUNT(journalArticleResource) FROM JournalArticleResource journalArticleResource WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal content search service.
@@ -4437,16 +4441,36 @@ public class JournalContentSearchPersistenceImpl extends BasePersistenceImpl<Jou
 	 * @param journalContentSearchs the journal content searchs
 	 */
 	public void cacheResult(List<JournalContentSearch> journalContentSearchs) {
+		Map<Serializable, JournalContentSearch> uncachedJournalContentSearchs = new HashMap<Serializable, JournalContentSearch>();
+
 		for (JournalContentSearch journalContentSearch : journalContentSearchs) {
-			if (EntityCacheUtil.getResult(
-						JournalContentSearchModelImpl.ENTITY_CACHE_ENABLED,
-						JournalContentSearchImpl.class,
-						journalContentSearch.getPrimaryKey()) == null) {
-				cacheResult(journalContentSearch);
-			}
-			else {
-				journalContentSearch.resetOriginalValues();
-			}
+			uncachedJournalContentSearchs.put(journalContentSearch.getPrimaryKeyObj(),
+				journalContentSearch);
+		}
+
+		Map<Serializable, Serializable> cachedJournalContentSearchs = EntityCacheUtil.getResults(JournalContentSearchModelImpl.ENTITY_CACHE_ENABLED,
+				JournalContentSearchImpl.class, uncachedJournalContentSearchs.keySet());
+
+		for (Serializable primaryKey : cachedJournalContentSearchs.keySet()) {
+			JournalContentSearch journalContentSearch = uncachedJournalContentSearchs.remove(primaryKey);
+
+			journalContentSearch.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalContentSearchModelImpl.ENTITY_CACHE_ENABLED,
+			JournalContentSearchImpl.class, uncachedJournalContentSearchs);
+
+		for (JournalContentSearch journalContentSearch : uncachedJournalContentSearchs.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P_L_P_A,
+				new Object[] {
+					journalContentSearch.getGroupId(),
+					journalContentSearch.getPrivateLayout(),
+					journalContentSearch.getLayoutId(),
+					journalContentSearch.getPortletId(),
+					journalContentSearch.getArticleId()
+				}, journalContentSearch);
+
+			journalContentSearch.resetOriginalValues();
 		}
 	}
 
@@ -4493,13 +4517,16 @@ public class JournalContentSearchPersistenceImpl extends BasePersistenceImpl<Jou
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalContentSearchs.size());
+
 		for (JournalContentSearch journalContentSearch : journalContentSearchs) {
-			EntityCacheUtil.removeResult(JournalContentSearchModelImpl.ENTITY_CACHE_ENABLED,
-				JournalContentSearchImpl.class,
-				journalContentSearch.getPrimaryKey());
+			primaryKeys.add(journalContentSearch.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalContentSearch);
 		}
+
+		EntityCacheUtil.removeResults(JournalContentSearchModelImpl.ENTITY_CACHE_ENABLED,
+			JournalContentSearchImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -4992,6 +5019,113 @@ public class JournalContentSearchPersistenceImpl extends BasePersistenceImpl<Jou
 		return fetchByPrimaryKey((Serializable)contentSearchId);
 	}
 
+	/**
+	 * Returns the journal content searchs with the primary keys, keyed by primary key. Primary keys without a matching journal content search are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal content searchs
+	 * @return the journal content searchs, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalContentSearch> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalContentSearch> map = new HashMap<Serializable, JournalContentSearch>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalContentSearch journalContentSearch = fetchByPrimaryKey(primaryKey);
+
+			if (journalContentSearch != null) {
+				map.put(primaryKey, journalContentSearch);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalContentSearch journalContentSearch = (JournalContentSearch)EntityCacheUtil.getResult(JournalContentSearchModelImpl.ENTITY_CACHE_ENABLED,
+					JournalContentSearchImpl.class, primaryKey);
+
+			if (journalContentSearch == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalContentSearch != _nullJournalContentSearch) {
+				map.put(primaryKey, journalContentSearch);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALCONTENTSEARCH_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalContentSearch journalContentSearch : (List<JournalContentSearch>)q.list()) {
+					map.put(journalContentSearch.getPrimaryKeyObj(), journalContentSearch);
+
+					cacheResult(journalContentSearch);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalContentSearchModelImpl.ENTITY_CACHE_ENABLED,
+						JournalContentSearchImpl.class, primaryKey, _nullJournalContentSearch);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal content searchs.
 	 *
@@ -5193,6 +5327,7 @@ public class JournalContentSearchPersistenceImpl extends BasePersistenceImpl<Jou
 	}
 
 	private static final String _SQL_SELECT_JOURNALCONTENTSEARCH = "SELECT journalContentSearch FROM JournalContentSearch journalContentSearch";
+	private static final String _SQL_SELECT_JOURNALCONTENTSEARCH_WHERE_PKS_IN = "SELECT journalContentSearch FROM JournalContentSearch journalContentSearch WHERE journalContentSearch.contentSearchId IN (";
 	private static final String _SQL_SELECT_JOURNALCONTENTSEARCH_WHERE = "SELECT journalContentSearch FROM JournalContentSearch journalContentSearch WHERE ";
 	private static final String _SQL_COUNT_JOURNALCONTENTSEARCH = "SELECT COUNT(journalContentSearch) FROM JournalContentSearch journalContentSearch";
 	private static final String _SQL_COUNT_JOURNALCONTENTSEARCH_WHERE = "SELECT COUNT(journalContentSearch) FROM JournalContentSearch journalContentSearch WHERE ";
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal feed service.
@@ -2535,15 +2539,35 @@ public class JournalFeedPersistenceImpl extends BasePersistenceImpl<JournalFeed>
 	 * @param journalFeeds the journal feeds
 	 */
 	public void cacheResult(List<JournalFeed> journalFeeds) {
+		Map<Serializable, JournalFeed> uncachedJournalFeeds = new HashMap<Serializable, JournalFeed>();
+
 		for (JournalFeed journalFeed : journalFeeds) {
-			if (EntityCacheUtil.getResult(
-						JournalFeedModelImpl.ENTITY_CACHE_ENABLED,
-						JournalFeedImpl.class, journalFeed.getPrimaryKey()) == null) {
-				cacheResult(journalFeed);
-			}
-			else {
-				journalFeed.resetOriginalValues();
-			}
+			uncachedJournalFeeds.put(journalFeed.getPrimaryKeyObj(),
+				journalFeed);
+		}
+
+		Map<Serializable, Serializable> cachedJournalFeeds = EntityCacheUtil.getResults(JournalFeedModelImpl.ENTITY_CACHE_ENABLED,
+				JournalFeedImpl.class, uncachedJournalFeeds.keySet());
+
+		for (Serializable primaryKey : cachedJournalFeeds.keySet()) {
+			JournalFeed journalFeed = uncachedJournalFeeds.remove(primaryKey);
+
+			journalFeed.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalFeedModelImpl.ENTITY_CACHE_ENABLED,
+			JournalFeedImpl.class, uncachedJournalFeeds);
+
+		for (JournalFeed journalFeed : uncachedJournalFeeds.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { journalFeed.getUuid(), journalFeed.getGroupId() },
+				journalFeed);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_F,
+				new Object[] { journalFeed.getGroupId(), journalFeed.getFeedId() },
+				journalFeed);
+
+			journalFeed.resetOriginalValues();
 		}
 	}
 
@@ -2590,12 +2614,16 @@ public class JournalFeedPersistenceImpl extends BasePersistenceImpl<JournalFeed>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalFeeds.size());
+
 		for (JournalFeed journalFeed : journalFeeds) {
-			EntityCacheUtil.removeResult(JournalFeedModelImpl.ENTITY_CACHE_ENABLED,
-				JournalFeedImpl.class, journalFeed.getPrimaryKey());
+			primaryKeys.add(journalFeed.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalFeed);
 		}
+
+		EntityCacheUtil.removeResults(JournalFeedModelImpl.ENTITY_CACHE_ENABLED,
+			JournalFeedImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(JournalFeed journalFeed) {
@@ -3034,6 +3062,113 @@ public class JournalFeedPersistenceImpl extends BasePersistenceImpl<JournalFeed>
 		return fetchByPrimaryKey((Serializable)id);
 	}
 
+	/**
+	 * Returns the journal feeds with the primary keys, keyed by primary key. Primary keys without a matching journal feed are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal feeds
+	 * @return the journal feeds, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalFeed> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalFeed> map = new HashMap<Serializable, JournalFeed>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalFeed journalFeed = fetchByPrimaryKey(primaryKey);
+
+			if (journalFeed != null) {
+				map.put(primaryKey, journalFeed);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalFeed journalFeed = (JournalFeed)EntityCacheUtil.getResult(JournalFeedModelImpl.ENTITY_CACHE_ENABLED,
+					JournalFeedImpl.class, primaryKey);
+
+			if (journalFeed == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalFeed != _nullJournalFeed) {
+				map.put(primaryKey, journalFeed);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALFEED_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalFeed journalFeed : (List<JournalFeed>)q.list()) {
+					map.put(journalFeed.getPrimaryKeyObj(), journalFeed);
+
+					cacheResult(journalFeed);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalFeedModelImpl.ENTITY_CACHE_ENABLED,
+						JournalFeedImpl.class, primaryKey, _nullJournalFeed);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal feeds.
 	 *
@@ -3235,6 +3370,7 @@ public class JournalFeedPersistenceImpl extends BasePersistenceImpl<JournalFeed>
 	}
 
 	private static final String _SQL_SELECT_JOURNALFEED = "SELECT journalFeed FROM JournalFeed journalFeed";
+	private static final String _SQL_SELECT_JOURNALFEED_WHERE_PKS_IN = "SELECT journalFeed FROM JournalFeed journalFeed WHERE journalFeed.id IN (";
 	private static final String _SQL_SELECT_JOURNALFEED_WHERE = "SELECT journalFeed FROM JournalFeed journalFeed WHERE ";
 	private static final String _SQL_COUNT_JOURNALFEED = "SELECT COUNT(journalFeed) FROM JournalFeed journalFeed";
 	private static final String _SQL_COUNT_JOURNALFEED_WHERE = "SELECT COUNT(journalFeed) FROM JournalFeed journalFeed WHERE ";
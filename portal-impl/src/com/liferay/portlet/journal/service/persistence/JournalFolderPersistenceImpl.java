@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal folder service.
@@ -5179,15 +5183,41 @@ public class JournalFolderPersistenceImpl extends BasePersistenceImpl<JournalFol
 	 * @param journalFolders the journal folders
 	 */
 	public void cacheResult(List<JournalFolder> journalFolders) {
+		Map<Serializable, JournalFolder> uncachedJournalFolders = new HashMap<Serializable, JournalFolder>();
+
 		for (JournalFolder journalFolder : journalFolders) {
-			if (EntityCacheUtil.getResult(
-						JournalFolderModelImpl.ENTITY_CACHE_ENABLED,
-						JournalFolderImpl.class, journalFolder.getPrimaryKey()) == null) {
-				cacheResult(journalFolder);
-			}
-			else {
-				journalFolder.resetOriginalValues();
-			}
+			uncachedJournalFolders.put(journalFolder.getPrimaryKeyObj(),
+				journalFolder);
+		}
+
+		Map<Serializable, Serializable> cachedJournalFolders = EntityCacheUtil.getResults(JournalFolderModelImpl.ENTITY_CACHE_ENABLED,
+				JournalFolderImpl.class, uncachedJournalFolders.keySet());
+
+		for (Serializable primaryKey : cachedJournalFolders.keySet()) {
+			JournalFolder journalFolder = uncachedJournalFolders.remove(primaryKey);
+
+			journalFolder.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalFolderModelImpl.ENTITY_CACHE_ENABLED,
+			JournalFolderImpl.class, uncachedJournalFolders);
+
+		for (JournalFolder journalFolder : uncachedJournalFolders.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { journalFolder.getUuid(), journalFolder.getGroupId() },
+				journalFolder);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N,
+				new Object[] { journalFolder.getGroupId(), journalFolder.getName() },
+				journalFolder);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_P_N,
+				new Object[] {
+					journalFolder.getGroupId(), journalFolder.getParentFolderId(),
+					journalFolder.getName()
+				}, journalFolder);
+
+			journalFolder.resetOriginalValues();
 		}
 	}
 
@@ -5234,12 +5264,16 @@ public class JournalFolderPersistenceImpl extends BasePersistenceImpl<JournalFol
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalFolders.size());
+
 		for (JournalFolder journalFolder : journalFolders) {
-			EntityCacheUtil.removeResult(JournalFolderModelImpl.ENTITY_CACHE_ENABLED,
-				JournalFolderImpl.class, journalFolder.getPrimaryKey());
+			primaryKeys.add(journalFolder.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalFolder);
 		}
+
+		EntityCacheUtil.removeResults(JournalFolderModelImpl.ENTITY_CACHE_ENABLED,
+			JournalFolderImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(JournalFolder journalFolder) {
@@ -5779,6 +5813,113 @@ public class JournalFolderPersistenceImpl extends BasePersistenceImpl<JournalFol
 		return fetchByPrimaryKey((Serializable)folderId);
 	}
 
+	/**
+	 * Returns the journal folders with the primary keys, keyed by primary key. Primary keys without a matching journal folder are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal folders
+	 * @return the journal folders, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalFolder> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalFolder> map = new HashMap<Serializable, JournalFolder>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalFolder journalFolder = fetchByPrimaryKey(primaryKey);
+
+			if (journalFolder != null) {
+				map.put(primaryKey, journalFolder);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalFolder journalFolder = (JournalFolder)EntityCacheUtil.getResult(JournalFolderModelImpl.ENTITY_CACHE_ENABLED,
+					JournalFolderImpl.class, primaryKey);
+
+			if (journalFolder == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalFolder != _nullJournalFolder) {
+				map.put(primaryKey, journalFolder);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALFOLDER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalFolder journalFolder : (List<JournalFolder>)q.list()) {
+					map.put(journalFolder.getPrimaryKeyObj(), journalFolder);
+
+					cacheResult(journalFolder);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalFolderModelImpl.ENTITY_CACHE_ENABLED,
+						JournalFolderImpl.class, primaryKey, _nullJournalFolder);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal folders.
 	 *
@@ -5980,6 +6121,7 @@ public class JournalFolderPersistenceImpl extends BasePersistenceImpl<JournalFol
 	}
 
 	private static final String _SQL_SELECT_JOURNALFOLDER = "SELECT journalFolder FROM JournalFolder journalFolder";
+	private static final String _SQL_SELECT_JOURNALFOLDER_WHERE_PKS_IN = "SELECT journalFolder FROM JournalFolder journalFolder WHERE journalFolder.folderId IN (";
 	private static final String _SQL_SELECT_JOURNALFOLDER_WHERE = "SELECT journalFolder FROM JournalFolder journalFolder WHERE ";
 	private static final String _SQL_COUNT_JOURNALFOLDER = "SELECT COUNT(journalFolder) FROM JournalFolder journalFolder";
 	private static final String _SQL_COUNT_JOURNALFOLDER_WHERE = "SELECT COUNT(journalFolder) FROM JournalFolder journalFolder WHERE ";
@@ -50,7 +50,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal structure service.
@@ -5069,16 +5073,37 @@ public class JournalStructurePersistenceImpl extends BasePersistenceImpl<Journal
 	 * @param journalStructures the journal structures
 	 */
 	public void cacheResult(List<JournalStructure> journalStructures) {
+		Map<Serializable, JournalStructure> uncachedJournalStructures = new HashMap<Serializable, JournalStructure>();
+
 		for (JournalStructure journalStructure : journalStructures) {
-			if (EntityCacheUtil.getResult(
-						JournalStructureModelImpl.ENTITY_CACHE_ENABLED,
-						JournalStructureImpl.class,
-						journalStructure.getPrimaryKey()) == null) {
-				cacheResult(journalStructure);
-			}
-			else {
-				journalStructure.resetOriginalValues();
-			}
+			uncachedJournalStructures.put(journalStructure.getPrimaryKeyObj(),
+				journalStructure);
+		}
+
+		Map<Serializable, Serializable> cachedJournalStructures = EntityCacheUtil.getResults(JournalStructureModelImpl.ENTITY_CACHE_ENABLED,
+				JournalStructureImpl.class, uncachedJournalStructures.keySet());
+
+		for (Serializable primaryKey : cachedJournalStructures.keySet()) {
+			JournalStructure journalStructure = uncachedJournalStructures.remove(primaryKey);
+
+			journalStructure.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalStructureModelImpl.ENTITY_CACHE_ENABLED,
+			JournalStructureImpl.class, uncachedJournalStructures);
+
+		for (JournalStructure journalStructure : uncachedJournalStructures.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] {
+					journalStructure.getUuid(), journalStructure.getGroupId()
+				}, journalStructure);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_S,
+				new Object[] {
+					journalStructure.getGroupId(), journalStructure.getStructureId()
+				}, journalStructure);
+
+			journalStructure.resetOriginalValues();
 		}
 	}
 
@@ -5125,12 +5150,16 @@ public class JournalStructurePersistenceImpl extends BasePersistenceImpl<Journal
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalStructures.size());
+
 		for (JournalStructure journalStructure : journalStructures) {
-			EntityCacheUtil.removeResult(JournalStructureModelImpl.ENTITY_CACHE_ENABLED,
-				JournalStructureImpl.class, journalStructure.getPrimaryKey());
+			primaryKeys.add(journalStructure.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalStructure);
 		}
+
+		EntityCacheUtil.removeResults(JournalStructureModelImpl.ENTITY_CACHE_ENABLED,
+			JournalStructureImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(JournalStructure journalStructure) {
@@ -5629,6 +5658,113 @@ public class JournalStructurePersistenceImpl extends BasePersistenceImpl<Journal
 		return fetchByPrimaryKey((Serializable)id);
 	}
 
+	/**
+	 * Returns the journal structures with the primary keys, keyed by primary key. Primary keys without a matching journal structure are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal structures
+	 * @return the journal structures, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalStructure> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalStructure> map = new HashMap<Serializable, JournalStructure>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalStructure journalStructure = fetchByPrimaryKey(primaryKey);
+
+			if (journalStructure != null) {
+				map.put(primaryKey, journalStructure);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalStructure journalStructure = (JournalStructure)EntityCacheUtil.getResult(JournalStructureModelImpl.ENTITY_CACHE_ENABLED,
+					JournalStructureImpl.class, primaryKey);
+
+			if (journalStructure == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalStructure != _nullJournalStructure) {
+				map.put(primaryKey, journalStructure);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALSTRUCTURE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalStructure journalStructure : (List<JournalStructure>)q.list()) {
+					map.put(journalStructure.getPrimaryKeyObj(), journalStructure);
+
+					cacheResult(journalStructure);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalStructureModelImpl.ENTITY_CACHE_ENABLED,
+						JournalStructureImpl.class, primaryKey, _nullJournalStructure);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal structures.
 	 *
@@ -5830,6 +5966,7 @@ public class JournalStructurePersistenceImpl extends BasePersistenceImpl<Journal
 	}
 
 	private static final String _SQL_SELECT_JOURNALSTRUCTURE = "SELECT journalStructure FROM JournalStructure journalStructure";
+	private static final String _SQL_SELECT_JOURNALSTRUCTURE_WHERE_PKS_IN = "SELECT journalStructure FROM JournalStructure journalStructure WHERE journalStructure.id IN (";
 	private static final String _SQL_SELECT_JOURNALSTRUCTURE_WHERE = "SELECT journalStructure FROM JournalStructure journalStructure WHERE ";
 	private static final String _SQL_COUNT_JOURNALSTRUCTURE = "SELECT COUNT(journalStructure) FROM JournalStructure journalStructure";
 	private static final String _SQL_COUNT_JOURNALSTRUCTURE_WHERE = "SELECT COUNT(journalStructure) FROM JournalStructure journalStructure WHERE ";
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the journal template service.
@@ -4804,16 +4808,39 @@ public class JournalTemplatePersistenceImpl extends BasePersistenceImpl<JournalT
 	 * @param journalTemplates the journal templates
 	 */
 	public void cacheResult(List<JournalTemplate> journalTemplates) {
+		Map<Serializable, JournalTemplate> uncachedJournalTemplates = new HashMap<Serializable, JournalTemplate>();
+
 		for (JournalTemplate journalTemplate : journalTemplates) {
-			if (EntityCacheUtil.getResult(
-						JournalTemplateModelImpl.ENTITY_CACHE_ENABLED,
-						JournalTemplateImpl.class,
-						journalTemplate.getPrimaryKey()) == null) {
-				cacheResult(journalTemplate);
-			}
-			else {
-				journalTemplate.resetOriginalValues();
-			}
+			uncachedJournalTemplates.put(journalTemplate.getPrimaryKeyObj(),
+				journalTemplate);
+		}
+
+		Map<Serializable, Serializable> cachedJournalTemplates = EntityCacheUtil.getResults(JournalTemplateModelImpl.ENTITY_CACHE_ENABLED,
+				JournalTemplateImpl.class, uncachedJournalTemplates.keySet());
+
+		for (Serializable primaryKey : cachedJournalTemplates.keySet()) {
+			JournalTemplate journalTemplate = uncachedJournalTemplates.remove(primaryKey);
+
+			journalTemplate.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(JournalTemplateModelImpl.ENTITY_CACHE_ENABLED,
+			JournalTemplateImpl.class, uncachedJournalTemplates);
+
+		for (JournalTemplate journalTemplate : uncachedJournalTemplates.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { journalTemplate.getUuid(), journalTemplate.getGroupId() },
+				journalTemplate);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_SMALLIMAGEID,
+				new Object[] { journalTemplate.getSmallImageId() }, journalTemplate);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_T,
+				new Object[] {
+					journalTemplate.getGroupId(), journalTemplate.getTemplateId()
+				}, journalTemplate);
+
+			journalTemplate.resetOriginalValues();
 		}
 	}
 
@@ -4860,12 +4887,16 @@ public class JournalTemplatePersistenceImpl extends BasePersistenceImpl<JournalT
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(journalTemplates.size());
+
 		for (JournalTemplate journalTemplate : journalTemplates) {
-			EntityCacheUtil.removeResult(JournalTemplateModelImpl.ENTITY_CACHE_ENABLED,
-				JournalTemplateImpl.class, journalTemplate.getPrimaryKey());
+			primaryKeys.add(journalTemplate.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(journalTemplate);
 		}
+
+		EntityCacheUtil.removeResults(JournalTemplateModelImpl.ENTITY_CACHE_ENABLED,
+			JournalTemplateImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(JournalTemplate journalTemplate) {
@@ -5396,6 +5427,113 @@ public class JournalTemplatePersistenceImpl extends BasePersistenceImpl<JournalT
 		return fetchByPrimaryKey((Serializable)id);
 	}
 
+	/**
+	 * Returns the journal templates with the primary keys, keyed by primary key. Primary keys without a matching journal template are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the journal templates
+	 * @return the journal templates, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, JournalTemplate> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, JournalTemplate> map = new HashMap<Serializable, JournalTemplate>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			JournalTemplate journalTemplate = fetchByPrimaryKey(primaryKey);
+
+			if (journalTemplate != null) {
+				map.put(primaryKey, journalTemplate);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			JournalTemplate journalTemplate = (JournalTemplate)EntityCacheUtil.getResult(JournalTemplateModelImpl.ENTITY_CACHE_ENABLED,
+					JournalTemplateImpl.class, primaryKey);
+
+			if (journalTemplate == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (journalTemplate != _nullJournalTemplate) {
+				map.put(primaryKey, journalTemplate);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_JOURNALTEMPLATE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (JournalTemplate journalTemplate : (List<JournalTemplate>)q.list()) {
+					map.put(journalTemplate.getPrimaryKeyObj(), journalTemplate);
+
+					cacheResult(journalTemplate);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(JournalTemplateModelImpl.ENTITY_CACHE_ENABLED,
+						JournalTemplateImpl.class, primaryKey, _nullJournalTemplate);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the journal templates.
 	 *
@@ -5597,6 +5735,7 @@ public class JournalTemplatePersistenceImpl extends BasePersistenceImpl<JournalT
 	}
 
 	private static final String _SQL_SELECT_JOURNALTEMPLATE = "SELECT journalTemplate FROM JournalTemplate journalTemplate";
+	private static final String _SQL_SELECT_JOURNALTEMPLATE_WHERE_PKS_IN = "SELECT journalTemplate FROM JournalTemplate journalTemplate WHERE journalTemplate.id IN (";
 	private static final String _SQL_SELECT_JOURNALTEMPLATE_WHERE = "SELECT journalTemplate FROM JournalTemplate journalTemplate WHERE ";
 	private static final String _SQL_COUNT_JOURNALTEMPLATE = "SELECT COUNT(journalTemplate) FROM JournalTemplate journalTemplate";
 	private static final String _SQL_COUNT_JOURNALTEMPLATE_WHERE = "SELECT COUNT(journalTemplate) FROM JournalTemplate journalTemplate WHERE ";
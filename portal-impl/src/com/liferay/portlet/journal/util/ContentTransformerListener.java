@@ -25,8 +25,6 @@ import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.xml.Document;
 import com.liferay.portal.kernel.xml.Element;
 import com.liferay.portal.kernel.xml.Node;
-import com.liferay.portal.kernel.xml.SAXReaderUtil;
-import com.liferay.portlet.dynamicdatamapping.util.DDMXMLUtil;
 import com.liferay.portlet.journal.model.JournalArticle;
 import com.liferay.portlet.journal.service.JournalArticleLocalServiceUtil;
 
@@ -41,32 +39,38 @@ public class ContentTransformerListener extends BaseTransformerListener {
 
 	@Override
 	public String onScript(
-		String script, String xml, String languageId,
+		String script, Document document, String languageId,
 		Map<String, String> tokens) {
 
 		if (_log.isDebugEnabled()) {
 			_log.debug("onScript");
 		}
 
-		return injectEditInPlace(xml, script);
+		return injectEditInPlace(document, script);
 	}
 
 	@Override
-	public String onXml(
-		String xml, String languageId, Map<String, String> tokens) {
+	public Document onXml(
+		Document document, String languageId, Map<String, String> tokens) {
 
 		if (_log.isDebugEnabled()) {
 			_log.debug("onXml");
 		}
 
-		return replace(xml, tokens);
+		replace(document, tokens);
+
+		return document;
 	}
 
-	protected String getDynamicContent(String xml, String elementName) {
+	protected String getDynamicContent(
+		JournalArticle article, String elementName) {
+
 		String content = null;
 
 		try {
-			Document document = SAXReaderUtil.read(xml);
+			Document document =
+				JournalArticleDocumentCacheUtil.getSharedDocument(
+					article, null);
 
 			Element rootElement = document.getRootElement();
 
@@ -88,10 +92,12 @@ public class ContentTransformerListener extends BaseTransformerListener {
 		return GetterUtil.getString(content);
 	}
 
-	protected String injectEditInPlace(String xml, String script) {
-		try {
-			Document document = SAXReaderUtil.read(xml);
+	protected String injectEditInPlace(Document document, String script) {
+		if (document == null) {
+			return script;
+		}
 
+		try {
 			List<Node> nodes = document.selectNodes("//dynamic-element");
 
 			for (Node node : nodes) {
@@ -119,6 +125,25 @@ public class ContentTransformerListener extends BaseTransformerListener {
 		return script;
 	}
 
+	/**
+	 * Fill one article with content from another approved article. See the
+	 * article DOCUMENTATION-INSTALLATION-BORLAND for a sample use case.
+	 */
+	protected void replace(Document document, Map<String, String> tokens) {
+		if (document == null) {
+			return;
+		}
+
+		try {
+			Element rootElement = document.getRootElement();
+
+			replace(rootElement, tokens);
+		}
+		catch (Exception e) {
+			_log.warn(e.getMessage());
+		}
+	}
+
 	protected void replace(Element root, Map<String, String> tokens)
 		throws Exception {
 
@@ -153,8 +178,7 @@ public class ContentTransformerListener extends BaseTransformerListener {
 
 						dynamicContent.clearContent();
 						dynamicContent.addCDATA(
-							getDynamicContent(
-								article.getContent(), elementName));
+							getDynamicContent(article, elementName));
 					}
 				}
 
@@ -171,29 +195,6 @@ public class ContentTransformerListener extends BaseTransformerListener {
 		}
 	}
 
-	/**
-	 * Fill one article with content from another approved article. See the
-	 * article DOCUMENTATION-INSTALLATION-BORLAND for a sample use case.
-	 *
-	 * @return the processed string
-	 */
-	protected String replace(String xml, Map<String, String> tokens) {
-		try {
-			Document document = SAXReaderUtil.read(xml);
-
-			Element rootElement = document.getRootElement();
-
-			replace(rootElement, tokens);
-
-			xml = DDMXMLUtil.formatXML(document);
-		}
-		catch (Exception e) {
-			_log.warn(e.getMessage());
-		}
-
-		return xml;
-	}
-
 	protected String wrapEditInPlaceField(
 		String script, String name, String type, String call) {
 
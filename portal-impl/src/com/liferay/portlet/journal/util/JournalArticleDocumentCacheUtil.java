@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.journal.util;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.xml.Document;
+import com.liferay.portal.kernel.xml.DocumentException;
+import com.liferay.portal.kernel.xml.Element;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
+import com.liferay.portlet.journal.model.JournalArticle;
+
+import java.io.Serializable;
+
+/**
+ * Caches the parsed content of journal article versions so that rendering an
+ * article does not parse its XML content again.
+ *
+ * <p>
+ * Entries are keyed by the article version's primary key and the language ID.
+ * When a language ID is given, the cached document only contains the elements
+ * of that language. Cached documents are shared and must never be modified.
+ * Use {@link #getDocument(JournalArticle, String)} to obtain a copy that can be
+ * changed.
+ * </p>
+ *
+ * @author agent
+ */
+public class JournalArticleDocumentCacheUtil {
+
+	public static void clearCache() {
+		_portalCache.removeAll();
+	}
+
+	public static Document getDocument(
+			JournalArticle article, String languageId)
+		throws DocumentException {
+
+		Document document = getSharedDocument(article, languageId);
+
+		Element rootElement = document.getRootElement();
+
+		return SAXReaderUtil.createDocument(rootElement.createCopy());
+	}
+
+	public static Document getSharedDocument(
+			JournalArticle article, String languageId)
+		throws DocumentException {
+
+		String content = article.getContent();
+
+		String key = _getKey(article, languageId);
+
+		DocumentHolder documentHolder = _portalCache.get(key);
+
+		if ((documentHolder != null) &&
+			content.equals(documentHolder.getContent())) {
+
+			return documentHolder.getDocument();
+		}
+
+		Document document = SAXReaderUtil.read(content);
+
+		if (languageId != null) {
+			_localeTransformerListener.replace(document, languageId);
+		}
+
+		_portalCache.put(key, new DocumentHolder(content, document));
+
+		return document;
+	}
+
+	private static String _getKey(JournalArticle article, String languageId) {
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(article.getId());
+		sb.append(StringPool.POUND);
+		sb.append(article.getVersion());
+		sb.append(StringPool.POUND);
+		sb.append(languageId);
+
+		return sb.toString();
+	}
+
+	private static final String _CACHE_NAME =
+		JournalArticleDocumentCacheUtil.class.getName();
+
+	private static LocaleTransformerListener _localeTransformerListener =
+		new LocaleTransformerListener();
+	private static PortalCache<String, DocumentHolder> _portalCache =
+		SingleVMPoolUtil.getCache(_CACHE_NAME);
+
+	private static class DocumentHolder implements Serializable {
+
+		public DocumentHolder(String content, Document document) {
+			_content = content;
+			_document = document;
+		}
+
+		public String getContent() {
+			return _content;
+		}
+
+		public Document getDocument() {
+			return _document;
+		}
+
+		private String _content;
+		private Document _document;
+
+	}
+
+}
\ No newline at end of file
@@ -974,7 +974,7 @@ public class JournalUtil {
 			}
 
 			script = transformerListener.onScript(
-				script, null, languageId, tokens);
+				script, (Document)null, languageId, tokens);
 		}
 
 		return script;
@@ -1232,6 +1232,17 @@ public class JournalUtil {
 		}
 	}
 
+	public static String transform(
+			ThemeDisplay themeDisplay, Map<String, String> tokens,
+			String viewMode, String languageId, Document document,
+			String script, String langType)
+		throws Exception {
+
+		return _transformer.transform(
+			themeDisplay, tokens, viewMode, languageId, document, script,
+			langType);
+	}
+
 	public static String transform(
 			ThemeDisplay themeDisplay, Map<String, String> tokens,
 			String viewMode, String languageId, String xml, String script,
@@ -21,8 +21,6 @@ import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.xml.Document;
 import com.liferay.portal.kernel.xml.Element;
-import com.liferay.portal.kernel.xml.SAXReaderUtil;
-import com.liferay.portlet.dynamicdatamapping.util.DDMXMLUtil;
 
 import java.util.List;
 import java.util.Map;
@@ -34,7 +32,7 @@ public class LocaleTransformerListener extends BaseTransformerListener {
 
 	@Override
 	public String onScript(
-		String script, String xml, String languageId,
+		String script, Document document, String languageId,
 		Map<String, String> tokens) {
 
 		if (_log.isDebugEnabled()) {
@@ -45,14 +43,50 @@ public class LocaleTransformerListener extends BaseTransformerListener {
 	}
 
 	@Override
-	public String onXml(
-		String xml, String languageId, Map<String, String> tokens) {
+	public Document onXml(
+		Document document, String languageId, Map<String, String> tokens) {
 
 		if (_log.isDebugEnabled()) {
 			_log.debug("onXml");
 		}
 
-		return replace(xml, languageId);
+		replace(document, languageId);
+
+		return document;
+	}
+
+	protected void replace(Document document, String languageId) {
+		if (document == null) {
+			return;
+		}
+
+		Element rootElement = document.getRootElement();
+
+		String defaultLanguageId = LocaleUtil.toLanguageId(
+			LocaleUtil.getDefault());
+
+		String[] availableLocales = StringUtil.split(
+			rootElement.attributeValue("available-locales", defaultLanguageId));
+
+		String defaultLocale = rootElement.attributeValue(
+			"default-locale", defaultLanguageId);
+
+		boolean supportedLocale = false;
+
+		for (String availableLocale : availableLocales) {
+			if (availableLocale.equalsIgnoreCase(languageId)) {
+				supportedLocale = true;
+
+				break;
+			}
+		}
+
+		if (!supportedLocale) {
+			replace(rootElement, defaultLocale);
+		}
+		else {
+			replace(rootElement, languageId);
+		}
 	}
 
 	protected void replace(Element root, String languageId) {
@@ -77,52 +111,6 @@ public class LocaleTransformerListener extends BaseTransformerListener {
 		}
 	}
 
-	protected String replace(String xml, String languageId) {
-		if (xml == null) {
-			return xml;
-		}
-
-		try {
-			Document document = SAXReaderUtil.read(xml);
-
-			Element rootElement = document.getRootElement();
-
-			String defaultLanguageId = LocaleUtil.toLanguageId(
-				LocaleUtil.getDefault());
-
-			String[] availableLocales = StringUtil.split(
-				rootElement.attributeValue(
-					"available-locales", defaultLanguageId));
-
-			String defaultLocale = rootElement.attributeValue(
-				"default-locale", defaultLanguageId);
-
-			boolean supportedLocale = false;
-
-			for (String availableLocale : availableLocales) {
-				if (availableLocale.equalsIgnoreCase(languageId)) {
-					supportedLocale = true;
-
-					break;
-				}
-			}
-
-			if (!supportedLocale) {
-				replace(rootElement, defaultLocale);
-			}
-			else {
-				replace(rootElement, languageId);
-			}
-
-			xml = DDMXMLUtil.formatXML(document);
-		}
-		catch (Exception e) {
-			_log.error(e);
-		}
-
-		return xml;
-	}
-
 	private static Log _log = LogFactoryUtil.getLog(
 		LocaleTransformerListener.class);
 
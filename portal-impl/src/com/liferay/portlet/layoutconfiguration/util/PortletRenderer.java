@@ -153,6 +153,9 @@ public class PortletRenderer {
 
 			_request= request;
 			_response = response;
+
+			_mergeLock = request.getAttribute(
+				WebKeys.PARALLEL_RENDERING_MERGE_LOCK);
 		}
 
 		@Override
@@ -167,6 +170,13 @@ public class PortletRenderer {
 			_restrictPortletServletRequest =
 				(RestrictPortletServletRequest)request;
 
+			// Pin the merge lock on the restricted request, so that a late
+			// render that outlives the parallel rendering phase still leaves
+			// merging the shared attributes to the caller
+
+			request.setAttribute(
+				WebKeys.PARALLEL_RENDERING_MERGE_LOCK, _mergeLock);
+
 			try {
 				themeDisplay = (ThemeDisplay)themeDisplay.clone();
 
@@ -190,6 +200,7 @@ public class PortletRenderer {
 			}
 		}
 
+		private Object _mergeLock;
 		private HttpServletRequest _request;
 		private HttpServletResponse _response;
 	}
@@ -41,6 +41,7 @@ import com.liferay.portal.model.PortletConstants;
 import com.liferay.portal.service.LayoutTemplateLocalServiceUtil;
 import com.liferay.portal.servlet.ThreadLocalFacadeServletRequestWrapperUtil;
 import com.liferay.portal.util.ClassLoaderUtil;
+import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.portal.util.WebKeys;
 import com.liferay.portlet.layoutconfiguration.util.velocity.CustomizationSettingsProcessor;
@@ -54,8 +55,12 @@ import com.liferay.taglib.util.VelocityTaglib;
 import com.liferay.taglib.util.VelocityTaglibImpl;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -76,6 +81,7 @@ import javax.portlet.RenderResponse;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.jsp.JspWriter;
 import javax.servlet.jsp.PageContext;
 
 import org.apache.commons.lang.time.StopWatch;
@@ -103,6 +109,90 @@ public class RuntimePageImpl implements RuntimePage {
 		doDispatch(pageContext, null, templateResource, false);
 	}
 
+	public void processLatePortlets(PageContext pageContext)
+		throws Exception {
+
+		HttpServletRequest request =
+			(HttpServletRequest)pageContext.getRequest();
+
+		List<LatePortlet> latePortlets =
+			(List<LatePortlet>)request.getAttribute(
+				WebKeys.PARALLEL_RENDERING_LATE_PORTLETS);
+
+		if (latePortlets == null) {
+			return;
+		}
+
+		request.removeAttribute(WebKeys.PARALLEL_RENDERING_LATE_PORTLETS);
+
+		HttpServletResponse response =
+			(HttpServletResponse)pageContext.getResponse();
+
+		JspWriter jspWriter = pageContext.getOut();
+
+		long waitTime = PropsValues.LAYOUT_PARALLEL_RENDER_LATE_TIMEOUT;
+
+		for (LatePortlet latePortlet : latePortlets) {
+			Future<StringBundler> future = latePortlet.getFuture();
+			PortletRenderer portletRenderer = latePortlet.getPortletRenderer();
+
+			Portlet portlet = portletRenderer.getPortlet();
+
+			StringBundler sb = null;
+
+			if ((waitTime > 0) || future.isDone()) {
+				try {
+					long startTime = System.currentTimeMillis();
+
+					sb = future.get(waitTime, TimeUnit.MILLISECONDS);
+
+					long duration = System.currentTimeMillis() - startTime;
+
+					waitTime -= duration;
+
+					if (_log.isDebugEnabled()) {
+						_log.debug(
+							"Late rendered portlet " + portlet.getPortletId() +
+								" after waiting " + duration + " ms");
+					}
+				}
+				catch (CancellationException ce) {
+				}
+				catch (ExecutionException ee) {
+
+					// The page body has already been rendered, so fall back
+					// instead of failing the whole page
+
+					_log.error(
+						"Unable to late render portlet " +
+							portlet.getPortletId(),
+						ee);
+				}
+				catch (InterruptedException ie) {
+					waitTime = -1;
+				}
+				catch (TimeoutException te) {
+					waitTime = -1;
+				}
+			}
+
+			if (sb == null) {
+
+				// Cancel by interrupting rendering thread
+
+				future.cancel(true);
+
+				sb = renderFallback(
+					request, response, portletRenderer,
+					latePortlet.isPortletAjaxRender());
+			}
+
+			portletRenderer.finishParallelRender();
+
+			writeLatePortlet(jspWriter, portlet, sb);
+		}
+	}
+
 	public void processTemplate(
 			PageContext pageContext, String portletId,
 			TemplateResource templateResource)
@@ -478,6 +568,21 @@ public class RuntimePageImpl implements RuntimePage {
 		return sb;
 	}
 
+	protected String getLatePortletPlaceholder(Portlet portlet) {
+		StringBundler sb = new StringBundler(3);
+
+		sb.append("<div id=\"");
+		sb.append(getLatePortletPlaceholderId(portlet));
+		sb.append("\"></div>");
+
+		return sb.toString();
+	}
+
+	protected String getLatePortletPlaceholderId(Portlet portlet) {
+		return "p_p_late".concat(
+			PortalUtil.getPortletNamespace(portlet.getPortletId()));
+	}
+
 	protected LayoutTemplate getLayoutTemplate(String velocityTemplateId) {
 		String separator = LayoutTemplateConstants.CUSTOM_SEPARATOR;
 		boolean standard = false;
@@ -527,8 +632,11 @@ public class RuntimePageImpl implements RuntimePage {
 			PortalExecutorManagerUtil.getPortalExecutor(
 				RuntimePageImpl.class.getName());
 
+		// Wait for the portlets in document order, so that a slow portlet
+		// only makes the portlets after it late
+
 		Map<Future<StringBundler>, PortletRenderer> futures =
-			new HashMap<Future<StringBundler>, PortletRenderer>(
+			new LinkedHashMap<Future<StringBundler>, PortletRenderer>(
 				portletRenderers.size());
 
 		for (PortletRenderer portletRenderer : portletRenderers) {
@@ -567,6 +675,10 @@ public class RuntimePageImpl implements RuntimePage {
 			futures.put(future, portletRenderer);
 		}
 
+		List<LatePortlet> latePortlets =
+			(List<LatePortlet>)request.getAttribute(
+				WebKeys.PARALLEL_RENDERING_LATE_PORTLETS);
+
 		long waitTime = _waitTime;
 
 		for (Map.Entry<Future<StringBundler>, PortletRenderer> entry :
@@ -622,7 +734,8 @@ public class RuntimePageImpl implements RuntimePage {
 				catch (TimeoutException te) {
 
 					// On timeout, stop waiting, force all pending portlets to
-					// fall back to ajax loading or an error message.
+					// finish late, or to fall back to ajax loading or an error
+					// message.
 
 					waitTime = -1;
 				}
@@ -641,50 +754,147 @@ public class RuntimePageImpl implements RuntimePage {
 
 					return;
 				}
-
-				// Cancel by interrupting rendering thread
-
-				future.cancel(true);
 			}
 
-			StringBundler sb = null;
+			if (PropsValues.LAYOUT_PARALLEL_RENDER_LATE_ENABLE &&
+				!future.isDone()) {
 
-			if (processor.isPortletAjaxRender() && portlet.isAjaxable()) {
 				if (_log.isDebugEnabled()) {
 					_log.debug(
-						"Fall back to ajax rendering of portlet " +
-							portlet.getPortletId());
+						"Let portlet " + portlet.getPortletId() +
+							" finish late");
 				}
 
-				sb = portletRenderer.renderAjax(request, response);
-			}
-			else {
-				if (_log.isDebugEnabled()) {
-					if (processor.isPortletAjaxRender()) {
-						_log.debug(
-							"Fall back to an error message for portlet " +
-								portlet.getPortletId() +
-									" since it is not ajaxable");
-					}
-					else {
-						_log.debug(
-							"Fall back to an error message for portlet " +
-								portlet.getPortletId() +
-									" since ajax rendering is disabled");
-					}
+				if (latePortlets == null) {
+					latePortlets = new ArrayList<LatePortlet>();
+
+					request.setAttribute(
+						WebKeys.PARALLEL_RENDERING_LATE_PORTLETS,
+						latePortlets);
 				}
 
-				sb = portletRenderer.renderError(request, response);
+				latePortlets.add(
+					new LatePortlet(
+						future, portletRenderer,
+						processor.isPortletAjaxRender()));
+
+				contentsMap.put(
+					portlet.getPortletId(),
+					new StringBundler(getLatePortletPlaceholder(portlet)));
+
+				continue;
 			}
 
+			// Cancel by interrupting rendering thread
+
+			future.cancel(true);
+
+			StringBundler sb = renderFallback(
+				request, response, portletRenderer,
+				processor.isPortletAjaxRender());
+
 			contentsMap.put(portlet.getPortletId(), sb);
 
 			portletRenderer.finishParallelRender();
 		}
 	}
 
+	protected StringBundler renderFallback(
+			HttpServletRequest request, HttpServletResponse response,
+			PortletRenderer portletRenderer, boolean portletAjaxRender)
+		throws Exception {
+
+		Portlet portlet = portletRenderer.getPortlet();
+
+		if (portletAjaxRender && portlet.isAjaxable()) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Fall back to ajax rendering of portlet " +
+						portlet.getPortletId());
+			}
+
+			return portletRenderer.renderAjax(request, response);
+		}
+
+		if (_log.isDebugEnabled()) {
+			if (portletAjaxRender) {
+				_log.debug(
+					"Fall back to an error message for portlet " +
+						portlet.getPortletId() + " since it is not ajaxable");
+			}
+			else {
+				_log.debug(
+					"Fall back to an error message for portlet " +
+						portlet.getPortletId() +
+							" since ajax rendering is disabled");
+			}
+		}
+
+		return portletRenderer.renderError(request, response);
+	}
+
+	protected void writeLatePortlet(
+			Writer writer, Portlet portlet, StringBundler sb)
+		throws IOException {
+
+		String placeholderId = getLatePortletPlaceholderId(portlet);
+
+		writer.write("<div id=\"");
+		writer.write(placeholderId);
+		writer.write("_content\" style=\"display: none;\">");
+
+		sb.writeTo(writer);
+
+		writer.write("</div><script type=\"text/javascript\">");
+		writer.write("(function() {");
+		writer.write("var placeholder = document.getElementById('");
+		writer.write(placeholderId);
+		writer.write("');");
+		writer.write("var content = document.getElementById('");
+		writer.write(placeholderId);
+		writer.write("_content');");
+		writer.write("var parentNode = placeholder.parentNode;");
+		writer.write("while (content.firstChild) {");
+		writer.write(
+			"parentNode.insertBefore(content.firstChild, placeholder);");
+		writer.write("}");
+		writer.write("parentNode.removeChild(placeholder);");
+		writer.write("content.parentNode.removeChild(content);");
+		writer.write("})();");
+		writer.write("</script>");
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(RuntimePageImpl.class);
 
 	private int _waitTime = Integer.MAX_VALUE;
 
+	private static class LatePortlet {
+
+		public LatePortlet(
+			Future<StringBundler> future, PortletRenderer portletRenderer,
+			boolean portletAjaxRender) {
+
+			_future = future;
+			_portletRenderer = portletRenderer;
+			_portletAjaxRender = portletAjaxRender;
+		}
+
+		public Future<StringBundler> getFuture() {
+			return _future;
+		}
+
+		public PortletRenderer getPortletRenderer() {
+			return _portletRenderer;
+		}
+
+		public boolean isPortletAjaxRender() {
+			return _portletAjaxRender;
+		}
+
+		private Future<StringBundler> _future;
+		private boolean _portletAjaxRender;
+		private PortletRenderer _portletRenderer;
+
+	}
+
 }
\ No newline at end of file
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message boards ban service.
@@ -3076,14 +3080,32 @@ public class MBBanPersistenceImpl extends BasePersistenceImpl<MBBan>
 	 * @param mbBans the message boards bans
 	 */
 	public void cacheResult(List<MBBan> mbBans) {
+		Map<Serializable, MBBan> uncachedMbBans = new HashMap<Serializable, MBBan>();
+
 		for (MBBan mbBan : mbBans) {
-			if (EntityCacheUtil.getResult(MBBanModelImpl.ENTITY_CACHE_ENABLED,
-						MBBanImpl.class, mbBan.getPrimaryKey()) == null) {
-				cacheResult(mbBan);
-			}
-			else {
-				mbBan.resetOriginalValues();
-			}
+			uncachedMbBans.put(mbBan.getPrimaryKeyObj(), mbBan);
+		}
+
+		Map<Serializable, Serializable> cachedMbBans = EntityCacheUtil.getResults(MBBanModelImpl.ENTITY_CACHE_ENABLED,
+				MBBanImpl.class, uncachedMbBans.keySet());
+
+		for (Serializable primaryKey : cachedMbBans.keySet()) {
+			MBBan mbBan = uncachedMbBans.remove(primaryKey);
+
+			mbBan.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBBanModelImpl.ENTITY_CACHE_ENABLED,
+			MBBanImpl.class, uncachedMbBans);
+
+		for (MBBan mbBan : uncachedMbBans.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mbBan.getUuid(), mbBan.getGroupId() }, mbBan);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_B,
+				new Object[] { mbBan.getGroupId(), mbBan.getBanUserId() }, mbBan);
+
+			mbBan.resetOriginalValues();
 		}
 	}
 
@@ -3130,12 +3152,16 @@ public class MBBanPersistenceImpl extends BasePersistenceImpl<MBBan>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbBans.size());
+
 		for (MBBan mbBan : mbBans) {
-			EntityCacheUtil.removeResult(MBBanModelImpl.ENTITY_CACHE_ENABLED,
-				MBBanImpl.class, mbBan.getPrimaryKey());
+			primaryKeys.add(mbBan.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbBan);
 		}
+
+		EntityCacheUtil.removeResults(MBBanModelImpl.ENTITY_CACHE_ENABLED,
+			MBBanImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBBan mbBan) {
@@ -3573,6 +3599,113 @@ public class MBBanPersistenceImpl extends BasePersistenceImpl<MBBan>
 		return fetchByPrimaryKey((Serializable)banId);
 	}
 
+	/**
+	 * Returns the message boards bans with the primary keys, keyed by primary key. Primary keys without a matching message boards ban are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message boards bans
+	 * @return the message boards bans, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBBan> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBBan> map = new HashMap<Serializable, MBBan>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBBan mbBan = fetchByPrimaryKey(primaryKey);
+
+			if (mbBan != null) {
+				map.put(primaryKey, mbBan);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBBan mbBan = (MBBan)EntityCacheUtil.getResult(MBBanModelImpl.ENTITY_CACHE_ENABLED,
+					MBBanImpl.class, primaryKey);
+
+			if (mbBan == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbBan != _nullMBBan) {
+				map.put(primaryKey, mbBan);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBBAN_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBBan mbBan : (List<MBBan>)q.list()) {
+					map.put(mbBan.getPrimaryKeyObj(), mbBan);
+
+					cacheResult(mbBan);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBBanModelImpl.ENTITY_CACHE_ENABLED,
+						MBBanImpl.class, primaryKey, _nullMBBan);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message boards bans.
 	 *
@@ -3773,6 +3906,7 @@ public class MBBanPersistenceImpl extends BasePersistenceImpl<MBBan>
 	}
 
 	private static final String _SQL_SELECT_MBBAN = "SELECT mbBan FROM MBBan mbBan";
+	private static final String _SQL_SELECT_MBBAN_WHERE_PKS_IN = "SELECT mbBan FROM MBBan mbBan WHERE mbBan.banId IN (";
 	private static final String _SQL_SELECT_MBBAN_WHERE = "SELECT mbBan FROM MBBan mbBan WHERE ";
 	private static final String _SQL_COUNT_MBBAN = "SELECT COUNT(mbBan) FROM MBBan mbBan";
 	private static final String _SQL_COUNT_MBBAN_WHERE = "SELECT COUNT(mbBan) FROM MBBan mbBan WHERE ";
@@ -50,7 +50,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message boards category service.
@@ -7099,15 +7103,30 @@ public class MBCategoryPersistenceImpl extends BasePersistenceImpl<MBCategory>
 	 * @param mbCategories the message boards categories
 	 */
 	public void cacheResult(List<MBCategory> mbCategories) {
+		Map<Serializable, MBCategory> uncachedMbCategories = new HashMap<Serializable, MBCategory>();
+
 		for (MBCategory mbCategory : mbCategories) {
-			if (EntityCacheUtil.getResult(
-						MBCategoryModelImpl.ENTITY_CACHE_ENABLED,
-						MBCategoryImpl.class, mbCategory.getPrimaryKey()) == null) {
-				cacheResult(mbCategory);
-			}
-			else {
-				mbCategory.resetOriginalValues();
-			}
+			uncachedMbCategories.put(mbCategory.getPrimaryKeyObj(), mbCategory);
+		}
+
+		Map<Serializable, Serializable> cachedMbCategories = EntityCacheUtil.getResults(MBCategoryModelImpl.ENTITY_CACHE_ENABLED,
+				MBCategoryImpl.class, uncachedMbCategories.keySet());
+
+		for (Serializable primaryKey : cachedMbCategories.keySet()) {
+			MBCategory mbCategory = uncachedMbCategories.remove(primaryKey);
+
+			mbCategory.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBCategoryModelImpl.ENTITY_CACHE_ENABLED,
+			MBCategoryImpl.class, uncachedMbCategories);
+
+		for (MBCategory mbCategory : uncachedMbCategories.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mbCategory.getUuid(), mbCategory.getGroupId() },
+				mbCategory);
+
+			mbCategory.resetOriginalValues();
 		}
 	}
 
@@ -7154,12 +7173,16 @@ public class MBCategoryPersistenceImpl extends BasePersistenceImpl<MBCategory>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbCategories.size());
+
 		for (MBCategory mbCategory : mbCategories) {
-			EntityCacheUtil.removeResult(MBCategoryModelImpl.ENTITY_CACHE_ENABLED,
-				MBCategoryImpl.class, mbCategory.getPrimaryKey());
+			primaryKeys.add(mbCategory.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbCategory);
 		}
+
+		EntityCacheUtil.removeResults(MBCategoryModelImpl.ENTITY_CACHE_ENABLED,
+			MBCategoryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBCategory mbCategory) {
@@ -7663,6 +7686,113 @@ public class MBCategoryPersistenceImpl extends BasePersistenceImpl<MBCategory>
 		return fetchByPrimaryKey((Serializable)categoryId);
 	}
 
+	/**
+	 * Returns the message boards categories with the primary keys, keyed by primary key. Primary keys without a matching message boards category are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message boards categories
+	 * @return the message boards categories, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBCategory> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBCategory> map = new HashMap<Serializable, MBCategory>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBCategory mbCategory = fetchByPrimaryKey(primaryKey);
+
+			if (mbCategory != null) {
+				map.put(primaryKey, mbCategory);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBCategory mbCategory = (MBCategory)EntityCacheUtil.getResult(MBCategoryModelImpl.ENTITY_CACHE_ENABLED,
+					MBCategoryImpl.class, primaryKey);
+
+			if (mbCategory == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbCategory != _nullMBCategory) {
+				map.put(primaryKey, mbCategory);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBCATEGORY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBCategory mbCategory : (List<MBCategory>)q.list()) {
+					map.put(mbCategory.getPrimaryKeyObj(), mbCategory);
+
+					cacheResult(mbCategory);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBCategoryModelImpl.ENTITY_CACHE_ENABLED,
+						MBCategoryImpl.class, primaryKey, _nullMBCategory);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message boards categories.
 	 *
@@ -7864,6 +7994,7 @@ public class MBCategoryPersistenceImpl extends BasePersistenceImpl<MBCategory>
 	}
 
 	private static final String _SQL_SELECT_MBCATEGORY = "SELECT mbCategory FROM MBCategory mbCategory";
+	private static final String _SQL_SELECT_MBCATEGORY_WHERE_PKS_IN = "SELECT mbCategory FROM MBCategory mbCategory WHERE mbCategory.categoryId IN (";
 	private static final String _SQL_SELECT_MBCATEGORY_WHERE = "SELECT mbCategory FROM MBCategory mbCategory WHERE ";
 	private static final String _SQL_COUNT_MBCATEGORY = "SELECT COUNT(mbCategory) FROM MBCategory mbCategory";
 	private static final String _SQL_COUNT_MBCATEGORY_WHERE = "SELECT COUNT(mbCategory) FROM MBCategory mbCategory WHERE ";
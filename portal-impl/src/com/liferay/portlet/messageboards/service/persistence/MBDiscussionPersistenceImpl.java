@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message boards discussion service.
@@ -1018,15 +1022,35 @@ public class MBDiscussionPersistenceImpl extends BasePersistenceImpl<MBDiscussio
 	 * @param mbDiscussions the message boards discussions
 	 */
 	public void cacheResult(List<MBDiscussion> mbDiscussions) {
+		Map<Serializable, MBDiscussion> uncachedMbDiscussions = new HashMap<Serializable, MBDiscussion>();
+
 		for (MBDiscussion mbDiscussion : mbDiscussions) {
-			if (EntityCacheUtil.getResult(
-						MBDiscussionModelImpl.ENTITY_CACHE_ENABLED,
-						MBDiscussionImpl.class, mbDiscussion.getPrimaryKey()) == null) {
-				cacheResult(mbDiscussion);
-			}
-			else {
-				mbDiscussion.resetOriginalValues();
-			}
+			uncachedMbDiscussions.put(mbDiscussion.getPrimaryKeyObj(),
+				mbDiscussion);
+		}
+
+		Map<Serializable, Serializable> cachedMbDiscussions = EntityCacheUtil.getResults(MBDiscussionModelImpl.ENTITY_CACHE_ENABLED,
+				MBDiscussionImpl.class, uncachedMbDiscussions.keySet());
+
+		for (Serializable primaryKey : cachedMbDiscussions.keySet()) {
+			MBDiscussion mbDiscussion = uncachedMbDiscussions.remove(primaryKey);
+
+			mbDiscussion.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBDiscussionModelImpl.ENTITY_CACHE_ENABLED,
+			MBDiscussionImpl.class, uncachedMbDiscussions);
+
+		for (MBDiscussion mbDiscussion : uncachedMbDiscussions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_THREADID,
+				new Object[] { mbDiscussion.getThreadId() }, mbDiscussion);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C,
+				new Object[] {
+					mbDiscussion.getClassNameId(), mbDiscussion.getClassPK()
+				}, mbDiscussion);
+
+			mbDiscussion.resetOriginalValues();
 		}
 	}
 
@@ -1073,12 +1097,16 @@ public class MBDiscussionPersistenceImpl extends BasePersistenceImpl<MBDiscussio
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbDiscussions.size());
+
 		for (MBDiscussion mbDiscussion : mbDiscussions) {
-			EntityCacheUtil.removeResult(MBDiscussionModelImpl.ENTITY_CACHE_ENABLED,
-				MBDiscussionImpl.class, mbDiscussion.getPrimaryKey());
+			primaryKeys.add(mbDiscussion.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbDiscussion);
 		}
+
+		EntityCacheUtil.removeResults(MBDiscussionModelImpl.ENTITY_CACHE_ENABLED,
+			MBDiscussionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBDiscussion mbDiscussion) {
@@ -1446,6 +1474,113 @@ public class MBDiscussionPersistenceImpl extends BasePersistenceImpl<MBDiscussio
 		return fetchByPrimaryKey((Serializable)discussionId);
 	}
 
+	/**
+	 * Returns the message boards discussions with the primary keys, keyed by primary key. Primary keys without a matching message boards discussion are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message boards discussions
+	 * @return the message boards discussions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBDiscussion> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBDiscussion> map = new HashMap<Serializable, MBDiscussion>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBDiscussion mbDiscussion = fetchByPrimaryKey(primaryKey);
+
+			if (mbDiscussion != null) {
+				map.put(primaryKey, mbDiscussion);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBDiscussion mbDiscussion = (MBDiscussion)EntityCacheUtil.getResult(MBDiscussionModelImpl.ENTITY_CACHE_ENABLED,
+					MBDiscussionImpl.class, primaryKey);
+
+			if (mbDiscussion == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbDiscussion != _nullMBDiscussion) {
+				map.put(primaryKey, mbDiscussion);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBDISCUSSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBDiscussion mbDiscussion : (List<MBDiscussion>)q.list()) {
+					map.put(mbDiscussion.getPrimaryKeyObj(), mbDiscussion);
+
+					cacheResult(mbDiscussion);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBDiscussionModelImpl.ENTITY_CACHE_ENABLED,
+						MBDiscussionImpl.class, primaryKey, _nullMBDiscussion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message boards discussions.
 	 *
@@ -1647,6 +1782,7 @@ public class MBDiscussionPersistenceImpl extends BasePersistenceImpl<MBDiscussio
 	}
 
 	private static final String _SQL_SELECT_MBDISCUSSION = "SELECT mbDiscussion FROM MBDiscussion mbDiscussion";
+	private static final String _SQL_SELECT_MBDISCUSSION_WHERE_PKS_IN = "SELECT mbDiscussion FROM MBDiscussion mbDiscussion WHERE mbDiscussion.discussionId IN (";
 	private static final String _SQL_SELECT_MBDISCUSSION_WHERE = "SELECT mbDiscussion FROM MBDiscussion mbDiscussion WHERE ";
 	private static final String _SQL_COUNT_MBDISCUSSION = "SELECT COUNT(mbDiscussion) FROM MBDiscussion mbDiscussion";
 	private static final String _SQL_COUNT_MBDISCUSSION_WHERE = "SELECT COUNT(mbDiscussion) FROM MBDiscussion mbDiscussion WHERE ";
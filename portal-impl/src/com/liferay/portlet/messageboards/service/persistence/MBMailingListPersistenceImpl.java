@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message boards mailing list service.
@@ -2152,15 +2156,36 @@ public class MBMailingListPersistenceImpl extends BasePersistenceImpl<MBMailingL
 	 * @param mbMailingLists the message boards mailing lists
 	 */
 	public void cacheResult(List<MBMailingList> mbMailingLists) {
+		Map<Serializable, MBMailingList> uncachedMbMailingLists = new HashMap<Serializable, MBMailingList>();
+
 		for (MBMailingList mbMailingList : mbMailingLists) {
-			if (EntityCacheUtil.getResult(
-						MBMailingListModelImpl.ENTITY_CACHE_ENABLED,
-						MBMailingListImpl.class, mbMailingList.getPrimaryKey()) == null) {
-				cacheResult(mbMailingList);
-			}
-			else {
-				mbMailingList.resetOriginalValues();
-			}
+			uncachedMbMailingLists.put(mbMailingList.getPrimaryKeyObj(),
+				mbMailingList);
+		}
+
+		Map<Serializable, Serializable> cachedMbMailingLists = EntityCacheUtil.getResults(MBMailingListModelImpl.ENTITY_CACHE_ENABLED,
+				MBMailingListImpl.class, uncachedMbMailingLists.keySet());
+
+		for (Serializable primaryKey : cachedMbMailingLists.keySet()) {
+			MBMailingList mbMailingList = uncachedMbMailingLists.remove(primaryKey);
+
+			mbMailingList.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBMailingListModelImpl.ENTITY_CACHE_ENABLED,
+			MBMailingListImpl.class, uncachedMbMailingLists);
+
+		for (MBMailingList mbMailingList : uncachedMbMailingLists.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mbMailingList.getUuid(), mbMailingList.getGroupId() },
+				mbMailingList);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C,
+				new Object[] {
+					mbMailingList.getGroupId(), mbMailingList.getCategoryId()
+				}, mbMailingList);
+
+			mbMailingList.resetOriginalValues();
 		}
 	}
 
@@ -2207,12 +2232,16 @@ public class MBMailingListPersistenceImpl extends BasePersistenceImpl<MBMailingL
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbMailingLists.size());
+
 		for (MBMailingList mbMailingList : mbMailingLists) {
-			EntityCacheUtil.removeResult(MBMailingListModelImpl.ENTITY_CACHE_ENABLED,
-				MBMailingListImpl.class, mbMailingList.getPrimaryKey());
+			primaryKeys.add(mbMailingList.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbMailingList);
 		}
+
+		EntityCacheUtil.removeResults(MBMailingListModelImpl.ENTITY_CACHE_ENABLED,
+			MBMailingListImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBMailingList mbMailingList) {
@@ -2659,6 +2688,113 @@ public class MBMailingListPersistenceImpl extends BasePersistenceImpl<MBMailingL
 		return fetchByPrimaryKey((Serializable)mailingListId);
 	}
 
+	/**
+	 * Returns the message boards mailing lists with the primary keys, keyed by primary key. Primary keys without a matching message boards mailing list are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message boards mailing lists
+	 * @return the message boards mailing lists, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBMailingList> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBMailingList> map = new HashMap<Serializable, MBMailingList>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBMailingList mbMailingList = fetchByPrimaryKey(primaryKey);
+
+			if (mbMailingList != null) {
+				map.put(primaryKey, mbMailingList);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBMailingList mbMailingList = (MBMailingList)EntityCacheUtil.getResult(MBMailingListModelImpl.ENTITY_CACHE_ENABLED,
+					MBMailingListImpl.class, primaryKey);
+
+			if (mbMailingList == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbMailingList != _nullMBMailingList) {
+				map.put(primaryKey, mbMailingList);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBMAILINGLIST_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBMailingList mbMailingList : (List<MBMailingList>)q.list()) {
+					map.put(mbMailingList.getPrimaryKeyObj(), mbMailingList);
+
+					cacheResult(mbMailingList);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBMailingListModelImpl.ENTITY_CACHE_ENABLED,
+						MBMailingListImpl.class, primaryKey, _nullMBMailingList);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message boards mailing lists.
 	 *
@@ -2860,6 +2996,7 @@ public class MBMailingListPersistenceImpl extends BasePersistenceImpl<MBMailingL
 	}
 
 	private static final String _SQL_SELECT_MBMAILINGLIST = "SELECT mbMailingList FROM MBMailingList mbMailingList";
+	private static final String _SQL_SELECT_MBMAILINGLIST_WHERE_PKS_IN = "SELECT mbMailingList FROM MBMailingList mbMailingList WHERE mbMailingList.mailingListId IN (";
 	private static final String _SQL_SELECT_MBMAILINGLIST_WHERE = "SELECT mbMailingList FROM MBMailingList mbMailingList WHERE ";
 	private static final String _SQL_COUNT_MBMAILINGLIST = "SELECT COUNT(mbMailingList) FROM MBMailingList mbMailingList";
 	private static final String _SQL_COUNT_MBMAILINGLIST_WHERE = "SELECT COUNT(mbMailingList) FROM MBMailingList mbMailingList WHERE ";
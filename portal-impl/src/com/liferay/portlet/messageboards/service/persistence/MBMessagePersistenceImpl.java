@@ -55,7 +55,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message-boards message service.
@@ -18152,15 +18156,30 @@ public class MBMessagePersistenceImpl extends BasePersistenceImpl<MBMessage>
 	 * @param mbMessages the message-boards messages
 	 */
 	public void cacheResult(List<MBMessage> mbMessages) {
+		Map<Serializable, MBMessage> uncachedMbMessages = new HashMap<Serializable, MBMessage>();
+
 		for (MBMessage mbMessage : mbMessages) {
-			if (EntityCacheUtil.getResult(
-						MBMessageModelImpl.ENTITY_CACHE_ENABLED,
-						MBMessageImpl.class, mbMessage.getPrimaryKey()) == null) {
-				cacheResult(mbMessage);
-			}
-			else {
-				mbMessage.resetOriginalValues();
-			}
+			uncachedMbMessages.put(mbMessage.getPrimaryKeyObj(), mbMessage);
+		}
+
+		Map<Serializable, Serializable> cachedMbMessages = EntityCacheUtil.getResults(MBMessageModelImpl.ENTITY_CACHE_ENABLED,
+				MBMessageImpl.class, uncachedMbMessages.keySet());
+
+		for (Serializable primaryKey : cachedMbMessages.keySet()) {
+			MBMessage mbMessage = uncachedMbMessages.remove(primaryKey);
+
+			mbMessage.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBMessageModelImpl.ENTITY_CACHE_ENABLED,
+			MBMessageImpl.class, uncachedMbMessages);
+
+		for (MBMessage mbMessage : uncachedMbMessages.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mbMessage.getUuid(), mbMessage.getGroupId() },
+				mbMessage);
+
+			mbMessage.resetOriginalValues();
 		}
 	}
 
@@ -18207,12 +18226,16 @@ public class MBMessagePersistenceImpl extends BasePersistenceImpl<MBMessage>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbMessages.size());
+
 		for (MBMessage mbMessage : mbMessages) {
-			EntityCacheUtil.removeResult(MBMessageModelImpl.ENTITY_CACHE_ENABLED,
-				MBMessageImpl.class, mbMessage.getPrimaryKey());
+			primaryKeys.add(mbMessage.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbMessage);
 		}
+
+		EntityCacheUtil.removeResults(MBMessageModelImpl.ENTITY_CACHE_ENABLED,
+			MBMessageImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBMessage mbMessage) {
@@ -19135,6 +19158,113 @@ public class MBMessagePersistenceImpl extends BasePersistenceImpl<MBMessage>
 		return fetchByPrimaryKey((Serializable)messageId);
 	}
 
+	/**
+	 * Returns the message-boards messages with the primary keys, keyed by primary key. Primary keys without a matching message-boards message are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message-boards messages
+	 * @return the message-boards messages, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBMessage> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBMessage> map = new HashMap<Serializable, MBMessage>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBMessage mbMessage = fetchByPrimaryKey(primaryKey);
+
+			if (mbMessage != null) {
+				map.put(primaryKey, mbMessage);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBMessage mbMessage = (MBMessage)EntityCacheUtil.getResult(MBMessageModelImpl.ENTITY_CACHE_ENABLED,
+					MBMessageImpl.class, primaryKey);
+
+			if (mbMessage == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbMessage != _nullMBMessage) {
+				map.put(primaryKey, mbMessage);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBMESSAGE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBMessage mbMessage : (List<MBMessage>)q.list()) {
+					map.put(mbMessage.getPrimaryKeyObj(), mbMessage);
+
+					cacheResult(mbMessage);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBMessageModelImpl.ENTITY_CACHE_ENABLED,
+						MBMessageImpl.class, primaryKey, _nullMBMessage);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message-boards messages.
 	 *
@@ -19336,6 +19466,7 @@ public class MBMessagePersistenceImpl extends BasePersistenceImpl<MBMessage>
 	}
 
 	private static final String _SQL_SELECT_MBMESSAGE = "SELECT mbMessage FROM MBMessage mbMessage";
+	private static final String _SQL_SELECT_MBMESSAGE_WHERE_PKS_IN = "SELECT mbMessage FROM MBMessage mbMessage WHERE mbMessage.messageId IN (";
 	private static final String _SQL_SELECT_MBMESSAGE_WHERE = "SELECT mbMessage FROM MBMessage mbMessage WHERE ";
 	private static final String _SQL_COUNT_MBMESSAGE = "SELECT COUNT(mbMessage) FROM MBMessage mbMessage";
 	private static final String _SQL_COUNT_MBMESSAGE_WHERE = "SELECT COUNT(mbMessage) FROM MBMessage mbMessage WHERE ";
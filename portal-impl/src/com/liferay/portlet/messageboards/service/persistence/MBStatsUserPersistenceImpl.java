@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message boards stats user service.
@@ -1817,15 +1821,31 @@ public class MBStatsUserPersistenceImpl extends BasePersistenceImpl<MBStatsUser>
 	 * @param mbStatsUsers the message boards stats users
 	 */
 	public void cacheResult(List<MBStatsUser> mbStatsUsers) {
+		Map<Serializable, MBStatsUser> uncachedMbStatsUsers = new HashMap<Serializable, MBStatsUser>();
+
 		for (MBStatsUser mbStatsUser : mbStatsUsers) {
-			if (EntityCacheUtil.getResult(
-						MBStatsUserModelImpl.ENTITY_CACHE_ENABLED,
-						MBStatsUserImpl.class, mbStatsUser.getPrimaryKey()) == null) {
-				cacheResult(mbStatsUser);
-			}
-			else {
-				mbStatsUser.resetOriginalValues();
-			}
+			uncachedMbStatsUsers.put(mbStatsUser.getPrimaryKeyObj(),
+				mbStatsUser);
+		}
+
+		Map<Serializable, Serializable> cachedMbStatsUsers = EntityCacheUtil.getResults(MBStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+				MBStatsUserImpl.class, uncachedMbStatsUsers.keySet());
+
+		for (Serializable primaryKey : cachedMbStatsUsers.keySet()) {
+			MBStatsUser mbStatsUser = uncachedMbStatsUsers.remove(primaryKey);
+
+			mbStatsUser.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+			MBStatsUserImpl.class, uncachedMbStatsUsers);
+
+		for (MBStatsUser mbStatsUser : uncachedMbStatsUsers.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_U,
+				new Object[] { mbStatsUser.getGroupId(), mbStatsUser.getUserId() },
+				mbStatsUser);
+
+			mbStatsUser.resetOriginalValues();
 		}
 	}
 
@@ -1872,12 +1892,16 @@ public class MBStatsUserPersistenceImpl extends BasePersistenceImpl<MBStatsUser>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbStatsUsers.size());
+
 		for (MBStatsUser mbStatsUser : mbStatsUsers) {
-			EntityCacheUtil.removeResult(MBStatsUserModelImpl.ENTITY_CACHE_ENABLED,
-				MBStatsUserImpl.class, mbStatsUser.getPrimaryKey());
+			primaryKeys.add(mbStatsUser.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbStatsUser);
 		}
+
+		EntityCacheUtil.removeResults(MBStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+			MBStatsUserImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBStatsUser mbStatsUser) {
@@ -2231,6 +2255,113 @@ public class MBStatsUserPersistenceImpl extends BasePersistenceImpl<MBStatsUser>
 		return fetchByPrimaryKey((Serializable)statsUserId);
 	}
 
+	/**
+	 * Returns the message boards stats users with the primary keys, keyed by primary key. Primary keys without a matching message boards stats user are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message boards stats users
+	 * @return the message boards stats users, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBStatsUser> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBStatsUser> map = new HashMap<Serializable, MBStatsUser>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBStatsUser mbStatsUser = fetchByPrimaryKey(primaryKey);
+
+			if (mbStatsUser != null) {
+				map.put(primaryKey, mbStatsUser);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBStatsUser mbStatsUser = (MBStatsUser)EntityCacheUtil.getResult(MBStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+					MBStatsUserImpl.class, primaryKey);
+
+			if (mbStatsUser == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbStatsUser != _nullMBStatsUser) {
+				map.put(primaryKey, mbStatsUser);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBSTATSUSER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBStatsUser mbStatsUser : (List<MBStatsUser>)q.list()) {
+					map.put(mbStatsUser.getPrimaryKeyObj(), mbStatsUser);
+
+					cacheResult(mbStatsUser);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBStatsUserModelImpl.ENTITY_CACHE_ENABLED,
+						MBStatsUserImpl.class, primaryKey, _nullMBStatsUser);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message boards stats users.
 	 *
@@ -2432,6 +2563,7 @@ public class MBStatsUserPersistenceImpl extends BasePersistenceImpl<MBStatsUser>
 	}
 
 	private static final String _SQL_SELECT_MBSTATSUSER = "SELECT mbStatsUser FROM MBStatsUser mbStatsUser";
+	private static final String _SQL_SELECT_MBSTATSUSER_WHERE_PKS_IN = "SELECT mbStatsUser FROM MBStatsUser mbStatsUser WHERE mbStatsUser.statsUserId IN (";
 	private static final String _SQL_SELECT_MBSTATSUSER_WHERE = "SELECT mbStatsUser FROM MBStatsUser mbStatsUser WHERE ";
 	private static final String _SQL_COUNT_MBSTATSUSER = "SELECT COUNT(mbStatsUser) FROM MBStatsUser mbStatsUser";
 	private static final String _SQL_COUNT_MBSTATSUSER_WHERE = "SELECT COUNT(mbStatsUser) FROM MBStatsUser mbStatsUser WHERE ";
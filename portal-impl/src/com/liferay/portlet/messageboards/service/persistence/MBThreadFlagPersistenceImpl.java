@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message boards thread flag service.
@@ -2618,15 +2622,35 @@ public class MBThreadFlagPersistenceImpl extends BasePersistenceImpl<MBThreadFla
 	 * @param mbThreadFlags the message boards thread flags
 	 */
 	public void cacheResult(List<MBThreadFlag> mbThreadFlags) {
+		Map<Serializable, MBThreadFlag> uncachedMbThreadFlags = new HashMap<Serializable, MBThreadFlag>();
+
 		for (MBThreadFlag mbThreadFlag : mbThreadFlags) {
-			if (EntityCacheUtil.getResult(
-						MBThreadFlagModelImpl.ENTITY_CACHE_ENABLED,
-						MBThreadFlagImpl.class, mbThreadFlag.getPrimaryKey()) == null) {
-				cacheResult(mbThreadFlag);
-			}
-			else {
-				mbThreadFlag.resetOriginalValues();
-			}
+			uncachedMbThreadFlags.put(mbThreadFlag.getPrimaryKeyObj(),
+				mbThreadFlag);
+		}
+
+		Map<Serializable, Serializable> cachedMbThreadFlags = EntityCacheUtil.getResults(MBThreadFlagModelImpl.ENTITY_CACHE_ENABLED,
+				MBThreadFlagImpl.class, uncachedMbThreadFlags.keySet());
+
+		for (Serializable primaryKey : cachedMbThreadFlags.keySet()) {
+			MBThreadFlag mbThreadFlag = uncachedMbThreadFlags.remove(primaryKey);
+
+			mbThreadFlag.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBThreadFlagModelImpl.ENTITY_CACHE_ENABLED,
+			MBThreadFlagImpl.class, uncachedMbThreadFlags);
+
+		for (MBThreadFlag mbThreadFlag : uncachedMbThreadFlags.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mbThreadFlag.getUuid(), mbThreadFlag.getGroupId() },
+				mbThreadFlag);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_U_T,
+				new Object[] { mbThreadFlag.getUserId(), mbThreadFlag.getThreadId() },
+				mbThreadFlag);
+
+			mbThreadFlag.resetOriginalValues();
 		}
 	}
 
@@ -2673,12 +2697,16 @@ public class MBThreadFlagPersistenceImpl extends BasePersistenceImpl<MBThreadFla
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbThreadFlags.size());
+
 		for (MBThreadFlag mbThreadFlag : mbThreadFlags) {
-			EntityCacheUtil.removeResult(MBThreadFlagModelImpl.ENTITY_CACHE_ENABLED,
-				MBThreadFlagImpl.class, mbThreadFlag.getPrimaryKey());
+			primaryKeys.add(mbThreadFlag.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbThreadFlag);
 		}
+
+		EntityCacheUtil.removeResults(MBThreadFlagModelImpl.ENTITY_CACHE_ENABLED,
+			MBThreadFlagImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBThreadFlag mbThreadFlag) {
@@ -3121,6 +3149,113 @@ public class MBThreadFlagPersistenceImpl extends BasePersistenceImpl<MBThreadFla
 		return fetchByPrimaryKey((Serializable)threadFlagId);
 	}
 
+	/**
+	 * Returns the message boards thread flags with the primary keys, keyed by primary key. Primary keys without a matching message boards thread flag are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message boards thread flags
+	 * @return the message boards thread flags, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBThreadFlag> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBThreadFlag> map = new HashMap<Serializable, MBThreadFlag>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBThreadFlag mbThreadFlag = fetchByPrimaryKey(primaryKey);
+
+			if (mbThreadFlag != null) {
+				map.put(primaryKey, mbThreadFlag);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBThreadFlag mbThreadFlag = (MBThreadFlag)EntityCacheUtil.getResult(MBThreadFlagModelImpl.ENTITY_CACHE_ENABLED,
+					MBThreadFlagImpl.class, primaryKey);
+
+			if (mbThreadFlag == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbThreadFlag != _nullMBThreadFlag) {
+				map.put(primaryKey, mbThreadFlag);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBTHREADFLAG_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBThreadFlag mbThreadFlag : (List<MBThreadFlag>)q.list()) {
+					map.put(mbThreadFlag.getPrimaryKeyObj(), mbThreadFlag);
+
+					cacheResult(mbThreadFlag);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBThreadFlagModelImpl.ENTITY_CACHE_ENABLED,
+						MBThreadFlagImpl.class, primaryKey, _nullMBThreadFlag);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message boards thread flags.
 	 *
@@ -3322,6 +3457,7 @@ public class MBThreadFlagPersistenceImpl extends BasePersistenceImpl<MBThreadFla
 	}
 
 	private static final String _SQL_SELECT_MBTHREADFLAG = "SELECT mbThreadFlag FROM MBThreadFlag mbThreadFlag";
+	private static final String _SQL_SELECT_MBTHREADFLAG_WHERE_PKS_IN = "SELECT mbThreadFlag FROM MBThreadFlag mbThreadFlag WHERE mbThreadFlag.threadFlagId IN (";
 	private static final String _SQL_SELECT_MBTHREADFLAG_WHERE = "SELECT mbThreadFlag FROM MBThreadFlag mbThreadFlag WHERE ";
 	private static final String _SQL_COUNT_MBTHREADFLAG = "SELECT COUNT(mbThreadFlag) FROM MBThreadFlag mbThreadFlag";
 	private static final String _SQL_COUNT_MBTHREADFLAG_WHERE = "SELECT COUNT(mbThreadFlag) FROM MBThreadFlag mbThreadFlag WHERE ";
@@ -52,7 +52,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the message boards thread service.
@@ -12640,15 +12644,32 @@ public class MBThreadPersistenceImpl extends BasePersistenceImpl<MBThread>
 	 * @param mbThreads the message boards threads
 	 */
 	public void cacheResult(List<MBThread> mbThreads) {
+		Map<Serializable, MBThread> uncachedMbThreads = new HashMap<Serializable, MBThread>();
+
 		for (MBThread mbThread : mbThreads) {
-			if (EntityCacheUtil.getResult(
-						MBThreadModelImpl.ENTITY_CACHE_ENABLED,
-						MBThreadImpl.class, mbThread.getPrimaryKey()) == null) {
-				cacheResult(mbThread);
-			}
-			else {
-				mbThread.resetOriginalValues();
-			}
+			uncachedMbThreads.put(mbThread.getPrimaryKeyObj(), mbThread);
+		}
+
+		Map<Serializable, Serializable> cachedMbThreads = EntityCacheUtil.getResults(MBThreadModelImpl.ENTITY_CACHE_ENABLED,
+				MBThreadImpl.class, uncachedMbThreads.keySet());
+
+		for (Serializable primaryKey : cachedMbThreads.keySet()) {
+			MBThread mbThread = uncachedMbThreads.remove(primaryKey);
+
+			mbThread.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MBThreadModelImpl.ENTITY_CACHE_ENABLED,
+			MBThreadImpl.class, uncachedMbThreads);
+
+		for (MBThread mbThread : uncachedMbThreads.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mbThread.getUuid(), mbThread.getGroupId() }, mbThread);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_ROOTMESSAGEID,
+				new Object[] { mbThread.getRootMessageId() }, mbThread);
+
+			mbThread.resetOriginalValues();
 		}
 	}
 
@@ -12695,12 +12716,16 @@ public class MBThreadPersistenceImpl extends BasePersistenceImpl<MBThread>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mbThreads.size());
+
 		for (MBThread mbThread : mbThreads) {
-			EntityCacheUtil.removeResult(MBThreadModelImpl.ENTITY_CACHE_ENABLED,
-				MBThreadImpl.class, mbThread.getPrimaryKey());
+			primaryKeys.add(mbThread.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mbThread);
 		}
+
+		EntityCacheUtil.removeResults(MBThreadModelImpl.ENTITY_CACHE_ENABLED,
+			MBThreadImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MBThread mbThread) {
@@ -13256,6 +13281,113 @@ public class MBThreadPersistenceImpl extends BasePersistenceImpl<MBThread>
 		return fetchByPrimaryKey((Serializable)threadId);
 	}
 
+	/**
+	 * Returns the message boards threads with the primary keys, keyed by primary key. Primary keys without a matching message boards thread are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the message boards threads
+	 * @return the message boards threads, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MBThread> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MBThread> map = new HashMap<Serializable, MBThread>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MBThread mbThread = fetchByPrimaryKey(primaryKey);
+
+			if (mbThread != null) {
+				map.put(primaryKey, mbThread);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MBThread mbThread = (MBThread)EntityCacheUtil.getResult(MBThreadModelImpl.ENTITY_CACHE_ENABLED,
+					MBThreadImpl.class, primaryKey);
+
+			if (mbThread == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mbThread != _nullMBThread) {
+				map.put(primaryKey, mbThread);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MBTHREAD_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MBThread mbThread : (List<MBThread>)q.list()) {
+					map.put(mbThread.getPrimaryKeyObj(), mbThread);
+
+					cacheResult(mbThread);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MBThreadModelImpl.ENTITY_CACHE_ENABLED,
+						MBThreadImpl.class, primaryKey, _nullMBThread);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the message boards threads.
 	 *
@@ -13456,6 +13588,7 @@ public class MBThreadPersistenceImpl extends BasePersistenceImpl<MBThread>
 	}
 
 	private static final String _SQL_SELECT_MBTHREAD = "SELECT mbThread FROM MBThread mbThread";
+	private static final String _SQL_SELECT_MBTHREAD_WHERE_PKS_IN = "SELECT mbThread FROM MBThread mbThread WHERE mbThread.threadId IN (";
 	private static final String _SQL_SELECT_MBTHREAD_WHERE = "SELECT mbThread FROM MBThread mbThread WHERE ";
 	private static final String _SQL_COUNT_MBTHREAD = "SELECT COUNT(mbThread) FROM MBThread mbThread";
 	private static final String _SQL_COUNT_MBTHREAD_WHERE = "SELECT COUNT(mbThread) FROM MBThread mbThread WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the m d r action service.
@@ -1924,15 +1928,30 @@ public class MDRActionPersistenceImpl extends BasePersistenceImpl<MDRAction>
 	 * @param mdrActions the m d r actions
 	 */
 	public void cacheResult(List<MDRAction> mdrActions) {
+		Map<Serializable, MDRAction> uncachedMdrActions = new HashMap<Serializable, MDRAction>();
+
 		for (MDRAction mdrAction : mdrActions) {
-			if (EntityCacheUtil.getResult(
-						MDRActionModelImpl.ENTITY_CACHE_ENABLED,
-						MDRActionImpl.class, mdrAction.getPrimaryKey()) == null) {
-				cacheResult(mdrAction);
-			}
-			else {
-				mdrAction.resetOriginalValues();
-			}
+			uncachedMdrActions.put(mdrAction.getPrimaryKeyObj(), mdrAction);
+		}
+
+		Map<Serializable, Serializable> cachedMdrActions = EntityCacheUtil.getResults(MDRActionModelImpl.ENTITY_CACHE_ENABLED,
+				MDRActionImpl.class, uncachedMdrActions.keySet());
+
+		for (Serializable primaryKey : cachedMdrActions.keySet()) {
+			MDRAction mdrAction = uncachedMdrActions.remove(primaryKey);
+
+			mdrAction.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MDRActionModelImpl.ENTITY_CACHE_ENABLED,
+			MDRActionImpl.class, uncachedMdrActions);
+
+		for (MDRAction mdrAction : uncachedMdrActions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mdrAction.getUuid(), mdrAction.getGroupId() },
+				mdrAction);
+
+			mdrAction.resetOriginalValues();
 		}
 	}
 
@@ -1979,12 +1998,16 @@ public class MDRActionPersistenceImpl extends BasePersistenceImpl<MDRAction>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mdrActions.size());
+
 		for (MDRAction mdrAction : mdrActions) {
-			EntityCacheUtil.removeResult(MDRActionModelImpl.ENTITY_CACHE_ENABLED,
-				MDRActionImpl.class, mdrAction.getPrimaryKey());
+			primaryKeys.add(mdrAction.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mdrAction);
 		}
+
+		EntityCacheUtil.removeResults(MDRActionModelImpl.ENTITY_CACHE_ENABLED,
+			MDRActionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MDRAction mdrAction) {
@@ -2378,6 +2401,113 @@ public class MDRActionPersistenceImpl extends BasePersistenceImpl<MDRAction>
 		return fetchByPrimaryKey((Serializable)actionId);
 	}
 
+	/**
+	 * Returns the m d r actions with the primary keys, keyed by primary key. Primary keys without a matching m d r action are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the m d r actions
+	 * @return the m d r actions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MDRAction> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MDRAction> map = new HashMap<Serializable, MDRAction>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MDRAction mdrAction = fetchByPrimaryKey(primaryKey);
+
+			if (mdrAction != null) {
+				map.put(primaryKey, mdrAction);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MDRAction mdrAction = (MDRAction)EntityCacheUtil.getResult(MDRActionModelImpl.ENTITY_CACHE_ENABLED,
+					MDRActionImpl.class, primaryKey);
+
+			if (mdrAction == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mdrAction != _nullMDRAction) {
+				map.put(primaryKey, mdrAction);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MDRACTION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MDRAction mdrAction : (List<MDRAction>)q.list()) {
+					map.put(mdrAction.getPrimaryKeyObj(), mdrAction);
+
+					cacheResult(mdrAction);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MDRActionModelImpl.ENTITY_CACHE_ENABLED,
+						MDRActionImpl.class, primaryKey, _nullMDRAction);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the m d r actions.
 	 *
@@ -2579,6 +2709,7 @@ public class MDRActionPersistenceImpl extends BasePersistenceImpl<MDRAction>
 	}
 
 	private static final String _SQL_SELECT_MDRACTION = "SELECT mdrAction FROM MDRAction mdrAction";
+	private static final String _SQL_SELECT_MDRACTION_WHERE_PKS_IN = "SELECT mdrAction FROM MDRAction mdrAction WHERE mdrAction.actionId IN (";
 	private static final String _SQL_SELECT_MDRACTION_WHERE = "SELECT mdrAction FROM MDRAction mdrAction WHERE ";
 	private static final String _SQL_COUNT_MDRACTION = "SELECT COUNT(mdrAction) FROM MDRAction mdrAction";
 	private static final String _SQL_COUNT_MDRACTION_WHERE = "SELECT COUNT(mdrAction) FROM MDRAction mdrAction WHERE ";
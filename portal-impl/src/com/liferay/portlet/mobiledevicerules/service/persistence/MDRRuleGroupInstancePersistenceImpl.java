@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the m d r rule group instance service.
@@ -4516,16 +4520,40 @@ public class MDRRuleGroupInstancePersistenceImpl extends BasePersistenceImpl<MDR
 	 * @param mdrRuleGroupInstances the m d r rule group instances
 	 */
 	public void cacheResult(List<MDRRuleGroupInstance> mdrRuleGroupInstances) {
+		Map<Serializable, MDRRuleGroupInstance> uncachedMdrRuleGroupInstances = new HashMap<Serializable, MDRRuleGroupInstance>();
+
 		for (MDRRuleGroupInstance mdrRuleGroupInstance : mdrRuleGroupInstances) {
-			if (EntityCacheUtil.getResult(
-						MDRRuleGroupInstanceModelImpl.ENTITY_CACHE_ENABLED,
-						MDRRuleGroupInstanceImpl.class,
-						mdrRuleGroupInstance.getPrimaryKey()) == null) {
-				cacheResult(mdrRuleGroupInstance);
-			}
-			else {
-				mdrRuleGroupInstance.resetOriginalValues();
-			}
+			uncachedMdrRuleGroupInstances.put(mdrRuleGroupInstance.getPrimaryKeyObj(),
+				mdrRuleGroupInstance);
+		}
+
+		Map<Serializable, Serializable> cachedMdrRuleGroupInstances = EntityCacheUtil.getResults(MDRRuleGroupInstanceModelImpl.ENTITY_CACHE_ENABLED,
+				MDRRuleGroupInstanceImpl.class, uncachedMdrRuleGroupInstances.keySet());
+
+		for (Serializable primaryKey : cachedMdrRuleGroupInstances.keySet()) {
+			MDRRuleGroupInstance mdrRuleGroupInstance = uncachedMdrRuleGroupInstances.remove(primaryKey);
+
+			mdrRuleGroupInstance.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MDRRuleGroupInstanceModelImpl.ENTITY_CACHE_ENABLED,
+			MDRRuleGroupInstanceImpl.class, uncachedMdrRuleGroupInstances);
+
+		for (MDRRuleGroupInstance mdrRuleGroupInstance : uncachedMdrRuleGroupInstances.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] {
+					mdrRuleGroupInstance.getUuid(),
+					mdrRuleGroupInstance.getGroupId()
+				}, mdrRuleGroupInstance);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C_R,
+				new Object[] {
+					mdrRuleGroupInstance.getClassNameId(),
+					mdrRuleGroupInstance.getClassPK(),
+					mdrRuleGroupInstance.getRuleGroupId()
+				}, mdrRuleGroupInstance);
+
+			mdrRuleGroupInstance.resetOriginalValues();
 		}
 	}
 
@@ -4572,13 +4600,16 @@ public class MDRRuleGroupInstancePersistenceImpl extends BasePersistenceImpl<MDR
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mdrRuleGroupInstances.size());
+
 		for (MDRRuleGroupInstance mdrRuleGroupInstance : mdrRuleGroupInstances) {
-			EntityCacheUtil.removeResult(MDRRuleGroupInstanceModelImpl.ENTITY_CACHE_ENABLED,
-				MDRRuleGroupInstanceImpl.class,
-				mdrRuleGroupInstance.getPrimaryKey());
+			primaryKeys.add(mdrRuleGroupInstance.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mdrRuleGroupInstance);
 		}
+
+		EntityCacheUtil.removeResults(MDRRuleGroupInstanceModelImpl.ENTITY_CACHE_ENABLED,
+			MDRRuleGroupInstanceImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -5089,6 +5120,113 @@ public class MDRRuleGroupInstancePersistenceImpl extends BasePersistenceImpl<MDR
 		return fetchByPrimaryKey((Serializable)ruleGroupInstanceId);
 	}
 
+	/**
+	 * Returns the m d r rule group instances with the primary keys, keyed by primary key. Primary keys without a matching m d r rule group instance are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the m d r rule group instances
+	 * @return the m d r rule group instances, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MDRRuleGroupInstance> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MDRRuleGroupInstance> map = new HashMap<Serializable, MDRRuleGroupInstance>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MDRRuleGroupInstance mdrRuleGroupInstance = fetchByPrimaryKey(primaryKey);
+
+			if (mdrRuleGroupInstance != null) {
+				map.put(primaryKey, mdrRuleGroupInstance);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MDRRuleGroupInstance mdrRuleGroupInstance = (MDRRuleGroupInstance)EntityCacheUtil.getResult(MDRRuleGroupInstanceModelImpl.ENTITY_CACHE_ENABLED,
+					MDRRuleGroupInstanceImpl.class, primaryKey);
+
+			if (mdrRuleGroupInstance == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mdrRuleGroupInstance != _nullMDRRuleGroupInstance) {
+				map.put(primaryKey, mdrRuleGroupInstance);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MDRRULEGROUPINSTANCE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MDRRuleGroupInstance mdrRuleGroupInstance : (List<MDRRuleGroupInstance>)q.list()) {
+					map.put(mdrRuleGroupInstance.getPrimaryKeyObj(), mdrRuleGroupInstance);
+
+					cacheResult(mdrRuleGroupInstance);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MDRRuleGroupInstanceModelImpl.ENTITY_CACHE_ENABLED,
+						MDRRuleGroupInstanceImpl.class, primaryKey, _nullMDRRuleGroupInstance);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the m d r rule group instances.
 	 *
@@ -5290,6 +5428,7 @@ public class MDRRuleGroupInstancePersistenceImpl extends BasePersistenceImpl<MDR
 	}
 
 	private static final String _SQL_SELECT_MDRRULEGROUPINSTANCE = "SELECT mdrRuleGroupInstance FROM MDRRuleGroupInstance mdrRuleGroupInstance";
+	private static final String _SQL_SELECT_MDRRULEGROUPINSTANCE_WHERE_PKS_IN = "SELECT mdrRuleGroupInstance FROM MDRRuleGroupInstance mdrRuleGroupInstance WHERE mdrRuleGroupInstance.ruleGroupInstanceId IN (";
 	private static final String _SQL_SELECT_MDRRULEGROUPINSTANCE_WHERE = "SELECT mdrRuleGroupInstance FROM MDRRuleGroupInstance mdrRuleGroupInstance WHERE ";
 	private static final String _SQL_COUNT_MDRRULEGROUPINSTANCE = "SELECT COUNT(mdrRuleGroupInstance) FROM MDRRuleGroupInstance mdrRuleGroupInstance";
 	private static final String _SQL_COUNT_MDRRULEGROUPINSTANCE_WHERE = "SELECT COUNT(mdrRuleGroupInstance) FROM MDRRuleGroupInstance mdrRuleGroupInstance WHERE ";
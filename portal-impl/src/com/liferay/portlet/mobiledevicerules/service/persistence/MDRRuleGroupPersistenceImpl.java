@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the m d r rule group service.
@@ -2273,15 +2277,31 @@ public class MDRRuleGroupPersistenceImpl extends BasePersistenceImpl<MDRRuleGrou
 	 * @param mdrRuleGroups the m d r rule groups
 	 */
 	public void cacheResult(List<MDRRuleGroup> mdrRuleGroups) {
+		Map<Serializable, MDRRuleGroup> uncachedMdrRuleGroups = new HashMap<Serializable, MDRRuleGroup>();
+
 		for (MDRRuleGroup mdrRuleGroup : mdrRuleGroups) {
-			if (EntityCacheUtil.getResult(
-						MDRRuleGroupModelImpl.ENTITY_CACHE_ENABLED,
-						MDRRuleGroupImpl.class, mdrRuleGroup.getPrimaryKey()) == null) {
-				cacheResult(mdrRuleGroup);
-			}
-			else {
-				mdrRuleGroup.resetOriginalValues();
-			}
+			uncachedMdrRuleGroups.put(mdrRuleGroup.getPrimaryKeyObj(),
+				mdrRuleGroup);
+		}
+
+		Map<Serializable, Serializable> cachedMdrRuleGroups = EntityCacheUtil.getResults(MDRRuleGroupModelImpl.ENTITY_CACHE_ENABLED,
+				MDRRuleGroupImpl.class, uncachedMdrRuleGroups.keySet());
+
+		for (Serializable primaryKey : cachedMdrRuleGroups.keySet()) {
+			MDRRuleGroup mdrRuleGroup = uncachedMdrRuleGroups.remove(primaryKey);
+
+			mdrRuleGroup.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MDRRuleGroupModelImpl.ENTITY_CACHE_ENABLED,
+			MDRRuleGroupImpl.class, uncachedMdrRuleGroups);
+
+		for (MDRRuleGroup mdrRuleGroup : uncachedMdrRuleGroups.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mdrRuleGroup.getUuid(), mdrRuleGroup.getGroupId() },
+				mdrRuleGroup);
+
+			mdrRuleGroup.resetOriginalValues();
 		}
 	}
 
@@ -2328,12 +2348,16 @@ public class MDRRuleGroupPersistenceImpl extends BasePersistenceImpl<MDRRuleGrou
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mdrRuleGroups.size());
+
 		for (MDRRuleGroup mdrRuleGroup : mdrRuleGroups) {
-			EntityCacheUtil.removeResult(MDRRuleGroupModelImpl.ENTITY_CACHE_ENABLED,
-				MDRRuleGroupImpl.class, mdrRuleGroup.getPrimaryKey());
+			primaryKeys.add(mdrRuleGroup.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mdrRuleGroup);
 		}
+
+		EntityCacheUtil.removeResults(MDRRuleGroupModelImpl.ENTITY_CACHE_ENABLED,
+			MDRRuleGroupImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MDRRuleGroup mdrRuleGroup) {
@@ -2723,6 +2747,113 @@ public class MDRRuleGroupPersistenceImpl extends BasePersistenceImpl<MDRRuleGrou
 		return fetchByPrimaryKey((Serializable)ruleGroupId);
 	}
 
+	/**
+	 * Returns the m d r rule groups with the primary keys, keyed by primary key. Primary keys without a matching m d r rule group are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the m d r rule groups
+	 * @return the m d r rule groups, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MDRRuleGroup> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MDRRuleGroup> map = new HashMap<Serializable, MDRRuleGroup>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MDRRuleGroup mdrRuleGroup = fetchByPrimaryKey(primaryKey);
+
+			if (mdrRuleGroup != null) {
+				map.put(primaryKey, mdrRuleGroup);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MDRRuleGroup mdrRuleGroup = (MDRRuleGroup)EntityCacheUtil.getResult(MDRRuleGroupModelImpl.ENTITY_CACHE_ENABLED,
+					MDRRuleGroupImpl.class, primaryKey);
+
+			if (mdrRuleGroup == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mdrRuleGroup != _nullMDRRuleGroup) {
+				map.put(primaryKey, mdrRuleGroup);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MDRRULEGROUP_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MDRRuleGroup mdrRuleGroup : (List<MDRRuleGroup>)q.list()) {
+					map.put(mdrRuleGroup.getPrimaryKeyObj(), mdrRuleGroup);
+
+					cacheResult(mdrRuleGroup);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MDRRuleGroupModelImpl.ENTITY_CACHE_ENABLED,
+						MDRRuleGroupImpl.class, primaryKey, _nullMDRRuleGroup);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the m d r rule groups.
 	 *
@@ -2924,6 +3055,7 @@ public class MDRRuleGroupPersistenceImpl extends BasePersistenceImpl<MDRRuleGrou
 	}
 
 	private static final String _SQL_SELECT_MDRRULEGROUP = "SELECT mdrRuleGroup FROM MDRRuleGroup mdrRuleGroup";
+	private static final String _SQL_SELECT_MDRRULEGROUP_WHERE_PKS_IN = "SELECT mdrRuleGroup FROM MDRRuleGroup mdrRuleGroup WHERE mdrRuleGroup.ruleGroupId IN (";
 	private static final String _SQL_SELECT_MDRRULEGROUP_WHERE = "SELECT mdrRuleGroup FROM MDRRuleGroup mdrRuleGroup WHERE ";
 	private static final String _SQL_COUNT_MDRRULEGROUP = "SELECT COUNT(mdrRuleGroup) FROM MDRRuleGroup mdrRuleGroup";
 	private static final String _SQL_COUNT_MDRRULEGROUP_WHERE = "SELECT COUNT(mdrRuleGroup) FROM MDRRuleGroup mdrRuleGroup WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the m d r rule service.
@@ -1909,15 +1913,29 @@ public class MDRRulePersistenceImpl extends BasePersistenceImpl<MDRRule>
 	 * @param mdrRules the m d r rules
 	 */
 	public void cacheResult(List<MDRRule> mdrRules) {
+		Map<Serializable, MDRRule> uncachedMdrRules = new HashMap<Serializable, MDRRule>();
+
 		for (MDRRule mdrRule : mdrRules) {
-			if (EntityCacheUtil.getResult(
-						MDRRuleModelImpl.ENTITY_CACHE_ENABLED,
-						MDRRuleImpl.class, mdrRule.getPrimaryKey()) == null) {
-				cacheResult(mdrRule);
-			}
-			else {
-				mdrRule.resetOriginalValues();
-			}
+			uncachedMdrRules.put(mdrRule.getPrimaryKeyObj(), mdrRule);
+		}
+
+		Map<Serializable, Serializable> cachedMdrRules = EntityCacheUtil.getResults(MDRRuleModelImpl.ENTITY_CACHE_ENABLED,
+				MDRRuleImpl.class, uncachedMdrRules.keySet());
+
+		for (Serializable primaryKey : cachedMdrRules.keySet()) {
+			MDRRule mdrRule = uncachedMdrRules.remove(primaryKey);
+
+			mdrRule.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(MDRRuleModelImpl.ENTITY_CACHE_ENABLED,
+			MDRRuleImpl.class, uncachedMdrRules);
+
+		for (MDRRule mdrRule : uncachedMdrRules.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { mdrRule.getUuid(), mdrRule.getGroupId() }, mdrRule);
+
+			mdrRule.resetOriginalValues();
 		}
 	}
 
@@ -1964,12 +1982,16 @@ public class MDRRulePersistenceImpl extends BasePersistenceImpl<MDRRule>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(mdrRules.size());
+
 		for (MDRRule mdrRule : mdrRules) {
-			EntityCacheUtil.removeResult(MDRRuleModelImpl.ENTITY_CACHE_ENABLED,
-				MDRRuleImpl.class, mdrRule.getPrimaryKey());
+			primaryKeys.add(mdrRule.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(mdrRule);
 		}
+
+		EntityCacheUtil.removeResults(MDRRuleModelImpl.ENTITY_CACHE_ENABLED,
+			MDRRuleImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(MDRRule mdrRule) {
@@ -2353,6 +2375,113 @@ public class MDRRulePersistenceImpl extends BasePersistenceImpl<MDRRule>
 		return fetchByPrimaryKey((Serializable)ruleId);
 	}
 
+	/**
+	 * Returns the m d r rules with the primary keys, keyed by primary key. Primary keys without a matching m d r rule are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the m d r rules
+	 * @return the m d r rules, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, MDRRule> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, MDRRule> map = new HashMap<Serializable, MDRRule>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			MDRRule mdrRule = fetchByPrimaryKey(primaryKey);
+
+			if (mdrRule != null) {
+				map.put(primaryKey, mdrRule);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			MDRRule mdrRule = (MDRRule)EntityCacheUtil.getResult(MDRRuleModelImpl.ENTITY_CACHE_ENABLED,
+					MDRRuleImpl.class, primaryKey);
+
+			if (mdrRule == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (mdrRule != _nullMDRRule) {
+				map.put(primaryKey, mdrRule);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_MDRRULE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (MDRRule mdrRule : (List<MDRRule>)q.list()) {
+					map.put(mdrRule.getPrimaryKeyObj(), mdrRule);
+
+					cacheResult(mdrRule);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(MDRRuleModelImpl.ENTITY_CACHE_ENABLED,
+						MDRRuleImpl.class, primaryKey, _nullMDRRule);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the m d r rules.
 	 *
@@ -2553,6 +2682,7 @@ public class MDRRulePersistenceImpl extends BasePersistenceImpl<MDRRule>
 	}
 
 	private static final String _SQL_SELECT_MDRRULE = "SELECT mdrRule FROM MDRRule mdrRule";
+	private static final String _SQL_SELECT_MDRRULE_WHERE_PKS_IN = "SELECT mdrRule FROM MDRRule mdrRule WHERE mdrRule.ruleId IN (";
 	private static final String _SQL_SELECT_MDRRULE_WHERE = "SELECT mdrRule FROM MDRRule mdrRule WHERE ";
 	private static final String _SQL_COUNT_MDRRULE = "SELECT COUNT(mdrRule) FROM MDRRule mdrRule";
 	private static final String _SQL_COUNT_MDRRULE_WHERE = "SELECT COUNT(mdrRule) FROM MDRRule mdrRule WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the polls choice service.
@@ -1359,15 +1363,31 @@ public class PollsChoicePersistenceImpl extends BasePersistenceImpl<PollsChoice>
 	 * @param pollsChoices the polls choices
 	 */
 	public void cacheResult(List<PollsChoice> pollsChoices) {
+		Map<Serializable, PollsChoice> uncachedPollsChoices = new HashMap<Serializable, PollsChoice>();
+
 		for (PollsChoice pollsChoice : pollsChoices) {
-			if (EntityCacheUtil.getResult(
-						PollsChoiceModelImpl.ENTITY_CACHE_ENABLED,
-						PollsChoiceImpl.class, pollsChoice.getPrimaryKey()) == null) {
-				cacheResult(pollsChoice);
-			}
-			else {
-				pollsChoice.resetOriginalValues();
-			}
+			uncachedPollsChoices.put(pollsChoice.getPrimaryKeyObj(),
+				pollsChoice);
+		}
+
+		Map<Serializable, Serializable> cachedPollsChoices = EntityCacheUtil.getResults(PollsChoiceModelImpl.ENTITY_CACHE_ENABLED,
+				PollsChoiceImpl.class, uncachedPollsChoices.keySet());
+
+		for (Serializable primaryKey : cachedPollsChoices.keySet()) {
+			PollsChoice pollsChoice = uncachedPollsChoices.remove(primaryKey);
+
+			pollsChoice.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PollsChoiceModelImpl.ENTITY_CACHE_ENABLED,
+			PollsChoiceImpl.class, uncachedPollsChoices);
+
+		for (PollsChoice pollsChoice : uncachedPollsChoices.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_Q_N,
+				new Object[] { pollsChoice.getQuestionId(), pollsChoice.getName() },
+				pollsChoice);
+
+			pollsChoice.resetOriginalValues();
 		}
 	}
 
@@ -1414,12 +1434,16 @@ public class PollsChoicePersistenceImpl extends BasePersistenceImpl<PollsChoice>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(pollsChoices.size());
+
 		for (PollsChoice pollsChoice : pollsChoices) {
-			EntityCacheUtil.removeResult(PollsChoiceModelImpl.ENTITY_CACHE_ENABLED,
-				PollsChoiceImpl.class, pollsChoice.getPrimaryKey());
+			primaryKeys.add(pollsChoice.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(pollsChoice);
 		}
+
+		EntityCacheUtil.removeResults(PollsChoiceModelImpl.ENTITY_CACHE_ENABLED,
+			PollsChoiceImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PollsChoice pollsChoice) {
@@ -1785,6 +1809,113 @@ public class PollsChoicePersistenceImpl extends BasePersistenceImpl<PollsChoice>
 		return fetchByPrimaryKey((Serializable)choiceId);
 	}
 
+	/**
+	 * Returns the polls choices with the primary keys, keyed by primary key. Primary keys without a matching polls choice are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the polls choices
+	 * @return the polls choices, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PollsChoice> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PollsChoice> map = new HashMap<Serializable, PollsChoice>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PollsChoice pollsChoice = fetchByPrimaryKey(primaryKey);
+
+			if (pollsChoice != null) {
+				map.put(primaryKey, pollsChoice);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PollsChoice pollsChoice = (PollsChoice)EntityCacheUtil.getResult(PollsChoiceModelImpl.ENTITY_CACHE_ENABLED,
+					PollsChoiceImpl.class, primaryKey);
+
+			if (pollsChoice == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (pollsChoice != _nullPollsChoice) {
+				map.put(primaryKey, pollsChoice);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_POLLSCHOICE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PollsChoice pollsChoice : (List<PollsChoice>)q.list()) {
+					map.put(pollsChoice.getPrimaryKeyObj(), pollsChoice);
+
+					cacheResult(pollsChoice);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PollsChoiceModelImpl.ENTITY_CACHE_ENABLED,
+						PollsChoiceImpl.class, primaryKey, _nullPollsChoice);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the polls choices.
 	 *
@@ -1986,6 +2117,7 @@ public class PollsChoicePersistenceImpl extends BasePersistenceImpl<PollsChoice>
 	}
 
 	private static final String _SQL_SELECT_POLLSCHOICE = "SELECT pollsChoice FROM PollsChoice pollsChoice";
+	private static final String _SQL_SELECT_POLLSCHOICE_WHERE_PKS_IN = "SELECT pollsChoice FROM PollsChoice pollsChoice WHERE pollsChoice.choiceId IN (";
 	private static final String _SQL_SELECT_POLLSCHOICE_WHERE = "SELECT pollsChoice FROM PollsChoice pollsChoice WHERE ";
 	private static final String _SQL_COUNT_POLLSCHOICE = "SELECT COUNT(pollsChoice) FROM PollsChoice pollsChoice";
 	private static final String _SQL_COUNT_POLLSCHOICE_WHERE = "SELECT COUNT(pollsChoice) FROM PollsChoice pollsChoice WHERE ";
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the polls question service.
@@ -2285,15 +2289,31 @@ public class PollsQuestionPersistenceImpl extends BasePersistenceImpl<PollsQuest
 	 * @param pollsQuestions the polls questions
 	 */
 	public void cacheResult(List<PollsQuestion> pollsQuestions) {
+		Map<Serializable, PollsQuestion> uncachedPollsQuestions = new HashMap<Serializable, PollsQuestion>();
+
 		for (PollsQuestion pollsQuestion : pollsQuestions) {
-			if (EntityCacheUtil.getResult(
-						PollsQuestionModelImpl.ENTITY_CACHE_ENABLED,
-						PollsQuestionImpl.class, pollsQuestion.getPrimaryKey()) == null) {
-				cacheResult(pollsQuestion);
-			}
-			else {
-				pollsQuestion.resetOriginalValues();
-			}
+			uncachedPollsQuestions.put(pollsQuestion.getPrimaryKeyObj(),
+				pollsQuestion);
+		}
+
+		Map<Serializable, Serializable> cachedPollsQuestions = EntityCacheUtil.getResults(PollsQuestionModelImpl.ENTITY_CACHE_ENABLED,
+				PollsQuestionImpl.class, uncachedPollsQuestions.keySet());
+
+		for (Serializable primaryKey : cachedPollsQuestions.keySet()) {
+			PollsQuestion pollsQuestion = uncachedPollsQuestions.remove(primaryKey);
+
+			pollsQuestion.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PollsQuestionModelImpl.ENTITY_CACHE_ENABLED,
+			PollsQuestionImpl.class, uncachedPollsQuestions);
+
+		for (PollsQuestion pollsQuestion : uncachedPollsQuestions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { pollsQuestion.getUuid(), pollsQuestion.getGroupId() },
+				pollsQuestion);
+
+			pollsQuestion.resetOriginalValues();
 		}
 	}
 
@@ -2340,12 +2360,16 @@ public class PollsQuestionPersistenceImpl extends BasePersistenceImpl<PollsQuest
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(pollsQuestions.size());
+
 		for (PollsQuestion pollsQuestion : pollsQuestions) {
-			EntityCacheUtil.removeResult(PollsQuestionModelImpl.ENTITY_CACHE_ENABLED,
-				PollsQuestionImpl.class, pollsQuestion.getPrimaryKey());
+			primaryKeys.add(pollsQuestion.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(pollsQuestion);
 		}
+
+		EntityCacheUtil.removeResults(PollsQuestionModelImpl.ENTITY_CACHE_ENABLED,
+			PollsQuestionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PollsQuestion pollsQuestion) {
@@ -2738,6 +2762,113 @@ public class PollsQuestionPersistenceImpl extends BasePersistenceImpl<PollsQuest
 		return fetchByPrimaryKey((Serializable)questionId);
 	}
 
+	/**
+	 * Returns the polls questions with the primary keys, keyed by primary key. Primary keys without a matching polls question are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the polls questions
+	 * @return the polls questions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PollsQuestion> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PollsQuestion> map = new HashMap<Serializable, PollsQuestion>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PollsQuestion pollsQuestion = fetchByPrimaryKey(primaryKey);
+
+			if (pollsQuestion != null) {
+				map.put(primaryKey, pollsQuestion);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PollsQuestion pollsQuestion = (PollsQuestion)EntityCacheUtil.getResult(PollsQuestionModelImpl.ENTITY_CACHE_ENABLED,
+					PollsQuestionImpl.class, primaryKey);
+
+			if (pollsQuestion == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (pollsQuestion != _nullPollsQuestion) {
+				map.put(primaryKey, pollsQuestion);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_POLLSQUESTION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PollsQuestion pollsQuestion : (List<PollsQuestion>)q.list()) {
+					map.put(pollsQuestion.getPrimaryKeyObj(), pollsQuestion);
+
+					cacheResult(pollsQuestion);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PollsQuestionModelImpl.ENTITY_CACHE_ENABLED,
+						PollsQuestionImpl.class, primaryKey, _nullPollsQuestion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the polls questions.
 	 *
@@ -2939,6 +3070,7 @@ public class PollsQuestionPersistenceImpl extends BasePersistenceImpl<PollsQuest
 	}
 
 	private static final String _SQL_SELECT_POLLSQUESTION = "SELECT pollsQuestion FROM PollsQuestion pollsQuestion";
+	private static final String _SQL_SELECT_POLLSQUESTION_WHERE_PKS_IN = "SELECT pollsQuestion FROM PollsQuestion pollsQuestion WHERE pollsQuestion.questionId IN (";
 	private static final String _SQL_SELECT_POLLSQUESTION_WHERE = "SELECT pollsQuestion FROM PollsQuestion pollsQuestion WHERE ";
 	private static final String _SQL_COUNT_POLLSQUESTION = "SELECT COUNT(pollsQuestion) FROM PollsQuestion pollsQuestion";
 	private static final String _SQL_COUNT_POLLSQUESTION_WHERE = "SELECT COUNT(pollsQuestion) FROM PollsQuestion pollsQuestion WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the polls vote service.
@@ -2619,15 +2623,34 @@ public class PollsVotePersistenceImpl extends BasePersistenceImpl<PollsVote>
 	 * @param pollsVotes the polls votes
 	 */
 	public void cacheResult(List<PollsVote> pollsVotes) {
+		Map<Serializable, PollsVote> uncachedPollsVotes = new HashMap<Serializable, PollsVote>();
+
 		for (PollsVote pollsVote : pollsVotes) {
-			if (EntityCacheUtil.getResult(
-						PollsVoteModelImpl.ENTITY_CACHE_ENABLED,
-						PollsVoteImpl.class, pollsVote.getPrimaryKey()) == null) {
-				cacheResult(pollsVote);
-			}
-			else {
-				pollsVote.resetOriginalValues();
-			}
+			uncachedPollsVotes.put(pollsVote.getPrimaryKeyObj(), pollsVote);
+		}
+
+		Map<Serializable, Serializable> cachedPollsVotes = EntityCacheUtil.getResults(PollsVoteModelImpl.ENTITY_CACHE_ENABLED,
+				PollsVoteImpl.class, uncachedPollsVotes.keySet());
+
+		for (Serializable primaryKey : cachedPollsVotes.keySet()) {
+			PollsVote pollsVote = uncachedPollsVotes.remove(primaryKey);
+
+			pollsVote.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(PollsVoteModelImpl.ENTITY_CACHE_ENABLED,
+			PollsVoteImpl.class, uncachedPollsVotes);
+
+		for (PollsVote pollsVote : uncachedPollsVotes.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { pollsVote.getUuid(), pollsVote.getGroupId() },
+				pollsVote);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_Q_U,
+				new Object[] { pollsVote.getQuestionId(), pollsVote.getUserId() },
+				pollsVote);
+
+			pollsVote.resetOriginalValues();
 		}
 	}
 
@@ -2674,12 +2697,16 @@ public class PollsVotePersistenceImpl extends BasePersistenceImpl<PollsVote>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(pollsVotes.size());
+
 		for (PollsVote pollsVote : pollsVotes) {
-			EntityCacheUtil.removeResult(PollsVoteModelImpl.ENTITY_CACHE_ENABLED,
-				PollsVoteImpl.class, pollsVote.getPrimaryKey());
+			primaryKeys.add(pollsVote.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(pollsVote);
 		}
+
+		EntityCacheUtil.removeResults(PollsVoteModelImpl.ENTITY_CACHE_ENABLED,
+			PollsVoteImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(PollsVote pollsVote) {
@@ -3120,6 +3147,113 @@ public class PollsVotePersistenceImpl extends BasePersistenceImpl<PollsVote>
 		return fetchByPrimaryKey((Serializable)voteId);
 	}
 
+	/**
+	 * Returns the polls votes with the primary keys, keyed by primary key. Primary keys without a matching polls vote are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the polls votes
+	 * @return the polls votes, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, PollsVote> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, PollsVote> map = new HashMap<Serializable, PollsVote>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			PollsVote pollsVote = fetchByPrimaryKey(primaryKey);
+
+			if (pollsVote != null) {
+				map.put(primaryKey, pollsVote);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			PollsVote pollsVote = (PollsVote)EntityCacheUtil.getResult(PollsVoteModelImpl.ENTITY_CACHE_ENABLED,
+					PollsVoteImpl.class, primaryKey);
+
+			if (pollsVote == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (pollsVote != _nullPollsVote) {
+				map.put(primaryKey, pollsVote);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_POLLSVOTE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (PollsVote pollsVote : (List<PollsVote>)q.list()) {
+					map.put(pollsVote.getPrimaryKeyObj(), pollsVote);
+
+					cacheResult(pollsVote);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(PollsVoteModelImpl.ENTITY_CACHE_ENABLED,
+						PollsVoteImpl.class, primaryKey, _nullPollsVote);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the polls votes.
 	 *
@@ -3321,6 +3455,7 @@ public class PollsVotePersistenceImpl extends BasePersistenceImpl<PollsVote>
 	}
 
 	private static final String _SQL_SELECT_POLLSVOTE = "SELECT pollsVote FROM PollsVote pollsVote";
+	private static final String _SQL_SELECT_POLLSVOTE_WHERE_PKS_IN = "SELECT pollsVote FROM PollsVote pollsVote WHERE pollsVote.voteId IN (";
 	private static final String _SQL_SELECT_POLLSVOTE_WHERE = "SELECT pollsVote FROM PollsVote pollsVote WHERE ";
 	private static final String _SQL_COUNT_POLLSVOTE = "SELECT COUNT(pollsVote) FROM PollsVote pollsVote";
 	private static final String _SQL_COUNT_POLLSVOTE_WHERE = "SELECT COUNT(pollsVote) FROM PollsVote pollsVote WHERE ";
@@ -30,7 +30,7 @@ import com.liferay.portal.service.permission.PortletPermissionUtil;
 import com.liferay.portal.struts.JSONAction;
 import com.liferay.portal.theme.ThemeDisplay;
 import com.liferay.portal.util.WebKeys;
-import com.liferay.portlet.InvokerPortletImpl;
+import com.liferay.portlet.PortletFragmentCacheUtil;
 import com.liferay.portlet.PortletPreferencesFactoryUtil;
 
 import java.util.Locale;
@@ -39,7 +39,6 @@ import javax.portlet.PortletPreferences;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 
 import org.apache.struts.action.ActionForm;
 import org.apache.struts.action.ActionMapping;
@@ -56,8 +55,6 @@ public class UpdateLookAndFeelAction extends JSONAction {
 			HttpServletResponse response)
 		throws Exception {
 
-		HttpSession session = request.getSession();
-
 		ThemeDisplay themeDisplay = (ThemeDisplay)request.getAttribute(
 			WebKeys.THEME_DISPLAY);
 
@@ -153,9 +150,7 @@ public class UpdateLookAndFeelAction extends JSONAction {
 
 		portletSetup.store();
 
-		InvokerPortletImpl.clearResponse(
-			session, layout.getPrimaryKey(), portletId,
-			LanguageUtil.getLanguageId(request));
+		PortletFragmentCacheUtil.clearCache(layout.getPlid(), portletId);
 
 		return null;
 	}
@@ -23,14 +23,13 @@ import com.liferay.portal.service.permission.PortletPermissionUtil;
 import com.liferay.portal.struts.JSONAction;
 import com.liferay.portal.theme.ThemeDisplay;
 import com.liferay.portal.util.WebKeys;
-import com.liferay.portlet.InvokerPortletImpl;
+import com.liferay.portlet.PortletFragmentCacheUtil;
 import com.liferay.portlet.PortletPreferencesFactoryUtil;
 
 import javax.portlet.PortletPreferences;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 
 import org.apache.struts.action.ActionForm;
 import org.apache.struts.action.ActionMapping;
@@ -46,8 +45,6 @@ public class UpdateTitleAction extends JSONAction {
 			HttpServletResponse response)
 		throws Exception {
 
-		HttpSession session = request.getSession();
-
 		ThemeDisplay themeDisplay = (ThemeDisplay)request.getAttribute(
 			WebKeys.THEME_DISPLAY);
 
@@ -77,9 +74,7 @@ public class UpdateTitleAction extends JSONAction {
 
 		portletSetup.store();
 
-		InvokerPortletImpl.clearResponse(
-			session, layout.getPrimaryKey(), portletId,
-			LanguageUtil.getLanguageId(request));
+		PortletFragmentCacheUtil.clearCache(layout.getPlid(), portletId);
 
 		return null;
 	}
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the ratings entry service.
@@ -1425,15 +1429,33 @@ public class RatingsEntryPersistenceImpl extends BasePersistenceImpl<RatingsEntr
 	 * @param ratingsEntries the ratings entries
 	 */
 	public void cacheResult(List<RatingsEntry> ratingsEntries) {
+		Map<Serializable, RatingsEntry> uncachedRatingsEntries = new HashMap<Serializable, RatingsEntry>();
+
 		for (RatingsEntry ratingsEntry : ratingsEntries) {
-			if (EntityCacheUtil.getResult(
-						RatingsEntryModelImpl.ENTITY_CACHE_ENABLED,
-						RatingsEntryImpl.class, ratingsEntry.getPrimaryKey()) == null) {
-				cacheResult(ratingsEntry);
-			}
-			else {
-				ratingsEntry.resetOriginalValues();
-			}
+			uncachedRatingsEntries.put(ratingsEntry.getPrimaryKeyObj(),
+				ratingsEntry);
+		}
+
+		Map<Serializable, Serializable> cachedRatingsEntries = EntityCacheUtil.getResults(RatingsEntryModelImpl.ENTITY_CACHE_ENABLED,
+				RatingsEntryImpl.class, uncachedRatingsEntries.keySet());
+
+		for (Serializable primaryKey : cachedRatingsEntries.keySet()) {
+			RatingsEntry ratingsEntry = uncachedRatingsEntries.remove(primaryKey);
+
+			ratingsEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(RatingsEntryModelImpl.ENTITY_CACHE_ENABLED,
+			RatingsEntryImpl.class, uncachedRatingsEntries);
+
+		for (RatingsEntry ratingsEntry : uncachedRatingsEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_U_C_C,
+				new Object[] {
+					ratingsEntry.getUserId(), ratingsEntry.getClassNameId(),
+					ratingsEntry.getClassPK()
+				}, ratingsEntry);
+
+			ratingsEntry.resetOriginalValues();
 		}
 	}
 
@@ -1480,12 +1502,16 @@ public class RatingsEntryPersistenceImpl extends BasePersistenceImpl<RatingsEntr
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ratingsEntries.size());
+
 		for (RatingsEntry ratingsEntry : ratingsEntries) {
-			EntityCacheUtil.removeResult(RatingsEntryModelImpl.ENTITY_CACHE_ENABLED,
-				RatingsEntryImpl.class, ratingsEntry.getPrimaryKey());
+			primaryKeys.add(ratingsEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ratingsEntry);
 		}
+
+		EntityCacheUtil.removeResults(RatingsEntryModelImpl.ENTITY_CACHE_ENABLED,
+			RatingsEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(RatingsEntry ratingsEntry) {
@@ -1857,6 +1883,113 @@ public class RatingsEntryPersistenceImpl extends BasePersistenceImpl<RatingsEntr
 		return fetchByPrimaryKey((Serializable)entryId);
 	}
 
+	/**
+	 * Returns the ratings entries with the primary keys, keyed by primary key. Primary keys without a matching ratings entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the ratings entries
+	 * @return the ratings entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, RatingsEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, RatingsEntry> map = new HashMap<Serializable, RatingsEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			RatingsEntry ratingsEntry = fetchByPrimaryKey(primaryKey);
+
+			if (ratingsEntry != null) {
+				map.put(primaryKey, ratingsEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			RatingsEntry ratingsEntry = (RatingsEntry)EntityCacheUtil.getResult(RatingsEntryModelImpl.ENTITY_CACHE_ENABLED,
+					RatingsEntryImpl.class, primaryKey);
+
+			if (ratingsEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ratingsEntry != _nullRatingsEntry) {
+				map.put(primaryKey, ratingsEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RATINGSENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (RatingsEntry ratingsEntry : (List<RatingsEntry>)q.list()) {
+					map.put(ratingsEntry.getPrimaryKeyObj(), ratingsEntry);
+
+					cacheResult(ratingsEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(RatingsEntryModelImpl.ENTITY_CACHE_ENABLED,
+						RatingsEntryImpl.class, primaryKey, _nullRatingsEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the ratings entries.
 	 *
@@ -2058,6 +2191,7 @@ public class RatingsEntryPersistenceImpl extends BasePersistenceImpl<RatingsEntr
 	}
 
 	private static final String _SQL_SELECT_RATINGSENTRY = "SELECT ratingsEntry FROM RatingsEntry ratingsEntry";
+	private static final String _SQL_SELECT_RATINGSENTRY_WHERE_PKS_IN = "SELECT ratingsEntry FROM RatingsEntry ratingsEntry WHERE ratingsEntry.entryId IN (";
 	private static final String _SQL_SELECT_RATINGSENTRY_WHERE = "SELECT ratingsEntry FROM RatingsEntry ratingsEntry WHERE ";
 	private static final String _SQL_COUNT_RATINGSENTRY = "SELECT COUNT(ratingsEntry) FROM RatingsEntry ratingsEntry";
 	private static final String _SQL_COUNT_RATINGSENTRY_WHERE = "SELECT COUNT(ratingsEntry) FROM RatingsEntry ratingsEntry WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the ratings stats service.
@@ -331,15 +335,32 @@ public class RatingsStatsPersistenceImpl extends BasePersistenceImpl<RatingsStat
 	 * @param ratingsStatses the ratings statses
 	 */
 	public void cacheResult(List<RatingsStats> ratingsStatses) {
+		Map<Serializable, RatingsStats> uncachedRatingsStatses = new HashMap<Serializable, RatingsStats>();
+
 		for (RatingsStats ratingsStats : ratingsStatses) {
-			if (EntityCacheUtil.getResult(
-						RatingsStatsModelImpl.ENTITY_CACHE_ENABLED,
-						RatingsStatsImpl.class, ratingsStats.getPrimaryKey()) == null) {
-				cacheResult(ratingsStats);
-			}
-			else {
-				ratingsStats.resetOriginalValues();
-			}
+			uncachedRatingsStatses.put(ratingsStats.getPrimaryKeyObj(),
+				ratingsStats);
+		}
+
+		Map<Serializable, Serializable> cachedRatingsStatses = EntityCacheUtil.getResults(RatingsStatsModelImpl.ENTITY_CACHE_ENABLED,
+				RatingsStatsImpl.class, uncachedRatingsStatses.keySet());
+
+		for (Serializable primaryKey : cachedRatingsStatses.keySet()) {
+			RatingsStats ratingsStats = uncachedRatingsStatses.remove(primaryKey);
+
+			ratingsStats.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(RatingsStatsModelImpl.ENTITY_CACHE_ENABLED,
+			RatingsStatsImpl.class, uncachedRatingsStatses);
+
+		for (RatingsStats ratingsStats : uncachedRatingsStatses.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C,
+				new Object[] {
+					ratingsStats.getClassNameId(), ratingsStats.getClassPK()
+				}, ratingsStats);
+
+			ratingsStats.resetOriginalValues();
 		}
 	}
 
@@ -386,12 +407,16 @@ public class RatingsStatsPersistenceImpl extends BasePersistenceImpl<RatingsStat
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(ratingsStatses.size());
+
 		for (RatingsStats ratingsStats : ratingsStatses) {
-			EntityCacheUtil.removeResult(RatingsStatsModelImpl.ENTITY_CACHE_ENABLED,
-				RatingsStatsImpl.class, ratingsStats.getPrimaryKey());
+			primaryKeys.add(ratingsStats.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(ratingsStats);
 		}
+
+		EntityCacheUtil.removeResults(RatingsStatsModelImpl.ENTITY_CACHE_ENABLED,
+			RatingsStatsImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(RatingsStats ratingsStats) {
@@ -708,6 +733,113 @@ public class RatingsStatsPersistenceImpl extends BasePersistenceImpl<RatingsStat
 		return fetchByPrimaryKey((Serializable)statsId);
 	}
 
+	/**
+	 * Returns the ratings statses with the primary keys, keyed by primary key. Primary keys without a matching ratings stats are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the ratings statses
+	 * @return the ratings statses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, RatingsStats> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, RatingsStats> map = new HashMap<Serializable, RatingsStats>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			RatingsStats ratingsStats = fetchByPrimaryKey(primaryKey);
+
+			if (ratingsStats != null) {
+				map.put(primaryKey, ratingsStats);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			RatingsStats ratingsStats = (RatingsStats)EntityCacheUtil.getResult(RatingsStatsModelImpl.ENTITY_CACHE_ENABLED,
+					RatingsStatsImpl.class, primaryKey);
+
+			if (ratingsStats == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (ratingsStats != _nullRatingsStats) {
+				map.put(primaryKey, ratingsStats);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RATINGSSTATS_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (RatingsStats ratingsStats : (List<RatingsStats>)q.list()) {
+					map.put(ratingsStats.getPrimaryKeyObj(), ratingsStats);
+
+					cacheResult(ratingsStats);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(RatingsStatsModelImpl.ENTITY_CACHE_ENABLED,
+						RatingsStatsImpl.class, primaryKey, _nullRatingsStats);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the ratings statses.
 	 *
@@ -909,6 +1041,7 @@ public class RatingsStatsPersistenceImpl extends BasePersistenceImpl<RatingsStat
 	}
 
 	private static final String _SQL_SELECT_RATINGSSTATS = "SELECT ratingsStats FROM RatingsStats ratingsStats";
+	private static final String _SQL_SELECT_RATINGSSTATS_WHERE_PKS_IN = "SELECT ratingsStats FROM RatingsStats ratingsStats WHERE ratingsStats.statsId IN (";
 	private static final String _SQL_SELECT_RATINGSSTATS_WHERE = "SELECT ratingsStats FROM RatingsStats ratingsStats WHERE ";
 	private static final String _SQL_COUNT_RATINGSSTATS = "SELECT COUNT(ratingsStats) FROM RatingsStats ratingsStats";
 	private static final String _SQL_COUNT_RATINGSSTATS_WHERE = "SELECT COUNT(ratingsStats) FROM RatingsStats ratingsStats WHERE ";
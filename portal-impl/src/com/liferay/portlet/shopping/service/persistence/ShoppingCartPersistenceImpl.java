@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping cart service.
@@ -1278,15 +1282,31 @@ public class ShoppingCartPersistenceImpl extends BasePersistenceImpl<ShoppingCar
 	 * @param shoppingCarts the shopping carts
 	 */
 	public void cacheResult(List<ShoppingCart> shoppingCarts) {
+		Map<Serializable, ShoppingCart> uncachedShoppingCarts = new HashMap<Serializable, ShoppingCart>();
+
 		for (ShoppingCart shoppingCart : shoppingCarts) {
-			if (EntityCacheUtil.getResult(
-						ShoppingCartModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingCartImpl.class, shoppingCart.getPrimaryKey()) == null) {
-				cacheResult(shoppingCart);
-			}
-			else {
-				shoppingCart.resetOriginalValues();
-			}
+			uncachedShoppingCarts.put(shoppingCart.getPrimaryKeyObj(),
+				shoppingCart);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingCarts = EntityCacheUtil.getResults(ShoppingCartModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingCartImpl.class, uncachedShoppingCarts.keySet());
+
+		for (Serializable primaryKey : cachedShoppingCarts.keySet()) {
+			ShoppingCart shoppingCart = uncachedShoppingCarts.remove(primaryKey);
+
+			shoppingCart.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingCartModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingCartImpl.class, uncachedShoppingCarts);
+
+		for (ShoppingCart shoppingCart : uncachedShoppingCarts.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_U,
+				new Object[] { shoppingCart.getGroupId(), shoppingCart.getUserId() },
+				shoppingCart);
+
+			shoppingCart.resetOriginalValues();
 		}
 	}
 
@@ -1333,12 +1353,16 @@ public class ShoppingCartPersistenceImpl extends BasePersistenceImpl<ShoppingCar
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingCarts.size());
+
 		for (ShoppingCart shoppingCart : shoppingCarts) {
-			EntityCacheUtil.removeResult(ShoppingCartModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingCartImpl.class, shoppingCart.getPrimaryKey());
+			primaryKeys.add(shoppingCart.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(shoppingCart);
 		}
+
+		EntityCacheUtil.removeResults(ShoppingCartModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingCartImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ShoppingCart shoppingCart) {
@@ -1698,6 +1722,113 @@ public class ShoppingCartPersistenceImpl extends BasePersistenceImpl<ShoppingCar
 		return fetchByPrimaryKey((Serializable)cartId);
 	}
 
+	/**
+	 * Returns the shopping carts with the primary keys, keyed by primary key. Primary keys without a matching shopping cart are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping carts
+	 * @return the shopping carts, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingCart> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingCart> map = new HashMap<Serializable, ShoppingCart>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingCart shoppingCart = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingCart != null) {
+				map.put(primaryKey, shoppingCart);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingCart shoppingCart = (ShoppingCart)EntityCacheUtil.getResult(ShoppingCartModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingCartImpl.class, primaryKey);
+
+			if (shoppingCart == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingCart != _nullShoppingCart) {
+				map.put(primaryKey, shoppingCart);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGCART_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingCart shoppingCart : (List<ShoppingCart>)q.list()) {
+					map.put(shoppingCart.getPrimaryKeyObj(), shoppingCart);
+
+					cacheResult(shoppingCart);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingCartModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingCartImpl.class, primaryKey, _nullShoppingCart);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping carts.
 	 *
@@ -1899,6 +2030,7 @@ public class ShoppingCartPersistenceImpl extends BasePersistenceImpl<ShoppingCar
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGCART = "SELECT shoppingCart FROM ShoppingCart shoppingCart";
+	private static final String _SQL_SELECT_SHOPPINGCART_WHERE_PKS_IN = "SELECT shoppingCart FROM ShoppingCart shoppingCart WHERE shoppingCart.cartId IN (";
 	private static final String _SQL_SELECT_SHOPPINGCART_WHERE = "SELECT shoppingCart FROM ShoppingCart shoppingCart WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGCART = "SELECT COUNT(shoppingCart) FROM ShoppingCart shoppingCart";
 	private static final String _SQL_COUNT_SHOPPINGCART_WHERE = "SELECT COUNT(shoppingCart) FROM ShoppingCart shoppingCart WHERE ";
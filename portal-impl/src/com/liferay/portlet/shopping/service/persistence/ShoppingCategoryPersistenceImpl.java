@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping category service.
@@ -1841,16 +1845,27 @@ public class ShoppingCategoryPersistenceImpl extends BasePersistenceImpl<Shoppin
 	 * @param shoppingCategories the shopping categories
 	 */
 	public void cacheResult(List<ShoppingCategory> shoppingCategories) {
+		Map<Serializable, ShoppingCategory> uncachedShoppingCategories = new HashMap<Serializable, ShoppingCategory>();
+
 		for (ShoppingCategory shoppingCategory : shoppingCategories) {
-			if (EntityCacheUtil.getResult(
-						ShoppingCategoryModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingCategoryImpl.class,
-						shoppingCategory.getPrimaryKey()) == null) {
-				cacheResult(shoppingCategory);
-			}
-			else {
-				shoppingCategory.resetOriginalValues();
-			}
+			uncachedShoppingCategories.put(shoppingCategory.getPrimaryKeyObj(),
+				shoppingCategory);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingCategories = EntityCacheUtil.getResults(ShoppingCategoryModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingCategoryImpl.class, uncachedShoppingCategories.keySet());
+
+		for (Serializable primaryKey : cachedShoppingCategories.keySet()) {
+			ShoppingCategory shoppingCategory = uncachedShoppingCategories.remove(primaryKey);
+
+			shoppingCategory.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingCategoryModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingCategoryImpl.class, uncachedShoppingCategories);
+
+		for (ShoppingCategory shoppingCategory : uncachedShoppingCategories.values()) {
+			shoppingCategory.resetOriginalValues();
 		}
 	}
 
@@ -1895,10 +1910,14 @@ public class ShoppingCategoryPersistenceImpl extends BasePersistenceImpl<Shoppin
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingCategories.size());
+
 		for (ShoppingCategory shoppingCategory : shoppingCategories) {
-			EntityCacheUtil.removeResult(ShoppingCategoryModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingCategoryImpl.class, shoppingCategory.getPrimaryKey());
+			primaryKeys.add(shoppingCategory.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ShoppingCategoryModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingCategoryImpl.class, primaryKeys);
 	}
 
 	/**
@@ -2211,6 +2230,113 @@ public class ShoppingCategoryPersistenceImpl extends BasePersistenceImpl<Shoppin
 		return fetchByPrimaryKey((Serializable)categoryId);
 	}
 
+	/**
+	 * Returns the shopping categories with the primary keys, keyed by primary key. Primary keys without a matching shopping category are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping categories
+	 * @return the shopping categories, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingCategory> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingCategory> map = new HashMap<Serializable, ShoppingCategory>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingCategory shoppingCategory = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingCategory != null) {
+				map.put(primaryKey, shoppingCategory);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingCategory shoppingCategory = (ShoppingCategory)EntityCacheUtil.getResult(ShoppingCategoryModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingCategoryImpl.class, primaryKey);
+
+			if (shoppingCategory == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingCategory != _nullShoppingCategory) {
+				map.put(primaryKey, shoppingCategory);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGCATEGORY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingCategory shoppingCategory : (List<ShoppingCategory>)q.list()) {
+					map.put(shoppingCategory.getPrimaryKeyObj(), shoppingCategory);
+
+					cacheResult(shoppingCategory);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingCategoryModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingCategoryImpl.class, primaryKey, _nullShoppingCategory);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping categories.
 	 *
@@ -2412,6 +2538,7 @@ public class ShoppingCategoryPersistenceImpl extends BasePersistenceImpl<Shoppin
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGCATEGORY = "SELECT shoppingCategory FROM ShoppingCategory shoppingCategory";
+	private static final String _SQL_SELECT_SHOPPINGCATEGORY_WHERE_PKS_IN = "SELECT shoppingCategory FROM ShoppingCategory shoppingCategory WHERE shoppingCategory.categoryId IN (";
 	private static final String _SQL_SELECT_SHOPPINGCATEGORY_WHERE = "SELECT shoppingCategory FROM ShoppingCategory shoppingCategory WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGCATEGORY = "SELECT COUNT(shoppingCategory) FROM ShoppingCategory shoppingCategory";
 	private static final String _SQL_COUNT_SHOPPINGCATEGORY_WHERE = "SELECT COUNT(shoppingCategory) FROM ShoppingCategory shoppingCategory WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping coupon service.
@@ -821,15 +825,30 @@ public class ShoppingCouponPersistenceImpl extends BasePersistenceImpl<ShoppingC
 	 * @param shoppingCoupons the shopping coupons
 	 */
 	public void cacheResult(List<ShoppingCoupon> shoppingCoupons) {
+		Map<Serializable, ShoppingCoupon> uncachedShoppingCoupons = new HashMap<Serializable, ShoppingCoupon>();
+
 		for (ShoppingCoupon shoppingCoupon : shoppingCoupons) {
-			if (EntityCacheUtil.getResult(
-						ShoppingCouponModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingCouponImpl.class, shoppingCoupon.getPrimaryKey()) == null) {
-				cacheResult(shoppingCoupon);
-			}
-			else {
-				shoppingCoupon.resetOriginalValues();
-			}
+			uncachedShoppingCoupons.put(shoppingCoupon.getPrimaryKeyObj(),
+				shoppingCoupon);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingCoupons = EntityCacheUtil.getResults(ShoppingCouponModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingCouponImpl.class, uncachedShoppingCoupons.keySet());
+
+		for (Serializable primaryKey : cachedShoppingCoupons.keySet()) {
+			ShoppingCoupon shoppingCoupon = uncachedShoppingCoupons.remove(primaryKey);
+
+			shoppingCoupon.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingCouponModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingCouponImpl.class, uncachedShoppingCoupons);
+
+		for (ShoppingCoupon shoppingCoupon : uncachedShoppingCoupons.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_CODE,
+				new Object[] { shoppingCoupon.getCode() }, shoppingCoupon);
+
+			shoppingCoupon.resetOriginalValues();
 		}
 	}
 
@@ -876,12 +895,16 @@ public class ShoppingCouponPersistenceImpl extends BasePersistenceImpl<ShoppingC
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingCoupons.size());
+
 		for (ShoppingCoupon shoppingCoupon : shoppingCoupons) {
-			EntityCacheUtil.removeResult(ShoppingCouponModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingCouponImpl.class, shoppingCoupon.getPrimaryKey());
+			primaryKeys.add(shoppingCoupon.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(shoppingCoupon);
 		}
+
+		EntityCacheUtil.removeResults(ShoppingCouponModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingCouponImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ShoppingCoupon shoppingCoupon) {
@@ -1224,6 +1247,113 @@ public class ShoppingCouponPersistenceImpl extends BasePersistenceImpl<ShoppingC
 		return fetchByPrimaryKey((Serializable)couponId);
 	}
 
+	/**
+	 * Returns the shopping coupons with the primary keys, keyed by primary key. Primary keys without a matching shopping coupon are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping coupons
+	 * @return the shopping coupons, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingCoupon> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingCoupon> map = new HashMap<Serializable, ShoppingCoupon>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingCoupon shoppingCoupon = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingCoupon != null) {
+				map.put(primaryKey, shoppingCoupon);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingCoupon shoppingCoupon = (ShoppingCoupon)EntityCacheUtil.getResult(ShoppingCouponModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingCouponImpl.class, primaryKey);
+
+			if (shoppingCoupon == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingCoupon != _nullShoppingCoupon) {
+				map.put(primaryKey, shoppingCoupon);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGCOUPON_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingCoupon shoppingCoupon : (List<ShoppingCoupon>)q.list()) {
+					map.put(shoppingCoupon.getPrimaryKeyObj(), shoppingCoupon);
+
+					cacheResult(shoppingCoupon);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingCouponModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingCouponImpl.class, primaryKey, _nullShoppingCoupon);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping coupons.
 	 *
@@ -1425,6 +1555,7 @@ public class ShoppingCouponPersistenceImpl extends BasePersistenceImpl<ShoppingC
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGCOUPON = "SELECT shoppingCoupon FROM ShoppingCoupon shoppingCoupon";
+	private static final String _SQL_SELECT_SHOPPINGCOUPON_WHERE_PKS_IN = "SELECT shoppingCoupon FROM ShoppingCoupon shoppingCoupon WHERE shoppingCoupon.couponId IN (";
 	private static final String _SQL_SELECT_SHOPPINGCOUPON_WHERE = "SELECT shoppingCoupon FROM ShoppingCoupon shoppingCoupon WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGCOUPON = "SELECT COUNT(shoppingCoupon) FROM ShoppingCoupon shoppingCoupon";
 	private static final String _SQL_COUNT_SHOPPINGCOUPON_WHERE = "SELECT COUNT(shoppingCoupon) FROM ShoppingCoupon shoppingCoupon WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping item field service.
@@ -581,16 +585,27 @@ public class ShoppingItemFieldPersistenceImpl extends BasePersistenceImpl<Shoppi
 	 * @param shoppingItemFields the shopping item fields
 	 */
 	public void cacheResult(List<ShoppingItemField> shoppingItemFields) {
+		Map<Serializable, ShoppingItemField> uncachedShoppingItemFields = new HashMap<Serializable, ShoppingItemField>();
+
 		for (ShoppingItemField shoppingItemField : shoppingItemFields) {
-			if (EntityCacheUtil.getResult(
-						ShoppingItemFieldModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingItemFieldImpl.class,
-						shoppingItemField.getPrimaryKey()) == null) {
-				cacheResult(shoppingItemField);
-			}
-			else {
-				shoppingItemField.resetOriginalValues();
-			}
+			uncachedShoppingItemFields.put(shoppingItemField.getPrimaryKeyObj(),
+				shoppingItemField);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingItemFields = EntityCacheUtil.getResults(ShoppingItemFieldModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingItemFieldImpl.class, uncachedShoppingItemFields.keySet());
+
+		for (Serializable primaryKey : cachedShoppingItemFields.keySet()) {
+			ShoppingItemField shoppingItemField = uncachedShoppingItemFields.remove(primaryKey);
+
+			shoppingItemField.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingItemFieldModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingItemFieldImpl.class, uncachedShoppingItemFields);
+
+		for (ShoppingItemField shoppingItemField : uncachedShoppingItemFields.values()) {
+			shoppingItemField.resetOriginalValues();
 		}
 	}
 
@@ -635,10 +650,14 @@ public class ShoppingItemFieldPersistenceImpl extends BasePersistenceImpl<Shoppi
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingItemFields.size());
+
 		for (ShoppingItemField shoppingItemField : shoppingItemFields) {
-			EntityCacheUtil.removeResult(ShoppingItemFieldModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingItemFieldImpl.class, shoppingItemField.getPrimaryKey());
+			primaryKeys.add(shoppingItemField.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ShoppingItemFieldModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingItemFieldImpl.class, primaryKeys);
 	}
 
 	/**
@@ -925,6 +944,113 @@ public class ShoppingItemFieldPersistenceImpl extends BasePersistenceImpl<Shoppi
 		return fetchByPrimaryKey((Serializable)itemFieldId);
 	}
 
+	/**
+	 * Returns the shopping item fields with the primary keys, keyed by primary key. Primary keys without a matching shopping item field are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping item fields
+	 * @return the shopping item fields, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingItemField> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingItemField> map = new HashMap<Serializable, ShoppingItemField>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingItemField shoppingItemField = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingItemField != null) {
+				map.put(primaryKey, shoppingItemField);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingItemField shoppingItemField = (ShoppingItemField)EntityCacheUtil.getResult(ShoppingItemFieldModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingItemFieldImpl.class, primaryKey);
+
+			if (shoppingItemField == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingItemField != _nullShoppingItemField) {
+				map.put(primaryKey, shoppingItemField);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGITEMFIELD_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingItemField shoppingItemField : (List<ShoppingItemField>)q.list()) {
+					map.put(shoppingItemField.getPrimaryKeyObj(), shoppingItemField);
+
+					cacheResult(shoppingItemField);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingItemFieldModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingItemFieldImpl.class, primaryKey, _nullShoppingItemField);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping item fields.
 	 *
@@ -1126,6 +1252,7 @@ public class ShoppingItemFieldPersistenceImpl extends BasePersistenceImpl<Shoppi
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGITEMFIELD = "SELECT shoppingItemField FROM ShoppingItemField shoppingItemField";
+	private static final String _SQL_SELECT_SHOPPINGITEMFIELD_WHERE_PKS_IN = "SELECT shoppingItemField FROM ShoppingItemField shoppingItemField WHERE shoppingItemField.itemFieldId IN (";
 	private static final String _SQL_SELECT_SHOPPINGITEMFIELD_WHERE = "SELECT shoppingItemField FROM ShoppingItemField shoppingItemField WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGITEMFIELD = "SELECT COUNT(shoppingItemField) FROM ShoppingItemField shoppingItemField";
 	private static final String _SQL_COUNT_SHOPPINGITEMFIELD_WHERE = "SELECT COUNT(shoppingItemField) FROM ShoppingItemField shoppingItemField WHERE ";
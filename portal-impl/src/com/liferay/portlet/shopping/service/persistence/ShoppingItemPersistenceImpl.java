@@ -48,7 +48,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping item service.
@@ -1904,15 +1908,40 @@ public class ShoppingItemPersistenceImpl extends BasePersistenceImpl<ShoppingIte
 	 * @param shoppingItems the shopping items
 	 */
 	public void cacheResult(List<ShoppingItem> shoppingItems) {
+		Map<Serializable, ShoppingItem> uncachedShoppingItems = new HashMap<Serializable, ShoppingItem>();
+
 		for (ShoppingItem shoppingItem : shoppingItems) {
-			if (EntityCacheUtil.getResult(
-						ShoppingItemModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingItemImpl.class, shoppingItem.getPrimaryKey()) == null) {
-				cacheResult(shoppingItem);
-			}
-			else {
-				shoppingItem.resetOriginalValues();
-			}
+			uncachedShoppingItems.put(shoppingItem.getPrimaryKeyObj(),
+				shoppingItem);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingItems = EntityCacheUtil.getResults(ShoppingItemModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingItemImpl.class, uncachedShoppingItems.keySet());
+
+		for (Serializable primaryKey : cachedShoppingItems.keySet()) {
+			ShoppingItem shoppingItem = uncachedShoppingItems.remove(primaryKey);
+
+			shoppingItem.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingItemModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingItemImpl.class, uncachedShoppingItems);
+
+		for (ShoppingItem shoppingItem : uncachedShoppingItems.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_SMALLIMAGEID,
+				new Object[] { shoppingItem.getSmallImageId() }, shoppingItem);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_MEDIUMIMAGEID,
+				new Object[] { shoppingItem.getMediumImageId() }, shoppingItem);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_LARGEIMAGEID,
+				new Object[] { shoppingItem.getLargeImageId() }, shoppingItem);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_S,
+				new Object[] { shoppingItem.getCompanyId(), shoppingItem.getSku() },
+				shoppingItem);
+
+			shoppingItem.resetOriginalValues();
 		}
 	}
 
@@ -1959,12 +1988,16 @@ public class ShoppingItemPersistenceImpl extends BasePersistenceImpl<ShoppingIte
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingItems.size());
+
 		for (ShoppingItem shoppingItem : shoppingItems) {
-			EntityCacheUtil.removeResult(ShoppingItemModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingItemImpl.class, shoppingItem.getPrimaryKey());
+			primaryKeys.add(shoppingItem.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(shoppingItem);
 		}
+
+		EntityCacheUtil.removeResults(ShoppingItemModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingItemImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ShoppingItem shoppingItem) {
@@ -2424,6 +2457,113 @@ public class ShoppingItemPersistenceImpl extends BasePersistenceImpl<ShoppingIte
 		return fetchByPrimaryKey((Serializable)itemId);
 	}
 
+	/**
+	 * Returns the shopping items with the primary keys, keyed by primary key. Primary keys without a matching shopping item are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping items
+	 * @return the shopping items, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingItem> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingItem> map = new HashMap<Serializable, ShoppingItem>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingItem shoppingItem = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingItem != null) {
+				map.put(primaryKey, shoppingItem);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingItem shoppingItem = (ShoppingItem)EntityCacheUtil.getResult(ShoppingItemModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingItemImpl.class, primaryKey);
+
+			if (shoppingItem == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingItem != _nullShoppingItem) {
+				map.put(primaryKey, shoppingItem);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGITEM_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingItem shoppingItem : (List<ShoppingItem>)q.list()) {
+					map.put(shoppingItem.getPrimaryKeyObj(), shoppingItem);
+
+					cacheResult(shoppingItem);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingItemModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingItemImpl.class, primaryKey, _nullShoppingItem);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping items.
 	 *
@@ -2625,6 +2765,7 @@ public class ShoppingItemPersistenceImpl extends BasePersistenceImpl<ShoppingIte
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGITEM = "SELECT shoppingItem FROM ShoppingItem shoppingItem";
+	private static final String _SQL_SELECT_SHOPPINGITEM_WHERE_PKS_IN = "SELECT shoppingItem FROM ShoppingItem shoppingItem WHERE shoppingItem.itemId IN (";
 	private static final String _SQL_SELECT_SHOPPINGITEM_WHERE = "SELECT shoppingItem FROM ShoppingItem shoppingItem WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGITEM = "SELECT COUNT(shoppingItem) FROM ShoppingItem shoppingItem";
 	private static final String _SQL_COUNT_SHOPPINGITEM_WHERE = "SELECT COUNT(shoppingItem) FROM ShoppingItem shoppingItem WHERE ";
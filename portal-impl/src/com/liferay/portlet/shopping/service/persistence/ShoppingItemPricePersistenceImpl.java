@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping item price service.
@@ -580,16 +584,27 @@ public class ShoppingItemPricePersistenceImpl extends BasePersistenceImpl<Shoppi
 	 * @param shoppingItemPrices the shopping item prices
 	 */
 	public void cacheResult(List<ShoppingItemPrice> shoppingItemPrices) {
+		Map<Serializable, ShoppingItemPrice> uncachedShoppingItemPrices = new HashMap<Serializable, ShoppingItemPrice>();
+
 		for (ShoppingItemPrice shoppingItemPrice : shoppingItemPrices) {
-			if (EntityCacheUtil.getResult(
-						ShoppingItemPriceModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingItemPriceImpl.class,
-						shoppingItemPrice.getPrimaryKey()) == null) {
-				cacheResult(shoppingItemPrice);
-			}
-			else {
-				shoppingItemPrice.resetOriginalValues();
-			}
+			uncachedShoppingItemPrices.put(shoppingItemPrice.getPrimaryKeyObj(),
+				shoppingItemPrice);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingItemPrices = EntityCacheUtil.getResults(ShoppingItemPriceModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingItemPriceImpl.class, uncachedShoppingItemPrices.keySet());
+
+		for (Serializable primaryKey : cachedShoppingItemPrices.keySet()) {
+			ShoppingItemPrice shoppingItemPrice = uncachedShoppingItemPrices.remove(primaryKey);
+
+			shoppingItemPrice.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingItemPriceModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingItemPriceImpl.class, uncachedShoppingItemPrices);
+
+		for (ShoppingItemPrice shoppingItemPrice : uncachedShoppingItemPrices.values()) {
+			shoppingItemPrice.resetOriginalValues();
 		}
 	}
 
@@ -634,10 +649,14 @@ public class ShoppingItemPricePersistenceImpl extends BasePersistenceImpl<Shoppi
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingItemPrices.size());
+
 		for (ShoppingItemPrice shoppingItemPrice : shoppingItemPrices) {
-			EntityCacheUtil.removeResult(ShoppingItemPriceModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingItemPriceImpl.class, shoppingItemPrice.getPrimaryKey());
+			primaryKeys.add(shoppingItemPrice.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ShoppingItemPriceModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingItemPriceImpl.class, primaryKeys);
 	}
 
 	/**
@@ -929,6 +948,113 @@ public class ShoppingItemPricePersistenceImpl extends BasePersistenceImpl<Shoppi
 		return fetchByPrimaryKey((Serializable)itemPriceId);
 	}
 
+	/**
+	 * Returns the shopping item prices with the primary keys, keyed by primary key. Primary keys without a matching shopping item price are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping item prices
+	 * @return the shopping item prices, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingItemPrice> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingItemPrice> map = new HashMap<Serializable, ShoppingItemPrice>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingItemPrice shoppingItemPrice = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingItemPrice != null) {
+				map.put(primaryKey, shoppingItemPrice);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingItemPrice shoppingItemPrice = (ShoppingItemPrice)EntityCacheUtil.getResult(ShoppingItemPriceModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingItemPriceImpl.class, primaryKey);
+
+			if (shoppingItemPrice == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingItemPrice != _nullShoppingItemPrice) {
+				map.put(primaryKey, shoppingItemPrice);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGITEMPRICE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingItemPrice shoppingItemPrice : (List<ShoppingItemPrice>)q.list()) {
+					map.put(shoppingItemPrice.getPrimaryKeyObj(), shoppingItemPrice);
+
+					cacheResult(shoppingItemPrice);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingItemPriceModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingItemPriceImpl.class, primaryKey, _nullShoppingItemPrice);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping item prices.
 	 *
@@ -1130,6 +1256,7 @@ public class ShoppingItemPricePersistenceImpl extends BasePersistenceImpl<Shoppi
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGITEMPRICE = "SELECT shoppingItemPrice FROM ShoppingItemPrice shoppingItemPrice";
+	private static final String _SQL_SELECT_SHOPPINGITEMPRICE_WHERE_PKS_IN = "SELECT shoppingItemPrice FROM ShoppingItemPrice shoppingItemPrice WHERE shoppingItemPrice.itemPriceId IN (";
 	private static final String _SQL_SELECT_SHOPPINGITEMPRICE_WHERE = "SELECT shoppingItemPrice FROM ShoppingItemPrice shoppingItemPrice WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGITEMPRICE = "SELECT COUNT(shoppingItemPrice) FROM ShoppingItemPrice shoppingItemPrice";
 	private static final String _SQL_COUNT_SHOPPINGITEMPRICE_WHERE = "SELECT COUNT(shoppingItemPrice) FROM ShoppingItemPrice shoppingItemPrice WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping order item service.
@@ -582,16 +586,27 @@ public class ShoppingOrderItemPersistenceImpl extends BasePersistenceImpl<Shoppi
 	 * @param shoppingOrderItems the shopping order items
 	 */
 	public void cacheResult(List<ShoppingOrderItem> shoppingOrderItems) {
+		Map<Serializable, ShoppingOrderItem> uncachedShoppingOrderItems = new HashMap<Serializable, ShoppingOrderItem>();
+
 		for (ShoppingOrderItem shoppingOrderItem : shoppingOrderItems) {
-			if (EntityCacheUtil.getResult(
-						ShoppingOrderItemModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingOrderItemImpl.class,
-						shoppingOrderItem.getPrimaryKey()) == null) {
-				cacheResult(shoppingOrderItem);
-			}
-			else {
-				shoppingOrderItem.resetOriginalValues();
-			}
+			uncachedShoppingOrderItems.put(shoppingOrderItem.getPrimaryKeyObj(),
+				shoppingOrderItem);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingOrderItems = EntityCacheUtil.getResults(ShoppingOrderItemModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingOrderItemImpl.class, uncachedShoppingOrderItems.keySet());
+
+		for (Serializable primaryKey : cachedShoppingOrderItems.keySet()) {
+			ShoppingOrderItem shoppingOrderItem = uncachedShoppingOrderItems.remove(primaryKey);
+
+			shoppingOrderItem.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingOrderItemModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingOrderItemImpl.class, uncachedShoppingOrderItems);
+
+		for (ShoppingOrderItem shoppingOrderItem : uncachedShoppingOrderItems.values()) {
+			shoppingOrderItem.resetOriginalValues();
 		}
 	}
 
@@ -636,10 +651,14 @@ public class ShoppingOrderItemPersistenceImpl extends BasePersistenceImpl<Shoppi
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingOrderItems.size());
+
 		for (ShoppingOrderItem shoppingOrderItem : shoppingOrderItems) {
-			EntityCacheUtil.removeResult(ShoppingOrderItemModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingOrderItemImpl.class, shoppingOrderItem.getPrimaryKey());
+			primaryKeys.add(shoppingOrderItem.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(ShoppingOrderItemModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingOrderItemImpl.class, primaryKeys);
 	}
 
 	/**
@@ -931,6 +950,113 @@ public class ShoppingOrderItemPersistenceImpl extends BasePersistenceImpl<Shoppi
 		return fetchByPrimaryKey((Serializable)orderItemId);
 	}
 
+	/**
+	 * Returns the shopping order items with the primary keys, keyed by primary key. Primary keys without a matching shopping order item are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping order items
+	 * @return the shopping order items, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingOrderItem> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingOrderItem> map = new HashMap<Serializable, ShoppingOrderItem>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingOrderItem shoppingOrderItem = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingOrderItem != null) {
+				map.put(primaryKey, shoppingOrderItem);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingOrderItem shoppingOrderItem = (ShoppingOrderItem)EntityCacheUtil.getResult(ShoppingOrderItemModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingOrderItemImpl.class, primaryKey);
+
+			if (shoppingOrderItem == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingOrderItem != _nullShoppingOrderItem) {
+				map.put(primaryKey, shoppingOrderItem);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGORDERITEM_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingOrderItem shoppingOrderItem : (List<ShoppingOrderItem>)q.list()) {
+					map.put(shoppingOrderItem.getPrimaryKeyObj(), shoppingOrderItem);
+
+					cacheResult(shoppingOrderItem);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingOrderItemModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingOrderItemImpl.class, primaryKey, _nullShoppingOrderItem);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping order items.
 	 *
@@ -1132,6 +1258,7 @@ public class ShoppingOrderItemPersistenceImpl extends BasePersistenceImpl<Shoppi
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGORDERITEM = "SELECT shoppingOrderItem FROM ShoppingOrderItem shoppingOrderItem";
+	private static final String _SQL_SELECT_SHOPPINGORDERITEM_WHERE_PKS_IN = "SELECT shoppingOrderItem FROM ShoppingOrderItem shoppingOrderItem WHERE shoppingOrderItem.orderItemId IN (";
 	private static final String _SQL_SELECT_SHOPPINGORDERITEM_WHERE = "SELECT shoppingOrderItem FROM ShoppingOrderItem shoppingOrderItem WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGORDERITEM = "SELECT COUNT(shoppingOrderItem) FROM ShoppingOrderItem shoppingOrderItem";
 	private static final String _SQL_COUNT_SHOPPINGORDERITEM_WHERE = "SELECT COUNT(shoppingOrderItem) FROM ShoppingOrderItem shoppingOrderItem WHERE ";
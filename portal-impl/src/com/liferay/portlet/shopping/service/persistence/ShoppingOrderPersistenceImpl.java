@@ -48,7 +48,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the shopping order service.
@@ -2473,15 +2477,33 @@ public class ShoppingOrderPersistenceImpl extends BasePersistenceImpl<ShoppingOr
 	 * @param shoppingOrders the shopping orders
 	 */
 	public void cacheResult(List<ShoppingOrder> shoppingOrders) {
+		Map<Serializable, ShoppingOrder> uncachedShoppingOrders = new HashMap<Serializable, ShoppingOrder>();
+
 		for (ShoppingOrder shoppingOrder : shoppingOrders) {
-			if (EntityCacheUtil.getResult(
-						ShoppingOrderModelImpl.ENTITY_CACHE_ENABLED,
-						ShoppingOrderImpl.class, shoppingOrder.getPrimaryKey()) == null) {
-				cacheResult(shoppingOrder);
-			}
-			else {
-				shoppingOrder.resetOriginalValues();
-			}
+			uncachedShoppingOrders.put(shoppingOrder.getPrimaryKeyObj(),
+				shoppingOrder);
+		}
+
+		Map<Serializable, Serializable> cachedShoppingOrders = EntityCacheUtil.getResults(ShoppingOrderModelImpl.ENTITY_CACHE_ENABLED,
+				ShoppingOrderImpl.class, uncachedShoppingOrders.keySet());
+
+		for (Serializable primaryKey : cachedShoppingOrders.keySet()) {
+			ShoppingOrder shoppingOrder = uncachedShoppingOrders.remove(primaryKey);
+
+			shoppingOrder.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(ShoppingOrderModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingOrderImpl.class, uncachedShoppingOrders);
+
+		for (ShoppingOrder shoppingOrder : uncachedShoppingOrders.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_NUMBER,
+				new Object[] { shoppingOrder.getNumber() }, shoppingOrder);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_PPTXNID,
+				new Object[] { shoppingOrder.getPpTxnId() }, shoppingOrder);
+
+			shoppingOrder.resetOriginalValues();
 		}
 	}
 
@@ -2528,12 +2550,16 @@ public class ShoppingOrderPersistenceImpl extends BasePersistenceImpl<ShoppingOr
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(shoppingOrders.size());
+
 		for (ShoppingOrder shoppingOrder : shoppingOrders) {
-			EntityCacheUtil.removeResult(ShoppingOrderModelImpl.ENTITY_CACHE_ENABLED,
-				ShoppingOrderImpl.class, shoppingOrder.getPrimaryKey());
+			primaryKeys.add(shoppingOrder.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(shoppingOrder);
 		}
+
+		EntityCacheUtil.removeResults(ShoppingOrderModelImpl.ENTITY_CACHE_ENABLED,
+			ShoppingOrderImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(ShoppingOrder shoppingOrder) {
@@ -2961,6 +2987,113 @@ public class ShoppingOrderPersistenceImpl extends BasePersistenceImpl<ShoppingOr
 		return fetchByPrimaryKey((Serializable)orderId);
 	}
 
+	/**
+	 * Returns the shopping orders with the primary keys, keyed by primary key. Primary keys without a matching shopping order are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the shopping orders
+	 * @return the shopping orders, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ShoppingOrder> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ShoppingOrder> map = new HashMap<Serializable, ShoppingOrder>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ShoppingOrder shoppingOrder = fetchByPrimaryKey(primaryKey);
+
+			if (shoppingOrder != null) {
+				map.put(primaryKey, shoppingOrder);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ShoppingOrder shoppingOrder = (ShoppingOrder)EntityCacheUtil.getResult(ShoppingOrderModelImpl.ENTITY_CACHE_ENABLED,
+					ShoppingOrderImpl.class, primaryKey);
+
+			if (shoppingOrder == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (shoppingOrder != _nullShoppingOrder) {
+				map.put(primaryKey, shoppingOrder);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SHOPPINGORDER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (ShoppingOrder shoppingOrder : (List<ShoppingOrder>)q.list()) {
+					map.put(shoppingOrder.getPrimaryKeyObj(), shoppingOrder);
+
+					cacheResult(shoppingOrder);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(ShoppingOrderModelImpl.ENTITY_CACHE_ENABLED,
+						ShoppingOrderImpl.class, primaryKey, _nullShoppingOrder);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the shopping orders.
 	 *
@@ -3162,6 +3295,7 @@ public class ShoppingOrderPersistenceImpl extends BasePersistenceImpl<ShoppingOr
 	}
 
 	private static final String _SQL_SELECT_SHOPPINGORDER = "SELECT shoppingOrder FROM ShoppingOrder shoppingOrder";
+	private static final String _SQL_SELECT_SHOPPINGORDER_WHERE_PKS_IN = "SELECT shoppingOrder FROM ShoppingOrder shoppingOrder WHERE shoppingOrder.orderId IN (";
 	private static final String _SQL_SELECT_SHOPPINGORDER_WHERE = "SELECT shoppingOrder FROM ShoppingOrder shoppingOrder WHERE ";
 	private static final String _SQL_COUNT_SHOPPINGORDER = "SELECT COUNT(shoppingOrder) FROM ShoppingOrder shoppingOrder";
 	private static final String _SQL_COUNT_SHOPPINGORDER_WHERE = "SELECT COUNT(shoppingOrder) FROM ShoppingOrder shoppingOrder WHERE ";
@@ -24,6 +24,7 @@ import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
 import com.liferay.portal.kernel.transaction.Transactional;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.StringBundler;
@@ -33,6 +34,7 @@ import com.liferay.portal.kernel.util.Tuple;
 import com.liferay.portal.model.Group;
 import com.liferay.portal.model.Lock;
 import com.liferay.portal.model.User;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.portlet.asset.model.AssetEntry;
@@ -41,12 +43,14 @@ import com.liferay.portlet.social.model.SocialActivity;
 import com.liferay.portlet.social.model.SocialActivityCounter;
 import com.liferay.portlet.social.model.SocialActivityCounterConstants;
 import com.liferay.portlet.social.model.SocialActivityCounterDefinition;
+import com.liferay.portlet.social.model.SocialActivityCounterIncrement;
 import com.liferay.portlet.social.model.SocialActivityDefinition;
 import com.liferay.portlet.social.model.SocialActivityLimit;
 import com.liferay.portlet.social.model.SocialActivityProcessor;
 import com.liferay.portlet.social.service.SocialActivityCounterLocalService;
 import com.liferay.portlet.social.service.base.SocialActivityCounterLocalServiceBaseImpl;
 import com.liferay.portlet.social.service.persistence.SocialActivityCounterFinder;
+import com.liferay.portlet.social.util.SocialActivityCounterIncrementBuffer;
 import com.liferay.portlet.social.util.SocialCounterPeriodUtil;
 
 import java.util.Arrays;
@@ -55,6 +59,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * The social activity counter local service. This service is responsible for
@@ -310,6 +315,25 @@ public class SocialActivityCounterLocalServiceImpl
 		User assetEntryUser = userPersistence.findByPrimaryKey(
 			assetEntry.getUserId());
 
+		List<SocialAchievement> achievements =
+			activityDefinition.getAchievements();
+
+		// Achievements read the counters from the database, so the counters
+		// of an activity with achievements are written right away
+
+		boolean buffered = achievements.isEmpty();
+
+		if (!buffered) {
+			long userClassNameId = PortalUtil.getClassNameId(
+				User.class.getName());
+
+			flushActivityCounterIncrements(userClassNameId, user.getUserId());
+			flushActivityCounterIncrements(
+				assetEntry.getClassNameId(), assetEntry.getClassPK());
+			flushActivityCounterIncrements(
+				userClassNameId, assetEntry.getUserId());
+		}
+
 		for (SocialActivityCounterDefinition activityCounterDefinition :
 				activityDefinition.getActivityCounterDefinitions()) {
 
@@ -319,13 +343,11 @@ public class SocialActivityCounterLocalServiceImpl
 
 				incrementActivityCounter(
 					activity.getGroupId(), user, activity.getAssetEntry(),
-					activityCounterDefinition);
+					activityCounterDefinition, buffered);
 			}
 		}
 
-		for (SocialAchievement achievement :
-				activityDefinition.getAchievements()) {
-
+		for (SocialAchievement achievement : achievements) {
 			achievement.processActivity(activity);
 		}
 
@@ -349,6 +371,19 @@ public class SocialActivityCounterLocalServiceImpl
 		}
 	}
 
+	@Override
+	public void afterPropertiesSet() {
+		super.afterPropertiesSet();
+
+		if (PropsValues.SOCIAL_ACTIVITY_COUNTER_BUFFER_ENABLED) {
+			_activityCounterIncrementBuffer =
+				new SocialActivityCounterIncrementBuffer(
+					socialActivityCounterLocalService,
+					PropsValues.SOCIAL_ACTIVITY_COUNTER_BUFFER_INTERVAL,
+					PropsValues.SOCIAL_ACTIVITY_COUNTER_BUFFER_BATCH_SIZE);
+		}
+	}
+
 	/**
 	 * Creates an activity counter with a default period length, adding it into
 	 * the database.
@@ -503,6 +538,8 @@ public class SocialActivityCounterLocalServiceImpl
 			return;
 		}
 
+		flushActivityCounterIncrements(assetEntry);
+
 		adjustUserContribution(assetEntry, false);
 
 		socialActivityCounterPersistence.removeByC_C(
@@ -540,6 +577,8 @@ public class SocialActivityCounterLocalServiceImpl
 			deleteActivityCounters(assetEntry);
 		}
 		else {
+			flushActivityCounterIncrements(classNameId, classPK);
+
 			socialActivityCounterPersistence.removeByC_C(classNameId, classPK);
 
 			socialActivityLimitPersistence.removeByUserId(classPK);
@@ -570,6 +609,8 @@ public class SocialActivityCounterLocalServiceImpl
 		else {
 			long classNameId = PortalUtil.getClassNameId(className);
 
+			flushActivityCounterIncrements(classNameId, classPK);
+
 			socialActivityCounterPersistence.removeByC_C(classNameId, classPK);
 
 			socialActivityLimitPersistence.removeByUserId(classPK);
@@ -578,6 +619,15 @@ public class SocialActivityCounterLocalServiceImpl
 		clearFinderCache();
 	}
 
+	@Override
+	public void destroy() {
+		if (_activityCounterIncrementBuffer != null) {
+			_activityCounterIncrementBuffer.close();
+		}
+
+		super.destroy();
+	}
+
 	/**
 	 * Disables all the counters of an asset identified by the class name ID and
 	 * class primary key.
@@ -626,6 +676,8 @@ public class SocialActivityCounterLocalServiceImpl
 			return;
 		}
 
+		flushActivityCounterIncrements(assetEntry);
+
 		List<SocialActivityCounter> activityCounters =
 			socialActivityCounterPersistence.findByC_C(
 				assetEntry.getClassNameId(), classPK);
@@ -691,6 +743,8 @@ public class SocialActivityCounterLocalServiceImpl
 			return;
 		}
 
+		flushActivityCounterIncrements(assetEntry);
+
 		List<SocialActivityCounter> activityCounters =
 			socialActivityCounterPersistence.findByC_C(
 				assetEntry.getClassNameId(), classPK);
@@ -981,6 +1035,40 @@ public class SocialActivityCounterLocalServiceImpl
 		return socialActivityCounterFinder.countU_ByG_N(groupId, rankingNames);
 	}
 
+	/**
+	 * Writes activity counter increments that were collected by the write
+	 * behind buffer, creating the counters and starting new periods as needed.
+	 *
+	 * <p>
+	 * This method runs in a new transaction so that a batch either is written
+	 * completely or can be retried completely.
+	 * </p>
+	 *
+	 * @param  activityCounterIncrements the activity counter increments
+	 * @throws PortalException if the group or an expected previous activity
+	 *         counter could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void incrementActivityCounters(
+			List<SocialActivityCounterIncrement> activityCounterIncrements)
+		throws PortalException, SystemException {
+
+		for (SocialActivityCounterIncrement activityCounterIncrement :
+				activityCounterIncrements) {
+
+			doIncrementActivityCounter(
+				activityCounterIncrement.getGroupId(),
+				activityCounterIncrement.getClassNameId(),
+				activityCounterIncrement.getClassPK(),
+				activityCounterIncrement.getName(),
+				activityCounterIncrement.getOwnerType(),
+				activityCounterIncrement.getIncrement(),
+				activityCounterIncrement.getPeriodLength(),
+				activityCounterIncrement.getActivityDay());
+		}
+	}
+
 	/**
 	 * Increments the <code>user.achievements</code> counter for a user.
 	 *
@@ -1179,50 +1267,67 @@ public class SocialActivityCounterLocalServiceImpl
 		portalCache.removeAll();
 	}
 
-	protected String getLockKey(
-		long groupId, long classNameId, long classPK, String name,
-		int ownerType) {
-
-		StringBundler sb = new StringBundler(7);
-
-		sb.append(StringUtil.toHexString(groupId));
-		sb.append(StringPool.POUND);
-		sb.append(StringUtil.toHexString(classNameId));
-		sb.append(StringPool.POUND);
-		sb.append(StringUtil.toHexString(classPK));
-		sb.append(StringPool.POUND);
-		sb.append(name);
-
-		return sb.toString();
-	}
-
-	protected void incrementActivityCounter(
+	protected void doIncrementActivityCounter(
 			long groupId, long classNameId, long classPK, String name,
-			int ownerType, int increment, int periodLength)
+			int ownerType, int increment, int periodLength, int activityDay)
 		throws PortalException, SystemException {
 
+		Date date = SocialCounterPeriodUtil.getDate(activityDay);
+
+		int startPeriod = SocialCounterPeriodUtil.getStartPeriod(
+			date.getTime());
+
 		SocialActivityCounter activityCounter = fetchLatestActivityCounter(
 			groupId, classNameId, classPK, name, ownerType);
 
 		if (activityCounter == null) {
 			activityCounter = addActivityCounter(
 				groupId, classNameId, classPK, name, ownerType, 0, 0,
-				SocialCounterPeriodUtil.getStartPeriod(),
+				startPeriod,
 				SocialActivityCounterConstants.END_PERIOD_UNDEFINED);
 
 			if (periodLength > 0) {
-				activityCounter.setStartPeriod(
-					SocialCounterPeriodUtil.getActivityDay());
+				activityCounter.setStartPeriod(activityDay);
 			}
 		}
+		else if (activityCounter.getStartPeriod() > activityDay) {
+
+			// A buffered increment whose period has ended since counts toward
+			// the previous period and the latest total
+
+			SocialActivityCounter previousActivityCounter =
+				fetchActivityCounterByEndPeriod(
+					groupId, classNameId, classPK, name, ownerType,
+					activityCounter.getStartPeriod() - 1);
+
+			if ((previousActivityCounter != null) &&
+				(previousActivityCounter.getStartPeriod() <= activityDay)) {
+
+				previousActivityCounter.setCurrentValue(
+					previousActivityCounter.getCurrentValue() + increment);
+				previousActivityCounter.setTotalValue(
+					previousActivityCounter.getTotalValue() + increment);
+
+				socialActivityCounterPersistence.update(
+					previousActivityCounter);
+
+				activityCounter.setTotalValue(
+					activityCounter.getTotalValue() + increment);
+
+				socialActivityCounterPersistence.update(activityCounter);
+
+				return;
+			}
+		}
+		else if (!isActivePeriod(
+					activityCounter, periodLength, activityDay,
+					startPeriod)) {
 
-		if (!activityCounter.isActivePeriod(periodLength)) {
 			activityCounter = addActivityCounter(
 				activityCounter.getGroupId(), activityCounter.getClassNameId(),
 				activityCounter.getClassPK(), activityCounter.getName(),
 				activityCounter.getOwnerType(), 0,
-				activityCounter.getTotalValue(),
-				SocialCounterPeriodUtil.getStartPeriod(),
+				activityCounter.getTotalValue(), startPeriod,
 				SocialActivityCounterConstants.END_PERIOD_UNDEFINED,
 				activityCounter.getActivityCounterId(), periodLength);
 		}
@@ -1235,9 +1340,96 @@ public class SocialActivityCounterLocalServiceImpl
 		socialActivityCounterPersistence.update(activityCounter);
 	}
 
+	protected void flushActivityCounterIncrements(AssetEntry assetEntry) {
+		flushActivityCounterIncrements(
+			assetEntry.getClassNameId(), assetEntry.getClassPK());
+
+		// The asset's popularity is part of its owner's contribution
+
+		flushActivityCounterIncrements(
+			PortalUtil.getClassNameId(User.class.getName()),
+			assetEntry.getUserId());
+	}
+
+	protected void flushActivityCounterIncrements(
+		long classNameId, long classPK) {
+
+		if (_activityCounterIncrementBuffer != null) {
+			_activityCounterIncrementBuffer.flush(classNameId, classPK);
+		}
+	}
+
+	protected String getLockKey(
+		long groupId, long classNameId, long classPK, String name,
+		int ownerType) {
+
+		StringBundler sb = new StringBundler(7);
+
+		sb.append(StringUtil.toHexString(groupId));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.toHexString(classNameId));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.toHexString(classPK));
+		sb.append(StringPool.POUND);
+		sb.append(name);
+
+		return sb.toString();
+	}
+
+	protected void incrementActivityCounter(
+			long groupId, long classNameId, long classPK, String name,
+			int ownerType, int increment, int periodLength)
+		throws PortalException, SystemException {
+
+		incrementActivityCounter(
+			groupId, classNameId, classPK, name, ownerType, increment,
+			periodLength, true);
+	}
+
+	protected void incrementActivityCounter(
+			long groupId, long classNameId, long classPK, String name,
+			int ownerType, int increment, int periodLength, boolean buffered)
+		throws PortalException, SystemException {
+
+		if (buffered && (_activityCounterIncrementBuffer != null)) {
+			final SocialActivityCounterIncrement activityCounterIncrement =
+				new SocialActivityCounterIncrement(
+					CompanyThreadLocal.getCompanyId(), groupId, classNameId,
+					classPK, name, ownerType, periodLength,
+					SocialCounterPeriodUtil.getActivityDay(), increment);
+
+			// The increment of a transaction that rolls back is never written
+
+			TransactionCommitCallbackRegistryUtil.registerCallback(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						if (!_activityCounterIncrementBuffer.add(
+								activityCounterIncrement)) {
+
+							socialActivityCounterLocalService.
+								incrementActivityCounters(
+									Collections.singletonList(
+										activityCounterIncrement));
+						}
+
+						return null;
+					}
+
+				});
+
+			return;
+		}
+
+		doIncrementActivityCounter(
+			groupId, classNameId, classPK, name, ownerType, increment,
+			periodLength, SocialCounterPeriodUtil.getActivityDay());
+	}
+
 	protected void incrementActivityCounter(
 			long groupId, User user, AssetEntry assetEntry,
-			SocialActivityCounterDefinition activityCounterDefinition)
+			SocialActivityCounterDefinition activityCounterDefinition,
+			boolean buffered)
 		throws PortalException, SystemException {
 
 		int ownerType = activityCounterDefinition.getOwnerType();
@@ -1248,25 +1440,53 @@ public class SocialActivityCounterLocalServiceImpl
 				groupId, userClassNameId, user.getUserId(),
 				activityCounterDefinition.getName(), ownerType,
 				activityCounterDefinition.getIncrement(),
-				activityCounterDefinition.getPeriodLength());
+				activityCounterDefinition.getPeriodLength(), buffered);
 		}
 		else if (ownerType == SocialActivityCounterConstants.TYPE_ASSET) {
 			incrementActivityCounter(
 				groupId, assetEntry.getClassNameId(), assetEntry.getClassPK(),
 				activityCounterDefinition.getName(), ownerType,
 				activityCounterDefinition.getIncrement(),
-				activityCounterDefinition.getPeriodLength());
+				activityCounterDefinition.getPeriodLength(), buffered);
 		}
 		else {
 			incrementActivityCounter(
 				groupId, userClassNameId, assetEntry.getUserId(),
 				activityCounterDefinition.getName(), ownerType,
 				activityCounterDefinition.getIncrement(),
-				activityCounterDefinition.getPeriodLength());
+				activityCounterDefinition.getPeriodLength(), buffered);
 		}
 	}
 
+	protected boolean isActivePeriod(
+		SocialActivityCounter activityCounter, int periodLength,
+		int activityDay, int startPeriod) {
+
+		if (periodLength ==
+				SocialActivityCounterConstants.PERIOD_LENGTH_INFINITE) {
+
+			return true;
+		}
+
+		if ((periodLength !=
+				SocialActivityCounterConstants.PERIOD_LENGTH_SYSTEM) &&
+			((activityCounter.getStartPeriod() + periodLength) >
+				activityDay)) {
+
+			return true;
+		}
+
+		if (activityCounter.getStartPeriod() == startPeriod) {
+			return true;
+		}
+
+		return false;
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(
 		SocialActivityCounterLocalService.class);
 
+	private SocialActivityCounterIncrementBuffer
+		_activityCounterIncrementBuffer;
+
 }
\ No newline at end of file
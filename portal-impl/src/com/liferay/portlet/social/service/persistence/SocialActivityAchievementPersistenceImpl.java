@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social activity achievement service.
@@ -3047,16 +3051,34 @@ public class SocialActivityAchievementPersistenceImpl
 	 */
 	public void cacheResult(
 		List<SocialActivityAchievement> socialActivityAchievements) {
+		Map<Serializable, SocialActivityAchievement> uncachedSocialActivityAchievements = new HashMap<Serializable, SocialActivityAchievement>();
+
 		for (SocialActivityAchievement socialActivityAchievement : socialActivityAchievements) {
-			if (EntityCacheUtil.getResult(
-						SocialActivityAchievementModelImpl.ENTITY_CACHE_ENABLED,
-						SocialActivityAchievementImpl.class,
-						socialActivityAchievement.getPrimaryKey()) == null) {
-				cacheResult(socialActivityAchievement);
-			}
-			else {
-				socialActivityAchievement.resetOriginalValues();
-			}
+			uncachedSocialActivityAchievements.put(socialActivityAchievement.getPrimaryKeyObj(),
+				socialActivityAchievement);
+		}
+
+		Map<Serializable, Serializable> cachedSocialActivityAchievements = EntityCacheUtil.getResults(SocialActivityAchievementModelImpl.ENTITY_CACHE_ENABLED,
+				SocialActivityAchievementImpl.class, uncachedSocialActivityAchievements.keySet());
+
+		for (Serializable primaryKey : cachedSocialActivityAchievements.keySet()) {
+			SocialActivityAchievement socialActivityAchievement = uncachedSocialActivityAchievements.remove(primaryKey);
+
+			socialActivityAchievement.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialActivityAchievementModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityAchievementImpl.class, uncachedSocialActivityAchievements);
+
+		for (SocialActivityAchievement socialActivityAchievement : uncachedSocialActivityAchievements.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_U_N,
+				new Object[] {
+					socialActivityAchievement.getGroupId(),
+					socialActivityAchievement.getUserId(),
+					socialActivityAchievement.getName()
+				}, socialActivityAchievement);
+
+			socialActivityAchievement.resetOriginalValues();
 		}
 	}
 
@@ -3105,13 +3127,16 @@ public class SocialActivityAchievementPersistenceImpl
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialActivityAchievements.size());
+
 		for (SocialActivityAchievement socialActivityAchievement : socialActivityAchievements) {
-			EntityCacheUtil.removeResult(SocialActivityAchievementModelImpl.ENTITY_CACHE_ENABLED,
-				SocialActivityAchievementImpl.class,
-				socialActivityAchievement.getPrimaryKey());
+			primaryKeys.add(socialActivityAchievement.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(socialActivityAchievement);
 		}
+
+		EntityCacheUtil.removeResults(SocialActivityAchievementModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityAchievementImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -3554,6 +3579,113 @@ public class SocialActivityAchievementPersistenceImpl
 		return fetchByPrimaryKey((Serializable)activityAchievementId);
 	}
 
+	/**
+	 * Returns the social activity achievements with the primary keys, keyed by primary key. Primary keys without a matching social activity achievement are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social activity achievements
+	 * @return the social activity achievements, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialActivityAchievement> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialActivityAchievement> map = new HashMap<Serializable, SocialActivityAchievement>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialActivityAchievement socialActivityAchievement = fetchByPrimaryKey(primaryKey);
+
+			if (socialActivityAchievement != null) {
+				map.put(primaryKey, socialActivityAchievement);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialActivityAchievement socialActivityAchievement = (SocialActivityAchievement)EntityCacheUtil.getResult(SocialActivityAchievementModelImpl.ENTITY_CACHE_ENABLED,
+					SocialActivityAchievementImpl.class, primaryKey);
+
+			if (socialActivityAchievement == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialActivityAchievement != _nullSocialActivityAchievement) {
+				map.put(primaryKey, socialActivityAchievement);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALACTIVITYACHIEVEMENT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialActivityAchievement socialActivityAchievement : (List<SocialActivityAchievement>)q.list()) {
+					map.put(socialActivityAchievement.getPrimaryKeyObj(), socialActivityAchievement);
+
+					cacheResult(socialActivityAchievement);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialActivityAchievementModelImpl.ENTITY_CACHE_ENABLED,
+						SocialActivityAchievementImpl.class, primaryKey, _nullSocialActivityAchievement);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social activity achievements.
 	 *
@@ -3755,6 +3887,7 @@ public class SocialActivityAchievementPersistenceImpl
 	}
 
 	private static final String _SQL_SELECT_SOCIALACTIVITYACHIEVEMENT = "SELECT socialActivityAchievement FROM SocialActivityAchievement socialActivityAchievement";
+	private static final String _SQL_SELECT_SOCIALACTIVITYACHIEVEMENT_WHERE_PKS_IN = "SELECT socialActivityAchievement FROM SocialActivityAchievement socialActivityAchievement WHERE socialActivityAchievement.activityAchievementId IN (";
 	private static final String _SQL_SELECT_SOCIALACTIVITYACHIEVEMENT_WHERE = "SELECT socialActivityAchievement FROM SocialActivityAchievement socialActivityAchievement WHERE ";
 	private static final String _SQL_COUNT_SOCIALACTIVITYACHIEVEMENT = "SELECT COUNT(socialActivityAchievement) FROM SocialActivityAchievement socialActivityAchievement";
 	private static final String _SQL_COUNT_SOCIALACTIVITYACHIEVEMENT_WHERE = "SELECT COUNT(socialActivityAchievement) FROM SocialActivityAchievement socialActivityAchievement WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social activity counter service.
@@ -1958,16 +1962,47 @@ public class SocialActivityCounterPersistenceImpl extends BasePersistenceImpl<So
 	 * @param socialActivityCounters the social activity counters
 	 */
 	public void cacheResult(List<SocialActivityCounter> socialActivityCounters) {
+		Map<Serializable, SocialActivityCounter> uncachedSocialActivityCounters = new HashMap<Serializable, SocialActivityCounter>();
+
 		for (SocialActivityCounter socialActivityCounter : socialActivityCounters) {
-			if (EntityCacheUtil.getResult(
-						SocialActivityCounterModelImpl.ENTITY_CACHE_ENABLED,
-						SocialActivityCounterImpl.class,
-						socialActivityCounter.getPrimaryKey()) == null) {
-				cacheResult(socialActivityCounter);
-			}
-			else {
-				socialActivityCounter.resetOriginalValues();
-			}
+			uncachedSocialActivityCounters.put(socialActivityCounter.getPrimaryKeyObj(),
+				socialActivityCounter);
+		}
+
+		Map<Serializable, Serializable> cachedSocialActivityCounters = EntityCacheUtil.getResults(SocialActivityCounterModelImpl.ENTITY_CACHE_ENABLED,
+				SocialActivityCounterImpl.class, uncachedSocialActivityCounters.keySet());
+
+		for (Serializable primaryKey : cachedSocialActivityCounters.keySet()) {
+			SocialActivityCounter socialActivityCounter = uncachedSocialActivityCounters.remove(primaryKey);
+
+			socialActivityCounter.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialActivityCounterModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityCounterImpl.class, uncachedSocialActivityCounters);
+
+		for (SocialActivityCounter socialActivityCounter : uncachedSocialActivityCounters.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C_C_N_O_S,
+				new Object[] {
+					socialActivityCounter.getGroupId(),
+					socialActivityCounter.getClassNameId(),
+					socialActivityCounter.getClassPK(),
+					socialActivityCounter.getName(),
+					socialActivityCounter.getOwnerType(),
+					socialActivityCounter.getStartPeriod()
+				}, socialActivityCounter);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C_C_N_O_E,
+				new Object[] {
+					socialActivityCounter.getGroupId(),
+					socialActivityCounter.getClassNameId(),
+					socialActivityCounter.getClassPK(),
+					socialActivityCounter.getName(),
+					socialActivityCounter.getOwnerType(),
+					socialActivityCounter.getEndPeriod()
+				}, socialActivityCounter);
+
+			socialActivityCounter.resetOriginalValues();
 		}
 	}
 
@@ -2015,13 +2050,16 @@ public class SocialActivityCounterPersistenceImpl extends BasePersistenceImpl<So
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialActivityCounters.size());
+
 		for (SocialActivityCounter socialActivityCounter : socialActivityCounters) {
-			EntityCacheUtil.removeResult(SocialActivityCounterModelImpl.ENTITY_CACHE_ENABLED,
-				SocialActivityCounterImpl.class,
-				socialActivityCounter.getPrimaryKey());
+			primaryKeys.add(socialActivityCounter.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(socialActivityCounter);
 		}
+
+		EntityCacheUtil.removeResults(SocialActivityCounterModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityCounterImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -2477,6 +2515,113 @@ public class SocialActivityCounterPersistenceImpl extends BasePersistenceImpl<So
 		return fetchByPrimaryKey((Serializable)activityCounterId);
 	}
 
+	/**
+	 * Returns the social activity counters with the primary keys, keyed by primary key. Primary keys without a matching social activity counter are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social activity counters
+	 * @return the social activity counters, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialActivityCounter> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialActivityCounter> map = new HashMap<Serializable, SocialActivityCounter>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialActivityCounter socialActivityCounter = fetchByPrimaryKey(primaryKey);
+
+			if (socialActivityCounter != null) {
+				map.put(primaryKey, socialActivityCounter);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialActivityCounter socialActivityCounter = (SocialActivityCounter)EntityCacheUtil.getResult(SocialActivityCounterModelImpl.ENTITY_CACHE_ENABLED,
+					SocialActivityCounterImpl.class, primaryKey);
+
+			if (socialActivityCounter == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialActivityCounter != _nullSocialActivityCounter) {
+				map.put(primaryKey, socialActivityCounter);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALACTIVITYCOUNTER_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialActivityCounter socialActivityCounter : (List<SocialActivityCounter>)q.list()) {
+					map.put(socialActivityCounter.getPrimaryKeyObj(), socialActivityCounter);
+
+					cacheResult(socialActivityCounter);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialActivityCounterModelImpl.ENTITY_CACHE_ENABLED,
+						SocialActivityCounterImpl.class, primaryKey, _nullSocialActivityCounter);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social activity counters.
 	 *
@@ -2678,6 +2823,7 @@ public class SocialActivityCounterPersistenceImpl extends BasePersistenceImpl<So
 	}
 
 	private static final String _SQL_SELECT_SOCIALACTIVITYCOUNTER = "SELECT socialActivityCounter FROM SocialActivityCounter socialActivityCounter";
+	private static final String _SQL_SELECT_SOCIALACTIVITYCOUNTER_WHERE_PKS_IN = "SELECT socialActivityCounter FROM SocialActivityCounter socialActivityCounter WHERE socialActivityCounter.activityCounterId IN (";
 	private static final String _SQL_SELECT_SOCIALACTIVITYCOUNTER_WHERE = "SELECT socialActivityCounter FROM SocialActivityCounter socialActivityCounter WHERE ";
 	private static final String _SQL_COUNT_SOCIALACTIVITYCOUNTER = "SELECT COUNT(socialActivityCounter) FROM SocialActivityCounter socialActivityCounter";
 	private static final String _SQL_COUNT_SOCIALACTIVITYCOUNTER_WHERE = "SELECT COUNT(socialActivityCounter) FROM SocialActivityCounter socialActivityCounter WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social activity limit service.
@@ -1476,16 +1480,37 @@ public class SocialActivityLimitPersistenceImpl extends BasePersistenceImpl<Soci
 	 * @param socialActivityLimits the social activity limits
 	 */
 	public void cacheResult(List<SocialActivityLimit> socialActivityLimits) {
+		Map<Serializable, SocialActivityLimit> uncachedSocialActivityLimits = new HashMap<Serializable, SocialActivityLimit>();
+
 		for (SocialActivityLimit socialActivityLimit : socialActivityLimits) {
-			if (EntityCacheUtil.getResult(
-						SocialActivityLimitModelImpl.ENTITY_CACHE_ENABLED,
-						SocialActivityLimitImpl.class,
-						socialActivityLimit.getPrimaryKey()) == null) {
-				cacheResult(socialActivityLimit);
-			}
-			else {
-				socialActivityLimit.resetOriginalValues();
-			}
+			uncachedSocialActivityLimits.put(socialActivityLimit.getPrimaryKeyObj(),
+				socialActivityLimit);
+		}
+
+		Map<Serializable, Serializable> cachedSocialActivityLimits = EntityCacheUtil.getResults(SocialActivityLimitModelImpl.ENTITY_CACHE_ENABLED,
+				SocialActivityLimitImpl.class, uncachedSocialActivityLimits.keySet());
+
+		for (Serializable primaryKey : cachedSocialActivityLimits.keySet()) {
+			SocialActivityLimit socialActivityLimit = uncachedSocialActivityLimits.remove(primaryKey);
+
+			socialActivityLimit.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialActivityLimitModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityLimitImpl.class, uncachedSocialActivityLimits);
+
+		for (SocialActivityLimit socialActivityLimit : uncachedSocialActivityLimits.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_U_C_C_A_A,
+				new Object[] {
+					socialActivityLimit.getGroupId(),
+					socialActivityLimit.getUserId(),
+					socialActivityLimit.getClassNameId(),
+					socialActivityLimit.getClassPK(),
+					socialActivityLimit.getActivityType(),
+					socialActivityLimit.getActivityCounterName()
+				}, socialActivityLimit);
+
+			socialActivityLimit.resetOriginalValues();
 		}
 	}
 
@@ -1532,13 +1557,16 @@ public class SocialActivityLimitPersistenceImpl extends BasePersistenceImpl<Soci
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialActivityLimits.size());
+
 		for (SocialActivityLimit socialActivityLimit : socialActivityLimits) {
-			EntityCacheUtil.removeResult(SocialActivityLimitModelImpl.ENTITY_CACHE_ENABLED,
-				SocialActivityLimitImpl.class,
-				socialActivityLimit.getPrimaryKey());
+			primaryKeys.add(socialActivityLimit.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(socialActivityLimit);
 		}
+
+		EntityCacheUtil.removeResults(SocialActivityLimitModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityLimitImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -1924,6 +1952,113 @@ public class SocialActivityLimitPersistenceImpl extends BasePersistenceImpl<Soci
 		return fetchByPrimaryKey((Serializable)activityLimitId);
 	}
 
+	/**
+	 * Returns the social activity limits with the primary keys, keyed by primary key. Primary keys without a matching social activity limit are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social activity limits
+	 * @return the social activity limits, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialActivityLimit> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialActivityLimit> map = new HashMap<Serializable, SocialActivityLimit>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialActivityLimit socialActivityLimit = fetchByPrimaryKey(primaryKey);
+
+			if (socialActivityLimit != null) {
+				map.put(primaryKey, socialActivityLimit);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialActivityLimit socialActivityLimit = (SocialActivityLimit)EntityCacheUtil.getResult(SocialActivityLimitModelImpl.ENTITY_CACHE_ENABLED,
+					SocialActivityLimitImpl.class, primaryKey);
+
+			if (socialActivityLimit == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialActivityLimit != _nullSocialActivityLimit) {
+				map.put(primaryKey, socialActivityLimit);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALACTIVITYLIMIT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialActivityLimit socialActivityLimit : (List<SocialActivityLimit>)q.list()) {
+					map.put(socialActivityLimit.getPrimaryKeyObj(), socialActivityLimit);
+
+					cacheResult(socialActivityLimit);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialActivityLimitModelImpl.ENTITY_CACHE_ENABLED,
+						SocialActivityLimitImpl.class, primaryKey, _nullSocialActivityLimit);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social activity limits.
 	 *
@@ -2125,6 +2260,7 @@ public class SocialActivityLimitPersistenceImpl extends BasePersistenceImpl<Soci
 	}
 
 	private static final String _SQL_SELECT_SOCIALACTIVITYLIMIT = "SELECT socialActivityLimit FROM SocialActivityLimit socialActivityLimit";
+	private static final String _SQL_SELECT_SOCIALACTIVITYLIMIT_WHERE_PKS_IN = "SELECT socialActivityLimit FROM SocialActivityLimit socialActivityLimit WHERE socialActivityLimit.activityLimitId IN (";
 	private static final String _SQL_SELECT_SOCIALACTIVITYLIMIT_WHERE = "SELECT socialActivityLimit FROM SocialActivityLimit socialActivityLimit WHERE ";
 	private static final String _SQL_COUNT_SOCIALACTIVITYLIMIT = "SELECT COUNT(socialActivityLimit) FROM SocialActivityLimit socialActivityLimit";
 	private static final String _SQL_COUNT_SOCIALACTIVITYLIMIT_WHERE = "SELECT COUNT(socialActivityLimit) FROM SocialActivityLimit socialActivityLimit WHERE ";
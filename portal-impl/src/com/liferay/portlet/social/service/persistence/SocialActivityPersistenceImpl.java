@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social activity service.
@@ -5887,15 +5891,39 @@ public class SocialActivityPersistenceImpl extends BasePersistenceImpl<SocialAct
 	 * @param socialActivities the social activities
 	 */
 	public void cacheResult(List<SocialActivity> socialActivities) {
+		Map<Serializable, SocialActivity> uncachedSocialActivities = new HashMap<Serializable, SocialActivity>();
+
 		for (SocialActivity socialActivity : socialActivities) {
-			if (EntityCacheUtil.getResult(
-						SocialActivityModelImpl.ENTITY_CACHE_ENABLED,
-						SocialActivityImpl.class, socialActivity.getPrimaryKey()) == null) {
-				cacheResult(socialActivity);
-			}
-			else {
-				socialActivity.resetOriginalValues();
-			}
+			uncachedSocialActivities.put(socialActivity.getPrimaryKeyObj(),
+				socialActivity);
+		}
+
+		Map<Serializable, Serializable> cachedSocialActivities = EntityCacheUtil.getResults(SocialActivityModelImpl.ENTITY_CACHE_ENABLED,
+				SocialActivityImpl.class, uncachedSocialActivities.keySet());
+
+		for (Serializable primaryKey : cachedSocialActivities.keySet()) {
+			SocialActivity socialActivity = uncachedSocialActivities.remove(primaryKey);
+
+			socialActivity.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialActivityModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityImpl.class, uncachedSocialActivities);
+
+		for (SocialActivity socialActivity : uncachedSocialActivities.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_MIRRORACTIVITYID,
+				new Object[] { socialActivity.getMirrorActivityId() },
+				socialActivity);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_U_CD_C_C_T_R,
+				new Object[] {
+					socialActivity.getGroupId(), socialActivity.getUserId(),
+					socialActivity.getCreateDate(), socialActivity.getClassNameId(),
+					socialActivity.getClassPK(), socialActivity.getType(),
+					socialActivity.getReceiverUserId()
+				}, socialActivity);
+
+			socialActivity.resetOriginalValues();
 		}
 	}
 
@@ -5942,12 +5970,16 @@ public class SocialActivityPersistenceImpl extends BasePersistenceImpl<SocialAct
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialActivities.size());
+
 		for (SocialActivity socialActivity : socialActivities) {
-			EntityCacheUtil.removeResult(SocialActivityModelImpl.ENTITY_CACHE_ENABLED,
-				SocialActivityImpl.class, socialActivity.getPrimaryKey());
+			primaryKeys.add(socialActivity.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(socialActivity);
 		}
+
+		EntityCacheUtil.removeResults(SocialActivityModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivityImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(SocialActivity socialActivity) {
@@ -6537,6 +6569,113 @@ public class SocialActivityPersistenceImpl extends BasePersistenceImpl<SocialAct
 		return fetchByPrimaryKey((Serializable)activityId);
 	}
 
+	/**
+	 * Returns the social activities with the primary keys, keyed by primary key. Primary keys without a matching social activity are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social activities
+	 * @return the social activities, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialActivity> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialActivity> map = new HashMap<Serializable, SocialActivity>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialActivity socialActivity = fetchByPrimaryKey(primaryKey);
+
+			if (socialActivity != null) {
+				map.put(primaryKey, socialActivity);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialActivity socialActivity = (SocialActivity)EntityCacheUtil.getResult(SocialActivityModelImpl.ENTITY_CACHE_ENABLED,
+					SocialActivityImpl.class, primaryKey);
+
+			if (socialActivity == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialActivity != _nullSocialActivity) {
+				map.put(primaryKey, socialActivity);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALACTIVITY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialActivity socialActivity : (List<SocialActivity>)q.list()) {
+					map.put(socialActivity.getPrimaryKeyObj(), socialActivity);
+
+					cacheResult(socialActivity);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialActivityModelImpl.ENTITY_CACHE_ENABLED,
+						SocialActivityImpl.class, primaryKey, _nullSocialActivity);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social activities.
 	 *
@@ -6738,6 +6877,7 @@ public class SocialActivityPersistenceImpl extends BasePersistenceImpl<SocialAct
 	}
 
 	private static final String _SQL_SELECT_SOCIALACTIVITY = "SELECT socialActivity FROM SocialActivity socialActivity";
+	private static final String _SQL_SELECT_SOCIALACTIVITY_WHERE_PKS_IN = "SELECT socialActivity FROM SocialActivity socialActivity WHERE socialActivity.activityId IN (";
 	private static final String _SQL_SELECT_SOCIALACTIVITY_WHERE = "SELECT socialActivity FROM SocialActivity socialActivity WHERE ";
 	private static final String _SQL_COUNT_SOCIALACTIVITY = "SELECT COUNT(socialActivity) FROM SocialActivity socialActivity";
 	private static final String _SQL_COUNT_SOCIALACTIVITY_WHERE = "SELECT COUNT(socialActivity) FROM SocialActivity socialActivity WHERE ";
@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -28,6 +29,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.UnmodifiableList;
 import com.liferay.portal.model.CacheModel;
@@ -43,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social activity set service.
@@ -100,16 +106,27 @@ public class SocialActivitySetPersistenceImpl extends BasePersistenceImpl<Social
 	 * @param socialActivitySets the social activity sets
 	 */
 	public void cacheResult(List<SocialActivitySet> socialActivitySets) {
+		Map<Serializable, SocialActivitySet> uncachedSocialActivitySets = new HashMap<Serializable, SocialActivitySet>();
+
 		for (SocialActivitySet socialActivitySet : socialActivitySets) {
-			if (EntityCacheUtil.getResult(
-						SocialActivitySetModelImpl.ENTITY_CACHE_ENABLED,
-						SocialActivitySetImpl.class,
-						socialActivitySet.getPrimaryKey()) == null) {
-				cacheResult(socialActivitySet);
-			}
-			else {
-				socialActivitySet.resetOriginalValues();
-			}
+			uncachedSocialActivitySets.put(socialActivitySet.getPrimaryKeyObj(),
+				socialActivitySet);
+		}
+
+		Map<Serializable, Serializable> cachedSocialActivitySets = EntityCacheUtil.getResults(SocialActivitySetModelImpl.ENTITY_CACHE_ENABLED,
+				SocialActivitySetImpl.class, uncachedSocialActivitySets.keySet());
+
+		for (Serializable primaryKey : cachedSocialActivitySets.keySet()) {
+			SocialActivitySet socialActivitySet = uncachedSocialActivitySets.remove(primaryKey);
+
+			socialActivitySet.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialActivitySetModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivitySetImpl.class, uncachedSocialActivitySets);
+
+		for (SocialActivitySet socialActivitySet : uncachedSocialActivitySets.values()) {
+			socialActivitySet.resetOriginalValues();
 		}
 	}
 
@@ -154,10 +171,14 @@ public class SocialActivitySetPersistenceImpl extends BasePersistenceImpl<Social
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialActivitySets.size());
+
 		for (SocialActivitySet socialActivitySet : socialActivitySets) {
-			EntityCacheUtil.removeResult(SocialActivitySetModelImpl.ENTITY_CACHE_ENABLED,
-				SocialActivitySetImpl.class, socialActivitySet.getPrimaryKey());
+			primaryKeys.add(socialActivitySet.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(SocialActivitySetModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivitySetImpl.class, primaryKeys);
 	}
 
 	/**
@@ -428,6 +449,113 @@ public class SocialActivitySetPersistenceImpl extends BasePersistenceImpl<Social
 		return fetchByPrimaryKey((Serializable)activitySetId);
 	}
 
+	/**
+	 * Returns the social activity sets with the primary keys, keyed by primary key. Primary keys without a matching social activity set are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social activity sets
+	 * @return the social activity sets, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialActivitySet> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialActivitySet> map = new HashMap<Serializable, SocialActivitySet>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialActivitySet socialActivitySet = fetchByPrimaryKey(primaryKey);
+
+			if (socialActivitySet != null) {
+				map.put(primaryKey, socialActivitySet);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialActivitySet socialActivitySet = (SocialActivitySet)EntityCacheUtil.getResult(SocialActivitySetModelImpl.ENTITY_CACHE_ENABLED,
+					SocialActivitySetImpl.class, primaryKey);
+
+			if (socialActivitySet == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialActivitySet != _nullSocialActivitySet) {
+				map.put(primaryKey, socialActivitySet);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALACTIVITYSET_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialActivitySet socialActivitySet : (List<SocialActivitySet>)q.list()) {
+					map.put(socialActivitySet.getPrimaryKeyObj(), socialActivitySet);
+
+					cacheResult(socialActivitySet);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialActivitySetModelImpl.ENTITY_CACHE_ENABLED,
+						SocialActivitySetImpl.class, primaryKey, _nullSocialActivitySet);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social activity sets.
 	 *
@@ -629,6 +757,7 @@ public class SocialActivitySetPersistenceImpl extends BasePersistenceImpl<Social
 	}
 
 	private static final String _SQL_SELECT_SOCIALACTIVITYSET = "SELECT socialActivitySet FROM SocialActivitySet socialActivitySet";
+	private static final String _SQL_SELECT_SOCIALACTIVITYSET_WHERE_PKS_IN = "SELECT socialActivitySet FROM SocialActivitySet socialActivitySet WHERE socialActivitySet.activitySetId IN (";
 	private static final String _SQL_COUNT_SOCIALACTIVITYSET = "SELECT COUNT(socialActivitySet) FROM SocialActivitySet socialActivitySet";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "socialActivitySet.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No SocialActivitySet exists with the primary key ";
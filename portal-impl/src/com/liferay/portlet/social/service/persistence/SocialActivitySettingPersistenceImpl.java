@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social activity setting service.
@@ -2509,16 +2513,35 @@ public class SocialActivitySettingPersistenceImpl extends BasePersistenceImpl<So
 	 * @param socialActivitySettings the social activity settings
 	 */
 	public void cacheResult(List<SocialActivitySetting> socialActivitySettings) {
+		Map<Serializable, SocialActivitySetting> uncachedSocialActivitySettings = new HashMap<Serializable, SocialActivitySetting>();
+
 		for (SocialActivitySetting socialActivitySetting : socialActivitySettings) {
-			if (EntityCacheUtil.getResult(
-						SocialActivitySettingModelImpl.ENTITY_CACHE_ENABLED,
-						SocialActivitySettingImpl.class,
-						socialActivitySetting.getPrimaryKey()) == null) {
-				cacheResult(socialActivitySetting);
-			}
-			else {
-				socialActivitySetting.resetOriginalValues();
-			}
+			uncachedSocialActivitySettings.put(socialActivitySetting.getPrimaryKeyObj(),
+				socialActivitySetting);
+		}
+
+		Map<Serializable, Serializable> cachedSocialActivitySettings = EntityCacheUtil.getResults(SocialActivitySettingModelImpl.ENTITY_CACHE_ENABLED,
+				SocialActivitySettingImpl.class, uncachedSocialActivitySettings.keySet());
+
+		for (Serializable primaryKey : cachedSocialActivitySettings.keySet()) {
+			SocialActivitySetting socialActivitySetting = uncachedSocialActivitySettings.remove(primaryKey);
+
+			socialActivitySetting.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialActivitySettingModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivitySettingImpl.class, uncachedSocialActivitySettings);
+
+		for (SocialActivitySetting socialActivitySetting : uncachedSocialActivitySettings.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_C_A_N,
+				new Object[] {
+					socialActivitySetting.getGroupId(),
+					socialActivitySetting.getClassNameId(),
+					socialActivitySetting.getActivityType(),
+					socialActivitySetting.getName()
+				}, socialActivitySetting);
+
+			socialActivitySetting.resetOriginalValues();
 		}
 	}
 
@@ -2566,13 +2589,16 @@ public class SocialActivitySettingPersistenceImpl extends BasePersistenceImpl<So
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialActivitySettings.size());
+
 		for (SocialActivitySetting socialActivitySetting : socialActivitySettings) {
-			EntityCacheUtil.removeResult(SocialActivitySettingModelImpl.ENTITY_CACHE_ENABLED,
-				SocialActivitySettingImpl.class,
-				socialActivitySetting.getPrimaryKey());
+			primaryKeys.add(socialActivitySetting.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(socialActivitySetting);
 		}
+
+		EntityCacheUtil.removeResults(SocialActivitySettingModelImpl.ENTITY_CACHE_ENABLED,
+			SocialActivitySettingImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -2992,6 +3018,113 @@ public class SocialActivitySettingPersistenceImpl extends BasePersistenceImpl<So
 		return fetchByPrimaryKey((Serializable)activitySettingId);
 	}
 
+	/**
+	 * Returns the social activity settings with the primary keys, keyed by primary key. Primary keys without a matching social activity setting are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social activity settings
+	 * @return the social activity settings, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialActivitySetting> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialActivitySetting> map = new HashMap<Serializable, SocialActivitySetting>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialActivitySetting socialActivitySetting = fetchByPrimaryKey(primaryKey);
+
+			if (socialActivitySetting != null) {
+				map.put(primaryKey, socialActivitySetting);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialActivitySetting socialActivitySetting = (SocialActivitySetting)EntityCacheUtil.getResult(SocialActivitySettingModelImpl.ENTITY_CACHE_ENABLED,
+					SocialActivitySettingImpl.class, primaryKey);
+
+			if (socialActivitySetting == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialActivitySetting != _nullSocialActivitySetting) {
+				map.put(primaryKey, socialActivitySetting);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALACTIVITYSETTING_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialActivitySetting socialActivitySetting : (List<SocialActivitySetting>)q.list()) {
+					map.put(socialActivitySetting.getPrimaryKeyObj(), socialActivitySetting);
+
+					cacheResult(socialActivitySetting);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialActivitySettingModelImpl.ENTITY_CACHE_ENABLED,
+						SocialActivitySettingImpl.class, primaryKey, _nullSocialActivitySetting);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social activity settings.
 	 *
@@ -3193,6 +3326,7 @@ public class SocialActivitySettingPersistenceImpl extends BasePersistenceImpl<So
 	}
 
 	private static final String _SQL_SELECT_SOCIALACTIVITYSETTING = "SELECT socialActivitySetting FROM SocialActivitySetting socialActivitySetting";
+	private static final String _SQL_SELECT_SOCIALACTIVITYSETTING_WHERE_PKS_IN = "SELECT socialActivitySetting FROM SocialActivitySetting socialActivitySetting WHERE socialActivitySetting.activitySettingId IN (";
 	private static final String _SQL_SELECT_SOCIALACTIVITYSETTING_WHERE = "SELECT socialActivitySetting FROM SocialActivitySetting socialActivitySetting WHERE ";
 	private static final String _SQL_COUNT_SOCIALACTIVITYSETTING = "SELECT COUNT(socialActivitySetting) FROM SocialActivitySetting socialActivitySetting";
 	private static final String _SQL_COUNT_SOCIALACTIVITYSETTING_WHERE = "SELECT COUNT(socialActivitySetting) FROM SocialActivitySetting socialActivitySetting WHERE ";
@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social relation service.
@@ -5409,15 +5413,33 @@ public class SocialRelationPersistenceImpl extends BasePersistenceImpl<SocialRel
 	 * @param socialRelations the social relations
 	 */
 	public void cacheResult(List<SocialRelation> socialRelations) {
+		Map<Serializable, SocialRelation> uncachedSocialRelations = new HashMap<Serializable, SocialRelation>();
+
 		for (SocialRelation socialRelation : socialRelations) {
-			if (EntityCacheUtil.getResult(
-						SocialRelationModelImpl.ENTITY_CACHE_ENABLED,
-						SocialRelationImpl.class, socialRelation.getPrimaryKey()) == null) {
-				cacheResult(socialRelation);
-			}
-			else {
-				socialRelation.resetOriginalValues();
-			}
+			uncachedSocialRelations.put(socialRelation.getPrimaryKeyObj(),
+				socialRelation);
+		}
+
+		Map<Serializable, Serializable> cachedSocialRelations = EntityCacheUtil.getResults(SocialRelationModelImpl.ENTITY_CACHE_ENABLED,
+				SocialRelationImpl.class, uncachedSocialRelations.keySet());
+
+		for (Serializable primaryKey : cachedSocialRelations.keySet()) {
+			SocialRelation socialRelation = uncachedSocialRelations.remove(primaryKey);
+
+			socialRelation.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialRelationModelImpl.ENTITY_CACHE_ENABLED,
+			SocialRelationImpl.class, uncachedSocialRelations);
+
+		for (SocialRelation socialRelation : uncachedSocialRelations.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_U1_U2_T,
+				new Object[] {
+					socialRelation.getUserId1(), socialRelation.getUserId2(),
+					socialRelation.getType()
+				}, socialRelation);
+
+			socialRelation.resetOriginalValues();
 		}
 	}
 
@@ -5464,12 +5486,16 @@ public class SocialRelationPersistenceImpl extends BasePersistenceImpl<SocialRel
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialRelations.size());
+
 		for (SocialRelation socialRelation : socialRelations) {
-			EntityCacheUtil.removeResult(SocialRelationModelImpl.ENTITY_CACHE_ENABLED,
-				SocialRelationImpl.class, socialRelation.getPrimaryKey());
+			primaryKeys.add(socialRelation.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(socialRelation);
 		}
+
+		EntityCacheUtil.removeResults(SocialRelationModelImpl.ENTITY_CACHE_ENABLED,
+			SocialRelationImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(SocialRelation socialRelation) {
@@ -5999,6 +6025,113 @@ public class SocialRelationPersistenceImpl extends BasePersistenceImpl<SocialRel
 		return fetchByPrimaryKey((Serializable)relationId);
 	}
 
+	/**
+	 * Returns the social relations with the primary keys, keyed by primary key. Primary keys without a matching social relation are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social relations
+	 * @return the social relations, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialRelation> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialRelation> map = new HashMap<Serializable, SocialRelation>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialRelation socialRelation = fetchByPrimaryKey(primaryKey);
+
+			if (socialRelation != null) {
+				map.put(primaryKey, socialRelation);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialRelation socialRelation = (SocialRelation)EntityCacheUtil.getResult(SocialRelationModelImpl.ENTITY_CACHE_ENABLED,
+					SocialRelationImpl.class, primaryKey);
+
+			if (socialRelation == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialRelation != _nullSocialRelation) {
+				map.put(primaryKey, socialRelation);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALRELATION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialRelation socialRelation : (List<SocialRelation>)q.list()) {
+					map.put(socialRelation.getPrimaryKeyObj(), socialRelation);
+
+					cacheResult(socialRelation);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialRelationModelImpl.ENTITY_CACHE_ENABLED,
+						SocialRelationImpl.class, primaryKey, _nullSocialRelation);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social relations.
 	 *
@@ -6200,6 +6333,7 @@ public class SocialRelationPersistenceImpl extends BasePersistenceImpl<SocialRel
 	}
 
 	private static final String _SQL_SELECT_SOCIALRELATION = "SELECT socialRelation FROM SocialRelation socialRelation";
+	private static final String _SQL_SELECT_SOCIALRELATION_WHERE_PKS_IN = "SELECT socialRelation FROM SocialRelation socialRelation WHERE socialRelation.relationId IN (";
 	private static final String _SQL_SELECT_SOCIALRELATION_WHERE = "SELECT socialRelation FROM SocialRelation socialRelation WHERE ";
 	private static final String _SQL_COUNT_SOCIALRELATION = "SELECT COUNT(socialRelation) FROM SocialRelation socialRelation";
 	private static final String _SQL_COUNT_SOCIALRELATION_WHERE = "SELECT COUNT(socialRelation) FROM SocialRelation socialRelation WHERE ";
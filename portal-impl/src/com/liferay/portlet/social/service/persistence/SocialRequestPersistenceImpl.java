@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social request service.
@@ -5491,15 +5495,38 @@ public class SocialRequestPersistenceImpl extends BasePersistenceImpl<SocialRequ
 	 * @param socialRequests the social requests
 	 */
 	public void cacheResult(List<SocialRequest> socialRequests) {
+		Map<Serializable, SocialRequest> uncachedSocialRequests = new HashMap<Serializable, SocialRequest>();
+
 		for (SocialRequest socialRequest : socialRequests) {
-			if (EntityCacheUtil.getResult(
-						SocialRequestModelImpl.ENTITY_CACHE_ENABLED,
-						SocialRequestImpl.class, socialRequest.getPrimaryKey()) == null) {
-				cacheResult(socialRequest);
-			}
-			else {
-				socialRequest.resetOriginalValues();
-			}
+			uncachedSocialRequests.put(socialRequest.getPrimaryKeyObj(),
+				socialRequest);
+		}
+
+		Map<Serializable, Serializable> cachedSocialRequests = EntityCacheUtil.getResults(SocialRequestModelImpl.ENTITY_CACHE_ENABLED,
+				SocialRequestImpl.class, uncachedSocialRequests.keySet());
+
+		for (Serializable primaryKey : cachedSocialRequests.keySet()) {
+			SocialRequest socialRequest = uncachedSocialRequests.remove(primaryKey);
+
+			socialRequest.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SocialRequestModelImpl.ENTITY_CACHE_ENABLED,
+			SocialRequestImpl.class, uncachedSocialRequests);
+
+		for (SocialRequest socialRequest : uncachedSocialRequests.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { socialRequest.getUuid(), socialRequest.getGroupId() },
+				socialRequest);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_U_C_C_T_R,
+				new Object[] {
+					socialRequest.getUserId(), socialRequest.getClassNameId(),
+					socialRequest.getClassPK(), socialRequest.getType(),
+					socialRequest.getReceiverUserId()
+				}, socialRequest);
+
+			socialRequest.resetOriginalValues();
 		}
 	}
 
@@ -5546,12 +5573,16 @@ public class SocialRequestPersistenceImpl extends BasePersistenceImpl<SocialRequ
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(socialRequests.size());
+
 		for (SocialRequest socialRequest : socialRequests) {
-			EntityCacheUtil.removeResult(SocialRequestModelImpl.ENTITY_CACHE_ENABLED,
-				SocialRequestImpl.class, socialRequest.getPrimaryKey());
+			primaryKeys.add(socialRequest.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(socialRequest);
 		}
+
+		EntityCacheUtil.removeResults(SocialRequestModelImpl.ENTITY_CACHE_ENABLED,
+			SocialRequestImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(SocialRequest socialRequest) {
@@ -6132,6 +6163,113 @@ public class SocialRequestPersistenceImpl extends BasePersistenceImpl<SocialRequ
 		return fetchByPrimaryKey((Serializable)requestId);
 	}
 
+	/**
+	 * Returns the social requests with the primary keys, keyed by primary key. Primary keys without a matching social request are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the social requests
+	 * @return the social requests, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialRequest> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SocialRequest> map = new HashMap<Serializable, SocialRequest>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SocialRequest socialRequest = fetchByPrimaryKey(primaryKey);
+
+			if (socialRequest != null) {
+				map.put(primaryKey, socialRequest);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialRequest socialRequest = (SocialRequest)EntityCacheUtil.getResult(SocialRequestModelImpl.ENTITY_CACHE_ENABLED,
+					SocialRequestImpl.class, primaryKey);
+
+			if (socialRequest == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialRequest != _nullSocialRequest) {
+				map.put(primaryKey, socialRequest);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALREQUEST_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SocialRequest socialRequest : (List<SocialRequest>)q.list()) {
+					map.put(socialRequest.getPrimaryKeyObj(), socialRequest);
+
+					cacheResult(socialRequest);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SocialRequestModelImpl.ENTITY_CACHE_ENABLED,
+						SocialRequestImpl.class, primaryKey, _nullSocialRequest);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the social requests.
 	 *
@@ -6333,6 +6471,7 @@ public class SocialRequestPersistenceImpl extends BasePersistenceImpl<SocialRequ
 	}
 
 	private static final String _SQL_SELECT_SOCIALREQUEST = "SELECT socialRequest FROM SocialRequest socialRequest";
+	private static final String _SQL_SELECT_SOCIALREQUEST_WHERE_PKS_IN = "SELECT socialRequest FROM SocialRequest socialRequest WHERE socialRequest.requestId IN (";
 	private static final String _SQL_SELECT_SOCIALREQUEST_WHERE = "SELECT socialRequest FROM SocialRequest socialRequest WHERE ";
 	private static final String _SQL_COUNT_SOCIALREQUEST = "SELECT COUNT(socialRequest) FROM SocialRequest socialRequest";
 	private static final String _SQL_COUNT_SOCIALREQUEST_WHERE = "SELECT COUNT(socialRequest) FROM SocialRequest socialRequest WHERE ";
@@ -0,0 +1,366 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.social.util;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
+import com.liferay.portal.util.ClassLoaderUtil;
+import com.liferay.portlet.social.model.SocialActivityCounterIncrement;
+import com.liferay.portlet.social.service.SocialActivityCounterLocalService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects activity counter increments in memory and writes them behind. The
+ * increments are spread over several independently locked stripes and merged
+ * with the pending increments of the same counter. They are written in
+ * batches on a schedule, each batch in its own transaction.
+ *
+ * <p>
+ * A batch that fails is retried one increment at a time. Increments that fail
+ * with a system exception are put back into the buffer for the next flush.
+ * Increments that fail with a portal exception, like those of a deleted
+ * group, are dropped. Closing the buffer stops the schedule, refuses further
+ * increments and writes everything that is still pending, so an increment is
+ * written exactly once when the portal shuts down cleanly.
+ * </p>
+ *
+ * @author agent
+ */
+public class SocialActivityCounterIncrementBuffer {
+
+	public SocialActivityCounterIncrementBuffer(
+		SocialActivityCounterLocalService socialActivityCounterLocalService,
+		long flushInterval, int flushBatchSize) {
+
+		_socialActivityCounterLocalService = socialActivityCounterLocalService;
+		_flushBatchSize = Math.max(flushBatchSize, 1);
+
+		for (int i = 0; i < _stripes.length; i++) {
+			_stripes[i] = new Stripe();
+		}
+
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			new NamedThreadFactory(
+				SocialActivityCounterIncrementBuffer.class.getName(),
+				Thread.NORM_PRIORITY, ClassLoaderUtil.getContextClassLoader()));
+
+		_scheduledExecutorService.scheduleWithFixedDelay(
+			new Runnable() {
+
+				public void run() {
+					flush();
+				}
+
+			},
+			flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Adds an increment to the buffer.
+	 *
+	 * @return <code>false</code> if the buffer is closed and the caller must
+	 *         write the increment itself
+	 */
+	public boolean add(
+		SocialActivityCounterIncrement activityCounterIncrement) {
+
+		Stripe stripe = _getStripe(activityCounterIncrement);
+
+		synchronized (stripe) {
+			if (stripe._closed) {
+				return false;
+			}
+
+			SocialActivityCounterIncrement pendingActivityCounterIncrement =
+				stripe._activityCounterIncrements.get(activityCounterIncrement);
+
+			if (pendingActivityCounterIncrement == null) {
+				stripe._activityCounterIncrements.put(
+					activityCounterIncrement, activityCounterIncrement);
+			}
+			else {
+				pendingActivityCounterIncrement.addIncrement(
+					activityCounterIncrement.getIncrement());
+			}
+		}
+
+		return true;
+	}
+
+	public void close() {
+		_scheduledExecutorService.shutdown();
+
+		try {
+			_scheduledExecutorService.awaitTermination(
+				Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ie) {
+			_log.error("Interrupted while waiting for a pending flush", ie);
+		}
+
+		for (Stripe stripe : _stripes) {
+			synchronized (stripe) {
+				stripe._closed = true;
+			}
+		}
+
+		flush();
+	}
+
+	public void flush() {
+		synchronized (_stripes) {
+			_flush(_drain(0, 0));
+		}
+	}
+
+	/**
+	 * Writes the pending increments of the counters that belong to the
+	 * entity. This waits for a flush in progress, so that the counters are up
+	 * to date when it returns, but leaves the increments of other entities in
+	 * the buffer.
+	 *
+	 * @param classNameId the primary key of the entity's class
+	 * @param classPK the primary key of the entity
+	 */
+	public void flush(long classNameId, long classPK) {
+		synchronized (_stripes) {
+			_flush(_drain(classNameId, classPK));
+		}
+	}
+
+	private Map<Long, List<SocialActivityCounterIncrement>> _drain(
+		long classNameId, long classPK) {
+
+		Map<Long, List<SocialActivityCounterIncrement>>
+			activityCounterIncrementsMap =
+				new HashMap<Long, List<SocialActivityCounterIncrement>>();
+
+		for (Stripe stripe : _stripes) {
+			Map<SocialActivityCounterIncrement, SocialActivityCounterIncrement>
+				activityCounterIncrements = null;
+
+			synchronized (stripe) {
+				if (stripe._activityCounterIncrements.isEmpty()) {
+					continue;
+				}
+
+				if (classNameId > 0) {
+					activityCounterIncrements = stripe.remove(
+						classNameId, classPK);
+				}
+				else {
+					activityCounterIncrements =
+						stripe._activityCounterIncrements;
+
+					stripe._activityCounterIncrements =
+						new HashMap<SocialActivityCounterIncrement,
+							SocialActivityCounterIncrement>();
+				}
+			}
+
+			for (SocialActivityCounterIncrement activityCounterIncrement :
+					activityCounterIncrements.keySet()) {
+
+				if (activityCounterIncrement.getIncrement() == 0) {
+					continue;
+				}
+
+				List<SocialActivityCounterIncrement> companyIncrements =
+					activityCounterIncrementsMap.get(
+						activityCounterIncrement.getCompanyId());
+
+				if (companyIncrements == null) {
+					companyIncrements =
+						new ArrayList<SocialActivityCounterIncrement>();
+
+					activityCounterIncrementsMap.put(
+						activityCounterIncrement.getCompanyId(),
+						companyIncrements);
+				}
+
+				companyIncrements.add(activityCounterIncrement);
+			}
+		}
+
+		return activityCounterIncrementsMap;
+	}
+
+	private void _flush(
+		Map<Long, List<SocialActivityCounterIncrement>>
+			activityCounterIncrementsMap) {
+
+		if (activityCounterIncrementsMap.isEmpty()) {
+			return;
+		}
+
+		Long companyId = CompanyThreadLocal.getCompanyId();
+
+		try {
+			for (Map.Entry<Long, List<SocialActivityCounterIncrement>> entry :
+					activityCounterIncrementsMap.entrySet()) {
+
+				CompanyThreadLocal.setCompanyId(entry.getKey());
+
+				_flush(entry.getValue());
+			}
+		}
+		finally {
+			CompanyThreadLocal.setCompanyId(companyId);
+		}
+	}
+
+	private void _flush(
+		List<SocialActivityCounterIncrement> activityCounterIncrements) {
+
+		for (int i = 0; i < activityCounterIncrements.size();
+				i += _flushBatchSize) {
+
+			List<SocialActivityCounterIncrement> batch =
+				activityCounterIncrements.subList(
+					i,
+					Math.min(
+						i + _flushBatchSize, activityCounterIncrements.size()));
+
+			try {
+				_socialActivityCounterLocalService.incrementActivityCounters(
+					batch);
+
+				continue;
+			}
+			catch (Exception e) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to write a batch of " + batch.size() +
+							" activity counter increments. Retrying them " +
+								"one at a time.",
+						e);
+				}
+			}
+
+			for (SocialActivityCounterIncrement activityCounterIncrement :
+					batch) {
+
+				try {
+					_socialActivityCounterLocalService.
+						incrementActivityCounters(
+							Collections.singletonList(
+								activityCounterIncrement));
+				}
+				catch (PortalException pe) {
+					_log.error(
+						"Dropping activity counter increment " +
+							activityCounterIncrement,
+						pe);
+				}
+				catch (Exception e) {
+					_requeue(activityCounterIncrement, e);
+				}
+			}
+		}
+	}
+
+	private Stripe _getStripe(
+		SocialActivityCounterIncrement activityCounterIncrement) {
+
+		int hash = activityCounterIncrement.hashCode();
+
+		hash ^= (hash >>> 16);
+
+		return _stripes[hash & (_stripes.length - 1)];
+	}
+
+	private void _requeue(
+		SocialActivityCounterIncrement activityCounterIncrement, Exception e) {
+
+		if (add(activityCounterIncrement)) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to write activity counter increment " +
+						activityCounterIncrement + ". It will be retried.",
+					e);
+			}
+		}
+		else {
+			_log.error(
+				"Unable to write activity counter increment " +
+					activityCounterIncrement,
+				e);
+		}
+	}
+
+	private static final int _STRIPES_COUNT = 16;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		SocialActivityCounterIncrementBuffer.class);
+
+	private final int _flushBatchSize;
+	private final ScheduledExecutorService _scheduledExecutorService;
+	private final SocialActivityCounterLocalService
+		_socialActivityCounterLocalService;
+	private final Stripe[] _stripes = new Stripe[_STRIPES_COUNT];
+
+	private static class Stripe {
+
+		private Map<SocialActivityCounterIncrement,
+			SocialActivityCounterIncrement> remove(
+				long classNameId, long classPK) {
+
+			Map<SocialActivityCounterIncrement, SocialActivityCounterIncrement>
+				activityCounterIncrements =
+					new HashMap<SocialActivityCounterIncrement,
+						SocialActivityCounterIncrement>();
+
+			Iterator<SocialActivityCounterIncrement> iterator =
+				_activityCounterIncrements.keySet().iterator();
+
+			while (iterator.hasNext()) {
+				SocialActivityCounterIncrement activityCounterIncrement =
+					iterator.next();
+
+				if ((activityCounterIncrement.getClassNameId() ==
+						classNameId) &&
+					(activityCounterIncrement.getClassPK() == classPK)) {
+
+					activityCounterIncrements.put(
+						activityCounterIncrement, activityCounterIncrement);
+
+					iterator.remove();
+				}
+			}
+
+			return activityCounterIncrements;
+		}
+
+		private Map<SocialActivityCounterIncrement,
+			SocialActivityCounterIncrement> _activityCounterIncrements =
+				new HashMap<SocialActivityCounterIncrement,
+					SocialActivityCounterIncrement>();
+		private boolean _closed;
+
+	}
+
+}
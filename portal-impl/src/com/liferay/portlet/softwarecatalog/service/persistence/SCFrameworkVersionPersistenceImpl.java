@@ -54,7 +54,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -2331,16 +2334,27 @@ public class SCFrameworkVersionPersistenceImpl extends BasePersistenceImpl<SCFra
 	 * @param scFrameworkVersions the s c framework versions
 	 */
 	public void cacheResult(List<SCFrameworkVersion> scFrameworkVersions) {
+		Map<Serializable, SCFrameworkVersion> uncachedScFrameworkVersions = new HashMap<Serializable, SCFrameworkVersion>();
+
 		for (SCFrameworkVersion scFrameworkVersion : scFrameworkVersions) {
-			if (EntityCacheUtil.getResult(
-						SCFrameworkVersionModelImpl.ENTITY_CACHE_ENABLED,
-						SCFrameworkVersionImpl.class,
-						scFrameworkVersion.getPrimaryKey()) == null) {
-				cacheResult(scFrameworkVersion);
-			}
-			else {
-				scFrameworkVersion.resetOriginalValues();
-			}
+			uncachedScFrameworkVersions.put(scFrameworkVersion.getPrimaryKeyObj(),
+				scFrameworkVersion);
+		}
+
+		Map<Serializable, Serializable> cachedScFrameworkVersions = EntityCacheUtil.getResults(SCFrameworkVersionModelImpl.ENTITY_CACHE_ENABLED,
+				SCFrameworkVersionImpl.class, uncachedScFrameworkVersions.keySet());
+
+		for (Serializable primaryKey : cachedScFrameworkVersions.keySet()) {
+			SCFrameworkVersion scFrameworkVersion = uncachedScFrameworkVersions.remove(primaryKey);
+
+			scFrameworkVersion.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SCFrameworkVersionModelImpl.ENTITY_CACHE_ENABLED,
+			SCFrameworkVersionImpl.class, uncachedScFrameworkVersions);
+
+		for (SCFrameworkVersion scFrameworkVersion : uncachedScFrameworkVersions.values()) {
+			scFrameworkVersion.resetOriginalValues();
 		}
 	}
 
@@ -2385,10 +2399,14 @@ public class SCFrameworkVersionPersistenceImpl extends BasePersistenceImpl<SCFra
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(scFrameworkVersions.size());
+
 		for (SCFrameworkVersion scFrameworkVersion : scFrameworkVersions) {
-			EntityCacheUtil.removeResult(SCFrameworkVersionModelImpl.ENTITY_CACHE_ENABLED,
-				SCFrameworkVersionImpl.class, scFrameworkVersion.getPrimaryKey());
+			primaryKeys.add(scFrameworkVersion.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(SCFrameworkVersionModelImpl.ENTITY_CACHE_ENABLED,
+			SCFrameworkVersionImpl.class, primaryKeys);
 	}
 
 	/**
@@ -2731,6 +2749,113 @@ public class SCFrameworkVersionPersistenceImpl extends BasePersistenceImpl<SCFra
 		return fetchByPrimaryKey((Serializable)frameworkVersionId);
 	}
 
+	/**
+	 * Returns the s c framework versions with the primary keys, keyed by primary key. Primary keys without a matching s c framework version are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the s c framework versions
+	 * @return the s c framework versions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SCFrameworkVersion> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SCFrameworkVersion> map = new HashMap<Serializable, SCFrameworkVersion>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SCFrameworkVersion scFrameworkVersion = fetchByPrimaryKey(primaryKey);
+
+			if (scFrameworkVersion != null) {
+				map.put(primaryKey, scFrameworkVersion);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SCFrameworkVersion scFrameworkVersion = (SCFrameworkVersion)EntityCacheUtil.getResult(SCFrameworkVersionModelImpl.ENTITY_CACHE_ENABLED,
+					SCFrameworkVersionImpl.class, primaryKey);
+
+			if (scFrameworkVersion == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (scFrameworkVersion != _nullSCFrameworkVersion) {
+				map.put(primaryKey, scFrameworkVersion);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SCFRAMEWORKVERSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SCFrameworkVersion scFrameworkVersion : (List<SCFrameworkVersion>)q.list()) {
+					map.put(scFrameworkVersion.getPrimaryKeyObj(), scFrameworkVersion);
+
+					cacheResult(scFrameworkVersion);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SCFrameworkVersionModelImpl.ENTITY_CACHE_ENABLED,
+						SCFrameworkVersionImpl.class, primaryKey, _nullSCFrameworkVersion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the s c framework versions.
 	 *
@@ -3626,6 +3751,7 @@ public class SCFrameworkVersionPersistenceImpl extends BasePersistenceImpl<SCFra
 	}
 
 	private static final String _SQL_SELECT_SCFRAMEWORKVERSION = "SELECT scFrameworkVersion FROM SCFrameworkVersion scFrameworkVersion";
+	private static final String _SQL_SELECT_SCFRAMEWORKVERSION_WHERE_PKS_IN = "SELECT scFrameworkVersion FROM SCFrameworkVersion scFrameworkVersion WHERE scFrameworkVersion.frameworkVersionId IN (";
 	private static final String _SQL_SELECT_SCFRAMEWORKVERSION_WHERE = "SELECT scFrameworkVersion FROM SCFrameworkVersion scFrameworkVersion WHERE ";
 	private static final String _SQL_COUNT_SCFRAMEWORKVERSION = "SELECT COUNT(scFrameworkVersion) FROM SCFrameworkVersion scFrameworkVersion";
 	private static final String _SQL_COUNT_SCFRAMEWORKVERSION_WHERE = "SELECT COUNT(scFrameworkVersion) FROM SCFrameworkVersion scFrameworkVersion WHERE ";
@@ -54,7 +54,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -1826,15 +1829,26 @@ public class SCLicensePersistenceImpl extends BasePersistenceImpl<SCLicense>
 	 * @param scLicenses the s c licenses
 	 */
 	public void cacheResult(List<SCLicense> scLicenses) {
+		Map<Serializable, SCLicense> uncachedScLicenses = new HashMap<Serializable, SCLicense>();
+
 		for (SCLicense scLicense : scLicenses) {
-			if (EntityCacheUtil.getResult(
-						SCLicenseModelImpl.ENTITY_CACHE_ENABLED,
-						SCLicenseImpl.class, scLicense.getPrimaryKey()) == null) {
-				cacheResult(scLicense);
-			}
-			else {
-				scLicense.resetOriginalValues();
-			}
+			uncachedScLicenses.put(scLicense.getPrimaryKeyObj(), scLicense);
+		}
+
+		Map<Serializable, Serializable> cachedScLicenses = EntityCacheUtil.getResults(SCLicenseModelImpl.ENTITY_CACHE_ENABLED,
+				SCLicenseImpl.class, uncachedScLicenses.keySet());
+
+		for (Serializable primaryKey : cachedScLicenses.keySet()) {
+			SCLicense scLicense = uncachedScLicenses.remove(primaryKey);
+
+			scLicense.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SCLicenseModelImpl.ENTITY_CACHE_ENABLED,
+			SCLicenseImpl.class, uncachedScLicenses);
+
+		for (SCLicense scLicense : uncachedScLicenses.values()) {
+			scLicense.resetOriginalValues();
 		}
 	}
 
@@ -1879,10 +1893,14 @@ public class SCLicensePersistenceImpl extends BasePersistenceImpl<SCLicense>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(scLicenses.size());
+
 		for (SCLicense scLicense : scLicenses) {
-			EntityCacheUtil.removeResult(SCLicenseModelImpl.ENTITY_CACHE_ENABLED,
-				SCLicenseImpl.class, scLicense.getPrimaryKey());
+			primaryKeys.add(scLicense.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(SCLicenseModelImpl.ENTITY_CACHE_ENABLED,
+			SCLicenseImpl.class, primaryKeys);
 	}
 
 	/**
@@ -2198,6 +2216,113 @@ public class SCLicensePersistenceImpl extends BasePersistenceImpl<SCLicense>
 		return fetchByPrimaryKey((Serializable)licenseId);
 	}
 
+	/**
+	 * Returns the s c licenses with the primary keys, keyed by primary key. Primary keys without a matching s c license are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the s c licenses
+	 * @return the s c licenses, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SCLicense> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SCLicense> map = new HashMap<Serializable, SCLicense>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SCLicense scLicense = fetchByPrimaryKey(primaryKey);
+
+			if (scLicense != null) {
+				map.put(primaryKey, scLicense);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SCLicense scLicense = (SCLicense)EntityCacheUtil.getResult(SCLicenseModelImpl.ENTITY_CACHE_ENABLED,
+					SCLicenseImpl.class, primaryKey);
+
+			if (scLicense == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (scLicense != _nullSCLicense) {
+				map.put(primaryKey, scLicense);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SCLICENSE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SCLicense scLicense : (List<SCLicense>)q.list()) {
+					map.put(scLicense.getPrimaryKeyObj(), scLicense);
+
+					cacheResult(scLicense);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SCLicenseModelImpl.ENTITY_CACHE_ENABLED,
+						SCLicenseImpl.class, primaryKey, _nullSCLicense);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the s c licenses.
 	 *
@@ -3084,6 +3209,7 @@ public class SCLicensePersistenceImpl extends BasePersistenceImpl<SCLicense>
 	}
 
 	private static final String _SQL_SELECT_SCLICENSE = "SELECT scLicense FROM SCLicense scLicense";
+	private static final String _SQL_SELECT_SCLICENSE_WHERE_PKS_IN = "SELECT scLicense FROM SCLicense scLicense WHERE scLicense.licenseId IN (";
 	private static final String _SQL_SELECT_SCLICENSE_WHERE = "SELECT scLicense FROM SCLicense scLicense WHERE ";
 	private static final String _SQL_COUNT_SCLICENSE = "SELECT COUNT(scLicense) FROM SCLicense scLicense";
 	private static final String _SQL_COUNT_SCLICENSE_WHERE = "SELECT COUNT(scLicense) FROM SCLicense scLicense WHERE ";
@@ -55,7 +55,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -2634,15 +2637,33 @@ public class SCProductEntryPersistenceImpl extends BasePersistenceImpl<SCProduct
 	 * @param scProductEntries the s c product entries
 	 */
 	public void cacheResult(List<SCProductEntry> scProductEntries) {
+		Map<Serializable, SCProductEntry> uncachedScProductEntries = new HashMap<Serializable, SCProductEntry>();
+
 		for (SCProductEntry scProductEntry : scProductEntries) {
-			if (EntityCacheUtil.getResult(
-						SCProductEntryModelImpl.ENTITY_CACHE_ENABLED,
-						SCProductEntryImpl.class, scProductEntry.getPrimaryKey()) == null) {
-				cacheResult(scProductEntry);
-			}
-			else {
-				scProductEntry.resetOriginalValues();
-			}
+			uncachedScProductEntries.put(scProductEntry.getPrimaryKeyObj(),
+				scProductEntry);
+		}
+
+		Map<Serializable, Serializable> cachedScProductEntries = EntityCacheUtil.getResults(SCProductEntryModelImpl.ENTITY_CACHE_ENABLED,
+				SCProductEntryImpl.class, uncachedScProductEntries.keySet());
+
+		for (Serializable primaryKey : cachedScProductEntries.keySet()) {
+			SCProductEntry scProductEntry = uncachedScProductEntries.remove(primaryKey);
+
+			scProductEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SCProductEntryModelImpl.ENTITY_CACHE_ENABLED,
+			SCProductEntryImpl.class, uncachedScProductEntries);
+
+		for (SCProductEntry scProductEntry : uncachedScProductEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_RG_RA,
+				new Object[] {
+					scProductEntry.getRepoGroupId(),
+					scProductEntry.getRepoArtifactId()
+				}, scProductEntry);
+
+			scProductEntry.resetOriginalValues();
 		}
 	}
 
@@ -2689,12 +2710,16 @@ public class SCProductEntryPersistenceImpl extends BasePersistenceImpl<SCProduct
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(scProductEntries.size());
+
 		for (SCProductEntry scProductEntry : scProductEntries) {
-			EntityCacheUtil.removeResult(SCProductEntryModelImpl.ENTITY_CACHE_ENABLED,
-				SCProductEntryImpl.class, scProductEntry.getPrimaryKey());
+			primaryKeys.add(scProductEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(scProductEntry);
 		}
+
+		EntityCacheUtil.removeResults(SCProductEntryModelImpl.ENTITY_CACHE_ENABLED,
+			SCProductEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(SCProductEntry scProductEntry) {
@@ -3097,6 +3122,113 @@ public class SCProductEntryPersistenceImpl extends BasePersistenceImpl<SCProduct
 		return fetchByPrimaryKey((Serializable)productEntryId);
 	}
 
+	/**
+	 * Returns the s c product entries with the primary keys, keyed by primary key. Primary keys without a matching s c product entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the s c product entries
+	 * @return the s c product entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SCProductEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SCProductEntry> map = new HashMap<Serializable, SCProductEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SCProductEntry scProductEntry = fetchByPrimaryKey(primaryKey);
+
+			if (scProductEntry != null) {
+				map.put(primaryKey, scProductEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SCProductEntry scProductEntry = (SCProductEntry)EntityCacheUtil.getResult(SCProductEntryModelImpl.ENTITY_CACHE_ENABLED,
+					SCProductEntryImpl.class, primaryKey);
+
+			if (scProductEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (scProductEntry != _nullSCProductEntry) {
+				map.put(primaryKey, scProductEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SCPRODUCTENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SCProductEntry scProductEntry : (List<SCProductEntry>)q.list()) {
+					map.put(scProductEntry.getPrimaryKeyObj(), scProductEntry);
+
+					cacheResult(scProductEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SCProductEntryModelImpl.ENTITY_CACHE_ENABLED,
+						SCProductEntryImpl.class, primaryKey, _nullSCProductEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the s c product entries.
 	 *
@@ -3981,6 +4113,7 @@ public class SCProductEntryPersistenceImpl extends BasePersistenceImpl<SCProduct
 	}
 
 	private static final String _SQL_SELECT_SCPRODUCTENTRY = "SELECT scProductEntry FROM SCProductEntry scProductEntry";
+	private static final String _SQL_SELECT_SCPRODUCTENTRY_WHERE_PKS_IN = "SELECT scProductEntry FROM SCProductEntry scProductEntry WHERE scProductEntry.productEntryId IN (";
 	private static final String _SQL_SELECT_SCPRODUCTENTRY_WHERE = "SELECT scProductEntry FROM SCProductEntry scProductEntry WHERE ";
 	private static final String _SQL_COUNT_SCPRODUCTENTRY = "SELECT COUNT(scProductEntry) FROM SCProductEntry scProductEntry";
 	private static final String _SQL_COUNT_SCPRODUCTENTRY_WHERE = "SELECT COUNT(scProductEntry) FROM SCProductEntry scProductEntry WHERE ";
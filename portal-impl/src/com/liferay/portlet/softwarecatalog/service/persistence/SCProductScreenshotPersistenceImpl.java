@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the s c product screenshot service.
@@ -1271,16 +1275,41 @@ public class SCProductScreenshotPersistenceImpl extends BasePersistenceImpl<SCPr
 	 * @param scProductScreenshots the s c product screenshots
 	 */
 	public void cacheResult(List<SCProductScreenshot> scProductScreenshots) {
+		Map<Serializable, SCProductScreenshot> uncachedScProductScreenshots = new HashMap<Serializable, SCProductScreenshot>();
+
 		for (SCProductScreenshot scProductScreenshot : scProductScreenshots) {
-			if (EntityCacheUtil.getResult(
-						SCProductScreenshotModelImpl.ENTITY_CACHE_ENABLED,
-						SCProductScreenshotImpl.class,
-						scProductScreenshot.getPrimaryKey()) == null) {
-				cacheResult(scProductScreenshot);
-			}
-			else {
-				scProductScreenshot.resetOriginalValues();
-			}
+			uncachedScProductScreenshots.put(scProductScreenshot.getPrimaryKeyObj(),
+				scProductScreenshot);
+		}
+
+		Map<Serializable, Serializable> cachedScProductScreenshots = EntityCacheUtil.getResults(SCProductScreenshotModelImpl.ENTITY_CACHE_ENABLED,
+				SCProductScreenshotImpl.class, uncachedScProductScreenshots.keySet());
+
+		for (Serializable primaryKey : cachedScProductScreenshots.keySet()) {
+			SCProductScreenshot scProductScreenshot = uncachedScProductScreenshots.remove(primaryKey);
+
+			scProductScreenshot.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SCProductScreenshotModelImpl.ENTITY_CACHE_ENABLED,
+			SCProductScreenshotImpl.class, uncachedScProductScreenshots);
+
+		for (SCProductScreenshot scProductScreenshot : uncachedScProductScreenshots.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_THUMBNAILID,
+				new Object[] { scProductScreenshot.getThumbnailId() },
+				scProductScreenshot);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_FULLIMAGEID,
+				new Object[] { scProductScreenshot.getFullImageId() },
+				scProductScreenshot);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_P_P,
+				new Object[] {
+					scProductScreenshot.getProductEntryId(),
+					scProductScreenshot.getPriority()
+				}, scProductScreenshot);
+
+			scProductScreenshot.resetOriginalValues();
 		}
 	}
 
@@ -1327,13 +1356,16 @@ public class SCProductScreenshotPersistenceImpl extends BasePersistenceImpl<SCPr
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(scProductScreenshots.size());
+
 		for (SCProductScreenshot scProductScreenshot : scProductScreenshots) {
-			EntityCacheUtil.removeResult(SCProductScreenshotModelImpl.ENTITY_CACHE_ENABLED,
-				SCProductScreenshotImpl.class,
-				scProductScreenshot.getPrimaryKey());
+			primaryKeys.add(scProductScreenshot.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(scProductScreenshot);
 		}
+
+		EntityCacheUtil.removeResults(SCProductScreenshotModelImpl.ENTITY_CACHE_ENABLED,
+			SCProductScreenshotImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(
@@ -1752,6 +1784,113 @@ public class SCProductScreenshotPersistenceImpl extends BasePersistenceImpl<SCPr
 		return fetchByPrimaryKey((Serializable)productScreenshotId);
 	}
 
+	/**
+	 * Returns the s c product screenshots with the primary keys, keyed by primary key. Primary keys without a matching s c product screenshot are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the s c product screenshots
+	 * @return the s c product screenshots, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SCProductScreenshot> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SCProductScreenshot> map = new HashMap<Serializable, SCProductScreenshot>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SCProductScreenshot scProductScreenshot = fetchByPrimaryKey(primaryKey);
+
+			if (scProductScreenshot != null) {
+				map.put(primaryKey, scProductScreenshot);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SCProductScreenshot scProductScreenshot = (SCProductScreenshot)EntityCacheUtil.getResult(SCProductScreenshotModelImpl.ENTITY_CACHE_ENABLED,
+					SCProductScreenshotImpl.class, primaryKey);
+
+			if (scProductScreenshot == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (scProductScreenshot != _nullSCProductScreenshot) {
+				map.put(primaryKey, scProductScreenshot);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SCPRODUCTSCREENSHOT_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SCProductScreenshot scProductScreenshot : (List<SCProductScreenshot>)q.list()) {
+					map.put(scProductScreenshot.getPrimaryKeyObj(), scProductScreenshot);
+
+					cacheResult(scProductScreenshot);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SCProductScreenshotModelImpl.ENTITY_CACHE_ENABLED,
+						SCProductScreenshotImpl.class, primaryKey, _nullSCProductScreenshot);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the s c product screenshots.
 	 *
@@ -1953,6 +2092,7 @@ public class SCProductScreenshotPersistenceImpl extends BasePersistenceImpl<SCPr
 	}
 
 	private static final String _SQL_SELECT_SCPRODUCTSCREENSHOT = "SELECT scProductScreenshot FROM SCProductScreenshot scProductScreenshot";
+	private static final String _SQL_SELECT_SCPRODUCTSCREENSHOT_WHERE_PKS_IN = "SELECT scProductScreenshot FROM SCProductScreenshot scProductScreenshot WHERE scProductScreenshot.productScreenshotId IN (";
 	private static final String _SQL_SELECT_SCPRODUCTSCREENSHOT_WHERE = "SELECT scProductScreenshot FROM SCProductScreenshot scProductScreenshot WHERE ";
 	private static final String _SQL_COUNT_SCPRODUCTSCREENSHOT = "SELECT COUNT(scProductScreenshot) FROM SCProductScreenshot scProductScreenshot";
 	private static final String _SQL_COUNT_SCPRODUCTSCREENSHOT_WHERE = "SELECT COUNT(scProductScreenshot) FROM SCProductScreenshot scProductScreenshot WHERE ";
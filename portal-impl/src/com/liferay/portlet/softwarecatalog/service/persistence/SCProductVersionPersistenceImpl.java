@@ -54,7 +54,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -857,16 +860,31 @@ public class SCProductVersionPersistenceImpl extends BasePersistenceImpl<SCProdu
 	 * @param scProductVersions the s c product versions
 	 */
 	public void cacheResult(List<SCProductVersion> scProductVersions) {
+		Map<Serializable, SCProductVersion> uncachedScProductVersions = new HashMap<Serializable, SCProductVersion>();
+
 		for (SCProductVersion scProductVersion : scProductVersions) {
-			if (EntityCacheUtil.getResult(
-						SCProductVersionModelImpl.ENTITY_CACHE_ENABLED,
-						SCProductVersionImpl.class,
-						scProductVersion.getPrimaryKey()) == null) {
-				cacheResult(scProductVersion);
-			}
-			else {
-				scProductVersion.resetOriginalValues();
-			}
+			uncachedScProductVersions.put(scProductVersion.getPrimaryKeyObj(),
+				scProductVersion);
+		}
+
+		Map<Serializable, Serializable> cachedScProductVersions = EntityCacheUtil.getResults(SCProductVersionModelImpl.ENTITY_CACHE_ENABLED,
+				SCProductVersionImpl.class, uncachedScProductVersions.keySet());
+
+		for (Serializable primaryKey : cachedScProductVersions.keySet()) {
+			SCProductVersion scProductVersion = uncachedScProductVersions.remove(primaryKey);
+
+			scProductVersion.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(SCProductVersionModelImpl.ENTITY_CACHE_ENABLED,
+			SCProductVersionImpl.class, uncachedScProductVersions);
+
+		for (SCProductVersion scProductVersion : uncachedScProductVersions.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_DIRECTDOWNLOADURL,
+				new Object[] { scProductVersion.getDirectDownloadURL() },
+				scProductVersion);
+
+			scProductVersion.resetOriginalValues();
 		}
 	}
 
@@ -913,12 +931,16 @@ public class SCProductVersionPersistenceImpl extends BasePersistenceImpl<SCProdu
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(scProductVersions.size());
+
 		for (SCProductVersion scProductVersion : scProductVersions) {
-			EntityCacheUtil.removeResult(SCProductVersionModelImpl.ENTITY_CACHE_ENABLED,
-				SCProductVersionImpl.class, scProductVersion.getPrimaryKey());
+			primaryKeys.add(scProductVersion.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(scProductVersion);
 		}
+
+		EntityCacheUtil.removeResults(SCProductVersionModelImpl.ENTITY_CACHE_ENABLED,
+			SCProductVersionImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(SCProductVersion scProductVersion) {
@@ -1278,6 +1300,113 @@ public class SCProductVersionPersistenceImpl extends BasePersistenceImpl<SCProdu
 		return fetchByPrimaryKey((Serializable)productVersionId);
 	}
 
+	/**
+	 * Returns the s c product versions with the primary keys, keyed by primary key. Primary keys without a matching s c product version are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the s c product versions
+	 * @return the s c product versions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SCProductVersion> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, SCProductVersion> map = new HashMap<Serializable, SCProductVersion>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			SCProductVersion scProductVersion = fetchByPrimaryKey(primaryKey);
+
+			if (scProductVersion != null) {
+				map.put(primaryKey, scProductVersion);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SCProductVersion scProductVersion = (SCProductVersion)EntityCacheUtil.getResult(SCProductVersionModelImpl.ENTITY_CACHE_ENABLED,
+					SCProductVersionImpl.class, primaryKey);
+
+			if (scProductVersion == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (scProductVersion != _nullSCProductVersion) {
+				map.put(primaryKey, scProductVersion);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SCPRODUCTVERSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (SCProductVersion scProductVersion : (List<SCProductVersion>)q.list()) {
+					map.put(scProductVersion.getPrimaryKeyObj(), scProductVersion);
+
+					cacheResult(scProductVersion);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(SCProductVersionModelImpl.ENTITY_CACHE_ENABLED,
+						SCProductVersionImpl.class, primaryKey, _nullSCProductVersion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the s c product versions.
 	 *
@@ -2173,6 +2302,7 @@ public class SCProductVersionPersistenceImpl extends BasePersistenceImpl<SCProdu
 	}
 
 	private static final String _SQL_SELECT_SCPRODUCTVERSION = "SELECT scProductVersion FROM SCProductVersion scProductVersion";
+	private static final String _SQL_SELECT_SCPRODUCTVERSION_WHERE_PKS_IN = "SELECT scProductVersion FROM SCProductVersion scProductVersion WHERE scProductVersion.productVersionId IN (";
 	private static final String _SQL_SELECT_SCPRODUCTVERSION_WHERE = "SELECT scProductVersion FROM SCProductVersion scProductVersion WHERE ";
 	private static final String _SQL_COUNT_SCPRODUCTVERSION = "SELECT COUNT(scProductVersion) FROM SCProductVersion scProductVersion";
 	private static final String _SQL_COUNT_SCPRODUCTVERSION_WHERE = "SELECT COUNT(scProductVersion) FROM SCProductVersion scProductVersion WHERE ";
@@ -48,7 +48,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the trash entry service.
@@ -1820,15 +1824,30 @@ public class TrashEntryPersistenceImpl extends BasePersistenceImpl<TrashEntry>
 	 * @param trashEntries the trash entries
 	 */
 	public void cacheResult(List<TrashEntry> trashEntries) {
+		Map<Serializable, TrashEntry> uncachedTrashEntries = new HashMap<Serializable, TrashEntry>();
+
 		for (TrashEntry trashEntry : trashEntries) {
-			if (EntityCacheUtil.getResult(
-						TrashEntryModelImpl.ENTITY_CACHE_ENABLED,
-						TrashEntryImpl.class, trashEntry.getPrimaryKey()) == null) {
-				cacheResult(trashEntry);
-			}
-			else {
-				trashEntry.resetOriginalValues();
-			}
+			uncachedTrashEntries.put(trashEntry.getPrimaryKeyObj(), trashEntry);
+		}
+
+		Map<Serializable, Serializable> cachedTrashEntries = EntityCacheUtil.getResults(TrashEntryModelImpl.ENTITY_CACHE_ENABLED,
+				TrashEntryImpl.class, uncachedTrashEntries.keySet());
+
+		for (Serializable primaryKey : cachedTrashEntries.keySet()) {
+			TrashEntry trashEntry = uncachedTrashEntries.remove(primaryKey);
+
+			trashEntry.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(TrashEntryModelImpl.ENTITY_CACHE_ENABLED,
+			TrashEntryImpl.class, uncachedTrashEntries);
+
+		for (TrashEntry trashEntry : uncachedTrashEntries.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_C,
+				new Object[] { trashEntry.getClassNameId(), trashEntry.getClassPK() },
+				trashEntry);
+
+			trashEntry.resetOriginalValues();
 		}
 	}
 
@@ -1875,12 +1894,16 @@ public class TrashEntryPersistenceImpl extends BasePersistenceImpl<TrashEntry>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(trashEntries.size());
+
 		for (TrashEntry trashEntry : trashEntries) {
-			EntityCacheUtil.removeResult(TrashEntryModelImpl.ENTITY_CACHE_ENABLED,
-				TrashEntryImpl.class, trashEntry.getPrimaryKey());
+			primaryKeys.add(trashEntry.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(trashEntry);
 		}
+
+		EntityCacheUtil.removeResults(TrashEntryModelImpl.ENTITY_CACHE_ENABLED,
+			TrashEntryImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(TrashEntry trashEntry) {
@@ -2239,6 +2262,113 @@ public class TrashEntryPersistenceImpl extends BasePersistenceImpl<TrashEntry>
 		return fetchByPrimaryKey((Serializable)entryId);
 	}
 
+	/**
+	 * Returns the trash entries with the primary keys, keyed by primary key. Primary keys without a matching trash entry are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the trash entries
+	 * @return the trash entries, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, TrashEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, TrashEntry> map = new HashMap<Serializable, TrashEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			TrashEntry trashEntry = fetchByPrimaryKey(primaryKey);
+
+			if (trashEntry != null) {
+				map.put(primaryKey, trashEntry);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			TrashEntry trashEntry = (TrashEntry)EntityCacheUtil.getResult(TrashEntryModelImpl.ENTITY_CACHE_ENABLED,
+					TrashEntryImpl.class, primaryKey);
+
+			if (trashEntry == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (trashEntry != _nullTrashEntry) {
+				map.put(primaryKey, trashEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_TRASHENTRY_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (TrashEntry trashEntry : (List<TrashEntry>)q.list()) {
+					map.put(trashEntry.getPrimaryKeyObj(), trashEntry);
+
+					cacheResult(trashEntry);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(TrashEntryModelImpl.ENTITY_CACHE_ENABLED,
+						TrashEntryImpl.class, primaryKey, _nullTrashEntry);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the trash entries.
 	 *
@@ -2440,6 +2570,7 @@ public class TrashEntryPersistenceImpl extends BasePersistenceImpl<TrashEntry>
 	}
 
 	private static final String _SQL_SELECT_TRASHENTRY = "SELECT trashEntry FROM TrashEntry trashEntry";
+	private static final String _SQL_SELECT_TRASHENTRY_WHERE_PKS_IN = "SELECT trashEntry FROM TrashEntry trashEntry WHERE trashEntry.entryId IN (";
 	private static final String _SQL_SELECT_TRASHENTRY_WHERE = "SELECT trashEntry FROM TrashEntry trashEntry WHERE ";
 	private static final String _SQL_COUNT_TRASHENTRY = "SELECT COUNT(trashEntry) FROM TrashEntry trashEntry";
 	private static final String _SQL_COUNT_TRASHENTRY_WHERE = "SELECT COUNT(trashEntry) FROM TrashEntry trashEntry WHERE ";
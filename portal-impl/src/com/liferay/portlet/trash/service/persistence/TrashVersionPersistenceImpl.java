@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the trash version service.
@@ -1088,15 +1092,27 @@ public class TrashVersionPersistenceImpl extends BasePersistenceImpl<TrashVersio
 	 * @param trashVersions the trash versions
 	 */
 	public void cacheResult(List<TrashVersion> trashVersions) {
+		Map<Serializable, TrashVersion> uncachedTrashVersions = new HashMap<Serializable, TrashVersion>();
+
 		for (TrashVersion trashVersion : trashVersions) {
-			if (EntityCacheUtil.getResult(
-						TrashVersionModelImpl.ENTITY_CACHE_ENABLED,
-						TrashVersionImpl.class, trashVersion.getPrimaryKey()) == null) {
-				cacheResult(trashVersion);
-			}
-			else {
-				trashVersion.resetOriginalValues();
-			}
+			uncachedTrashVersions.put(trashVersion.getPrimaryKeyObj(),
+				trashVersion);
+		}
+
+		Map<Serializable, Serializable> cachedTrashVersions = EntityCacheUtil.getResults(TrashVersionModelImpl.ENTITY_CACHE_ENABLED,
+				TrashVersionImpl.class, uncachedTrashVersions.keySet());
+
+		for (Serializable primaryKey : cachedTrashVersions.keySet()) {
+			TrashVersion trashVersion = uncachedTrashVersions.remove(primaryKey);
+
+			trashVersion.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(TrashVersionModelImpl.ENTITY_CACHE_ENABLED,
+			TrashVersionImpl.class, uncachedTrashVersions);
+
+		for (TrashVersion trashVersion : uncachedTrashVersions.values()) {
+			trashVersion.resetOriginalValues();
 		}
 	}
 
@@ -1141,10 +1157,14 @@ public class TrashVersionPersistenceImpl extends BasePersistenceImpl<TrashVersio
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(trashVersions.size());
+
 		for (TrashVersion trashVersion : trashVersions) {
-			EntityCacheUtil.removeResult(TrashVersionModelImpl.ENTITY_CACHE_ENABLED,
-				TrashVersionImpl.class, trashVersion.getPrimaryKey());
+			primaryKeys.add(trashVersion.getPrimaryKeyObj());
 		}
+
+		EntityCacheUtil.removeResults(TrashVersionModelImpl.ENTITY_CACHE_ENABLED,
+			TrashVersionImpl.class, primaryKeys);
 	}
 
 	/**
@@ -1449,6 +1469,113 @@ public class TrashVersionPersistenceImpl extends BasePersistenceImpl<TrashVersio
 		return fetchByPrimaryKey((Serializable)versionId);
 	}
 
+	/**
+	 * Returns the trash versions with the primary keys, keyed by primary key. Primary keys without a matching trash version are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the trash versions
+	 * @return the trash versions, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, TrashVersion> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, TrashVersion> map = new HashMap<Serializable, TrashVersion>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			TrashVersion trashVersion = fetchByPrimaryKey(primaryKey);
+
+			if (trashVersion != null) {
+				map.put(primaryKey, trashVersion);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			TrashVersion trashVersion = (TrashVersion)EntityCacheUtil.getResult(TrashVersionModelImpl.ENTITY_CACHE_ENABLED,
+					TrashVersionImpl.class, primaryKey);
+
+			if (trashVersion == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (trashVersion != _nullTrashVersion) {
+				map.put(primaryKey, trashVersion);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_TRASHVERSION_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (TrashVersion trashVersion : (List<TrashVersion>)q.list()) {
+					map.put(trashVersion.getPrimaryKeyObj(), trashVersion);
+
+					cacheResult(trashVersion);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(TrashVersionModelImpl.ENTITY_CACHE_ENABLED,
+						TrashVersionImpl.class, primaryKey, _nullTrashVersion);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the trash versions.
 	 *
@@ -1650,6 +1777,7 @@ public class TrashVersionPersistenceImpl extends BasePersistenceImpl<TrashVersio
 	}
 
 	private static final String _SQL_SELECT_TRASHVERSION = "SELECT trashVersion FROM TrashVersion trashVersion";
+	private static final String _SQL_SELECT_TRASHVERSION_WHERE_PKS_IN = "SELECT trashVersion FROM TrashVersion trashVersion WHERE trashVersion.versionId IN (";
 	private static final String _SQL_SELECT_TRASHVERSION_WHERE = "SELECT trashVersion FROM TrashVersion trashVersion WHERE ";
 	private static final String _SQL_COUNT_TRASHVERSION = "SELECT COUNT(trashVersion) FROM TrashVersion trashVersion";
 	private static final String _SQL_COUNT_TRASHVERSION_WHERE = "SELECT COUNT(trashVersion) FROM TrashVersion trashVersion WHERE ";
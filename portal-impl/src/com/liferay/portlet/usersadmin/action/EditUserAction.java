@@ -79,7 +79,7 @@ import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PortletKeys;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.portal.util.WebKeys;
-import com.liferay.portlet.InvokerPortletImpl;
+import com.liferay.portlet.PortletFragmentCacheUtil;
 import com.liferay.portlet.admin.util.AdminUtil;
 import com.liferay.portlet.announcements.model.AnnouncementsDelivery;
 import com.liferay.portlet.announcements.model.AnnouncementsEntryConstants;
@@ -660,6 +660,8 @@ public class EditUserAction extends PortletAction {
 			roleIds, userGroupRoles, userGroupIds, addresses, emailAddresses,
 			phones, websites, announcementsDeliveries, serviceContext);
 
+		PortletFragmentCacheUtil.clearUserCache(user.getUserId());
+
 		if (oldScreenName.equals(user.getScreenName())) {
 			oldScreenName = StringPool.BLANK;
 		}
@@ -680,12 +682,8 @@ public class EditUserAction extends PortletAction {
 
 			LanguageUtil.updateCookie(request, response, locale);
 
-			// Clear cached portlet responses
-
 			PortletSession portletSession = actionRequest.getPortletSession();
 
-			InvokerPortletImpl.clearResponses(portletSession);
-
 			// Password
 
 			if (PropsValues.SESSION_STORE_PASSWORD &&
@@ -49,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the wiki node service.
@@ -4402,15 +4406,32 @@ public class WikiNodePersistenceImpl extends BasePersistenceImpl<WikiNode>
 	 * @param wikiNodes the wiki nodes
 	 */
 	public void cacheResult(List<WikiNode> wikiNodes) {
+		Map<Serializable, WikiNode> uncachedWikiNodes = new HashMap<Serializable, WikiNode>();
+
 		for (WikiNode wikiNode : wikiNodes) {
-			if (EntityCacheUtil.getResult(
-						WikiNodeModelImpl.ENTITY_CACHE_ENABLED,
-						WikiNodeImpl.class, wikiNode.getPrimaryKey()) == null) {
-				cacheResult(wikiNode);
-			}
-			else {
-				wikiNode.resetOriginalValues();
-			}
+			uncachedWikiNodes.put(wikiNode.getPrimaryKeyObj(), wikiNode);
+		}
+
+		Map<Serializable, Serializable> cachedWikiNodes = EntityCacheUtil.getResults(WikiNodeModelImpl.ENTITY_CACHE_ENABLED,
+				WikiNodeImpl.class, uncachedWikiNodes.keySet());
+
+		for (Serializable primaryKey : cachedWikiNodes.keySet()) {
+			WikiNode wikiNode = uncachedWikiNodes.remove(primaryKey);
+
+			wikiNode.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(WikiNodeModelImpl.ENTITY_CACHE_ENABLED,
+			WikiNodeImpl.class, uncachedWikiNodes);
+
+		for (WikiNode wikiNode : uncachedWikiNodes.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { wikiNode.getUuid(), wikiNode.getGroupId() }, wikiNode);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_G_N,
+				new Object[] { wikiNode.getGroupId(), wikiNode.getName() }, wikiNode);
+
+			wikiNode.resetOriginalValues();
 		}
 	}
 
@@ -4457,12 +4478,16 @@ public class WikiNodePersistenceImpl extends BasePersistenceImpl<WikiNode>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(wikiNodes.size());
+
 		for (WikiNode wikiNode : wikiNodes) {
-			EntityCacheUtil.removeResult(WikiNodeModelImpl.ENTITY_CACHE_ENABLED,
-				WikiNodeImpl.class, wikiNode.getPrimaryKey());
+			primaryKeys.add(wikiNode.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(wikiNode);
 		}
+
+		EntityCacheUtil.removeResults(WikiNodeModelImpl.ENTITY_CACHE_ENABLED,
+			WikiNodeImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(WikiNode wikiNode) {
@@ -4944,6 +4969,113 @@ public class WikiNodePersistenceImpl extends BasePersistenceImpl<WikiNode>
 		return fetchByPrimaryKey((Serializable)nodeId);
 	}
 
+	/**
+	 * Returns the wiki nodes with the primary keys, keyed by primary key. Primary keys without a matching wiki node are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the wiki nodes
+	 * @return the wiki nodes, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, WikiNode> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, WikiNode> map = new HashMap<Serializable, WikiNode>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			WikiNode wikiNode = fetchByPrimaryKey(primaryKey);
+
+			if (wikiNode != null) {
+				map.put(primaryKey, wikiNode);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			WikiNode wikiNode = (WikiNode)EntityCacheUtil.getResult(WikiNodeModelImpl.ENTITY_CACHE_ENABLED,
+					WikiNodeImpl.class, primaryKey);
+
+			if (wikiNode == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (wikiNode != _nullWikiNode) {
+				map.put(primaryKey, wikiNode);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_WIKINODE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (WikiNode wikiNode : (List<WikiNode>)q.list()) {
+					map.put(wikiNode.getPrimaryKeyObj(), wikiNode);
+
+					cacheResult(wikiNode);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(WikiNodeModelImpl.ENTITY_CACHE_ENABLED,
+						WikiNodeImpl.class, primaryKey, _nullWikiNode);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the wiki nodes.
 	 *
@@ -5144,6 +5276,7 @@ public class WikiNodePersistenceImpl extends BasePersistenceImpl<WikiNode>
 	}
 
 	private static final String _SQL_SELECT_WIKINODE = "SELECT wikiNode FROM WikiNode wikiNode";
+	private static final String _SQL_SELECT_WIKINODE_WHERE_PKS_IN = "SELECT wikiNode FROM WikiNode wikiNode WHERE wikiNode.nodeId IN (";
 	private static final String _SQL_SELECT_WIKINODE_WHERE = "SELECT wikiNode FROM WikiNode wikiNode WHERE ";
 	private static final String _SQL_COUNT_WIKINODE = "SELECT COUNT(wikiNode) FROM WikiNode wikiNode";
 	private static final String _SQL_COUNT_WIKINODE_WHERE = "SELECT COUNT(wikiNode) FROM WikiNode wikiNode WHERE ";
@@ -54,7 +54,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the wiki page service.
@@ -16996,15 +17000,40 @@ public class WikiPagePersistenceImpl extends BasePersistenceImpl<WikiPage>
 	 * @param wikiPages the wiki pages
 	 */
 	public void cacheResult(List<WikiPage> wikiPages) {
+		Map<Serializable, WikiPage> uncachedWikiPages = new HashMap<Serializable, WikiPage>();
+
 		for (WikiPage wikiPage : wikiPages) {
-			if (EntityCacheUtil.getResult(
-						WikiPageModelImpl.ENTITY_CACHE_ENABLED,
-						WikiPageImpl.class, wikiPage.getPrimaryKey()) == null) {
-				cacheResult(wikiPage);
-			}
-			else {
-				wikiPage.resetOriginalValues();
-			}
+			uncachedWikiPages.put(wikiPage.getPrimaryKeyObj(), wikiPage);
+		}
+
+		Map<Serializable, Serializable> cachedWikiPages = EntityCacheUtil.getResults(WikiPageModelImpl.ENTITY_CACHE_ENABLED,
+				WikiPageImpl.class, uncachedWikiPages.keySet());
+
+		for (Serializable primaryKey : cachedWikiPages.keySet()) {
+			WikiPage wikiPage = uncachedWikiPages.remove(primaryKey);
+
+			wikiPage.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(WikiPageModelImpl.ENTITY_CACHE_ENABLED,
+			WikiPageImpl.class, uncachedWikiPages);
+
+		for (WikiPage wikiPage : uncachedWikiPages.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_UUID_G,
+				new Object[] { wikiPage.getUuid(), wikiPage.getGroupId() }, wikiPage);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_R_N_V,
+				new Object[] {
+					wikiPage.getResourcePrimKey(), wikiPage.getNodeId(),
+					wikiPage.getVersion()
+				}, wikiPage);
+
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_N_T_V,
+				new Object[] {
+					wikiPage.getNodeId(), wikiPage.getTitle(), wikiPage.getVersion()
+				}, wikiPage);
+
+			wikiPage.resetOriginalValues();
 		}
 	}
 
@@ -17051,12 +17080,16 @@ public class WikiPagePersistenceImpl extends BasePersistenceImpl<WikiPage>
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(wikiPages.size());
+
 		for (WikiPage wikiPage : wikiPages) {
-			EntityCacheUtil.removeResult(WikiPageModelImpl.ENTITY_CACHE_ENABLED,
-				WikiPageImpl.class, wikiPage.getPrimaryKey());
+			primaryKeys.add(wikiPage.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(wikiPage);
 		}
+
+		EntityCacheUtil.removeResults(WikiPageModelImpl.ENTITY_CACHE_ENABLED,
+			WikiPageImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(WikiPage wikiPage) {
@@ -18038,6 +18071,113 @@ public class WikiPagePersistenceImpl extends BasePersistenceImpl<WikiPage>
 		return fetchByPrimaryKey((Serializable)pageId);
 	}
 
+	/**
+	 * Returns the wiki pages with the primary keys, keyed by primary key. Primary keys without a matching wiki page are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the wiki pages
+	 * @return the wiki pages, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, WikiPage> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, WikiPage> map = new HashMap<Serializable, WikiPage>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			WikiPage wikiPage = fetchByPrimaryKey(primaryKey);
+
+			if (wikiPage != null) {
+				map.put(primaryKey, wikiPage);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			WikiPage wikiPage = (WikiPage)EntityCacheUtil.getResult(WikiPageModelImpl.ENTITY_CACHE_ENABLED,
+					WikiPageImpl.class, primaryKey);
+
+			if (wikiPage == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (wikiPage != _nullWikiPage) {
+				map.put(primaryKey, wikiPage);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_WIKIPAGE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (WikiPage wikiPage : (List<WikiPage>)q.list()) {
+					map.put(wikiPage.getPrimaryKeyObj(), wikiPage);
+
+					cacheResult(wikiPage);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(WikiPageModelImpl.ENTITY_CACHE_ENABLED,
+						WikiPageImpl.class, primaryKey, _nullWikiPage);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the wiki pages.
 	 *
@@ -18238,6 +18378,7 @@ public class WikiPagePersistenceImpl extends BasePersistenceImpl<WikiPage>
 	}
 
 	private static final String _SQL_SELECT_WIKIPAGE = "SELECT wikiPage FROM WikiPage wikiPage";
+	private static final String _SQL_SELECT_WIKIPAGE_WHERE_PKS_IN = "SELECT wikiPage FROM WikiPage wikiPage WHERE wikiPage.pageId IN (";
 	private static final String _SQL_SELECT_WIKIPAGE_WHERE = "SELECT wikiPage FROM WikiPage wikiPage WHERE ";
 	private static final String _SQL_COUNT_WIKIPAGE = "SELECT COUNT(wikiPage) FROM WikiPage wikiPage";
 	private static final String _SQL_COUNT_WIKIPAGE_WHERE = "SELECT COUNT(wikiPage) FROM WikiPage wikiPage WHERE ";
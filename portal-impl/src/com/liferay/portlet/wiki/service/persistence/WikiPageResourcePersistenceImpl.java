@@ -47,7 +47,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the wiki page resource service.
@@ -886,16 +890,32 @@ public class WikiPageResourcePersistenceImpl extends BasePersistenceImpl<WikiPag
 	 * @param wikiPageResources the wiki page resources
 	 */
 	public void cacheResult(List<WikiPageResource> wikiPageResources) {
+		Map<Serializable, WikiPageResource> uncachedWikiPageResources = new HashMap<Serializable, WikiPageResource>();
+
 		for (WikiPageResource wikiPageResource : wikiPageResources) {
-			if (EntityCacheUtil.getResult(
-						WikiPageResourceModelImpl.ENTITY_CACHE_ENABLED,
-						WikiPageResourceImpl.class,
-						wikiPageResource.getPrimaryKey()) == null) {
-				cacheResult(wikiPageResource);
-			}
-			else {
-				wikiPageResource.resetOriginalValues();
-			}
+			uncachedWikiPageResources.put(wikiPageResource.getPrimaryKeyObj(),
+				wikiPageResource);
+		}
+
+		Map<Serializable, Serializable> cachedWikiPageResources = EntityCacheUtil.getResults(WikiPageResourceModelImpl.ENTITY_CACHE_ENABLED,
+				WikiPageResourceImpl.class, uncachedWikiPageResources.keySet());
+
+		for (Serializable primaryKey : cachedWikiPageResources.keySet()) {
+			WikiPageResource wikiPageResource = uncachedWikiPageResources.remove(primaryKey);
+
+			wikiPageResource.resetOriginalValues();
+		}
+
+		EntityCacheUtil.putResults(WikiPageResourceModelImpl.ENTITY_CACHE_ENABLED,
+			WikiPageResourceImpl.class, uncachedWikiPageResources);
+
+		for (WikiPageResource wikiPageResource : uncachedWikiPageResources.values()) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_N_T,
+				new Object[] {
+					wikiPageResource.getNodeId(), wikiPageResource.getTitle()
+				}, wikiPageResource);
+
+			wikiPageResource.resetOriginalValues();
 		}
 	}
 
@@ -942,12 +962,16 @@ public class WikiPageResourcePersistenceImpl extends BasePersistenceImpl<WikiPag
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
+		List<Serializable> primaryKeys = new ArrayList<Serializable>(wikiPageResources.size());
+
 		for (WikiPageResource wikiPageResource : wikiPageResources) {
-			EntityCacheUtil.removeResult(WikiPageResourceModelImpl.ENTITY_CACHE_ENABLED,
-				WikiPageResourceImpl.class, wikiPageResource.getPrimaryKey());
+			primaryKeys.add(wikiPageResource.getPrimaryKeyObj());
 
 			clearUniqueFindersCache(wikiPageResource);
 		}
+
+		EntityCacheUtil.removeResults(WikiPageResourceModelImpl.ENTITY_CACHE_ENABLED,
+			WikiPageResourceImpl.class, primaryKeys);
 	}
 
 	protected void cacheUniqueFindersCache(WikiPageResource wikiPageResource) {
@@ -1297,6 +1321,113 @@ public class WikiPageResourcePersistenceImpl extends BasePersistenceImpl<WikiPag
 		return fetchByPrimaryKey((Serializable)resourcePrimKey);
 	}
 
+	/**
+	 * Returns the wiki page resources with the primary keys, keyed by primary key. Primary keys without a matching wiki page resource are left out of the map.
+	 *
+	 * @param primaryKeys the primary keys of the wiki page resources
+	 * @return the wiki page resources, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, WikiPageResource> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, WikiPageResource> map = new HashMap<Serializable, WikiPageResource>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			WikiPageResource wikiPageResource = fetchByPrimaryKey(primaryKey);
+
+			if (wikiPageResource != null) {
+				map.put(primaryKey, wikiPageResource);
+			}
+
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			WikiPageResource wikiPageResource = (WikiPageResource)EntityCacheUtil.getResult(WikiPageResourceModelImpl.ENTITY_CACHE_ENABLED,
+					WikiPageResourceImpl.class, primaryKey);
+
+			if (wikiPageResource == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (wikiPageResource != _nullWikiPageResource) {
+				map.put(primaryKey, wikiPageResource);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int i = 0; i < uncachedPrimaryKeys.size();
+					i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i,
+						Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+							uncachedPrimaryKeys.size()));
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_WIKIPAGERESOURCE_WHERE_PKS_IN);
+
+				for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				for (WikiPageResource wikiPageResource : (List<WikiPageResource>)q.list()) {
+					map.put(wikiPageResource.getPrimaryKeyObj(), wikiPageResource);
+
+					cacheResult(wikiPageResource);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(WikiPageResourceModelImpl.ENTITY_CACHE_ENABLED,
+						WikiPageResourceImpl.class, primaryKey, _nullWikiPageResource);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the wiki page resources.
 	 *
@@ -1498,6 +1629,7 @@ public class WikiPageResourcePersistenceImpl extends BasePersistenceImpl<WikiPag
 	}
 
 	private static final String _SQL_SELECT_WIKIPAGERESOURCE = "SELECT wikiPageResource FROM WikiPageResource wikiPageResource";
+	private static final String _SQL_SELECT_WIKIPAGERESOURCE_WHERE_PKS_IN = "SELECT wikiPageResource FROM WikiPageResource wikiPageResource WHERE wikiPageResource.resourcePrimKey IN (";
 	private static final String _SQL_SELECT_WIKIPAGERESOURCE_WHERE = "SELECT wikiPageResource FROM WikiPageResource wikiPageResource WHERE ";
 	private static final String _SQL_COUNT_WIKIPAGERESOURCE = "SELECT COUNT(wikiPageResource) FROM WikiPageResource wikiPageResource";
 	private static final String _SQL_COUNT_WIKIPAGERESOURCE_WHERE = "SELECT COUNT(wikiPageResource) FROM WikiPageResource wikiPageResource WHERE ";
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.kernel.cache.CacheListener;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.cluster.ClusterReplicationThreadLocal;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLink;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class OffHeapPortalCacheTest {
+
+	@After
+	public void tearDown() {
+		CentralizedThreadLocal.clearShortLivedThreadLocals();
+
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(null);
+	}
+
+	@Test
+	public void testBlockReuse() {
+		OffHeapPortalCache<String, String> offHeapPortalCache =
+			new OffHeapPortalCache<String, String>(_NAME, 1024, 16, 256, false);
+
+		int blockCount = offHeapPortalCache.getBlockCount();
+
+		Assert.assertEquals(64, blockCount);
+		Assert.assertEquals(
+			blockCount, offHeapPortalCache.getFreeBlockCount());
+
+		String value = createValue(100);
+
+		offHeapPortalCache.put("a", value);
+
+		int usedBlockCount =
+			blockCount - offHeapPortalCache.getFreeBlockCount();
+
+		Assert.assertTrue(usedBlockCount > 1);
+		Assert.assertEquals(value, offHeapPortalCache.get("a"));
+
+		offHeapPortalCache.remove("a");
+
+		Assert.assertNull(offHeapPortalCache.get("a"));
+		Assert.assertEquals(
+			blockCount, offHeapPortalCache.getFreeBlockCount());
+
+		offHeapPortalCache.put("b", value);
+
+		Assert.assertEquals(
+			blockCount - usedBlockCount,
+			offHeapPortalCache.getFreeBlockCount());
+
+		String updatedValue = createValue(100).toUpperCase();
+
+		offHeapPortalCache.put("b", updatedValue);
+
+		Assert.assertEquals(
+			blockCount - usedBlockCount,
+			offHeapPortalCache.getFreeBlockCount());
+		Assert.assertEquals(updatedValue, offHeapPortalCache.get("b"));
+
+		for (int i = 0; i < (blockCount / usedBlockCount); i++) {
+			offHeapPortalCache.put(String.valueOf(i), value);
+		}
+
+		Assert.assertTrue(
+			offHeapPortalCache.getFreeBlockCount() < usedBlockCount);
+
+		offHeapPortalCache.removeAll();
+
+		Assert.assertEquals(0, offHeapPortalCache.getSize());
+		Assert.assertEquals(
+			blockCount, offHeapPortalCache.getFreeBlockCount());
+	}
+
+	@Test
+	public void testEviction() {
+		OffHeapPortalCache<String, String> offHeapPortalCache =
+			new OffHeapPortalCache<String, String>(_NAME, 192, 64, 64, false);
+
+		CacheListener<String, String> cacheListener = Mockito.mock(
+			CacheListener.class);
+
+		offHeapPortalCache.registerCacheListener(cacheListener);
+
+		offHeapPortalCache.put("a", "1");
+		offHeapPortalCache.put("b", "2");
+		offHeapPortalCache.put("c", "3");
+
+		Assert.assertEquals(0, offHeapPortalCache.getFreeBlockCount());
+
+		offHeapPortalCache.get("a");
+
+		offHeapPortalCache.put("d", "4");
+
+		Assert.assertEquals(3, offHeapPortalCache.getSize());
+		Assert.assertEquals("1", offHeapPortalCache.get("a"));
+		Assert.assertNull(offHeapPortalCache.get("b"));
+		Assert.assertEquals("3", offHeapPortalCache.get("c"));
+		Assert.assertEquals("4", offHeapPortalCache.get("d"));
+
+		Mockito.verify(cacheListener).notifyEntryEvicted(
+			offHeapPortalCache, "b", "2");
+		Mockito.verify(cacheListener, Mockito.times(1)).notifyEntryEvicted(
+			Matchers.any(PortalCache.class), Matchers.anyString(),
+			Matchers.anyString());
+	}
+
+	@Test
+	public void testOversizeValue() {
+		OffHeapPortalCache<String, String> offHeapPortalCache =
+			new OffHeapPortalCache<String, String>(_NAME, 192, 64, 64, false);
+
+		offHeapPortalCache.put("a", "1");
+
+		offHeapPortalCache.put("b", createValue(500));
+
+		Assert.assertNull(offHeapPortalCache.get("b"));
+		Assert.assertEquals("1", offHeapPortalCache.get("a"));
+		Assert.assertEquals(1, offHeapPortalCache.getSize());
+		Assert.assertEquals(2, offHeapPortalCache.getFreeBlockCount());
+	}
+
+	@Test
+	public void testReplication() {
+		PortalCacheClusterLink portalCacheClusterLink = Mockito.mock(
+			PortalCacheClusterLink.class);
+
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(
+			portalCacheClusterLink);
+
+		OffHeapPortalCache<String, String> offHeapPortalCache =
+			new OffHeapPortalCache<String, String>(_NAME, 1024, 64, 256, true);
+
+		offHeapPortalCache.put("a", "1");
+		offHeapPortalCache.put("b", "2");
+
+		ClusterReplicationThreadLocal.setReplicate(false);
+
+		offHeapPortalCache.remove("a");
+		offHeapPortalCache.removeAll(Arrays.asList("b"));
+		offHeapPortalCache.removeAll();
+
+		Mockito.verify(portalCacheClusterLink, Mockito.never()).sendEvent(
+			Matchers.any(PortalCacheClusterEvent.class));
+
+		ClusterReplicationThreadLocal.setReplicate(true);
+
+		offHeapPortalCache.put("a", "1");
+
+		offHeapPortalCache.remove("a");
+		offHeapPortalCache.removeAll();
+
+		Mockito.verify(portalCacheClusterLink, Mockito.times(2)).sendEvent(
+			Matchers.any(PortalCacheClusterEvent.class));
+	}
+
+	protected String createValue(int length) {
+		char[] chars = new char[length];
+
+		for (int i = 0; i < length; i++) {
+			chars[i] = (char)('a' + (i % 26));
+		}
+
+		return new String(chars);
+	}
+
+	private static final String _NAME = "name";
+
+}
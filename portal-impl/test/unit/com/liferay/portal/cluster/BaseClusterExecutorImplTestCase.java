@@ -375,9 +375,9 @@ public abstract class BaseClusterExecutorImplTestCase
 		public void receive(Message message) {
 			super.receive(message);
 
-			Object object = message.getObject();
-
 			try {
+				Object object = ClusterMessageCodec.decode(message);
+
 				org.jgroups.Address srcJAddress = message.getSrc();
 
 				Address clusterNodeAddress =
@@ -389,6 +389,9 @@ public abstract class BaseClusterExecutorImplTestCase
 					}
 				}
 			}
+			catch (ClassNotFoundException cnfe) {
+				Assert.fail();
+			}
 			catch (InterruptedException ie) {
 			}
 		}
@@ -658,11 +658,11 @@ public class ClusterLinkImplTest extends BaseClusterTestCase {
 		public void receive(org.jgroups.Message message) {
 			org.jgroups.Address sourceJGroupsAddress = message.getSrc();
 
-			Message content = (Message)message.getObject();
+			try {
+				Message content = (Message)ClusterMessageCodec.decode(message);
 
-			String messageKey = (String)content.getPayload();
+				String messageKey = (String)content.getPayload();
 
-			try {
 				if (sourceJGroupsAddress.equals(
 						_localAddress.getRealAddress())) {
 
@@ -672,6 +672,9 @@ public class ClusterLinkImplTest extends BaseClusterTestCase {
 					_remoteMessageExchanger.exchange(messageKey);
 				}
 			}
+			catch (ClassNotFoundException cnfe) {
+				Assert.fail();
+			}
 			catch (InterruptedException ie) {
 				Assert.fail();
 			}
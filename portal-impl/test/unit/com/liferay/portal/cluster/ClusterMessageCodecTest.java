@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cluster;
+
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventType;
+import com.liferay.portal.kernel.cluster.ClusterMessageType;
+import com.liferay.portal.kernel.cluster.ClusterRequest;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.util.MethodHandler;
+import com.liferay.portal.kernel.util.MethodKey;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ClusterMessageCodecTest {
+
+	@Test
+	public void testClusterRequest() throws Exception {
+		ClusterRequest clusterRequest = new ClusterRequest();
+
+		clusterRequest.setClusterMessageType(ClusterMessageType.EXECUTE);
+		clusterRequest.setFireAndForget(true);
+		clusterRequest.setMethodHandler(
+			new MethodHandler(
+				new MethodKey(String.class, "valueOf", int.class), 5));
+		clusterRequest.setUuid("uuid");
+		clusterRequest.addTargetClusterNodeIds("node1", "node2");
+
+		ClusterRequest decodedClusterRequest =
+			(ClusterRequest)ClusterMessageCodec.decode(
+				ClusterMessageCodec.encode(null, clusterRequest));
+
+		Assert.assertEquals(
+			ClusterMessageType.EXECUTE,
+			decodedClusterRequest.getClusterMessageType());
+		Assert.assertTrue(decodedClusterRequest.isFireAndForget());
+		Assert.assertFalse(decodedClusterRequest.isMulticast());
+		Assert.assertEquals("uuid", decodedClusterRequest.getUuid());
+		Assert.assertNull(decodedClusterRequest.getOriginatingClusterNode());
+		Assert.assertNull(
+			decodedClusterRequest.getTargetClusterNodeAddresses());
+		Assert.assertEquals(
+			clusterRequest.getTargetClusterNodeIds(),
+			decodedClusterRequest.getTargetClusterNodeIds());
+
+		MethodHandler methodHandler = decodedClusterRequest.getMethodHandler();
+
+		Assert.assertEquals("5", methodHandler.invoke(false));
+	}
+
+	@Test
+	public void testMessage() throws Exception {
+		PortalCacheClusterEvent portalCacheClusterEvent =
+			new PortalCacheClusterEvent(
+				"cacheName", "key1", PortalCacheClusterEventType.REMOVE);
+
+		portalCacheClusterEvent.addElement(2L, null);
+
+		Message message = new Message();
+
+		message.setDestinationName("destinationName");
+		message.setPayload(portalCacheClusterEvent);
+		message.put("key", new Date(0));
+
+		Message decodedMessage = (Message)ClusterMessageCodec.decode(
+			ClusterMessageCodec.encode(null, message));
+
+		Assert.assertEquals(
+			"destinationName", decodedMessage.getDestinationName());
+		Assert.assertNull(decodedMessage.getResponseId());
+		Assert.assertEquals(new Date(0), decodedMessage.get("key"));
+
+		PortalCacheClusterEvent decodedPortalCacheClusterEvent =
+			(PortalCacheClusterEvent)decodedMessage.getPayload();
+
+		Assert.assertEquals(
+			"cacheName", decodedPortalCacheClusterEvent.getCacheName());
+		Assert.assertEquals(
+			PortalCacheClusterEventType.REMOVE,
+			decodedPortalCacheClusterEvent.getEventType());
+		Assert.assertEquals(
+			"key1", decodedPortalCacheClusterEvent.getElementKey());
+		Assert.assertEquals(
+			Arrays.<Object>asList(2L),
+			decodedPortalCacheClusterEvent.getElementKeys());
+	}
+
+	@Test
+	public void testObject() throws Exception {
+		Date date = new Date();
+
+		Assert.assertEquals(
+			date,
+			ClusterMessageCodec.decode(ClusterMessageCodec.encode(null, date)));
+		Assert.assertNull(
+			ClusterMessageCodec.decode(new org.jgroups.Message()));
+	}
+
+	@Test
+	public void testVersion() throws Exception {
+		org.jgroups.Message jGroupsMessage = ClusterMessageCodec.encode(
+			null, new Date());
+
+		byte[] buffer = jGroupsMessage.getRawBuffer();
+
+		buffer[jGroupsMessage.getOffset()]++;
+
+		Assert.assertNull(ClusterMessageCodec.decode(jGroupsMessage));
+	}
+
+}
@@ -64,9 +64,11 @@ import java.net.Socket;
 import java.nio.channels.ServerSocketChannel;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -75,6 +77,7 @@ import java.util.logging.LogRecord;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -783,12 +786,25 @@ public class LuceneHelperImplTest {
 
 	private class MockIndexAccessor implements IndexAccessor {
 
+		public IndexSearcher acquireIndexSearcher() {
+			return null;
+		}
+
 		public void addDocument(Document document) {
 		}
 
+		public void addDocuments(Collection<Document> documents) {
+		}
+
+		public void beginReindex() {
+		}
+
 		public void close() {
 		}
 
+		public void commit() {
+		}
+
 		public void delete() {
 		}
 
@@ -798,10 +814,21 @@ public class LuceneHelperImplTest {
 		public void dumpIndex(OutputStream outputStream) {
 		}
 
+		public void dumpIndexDelta(
+			OutputStream outputStream, Set<String> fingerprints) {
+		}
+
+		public void endReindex() {
+		}
+
 		public long getCompanyId() {
 			return _COMPANY_ID;
 		}
 
+		public Set<String> getFingerprints() {
+			return Collections.emptySet();
+		}
+
 		public long getLastGeneration() {
 			return _LAST_GENERATION;
 		}
@@ -819,9 +846,19 @@ public class LuceneHelperImplTest {
 			_bytes = unsyncByteArrayOutputStream.toByteArray();
 		}
 
+		public void loadIndexDelta(InputStream inputStream) throws IOException {
+			loadIndex(inputStream);
+		}
+
+		public void releaseIndexSearcher(IndexSearcher indexSearcher) {
+		}
+
 		public void updateDocument(Term term, Document document) {
 		}
 
+		public void updateDocuments(Map<Term, Document> documents) {
+		}
+
 		public byte[] getResponseMessage() {
 			return _bytes;
 		}
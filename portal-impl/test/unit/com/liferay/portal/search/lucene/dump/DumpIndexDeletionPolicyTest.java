@@ -14,10 +14,18 @@
 
 package com.liferay.portal.search.lucene.dump;
 
+import com.liferay.portal.kernel.util.StringBundler;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -58,6 +66,104 @@ public class DumpIndexDeletionPolicyTest {
 		_indexWriter = new IndexWriter(_sourceDirectory, indexWriterConfig);
 	}
 
+	@Test
+	public void testDeltaDump() throws Exception {
+		StringBundler sb = new StringBundler(1000);
+
+		Random random = new Random();
+
+		for (int i = 0; i < 1000; i++) {
+			sb.append(Long.toHexString(random.nextLong()));
+		}
+
+		_addDocument("content", sb.toString());
+		_addDocument("name", "test1");
+		_addDocument("name", "test2");
+
+		Directory localDirectory = _dumpToTargetDirectory(_indexWriter);
+
+		_addDocument("name", "test3");
+
+		Map<String, String> fingerprintFileNames =
+			new HashMap<String, String>();
+
+		for (String fileName : localDirectory.listAll()) {
+			long checksum = IndexCommitSerializationUtil.getChecksum(
+				localDirectory, fileName);
+
+			fingerprintFileNames.put(
+				IndexCommitMetaInfo.getFingerprint(
+					localDirectory.fileLength(fileName), checksum),
+				fileName);
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_dumpIndexDeletionPolicy.dumpDelta(
+			byteArrayOutputStream, _indexWriter, new ReentrantLock(),
+			fingerprintFileNames.keySet());
+
+		byte[] deltaBytes = byteArrayOutputStream.toByteArray();
+
+		byteArrayOutputStream.reset();
+
+		_dumpIndexDeletionPolicy.dump(
+			byteArrayOutputStream, _indexWriter, new ReentrantLock());
+
+		Assert.assertTrue(deltaBytes.length < byteArrayOutputStream.size());
+
+		Directory targetDirectory = new RAMDirectory();
+
+		Assert.assertTrue(
+			IndexCommitSerializationUtil.deserializeIndexDelta(
+				new ByteArrayInputStream(deltaBytes), targetDirectory,
+				localDirectory, fingerprintFileNames));
+
+		_assertDirectory(_sourceDirectory, targetDirectory);
+
+		_assertHits(targetDirectory, "name", "test1", 1);
+		_assertHits(targetDirectory, "name", "test2", 1);
+		_assertHits(targetDirectory, "name", "test3", 1);
+
+		_indexWriter.close();
+	}
+
+	@Test
+	public void testDeltaDumpWithMissingLocalSegment() throws Exception {
+		_addDocument("name", "test1");
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		Set<String> fingerprints = new HashSet<String>();
+
+		for (String fileName : _sourceDirectory.listAll()) {
+			fingerprints.add(
+				IndexCommitMetaInfo.getFingerprint(
+					_sourceDirectory.fileLength(fileName),
+					IndexCommitSerializationUtil.getChecksum(
+						_sourceDirectory, fileName)));
+		}
+
+		_dumpIndexDeletionPolicy.dumpDelta(
+			byteArrayOutputStream, _indexWriter, new ReentrantLock(),
+			fingerprints);
+
+		try {
+			IndexCommitSerializationUtil.deserializeIndexDelta(
+				new ByteArrayInputStream(byteArrayOutputStream.toByteArray()),
+				new RAMDirectory(), new RAMDirectory(),
+				new HashMap<String, String>());
+
+			Assert.fail();
+		}
+		catch (IOException ioe) {
+		}
+
+		_indexWriter.close();
+	}
+
 	@Test
 	public void testEmptyDump() throws Exception {
 		Directory targetDirectory = _dumpToTargetDirectory(_indexWriter);
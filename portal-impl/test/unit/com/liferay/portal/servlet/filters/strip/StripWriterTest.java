@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.strip;
+
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+
+import java.io.StringWriter;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * @author agent
+ */
+@PrepareForTest({PropsUtil.class})
+@RunWith(PowerMockRunner.class)
+public class StripWriterTest extends PowerMockito {
+
+	@Before
+	public void setUp() {
+		mockStatic(PropsUtil.class);
+
+		when(
+			PropsUtil.get(PropsKeys.TCK_URL)
+		).thenReturn(
+			PropsKeys.TCK_URL
+		);
+	}
+
+	@Test
+	public void testFlush() throws Exception {
+		StringWriter stringWriter = new StringWriter();
+
+		StripWriter stripWriter = new StripWriter(
+			new StripFilter(), null, null, stringWriter, 64);
+
+		String text = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+		stripWriter.write("<p>" + text + "  \n");
+		stripWriter.flush();
+
+		// Trailing white space is held until its end is known
+
+		Assert.assertEquals("<p>" + text, stringWriter.toString());
+
+		stripWriter.write("\t b</p>");
+		stripWriter.flush();
+
+		// A tag too close to the end is held until it can be told apart from
+		// the tags that are stripped as a whole
+
+		Assert.assertEquals("<p>" + text + " b", stringWriter.toString());
+
+		stripWriter.finish();
+
+		Assert.assertEquals(
+			"<p>" + text + " b</p>", stringWriter.toString());
+	}
+
+	@Test
+	public void testPassThrough() throws Exception {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("<pre>");
+
+		for (int i = 0; i < 20; i++) {
+			sb.append("a  b\n");
+		}
+
+		sb.append("</pre>  <p>  c  </p>");
+
+		StringWriter stringWriter = new StringWriter();
+
+		StripWriter stripWriter = new StripWriter(
+			new StripFilter(), null, null, stringWriter, 64);
+
+		stripWriter.write(sb.toString());
+		stripWriter.finish();
+
+		String content = sb.toString();
+
+		Assert.assertEquals(
+			content.substring(0, content.indexOf("</pre>") + 6) +
+				" <p> c </p>",
+			stringWriter.toString());
+	}
+
+	@Test
+	public void testStrip() throws Exception {
+		String content =
+			" \n<html>\n\t<body>  <pre> a\n  b </pre>\n  <textarea >c  d" +
+				"</textarea>\n\t<input  value=\"e  f\" />  <p>g   h</p>\n" +
+					"</body>\n</html>\n";
+
+		String strippedContent =
+			"<html> <body> <pre> a\n  b </pre> <textarea >c  d</textarea> " +
+				"<input  value=\"e  f\" /> <p>g h</p> </body> </html> ";
+
+		// Write at once
+
+		StringWriter stringWriter = new StringWriter();
+
+		StripWriter stripWriter = new StripWriter(
+			new StripFilter(), null, null, stringWriter, 64);
+
+		stripWriter.write(content);
+		stripWriter.finish();
+
+		Assert.assertEquals(strippedContent, stringWriter.toString());
+
+		// Write char by char and flush in between
+
+		stringWriter = new StringWriter();
+
+		stripWriter = new StripWriter(
+			new StripFilter(), null, null, stringWriter, 64);
+
+		for (int i = 0; i < content.length(); i++) {
+			stripWriter.write(content.charAt(i));
+
+			if ((i % 7) == 0) {
+				stripWriter.flush();
+			}
+		}
+
+		stripWriter.finish();
+
+		Assert.assertEquals(strippedContent, stringWriter.toString());
+	}
+
+}
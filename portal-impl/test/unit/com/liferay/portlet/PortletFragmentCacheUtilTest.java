@@ -0,0 +1,393 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet;
+
+import com.liferay.portal.cache.MultiVMPoolImpl;
+import com.liferay.portal.cache.memory.MemoryPortalCacheManager;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.language.Language;
+import com.liferay.portal.kernel.language.LanguageUtil;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.security.auth.AuthTokenThreadLocal;
+import com.liferay.portal.security.auth.AuthTokenUtil;
+import com.liferay.portal.security.auth.SessionAuthToken;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portal.util.WebKeys;
+
+import java.io.Serializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.portlet.PortletMode;
+import javax.portlet.PortletRequest;
+import javax.portlet.WindowState;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+
+import org.powermock.api.mockito.PowerMockito;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+
+/**
+ * @author agent
+ */
+public class PortletFragmentCacheUtilTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() throws Exception {
+		MemoryPortalCacheManager<Serializable, Serializable>
+			memoryPortalCacheManager =
+				new MemoryPortalCacheManager<Serializable, Serializable>();
+
+		memoryPortalCacheManager.afterPropertiesSet();
+
+		MultiVMPoolImpl multiVMPoolImpl = new MultiVMPoolImpl();
+
+		multiVMPoolImpl.setPortalCacheManager(memoryPortalCacheManager);
+
+		MultiVMPoolUtil multiVMPoolUtil = new MultiVMPoolUtil();
+
+		multiVMPoolUtil.setMultiVMPool(multiVMPoolImpl);
+
+		Language language = mock(Language.class);
+
+		when(
+			language.getLanguageId(Matchers.any(PortletRequest.class))
+		).thenReturn(
+			"en_US"
+		);
+
+		LanguageUtil languageUtil = new LanguageUtil();
+
+		languageUtil.setLanguage(language);
+
+		AuthTokenUtil authTokenUtil = new AuthTokenUtil();
+
+		authTokenUtil.setAuthToken(new SessionAuthToken());
+	}
+
+	@After
+	public void tearDown() {
+		PortletFragmentCacheUtil.clearCache();
+
+		CentralizedThreadLocal.clearShortLivedThreadLocals();
+	}
+
+	@Test
+	public void testActionURLIsNotShared() throws Exception {
+		String key = PortletFragmentCacheUtil.getKey(
+			getRenderRequestImpl(1, new long[] {10}), _PORTLET_ID, true,
+			new String[0]);
+
+		MockHttpServletRequest request1 = new MockHttpServletRequest();
+
+		request1.setSession(new MockHttpSession());
+
+		String content1 = render(key, request1);
+
+		String token1 = AuthTokenUtil.getToken(request1);
+
+		Assert.assertEquals(getActionURL(token1), content1);
+
+		MockHttpServletRequest request2 = new MockHttpServletRequest();
+
+		request2.setSession(new MockHttpSession());
+
+		String content2 = render(key, request2);
+
+		String token2 = AuthTokenUtil.getToken(request2);
+
+		Assert.assertFalse(token1.equals(token2));
+		Assert.assertEquals(getActionURL(token2), content2);
+		Assert.assertFalse(content2.contains(token1));
+	}
+
+	@Test
+	public void testClearCache() throws Exception {
+		RenderRequestImpl renderRequestImpl = getRenderRequestImpl(
+			1, new long[] {10});
+
+		String key = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, true, new String[0]);
+
+		Assert.assertEquals(
+			key,
+			PortletFragmentCacheUtil.getKey(
+				renderRequestImpl, _PORTLET_ID, true, new String[0]));
+
+		PortletFragmentCacheUtil.clearCache(_PLID, _PORTLET_ID);
+
+		String portletKey = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, true, new String[0]);
+
+		Assert.assertFalse(key.equals(portletKey));
+
+		PortletFragmentCacheUtil.clearGroupCache(_GROUP_ID);
+
+		String groupKey = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, true, new String[0]);
+
+		Assert.assertFalse(portletKey.equals(groupKey));
+
+		PortletFragmentCacheUtil.clearUserCache(1);
+
+		Assert.assertEquals(
+			groupKey,
+			PortletFragmentCacheUtil.getKey(
+				renderRequestImpl, _PORTLET_ID, true, new String[0]));
+
+		String privateKey = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, false, new String[0]);
+
+		PortletFragmentCacheUtil.clearUserCache(1);
+
+		Assert.assertFalse(
+			privateKey.equals(
+				PortletFragmentCacheUtil.getKey(
+					renderRequestImpl, _PORTLET_ID, false, new String[0])));
+	}
+
+	@Test
+	public void testParameters() throws Exception {
+		RenderRequestImpl renderRequestImpl = getRenderRequestImpl(
+			1, new long[] {10});
+
+		String key = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, true, new String[0]);
+
+		Map<String, String[]> parameterMap =
+			renderRequestImpl.getParameterMap();
+
+		parameterMap.put("page", new String[] {"2"});
+
+		String pageKey = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, true, new String[0]);
+
+		Assert.assertFalse(key.equals(pageKey));
+
+		parameterMap.put("sort", new String[] {"asc"});
+
+		Assert.assertFalse(
+			pageKey.equals(
+				PortletFragmentCacheUtil.getKey(
+					renderRequestImpl, _PORTLET_ID, true, new String[0])));
+
+		String[] varyByParameterNames = {"page"};
+
+		String varyByKey = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, true, varyByParameterNames);
+
+		parameterMap.put("sort", new String[] {"desc"});
+
+		Assert.assertEquals(
+			varyByKey,
+			PortletFragmentCacheUtil.getKey(
+				renderRequestImpl, _PORTLET_ID, true, varyByParameterNames));
+
+		parameterMap.clear();
+
+		parameterMap.put("a", new String[] {"1#b=1:2"});
+
+		String impersonatingKey = PortletFragmentCacheUtil.getKey(
+			renderRequestImpl, _PORTLET_ID, true, new String[0]);
+
+		parameterMap.clear();
+
+		parameterMap.put("a", new String[] {"1"});
+		parameterMap.put("b", new String[] {"2"});
+
+		Assert.assertFalse(
+			impersonatingKey.equals(
+				PortletFragmentCacheUtil.getKey(
+					renderRequestImpl, _PORTLET_ID, true, new String[0])));
+	}
+
+	@Test
+	public void testScope() throws Exception {
+		String publicKey = PortletFragmentCacheUtil.getKey(
+			getRenderRequestImpl(1, new long[] {10, 20}), _PORTLET_ID, true,
+			new String[0]);
+
+		Assert.assertEquals(
+			publicKey,
+			PortletFragmentCacheUtil.getKey(
+				getRenderRequestImpl(2, new long[] {20, 10}), _PORTLET_ID,
+				true, new String[0]));
+		Assert.assertFalse(
+			publicKey.equals(
+				PortletFragmentCacheUtil.getKey(
+					getRenderRequestImpl(2, new long[] {10}), _PORTLET_ID,
+					true, new String[0])));
+
+		Assert.assertFalse(
+			PortletFragmentCacheUtil.getKey(
+				getRenderRequestImpl(1, new long[] {10}), _PORTLET_ID, false,
+				new String[0]).equals(
+					PortletFragmentCacheUtil.getKey(
+						getRenderRequestImpl(2, new long[] {10}), _PORTLET_ID,
+						false, new String[0])));
+
+		RenderRequestImpl renderRequestImpl = getRenderRequestImpl(
+			0, new long[0]);
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getKey(
+				renderRequestImpl, _PORTLET_ID, false, new String[0]));
+		Assert.assertNotNull(
+			PortletFragmentCacheUtil.getKey(
+				renderRequestImpl, _PORTLET_ID, true, new String[0]));
+	}
+
+	protected String getActionURL(String token) {
+		return "<a href=\"/web/guest/home?p_p_id=" + _PORTLET_ID +
+			"&p_p_lifecycle=1&p_auth=" + token + "\">Save</a>";
+	}
+
+	protected RenderRequestImpl getRenderRequestImpl(
+		long userId, long[] roleIds) {
+
+		Layout layout = mock(Layout.class);
+
+		when(
+			layout.getGroupId()
+		).thenReturn(
+			_GROUP_ID
+		);
+		when(
+			layout.getPlid()
+		).thenReturn(
+			_PLID
+		);
+
+		PermissionChecker permissionChecker = mock(PermissionChecker.class);
+
+		when(
+			permissionChecker.getRoleIds(userId, _GROUP_ID)
+		).thenReturn(
+			roleIds
+		);
+
+		ThemeDisplay themeDisplay = mock(ThemeDisplay.class);
+
+		when(
+			themeDisplay.getPermissionChecker()
+		).thenReturn(
+			permissionChecker
+		);
+		when(
+			themeDisplay.getScopeGroupId()
+		).thenReturn(
+			_GROUP_ID
+		);
+		when(
+			themeDisplay.getUserId()
+		).thenReturn(
+			userId
+		);
+		when(
+			themeDisplay.isSignedIn()
+		).thenReturn(
+			userId > 0
+		);
+
+		PortletPreferencesImpl portletPreferencesImpl = mock(
+			PortletPreferencesImpl.class);
+
+		when(
+			portletPreferencesImpl.getOwnerId()
+		).thenReturn(
+			_PLID
+		);
+		when(
+			portletPreferencesImpl.getOwnerType()
+		).thenReturn(
+			3
+		);
+
+		RenderRequestImpl renderRequestImpl = mock(RenderRequestImpl.class);
+
+		when(
+			renderRequestImpl.getAttribute(WebKeys.LAYOUT)
+		).thenReturn(
+			layout
+		);
+		when(
+			renderRequestImpl.getAttribute(WebKeys.THEME_DISPLAY)
+		).thenReturn(
+			themeDisplay
+		);
+		when(
+			renderRequestImpl.getParameterMap()
+		).thenReturn(
+			new HashMap<String, String[]>()
+		);
+		when(
+			renderRequestImpl.getPortletMode()
+		).thenReturn(
+			PortletMode.VIEW
+		);
+		when(
+			renderRequestImpl.getPreferencesImpl()
+		).thenReturn(
+			portletPreferencesImpl
+		);
+		when(
+			renderRequestImpl.getWindowState()
+		).thenReturn(
+			WindowState.NORMAL
+		);
+
+		return renderRequestImpl;
+	}
+
+	/**
+	 * Renders an action URL the way {@link InvokerPortletImpl} renders a
+	 * cacheable portlet, serving the cached fragment when there is one.
+	 */
+	protected String render(String key, MockHttpServletRequest request) {
+		InvokerPortletResponse invokerPortletResponse =
+			PortletFragmentCacheUtil.getResponse(_PORTLET_ID, key);
+
+		if (invokerPortletResponse != null) {
+			return invokerPortletResponse.getContent();
+		}
+
+		AuthTokenThreadLocal.setTokenRequested(false);
+
+		String content = getActionURL(AuthTokenUtil.getToken(request));
+
+		PortletFragmentCacheUtil.putResponse(
+			key, new InvokerPortletResponse(null, content, Long.MAX_VALUE),
+			0);
+
+		return content;
+	}
+
+	private static final long _GROUP_ID = 100;
+
+	private static final long _PLID = 200;
+
+	private static final String _PORTLET_ID = "56_INSTANCE_abcd";
+
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.service.persistence;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class AssetEntryBitmapTest {
+
+	@Test
+	public void testAddAndRemove() {
+		AssetEntryBitmap bitmap = new AssetEntryBitmap();
+
+		Set<Integer> set = new TreeSet<Integer>();
+
+		for (int i = 0; i < 20000; i++) {
+			int value = _random.nextInt(200000);
+
+			if (_random.nextInt(4) == 0) {
+				bitmap.remove(value);
+				set.remove(value);
+			}
+			else {
+				bitmap.add(value);
+				set.add(value);
+			}
+		}
+
+		assertEquals(set, bitmap);
+
+		for (int value : set) {
+			Assert.assertTrue(bitmap.contains(value));
+		}
+
+		Assert.assertFalse(bitmap.contains(200001));
+	}
+
+	@Test
+	public void testDenseAndSparseOperations() {
+		for (int i = 0; i < 10; i++) {
+			Set<Integer> set1 = new TreeSet<Integer>();
+			Set<Integer> set2 = new TreeSet<Integer>();
+
+			AssetEntryBitmap bitmap1 = createBitmap(set1, 15000, 100000);
+			AssetEntryBitmap bitmap2 = createBitmap(set2, 300, 150000);
+
+			_testOperations(bitmap1, bitmap2, set1, set2);
+			_testOperations(bitmap2, bitmap1, set2, set1);
+			_testOperations(bitmap1, bitmap1.copy(), set1, set1);
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		AssetEntryBitmap bitmap = new AssetEntryBitmap();
+
+		Assert.assertTrue(bitmap.isEmpty());
+		Assert.assertEquals(0, bitmap.cardinality());
+
+		bitmap.add(70000);
+
+		Assert.assertFalse(bitmap.isEmpty());
+
+		bitmap.remove(70000);
+
+		Assert.assertTrue(bitmap.isEmpty());
+		Assert.assertTrue(bitmap.and(new AssetEntryBitmap()).isEmpty());
+		Assert.assertTrue(bitmap.or(new AssetEntryBitmap()).isEmpty());
+	}
+
+	@Test
+	public void testOperandsAreNotChanged() {
+		Set<Integer> set1 = new TreeSet<Integer>();
+		Set<Integer> set2 = new TreeSet<Integer>();
+
+		AssetEntryBitmap bitmap1 = createBitmap(set1, 10000, 70000);
+		AssetEntryBitmap bitmap2 = createBitmap(set2, 10000, 70000);
+
+		bitmap1.and(bitmap2);
+		bitmap1.andNot(bitmap2);
+		bitmap1.or(bitmap2);
+
+		assertEquals(set1, bitmap1);
+		assertEquals(set2, bitmap2);
+	}
+
+	protected void assertEquals(Set<Integer> set, AssetEntryBitmap bitmap) {
+		int[] values = bitmap.toArray();
+
+		Assert.assertEquals(set.size(), bitmap.cardinality());
+		Assert.assertEquals(set.size(), values.length);
+
+		int i = 0;
+
+		for (int value : set) {
+			Assert.assertEquals(value, values[i++]);
+		}
+	}
+
+	protected AssetEntryBitmap createBitmap(
+		Set<Integer> set, int count, int bound) {
+
+		AssetEntryBitmap bitmap = new AssetEntryBitmap();
+
+		for (int i = 0; i < count; i++) {
+			int value = _random.nextInt(bound);
+
+			bitmap.add(value);
+			set.add(value);
+		}
+
+		return bitmap;
+	}
+
+	private void _testOperations(
+		AssetEntryBitmap bitmap1, AssetEntryBitmap bitmap2, Set<Integer> set1,
+		Set<Integer> set2) {
+
+		Set<Integer> set = new TreeSet<Integer>(set1);
+
+		set.retainAll(set2);
+
+		assertEquals(set, bitmap1.and(bitmap2));
+
+		set = new TreeSet<Integer>(set1);
+
+		set.removeAll(set2);
+
+		assertEquals(set, bitmap1.andNot(bitmap2));
+
+		set = new TreeSet<Integer>(set1);
+
+		set.addAll(set2);
+
+		assertEquals(set, bitmap1.or(bitmap2));
+	}
+
+	private Random _random = new Random();
+
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.social.service.impl;
+
+import com.liferay.portal.kernel.util.Props;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portlet.social.model.SocialActivityCounter;
+import com.liferay.portlet.social.model.SocialActivityCounterConstants;
+import com.liferay.portlet.social.service.persistence.SocialActivityCounterPersistence;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class SocialActivityCounterLocalServiceImplTest {
+
+	@BeforeClass
+	public static void setUpClass() {
+		Props props = Mockito.mock(Props.class);
+
+		Mockito.when(
+			props.get(PropsKeys.SOCIAL_ACTIVITY_COUNTER_PERIOD_LENGTH)
+		).thenReturn(
+			String.valueOf(_PERIOD_LENGTH)
+		);
+
+		PropsUtil.setProps(props);
+	}
+
+	@Before
+	public void setUp() {
+		_socialActivityCounterPersistence = Mockito.mock(
+			SocialActivityCounterPersistence.class);
+
+		_socialActivityCounterLocalServiceImpl =
+			new SocialActivityCounterLocalServiceImpl() {
+
+				@Override
+				public SocialActivityCounter addActivityCounter(
+					long groupId, long classNameId, long classPK, String name,
+					int ownerType, int currentValue, int totalValue,
+					int startPeriod, int endPeriod,
+					long previousActivityCounterId, int periodLength) {
+
+					Assert.assertEquals(
+						SocialActivityCounterConstants.END_PERIOD_UNDEFINED,
+						endPeriod);
+
+					_addedStartPeriod = startPeriod;
+
+					return mockActivityCounter(startPeriod, 0, totalValue);
+				}
+
+			};
+
+		_socialActivityCounterLocalServiceImpl.
+			setSocialActivityCounterPersistence(
+				_socialActivityCounterPersistence);
+	}
+
+	@Test
+	public void testIncrementActivePeriod() throws Exception {
+		SocialActivityCounter activityCounter = mockActivityCounter(
+			_START_PERIOD, 5, 20);
+
+		setLatestActivityCounter(activityCounter);
+
+		doIncrementActivityCounter(_START_PERIOD + 3);
+
+		Assert.assertEquals(0, _addedStartPeriod);
+
+		assertIncremented(activityCounter, 5, 20);
+	}
+
+	@Test
+	public void testIncrementEndedPeriod() throws Exception {
+		SocialActivityCounter activityCounter = mockActivityCounter(
+			_START_PERIOD + _PERIOD_LENGTH, 5, 20);
+
+		setLatestActivityCounter(activityCounter);
+
+		SocialActivityCounter previousActivityCounter = mockActivityCounter(
+			_START_PERIOD, 7, 15);
+
+		Mockito.when(
+			_socialActivityCounterPersistence.fetchByG_C_C_N_O_E(
+				_GROUP_ID, _CLASS_NAME_ID, _CLASS_PK, _NAME, _OWNER_TYPE,
+				_START_PERIOD + _PERIOD_LENGTH - 1)
+		).thenReturn(
+			previousActivityCounter
+		);
+
+		doIncrementActivityCounter(_START_PERIOD + 3);
+
+		Assert.assertEquals(0, _addedStartPeriod);
+
+		assertIncremented(previousActivityCounter, 7, 15);
+
+		Mockito.verify(activityCounter, Mockito.never()).setCurrentValue(
+			Mockito.anyInt());
+		Mockito.verify(activityCounter).setTotalValue(20 + _INCREMENT);
+		Mockito.verify(_socialActivityCounterPersistence).update(
+			activityCounter);
+	}
+
+	@Test
+	public void testIncrementNextPeriod() throws Exception {
+		SocialActivityCounter activityCounter = mockActivityCounter(
+			_START_PERIOD - _PERIOD_LENGTH, 5, 20);
+
+		setLatestActivityCounter(activityCounter);
+
+		doIncrementActivityCounter(_START_PERIOD + 1);
+
+		Assert.assertEquals(_START_PERIOD, _addedStartPeriod);
+
+		Mockito.verify(activityCounter, Mockito.never()).setCurrentValue(
+			Mockito.anyInt());
+		Mockito.verify(activityCounter, Mockito.never()).setTotalValue(
+			Mockito.anyInt());
+	}
+
+	protected void assertIncremented(
+			SocialActivityCounter activityCounter, int currentValue,
+			int totalValue)
+		throws Exception {
+
+		Mockito.verify(activityCounter).setCurrentValue(
+			currentValue + _INCREMENT);
+		Mockito.verify(activityCounter).setTotalValue(totalValue + _INCREMENT);
+		Mockito.verify(_socialActivityCounterPersistence).update(
+			activityCounter);
+	}
+
+	protected void doIncrementActivityCounter(int activityDay)
+		throws Exception {
+
+		_socialActivityCounterLocalServiceImpl.doIncrementActivityCounter(
+			_GROUP_ID, _CLASS_NAME_ID, _CLASS_PK, _NAME, _OWNER_TYPE,
+			_INCREMENT, SocialActivityCounterConstants.PERIOD_LENGTH_SYSTEM,
+			activityDay);
+	}
+
+	protected SocialActivityCounter mockActivityCounter(
+		int startPeriod, int currentValue, int totalValue) {
+
+		SocialActivityCounter activityCounter = Mockito.mock(
+			SocialActivityCounter.class);
+
+		Mockito.when(
+			activityCounter.getCurrentValue()
+		).thenReturn(
+			currentValue
+		);
+		Mockito.when(
+			activityCounter.getStartPeriod()
+		).thenReturn(
+			startPeriod
+		);
+		Mockito.when(
+			activityCounter.getTotalValue()
+		).thenReturn(
+			totalValue
+		);
+
+		return activityCounter;
+	}
+
+	protected void setLatestActivityCounter(
+			SocialActivityCounter activityCounter)
+		throws Exception {
+
+		Mockito.when(
+			_socialActivityCounterPersistence.fetchByG_C_C_N_O_E(
+				_GROUP_ID, _CLASS_NAME_ID, _CLASS_PK, _NAME, _OWNER_TYPE,
+				SocialActivityCounterConstants.END_PERIOD_UNDEFINED)
+		).thenReturn(
+			activityCounter
+		);
+	}
+
+	private static final long _CLASS_NAME_ID = 10;
+
+	private static final long _CLASS_PK = 20;
+
+	private static final long _GROUP_ID = 30;
+
+	private static final int _INCREMENT = 2;
+
+	private static final String _NAME = "user.activities";
+
+	private static final int _OWNER_TYPE =
+		SocialActivityCounterConstants.TYPE_ACTOR;
+
+	private static final int _PERIOD_LENGTH = 7;
+
+	private static final int _START_PERIOD = 700;
+
+	private int _addedStartPeriod;
+	private SocialActivityCounterLocalServiceImpl
+		_socialActivityCounterLocalServiceImpl;
+	private SocialActivityCounterPersistence _socialActivityCounterPersistence;
+
+}
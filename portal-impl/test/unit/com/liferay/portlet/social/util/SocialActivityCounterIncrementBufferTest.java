@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.social.util;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portlet.social.model.SocialActivityCounterIncrement;
+import com.liferay.portlet.social.service.SocialActivityCounterLocalService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * @author agent
+ */
+public class SocialActivityCounterIncrementBufferTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_socialActivityCounterLocalService = Mockito.mock(
+			SocialActivityCounterLocalService.class);
+
+		Mockito.doAnswer(
+			new Answer<Void>() {
+
+				@SuppressWarnings("unchecked")
+				public Void answer(InvocationOnMock invocationOnMock)
+					throws Throwable {
+
+					List<SocialActivityCounterIncrement>
+						activityCounterIncrements =
+							(List<SocialActivityCounterIncrement>)
+								invocationOnMock.getArguments()[0];
+
+					if (activityCounterIncrements.size() > 1) {
+						_batches++;
+					}
+
+					for (SocialActivityCounterIncrement
+							activityCounterIncrement :
+								activityCounterIncrements) {
+
+						if (activityCounterIncrement.getClassPK() ==
+								_portalExceptionClassPK) {
+
+							throw new PortalException();
+						}
+
+						if (activityCounterIncrement.getClassPK() ==
+								_systemExceptionClassPK) {
+
+							throw new SystemException();
+						}
+					}
+
+					_written.addAll(activityCounterIncrements);
+
+					return null;
+				}
+
+			}
+		).when(
+			_socialActivityCounterLocalService
+		).incrementActivityCounters(
+			Matchers.anyListOf(SocialActivityCounterIncrement.class)
+		);
+
+		_socialActivityCounterIncrementBuffer =
+			new SocialActivityCounterIncrementBuffer(
+				_socialActivityCounterLocalService, Long.MAX_VALUE, 10);
+	}
+
+	@After
+	public void tearDown() {
+		_socialActivityCounterIncrementBuffer.close();
+	}
+
+	@Test
+	public void testClose() {
+		Assert.assertTrue(
+			_socialActivityCounterIncrementBuffer.add(
+				createActivityCounterIncrement(1, 1, 1)));
+
+		_socialActivityCounterIncrementBuffer.close();
+
+		Assert.assertEquals(1, _written.size());
+
+		Assert.assertFalse(
+			_socialActivityCounterIncrementBuffer.add(
+				createActivityCounterIncrement(1, 1, 1)));
+
+		_socialActivityCounterIncrementBuffer.flush();
+
+		Assert.assertEquals(1, _written.size());
+	}
+
+	@Test
+	public void testFlushEntity() {
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 1, 1));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 2, 1));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(2, 1, 1));
+
+		_socialActivityCounterIncrementBuffer.flush(1, 1);
+
+		Assert.assertEquals(1, _written.size());
+
+		SocialActivityCounterIncrement activityCounterIncrement =
+			_written.get(0);
+
+		Assert.assertEquals(1, activityCounterIncrement.getClassNameId());
+		Assert.assertEquals(1, activityCounterIncrement.getClassPK());
+
+		_socialActivityCounterIncrementBuffer.flush();
+
+		Assert.assertEquals(3, _written.size());
+	}
+
+	@Test
+	public void testMerge() {
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 1, 1));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 1, 2));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 2, 4));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 3, 1));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 3, -1));
+
+		_socialActivityCounterIncrementBuffer.flush();
+
+		Assert.assertEquals(1, _batches);
+		Assert.assertEquals(2, _written.size());
+
+		for (SocialActivityCounterIncrement activityCounterIncrement :
+				_written) {
+
+			if (activityCounterIncrement.getClassPK() == 1) {
+				Assert.assertEquals(3, activityCounterIncrement.getIncrement());
+			}
+			else {
+				Assert.assertEquals(2, activityCounterIncrement.getClassPK());
+				Assert.assertEquals(4, activityCounterIncrement.getIncrement());
+			}
+		}
+	}
+
+	@Test
+	public void testRetry() {
+		_portalExceptionClassPK = 2;
+		_systemExceptionClassPK = 3;
+
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 1, 1));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 2, 1));
+		_socialActivityCounterIncrementBuffer.add(
+			createActivityCounterIncrement(1, 3, 1));
+
+		_socialActivityCounterIncrementBuffer.flush();
+
+		Assert.assertEquals(1, _batches);
+		Assert.assertEquals(1, _written.size());
+		Assert.assertEquals(1, _written.get(0).getClassPK());
+
+		_systemExceptionClassPK = 0;
+
+		_socialActivityCounterIncrementBuffer.flush();
+
+		Assert.assertEquals(2, _written.size());
+		Assert.assertEquals(3, _written.get(1).getClassPK());
+
+		_socialActivityCounterIncrementBuffer.flush();
+
+		Assert.assertEquals(2, _written.size());
+	}
+
+	protected SocialActivityCounterIncrement createActivityCounterIncrement(
+		long classNameId, long classPK, int increment) {
+
+		return new SocialActivityCounterIncrement(
+			0, 1, classNameId, classPK, "name", 1, 0, 1, increment);
+	}
+
+	private int _batches;
+	private long _portalExceptionClassPK;
+	private SocialActivityCounterIncrementBuffer
+		_socialActivityCounterIncrementBuffer;
+	private SocialActivityCounterLocalService
+		_socialActivityCounterLocalService;
+	private long _systemExceptionClassPK;
+	private List<SocialActivityCounterIncrement> _written =
+		new ArrayList<SocialActivityCounterIncrement>();
+
+}
@@ -20,9 +20,17 @@ package com.liferay.counter.service.persistence;
 public interface CounterFinder {
 	public void afterPropertiesSet();
 
+	public int getCurrentRangeSize(java.lang.String name);
+
+	public long getLockWaitCount();
+
 	public java.util.List<java.lang.String> getNames()
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	public long getPrefetchCount();
+
+	public long getRangeRefillCount();
+
 	public java.lang.String getRegistryName();
 
 	public long increment()
@@ -25,11 +25,27 @@ public class CounterFinderUtil {
 		getFinder().afterPropertiesSet();
 	}
 
+	public static int getCurrentRangeSize(java.lang.String name) {
+		return getFinder().getCurrentRangeSize(name);
+	}
+
+	public static long getLockWaitCount() {
+		return getFinder().getLockWaitCount();
+	}
+
 	public static java.util.List<java.lang.String> getNames()
 		throws com.liferay.portal.kernel.exception.SystemException {
 		return getFinder().getNames();
 	}
 
+	public static long getPrefetchCount() {
+		return getFinder().getPrefetchCount();
+	}
+
+	public static long getRangeRefillCount() {
+		return getFinder().getRangeRefillCount();
+	}
+
 	public static java.lang.String getRegistryName() {
 		return getFinder().getRegistryName();
 	}
@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.concurrent.CompeteLatch;
 import java.io.Serializable;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -132,6 +133,32 @@ public class BlockingPortalCache<K extends Serializable, V>
 		_competeLatchMap.remove(key);
 	}
 
+	public void putAll(Map<K, V> map) {
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			if (entry.getKey() == null) {
+				throw new IllegalArgumentException("Key is null");
+			}
+
+			if (entry.getValue() == null) {
+				throw new IllegalArgumentException("Value is null");
+			}
+		}
+
+		_portalCache.putAll(map);
+
+		CompeteLatch competeLatch = _competeLatch.get();
+
+		if (competeLatch != null) {
+			competeLatch.done();
+
+			_competeLatch.set(null);
+		}
+
+		for (K key : map.keySet()) {
+			_competeLatchMap.remove(key);
+		}
+	}
+
 	public void registerCacheListener(CacheListener<K, V> cacheListener) {
 		_portalCache.registerCacheListener(cacheListener);
 	}
@@ -158,6 +185,18 @@ public class BlockingPortalCache<K extends Serializable, V>
 		_competeLatchMap.clear();
 	}
 
+	public void removeAll(Collection<K> keys) {
+		_portalCache.removeAll(keys);
+
+		for (K key : keys) {
+			CompeteLatch competeLatch = _competeLatchMap.remove(key);
+
+			if (competeLatch != null) {
+				competeLatch.done();
+			}
+		}
+	}
+
 	public void unregisterCacheListener(CacheListener<K, V> cacheListener) {
 		_portalCache.unregisterCacheListener(cacheListener);
 	}
@@ -17,6 +17,7 @@ package com.liferay.portal.kernel.cache;
 import java.io.Serializable;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * @author Brian Wing Shun Chan
@@ -37,6 +38,8 @@ public interface PortalCache<K extends Serializable, V> {
 
 	public void put(K key, V value, int timeToLive);
 
+	public void putAll(Map<K, V> map);
+
 	public void registerCacheListener(CacheListener<K, V> cacheListener);
 
 	public void registerCacheListener(
@@ -47,6 +50,8 @@ public interface PortalCache<K extends Serializable, V> {
 
 	public void removeAll();
 
+	public void removeAll(Collection<K> keys);
+
 	public void unregisterCacheListener(CacheListener<K, V> cacheListener);
 
 	public void unregisterCacheListeners();
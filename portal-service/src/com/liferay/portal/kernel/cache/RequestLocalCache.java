@@ -0,0 +1,492 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache;
+
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded LRU cache whose entries only live as long as the current request.
+ *
+ * <p>
+ * Entries keyed by a group and a <code>long</code>, such as an entity class
+ * and its primary key, are kept in primitive arrays so lookups neither box
+ * the key nor allocate a composite key object. The arrays are allocated small
+ * on the first such entry and doubled as needed, up to the maximum size. All
+ * other entries are kept in an access ordered map. Both stores are bounded by
+ * the maximum size.
+ * </p>
+ *
+ * <p>
+ * Hits, misses and evictions are counted for the current request and in total
+ * across all requests, see {@link RequestLocalCacheManager}.
+ * </p>
+ *
+ * @author agent
+ */
+public class RequestLocalCache<V> {
+
+	public RequestLocalCache(String name, int maxSize) {
+		_name = name;
+		_maxSize = maxSize;
+
+		_localStoreThreadLocal = new AutoResetThreadLocal<LocalStore>(
+			RequestLocalCache.class + "._localStoreThreadLocal." + name);
+	}
+
+	public V get(Object key) {
+		LocalStore localStore = _getLocalStore();
+
+		return localStore.count(localStore.get(key));
+	}
+
+	public V get(Object group, long key) {
+		LocalStore localStore = _getLocalStore();
+
+		return localStore.count(localStore.get(group, key));
+	}
+
+	public long getEvictionCount() {
+		return _evictionCount.get();
+	}
+
+	public long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public int getMaxSize() {
+		return _maxSize;
+	}
+
+	public long getMissCount() {
+		return _missCount.get();
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	public long getRequestCount() {
+		return _requestCount.get();
+	}
+
+	public int getRequestEvictionCount() {
+		LocalStore localStore = _localStoreThreadLocal.get();
+
+		if (localStore == null) {
+			return 0;
+		}
+
+		return localStore._requestEvictionCount;
+	}
+
+	public int getRequestHitCount() {
+		LocalStore localStore = _localStoreThreadLocal.get();
+
+		if (localStore == null) {
+			return 0;
+		}
+
+		return localStore._requestHitCount;
+	}
+
+	public int getRequestMissCount() {
+		LocalStore localStore = _localStoreThreadLocal.get();
+
+		if (localStore == null) {
+			return 0;
+		}
+
+		return localStore._requestMissCount;
+	}
+
+	public void put(Object key, V value) {
+		LocalStore localStore = _getLocalStore();
+
+		localStore.put(key, value);
+	}
+
+	public void put(Object group, long key, V value) {
+		LocalStore localStore = _getLocalStore();
+
+		localStore.put(group, key, value);
+	}
+
+	public void remove(Object key) {
+		LocalStore localStore = _localStoreThreadLocal.get();
+
+		if (localStore != null) {
+			localStore.remove(key);
+		}
+	}
+
+	public void remove(Object group, long key) {
+		LocalStore localStore = _localStoreThreadLocal.get();
+
+		if (localStore != null) {
+			localStore.remove(group, key);
+		}
+	}
+
+	public void removeAll() {
+		LocalStore localStore = _localStoreThreadLocal.get();
+
+		if (localStore != null) {
+			localStore.clear();
+		}
+	}
+
+	public void resetStatistics() {
+		_evictionCount.set(0);
+		_hitCount.set(0);
+		_missCount.set(0);
+		_requestCount.set(0);
+	}
+
+	private LocalStore _getLocalStore() {
+		LocalStore localStore = _localStoreThreadLocal.get();
+
+		if (localStore == null) {
+			localStore = new LocalStore();
+
+			_localStoreThreadLocal.set(localStore);
+
+			_requestCount.incrementAndGet();
+		}
+
+		return localStore;
+	}
+
+	private static final int _INITIAL_CAPACITY = 16;
+
+	private AtomicLong _evictionCount = new AtomicLong();
+	private AtomicLong _hitCount = new AtomicLong();
+	private ThreadLocal<LocalStore> _localStoreThreadLocal;
+	private int _maxSize;
+	private AtomicLong _missCount = new AtomicLong();
+	private String _name;
+	private AtomicLong _requestCount = new AtomicLong();
+
+	private class LocalStore {
+
+		public void clear() {
+			_groups = null;
+			_keys = null;
+			_values = null;
+			_nexts = null;
+			_befores = null;
+			_afters = null;
+			_table = null;
+
+			_map.clear();
+		}
+
+		public V count(V value) {
+			if (value == null) {
+				_requestMissCount++;
+
+				_missCount.incrementAndGet();
+			}
+			else {
+				_requestHitCount++;
+
+				_hitCount.incrementAndGet();
+			}
+
+			return value;
+		}
+
+		@SuppressWarnings("unchecked")
+		public V get(Object group, long key) {
+			if (_keys == null) {
+				return null;
+			}
+
+			int index = _indexOf(group, key);
+
+			if (index < 0) {
+				return null;
+			}
+
+			if (index != _tail) {
+				_unlink(index);
+				_linkLast(index);
+			}
+
+			return (V)_values[index];
+		}
+
+		public V get(Object key) {
+			return _map.get(key);
+		}
+
+		public void put(Object group, long key, V value) {
+			if (_keys == null) {
+				_init();
+			}
+
+			int index = _indexOf(group, key);
+
+			if (index >= 0) {
+				_values[index] = value;
+
+				if (index != _tail) {
+					_unlink(index);
+					_linkLast(index);
+				}
+
+				return;
+			}
+
+			if (_free < 0) {
+				if (_keys.length < _maxSize) {
+					_grow();
+				}
+				else {
+					_remove(_head);
+
+					_evicted();
+				}
+			}
+
+			index = _free;
+
+			_free = _nexts[index];
+
+			_groups[index] = group;
+			_keys[index] = key;
+			_values[index] = value;
+
+			int bucket = _bucket(group, key);
+
+			_nexts[index] = _table[bucket];
+			_table[bucket] = index;
+
+			_linkLast(index);
+		}
+
+		public void put(Object key, V value) {
+			_map.put(key, value);
+		}
+
+		public void remove(Object group, long key) {
+			if (_keys == null) {
+				return;
+			}
+
+			int index = _indexOf(group, key);
+
+			if (index >= 0) {
+				_remove(index);
+			}
+		}
+
+		public void remove(Object key) {
+			_map.remove(key);
+		}
+
+		private int _bucket(Object group, long key) {
+			int hash = group.hashCode() * 31 + (int)(key ^ (key >>> 32));
+
+			hash ^= (hash >>> 16);
+
+			return hash & (_table.length - 1);
+		}
+
+		private void _evicted() {
+			_requestEvictionCount++;
+
+			_evictionCount.incrementAndGet();
+		}
+
+		private void _grow() {
+			int capacity = _keys.length;
+
+			int newCapacity = Math.min(capacity * 2, _maxSize);
+
+			_groups = Arrays.copyOf(_groups, newCapacity);
+			_keys = Arrays.copyOf(_keys, newCapacity);
+			_values = Arrays.copyOf(_values, newCapacity);
+			_nexts = Arrays.copyOf(_nexts, newCapacity);
+			_befores = Arrays.copyOf(_befores, newCapacity);
+			_afters = Arrays.copyOf(_afters, newCapacity);
+
+			_table = _newTable(newCapacity);
+
+			// Every existing slot is in use when growing, so rehash them in
+			// access order and chain the new slots into the free list
+
+			for (int index = _head; index >= 0; index = _afters[index]) {
+				int bucket = _bucket(_groups[index], _keys[index]);
+
+				_nexts[index] = _table[bucket];
+				_table[bucket] = index;
+			}
+
+			_linkFree(capacity, newCapacity);
+		}
+
+		private int _indexOf(Object group, long key) {
+			int index = _table[_bucket(group, key)];
+
+			while (index >= 0) {
+				if ((_keys[index] == key) && group.equals(_groups[index])) {
+					return index;
+				}
+
+				index = _nexts[index];
+			}
+
+			return -1;
+		}
+
+		private void _init() {
+			int capacity = Math.min(_INITIAL_CAPACITY, _maxSize);
+
+			_groups = new Object[capacity];
+			_keys = new long[capacity];
+			_values = new Object[capacity];
+			_nexts = new int[capacity];
+			_befores = new int[capacity];
+			_afters = new int[capacity];
+
+			_table = _newTable(capacity);
+
+			_linkFree(0, capacity);
+
+			_head = -1;
+			_tail = -1;
+		}
+
+		private void _linkFree(int fromIndex, int toIndex) {
+			for (int i = fromIndex; i < (toIndex - 1); i++) {
+				_nexts[i] = i + 1;
+			}
+
+			_nexts[toIndex - 1] = -1;
+
+			_free = fromIndex;
+		}
+
+		private void _linkLast(int index) {
+			_befores[index] = _tail;
+			_afters[index] = -1;
+
+			if (_tail < 0) {
+				_head = index;
+			}
+			else {
+				_afters[_tail] = index;
+			}
+
+			_tail = index;
+		}
+
+		private int[] _newTable(int capacity) {
+			int tableSize = 1;
+
+			while (tableSize < (capacity * 2)) {
+				tableSize <<= 1;
+			}
+
+			int[] table = new int[tableSize];
+
+			Arrays.fill(table, -1);
+
+			return table;
+		}
+
+		private void _remove(int index) {
+			int bucket = _bucket(_groups[index], _keys[index]);
+
+			int current = _table[bucket];
+
+			if (current == index) {
+				_table[bucket] = _nexts[index];
+			}
+			else {
+				while (_nexts[current] != index) {
+					current = _nexts[current];
+				}
+
+				_nexts[current] = _nexts[index];
+			}
+
+			_unlink(index);
+
+			_groups[index] = null;
+			_values[index] = null;
+
+			_nexts[index] = _free;
+			_free = index;
+		}
+
+		private void _unlink(int index) {
+			int before = _befores[index];
+			int after = _afters[index];
+
+			if (before < 0) {
+				_head = after;
+			}
+			else {
+				_afters[before] = after;
+			}
+
+			if (after < 0) {
+				_tail = before;
+			}
+			else {
+				_befores[after] = before;
+			}
+		}
+
+		private int[] _afters;
+		private int[] _befores;
+		private int _free;
+		private Object[] _groups;
+		private int _head;
+		private long[] _keys;
+
+		private Map<Object, V> _map = new LinkedHashMap<Object, V>(
+			16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, V> entry) {
+				if (size() > _maxSize) {
+					_evicted();
+
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+
+		private int[] _nexts;
+		private int _requestEvictionCount;
+		private int _requestHitCount;
+		private int _requestMissCount;
+		private int[] _table;
+		private int _tail;
+		private Object[] _values;
+
+	}
+
+}
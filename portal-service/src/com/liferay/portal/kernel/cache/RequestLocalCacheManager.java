@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author agent
+ */
+public class RequestLocalCacheManager {
+
+	public static void clearAll() {
+		for (RequestLocalCache<?> requestLocalCache :
+				_requestLocalCaches.values()) {
+
+			requestLocalCache.removeAll();
+		}
+	}
+
+	public static <V> RequestLocalCache<V> getRequestLocalCache(
+		String name, int maxSize) {
+
+		// Callers sharing a name share the cache and its value type
+
+		@SuppressWarnings("unchecked")
+		RequestLocalCache<V> requestLocalCache =
+			(RequestLocalCache<V>)_requestLocalCaches.get(name);
+
+		if (requestLocalCache == null) {
+			requestLocalCache = new RequestLocalCache<V>(name, maxSize);
+
+			@SuppressWarnings("unchecked")
+			RequestLocalCache<V> previousRequestLocalCache =
+				(RequestLocalCache<V>)_requestLocalCaches.putIfAbsent(
+					name, requestLocalCache);
+
+			if (previousRequestLocalCache != null) {
+				requestLocalCache = previousRequestLocalCache;
+			}
+		}
+
+		return requestLocalCache;
+	}
+
+	public static RequestLocalCache<?> getRequestLocalCache(String name) {
+		return _requestLocalCaches.get(name);
+	}
+
+	public static Collection<RequestLocalCache<?>> getRequestLocalCaches() {
+		return Collections.unmodifiableCollection(
+			_requestLocalCaches.values());
+	}
+
+	private static ConcurrentMap<String, RequestLocalCache<?>>
+		_requestLocalCaches =
+			new ConcurrentHashMap<String, RequestLocalCache<?>>();
+
+}
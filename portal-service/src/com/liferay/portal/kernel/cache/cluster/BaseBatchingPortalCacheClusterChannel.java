@@ -0,0 +1,417 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache.cluster;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.monitoring.statistics.HistogramStatistics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gathers events per cache and dispatches them together.
+ *
+ * <p>
+ * A batch is dispatched when its first event is older than the batch interval,
+ * or when it holds the batch size number of element events. Within a batch,
+ * only the last event for each element key is kept, and puts and updates are
+ * sent as one batched put per cache and removals as one batched remove per
+ * cache. When a cache is removed entirely, or when more than the remove all
+ * threshold number of its keys change within one batch, a single remove all
+ * is sent for that cache instead.
+ * </p>
+ *
+ * @author agent
+ */
+public abstract class BaseBatchingPortalCacheClusterChannel
+	implements PortalCacheClusterChannel, Runnable {
+
+	public BaseBatchingPortalCacheClusterChannel(
+		long batchInterval, int batchSize, int removeAllThreshold) {
+
+		_batchInterval = TimeUnit.MILLISECONDS.toNanos(batchInterval);
+		_batchSize = batchSize;
+		_removeAllThreshold = removeAllThreshold;
+
+		_dispatchThread = new Thread(
+			this,
+			"PortalCacheClusterChannel batching dispatch thread-" +
+				_dispatchThreadCounter.getAndIncrement());
+	}
+
+	public void destroy() {
+		_destroy = true;
+
+		_dispatchThread.interrupt();
+	}
+
+	public abstract void dispatchEvents(
+		PortalCacheClusterEvent[] portalCacheClusterEvents);
+
+	public HistogramStatistics getBatchLatencyStatistics() {
+		return _batchLatencyStatistics;
+	}
+
+	public HistogramStatistics getBatchSizeStatistics() {
+		return _batchSizeStatistics;
+	}
+
+	public long getCoalescedEventNumber() {
+		return _coalescedEventCounter.get();
+	}
+
+	public int getPendingEventNumber() {
+		_lock.lock();
+
+		try {
+			return _pendingEventCount;
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	public long getRemoveAllNumber() {
+		return _removeAllCounter.get();
+	}
+
+	public long getSentEventNumber() {
+		return _sentEventCounter.get();
+	}
+
+	public void run() {
+		boolean destroy = false;
+
+		while (!destroy) {
+			Map<String, CacheBatch> cacheBatches = null;
+			int eventCount = 0;
+			long firstEventTime = 0;
+
+			_lock.lock();
+
+			try {
+				while (!_destroy) {
+					if (_pendingEventCount == 0) {
+						_pendingCondition.await();
+
+						continue;
+					}
+
+					if (_pendingEventCount >= _batchSize) {
+						break;
+					}
+
+					long remainingTime =
+						_firstEventTime + _batchInterval - System.nanoTime();
+
+					if (remainingTime <= 0) {
+						break;
+					}
+
+					_pendingCondition.awaitNanos(remainingTime);
+				}
+
+				destroy = _destroy;
+
+				cacheBatches = _cacheBatches;
+				eventCount = _pendingEventCount;
+				firstEventTime = _firstEventTime;
+
+				_cacheBatches = new LinkedHashMap<String, CacheBatch>();
+				_pendingEventCount = 0;
+			}
+			catch (InterruptedException ie) {
+				continue;
+			}
+			finally {
+				_lock.unlock();
+			}
+
+			if (eventCount == 0) {
+				continue;
+			}
+
+			try {
+				dispatch(cacheBatches, eventCount, firstEventTime);
+			}
+			catch (Throwable t) {
+				if (_log.isWarnEnabled()) {
+					_log.warn("Please fix the unexpected throwable", t);
+				}
+			}
+		}
+	}
+
+	public void sendEvent(PortalCacheClusterEvent portalCacheClusterEvent) {
+		if (_started == false) {
+			synchronized (this) {
+				if (_started == false) {
+					_dispatchThread.start();
+
+					_started = true;
+				}
+			}
+		}
+
+		if (_destroy) {
+			dispatchEvents(
+				new PortalCacheClusterEvent[] {portalCacheClusterEvent});
+
+			_sentEventCounter.incrementAndGet();
+
+			return;
+		}
+
+		_lock.lock();
+
+		try {
+			if (_pendingEventCount == 0) {
+				_firstEventTime = System.nanoTime();
+			}
+
+			String cacheName = portalCacheClusterEvent.getCacheName();
+
+			CacheBatch cacheBatch = _cacheBatches.get(cacheName);
+
+			if (cacheBatch == null) {
+				cacheBatch = new CacheBatch(cacheName);
+
+				_cacheBatches.put(cacheName, cacheBatch);
+			}
+
+			int eventCount = cacheBatch.add(portalCacheClusterEvent);
+
+			_pendingEventCount += eventCount;
+
+			if ((_pendingEventCount == eventCount) ||
+				(_pendingEventCount >= _batchSize)) {
+
+				_pendingCondition.signal();
+			}
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	protected void dispatch(
+		Map<String, CacheBatch> cacheBatches, int eventCount,
+		long firstEventTime) {
+
+		List<PortalCacheClusterEvent> portalCacheClusterEvents =
+			new ArrayList<PortalCacheClusterEvent>();
+
+		for (CacheBatch cacheBatch : cacheBatches.values()) {
+			cacheBatch.toPortalCacheClusterEvents(portalCacheClusterEvents);
+		}
+
+		dispatchEvents(
+			portalCacheClusterEvents.toArray(
+				new PortalCacheClusterEvent[portalCacheClusterEvents.size()]));
+
+		_sentEventCounter.addAndGet(portalCacheClusterEvents.size());
+
+		_batchSizeStatistics.add(eventCount);
+		_batchLatencyStatistics.add(
+			TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - firstEventTime));
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		BaseBatchingPortalCacheClusterChannel.class);
+
+	private static AtomicInteger _dispatchThreadCounter = new AtomicInteger(0);
+
+	private final long _batchInterval;
+	private final HistogramStatistics _batchLatencyStatistics =
+		new HistogramStatistics("batchLatency");
+	private final int _batchSize;
+	private final HistogramStatistics _batchSizeStatistics =
+		new HistogramStatistics("batchSize");
+	private Map<String, CacheBatch> _cacheBatches =
+		new LinkedHashMap<String, CacheBatch>();
+	private final AtomicLong _coalescedEventCounter = new AtomicLong(0);
+	private volatile boolean _destroy = false;
+	private final Thread _dispatchThread;
+	private long _firstEventTime;
+	private final ReentrantLock _lock = new ReentrantLock();
+	private final Condition _pendingCondition = _lock.newCondition();
+	private int _pendingEventCount;
+	private final AtomicLong _removeAllCounter = new AtomicLong(0);
+	private final int _removeAllThreshold;
+	private final AtomicLong _sentEventCounter = new AtomicLong(0);
+	private volatile boolean _started = false;
+
+	private class CacheBatch {
+
+		public CacheBatch(String cacheName) {
+			_cacheName = cacheName;
+		}
+
+		public int add(PortalCacheClusterEvent portalCacheClusterEvent) {
+			PortalCacheClusterEventType portalCacheClusterEventType =
+				portalCacheClusterEvent.getEventType();
+
+			if (portalCacheClusterEventType ==
+					PortalCacheClusterEventType.REMOVE_ALL) {
+
+				removeAll();
+
+				return 1;
+			}
+
+			if (!portalCacheClusterEvent.isBatch()) {
+				add(
+					portalCacheClusterEvent.getElementKey(),
+					portalCacheClusterEvent.getElementValue(),
+					portalCacheClusterEventType);
+
+				return 1;
+			}
+
+			List<Object> elementKeys = portalCacheClusterEvent.getElementKeys();
+			List<Object> elementValues =
+				portalCacheClusterEvent.getElementValues();
+
+			for (int i = 0; i < elementKeys.size(); i++) {
+				add(
+					elementKeys.get(i), elementValues.get(i),
+					portalCacheClusterEventType);
+			}
+
+			return elementKeys.size();
+		}
+
+		public void toPortalCacheClusterEvents(
+			List<PortalCacheClusterEvent> portalCacheClusterEvents) {
+
+			if (_removeAll) {
+				portalCacheClusterEvents.add(
+					new PortalCacheClusterEvent(
+						_cacheName, null,
+						PortalCacheClusterEventType.REMOVE_ALL));
+
+				return;
+			}
+
+			PortalCacheClusterEvent putPortalCacheClusterEvent = null;
+			PortalCacheClusterEvent removePortalCacheClusterEvent = null;
+
+			for (Map.Entry<Object, Element> entry : _elements.entrySet()) {
+				Element element = entry.getValue();
+
+				if (element._put) {
+					if (putPortalCacheClusterEvent == null) {
+						putPortalCacheClusterEvent =
+							new PortalCacheClusterEvent(
+								_cacheName, null,
+								PortalCacheClusterEventType.PUT);
+
+						portalCacheClusterEvents.add(
+							putPortalCacheClusterEvent);
+					}
+
+					putPortalCacheClusterEvent.addElement(
+						entry.getKey(), element._value);
+				}
+				else {
+					if (removePortalCacheClusterEvent == null) {
+						removePortalCacheClusterEvent =
+							new PortalCacheClusterEvent(
+								_cacheName, null,
+								PortalCacheClusterEventType.REMOVE);
+
+						portalCacheClusterEvents.add(
+							removePortalCacheClusterEvent);
+					}
+
+					removePortalCacheClusterEvent.addElement(
+						entry.getKey(), null);
+				}
+			}
+		}
+
+		protected void add(
+			Object elementKey, Object elementValue,
+			PortalCacheClusterEventType portalCacheClusterEventType) {
+
+			// Every later change is covered by the pending remove all
+
+			if (_removeAll) {
+				_coalescedEventCounter.incrementAndGet();
+
+				return;
+			}
+
+			boolean put = false;
+
+			if ((portalCacheClusterEventType ==
+					PortalCacheClusterEventType.PUT) ||
+				(portalCacheClusterEventType ==
+					PortalCacheClusterEventType.UPDATE)) {
+
+				put = true;
+			}
+
+			if (_elements.put(elementKey, new Element(put, elementValue)) !=
+					null) {
+
+				_coalescedEventCounter.incrementAndGet();
+			}
+
+			if (_elements.size() > _removeAllThreshold) {
+				removeAll();
+			}
+		}
+
+		protected void removeAll() {
+			if (!_removeAll) {
+				_removeAllCounter.incrementAndGet();
+			}
+
+			_coalescedEventCounter.addAndGet(_elements.size());
+
+			_elements.clear();
+
+			_removeAll = true;
+		}
+
+		private String _cacheName;
+		private Map<Object, Element> _elements =
+			new LinkedHashMap<Object, Element>();
+		private boolean _removeAll;
+
+	}
+
+	private static class Element {
+
+		public Element(boolean put, Object value) {
+			_put = put;
+			_value = value;
+		}
+
+		private boolean _put;
+		private Object _value;
+
+	}
+
+}
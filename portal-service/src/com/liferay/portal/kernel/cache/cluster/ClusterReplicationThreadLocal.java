@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache.cluster;
+
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+
+/**
+ * @author agent
+ */
+public class ClusterReplicationThreadLocal {
+
+	public static boolean isReplicate() {
+		return _replicate.get();
+	}
+
+	public static void setReplicate(boolean replicate) {
+		_replicate.set(replicate);
+	}
+
+	private static ThreadLocal<Boolean> _replicate =
+		new AutoResetThreadLocal<Boolean>(
+			ClusterReplicationThreadLocal.class + "._replicate", true);
+
+}
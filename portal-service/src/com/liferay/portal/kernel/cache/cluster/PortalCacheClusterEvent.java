@@ -20,6 +20,9 @@ import com.liferay.portal.kernel.util.Validator;
 
 import java.io.Serializable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Shuyang Zhou
  */
@@ -42,6 +45,16 @@ public class PortalCacheClusterEvent implements Serializable {
 		this(cacheName, elementKey, null, portalCacheClusterEventType);
 	}
 
+	public void addElement(Object elementKey, Object elementValue) {
+		if (_elementKeys == null) {
+			_elementKeys = new ArrayList<Object>();
+			_elementValues = new ArrayList<Object>();
+		}
+
+		_elementKeys.add(elementKey);
+		_elementValues.add(elementValue);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -60,6 +73,10 @@ public class PortalCacheClusterEvent implements Serializable {
 				_elementKey, portalCacheClusterEvent._elementKey) &&
 			Validator.equals(
 				_elementValue, portalCacheClusterEvent._elementValue) &&
+			Validator.equals(
+				_elementKeys, portalCacheClusterEvent._elementKeys) &&
+			Validator.equals(
+				_elementValues, portalCacheClusterEvent._elementValues) &&
 			Validator.equals(
 				_portalCacheClusterEventType,
 				portalCacheClusterEvent._portalCacheClusterEventType)) {
@@ -78,10 +95,18 @@ public class PortalCacheClusterEvent implements Serializable {
 		return _elementKey;
 	}
 
+	public List<Object> getElementKeys() {
+		return _elementKeys;
+	}
+
 	public Object getElementValue() {
 		return _elementValue;
 	}
 
+	public List<Object> getElementValues() {
+		return _elementValues;
+	}
+
 	public PortalCacheClusterEventType getEventType() {
 		return _portalCacheClusterEventType;
 	}
@@ -93,20 +118,39 @@ public class PortalCacheClusterEvent implements Serializable {
 		return string.hashCode();
 	}
 
+	public boolean isBatch() {
+		if (_elementKeys != null) {
+			return true;
+		}
+
+		return false;
+	}
+
 	public void setElementValue(Object elementValue) {
 		_elementValue = elementValue;
 	}
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(7);
+		StringBundler sb = new StringBundler(9);
 
 		sb.append(_cacheName);
 		sb.append(StringPool.COLON);
-		sb.append(_elementKey);
+
+		if (_elementKeys != null) {
+			sb.append(_elementKeys.toString());
+		}
+		else {
+			sb.append(_elementKey);
+		}
+
 		sb.append(StringPool.COLON);
 
-		if (_elementValue != null) {
+		if (_elementValues != null) {
+			sb.append(_elementValues.toString());
+			sb.append(StringPool.COLON);
+		}
+		else if (_elementValue != null) {
 			sb.append(_elementValue.toString());
 			sb.append(StringPool.COLON);
 		}
@@ -118,7 +162,9 @@ public class PortalCacheClusterEvent implements Serializable {
 
 	private String _cacheName;
 	private Object _elementKey;
+	private List<Object> _elementKeys;
 	private Object _elementValue;
+	private List<Object> _elementValues;
 	private PortalCacheClusterEventType _portalCacheClusterEventType;
 
 }
\ No newline at end of file
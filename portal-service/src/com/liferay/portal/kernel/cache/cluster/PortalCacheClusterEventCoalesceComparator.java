@@ -34,6 +34,12 @@ public class PortalCacheClusterEventCoalesceComparator
 			return 1;
 		}
 
+		if (portalCacheClusterEvent1.isBatch() ||
+			portalCacheClusterEvent2.isBatch()) {
+
+			return -1;
+		}
+
 		if (Validator.equals(
 				portalCacheClusterEvent1.getCacheName(),
 				portalCacheClusterEvent2.getCacheName()) &&
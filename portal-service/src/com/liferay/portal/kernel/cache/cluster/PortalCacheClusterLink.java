@@ -46,6 +46,10 @@ public class PortalCacheClusterLink {
 		}
 	}
 
+	public List<PortalCacheClusterChannel> getPortalCacheClusterChannels() {
+		return _portalCacheClusterChannels;
+	}
+
 	public long getSubmittedEventNumber() {
 		return _portalCacheClusterChannelSelector.getSelectedNumber();
 	}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache.index;
+
+import com.liferay.portal.kernel.cache.CacheListener;
+import com.liferay.portal.kernel.cache.CacheListenerScope;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.PortalCacheException;
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maintains a secondary index over the keys of a {@link PortalCache} so that
+ * all entries sharing an index value can be removed without flushing the
+ * whole cache.
+ *
+ * <p>
+ * Keys are indexed explicitly through {@link #addKey(Serializable)} and are
+ * pruned from the index when the underlying cache evicts, expires or removes
+ * them. Cache implementations that do not support listeners could never prune
+ * the index, so their keys are not indexed at all and {@link #isEnabled()}
+ * returns <code>false</code>. Callers must then remove all entries instead.
+ * </p>
+ *
+ * @author agent
+ */
+public class PortalCacheIndexer<I, K extends Serializable, V>
+	implements CacheListener<K, V> {
+
+	public PortalCacheIndexer(
+		IndexEncoder<I, K> indexEncoder, PortalCache<K, V> portalCache) {
+
+		_indexEncoder = indexEncoder;
+		_portalCache = portalCache;
+
+		boolean enabled = true;
+
+		try {
+			_portalCache.registerCacheListener(
+				this, CacheListenerScope.LOCAL);
+		}
+		catch (UnsupportedOperationException uoe) {
+			enabled = false;
+		}
+
+		_enabled = enabled;
+	}
+
+	public void addKey(K key) {
+		if (!_enabled) {
+			return;
+		}
+
+		I index = _indexEncoder.encode(key);
+
+		while (true) {
+			Set<K> keys = _indexedKeys.get(index);
+
+			if (keys == null) {
+				keys = new ConcurrentHashSet<K>();
+
+				Set<K> previousKeys = _indexedKeys.putIfAbsent(index, keys);
+
+				if (previousKeys != null) {
+					keys = previousKeys;
+				}
+			}
+
+			keys.add(key);
+
+			// The set may have been pruned concurrently once it became empty
+
+			if (_indexedKeys.get(index) == keys) {
+				return;
+			}
+		}
+	}
+
+	public Set<K> getKeys(I index) {
+		Set<K> keys = _indexedKeys.get(index);
+
+		if (keys == null) {
+			return Collections.emptySet();
+		}
+
+		return new HashSet<K>(keys);
+	}
+
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	public void notifyEntryEvicted(
+			PortalCache<K, V> portalCache, K key, V value)
+		throws PortalCacheException {
+
+		_removeIndexedKey(key);
+	}
+
+	public void notifyEntryExpired(
+			PortalCache<K, V> portalCache, K key, V value)
+		throws PortalCacheException {
+
+		_removeIndexedKey(key);
+	}
+
+	public void notifyEntryPut(PortalCache<K, V> portalCache, K key, V value)
+		throws PortalCacheException {
+	}
+
+	public void notifyEntryRemoved(
+			PortalCache<K, V> portalCache, K key, V value)
+		throws PortalCacheException {
+
+		_removeIndexedKey(key);
+	}
+
+	public void notifyEntryUpdated(
+			PortalCache<K, V> portalCache, K key, V value)
+		throws PortalCacheException {
+	}
+
+	public void notifyRemoveAll(PortalCache<K, V> portalCache)
+		throws PortalCacheException {
+
+		_indexedKeys.clear();
+	}
+
+	public int removeKeys(I index) {
+		Set<K> keys = _indexedKeys.remove(index);
+
+		if (keys == null) {
+			return 0;
+		}
+
+		int count = 0;
+
+		for (K key : keys) {
+			_portalCache.remove(key);
+
+			count++;
+		}
+
+		return count;
+	}
+
+	private void _removeIndexedKey(K key) {
+		I index = _indexEncoder.encode(key);
+
+		Set<K> keys = _indexedKeys.get(index);
+
+		if (keys == null) {
+			return;
+		}
+
+		keys.remove(key);
+
+		if (keys.isEmpty()) {
+			_indexedKeys.remove(index, keys);
+		}
+	}
+
+	private final boolean _enabled;
+	private final IndexEncoder<I, K> _indexEncoder;
+	private final ConcurrentMap<I, Set<K>> _indexedKeys =
+		new ConcurrentHashMap<I, Set<K>>();
+	private final PortalCache<K, V> _portalCache;
+
+}
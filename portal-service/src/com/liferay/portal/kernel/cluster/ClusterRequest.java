@@ -29,6 +29,9 @@ import java.util.Set;
  */
 public class ClusterRequest implements Serializable {
 
+	public ClusterRequest() {
+	}
+
 	public static ClusterRequest createClusterRequest(
 		ClusterMessageType clusterMessageType,
 		ClusterNode originatingClusterNode) {
@@ -220,9 +223,6 @@ public class ClusterRequest implements Serializable {
 		return sb.toString();
 	}
 
-	private ClusterRequest() {
-	}
-
 	private ClusterMessageType _clusterMessageType;
 	private boolean _fireAndForget;
 	private MethodHandler _methodHandler;
@@ -16,6 +16,7 @@ package com.liferay.portal.kernel.dao.orm;
 
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.service.BaseLocalService;
 
 /**
@@ -23,6 +24,8 @@ import com.liferay.portal.service.BaseLocalService;
  */
 public interface ActionableDynamicQuery {
 
+	public void addDocument(Document document);
+
 	public void performActions() throws PortalException, SystemException;
 
 	public void setBaseLocalService(BaseLocalService baseLocalService)
@@ -40,4 +43,6 @@ public interface ActionableDynamicQuery {
 
 	public void setPrimaryKeyPropertyName(String primaryKeyPropertyName);
 
+	public void setSearchEngineId(String searchEngineId);
+
 }
\ No newline at end of file
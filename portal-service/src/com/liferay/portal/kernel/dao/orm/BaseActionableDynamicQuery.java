@@ -14,15 +14,30 @@
 
 package com.liferay.portal.kernel.dao.orm;
 
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
+import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.ReindexCheckpoint;
+import com.liferay.portal.kernel.search.ReindexCheckpointThreadLocal;
+import com.liferay.portal.kernel.search.SearchEngineUtil;
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.service.BaseLocalService;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * @author Brian Wing Shun Chan
@@ -30,6 +45,12 @@ import java.util.List;
 public abstract class BaseActionableDynamicQuery
 	implements ActionableDynamicQuery {
 
+	public void addDocument(Document document) {
+		List<Document> documents = _documents.get();
+
+		documents.add(document);
+	}
+
 	public void performActions() throws PortalException, SystemException {
 		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
 			_clazz, _classLoader);
@@ -62,14 +83,26 @@ public abstract class BaseActionableDynamicQuery
 		long minPrimaryKey = (Long)minAndMaxPrimaryKeys[0];
 		long maxPrimaryKey = (Long)minAndMaxPrimaryKeys[1];
 
-		long startPrimaryKey = minPrimaryKey;
-		long endPrimaryKey = startPrimaryKey + _interval;
+		if ((_searchEngineId == null) || _reindexing.get()) {
+			long startPrimaryKey = minPrimaryKey;
+			long endPrimaryKey = startPrimaryKey + _interval;
 
-		while (startPrimaryKey <= maxPrimaryKey) {
-			performActions(startPrimaryKey, endPrimaryKey);
+			while (startPrimaryKey <= maxPrimaryKey) {
+				performActions(startPrimaryKey, endPrimaryKey);
 
-			startPrimaryKey = endPrimaryKey;
-			endPrimaryKey += _interval;
+				startPrimaryKey = endPrimaryKey;
+				endPrimaryKey += _interval;
+			}
+		}
+		else {
+			_reindexing.set(true);
+
+			try {
+				_reindex(minPrimaryKey, maxPrimaryKey);
+			}
+			finally {
+				_reindexing.set(false);
+			}
 		}
 	}
 
@@ -93,6 +126,17 @@ public abstract class BaseActionableDynamicQuery
 		for (Object object : objects) {
 			performAction(object);
 		}
+
+		List<Document> documents = _documents.get();
+
+		if (documents.isEmpty()) {
+			return;
+		}
+
+		_documents.remove();
+
+		SearchEngineUtil.updateDocuments(
+			_searchEngineId, _companyId, documents);
 	}
 
 	public void setBaseLocalService(BaseLocalService baseLocalService)
@@ -135,6 +179,10 @@ public abstract class BaseActionableDynamicQuery
 		_primaryKeyPropertyName = primaryKeyPropertyName;
 	}
 
+	public void setSearchEngineId(String searchEngineId) {
+		_searchEngineId = searchEngineId;
+	}
+
 	protected void addCriteria(DynamicQuery dynamicQuery) {
 	}
 
@@ -177,16 +225,184 @@ public abstract class BaseActionableDynamicQuery
 		}
 	}
 
+	protected String getCheckpointKey() {
+		Class<?> clazz = getClass();
+
+		String checkpointKey = clazz.getName();
+
+		if (_groupId > 0) {
+			checkpointKey = checkpointKey.concat(StringPool.POUND).concat(
+				String.valueOf(_groupId));
+		}
+
+		return checkpointKey;
+	}
+
 	protected abstract void performAction(Object object)
 		throws PortalException, SystemException;
 
+	private void _getFuture(Future<Void> future)
+		throws PortalException, SystemException {
+
+		try {
+			future.get();
+		}
+		catch (ExecutionException ee) {
+			Throwable throwable = ee.getCause();
+
+			if (throwable instanceof PortalException) {
+				throw (PortalException)throwable;
+			}
+			else if (throwable instanceof SystemException) {
+				throw (SystemException)throwable;
+			}
+
+			throw new SystemException(throwable);
+		}
+		catch (InterruptedException ie) {
+			throw new SystemException(ie);
+		}
+	}
+
+	private void _reindex(long minPrimaryKey, long maxPrimaryKey)
+		throws PortalException, SystemException {
+
+		ReindexCheckpoint reindexCheckpoint =
+			ReindexCheckpointThreadLocal.getReindexCheckpoint();
+
+		String checkpointKey = getCheckpointKey();
+
+		if (reindexCheckpoint != null) {
+			long checkpointPrimaryKey = reindexCheckpoint.getPrimaryKey(
+				checkpointKey);
+
+			if (checkpointPrimaryKey > minPrimaryKey) {
+				minPrimaryKey = checkpointPrimaryKey;
+			}
+		}
+
+		if (minPrimaryKey > maxPrimaryKey) {
+			return;
+		}
+
+		int threadCount = GetterUtil.getInteger(
+			PropsUtil.get(PropsKeys.INDEX_REINDEX_THREAD_COUNT), 1);
+
+		ThreadPoolExecutor threadPoolExecutor = null;
+
+		if (threadCount > 1) {
+			Thread currentThread = Thread.currentThread();
+
+			threadPoolExecutor = new ThreadPoolExecutor(
+				threadCount, threadCount);
+
+			threadPoolExecutor.setThreadFactory(
+				new NamedThreadFactory(
+					BaseActionableDynamicQuery.class.getName(),
+					Thread.NORM_PRIORITY,
+					currentThread.getContextClassLoader()));
+		}
+
+		int checkpointInterval = Math.max(
+			GetterUtil.getInteger(
+				PropsUtil.get(PropsKeys.INDEX_REINDEX_CHECKPOINT_INTERVAL)),
+			threadCount);
+
+		long startPrimaryKey = minPrimaryKey;
+
+		try {
+			while (startPrimaryKey <= maxPrimaryKey) {
+				List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+				long endCheckpointPrimaryKey =
+					startPrimaryKey + (checkpointInterval * _interval);
+
+				while ((startPrimaryKey <= maxPrimaryKey) &&
+					   (startPrimaryKey < endCheckpointPrimaryKey)) {
+
+					long endPrimaryKey = startPrimaryKey + _interval;
+
+					if (threadPoolExecutor == null) {
+						performActions(startPrimaryKey, endPrimaryKey);
+					}
+					else {
+						futures.add(
+							threadPoolExecutor.submit(
+								new PerformActionsCallable(
+									startPrimaryKey, endPrimaryKey)));
+					}
+
+					startPrimaryKey = endPrimaryKey;
+				}
+
+				for (Future<Void> future : futures) {
+					_getFuture(future);
+				}
+
+				if (reindexCheckpoint != null) {
+					reindexCheckpoint.setPrimaryKey(
+						checkpointKey, startPrimaryKey);
+
+					try {
+						reindexCheckpoint.save();
+					}
+					catch (Exception e) {
+						throw new SystemException(e);
+					}
+				}
+			}
+		}
+		finally {
+			if (threadPoolExecutor != null) {
+				threadPoolExecutor.shutdown();
+			}
+		}
+	}
+
+	private static ThreadLocal<Boolean> _reindexing =
+		new AutoResetThreadLocal<Boolean>(
+			BaseActionableDynamicQuery.class + "._reindexing", false);
+
 	private BaseLocalService _baseLocalService;
 	private ClassLoader _classLoader;
 	private Class<?> _clazz;
 	private long _companyId;
+	private ThreadLocal<List<Document>> _documents =
+		new ThreadLocal<List<Document>>() {
+
+			@Override
+			protected List<Document> initialValue() {
+				return new ArrayList<Document>();
+			}
+
+		};
 	private Method _dynamicQueryMethod;
 	private long _groupId;
 	private int _interval = Indexer.DEFAULT_INTERVAL;
 	private String _primaryKeyPropertyName;
+	private String _searchEngineId;
+
+	private class PerformActionsCallable extends CopyThreadLocalCallable<Void> {
+
+		public PerformActionsCallable(
+			long startPrimaryKey, long endPrimaryKey) {
+
+			super(false, true);
+
+			_startPrimaryKey = startPrimaryKey;
+			_endPrimaryKey = endPrimaryKey;
+		}
+
+		@Override
+		public Void doCall() throws Exception {
+			performActions(_startPrimaryKey, _endPrimaryKey);
+
+			return null;
+		}
+
+		private final long _endPrimaryKey;
+		private final long _startPrimaryKey;
+
+	}
 
 }
\ No newline at end of file
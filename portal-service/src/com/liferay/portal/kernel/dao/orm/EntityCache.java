@@ -16,6 +16,9 @@ package com.liferay.portal.kernel.dao.orm;
 
 import java.io.Serializable;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * @author Brian Wing Shun Chan
  */
@@ -30,6 +33,10 @@ public interface EntityCache {
 	public Serializable getResult(
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey);
 
+	public Map<Serializable, Serializable> getResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys);
+
 	public void invalidate();
 
 	public Serializable loadResult(
@@ -40,9 +47,17 @@ public interface EntityCache {
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey,
 		Serializable result);
 
+	public void putResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Map<Serializable, ? extends Serializable> results);
+
 	public void removeCache(String className);
 
 	public void removeResult(
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey);
 
+	public void removeResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys);
+
 }
\ No newline at end of file
@@ -18,6 +18,9 @@ import com.liferay.portal.kernel.security.pacl.permission.PortalRuntimePermissio
 
 import java.io.Serializable;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * @author Brian Wing Shun Chan
  */
@@ -48,6 +51,14 @@ public class EntityCacheUtil {
 			entityCacheEnabled, clazz, primaryKey);
 	}
 
+	public static Map<Serializable, Serializable> getResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys) {
+
+		return getEntityCache().getResults(
+			entityCacheEnabled, clazz, primaryKeys);
+	}
+
 	public static void invalidate() {
 		getEntityCache().invalidate();
 	}
@@ -68,6 +79,13 @@ public class EntityCacheUtil {
 			entityCacheEnabled, clazz, primaryKey, result);
 	}
 
+	public static void putResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Map<Serializable, ? extends Serializable> results) {
+
+		getEntityCache().putResults(entityCacheEnabled, clazz, results);
+	}
+
 	public static void removeCache(String className) {
 		getEntityCache().removeCache(className);
 	}
@@ -78,6 +96,13 @@ public class EntityCacheUtil {
 		getEntityCache().removeResult(entityCacheEnabled, clazz, primaryKey);
 	}
 
+	public static void removeResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys) {
+
+		getEntityCache().removeResults(entityCacheEnabled, clazz, primaryKeys);
+	}
+
 	public void setEntityCache(EntityCache entityCache) {
 		PortalRuntimePermission.checkSetBeanProperty(getClass());
 
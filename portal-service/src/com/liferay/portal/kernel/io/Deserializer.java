@@ -36,7 +36,7 @@ public class Deserializer {
 
 	public Deserializer(ByteBuffer byteBuffer) {
 		buffer = byteBuffer.array();
-		index = byteBuffer.arrayOffset();
+		index = byteBuffer.arrayOffset() + byteBuffer.position();
 		limit = index + byteBuffer.remaining();
 	}
 
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.io;
+
+import java.io.ObjectInput;
+
+/**
+ * Adapts a {@link Deserializer} to {@link java.io.ObjectInput}. This class is
+ * the counterpart of {@link SerializerObjectOutput}.
+ *
+ * @author agent
+ * @see    SerializerObjectOutput
+ */
+public class DeserializerObjectInput implements ObjectInput {
+
+	public DeserializerObjectInput(Deserializer deserializer) {
+		_deserializer = deserializer;
+	}
+
+	public int available() {
+		return 0;
+	}
+
+	public void close() {
+	}
+
+	public int read() {
+		return _deserializer.readByte() & 0xFF;
+	}
+
+	public int read(byte[] bytes) {
+		return read(bytes, 0, bytes.length);
+	}
+
+	public int read(byte[] bytes, int offset, int length) {
+		readFully(bytes, offset, length);
+
+		return length;
+	}
+
+	public boolean readBoolean() {
+		return _deserializer.readBoolean();
+	}
+
+	public byte readByte() {
+		return _deserializer.readByte();
+	}
+
+	public char readChar() {
+		return _deserializer.readChar();
+	}
+
+	public double readDouble() {
+		return _deserializer.readDouble();
+	}
+
+	public float readFloat() {
+		return _deserializer.readFloat();
+	}
+
+	public void readFully(byte[] bytes) {
+		readFully(bytes, 0, bytes.length);
+	}
+
+	public void readFully(byte[] bytes, int offset, int length) {
+		for (int i = offset; i < (offset + length); i++) {
+			bytes[i] = _deserializer.readByte();
+		}
+	}
+
+	public int readInt() {
+		return _deserializer.readInt();
+	}
+
+	public String readLine() {
+		throw new UnsupportedOperationException();
+	}
+
+	public long readLong() {
+		return _deserializer.readLong();
+	}
+
+	public Object readObject() throws ClassNotFoundException {
+		return _deserializer.readObject();
+	}
+
+	public short readShort() {
+		return _deserializer.readShort();
+	}
+
+	public int readUnsignedByte() {
+		return _deserializer.readByte() & 0xFF;
+	}
+
+	public int readUnsignedShort() {
+		return _deserializer.readShort() & 0xFFFF;
+	}
+
+	public String readUTF() {
+		return _deserializer.readString();
+	}
+
+	public long skip(long n) {
+		for (long i = 0; i < n; i++) {
+			_deserializer.readByte();
+		}
+
+		return n;
+	}
+
+	public int skipBytes(int n) {
+		return (int)skip(n);
+	}
+
+	private Deserializer _deserializer;
+
+}
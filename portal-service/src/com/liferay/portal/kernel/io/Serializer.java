@@ -267,7 +267,7 @@ public class Serializer {
 			}
 		}
 
-		BigEndianCodec.putBoolean(buffer, index++, asciiCode);
+		BigEndianCodec.putBoolean(getBuffer(1), index++, asciiCode);
 
 		if (asciiCode) {
 			byte[] buffer = getBuffer(length + 4);
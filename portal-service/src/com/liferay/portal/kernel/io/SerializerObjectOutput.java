@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.io;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+
+/**
+ * Adapts a {@link Serializer} to {@link java.io.ObjectOutput} so {@link
+ * java.io.Externalizable} objects can write themselves in the compact format
+ * of the serializer.
+ *
+ * @author agent
+ * @see    DeserializerObjectInput
+ */
+public class SerializerObjectOutput implements ObjectOutput {
+
+	public SerializerObjectOutput(Serializer serializer) {
+		_serializer = serializer;
+	}
+
+	public void close() {
+	}
+
+	public void flush() {
+	}
+
+	public void write(byte[] bytes) {
+		write(bytes, 0, bytes.length);
+	}
+
+	public void write(byte[] bytes, int offset, int length) {
+		for (int i = offset; i < (offset + length); i++) {
+			_serializer.writeByte(bytes[i]);
+		}
+	}
+
+	public void write(int b) {
+		_serializer.writeByte((byte)b);
+	}
+
+	public void writeBoolean(boolean b) {
+		_serializer.writeBoolean(b);
+	}
+
+	public void writeByte(int b) {
+		_serializer.writeByte((byte)b);
+	}
+
+	public void writeBytes(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			_serializer.writeByte((byte)s.charAt(i));
+		}
+	}
+
+	public void writeChar(int c) {
+		_serializer.writeChar((char)c);
+	}
+
+	public void writeChars(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			_serializer.writeChar(s.charAt(i));
+		}
+	}
+
+	public void writeDouble(double d) {
+		_serializer.writeDouble(d);
+	}
+
+	public void writeFloat(float f) {
+		_serializer.writeFloat(f);
+	}
+
+	public void writeInt(int i) {
+		_serializer.writeInt(i);
+	}
+
+	public void writeLong(long l) {
+		_serializer.writeLong(l);
+	}
+
+	public void writeObject(Object object) throws IOException {
+		if ((object != null) && !(object instanceof Serializable)) {
+			throw new IOException(
+				object.getClass().getName() + " is not serializable");
+		}
+
+		_serializer.writeObject((Serializable)object);
+	}
+
+	public void writeShort(int s) {
+		_serializer.writeShort((short)s);
+	}
+
+	public void writeUTF(String s) {
+		_serializer.writeString(s);
+	}
+
+	private Serializer _serializer;
+
+}
@@ -14,6 +14,9 @@
 
 package com.liferay.portal.kernel.messaging;
 
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+
 /**
  * @author Michael C. Han
  * @author Brian Wing Shun Chan
@@ -22,7 +25,14 @@ public abstract class BaseMessageListener implements MessageListener {
 
 	public void receive(Message message) throws MessageListenerException {
 		try {
-			doReceive(message);
+			Object payload = message.getPayload();
+
+			if (payload instanceof MessageBatch) {
+				doReceive((MessageBatch)payload);
+			}
+			else {
+				doReceive(message);
+			}
 		}
 		catch (MessageListenerException mle) {
 			throw mle;
@@ -34,4 +44,24 @@ public abstract class BaseMessageListener implements MessageListener {
 
 	protected abstract void doReceive(Message message) throws Exception;
 
+	/**
+	 * Receives the messages of a batch delivered by a {@link
+	 * JournaledDestination}. Listeners that can process several messages at
+	 * once should override this method. By default, each message is received
+	 * in turn and a failing message does not prevent the others from being
+	 * received.
+	 */
+	protected void doReceive(MessageBatch messageBatch) throws Exception {
+		for (Message message : messageBatch.getMessages()) {
+			try {
+				doReceive(message);
+			}
+			catch (Exception e) {
+				_log.error("Unable to process message " + message, e);
+			}
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(BaseMessageListener.class);
+
 }
\ No newline at end of file
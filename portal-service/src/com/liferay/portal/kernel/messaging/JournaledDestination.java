@@ -0,0 +1,473 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import com.liferay.portal.kernel.cache.Lifecycle;
+import com.liferay.portal.kernel.cache.ThreadLocalCacheManager;
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.io.Deserializer;
+import com.liferay.portal.kernel.io.Serializer;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Destination that appends every message to a local, memory-mapped
+ * {@link MessageJournal} before queuing it, and delivers the queued messages
+ * to its listeners as {@link MessageBatch} payloads of up to
+ * <code>batchSize</code> messages, waiting at most
+ * <code>batchInterval</code> milliseconds to fill a batch. Messages are
+ * acknowledged in the journal once every listener has received them, and the
+ * remaining ones are replayed when the destination is opened again, so queued
+ * messages survive a restart.
+ * </p>
+ *
+ * <p>
+ * Messages are journaled with {@link Serializer}, so their payload and values
+ * must be serializable. The principal password and the permission checker are
+ * never journaled, and replayed messages get a permission checker recreated
+ * from the principal name on delivery. Messages that cannot be serialized are
+ * still delivered but are not restart safe.
+ * </p>
+ *
+ * @author agent
+ */
+public class JournaledDestination extends BaseAsyncDestination {
+
+	public JournaledDestination() {
+		setWorkersCoreSize(_WORKERS_CORE_SIZE);
+		setWorkersMaxSize(_WORKERS_MAX_SIZE);
+	}
+
+	@Override
+	public void close(boolean force) {
+		_batchDispatcher = null;
+
+		super.close(force);
+
+		if (_messageJournal != null) {
+			try {
+				_messageJournal.close();
+			}
+			catch (IOException ioe) {
+				_log.error("Unable to close journal of " + getName(), ioe);
+			}
+
+			_messageJournal = null;
+		}
+
+		_journaledMessages.clear();
+	}
+
+	public int getBatchInterval() {
+		return _batchInterval;
+	}
+
+	public int getBatchSize() {
+		return _batchSize;
+	}
+
+	@Override
+	public DestinationStatistics getDestinationStatistics() {
+		DestinationStatistics destinationStatistics =
+			super.getDestinationStatistics();
+
+		destinationStatistics.setPendingMessageCount(
+			_journaledMessages.size());
+		destinationStatistics.setSentMessageCount(_sentMessageCount.get());
+
+		return destinationStatistics;
+	}
+
+	public String getJournalDir() {
+		return _journalDir;
+	}
+
+	@Override
+	public void open() {
+		super.open();
+
+		if (_batchDispatcher != null) {
+			return;
+		}
+
+		if (Validator.isNull(_journalDir)) {
+			_journalDir =
+				PropsUtil.get(PropsKeys.LIFERAY_HOME) + "/data/messaging";
+		}
+
+		String fileName = getName().replaceAll("[^A-Za-z0-9_.-]", "_");
+
+		File file = new File(_journalDir, fileName.concat(".journal"));
+
+		try {
+			_messageJournal = new MessageJournal(file, _journalCapacity);
+
+			_replay(_messageJournal.getEntries());
+		}
+		catch (IOException ioe) {
+			_log.error(
+				"Unable to open journal " + file + ", messages sent to " +
+					getName() + " will not survive a restart",
+				ioe);
+		}
+
+		_batchDispatcher = new BatchDispatcher();
+
+		ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+
+		threadPoolExecutor.execute(_batchDispatcher);
+	}
+
+	public void setBatchInterval(int batchInterval) {
+		_batchInterval = batchInterval;
+	}
+
+	public void setBatchSize(int batchSize) {
+		_batchSize = batchSize;
+	}
+
+	public void setJournalCapacity(int journalCapacity) {
+		_journalCapacity = journalCapacity;
+	}
+
+	public void setJournalDir(String journalDir) {
+		_journalDir = journalDir;
+	}
+
+	@Override
+	protected void dispatch(
+		Set<MessageListener> messageListeners, Message message) {
+
+		ByteBuffer byteBuffer = null;
+
+		try {
+			Serializer serializer = new Serializer();
+
+			serializer.writeObject(_getJournaledMessage(message));
+
+			byteBuffer = serializer.toByteBuffer();
+		}
+		catch (RuntimeException re) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to journal message " + message + " sent to " +
+						getName() + ", it will not survive a restart",
+					re);
+			}
+		}
+
+		// Appending and queuing must happen atomically so that the queue order
+		// matches the journal order that acknowledgements rely on
+
+		synchronized (this) {
+			boolean journaled = false;
+
+			if ((byteBuffer != null) && (_messageJournal != null)) {
+				try {
+					journaled = _messageJournal.append(byteBuffer);
+				}
+				catch (IOException ioe) {
+					_log.error("Unable to append to journal", ioe);
+				}
+			}
+
+			_journaledMessages.offer(new JournaledMessage(message, journaled));
+		}
+	}
+
+	@Override
+	protected void populateMessageFromThreadLocals(Message message) {
+		boolean hasPermissionChecker = message.contains("permissionChecker");
+
+		super.populateMessageFromThreadLocals(message);
+
+		// The permission checker of the sending thread is rebuilt from the
+		// principal name on delivery, like it is for replayed messages
+
+		if (!hasPermissionChecker) {
+			message.remove("permissionChecker");
+		}
+	}
+
+	private void _deliver(List<JournaledMessage> journaledMessages) {
+		int start = 0;
+
+		while (start < journaledMessages.size()) {
+			JournaledMessage firstJournaledMessage = journaledMessages.get(
+				start);
+
+			Message firstMessage = firstJournaledMessage._message;
+
+			// Replayed messages that could not be read back are only
+			// acknowledged
+
+			if (firstMessage == null) {
+				start++;
+
+				continue;
+			}
+
+			MessageBatch messageBatch = new MessageBatch(
+				getName(), journaledMessages.size() - start);
+
+			int end = start;
+
+			// Split the batch wherever the company, the principal or the
+			// permission checker changes since they are populated once per
+			// batch
+
+			while (end < journaledMessages.size()) {
+				JournaledMessage journaledMessage = journaledMessages.get(end);
+
+				Message message = journaledMessage._message;
+
+				if ((message == null) ||
+					(firstMessage.getLong("companyId") !=
+						message.getLong("companyId")) ||
+					!Validator.equals(
+						firstMessage.getString("principalName"),
+						message.getString("principalName")) ||
+					!Validator.equals(
+						firstMessage.getString("principalPassword"),
+						message.getString("principalPassword")) ||
+					(firstMessage.get("permissionChecker") !=
+						message.get("permissionChecker"))) {
+
+					break;
+				}
+
+				messageBatch.addMessage(message);
+
+				end++;
+			}
+
+			Message batchMessage = new Message();
+
+			batchMessage.setDestinationName(getName());
+			batchMessage.setPayload(messageBatch);
+
+			try {
+				populateThreadLocalsFromMessage(firstMessage);
+
+				for (MessageListener messageListener : messageListeners) {
+					try {
+						messageListener.receive(batchMessage);
+					}
+					catch (MessageListenerException mle) {
+						_log.error(
+							"Unable to process message batch of " + getName(),
+							mle);
+					}
+				}
+			}
+			finally {
+				ThreadLocalCacheManager.clearAll(Lifecycle.REQUEST);
+
+				CentralizedThreadLocal.clearShortLivedThreadLocals();
+			}
+
+			start = end;
+		}
+
+		int journaledCount = 0;
+
+		for (JournaledMessage journaledMessage : journaledMessages) {
+			if (journaledMessage._journaled) {
+				journaledCount++;
+			}
+		}
+
+		synchronized (this) {
+			if (_messageJournal != null) {
+				_messageJournal.acknowledge(journaledCount);
+			}
+		}
+
+		_sentMessageCount.addAndGet(journaledMessages.size());
+	}
+
+	private Message _getJournaledMessage(Message message) {
+		if (!message.contains("permissionChecker") &&
+			!message.contains("principalPassword")) {
+
+			return message;
+		}
+
+		// The journal is a plain file, so it must never hold the principal
+		// password, and a permission checker cannot be journaled
+
+		message = message.clone();
+
+		message.remove("permissionChecker");
+		message.remove("principalPassword");
+
+		return message;
+	}
+
+	private void _replay(List<ByteBuffer> entries) {
+		int count = 0;
+
+		for (ByteBuffer entry : entries) {
+			Message message = null;
+
+			try {
+				Deserializer deserializer = new Deserializer(entry);
+
+				message = deserializer.readObject();
+			}
+			catch (Exception e) {
+				_log.error(
+					"Unable to replay a journaled message of " + getName(), e);
+			}
+
+			// Messages that cannot be read back are still queued so that
+			// acknowledgements stay aligned with the journal
+
+			_journaledMessages.offer(new JournaledMessage(message, true));
+
+			count++;
+		}
+
+		if ((count > 0) && _log.isInfoEnabled()) {
+			_log.info("Replaying " + count + " messages sent to " + getName());
+		}
+	}
+
+	private static final int _BATCH_INTERVAL = 100;
+
+	private static final int _BATCH_SIZE = 100;
+
+	private static final int _JOURNAL_CAPACITY = 1024 * 1024;
+
+	private static final int _WORKERS_CORE_SIZE = 1;
+
+	private static final int _WORKERS_MAX_SIZE = 1;
+
+	private static Log _log = LogFactoryUtil.getLog(JournaledDestination.class);
+
+	private volatile BatchDispatcher _batchDispatcher;
+	private int _batchInterval = _BATCH_INTERVAL;
+	private int _batchSize = _BATCH_SIZE;
+	private int _journalCapacity = _JOURNAL_CAPACITY;
+	private BlockingQueue<JournaledMessage> _journaledMessages =
+		new LinkedBlockingQueue<JournaledMessage>();
+	private String _journalDir;
+	private MessageJournal _messageJournal;
+	private AtomicLong _sentMessageCount = new AtomicLong();
+
+	private static class JournaledMessage {
+
+		public JournaledMessage(Message message, boolean journaled) {
+			_message = message;
+			_journaled = journaled;
+		}
+
+		private final boolean _journaled;
+		private final Message _message;
+
+	}
+
+	private class BatchDispatcher implements Runnable {
+
+		public void run() {
+			while (_batchDispatcher == this) {
+				try {
+
+					// Replayed messages wait until the listeners are
+					// registered
+
+					if (messageListeners.isEmpty()) {
+						Thread.sleep(_batchInterval);
+
+						continue;
+					}
+
+					List<JournaledMessage> journaledMessages =
+						_takeJournaledMessages();
+
+					if (!journaledMessages.isEmpty()) {
+						_deliver(journaledMessages);
+					}
+				}
+				catch (InterruptedException ie) {
+					return;
+				}
+				catch (Throwable t) {
+					_log.error("Unable to deliver messages of " + getName(), t);
+				}
+			}
+		}
+
+		private List<JournaledMessage> _takeJournaledMessages()
+			throws InterruptedException {
+
+			List<JournaledMessage> journaledMessages =
+				new ArrayList<JournaledMessage>();
+
+			JournaledMessage journaledMessage = _journaledMessages.poll(
+				1, TimeUnit.SECONDS);
+
+			if (journaledMessage == null) {
+				return journaledMessages;
+			}
+
+			long deadline = System.currentTimeMillis() + _batchInterval;
+
+			while (true) {
+				journaledMessages.add(journaledMessage);
+
+				if (journaledMessages.size() >= _batchSize) {
+					break;
+				}
+
+				long timeout = deadline - System.currentTimeMillis();
+
+				if (timeout <= 0) {
+					journaledMessage = _journaledMessages.poll();
+				}
+				else {
+					journaledMessage = _journaledMessages.poll(
+						timeout, TimeUnit.MILLISECONDS);
+				}
+
+				if (journaledMessage == null) {
+					break;
+				}
+			}
+
+			return journaledMessages;
+		}
+
+	}
+
+}
@@ -0,0 +1,295 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Append-only, memory-mapped journal of serialized messages. Records are
+ * appended at the tail and acknowledged from the head, so the entries between
+ * the two survive a restart of the JVM and can be replayed. The space of
+ * acknowledged entries is reclaimed once the journal is drained, or when an
+ * appended entry does not fit, by copying the remaining entries to a new file
+ * that then replaces the journal. The file grows when the remaining entries and
+ * the appended one still do not fit.
+ * </p>
+ *
+ * <p>
+ * The file starts with the offsets of the head and the tail, followed by
+ * records made of a length and the serialized bytes. The tail offset is only
+ * advanced after a record is completely written, so a partially written record
+ * is never replayed.
+ * </p>
+ *
+ * @author agent
+ */
+public class MessageJournal {
+
+	public MessageJournal(File file, int initialCapacity) throws IOException {
+		File parentFile = file.getParentFile();
+
+		if ((parentFile != null) && !parentFile.exists()) {
+			parentFile.mkdirs();
+		}
+
+		_file = file;
+
+		_open(Math.max(initialCapacity, _HEADER_SIZE));
+
+		long capacity = _mappedByteBuffer.capacity();
+
+		long headOffset = _mappedByteBuffer.getLong(0);
+		long tailOffset = _mappedByteBuffer.getLong(8);
+
+		if ((headOffset < _HEADER_SIZE) || (tailOffset < headOffset) ||
+			(tailOffset > capacity)) {
+
+			headOffset = _HEADER_SIZE;
+			tailOffset = _HEADER_SIZE;
+		}
+
+		_headOffset = (int)headOffset;
+		_tailOffset = (int)tailOffset;
+
+		_writeHeader();
+	}
+
+	public synchronized void acknowledge(int count) {
+		if (_mappedByteBuffer == null) {
+			return;
+		}
+
+		for (int i = 0; (i < count) && (_headOffset < _tailOffset); i++) {
+			int length = _mappedByteBuffer.getInt(_headOffset);
+
+			_headOffset += 4 + length;
+		}
+
+		if (_headOffset >= _tailOffset) {
+			_headOffset = _HEADER_SIZE;
+			_tailOffset = _HEADER_SIZE;
+		}
+
+		_writeHeader();
+	}
+
+	public synchronized boolean append(ByteBuffer byteBuffer)
+		throws IOException {
+
+		if (_mappedByteBuffer == null) {
+			return false;
+		}
+
+		int length = byteBuffer.remaining();
+
+		_ensureCapacity(4 + length);
+
+		_mappedByteBuffer.putInt(_tailOffset, length);
+
+		ByteBuffer tailByteBuffer = _mappedByteBuffer.duplicate();
+
+		tailByteBuffer.position(_tailOffset + 4);
+
+		tailByteBuffer.put(byteBuffer);
+
+		_tailOffset += 4 + length;
+
+		_writeHeader();
+
+		return true;
+	}
+
+	public synchronized void close() throws IOException {
+		if (_mappedByteBuffer == null) {
+			return;
+		}
+
+		_mappedByteBuffer.force();
+
+		_close();
+	}
+
+	/**
+	 * Returns the entries that have been appended but not acknowledged yet, in
+	 * the order they were appended. This is meant to be called once, right
+	 * after opening the journal, to replay what a previous run left behind.
+	 */
+	public synchronized List<ByteBuffer> getEntries() {
+		List<ByteBuffer> entries = new ArrayList<ByteBuffer>();
+
+		if (_mappedByteBuffer == null) {
+			return entries;
+		}
+
+		int offset = _headOffset;
+
+		while (offset < _tailOffset) {
+			int length = _mappedByteBuffer.getInt(offset);
+
+			if ((length < 0) || ((offset + 4 + length) > _tailOffset)) {
+				break;
+			}
+
+			byte[] bytes = new byte[length];
+
+			ByteBuffer entryByteBuffer = _mappedByteBuffer.duplicate();
+
+			entryByteBuffer.position(offset + 4);
+
+			entryByteBuffer.get(bytes);
+
+			entries.add(ByteBuffer.wrap(bytes));
+
+			offset += 4 + length;
+		}
+
+		return entries;
+	}
+
+	private void _close() throws IOException {
+		_mappedByteBuffer = null;
+
+		_fileChannel.close();
+		_randomAccessFile.close();
+	}
+
+	private void _compact(int capacity) throws IOException {
+		File tempFile = new File(_file.getPath().concat(".tmp"));
+
+		int liveLength = _tailOffset - _headOffset;
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(
+			tempFile, "rw");
+
+		try {
+			randomAccessFile.setLength(0);
+
+			FileChannel fileChannel = randomAccessFile.getChannel();
+
+			MappedByteBuffer mappedByteBuffer = fileChannel.map(
+				FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+			ByteBuffer liveByteBuffer = _mappedByteBuffer.duplicate();
+
+			liveByteBuffer.position(_headOffset);
+			liveByteBuffer.limit(_tailOffset);
+
+			mappedByteBuffer.position(_HEADER_SIZE);
+
+			mappedByteBuffer.put(liveByteBuffer);
+
+			mappedByteBuffer.putLong(0, _HEADER_SIZE);
+			mappedByteBuffer.putLong(8, _HEADER_SIZE + liveLength);
+
+			mappedByteBuffer.force();
+		}
+		finally {
+			randomAccessFile.close();
+		}
+
+		_mappedByteBuffer.force();
+
+		_close();
+
+		boolean renamed = tempFile.renameTo(_file);
+
+		// Reopen the old journal if it could not be replaced
+
+		_open(capacity);
+
+		if (!renamed) {
+			throw new IOException("Unable to replace " + _file);
+		}
+
+		_headOffset = _HEADER_SIZE;
+		_tailOffset = _HEADER_SIZE + liveLength;
+	}
+
+	private void _ensureCapacity(int length) throws IOException {
+		int capacity = _mappedByteBuffer.capacity();
+
+		if ((_tailOffset + length) <= capacity) {
+			return;
+		}
+
+		long requiredCapacity =
+			(long)_HEADER_SIZE + (_tailOffset - _headOffset) + length;
+
+		if (requiredCapacity > Integer.MAX_VALUE) {
+			throw new IOException("Message journal is full");
+		}
+
+		int newCapacity = capacity;
+
+		if (requiredCapacity > capacity) {
+			newCapacity = (int)Math.min(
+				Math.max(requiredCapacity, 2L * capacity), Integer.MAX_VALUE);
+		}
+
+		if (_headOffset == _HEADER_SIZE) {
+			_map(newCapacity);
+
+			return;
+		}
+
+		// Reclaim the space of acknowledged entries in a new file so that a
+		// crash while compacting leaves the old journal intact
+
+		_compact(newCapacity);
+	}
+
+	private void _map(long capacity) throws IOException {
+		_mappedByteBuffer = _fileChannel.map(
+			FileChannel.MapMode.READ_WRITE, 0, capacity);
+	}
+
+	private void _open(long capacity) throws IOException {
+		_randomAccessFile = new RandomAccessFile(_file, "rw");
+
+		_fileChannel = _randomAccessFile.getChannel();
+
+		_map(Math.max(_fileChannel.size(), capacity));
+	}
+
+	private void _writeHeader() {
+
+		// The tail is written first so that a crash while draining leaves a
+		// head beyond the tail, which is discarded on open, rather than
+		// replaying acknowledged entries
+
+		_mappedByteBuffer.putLong(8, _tailOffset);
+		_mappedByteBuffer.putLong(0, _headOffset);
+	}
+
+	private static final int _HEADER_SIZE = 16;
+
+	private final File _file;
+	private FileChannel _fileChannel;
+	private int _headOffset;
+	private MappedByteBuffer _mappedByteBuffer;
+	private RandomAccessFile _randomAccessFile;
+	private int _tailOffset;
+
+}
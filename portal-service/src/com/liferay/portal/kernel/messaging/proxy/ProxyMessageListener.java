@@ -17,6 +17,7 @@ package com.liferay.portal.kernel.messaging.proxy;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBatch;
 import com.liferay.portal.kernel.messaging.MessageBus;
 import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.messaging.MessageListener;
@@ -31,6 +32,18 @@ import com.liferay.portal.kernel.util.Validator;
 public class ProxyMessageListener implements MessageListener {
 
 	public void receive(Message message) {
+		Object messagePayload = message.getPayload();
+
+		if (messagePayload instanceof MessageBatch) {
+			MessageBatch messageBatch = (MessageBatch)messagePayload;
+
+			for (Message batchedMessage : messageBatch.getMessages()) {
+				receive(batchedMessage);
+			}
+
+			return;
+		}
+
 		ProxyResponse proxyResponse = new ProxyResponse();
 
 		try {
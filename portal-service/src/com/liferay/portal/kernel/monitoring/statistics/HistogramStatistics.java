@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.monitoring.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts samples in power of two buckets. Bucket <code>i</code> holds the
+ * samples greater than <code>2^(i-1)</code> and less than or equal to
+ * <code>2^i</code>, the first bucket also holds zero and negative samples, and
+ * the last bucket holds everything larger. Adding a sample is lock free, so a
+ * histogram can be shared by several threads.
+ *
+ * @author agent
+ */
+public class HistogramStatistics implements Statistics {
+
+	public static final int BUCKET_COUNT = 32;
+
+	public HistogramStatistics(String name) {
+		_name = name;
+	}
+
+	public static long[] getBucketUpperBounds() {
+		long[] bucketUpperBounds = new long[BUCKET_COUNT];
+
+		for (int i = 0; i < (BUCKET_COUNT - 1); i++) {
+			bucketUpperBounds[i] = 1L << i;
+		}
+
+		bucketUpperBounds[BUCKET_COUNT - 1] = Long.MAX_VALUE;
+
+		return bucketUpperBounds;
+	}
+
+	public void add(long value) {
+		int index = 0;
+
+		if (value > 1) {
+			index = Math.min(
+				64 - Long.numberOfLeadingZeros(value - 1), BUCKET_COUNT - 1);
+		}
+
+		_bucketCounts.incrementAndGet(index);
+
+		_count.incrementAndGet();
+		_total.addAndGet(value);
+
+		long maxValue = _maxValue.get();
+
+		while ((value > maxValue) &&
+			   !_maxValue.compareAndSet(maxValue, value)) {
+
+			maxValue = _maxValue.get();
+		}
+	}
+
+	public double getAverage() {
+		long count = _count.get();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		return (double)_total.get() / count;
+	}
+
+	public long[] getBucketCounts() {
+		long[] bucketCounts = new long[BUCKET_COUNT];
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			bucketCounts[i] = _bucketCounts.get(i);
+		}
+
+		return bucketCounts;
+	}
+
+	public long getCount() {
+		return _count.get();
+	}
+
+	public String getDescription() {
+		return _description;
+	}
+
+	public long getMaxValue() {
+		return _maxValue.get();
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns the upper bound of the bucket holding the given percentile, or
+	 * the largest sample if that is lower.
+	 */
+	public long getPercentile(double percentile) {
+		long count = _count.get();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long threshold = (long)Math.ceil(count * percentile / 100);
+
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulativeCount += _bucketCounts.get(i);
+
+			if (cumulativeCount >= threshold) {
+				if (i == (BUCKET_COUNT - 1)) {
+					return _maxValue.get();
+				}
+
+				return Math.min(1L << i, _maxValue.get());
+			}
+		}
+
+		return _maxValue.get();
+	}
+
+	public long getTotal() {
+		return _total.get();
+	}
+
+	public void merge(HistogramStatistics histogramStatistics) {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			_bucketCounts.addAndGet(
+				i, histogramStatistics._bucketCounts.get(i));
+		}
+
+		_count.addAndGet(histogramStatistics._count.get());
+		_total.addAndGet(histogramStatistics._total.get());
+
+		long maxValue = histogramStatistics._maxValue.get();
+
+		if (maxValue > _maxValue.get()) {
+			_maxValue.set(maxValue);
+		}
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			_bucketCounts.set(i, 0);
+		}
+
+		_count.set(0);
+		_maxValue.set(0);
+		_total.set(0);
+	}
+
+	public void setDescription(String description) {
+		_description = description;
+	}
+
+	private final AtomicLongArray _bucketCounts = new AtomicLongArray(
+		BUCKET_COUNT);
+	private final AtomicLong _count = new AtomicLong();
+	private String _description;
+	private final AtomicLong _maxValue = new AtomicLong();
+	private String _name;
+	private final AtomicLong _total = new AtomicLong();
+
+}
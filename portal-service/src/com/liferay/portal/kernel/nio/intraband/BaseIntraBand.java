@@ -0,0 +1,437 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.nio.intraband;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.nio.intraband.CompletionHandler.CompletionType;
+
+import java.io.IOException;
+
+import java.nio.channels.Channel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author agent
+ */
+public abstract class BaseIntraBand implements IntraBand {
+
+	public BaseIntraBand(long defaultTimeout) {
+		if (defaultTimeout <= 0) {
+			throw new IllegalArgumentException(
+				"Default timeout must be positive");
+		}
+
+		this.defaultTimeout = defaultTimeout;
+	}
+
+	public DatagramReceiveHandler[] getDatagramReceiveHandlers() {
+		DatagramReceiveHandler[] datagramReceiveHandlers =
+			datagramReceiveHandlersReference.get();
+
+		return datagramReceiveHandlers.clone();
+	}
+
+	public boolean isOpen() {
+		return open;
+	}
+
+	public RegistrationReference registerChannel(Channel channel)
+		throws IOException {
+
+		if (channel == null) {
+			throw new NullPointerException("Channel is null");
+		}
+
+		if (!(channel instanceof ScatteringByteChannel) ||
+			!(channel instanceof GatheringByteChannel)) {
+
+			throw new IllegalArgumentException(
+				"Channel is not both scattering and gathering");
+		}
+
+		return registerChannel(
+			(ScatteringByteChannel)channel, (GatheringByteChannel)channel);
+	}
+
+	public DatagramReceiveHandler registerDatagramReceiveHandler(
+		byte type, DatagramReceiveHandler datagramReceiveHandler) {
+
+		if (datagramReceiveHandler == null) {
+			throw new NullPointerException("Datagram receive handler is null");
+		}
+
+		return swapDatagramReceiveHandler(type, datagramReceiveHandler);
+	}
+
+	public void sendDatagram(
+		RegistrationReference registrationReference, Datagram datagram) {
+
+		sendDatagram(
+			registrationReference, datagram, null,
+			EnumSet.noneOf(CompletionType.class), null);
+	}
+
+	public <A> void sendDatagram(
+		RegistrationReference registrationReference, Datagram datagram,
+		A attachment, EnumSet<CompletionType> completionTypes,
+		CompletionHandler<A> completionHandler) {
+
+		sendDatagram(
+			registrationReference, datagram, attachment, completionTypes,
+			completionHandler, defaultTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	public <A> void sendDatagram(
+		RegistrationReference registrationReference, Datagram datagram,
+		A attachment, EnumSet<CompletionType> completionTypes,
+		CompletionHandler<A> completionHandler, long timeout,
+		TimeUnit timeUnit) {
+
+		if (registrationReference == null) {
+			throw new NullPointerException("Registration reference is null");
+		}
+
+		if (registrationReference.getIntraBand() != this) {
+			throw new IllegalArgumentException(
+				"Registration reference belongs to another IntraBand");
+		}
+
+		if (datagram == null) {
+			throw new NullPointerException("Datagram is null");
+		}
+
+		if (completionTypes == null) {
+			throw new NullPointerException("Completion types is null");
+		}
+
+		if (!completionTypes.isEmpty() && (completionHandler == null)) {
+			throw new NullPointerException("Completion handler is null");
+		}
+
+		if (timeout <= 0) {
+			timeout = defaultTimeout;
+		}
+		else {
+			timeout = timeUnit.toMillis(timeout);
+		}
+
+		// The attachment is handed back to the completion handler it was
+		// sent with, so the handler always receives its own attachment type
+
+		@SuppressWarnings("unchecked")
+		CompletionHandler<Object> objectCompletionHandler =
+			(CompletionHandler<Object>)completionHandler;
+
+		datagram.attachment = attachment;
+		datagram.completionHandler = objectCompletionHandler;
+		datagram.completionTypes = completionTypes;
+		datagram.timeout = timeout;
+
+		if (datagram.isRequest()) {
+			datagram.setSequenceId(sequenceIdGenerator.getAndIncrement());
+
+			if (completionTypes.contains(CompletionType.DELIVERED)) {
+				datagram.setAckRequest(true);
+			}
+
+			if (completionTypes.contains(CompletionType.DELIVERED) ||
+				completionTypes.contains(CompletionType.REPLIED)) {
+
+				datagram.expireTime = System.currentTimeMillis() + timeout;
+
+				Map<Long, Datagram> responseWaitingMap = getResponseWaitingMap(
+					registrationReference);
+
+				responseWaitingMap.put(datagram.getSequenceId(), datagram);
+			}
+		}
+
+		if (!open || !registrationReference.isValid()) {
+			failDatagram(
+				registrationReference, datagram, new ClosedChannelException());
+
+			return;
+		}
+
+		doSendDatagram(registrationReference, datagram);
+	}
+
+	public Datagram sendSyncDatagram(
+			RegistrationReference registrationReference, Datagram datagram)
+		throws InterruptedException, IOException, TimeoutException {
+
+		return sendSyncDatagram(
+			registrationReference, datagram, defaultTimeout,
+			TimeUnit.MILLISECONDS);
+	}
+
+	public Datagram sendSyncDatagram(
+			RegistrationReference registrationReference, Datagram datagram,
+			long timeout, TimeUnit timeUnit)
+		throws InterruptedException, IOException, TimeoutException {
+
+		SendSyncDatagramCompletionHandler sendSyncDatagramCompletionHandler =
+			new SendSyncDatagramCompletionHandler();
+
+		sendDatagram(
+			registrationReference, datagram, null,
+			EnumSet.of(CompletionType.REPLIED),
+			sendSyncDatagramCompletionHandler, timeout, timeUnit);
+
+		return sendSyncDatagramCompletionHandler.waitResult();
+	}
+
+	public DatagramReceiveHandler unregisterDatagramReceiveHandler(byte type) {
+		return swapDatagramReceiveHandler(type, null);
+	}
+
+	protected void cleanUpTimeoutResponseWaitingDatagrams(
+		Map<Long, Datagram> responseWaitingMap) {
+
+		long now = System.currentTimeMillis();
+
+		Iterator<Datagram> iterator = responseWaitingMap.values().iterator();
+
+		while (iterator.hasNext()) {
+			Datagram datagram = iterator.next();
+
+			if ((datagram.expireTime > now) ||
+				(responseWaitingMap.remove(datagram.getSequenceId()) == null)) {
+
+				continue;
+			}
+
+			datagram.completionHandler.timeouted(datagram.attachment);
+		}
+	}
+
+	protected abstract void doSendDatagram(
+		RegistrationReference registrationReference, Datagram datagram);
+
+	protected void failDatagram(
+		RegistrationReference registrationReference, Datagram datagram,
+		IOException ioe) {
+
+		if (datagram.completionHandler == null) {
+			return;
+		}
+
+		if (datagram.isRequest() && (datagram.expireTime > 0)) {
+			Map<Long, Datagram> responseWaitingMap = getResponseWaitingMap(
+				registrationReference);
+
+			if (responseWaitingMap.remove(datagram.getSequenceId()) == null) {
+				return;
+			}
+		}
+
+		datagram.completionHandler.failed(datagram.attachment, ioe);
+	}
+
+	protected void failResponseWaitingDatagrams(
+		Map<Long, Datagram> responseWaitingMap, IOException ioe) {
+
+		Iterator<Datagram> iterator = responseWaitingMap.values().iterator();
+
+		while (iterator.hasNext()) {
+			Datagram datagram = iterator.next();
+
+			if (responseWaitingMap.remove(datagram.getSequenceId()) != null) {
+				datagram.completionHandler.failed(datagram.attachment, ioe);
+			}
+		}
+	}
+
+	protected abstract Map<Long, Datagram> getResponseWaitingMap(
+		RegistrationReference registrationReference);
+
+	protected void handleReading(
+		RegistrationReference registrationReference, Datagram datagram) {
+
+		if (datagram.isAckResponse()) {
+			Map<Long, Datagram> responseWaitingMap = getResponseWaitingMap(
+				registrationReference);
+
+			Datagram requestDatagram = responseWaitingMap.get(
+				datagram.getSequenceId());
+
+			if (requestDatagram == null) {
+				return;
+			}
+
+			// Keep waiting when a reply is also expected
+
+			if (!requestDatagram.completionTypes.contains(
+					CompletionType.REPLIED) &&
+				(responseWaitingMap.remove(datagram.getSequenceId()) ==
+					null)) {
+
+				return;
+			}
+
+			requestDatagram.completionHandler.delivered(
+				requestDatagram.attachment);
+		}
+		else if (datagram.isResponse()) {
+			Map<Long, Datagram> responseWaitingMap = getResponseWaitingMap(
+				registrationReference);
+
+			Datagram requestDatagram = responseWaitingMap.remove(
+				datagram.getSequenceId());
+
+			if (requestDatagram == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Dropped ownerless response " + datagram +
+							", it may have timed out");
+				}
+
+				return;
+			}
+
+			requestDatagram.completionHandler.replied(
+				requestDatagram.attachment, datagram);
+		}
+		else {
+			if (datagram.isAckRequest()) {
+				doSendDatagram(
+					registrationReference,
+					Datagram.createACKResponseDatagram(
+						datagram.getSequenceId()));
+			}
+
+			DatagramReceiveHandler[] datagramReceiveHandlers =
+				datagramReceiveHandlersReference.get();
+
+			DatagramReceiveHandler datagramReceiveHandler =
+				datagramReceiveHandlers[datagram.getType() & 0xFF];
+
+			if (datagramReceiveHandler == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn("Dropped ownerless request " + datagram);
+				}
+
+				return;
+			}
+
+			try {
+				datagramReceiveHandler.receive(registrationReference, datagram);
+			}
+			catch (Throwable t) {
+				_log.error("Unable to dispatch " + datagram, t);
+			}
+		}
+	}
+
+	protected void handleWriting(Datagram datagram) {
+		if ((datagram.completionHandler != null) &&
+			datagram.completionTypes.contains(CompletionType.SUBMITTED)) {
+
+			datagram.completionHandler.submitted(datagram.attachment);
+		}
+	}
+
+	protected DatagramReceiveHandler swapDatagramReceiveHandler(
+		byte type, DatagramReceiveHandler datagramReceiveHandler) {
+
+		int index = type & 0xFF;
+
+		while (true) {
+			DatagramReceiveHandler[] oldDatagramReceiveHandlers =
+				datagramReceiveHandlersReference.get();
+
+			DatagramReceiveHandler[] newDatagramReceiveHandlers =
+				oldDatagramReceiveHandlers.clone();
+
+			newDatagramReceiveHandlers[index] = datagramReceiveHandler;
+
+			if (datagramReceiveHandlersReference.compareAndSet(
+					oldDatagramReceiveHandlers, newDatagramReceiveHandlers)) {
+
+				return oldDatagramReceiveHandlers[index];
+			}
+		}
+	}
+
+	protected final AtomicReference<DatagramReceiveHandler[]>
+		datagramReceiveHandlersReference =
+			new AtomicReference<DatagramReceiveHandler[]>(
+				new DatagramReceiveHandler[256]);
+	protected final long defaultTimeout;
+	protected volatile boolean open = true;
+	protected final AtomicLong sequenceIdGenerator = new AtomicLong();
+
+	private static Log _log = LogFactoryUtil.getLog(BaseIntraBand.class);
+
+	private static class SendSyncDatagramCompletionHandler
+		implements CompletionHandler<Object> {
+
+		public void delivered(Object attachment) {
+		}
+
+		public void failed(Object attachment, IOException ioe) {
+			_ioe = ioe;
+
+			_countDownLatch.countDown();
+		}
+
+		public void replied(Object attachment, Datagram datagram) {
+			_datagram = datagram;
+
+			_countDownLatch.countDown();
+		}
+
+		public void submitted(Object attachment) {
+		}
+
+		public void timeouted(Object attachment) {
+			_countDownLatch.countDown();
+		}
+
+		public Datagram waitResult()
+			throws InterruptedException, IOException, TimeoutException {
+
+			_countDownLatch.await();
+
+			if (_ioe != null) {
+				throw _ioe;
+			}
+
+			if (_datagram == null) {
+				throw new TimeoutException("Result waiting timeout");
+			}
+
+			return _datagram;
+		}
+
+		private final CountDownLatch _countDownLatch = new CountDownLatch(1);
+		private volatile Datagram _datagram;
+		private volatile IOException _ioe;
+
+	}
+
+}
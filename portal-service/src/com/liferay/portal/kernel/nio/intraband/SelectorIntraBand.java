@@ -0,0 +1,488 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.nio.intraband;
+
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+
+import java.io.IOException;
+
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author agent
+ */
+public class SelectorIntraBand extends BaseIntraBand {
+
+	public SelectorIntraBand(long defaultTimeout) throws IOException {
+		super(defaultTimeout);
+
+		_selector = Selector.open();
+
+		_pollingThread = new Thread(
+			new PollingJob(), SelectorIntraBand.class.getSimpleName());
+
+		_pollingThread.setDaemon(true);
+
+		_pollingThread.start();
+	}
+
+	public void close() throws InterruptedException, IOException {
+		open = false;
+
+		_selector.wakeup();
+
+		if (Thread.currentThread() != _pollingThread) {
+			_pollingThread.join();
+		}
+	}
+
+	public RegistrationReference registerChannel(
+			ScatteringByteChannel scatteringByteChannel,
+			GatheringByteChannel gatheringByteChannel)
+		throws IOException {
+
+		if (scatteringByteChannel == null) {
+			throw new NullPointerException("Scattering byte channel is null");
+		}
+
+		if (gatheringByteChannel == null) {
+			throw new NullPointerException("Gathering byte channel is null");
+		}
+
+		if (!(scatteringByteChannel instanceof SelectableChannel)) {
+			throw new IllegalArgumentException(
+				"Scattering byte channel is not selectable");
+		}
+
+		if (!(gatheringByteChannel instanceof SelectableChannel)) {
+			throw new IllegalArgumentException(
+				"Gathering byte channel is not selectable");
+		}
+
+		if (!open) {
+			throw new ClosedChannelException();
+		}
+
+		final ChannelContext channelContext = new ChannelContext(
+			scatteringByteChannel, gatheringByteChannel);
+
+		FutureTask<Void> futureTask = new FutureTask<Void>(
+			new Callable<Void>() {
+
+				public Void call() throws IOException {
+					channelContext.register();
+
+					return null;
+				}
+
+			});
+
+		_pendingTasks.offer(futureTask);
+
+		_selector.wakeup();
+
+		try {
+			futureTask.get();
+		}
+		catch (CancellationException ce) {
+			throw new ClosedChannelException();
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof IOException) {
+				throw (IOException)cause;
+			}
+
+			throw new IOException(cause);
+		}
+		catch (InterruptedException ie) {
+			throw new IOException(ie);
+		}
+
+		return channelContext._registrationReference;
+	}
+
+	@Override
+	protected void doSendDatagram(
+		RegistrationReference registrationReference, Datagram datagram) {
+
+		SelectorRegistrationReference selectorRegistrationReference =
+			(SelectorRegistrationReference)registrationReference;
+
+		ChannelContext channelContext =
+			selectorRegistrationReference._channelContext;
+
+		channelContext._sendingQueue.offer(datagram);
+
+		if (!channelContext._valid.get()) {
+
+			// The channel was closed concurrently, its sending queue will never
+			// be drained again
+
+			if (channelContext._sendingQueue.remove(datagram)) {
+				failDatagram(
+					registrationReference, datagram,
+					new ClosedChannelException());
+			}
+
+			return;
+		}
+
+		// Only the first datagram of a burst needs to turn on write interest,
+		// the polling thread keeps writing until the queue is drained
+
+		if (channelContext._writeScheduled.compareAndSet(false, true)) {
+			_pendingTasks.offer(channelContext._writeInterestTask);
+
+			_selector.wakeup();
+		}
+	}
+
+	@Override
+	protected Map<Long, Datagram> getResponseWaitingMap(
+		RegistrationReference registrationReference) {
+
+		SelectorRegistrationReference selectorRegistrationReference =
+			(SelectorRegistrationReference)registrationReference;
+
+		ChannelContext channelContext =
+			selectorRegistrationReference._channelContext;
+
+		return channelContext._responseWaitingMap;
+	}
+
+	private static final long _TIMEOUT_SCAN_INTERVAL = 1000;
+
+	private static Log _log = LogFactoryUtil.getLog(SelectorIntraBand.class);
+
+	private final Set<ChannelContext> _channelContexts =
+		new ConcurrentHashSet<ChannelContext>();
+	private final Queue<Runnable> _pendingTasks =
+		new ConcurrentLinkedQueue<Runnable>();
+	private final Thread _pollingThread;
+	private final Selector _selector;
+
+	private class ChannelContext {
+
+		public ChannelContext(
+			ScatteringByteChannel scatteringByteChannel,
+			GatheringByteChannel gatheringByteChannel) {
+
+			_scatteringByteChannel = scatteringByteChannel;
+			_gatheringByteChannel = gatheringByteChannel;
+
+			_registrationReference = new SelectorRegistrationReference(this);
+		}
+
+		public void close(IOException ioe) {
+			if (!_valid.compareAndSet(true, false)) {
+				return;
+			}
+
+			_channelContexts.remove(this);
+
+			if (_readSelectionKey != null) {
+				_readSelectionKey.cancel();
+			}
+
+			if (_writeSelectionKey != null) {
+				_writeSelectionKey.cancel();
+			}
+
+			try {
+				_scatteringByteChannel.close();
+				_gatheringByteChannel.close();
+			}
+			catch (IOException e) {
+				if (_log.isDebugEnabled()) {
+					_log.debug("Unable to close channel", e);
+				}
+			}
+
+			Datagram datagram = null;
+
+			while ((datagram = _sendingQueue.poll()) != null) {
+				failDatagram(_registrationReference, datagram, ioe);
+			}
+
+			failResponseWaitingDatagrams(_responseWaitingMap, ioe);
+		}
+
+		public void handleRead() throws IOException {
+			while (true) {
+				if (_receivingDatagram == null) {
+					_receivingDatagram = Datagram.createReceiveDatagram();
+				}
+
+				if (!_receivingDatagram.readFrom(_scatteringByteChannel)) {
+					return;
+				}
+
+				Datagram datagram = _receivingDatagram;
+
+				_receivingDatagram = null;
+
+				handleReading(_registrationReference, datagram);
+			}
+		}
+
+		public void handleWrite() throws IOException {
+			Datagram datagram = null;
+
+			while ((datagram = _sendingQueue.peek()) != null) {
+				if (!datagram.writeTo(_gatheringByteChannel)) {
+
+					// Socket buffer is full, wait for the next write readiness
+
+					return;
+				}
+
+				_sendingQueue.poll();
+
+				handleWriting(datagram);
+			}
+
+			_writeSelectionKey.interestOps(
+				_writeSelectionKey.interestOps() & ~SelectionKey.OP_WRITE);
+
+			_writeScheduled.set(false);
+
+			// Recheck to avoid losing a datagram queued between the last poll
+			// and the reset of the write scheduled flag
+
+			if (!_sendingQueue.isEmpty() &&
+				_writeScheduled.compareAndSet(false, true)) {
+
+				_writeSelectionKey.interestOps(
+					_writeSelectionKey.interestOps() | SelectionKey.OP_WRITE);
+			}
+		}
+
+		public void register() throws IOException {
+			SelectableChannel readSelectableChannel =
+				(SelectableChannel)_scatteringByteChannel;
+			SelectableChannel writeSelectableChannel =
+				(SelectableChannel)_gatheringByteChannel;
+
+			readSelectableChannel.configureBlocking(false);
+			writeSelectableChannel.configureBlocking(false);
+
+			if (readSelectableChannel == writeSelectableChannel) {
+				_readSelectionKey = readSelectableChannel.register(
+					_selector, SelectionKey.OP_READ, this);
+				_writeSelectionKey = _readSelectionKey;
+			}
+			else {
+				_readSelectionKey = readSelectableChannel.register(
+					_selector, SelectionKey.OP_READ, this);
+				_writeSelectionKey = writeSelectableChannel.register(
+					_selector, 0, this);
+			}
+
+			_channelContexts.add(this);
+		}
+
+		private final GatheringByteChannel _gatheringByteChannel;
+		private SelectionKey _readSelectionKey;
+		private Datagram _receivingDatagram;
+		private final SelectorRegistrationReference _registrationReference;
+		private final Map<Long, Datagram> _responseWaitingMap =
+			new ConcurrentHashMap<Long, Datagram>();
+		private final ScatteringByteChannel _scatteringByteChannel;
+		private final Queue<Datagram> _sendingQueue =
+			new ConcurrentLinkedQueue<Datagram>();
+		private final AtomicBoolean _valid = new AtomicBoolean(true);
+		private final Runnable _writeInterestTask = new Runnable() {
+
+			public void run() {
+				if (!_valid.get()) {
+					return;
+				}
+
+				_writeSelectionKey.interestOps(
+					_writeSelectionKey.interestOps() | SelectionKey.OP_WRITE);
+			}
+
+		};
+		private final AtomicBoolean _writeScheduled = new AtomicBoolean();
+		private SelectionKey _writeSelectionKey;
+
+	}
+
+	private class PollingJob implements Runnable {
+
+		public void run() {
+			long lastTimeoutScanTime = System.currentTimeMillis();
+
+			try {
+				while (open) {
+					Runnable runnable = null;
+
+					while ((runnable = _pendingTasks.poll()) != null) {
+						runnable.run();
+					}
+
+					_selector.select(_TIMEOUT_SCAN_INTERVAL);
+
+					Set<SelectionKey> selectionKeys =
+						_selector.selectedKeys();
+
+					Iterator<SelectionKey> iterator = selectionKeys.iterator();
+
+					while (iterator.hasNext()) {
+						SelectionKey selectionKey = iterator.next();
+
+						iterator.remove();
+
+						handleSelectionKey(selectionKey);
+					}
+
+					long now = System.currentTimeMillis();
+
+					if ((now - lastTimeoutScanTime) >= _TIMEOUT_SCAN_INTERVAL) {
+						for (ChannelContext channelContext : _channelContexts) {
+							cleanUpTimeoutResponseWaitingDatagrams(
+								channelContext._responseWaitingMap);
+						}
+
+						lastTimeoutScanTime = now;
+					}
+				}
+			}
+			catch (Throwable t) {
+				_log.error("Polling thread terminated unexpectedly", t);
+			}
+			finally {
+				open = false;
+
+				IOException ioe = new ClosedChannelException();
+
+				for (ChannelContext channelContext : _channelContexts) {
+					channelContext.close(ioe);
+				}
+
+				Runnable runnable = null;
+
+				while ((runnable = _pendingTasks.poll()) != null) {
+					if (runnable instanceof FutureTask<?>) {
+						FutureTask<?> futureTask = (FutureTask<?>)runnable;
+
+						futureTask.cancel(false);
+					}
+				}
+
+				try {
+					_selector.close();
+				}
+				catch (IOException e) {
+					if (_log.isDebugEnabled()) {
+						_log.debug("Unable to close selector", e);
+					}
+				}
+			}
+		}
+
+		private void handleSelectionKey(SelectionKey selectionKey) {
+			ChannelContext channelContext =
+				(ChannelContext)selectionKey.attachment();
+
+			try {
+				if (!selectionKey.isValid()) {
+					channelContext.close(new ClosedChannelException());
+
+					return;
+				}
+
+				if (selectionKey.isReadable() &&
+					(selectionKey == channelContext._readSelectionKey)) {
+
+					channelContext.handleRead();
+				}
+
+				if (selectionKey.isValid() && selectionKey.isWritable() &&
+					(selectionKey == channelContext._writeSelectionKey)) {
+
+					channelContext.handleWrite();
+				}
+			}
+			catch (IOException ioe) {
+				if (_log.isDebugEnabled()) {
+					_log.debug("Closing broken channel", ioe);
+				}
+
+				channelContext.close(ioe);
+			}
+		}
+
+	}
+
+	private class SelectorRegistrationReference
+		implements RegistrationReference {
+
+		public SelectorRegistrationReference(ChannelContext channelContext) {
+			_channelContext = channelContext;
+		}
+
+		public void cancelRegistration() {
+			_pendingTasks.offer(
+				new Runnable() {
+
+					public void run() {
+						_channelContext.close(new ClosedChannelException());
+					}
+
+				});
+
+			_selector.wakeup();
+		}
+
+		public IntraBand getIntraBand() {
+			return SelectorIntraBand.this;
+		}
+
+		public boolean isValid() {
+			if (open && _channelContext._valid.get()) {
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private final ChannelContext _channelContext;
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.process;
+
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
+import com.liferay.portal.kernel.nio.intraband.Datagram;
+import com.liferay.portal.kernel.nio.intraband.DatagramReceiveHandler;
+import com.liferay.portal.kernel.nio.intraband.IntraBand;
+import com.liferay.portal.kernel.nio.intraband.RegistrationReference;
+import com.liferay.portal.kernel.nio.intraband.SelectorIntraBand;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author agent
+ */
+public class IntraBandProcessWorker {
+
+	public static final byte DATAGRAM_TYPE_PROCESS_CALLABLE = 1;
+
+	public static void main(String[] arguments) throws Exception {
+		int port = GetterUtil.getInteger(arguments[0]);
+
+		// The parent process writes the token to the standard input so that it
+		// does not show up on the command line
+
+		DataInputStream dataInputStream = new DataInputStream(System.in);
+
+		long token = dataInputStream.readLong();
+
+		SocketChannel socketChannel = SocketChannel.open(
+			new InetSocketAddress(InetAddress.getByName(null), port));
+
+		// Prove to the parent process that this is the worker it spawned
+
+		ByteBuffer tokenByteBuffer = ByteBuffer.allocate(8);
+
+		tokenByteBuffer.putLong(token);
+
+		tokenByteBuffer.flip();
+
+		while (tokenByteBuffer.hasRemaining()) {
+			socketChannel.write(tokenByteBuffer);
+		}
+
+		Runtime runtime = Runtime.getRuntime();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			runtime.availableProcessors(),
+			new NamedThreadFactory(
+				IntraBandProcessWorker.class.getName(), Thread.NORM_PRIORITY,
+				null));
+
+		IntraBand intraBand = new SelectorIntraBand(_RESPONSE_TIMEOUT);
+
+		intraBand.registerDatagramReceiveHandler(
+			DATAGRAM_TYPE_PROCESS_CALLABLE,
+			new ProcessCallableDatagramReceiveHandler(executorService));
+
+		RegistrationReference registrationReference =
+			intraBand.registerChannel(socketChannel);
+
+		// The worker lives as long as the parent process keeps the channel
+		// open, all threads are daemon threads
+
+		while (registrationReference.isValid()) {
+			Thread.sleep(_VALIDITY_CHECK_INTERVAL);
+		}
+
+		executorService.shutdownNow();
+
+		intraBand.close();
+	}
+
+	private static final long _RESPONSE_TIMEOUT = 10 * 60 * 1000;
+
+	private static final long _VALIDITY_CHECK_INTERVAL = 1000;
+
+	private static class ProcessCallableDatagramReceiveHandler
+		implements DatagramReceiveHandler {
+
+		public ProcessCallableDatagramReceiveHandler(
+			ExecutorService executorService) {
+
+			_executorService = executorService;
+		}
+
+		public void receive(
+			final RegistrationReference registrationReference,
+			final Datagram datagram) {
+
+			// Never block the polling thread, responses are pipelined back in
+			// completion order
+
+			_executorService.execute(
+				new Runnable() {
+
+					public void run() {
+						ProcessCallable<?> resultProcessCallable =
+							_call(datagram);
+
+						IntraBand intraBand =
+							registrationReference.getIntraBand();
+
+						intraBand.sendDatagram(
+							registrationReference,
+							Datagram.createResponseDatagram(
+								datagram, _serialize(resultProcessCallable)));
+					}
+
+				});
+		}
+
+		private ProcessCallable<?> _call(Datagram datagram) {
+			ByteBuffer byteBuffer = datagram.getData();
+
+			try {
+				ObjectInputStream objectInputStream = new ObjectInputStream(
+					new UnsyncByteArrayInputStream(
+						byteBuffer.array(),
+						byteBuffer.arrayOffset() + byteBuffer.position(),
+						byteBuffer.remaining()));
+
+				ProcessCallable<?> processCallable =
+					(ProcessCallable<?>)objectInputStream.readObject();
+
+				return new ReturnProcessCallable<Serializable>(
+					processCallable.call());
+			}
+			catch (ProcessException pe) {
+				return new ExceptionProcessCallable(pe);
+			}
+			catch (Throwable t) {
+				return new ExceptionProcessCallable(new ProcessException(t));
+			}
+		}
+
+		private ByteBuffer _serialize(ProcessCallable<?> processCallable) {
+			UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+				new UnsyncByteArrayOutputStream();
+
+			try {
+				ObjectOutputStream objectOutputStream = new ObjectOutputStream(
+					unsyncByteArrayOutputStream);
+
+				objectOutputStream.writeObject(processCallable);
+
+				objectOutputStream.close();
+			}
+			catch (IOException ioe) {
+				unsyncByteArrayOutputStream.reset();
+
+				try {
+					ObjectOutputStream objectOutputStream =
+						new ObjectOutputStream(unsyncByteArrayOutputStream);
+
+					objectOutputStream.writeObject(
+						new ExceptionProcessCallable(
+							new ProcessException(
+								"Unable to serialize result " +
+									processCallable,
+								ioe)));
+
+					objectOutputStream.close();
+				}
+				catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+
+			return unsyncByteArrayOutputStream.unsafeGetByteBuffer();
+		}
+
+		private final ExecutorService _executorService;
+
+	}
+
+}
@@ -0,0 +1,609 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.process;
+
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.nio.intraband.CompletionHandler;
+import com.liferay.portal.kernel.nio.intraband.CompletionHandler.CompletionType;
+import com.liferay.portal.kernel.nio.intraband.Datagram;
+import com.liferay.portal.kernel.nio.intraband.IntraBand;
+import com.liferay.portal.kernel.nio.intraband.RegistrationReference;
+import com.liferay.portal.kernel.nio.intraband.SelectorIntraBand;
+import com.liferay.portal.kernel.util.ClassLoaderObjectInputStream;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+
+import java.security.SecureRandom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author agent
+ */
+public class WorkerProcessExecutor {
+
+	public static <T extends Serializable> Future<T> execute(
+			String classPath,
+			ProcessCallable<? extends Serializable> processCallable,
+			long timeout, TimeUnit timeUnit)
+		throws ProcessException {
+
+		return execute(
+			"java", classPath, Collections.<String>emptyList(), processCallable,
+			timeout, timeUnit);
+	}
+
+	public static <T extends Serializable> Future<T> execute(
+			String java, String classPath, List<String> arguments,
+			ProcessCallable<? extends Serializable> processCallable,
+			long timeout, TimeUnit timeUnit)
+		throws ProcessException {
+
+		WorkerProcess workerProcess = _getWorkerProcess(
+			java, classPath, arguments);
+
+		return workerProcess.submit(processCallable, timeout, timeUnit);
+	}
+
+	public void destroy() {
+		synchronized (_workerProcesses) {
+			for (WorkerProcess workerProcess : _workerProcesses.values()) {
+				workerProcess.destroy();
+			}
+
+			_workerProcesses.clear();
+		}
+
+		synchronized (WorkerProcessExecutor.class) {
+			if (_intraBand != null) {
+				try {
+					_intraBand.close();
+				}
+				catch (Exception e) {
+					_log.error("Unable to close IntraBand", e);
+				}
+
+				_intraBand = null;
+			}
+
+			if (_executorService != null) {
+				_executorService.shutdownNow();
+
+				_executorService = null;
+			}
+		}
+	}
+
+	private static Socket _acceptWorker(ServerSocket serverSocket, long token)
+		throws IOException, ProcessException {
+
+		long deadline = System.currentTimeMillis() + _CONNECT_TIMEOUT;
+
+		while (true) {
+			int timeout = (int)(deadline - System.currentTimeMillis());
+
+			if (timeout <= 0) {
+				throw new ProcessException(
+					"Timed out waiting for worker process to connect");
+			}
+
+			serverSocket.setSoTimeout(timeout);
+
+			Socket socket = serverSocket.accept();
+
+			try {
+				socket.setSoTimeout(timeout);
+
+				DataInputStream dataInputStream = new DataInputStream(
+					socket.getInputStream());
+
+				if (dataInputStream.readLong() == token) {
+					socket.setSoTimeout(0);
+
+					return socket;
+				}
+			}
+			catch (IOException ioe) {
+				if (_log.isDebugEnabled()) {
+					_log.debug(ioe, ioe);
+				}
+			}
+
+			// Keep waiting for the spawned worker when another local process
+			// connects first
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Rejected a connection to the worker process port with " +
+						"a wrong token");
+			}
+
+			socket.close();
+		}
+	}
+
+	private static ExecutorService _getExecutorService() {
+		if (_executorService != null) {
+			return _executorService;
+		}
+
+		synchronized (WorkerProcessExecutor.class) {
+			if (_executorService == null) {
+				_executorService = Executors.newCachedThreadPool(
+					new NamedThreadFactory(
+						WorkerProcessExecutor.class.getName(),
+						Thread.MIN_PRIORITY,
+						PortalClassLoaderUtil.getClassLoader()));
+			}
+		}
+
+		return _executorService;
+	}
+
+	private static IntraBand _getIntraBand() throws IOException {
+		if (_intraBand != null) {
+			return _intraBand;
+		}
+
+		synchronized (WorkerProcessExecutor.class) {
+			if (_intraBand == null) {
+				_intraBand = new SelectorIntraBand(_DEFAULT_TIMEOUT);
+			}
+		}
+
+		return _intraBand;
+	}
+
+	private static WorkerProcess _getWorkerProcess(
+			String java, String classPath, List<String> arguments)
+		throws ProcessException {
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(java);
+		sb.append(StringPool.SPACE);
+		sb.append(classPath);
+		sb.append(StringPool.SPACE);
+		sb.append(arguments.toString());
+
+		String key = sb.toString();
+
+		WorkerProcess workerProcess = _workerProcesses.get(key);
+
+		if ((workerProcess != null) && workerProcess.isAlive()) {
+			return workerProcess;
+		}
+
+		synchronized (_workerProcesses) {
+			workerProcess = _workerProcesses.get(key);
+
+			if ((workerProcess != null) && workerProcess.isAlive()) {
+				return workerProcess;
+			}
+
+			if (workerProcess != null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn("Replacing dead worker process");
+				}
+
+				workerProcess.destroy();
+			}
+
+			workerProcess = _spawnWorkerProcess(java, classPath, arguments);
+
+			_workerProcesses.put(key, workerProcess);
+
+			return workerProcess;
+		}
+	}
+
+	private static WorkerProcess _spawnWorkerProcess(
+			String java, String classPath, List<String> arguments)
+		throws ProcessException {
+
+		ServerSocketChannel serverSocketChannel = null;
+		Process process = null;
+
+		try {
+			IntraBand intraBand = _getIntraBand();
+
+			serverSocketChannel = ServerSocketChannel.open();
+
+			ServerSocket serverSocket = serverSocketChannel.socket();
+
+			serverSocket.bind(
+				new InetSocketAddress(InetAddress.getByName(null), 0));
+
+			SecureRandom secureRandom = new SecureRandom();
+
+			long token = secureRandom.nextLong();
+
+			List<String> commands = new ArrayList<String>(arguments.size() + 5);
+
+			commands.add(java);
+			commands.add("-cp");
+			commands.add(classPath);
+			commands.addAll(arguments);
+			commands.add(IntraBandProcessWorker.class.getName());
+			commands.add(String.valueOf(serverSocket.getLocalPort()));
+
+			ProcessBuilder processBuilder = new ProcessBuilder(commands);
+
+			process = processBuilder.start();
+
+			// The token goes through the standard input of the worker because
+			// the command line is visible to every local user
+
+			DataOutputStream dataOutputStream = new DataOutputStream(
+				process.getOutputStream());
+
+			dataOutputStream.writeLong(token);
+
+			dataOutputStream.close();
+
+			ExecutorService executorService = _getExecutorService();
+
+			try {
+				executorService.submit(new WorkerOutputReactor(process, false));
+				executorService.submit(new WorkerOutputReactor(process, true));
+			}
+			catch (RejectedExecutionException ree) {
+				throw new ProcessException(
+					"Cancelled execution because of a concurrent destroy", ree);
+			}
+
+			Socket socket = _acceptWorker(serverSocket, token);
+
+			RegistrationReference registrationReference =
+				intraBand.registerChannel(socket.getChannel());
+
+			return new WorkerProcess(process, registrationReference);
+		}
+		catch (IOException ioe) {
+			if (process != null) {
+				process.destroy();
+			}
+
+			throw new ProcessException(
+				"Unable to spawn worker process", ioe);
+		}
+		catch (ProcessException pe) {
+			if (process != null) {
+				process.destroy();
+			}
+
+			throw pe;
+		}
+		finally {
+			if (serverSocketChannel != null) {
+				try {
+					serverSocketChannel.close();
+				}
+				catch (IOException ioe) {
+					if (_log.isDebugEnabled()) {
+						_log.debug(ioe, ioe);
+					}
+				}
+			}
+		}
+	}
+
+	private static final int _CONNECT_TIMEOUT = 60 * 1000;
+
+	private static final long _DEFAULT_TIMEOUT = 10 * 60 * 1000;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		WorkerProcessExecutor.class);
+
+	private static volatile ExecutorService _executorService;
+	private static volatile IntraBand _intraBand;
+	private static Map<String, WorkerProcess> _workerProcesses =
+		new ConcurrentHashMap<String, WorkerProcess>();
+
+	private static class WorkerFutureResult<T>
+		implements CompletionHandler<Object>, Future<T> {
+
+		public boolean cancel(boolean mayInterruptIfRunning) {
+
+			// A worker process is shared, so the callable keeps running and
+			// only its result is discarded
+
+			if (!_done.compareAndSet(false, true)) {
+				return false;
+			}
+
+			_cancelled = true;
+
+			_countDownLatch.countDown();
+
+			return true;
+		}
+
+		public void delivered(Object attachment) {
+		}
+
+		public void failed(Object attachment, IOException ioe) {
+			_complete(null, new ProcessException("Worker process died", ioe));
+		}
+
+		public T get() throws ExecutionException, InterruptedException {
+			_countDownLatch.await();
+
+			return _getResult();
+		}
+
+		public T get(long timeout, TimeUnit timeUnit)
+			throws ExecutionException, InterruptedException, TimeoutException {
+
+			if (!_countDownLatch.await(timeout, timeUnit)) {
+				throw new TimeoutException();
+			}
+
+			return _getResult();
+		}
+
+		public boolean isCancelled() {
+			return _cancelled;
+		}
+
+		public boolean isDone() {
+			return _done.get();
+		}
+
+		public void replied(Object attachment, Datagram datagram) {
+			_complete(datagram, null);
+		}
+
+		public void submitted(Object attachment) {
+		}
+
+		public void timeouted(Object attachment) {
+			boolean completed = _complete(
+				null,
+				new ProcessException("Timed out waiting for worker process"));
+
+			if (!completed) {
+				return;
+			}
+
+			// The worker process can not stop a single callable, so it is
+			// destroyed to free its resources. The calls that are still
+			// running in it fail and the next call spawns a new worker.
+
+			WorkerProcess workerProcess = (WorkerProcess)attachment;
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Destroying worker process because a call timed out");
+			}
+
+			workerProcess.destroy();
+		}
+
+		private boolean _complete(
+			Datagram datagram, ProcessException processException) {
+
+			if (!_done.compareAndSet(false, true)) {
+				return false;
+			}
+
+			_datagram = datagram;
+			_processException = processException;
+
+			_countDownLatch.countDown();
+
+			return true;
+		}
+
+		private T _getResult() throws ExecutionException {
+			if (_cancelled) {
+				throw new CancellationException();
+			}
+
+			if (_processException != null) {
+				throw new ExecutionException(_processException);
+			}
+
+			// Deserialize on the caller thread rather than the polling thread
+
+			ByteBuffer byteBuffer = _datagram.getData();
+
+			try {
+				ObjectInputStream objectInputStream =
+					new ClassLoaderObjectInputStream(
+						new UnsyncByteArrayInputStream(
+							byteBuffer.array(),
+							byteBuffer.arrayOffset() + byteBuffer.position(),
+							byteBuffer.remaining()),
+						PortalClassLoaderUtil.getClassLoader());
+
+				ProcessCallable<?> processCallable =
+					(ProcessCallable<?>)objectInputStream.readObject();
+
+				if (processCallable instanceof ReturnProcessCallable<?>) {
+
+					// The worker returns what the submitted callable returned
+
+					@SuppressWarnings("unchecked")
+					T result = (T)processCallable.call();
+
+					return result;
+				}
+
+				ExceptionProcessCallable exceptionProcessCallable =
+					(ExceptionProcessCallable)processCallable;
+
+				throw exceptionProcessCallable.call();
+			}
+			catch (ClassNotFoundException cnfe) {
+				throw new ExecutionException(cnfe);
+			}
+			catch (IOException ioe) {
+				throw new ExecutionException(ioe);
+			}
+			catch (ProcessException pe) {
+				throw new ExecutionException(pe);
+			}
+		}
+
+		private volatile boolean _cancelled;
+		private final CountDownLatch _countDownLatch = new CountDownLatch(1);
+		private volatile Datagram _datagram;
+		private final AtomicBoolean _done = new AtomicBoolean();
+		private volatile ProcessException _processException;
+
+	}
+
+	private static class WorkerOutputReactor implements Callable<Void> {
+
+		public WorkerOutputReactor(Process process, boolean stdErr) {
+			_process = process;
+			_stdErr = stdErr;
+		}
+
+		public Void call() throws Exception {
+			try {
+				if (_stdErr) {
+					ProcessUtil.LOGGING_OUTPUT_PROCESSOR.processStdErr(
+						_process.getErrorStream());
+				}
+				else {
+					ProcessUtil.LOGGING_OUTPUT_PROCESSOR.processStdOut(
+						_process.getInputStream());
+				}
+			}
+			finally {
+				if (!_stdErr) {
+					try {
+						int exitCode = _process.waitFor();
+
+						if ((exitCode != 0) && _log.isWarnEnabled()) {
+							_log.warn(
+								"Worker process terminated with exit code " +
+									exitCode);
+						}
+					}
+					catch (InterruptedException ie) {
+						_process.destroy();
+					}
+				}
+			}
+
+			return null;
+		}
+
+		private final Process _process;
+		private final boolean _stdErr;
+
+	}
+
+	private static class WorkerProcess {
+
+		public WorkerProcess(
+			Process process, RegistrationReference registrationReference) {
+
+			_process = process;
+			_registrationReference = registrationReference;
+		}
+
+		public void destroy() {
+			_registrationReference.cancelRegistration();
+
+			_process.destroy();
+		}
+
+		public boolean isAlive() {
+			return _registrationReference.isValid();
+		}
+
+		public <T extends Serializable> Future<T> submit(
+				ProcessCallable<? extends Serializable> processCallable,
+				long timeout, TimeUnit timeUnit)
+			throws ProcessException {
+
+			UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+				new UnsyncByteArrayOutputStream();
+
+			try {
+				ObjectOutputStream objectOutputStream = new ObjectOutputStream(
+					unsyncByteArrayOutputStream);
+
+				objectOutputStream.writeObject(processCallable);
+
+				objectOutputStream.close();
+			}
+			catch (IOException ioe) {
+				throw new ProcessException(ioe);
+			}
+
+			Datagram datagram = Datagram.createRequestDatagram(
+				IntraBandProcessWorker.DATAGRAM_TYPE_PROCESS_CALLABLE,
+				unsyncByteArrayOutputStream.unsafeGetByteBuffer());
+
+			WorkerFutureResult<T> workerFutureResult =
+				new WorkerFutureResult<T>();
+
+			IntraBand intraBand = _registrationReference.getIntraBand();
+
+			intraBand.sendDatagram(
+				_registrationReference, datagram, this,
+				EnumSet.of(CompletionType.REPLIED), workerFutureResult,
+				timeout, timeUnit);
+
+			return workerFutureResult;
+		}
+
+		private final Process _process;
+		private final RegistrationReference _registrationReference;
+
+	}
+
+}
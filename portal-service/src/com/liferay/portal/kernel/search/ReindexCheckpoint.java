@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PropertiesUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.Time;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.Properties;
+
+/**
+ * Records the primary key up to which each actionable dynamic query of a
+ * company reindex has completed, so that an interrupted reindex can resume
+ * from its last completed range.
+ *
+ * <p>
+ * Search engines that buffer writes override {@link #flush()} to make the
+ * documents of the completed ranges durable before the checkpoint is saved.
+ * Search engines that can tell when their index was deleted or replaced
+ * override {@link #getGeneration()}, so that a checkpoint saved against the
+ * previous index is not resumed. Checkpoints older than
+ * <code>index.reindex.checkpoint.max.age</code> are never resumed.
+ * </p>
+ *
+ * @author agent
+ */
+public class ReindexCheckpoint {
+
+	public ReindexCheckpoint(long companyId) {
+		String dirName =
+			PropsUtil.get(PropsKeys.LIFERAY_HOME) + "/data/search/reindex";
+
+		_file = new File(dirName, String.valueOf(companyId) + ".properties");
+
+		if (!_file.exists()) {
+			return;
+		}
+
+		try {
+			_properties = PropertiesUtil.load(FileUtil.read(_file));
+		}
+		catch (IOException ioe) {
+			throw new IllegalStateException(
+				"Unable to read reindex checkpoint " + _file, ioe);
+		}
+	}
+
+	public synchronized void delete() {
+		_properties.clear();
+
+		FileUtil.delete(_file);
+	}
+
+	public synchronized long getPrimaryKey(String key) {
+		return GetterUtil.getLong(_properties.getProperty(key), -1);
+	}
+
+	public synchronized boolean isResumable() {
+		if (_properties.isEmpty()) {
+			return false;
+		}
+
+		long maxAge = GetterUtil.getLong(
+			PropsUtil.get(PropsKeys.INDEX_REINDEX_CHECKPOINT_MAX_AGE));
+
+		maxAge *= Time.MINUTE;
+
+		if ((maxAge > 0) &&
+			((System.currentTimeMillis() - _file.lastModified()) > maxAge)) {
+
+			return false;
+		}
+
+		long generation = GetterUtil.getLong(
+			_properties.getProperty(_GENERATION));
+
+		if (getGeneration() < generation) {
+			return false;
+		}
+
+		return true;
+	}
+
+	public void save() throws Exception {
+		flush();
+
+		long generation = getGeneration();
+
+		String content = null;
+
+		synchronized (this) {
+			_properties.setProperty(_GENERATION, String.valueOf(generation));
+
+			content = PropertiesUtil.toString(_properties);
+		}
+
+		FileUtil.write(_file, content);
+	}
+
+	public synchronized void setPrimaryKey(String key, long primaryKey) {
+		_properties.setProperty(key, String.valueOf(primaryKey));
+	}
+
+	protected void flush() throws Exception {
+	}
+
+	protected long getGeneration() {
+		return 0;
+	}
+
+	private static final String _GENERATION = "generation";
+
+	private File _file;
+	private Properties _properties = new Properties();
+
+}
@@ -14,6 +14,7 @@
 
 package com.liferay.portal.kernel.servlet;
 
+import com.liferay.portal.kernel.io.Seekable;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.nio.charset.CharsetEncoderUtil;
@@ -566,6 +567,15 @@ public class ServletResponseUtil {
 
 			StreamUtil.transfer(byteArrayInputStream, outputStream, length);
 		}
+		else if (inputStream instanceof Seekable) {
+			Seekable seekable = (Seekable)inputStream;
+
+			seekable.seek(start);
+
+			StreamUtil.transfer(
+				inputStream, outputStream, StreamUtil.BUFFER_SIZE, false,
+				length);
+		}
 		else {
 			RandomAccessInputStream randomAccessInputStream =
 				new RandomAccessInputStream(inputStream);
@@ -16,14 +16,35 @@ package com.liferay.portal.kernel.templateparser;
 
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.xml.Document;
+import com.liferay.portal.kernel.xml.DocumentException;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
+
+import java.lang.reflect.Method;
 
 import java.util.Map;
 
 /**
+ * Listeners that still override the deprecated String based methods are
+ * called with the document serialized, and the XML they return is parsed
+ * back. Listeners that only override the Document based methods change the
+ * document directly.
+ *
  * @author Brian Wing Shun Chan
  */
 public abstract class BaseTransformerListener implements TransformerListener {
 
+	public BaseTransformerListener() {
+		Class<?> clazz = getClass();
+
+		_overridesOnScriptXML = isOverridden(
+			clazz, "onScript", String.class, String.class, String.class,
+			Map.class);
+		_overridesOnXmlXML = isOverridden(
+			clazz, "onXml", String.class, String.class, Map.class);
+	}
+
 	public String onOutput(
 		String output, String languageId, Map<String, String> tokens) {
 
@@ -34,6 +55,26 @@ public abstract class BaseTransformerListener implements TransformerListener {
 		return output;
 	}
 
+	public String onScript(
+		String script, Document document, String languageId,
+		Map<String, String> tokens) {
+
+		if (_overridesOnScriptXML) {
+			return onScript(script, _toXML(document), languageId, tokens);
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("onScript");
+		}
+
+		return script;
+	}
+
+	/**
+	 * @deprecated As of 6.2.0, replaced by {@link #onScript(String, Document,
+	 *             String, Map)}
+	 */
+	@Deprecated
 	public String onScript(
 		String script, String xml, String languageId,
 		Map<String, String> tokens) {
@@ -45,6 +86,38 @@ public abstract class BaseTransformerListener implements TransformerListener {
 		return script;
 	}
 
+	public Document onXml(
+		Document document, String languageId, Map<String, String> tokens) {
+
+		if (_overridesOnXmlXML) {
+			String xml = onXml(_toXML(document), languageId, tokens);
+
+			if (Validator.isNull(xml)) {
+				return null;
+			}
+
+			try {
+				return SAXReaderUtil.read(xml);
+			}
+			catch (DocumentException de) {
+				_log.error("Unable to read XML returned by " + getClass(), de);
+
+				return document;
+			}
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("onXml");
+		}
+
+		return document;
+	}
+
+	/**
+	 * @deprecated As of 6.2.0, replaced by {@link #onXml(Document, String,
+	 *             Map)}
+	 */
+	@Deprecated
 	public String onXml(
 		String xml, String languageId, Map<String, String> tokens) {
 
@@ -55,7 +128,34 @@ public abstract class BaseTransformerListener implements TransformerListener {
 		return xml;
 	}
 
+	protected boolean isOverridden(
+		Class<?> clazz, String name, Class<?>... parameterTypes) {
+
+		try {
+			Method method = clazz.getMethod(name, parameterTypes);
+
+			if (method.getDeclaringClass() != BaseTransformerListener.class) {
+				return true;
+			}
+		}
+		catch (NoSuchMethodException nsme) {
+		}
+
+		return false;
+	}
+
+	private String _toXML(Document document) {
+		if (document == null) {
+			return null;
+		}
+
+		return document.asXML();
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(
 		BaseTransformerListener.class);
 
+	private final boolean _overridesOnScriptXML;
+	private final boolean _overridesOnXmlXML;
+
 }
\ No newline at end of file
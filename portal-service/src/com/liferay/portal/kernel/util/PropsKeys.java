@@ -103,6 +103,10 @@ public interface PropsKeys {
 
 	public static final String ASSET_CATEGORIES_SELECTOR_MAX_ENTRIES = "asset.categories.selector.max.entries";
 
+	public static final String ASSET_ENTRY_BITMAP_INDEX_ENABLED = "asset.entry.bitmap.index.enabled";
+
+	public static final String ASSET_ENTRY_BITMAP_INDEX_MAX_ENTRY_IDS = "asset.entry.bitmap.index.max.entry.ids";
+
 	public static final String ASSET_ENTRY_VALIDATOR = "asset.entry.validator";
 
 	public static final String ASSET_FILTER_SEARCH_LIMIT = "asset.filter.search.limit";
@@ -483,10 +487,20 @@ public interface PropsKeys {
 
 	public static final String CONVERT_PROCESSES = "convert.processes";
 
+	public static final String COUNTER_ADAPTIVE_INCREMENT_ENABLED = "counter.adaptive.increment.enabled";
+
+	public static final String COUNTER_ADAPTIVE_INCREMENT_INTERVAL = "counter.adaptive.increment.interval";
+
+	public static final String COUNTER_ADAPTIVE_INCREMENT_MAX = "counter.adaptive.increment.max";
+
 	public static final String COUNTER_INCREMENT = "counter.increment";
 
 	public static final String COUNTER_INCREMENT_PREFIX = "counter.increment.";
 
+	public static final String COUNTER_PREFETCH_ENABLED = "counter.prefetch.enabled";
+
+	public static final String COUNTER_PREFETCH_THRESHOLD = "counter.prefetch.threshold";
+
 	public static final String CUSTOM_SQL_FUNCTION_ISNOTNULL = "custom.sql.function.isnotnull";
 
 	public static final String CUSTOM_SQL_FUNCTION_ISNULL = "custom.sql.function.isnull";
@@ -735,6 +749,8 @@ public interface PropsKeys {
 
 	public static final String DL_STORE_CMIS_SYSTEM_ROOT_DIR = "dl.store.cmis.system.root.dir";
 
+	public static final String DL_STORE_DB_CHUNK_SIZE = "dl.store.db.chunk.size";
+
 	public static final String DL_STORE_FILE_SYSTEM_ROOT_DIR = "dl.store.file.system.root.dir";
 
 	public static final String DL_STORE_IMPL = "dl.store.impl";
@@ -795,10 +811,22 @@ public interface PropsKeys {
 
 	public static final String EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY = "ehcache.cache.manager.peer.provider.factory";
 
+	public static final String EHCACHE_CLUSTER_LINK_BATCH_ENABLED = "ehcache.cluster.link.batch.enabled";
+
+	public static final String EHCACHE_CLUSTER_LINK_BATCH_INTERVAL = "ehcache.cluster.link.batch.interval";
+
+	public static final String EHCACHE_CLUSTER_LINK_BATCH_REMOVE_ALL_THRESHOLD = "ehcache.cluster.link.batch.remove.all.threshold";
+
+	public static final String EHCACHE_CLUSTER_LINK_BATCH_SIZE = "ehcache.cluster.link.batch.size";
+
 	public static final String EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED = "ehcache.cluster.link.replication.enabled";
 
 	public static final String EHCACHE_MULTI_VM_CONFIG_LOCATION = "ehcache.multi.vm.config.location";
 
+	public static final String EHCACHE_OFF_HEAP_BLOCK_SIZE = "ehcache.off.heap.block.size";
+
+	public static final String EHCACHE_OFF_HEAP_SLAB_SIZE = "ehcache.off.heap.slab.size";
+
 	public static final String EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED = "ehcache.portal.cache.manager.jmx.enabled";
 
 	public static final String EHCACHE_SINGLE_VM_CONFIG_LOCATION = "ehcache.single.vm.config.location";
@@ -929,6 +957,8 @@ public interface PropsKeys {
 
 	public static final String INDEX_DUMP_COMPRESSION_ENABLED = "index.dump.compression.enabled";
 
+	public static final String INDEX_DUMP_DELTA_ENABLED = "index.dump.delta.enabled";
+
 	public static final String INDEX_FILTER_SEARCH_LIMIT = "index.filter.search.limit";
 
 	public static final String INDEX_ON_STARTUP = "index.on.startup";
@@ -939,6 +969,12 @@ public interface PropsKeys {
 
 	public static final String INDEX_READ_ONLY = "index.read.only";
 
+	public static final String INDEX_REINDEX_CHECKPOINT_INTERVAL = "index.reindex.checkpoint.interval";
+
+	public static final String INDEX_REINDEX_CHECKPOINT_MAX_AGE = "index.reindex.checkpoint.max.age";
+
+	public static final String INDEX_REINDEX_THREAD_COUNT = "index.reindex.thread.count";
+
 	public static final String INDEX_SEARCH_ENGINE_ID = "index.search.engine.id";
 
 	public static final String INDEX_SEARCH_HIGHLIGHT_ENABLED = "index.search.highlight.enabled";
@@ -1189,6 +1225,10 @@ public interface PropsKeys {
 
 	public static final String LAYOUT_PARALLEL_RENDER_ENABLE = "layout.parallel.render.enable";
 
+	public static final String LAYOUT_PARALLEL_RENDER_LATE_ENABLE = "layout.parallel.render.late.enable";
+
+	public static final String LAYOUT_PARALLEL_RENDER_LATE_TIMEOUT = "layout.parallel.render.late.timeout";
+
 	public static final String LAYOUT_PARALLEL_RENDER_THREAD_POOL_ALLOW_CORE_THREAD_TIMEOUT = "layout.parallel.render.thread.pool.allow.core.thread.timeout";
 
 	public static final String LAYOUT_PARALLEL_RENDER_THREAD_POOL_CORE_THREAD_COUNT = "layout.parallel.render.thread.pool.core.thread.count";
@@ -1401,6 +1441,8 @@ public interface PropsKeys {
 
 	public static final String LUCENE_BUFFER_SIZE = "lucene.buffer.size";
 
+	public static final String LUCENE_BUFFER_SIZE_REINDEX = "lucene.buffer.size.reindex";
+
 	public static final String LUCENE_CLUSTER_INDEX_LOADING_SYNC_TIMEOUT = "lucene.cluster.index.loading.sync.timeout";
 
 	public static final String LUCENE_COMMIT_BATCH_SIZE = "lucene.commit.batch.size";
@@ -1417,8 +1459,12 @@ public interface PropsKeys {
 
 	public static final String LUCENE_MERGE_POLICY = "lucene.merge.policy";
 
+	public static final String LUCENE_REINDEX_SEARCH_WRITER_TIMEOUT = "lucene.reindex.search.writer.timeout";
+
 	public static final String LUCENE_REPLICATE_WRITE = "lucene.replicate.write";
 
+	public static final String LUCENE_SEARCHER_MAX_STALENESS = "lucene.searcher.max.staleness";
+
 	public static final String LUCENE_STORE_TYPE = "lucene.store.type";
 
 	public static final String LUCENE_STORE_TYPE_FILE_FORCE_MMAP = "lucene.store.type.file.force.mmap";
@@ -1607,6 +1653,8 @@ public interface PropsKeys {
 
 	public static final String MONITORING_DATA_SAMPLE_THREAD_LOCAL = "monitoring.data.sample.thread.local";
 
+	public static final String MONITORING_INDEX_WRITER = "monitoring.index.writer";
+
 	public static final String MONITORING_PORTAL_REQUEST = "monitoring.portal.request";
 
 	public static final String MONITORING_PORTLET_ACTION_REQUEST = "monitoring.portlet.action.request";
@@ -1617,6 +1665,8 @@ public interface PropsKeys {
 
 	public static final String MONITORING_PORTLET_RESOURCE_REQUEST = "monitoring.portlet.resource.request";
 
+	public static final String MONITORING_SEARCH_REQUEST = "monitoring.search.request";
+
 	public static final String MONITORING_SHOW_PER_REQUEST_DATA_SAMPLE = "monitoring.show.per.request.data.sample";
 
 	public static final String MSN_LOGIN = "msn.login";
@@ -2197,6 +2247,12 @@ public interface PropsKeys {
 
 	public static final String SOCIAL_ACTIVITY_CONTRIBUTION_LIMIT_VALUES = "social.activity.contribution.limit.values";
 
+	public static final String SOCIAL_ACTIVITY_COUNTER_BUFFER_BATCH_SIZE = "social.activity.counter.buffer.batch.size";
+
+	public static final String SOCIAL_ACTIVITY_COUNTER_BUFFER_ENABLED = "social.activity.counter.buffer.enabled";
+
+	public static final String SOCIAL_ACTIVITY_COUNTER_BUFFER_INTERVAL = "social.activity.counter.buffer.interval";
+
 	public static final String SOCIAL_ACTIVITY_COUNTER_LOCK_RETRY_DELAY = "social.activity.counter.lock.retry.delay";
 
 	public static final String SOCIAL_ACTIVITY_COUNTER_LOCK_TIMEOUT = "social.activity.counter.lock.timeout";
@@ -2261,6 +2317,8 @@ public interface PropsKeys {
 
 	public static final String STRIP_MIME_TYPES = "strip.mime.types";
 
+	public static final String STRIP_WINDOW_SIZE = "strip.window.size";
+
 	public static final String STRUTS_PORTLET_REQUEST_PROCESSOR = "struts.portlet.request.processor";
 
 	public static final String SYSTEM_GROUPS = "system.groups";
@@ -2285,8 +2343,18 @@ public interface PropsKeys {
 
 	public static final String TEXT_EXTRACTION_FORK_PROCESS_MIME_TYPES = "text.extraction.fork.process.mime.types";
 
+	public static final String TEXT_EXTRACTION_FORK_PROCESS_WORKER_ENABLED = "text.extraction.fork.process.worker.enabled";
+
+	public static final String TEXT_EXTRACTION_FORK_PROCESS_WORKER_TIMEOUT = "text.extraction.fork.process.worker.timeout";
+
 	public static final String THEME_CSS_FAST_LOAD = "theme.css.fast.load";
 
+	public static final String THEME_CSS_PRECOMPILE_ENABLED = "theme.css.precompile.enabled";
+
+	public static final String THEME_CSS_STORE_FILE_SYSTEM_ROOT_DIR = "theme.css.store.file.system.root.dir";
+
+	public static final String THEME_CSS_STORE_IMPL = "theme.css.store.impl";
+
 	public static final String THEME_IMAGES_FAST_LOAD = "theme.images.fast.load";
 
 	public static final String THEME_JSP_OVERRIDE_ENABLED = "theme.jsp.override.enabled";
@@ -2335,6 +2403,16 @@ public interface PropsKeys {
 
 	public static final String UPGRADE_PROCESSES = "upgrade.processes";
 
+	public static final String UPGRADE_TABLE_COPY_ENABLED = "upgrade.table.copy.enabled";
+
+	public static final String UPGRADE_TABLE_COPY_QUEUE_SIZE = "upgrade.table.copy.queue.size";
+
+	public static final String UPGRADE_TABLE_COPY_RANGE_SIZE = "upgrade.table.copy.range.size";
+
+	public static final String UPGRADE_TABLE_COPY_TABLE_THREAD_COUNT = "upgrade.table.copy.table.thread.count";
+
+	public static final String UPGRADE_TABLE_COPY_THREAD_COUNT = "upgrade.table.copy.thread.count";
+
 	public static final String UPLOAD_SERVLET_REQUEST_IMPL_MAX_SIZE = "com.liferay.portal.upload.UploadServletRequestImpl.max.size";
 
 	public static final String UPLOAD_SERVLET_REQUEST_IMPL_TEMP_DIR = "com.liferay.portal.upload.UploadServletRequestImpl.temp.dir";
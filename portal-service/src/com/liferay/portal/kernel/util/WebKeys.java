@@ -111,6 +111,8 @@ public interface WebKeys {
 
 	public static final String REFERER = "referer";
 
+	public static final String REINDEX_STATUS = "REINDEX_STATUS";
+
 	public static final String RENDER_PATH = "RENDER_PATH";
 
 	public static final String RENDER_PORTLET = "RENDER_PORTLET";
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.security.auth;
+
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+
+/**
+ * Records whether the current thread asked for a session's authentication
+ * token, which makes the output it renders specific to that session.
+ *
+ * @author agent
+ */
+public class AuthTokenThreadLocal {
+
+	public static boolean isTokenRequested() {
+		return _tokenRequested.get();
+	}
+
+	public static void setTokenRequested(boolean tokenRequested) {
+		_tokenRequested.set(tokenRequested);
+	}
+
+	private static ThreadLocal<Boolean> _tokenRequested =
+		new AutoResetThreadLocal<Boolean>(
+			AuthTokenThreadLocal.class + "._tokenRequested", false);
+
+}
@@ -37,12 +37,16 @@ public class AuthTokenUtil {
 	}
 
 	public static String getToken(HttpServletRequest request) {
+		AuthTokenThreadLocal.setTokenRequested(true);
+
 		return getAuthToken().getToken(request);
 	}
 
 	public static String getToken(
 		HttpServletRequest request, long plid, String portletId) {
 
+		AuthTokenThreadLocal.setTokenRequested(true);
+
 		return getAuthToken().getToken(request, plid, portletId);
 	}
 
@@ -27,6 +27,8 @@ import com.liferay.portal.service.ServiceContext;
 import java.io.Serializable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -105,6 +107,20 @@ public interface BasePersistence<T extends BaseModel<T>> {
 	 */
 	public T fetchByPrimaryKey(Serializable primaryKey) throws SystemException;
 
+	/**
+	 * Returns the model instances with the primary keys, keyed by primary key.
+	 * Primary keys that do not match a model instance are left out of the
+	 * returned map. Instances that are not in the entity cache are loaded
+	 * together instead of one query per primary key.
+	 *
+	 * @param  primaryKeys the primary keys of the model instances
+	 * @return the model instances, keyed by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, T> fetchByPrimaryKeys(
+			Set<Serializable> primaryKeys)
+		throws SystemException;
+
 	/**
 	 * Returns the model instance with the primary key or throws a {@link
 	 * NoSuchModelException} if it could not be found.
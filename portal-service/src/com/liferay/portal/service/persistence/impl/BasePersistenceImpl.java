@@ -41,7 +41,10 @@ import java.io.Serializable;
 
 import java.sql.Connection;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -95,6 +98,23 @@ public class BasePersistenceImpl<T extends BaseModel<T>>
 		throw new UnsupportedOperationException();
 	}
 
+	public Map<Serializable, T> fetchByPrimaryKeys(
+			Set<Serializable> primaryKeys)
+		throws SystemException {
+
+		Map<Serializable, T> map = new HashMap<Serializable, T>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			T model = fetchByPrimaryKey(primaryKey);
+
+			if (model != null) {
+				map.put(primaryKey, model);
+			}
+		}
+
+		return map;
+	}
+
 	@SuppressWarnings("unused")
 	public T findByPrimaryKey(Serializable primaryKey)
 		throws NoSuchModelException, SystemException {
@@ -437,6 +457,8 @@ public class BasePersistenceImpl<T extends BaseModel<T>>
 		return updateImpl(model);
 	}
 
+	protected static final int FETCH_BY_PRIMARY_KEYS_BATCH_SIZE = 500;
+
 	protected static final Object[] FINDER_ARGS_EMPTY = new Object[0];
 
 	protected static final String ORDER_BY_ASC = " ASC";
@@ -24,6 +24,7 @@ import com.liferay.portal.kernel.mail.MailMessage;
 import com.liferay.portal.kernel.mail.SMTPAccount;
 import com.liferay.portal.kernel.messaging.DestinationNames;
 import com.liferay.portal.kernel.messaging.MessageBusUtil;
+import com.liferay.portal.kernel.util.ClassLoaderPool;
 import com.liferay.portal.kernel.util.EscapableObject;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HtmlEscapableObject;
@@ -104,6 +105,14 @@ public class SubscriptionSender implements Serializable {
 
 		ClassLoader contextClassLoader = currentThread.getContextClassLoader();
 
+		// The class loader is not serialized, so a sender replayed from a
+		// journal looks it up by the context name of its plugin
+
+		if ((_classLoader == null) && (_classLoaderContextName != null)) {
+			_classLoader = ClassLoaderPool.getClassLoader(
+				_classLoaderContextName);
+		}
+
 		try {
 			if ((_classLoader != null) &&
 				(contextClassLoader != _classLoader)) {
@@ -195,6 +204,8 @@ public class SubscriptionSender implements Serializable {
 
 		_classLoader = currentThread.getContextClassLoader();
 
+		_classLoaderContextName = ClassLoaderPool.getContextName(_classLoader);
+
 		MessageBusUtil.sendMessage(DestinationNames.SUBSCRIPTION_SENDER, this);
 	}
 
@@ -655,7 +666,8 @@ public class SubscriptionSender implements Serializable {
 	private static Log _log = LogFactoryUtil.getLog(SubscriptionSender.class);
 
 	private List<InternetAddress> _bulkAddresses;
-	private ClassLoader _classLoader;
+	private transient ClassLoader _classLoader;
+	private String _classLoaderContextName;
 	private Map<String, EscapableObject<String>> _context =
 		new HashMap<String, EscapableObject<String>>();
 	private String _contextUserPrefix;
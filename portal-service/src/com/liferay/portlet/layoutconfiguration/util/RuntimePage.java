@@ -38,6 +38,8 @@ public interface RuntimePage {
 			PageContext pageContext, TemplateResource templateResource)
 		throws Exception;
 
+	public void processLatePortlets(PageContext pageContext) throws Exception;
+
 	public void processTemplate(
 			PageContext pageContext, String portletId,
 			TemplateResource templateResource)
@@ -53,6 +53,12 @@ public class RuntimePageUtil {
 			pageContext, templateResource);
 	}
 
+	public static void processLatePortlets(PageContext pageContext)
+		throws Exception {
+
+		getRuntimePage().processLatePortlets(pageContext);
+	}
+
 	public static void processTemplate(
 			PageContext pageContext, String portletId,
 			TemplateResource templateResource)
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.social.model;
+
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.Serializable;
+
+/**
+ * A pending change to an activity counter. Increments to the same counter
+ * within the same company, period length and activity day are equal, so the
+ * increments of several activities can be merged into one before they are
+ * written.
+ *
+ * @author agent
+ */
+public class SocialActivityCounterIncrement implements Serializable {
+
+	public SocialActivityCounterIncrement(
+		long companyId, long groupId, long classNameId, long classPK,
+		String name, int ownerType, int periodLength, int activityDay,
+		int increment) {
+
+		_companyId = companyId;
+		_groupId = groupId;
+		_classNameId = classNameId;
+		_classPK = classPK;
+		_name = name;
+		_ownerType = ownerType;
+		_periodLength = periodLength;
+		_activityDay = activityDay;
+		_increment = increment;
+	}
+
+	public void addIncrement(int increment) {
+		_increment += increment;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof SocialActivityCounterIncrement)) {
+			return false;
+		}
+
+		SocialActivityCounterIncrement activityCounterIncrement =
+			(SocialActivityCounterIncrement)obj;
+
+		if ((_companyId == activityCounterIncrement._companyId) &&
+			(_groupId == activityCounterIncrement._groupId) &&
+			(_classNameId == activityCounterIncrement._classNameId) &&
+			(_classPK == activityCounterIncrement._classPK) &&
+			Validator.equals(_name, activityCounterIncrement._name) &&
+			(_ownerType == activityCounterIncrement._ownerType) &&
+			(_periodLength == activityCounterIncrement._periodLength) &&
+			(_activityDay == activityCounterIncrement._activityDay)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	public int getActivityDay() {
+		return _activityDay;
+	}
+
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public int getIncrement() {
+		return _increment;
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	public int getOwnerType() {
+		return _ownerType;
+	}
+
+	public int getPeriodLength() {
+		return _periodLength;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = HashUtil.hash(0, _companyId);
+
+		hash = HashUtil.hash(hash, _groupId);
+		hash = HashUtil.hash(hash, _classNameId);
+		hash = HashUtil.hash(hash, _classPK);
+		hash = HashUtil.hash(hash, _name);
+		hash = HashUtil.hash(hash, _ownerType);
+		hash = HashUtil.hash(hash, _periodLength);
+
+		return HashUtil.hash(hash, _activityDay);
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(19);
+
+		sb.append("{activityDay=");
+		sb.append(_activityDay);
+		sb.append(", classNameId=");
+		sb.append(_classNameId);
+		sb.append(", classPK=");
+		sb.append(_classPK);
+		sb.append(", companyId=");
+		sb.append(_companyId);
+		sb.append(", groupId=");
+		sb.append(_groupId);
+		sb.append(", increment=");
+		sb.append(_increment);
+		sb.append(", name=");
+		sb.append(_name);
+		sb.append(", ownerType=");
+		sb.append(_ownerType);
+		sb.append(", periodLength=");
+		sb.append(_periodLength);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	private int _activityDay;
+	private long _classNameId;
+	private long _classPK;
+	private long _companyId;
+	private long _groupId;
+	private int _increment;
+	private String _name;
+	private int _ownerType;
+	private int _periodLength;
+
+}
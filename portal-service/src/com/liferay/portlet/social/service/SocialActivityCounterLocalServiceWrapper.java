@@ -805,6 +805,27 @@ public class SocialActivityCounterLocalServiceWrapper
 			rankingNames);
 	}
 
+	/**
+	* Writes activity counter increments that were collected by the write
+	* behind buffer, creating the counters and starting new periods as needed.
+	*
+	* <p>
+	* This method runs in a new transaction so that a batch either is written
+	* completely or can be retried completely.
+	* </p>
+	*
+	* @param activityCounterIncrements the activity counter increments
+	* @throws PortalException if the group or an expected previous activity
+	counter could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public void incrementActivityCounters(
+		java.util.List<com.liferay.portlet.social.model.SocialActivityCounterIncrement> activityCounterIncrements)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		_socialActivityCounterLocalService.incrementActivityCounters(activityCounterIncrements);
+	}
+
 	/**
 	* Increments the <code>user.achievements</code> counter for a user.
 	*
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache;
+
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class RequestLocalCacheTest {
+
+	@After
+	public void tearDown() {
+		CentralizedThreadLocal.clearShortLivedThreadLocals();
+	}
+
+	@Test
+	public void testLongKeys() {
+		RequestLocalCache<String> requestLocalCache =
+			new RequestLocalCache<String>("testLongKeys", 3);
+
+		requestLocalCache.put(String.class, 1, "1");
+		requestLocalCache.put(String.class, 2, "2");
+		requestLocalCache.put(Long.class, 1, "3");
+
+		Assert.assertEquals("1", requestLocalCache.get(String.class, 1));
+		Assert.assertEquals("2", requestLocalCache.get(String.class, 2));
+		Assert.assertEquals("3", requestLocalCache.get(Long.class, 1));
+		Assert.assertNull(requestLocalCache.get(Long.class, 2));
+
+		requestLocalCache.get(String.class, 1);
+
+		requestLocalCache.put(Long.class, 2, "4");
+
+		Assert.assertNull(requestLocalCache.get(String.class, 2));
+		Assert.assertEquals("1", requestLocalCache.get(String.class, 1));
+		Assert.assertEquals("4", requestLocalCache.get(Long.class, 2));
+
+		requestLocalCache.remove(String.class, 1);
+
+		Assert.assertNull(requestLocalCache.get(String.class, 1));
+
+		requestLocalCache.put(String.class, 1, "5");
+		requestLocalCache.put(String.class, 1, "6");
+
+		Assert.assertEquals("6", requestLocalCache.get(String.class, 1));
+		Assert.assertEquals("3", requestLocalCache.get(Long.class, 1));
+
+		Assert.assertEquals(1, requestLocalCache.getEvictionCount());
+		Assert.assertEquals(1, requestLocalCache.getRequestEvictionCount());
+	}
+
+	@Test
+	public void testLongKeysGrow() {
+		RequestLocalCache<String> requestLocalCache =
+			new RequestLocalCache<String>("testLongKeysGrow", 40);
+
+		for (int i = 0; i < 40; i++) {
+			requestLocalCache.put(String.class, i, String.valueOf(i));
+		}
+
+		for (int i = 0; i < 40; i++) {
+			Assert.assertEquals(
+				String.valueOf(i), requestLocalCache.get(String.class, i));
+		}
+
+		Assert.assertEquals(0, requestLocalCache.getEvictionCount());
+
+		requestLocalCache.put(String.class, 40, "40");
+
+		Assert.assertNull(requestLocalCache.get(String.class, 0));
+		Assert.assertEquals("1", requestLocalCache.get(String.class, 1));
+		Assert.assertEquals("40", requestLocalCache.get(String.class, 40));
+		Assert.assertEquals(1, requestLocalCache.getEvictionCount());
+	}
+
+	@Test
+	public void testObjectKeys() {
+		RequestLocalCache<String> requestLocalCache =
+			new RequestLocalCache<String>("testObjectKeys", 2);
+
+		requestLocalCache.put("a", "1");
+		requestLocalCache.put("b", "2");
+
+		Assert.assertEquals("1", requestLocalCache.get("a"));
+
+		requestLocalCache.put("c", "3");
+
+		Assert.assertNull(requestLocalCache.get("b"));
+		Assert.assertEquals("1", requestLocalCache.get("a"));
+		Assert.assertEquals("3", requestLocalCache.get("c"));
+
+		requestLocalCache.removeAll();
+
+		Assert.assertNull(requestLocalCache.get("a"));
+		Assert.assertEquals(1, requestLocalCache.getEvictionCount());
+	}
+
+	@Test
+	public void testStatistics() {
+		RequestLocalCache<String> requestLocalCache =
+			new RequestLocalCache<String>("testStatistics", 10);
+
+		Assert.assertNull(requestLocalCache.get("a"));
+
+		requestLocalCache.put("a", "1");
+
+		Assert.assertEquals("1", requestLocalCache.get("a"));
+		Assert.assertEquals("1", requestLocalCache.get("a"));
+
+		Assert.assertEquals(2, requestLocalCache.getHitCount());
+		Assert.assertEquals(1, requestLocalCache.getMissCount());
+		Assert.assertEquals(1, requestLocalCache.getRequestCount());
+		Assert.assertEquals(2, requestLocalCache.getRequestHitCount());
+		Assert.assertEquals(1, requestLocalCache.getRequestMissCount());
+
+		CentralizedThreadLocal.clearShortLivedThreadLocals();
+
+		Assert.assertEquals(0, requestLocalCache.getRequestHitCount());
+		Assert.assertNull(requestLocalCache.get("a"));
+		Assert.assertEquals(2, requestLocalCache.getRequestCount());
+		Assert.assertEquals(2, requestLocalCache.getMissCount());
+
+		requestLocalCache.resetStatistics();
+
+		Assert.assertEquals(0, requestLocalCache.getHitCount());
+		Assert.assertEquals(0, requestLocalCache.getMissCount());
+		Assert.assertEquals(0, requestLocalCache.getRequestCount());
+	}
+
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache.cluster;
+
+import com.liferay.portal.kernel.monitoring.statistics.HistogramStatistics;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class BaseBatchingPortalCacheClusterChannelTest {
+
+	@After
+	public void tearDown() {
+		if (_mockChannel != null) {
+			_mockChannel.destroy();
+		}
+	}
+
+	@Test
+	public void testBatchInterval() throws Exception {
+		_mockChannel = new MockChannel(10, 500, 1000);
+
+		_mockChannel.sendEvent(
+			new PortalCacheClusterEvent(
+				"cache1", "key1", PortalCacheClusterEventType.REMOVE));
+
+		PortalCacheClusterEvent[] portalCacheClusterEvents =
+			_mockChannel.take();
+
+		Assert.assertEquals(1, portalCacheClusterEvents.length);
+		Assert.assertEquals(
+			"cache1:[key1]:[null]:REMOVE",
+			portalCacheClusterEvents[0].toString());
+	}
+
+	@Test
+	public void testBatchSize() throws Exception {
+		_mockChannel = new MockChannel(60000, 4, 1000);
+
+		_mockChannel.sendEvent(
+			new PortalCacheClusterEvent(
+				"cache1", "key1", "value1", PortalCacheClusterEventType.PUT));
+		_mockChannel.sendEvent(
+			new PortalCacheClusterEvent(
+				"cache1", "key1", PortalCacheClusterEventType.REMOVE));
+		_mockChannel.sendEvent(
+			new PortalCacheClusterEvent(
+				"cache2", "key2", "value2",
+				PortalCacheClusterEventType.UPDATE));
+		_mockChannel.sendEvent(
+			new PortalCacheClusterEvent(
+				"cache1", "key3", "value3", PortalCacheClusterEventType.PUT));
+
+		PortalCacheClusterEvent[] portalCacheClusterEvents =
+			_mockChannel.take();
+
+		Assert.assertEquals(3, portalCacheClusterEvents.length);
+
+		PortalCacheClusterEvent portalCacheClusterEvent =
+			portalCacheClusterEvents[0];
+
+		Assert.assertEquals("cache1", portalCacheClusterEvent.getCacheName());
+		Assert.assertEquals(
+			PortalCacheClusterEventType.REMOVE,
+			portalCacheClusterEvent.getEventType());
+		Assert.assertEquals(
+			"[key1]", String.valueOf(portalCacheClusterEvent.getElementKeys()));
+
+		portalCacheClusterEvent = portalCacheClusterEvents[1];
+
+		Assert.assertEquals("cache1", portalCacheClusterEvent.getCacheName());
+		Assert.assertEquals(
+			PortalCacheClusterEventType.PUT,
+			portalCacheClusterEvent.getEventType());
+		Assert.assertEquals(
+			"[key3]", String.valueOf(portalCacheClusterEvent.getElementKeys()));
+		Assert.assertEquals(
+			"[value3]",
+			String.valueOf(portalCacheClusterEvent.getElementValues()));
+
+		portalCacheClusterEvent = portalCacheClusterEvents[2];
+
+		Assert.assertEquals("cache2", portalCacheClusterEvent.getCacheName());
+		Assert.assertEquals(
+			PortalCacheClusterEventType.PUT,
+			portalCacheClusterEvent.getEventType());
+
+		Assert.assertEquals(1, _mockChannel.getCoalescedEventNumber());
+		Assert.assertEquals(3, _mockChannel.getSentEventNumber());
+
+		HistogramStatistics batchSizeStatistics =
+			_mockChannel.getBatchSizeStatistics();
+
+		Assert.assertEquals(1, batchSizeStatistics.getCount());
+		Assert.assertEquals(4, batchSizeStatistics.getMaxValue());
+
+		HistogramStatistics batchLatencyStatistics =
+			_mockChannel.getBatchLatencyStatistics();
+
+		Assert.assertEquals(1, batchLatencyStatistics.getCount());
+	}
+
+	@Test
+	public void testRemoveAll() throws Exception {
+		_mockChannel = new MockChannel(60000, 5, 2);
+
+		PortalCacheClusterEvent batchPortalCacheClusterEvent =
+			new PortalCacheClusterEvent(
+				"cache1", null, PortalCacheClusterEventType.REMOVE);
+
+		batchPortalCacheClusterEvent.addElement("key1", null);
+		batchPortalCacheClusterEvent.addElement("key2", null);
+		batchPortalCacheClusterEvent.addElement("key3", null);
+
+		_mockChannel.sendEvent(batchPortalCacheClusterEvent);
+		_mockChannel.sendEvent(
+			new PortalCacheClusterEvent(
+				"cache2", "key1", PortalCacheClusterEventType.REMOVE));
+		_mockChannel.sendEvent(
+			new PortalCacheClusterEvent(
+				"cache2", null, PortalCacheClusterEventType.REMOVE_ALL));
+
+		PortalCacheClusterEvent[] portalCacheClusterEvents =
+			_mockChannel.take();
+
+		Assert.assertEquals(2, portalCacheClusterEvents.length);
+		Assert.assertEquals(
+			"cache1:null:REMOVE_ALL", portalCacheClusterEvents[0].toString());
+		Assert.assertEquals(
+			"cache2:null:REMOVE_ALL", portalCacheClusterEvents[1].toString());
+		Assert.assertEquals(2, _mockChannel.getRemoveAllNumber());
+	}
+
+	private MockChannel _mockChannel;
+
+	private class MockChannel extends BaseBatchingPortalCacheClusterChannel {
+
+		public MockChannel(
+			long batchInterval, int batchSize, int removeAllThreshold) {
+
+			super(batchInterval, batchSize, removeAllThreshold);
+		}
+
+		@Override
+		public void dispatchEvents(
+			PortalCacheClusterEvent[] portalCacheClusterEvents) {
+
+			_dispatchedEvents.add(portalCacheClusterEvents);
+		}
+
+		public PortalCacheClusterEvent[] take() throws InterruptedException {
+			PortalCacheClusterEvent[] portalCacheClusterEvents =
+				_dispatchedEvents.poll(10, TimeUnit.SECONDS);
+
+			Assert.assertNotNull(portalCacheClusterEvents);
+
+			return portalCacheClusterEvents;
+		}
+
+		private BlockingQueue<PortalCacheClusterEvent[]> _dispatchedEvents =
+			new LinkedBlockingQueue<PortalCacheClusterEvent[]>();
+
+	}
+
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.List;
+
+/**
+ * @author agent
+ */
+public class MessageJournalTest extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		_file = File.createTempFile("MessageJournalTest", ".journal");
+
+		_file.delete();
+	}
+
+	@Override
+	public void tearDown() {
+		_file.delete();
+	}
+
+	public void testAcknowledge() throws IOException {
+		MessageJournal messageJournal = new MessageJournal(_file, 64);
+
+		for (int i = 0; i < 5; i++) {
+			messageJournal.append(_toByteBuffer(i, 8));
+		}
+
+		messageJournal.acknowledge(2);
+
+		List<ByteBuffer> entries = messageJournal.getEntries();
+
+		assertEquals(3, entries.size());
+		assertEquals(2, _getValue(entries.get(0)));
+
+		messageJournal.acknowledge(3);
+
+		entries = messageJournal.getEntries();
+
+		assertTrue(entries.isEmpty());
+
+		messageJournal.close();
+	}
+
+	public void testCompact() throws IOException {
+		MessageJournal messageJournal = new MessageJournal(_file, 256);
+
+		for (int i = 0; i < 10; i++) {
+			messageJournal.append(_toByteBuffer(i, 20));
+		}
+
+		messageJournal.acknowledge(8);
+
+		for (int i = 10; i < 15; i++) {
+			messageJournal.append(_toByteBuffer(i, 20));
+		}
+
+		assertEquals(256, _file.length());
+
+		messageJournal.close();
+
+		messageJournal = new MessageJournal(_file, 256);
+
+		List<ByteBuffer> entries = messageJournal.getEntries();
+
+		assertEquals(7, entries.size());
+
+		for (int i = 0; i < entries.size(); i++) {
+			assertEquals(i + 8, _getValue(entries.get(i)));
+		}
+
+		messageJournal.close();
+	}
+
+	public void testGrow() throws IOException {
+		MessageJournal messageJournal = new MessageJournal(_file, 32);
+
+		for (int i = 0; i < 100; i++) {
+			messageJournal.append(_toByteBuffer(i, 100));
+		}
+
+		messageJournal.acknowledge(50);
+
+		for (int i = 100; i < 150; i++) {
+			messageJournal.append(_toByteBuffer(i, 100));
+		}
+
+		List<ByteBuffer> entries = messageJournal.getEntries();
+
+		assertEquals(100, entries.size());
+
+		for (int i = 0; i < entries.size(); i++) {
+			assertEquals(i + 50, _getValue(entries.get(i)));
+		}
+
+		messageJournal.close();
+	}
+
+	public void testReplay() throws IOException {
+		MessageJournal messageJournal = new MessageJournal(_file, 64);
+
+		for (int i = 0; i < 10; i++) {
+			messageJournal.append(_toByteBuffer(i, 8));
+		}
+
+		messageJournal.acknowledge(4);
+
+		messageJournal.close();
+
+		messageJournal = new MessageJournal(_file, 64);
+
+		List<ByteBuffer> entries = messageJournal.getEntries();
+
+		assertEquals(6, entries.size());
+
+		for (int i = 0; i < entries.size(); i++) {
+			assertEquals(i + 4, _getValue(entries.get(i)));
+		}
+
+		messageJournal.close();
+	}
+
+	private int _getValue(ByteBuffer byteBuffer) {
+		return byteBuffer.getInt(0);
+	}
+
+	private ByteBuffer _toByteBuffer(int value, int length) {
+		ByteBuffer byteBuffer = ByteBuffer.allocate(length);
+
+		byteBuffer.putInt(0, value);
+
+		return byteBuffer;
+	}
+
+	private File _file;
+
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.nio.intraband;
+
+import com.liferay.portal.kernel.nio.intraband.CompletionHandler.CompletionType;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.Pipe;
+
+import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class SelectorIntraBandTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_intraBand = new SelectorIntraBand(_DEFAULT_TIMEOUT);
+
+		Pipe requestPipe = Pipe.open();
+		Pipe responsePipe = Pipe.open();
+
+		_clientRegistrationReference = _intraBand.registerChannel(
+			responsePipe.source(), requestPipe.sink());
+
+		_intraBand.registerChannel(requestPipe.source(), responsePipe.sink());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		_intraBand.close();
+	}
+
+	@Test
+	public void testCloseFailsPendingDatagrams() throws Exception {
+		RecordCompletionHandler recordCompletionHandler =
+			new RecordCompletionHandler();
+
+		_intraBand.sendDatagram(
+			_clientRegistrationReference,
+			Datagram.createRequestDatagram(_TYPE, new byte[0]), null,
+			EnumSet.of(CompletionType.REPLIED), recordCompletionHandler);
+
+		_intraBand.close();
+
+		recordCompletionHandler.await();
+
+		Assert.assertTrue(
+			recordCompletionHandler._ioe instanceof ClosedChannelException);
+		Assert.assertFalse(_clientRegistrationReference.isValid());
+	}
+
+	@Test
+	public void testPipelinedRequests() throws Exception {
+		_intraBand.registerDatagramReceiveHandler(
+			_TYPE, new EchoDatagramReceiveHandler());
+
+		int count = 100;
+
+		RecordCompletionHandler[] recordCompletionHandlers =
+			new RecordCompletionHandler[count];
+
+		for (int i = 0; i < count; i++) {
+			recordCompletionHandlers[i] = new RecordCompletionHandler();
+
+			_intraBand.sendDatagram(
+				_clientRegistrationReference,
+				Datagram.createRequestDatagram(
+					_TYPE, ByteBuffer.allocate(4).putInt(0, i)),
+				null,
+				EnumSet.of(CompletionType.DELIVERED, CompletionType.REPLIED),
+				recordCompletionHandlers[i]);
+		}
+
+		for (int i = 0; i < count; i++) {
+			RecordCompletionHandler recordCompletionHandler =
+				recordCompletionHandlers[i];
+
+			recordCompletionHandler.await();
+
+			Assert.assertTrue(recordCompletionHandler._delivered);
+
+			ByteBuffer byteBuffer = recordCompletionHandler._datagram.getData();
+
+			Assert.assertEquals(i, byteBuffer.getInt());
+		}
+	}
+
+	@Test
+	public void testSendSyncDatagram() throws Exception {
+		_intraBand.registerDatagramReceiveHandler(
+			_TYPE, new EchoDatagramReceiveHandler());
+
+		byte[] data = new byte[64 * 1024];
+
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte)i;
+		}
+
+		Datagram responseDatagram = _intraBand.sendSyncDatagram(
+			_clientRegistrationReference,
+			Datagram.createRequestDatagram(_TYPE, data));
+
+		ByteBuffer byteBuffer = responseDatagram.getData();
+
+		Assert.assertEquals(ByteBuffer.wrap(data), byteBuffer);
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		try {
+			_intraBand.sendSyncDatagram(
+				_clientRegistrationReference,
+				Datagram.createRequestDatagram(_TYPE, new byte[0]), 10,
+				TimeUnit.MILLISECONDS);
+
+			Assert.fail();
+		}
+		catch (TimeoutException te) {
+		}
+	}
+
+	private static final long _DEFAULT_TIMEOUT = 10 * 1000;
+
+	private static final byte _TYPE = 1;
+
+	private RegistrationReference _clientRegistrationReference;
+	private IntraBand _intraBand;
+
+	private static class EchoDatagramReceiveHandler
+		implements DatagramReceiveHandler {
+
+		public void receive(
+			RegistrationReference registrationReference, Datagram datagram) {
+
+			IntraBand intraBand = registrationReference.getIntraBand();
+
+			intraBand.sendDatagram(
+				registrationReference,
+				Datagram.createResponseDatagram(datagram, datagram.getData()));
+		}
+
+	}
+
+	private static class RecordCompletionHandler
+		implements CompletionHandler<Object> {
+
+		public void await() throws InterruptedException {
+			Assert.assertTrue(_countDownLatch.await(10, TimeUnit.SECONDS));
+		}
+
+		public void delivered(Object attachment) {
+			_delivered = true;
+		}
+
+		public void failed(Object attachment, IOException ioe) {
+			_ioe = ioe;
+
+			_countDownLatch.countDown();
+		}
+
+		public void replied(Object attachment, Datagram datagram) {
+			_datagram = datagram;
+
+			_countDownLatch.countDown();
+		}
+
+		public void submitted(Object attachment) {
+		}
+
+		public void timeouted(Object attachment) {
+			_countDownLatch.countDown();
+		}
+
+		private final CountDownLatch _countDownLatch = new CountDownLatch(1);
+		private volatile Datagram _datagram;
+		private volatile boolean _delivered;
+		private volatile IOException _ioe;
+
+	}
+
+}
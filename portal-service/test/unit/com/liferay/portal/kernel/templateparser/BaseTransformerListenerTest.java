@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.templateparser;
+
+import com.liferay.portal.kernel.xml.Document;
+import com.liferay.portal.kernel.xml.SAXReader;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author agent
+ */
+public class BaseTransformerListenerTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_document = Mockito.mock(Document.class);
+
+		Mockito.when(
+			_document.asXML()
+		).thenReturn(
+			"<root><a /></root>"
+		);
+
+		_transformedDocument = Mockito.mock(Document.class);
+
+		SAXReader saxReader = Mockito.mock(SAXReader.class);
+
+		Mockito.when(
+			saxReader.read("<root><b /></root>")
+		).thenReturn(
+			_transformedDocument
+		);
+
+		SAXReaderUtil saxReaderUtil = new SAXReaderUtil();
+
+		saxReaderUtil.setSAXReader(saxReader);
+	}
+
+	@Test
+	public void testDocumentListener() {
+		TransformerListener transformerListener =
+			new BaseTransformerListener() {
+			};
+
+		Assert.assertSame(
+			_document, transformerListener.onXml(_document, "en_US", null));
+		Assert.assertEquals(
+			"script",
+			transformerListener.onScript("script", _document, "en_US", null));
+
+		Mockito.verify(_document, Mockito.never()).asXML();
+	}
+
+	@Test
+	public void testXMLListener() {
+		TransformerListener transformerListener =
+			new BaseTransformerListener() {
+
+				@Override
+				public String onScript(
+					String script, String xml, String languageId,
+					Map<String, String> tokens) {
+
+					return script + xml;
+				}
+
+				@Override
+				public String onXml(
+					String xml, String languageId,
+					Map<String, String> tokens) {
+
+					return xml.replace("<a />", "<b />");
+				}
+
+			};
+
+		Assert.assertSame(
+			_transformedDocument,
+			transformerListener.onXml(_document, "en_US", null));
+		Assert.assertEquals(
+			"script<root><a /></root>",
+			transformerListener.onScript("script", _document, "en_US", null));
+	}
+
+	private Document _document;
+	private Document _transformedDocument;
+
+}
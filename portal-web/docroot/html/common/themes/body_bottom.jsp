@@ -16,6 +16,14 @@
 
 <%@ include file="/html/common/init.jsp" %>
 
+<%@ page import="com.liferay.portlet.layoutconfiguration.util.RuntimePageUtil" %>
+
+<%-- Late Portlets --%>
+
+<%
+RuntimePageUtil.processLatePortlets(pageContext);
+%>
+
 <%-- Raw Text --%>
 
 <%
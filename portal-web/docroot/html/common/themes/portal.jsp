@@ -16,6 +16,8 @@
 
 <%@ include file="/html/common/init.jsp" %>
 
+<%@ page import="com.liferay.portlet.layoutconfiguration.util.RuntimePageUtil" %>
+
 <%@ page import="org.apache.struts.taglib.tiles.ComponentConstants" %>
 <%@ page import="org.apache.struts.tiles.ComponentContext" %>
 
@@ -52,6 +54,11 @@ else {
 
 request.removeAttribute(WebKeys.LAYOUT_CONTENT);
 
+// Late portlets are normally written by body_bottom.jsp, this only catches
+// pages that did not include it
+
+RuntimePageUtil.processLatePortlets(pageContext);
+
 SessionMessages.clear(request);
 SessionErrors.clear(request);
 %>
\ No newline at end of file
@@ -116,6 +116,16 @@
 		</aui:form>
 
 		<aui:script>
+			function <portlet:namespace />reindex() {
+				var reindexProgressInfo = window['<portlet:namespace />reindexProgressInfo'];
+
+				if (reindexProgressInfo) {
+					reindexProgressInfo.startProgress();
+				}
+
+				<portlet:namespace />saveServer('reindex');
+			}
+
 			function <portlet:namespace />saveServer(cmd) {
 				document.<portlet:namespace />fm.<portlet:namespace /><%= Constants.CMD %>.value = cmd;
 				document.<portlet:namespace />fm.<portlet:namespace />redirect.value = "<portlet:renderURL><portlet:param name="struts_action" value="/admin/view" /><portlet:param name="tabs1" value="<%= tabs1 %>" /><portlet:param name="tabs2" value="<%= tabs2 %>" /><portlet:param name="tabs3" value="<%= tabs3 %>" /><portlet:param name="<%= SearchContainer.DEFAULT_CUR_PARAM %>" value="<%= String.valueOf(cur) %>" /><portlet:param name="<%= SearchContainer.DEFAULT_DELTA_PARAM %>" value="<%= String.valueOf(delta) %>" /></portlet:renderURL>";
@@ -14,8 +14,14 @@
 
 package com.liferay.util.servlet.filters;
 
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.servlet.BufferCacheServletResponse;
 import com.liferay.portal.kernel.servlet.Header;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -25,6 +31,7 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * @author Michael Young
@@ -36,10 +43,31 @@ public class CacheResponseData implements Serializable {
 			BufferCacheServletResponse bufferCacheServletResponse)
 		throws IOException {
 
+		this(bufferCacheServletResponse, false);
+	}
+
+	/**
+	 * @param gZipCompressible whether the content may also be written gzip
+	 *        compressed. It is ignored if the content is already encoded or
+	 *        is itself gzip.
+	 */
+	public CacheResponseData(
+			BufferCacheServletResponse bufferCacheServletResponse,
+			boolean gZipCompressible)
+		throws IOException {
+
 		_byteBuffer = bufferCacheServletResponse.getByteBuffer();
 		_content = _byteBuffer.array();
 		_contentType = bufferCacheServletResponse.getContentType();
 		_headers = bufferCacheServletResponse.getHeaders();
+
+		if (gZipCompressible &&
+			!_headers.containsKey(HttpHeaders.CONTENT_ENCODING) &&
+			!ContentTypes.APPLICATION_GZIP.equals(_contentType) &&
+			!ContentTypes.APPLICATION_X_GZIP.equals(_contentType)) {
+
+			_gZipCompressible = true;
+		}
 	}
 
 	public Object getAttribute(String name) {
@@ -58,18 +86,69 @@ public class CacheResponseData implements Serializable {
 		return _contentType;
 	}
 
+	/**
+	 * Returns the content compressed with gzip, compressing it on the first
+	 * call only.
+	 */
+	public ByteBuffer getGZipByteBuffer() throws IOException {
+		if (!_gZipCompressible) {
+			throw new IllegalStateException("Content is not gzip compressible");
+		}
+
+		byte[] gZipContent = _gZipContent;
+
+		if (gZipContent == null) {
+			ByteBuffer byteBuffer = getByteBuffer();
+
+			UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+				new UnsyncByteArrayOutputStream(
+					Math.max(byteBuffer.remaining() / 4, 32));
+
+			GZIPOutputStream gZipOutputStream = new GZIPOutputStream(
+				unsyncByteArrayOutputStream) {
+
+				{
+					def.setLevel(_GZIP_COMPRESSION_LEVEL);
+				}
+
+			};
+
+			gZipOutputStream.write(
+				byteBuffer.array(),
+				byteBuffer.arrayOffset() + byteBuffer.position(),
+				byteBuffer.remaining());
+
+			gZipOutputStream.close();
+
+			gZipContent = unsyncByteArrayOutputStream.toByteArray();
+
+			_gZipContent = gZipContent;
+		}
+
+		return ByteBuffer.wrap(gZipContent);
+	}
+
 	public Map<String, Set<Header>> getHeaders() {
 		return _headers;
 	}
 
+	public boolean isGZipCompressible() {
+		return _gZipCompressible;
+	}
+
 	public void setAttribute(String name, Object value) {
 		_attributes.put(name, value);
 	}
 
+	private static final int _GZIP_COMPRESSION_LEVEL = GetterUtil.getInteger(
+		PropsUtil.get(PropsKeys.GZIP_COMPRESSION_LEVEL));
+
 	private Map<String, Object> _attributes = new HashMap<String, Object>();
 	private transient ByteBuffer _byteBuffer;
 	private byte[] _content;
 	private String _contentType;
+	private boolean _gZipCompressible;
+	private volatile byte[] _gZipContent;
 	private Map<String, Set<Header>> _headers;
 
 }
\ No newline at end of file
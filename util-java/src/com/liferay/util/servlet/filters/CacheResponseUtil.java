@@ -15,6 +15,7 @@
 package com.liferay.util.servlet.filters;
 
 import com.liferay.portal.kernel.servlet.Header;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
 import com.liferay.portal.kernel.servlet.ServletResponseUtil;
 
 import java.io.IOException;
@@ -54,11 +55,34 @@ public class CacheResponseUtil {
 			HttpServletResponse response, CacheResponseData cacheResponseData)
 		throws IOException {
 
+		write(response, cacheResponseData, false);
+	}
+
+	/**
+	 * @param gZip whether the client accepts gzip. The gzip compressed
+	 *        content is written if the cached response is gzip compressible.
+	 */
+	public static void write(
+			HttpServletResponse response, CacheResponseData cacheResponseData,
+			boolean gZip)
+		throws IOException {
+
 		setHeaders(response, cacheResponseData.getHeaders());
 
 		response.setContentType(cacheResponseData.getContentType());
 
-		ServletResponseUtil.write(response, cacheResponseData.getByteBuffer());
+		if (gZip && cacheResponseData.isGZipCompressible()) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, _GZIP);
+
+			ServletResponseUtil.write(
+				response, cacheResponseData.getGZipByteBuffer());
+		}
+		else {
+			ServletResponseUtil.write(
+				response, cacheResponseData.getByteBuffer());
+		}
 	}
 
+	private static final String _GZIP = "gzip";
+
 }
\ No newline at end of file